@@ -1,12 +1,13 @@
 grammar Query;
 
-select: 'select' fields 'from' entity where? skip? limit? order? EOF;
+select: 'select' fields 'from' entity where? skip? limit? order? hints? EOF;
 delete: 'delete' deleteFields? 'from' entity where? EOF;
 insert: 'insert' entity (conditions | json) ttl? EOF;
 update: 'update' entity (conditions | json) EOF;
 get: 'get' keys EOF;
 del: 'del' keys EOF;
 put: 'put' '{' key ',' value (',' ttl)?  '}' EOF;
+aggregate: 'select' aggregateFields 'from' entity where? group? EOF;
 
 fields: star | name (',' name)*;
 deleteFields: name (',' name)*;
@@ -14,6 +15,17 @@ conditions: '(' changes ')';
 star: '*';
 skip: 'skip' INT;
 limit: 'limit' INT;
+aggregateFields: aggregateField (',' aggregateField)*;
+aggregateField: aggregation | name;
+aggregation: count | sum | min | max | avg;
+count: COUNT (star | name) ')';
+sum: SUM name ')';
+min: MIN name ')';
+max: MAX name ')';
+avg: AVG name ')';
+group: 'group' 'by' name (',' name)*;
+hints: 'hints(' hint (',' hint)* ')';
+hint: name '=' value;
 order: 'order' 'by' orderName (orderName)*;
 orderName: name | name asc | name desc;
 where: 'where' condition (and condition| or condition)* ;
@@ -39,8 +51,8 @@ key: value;
 keys: value (','value)*;
 value: ( number | string | bool | array | function | parameter | json);
 value_string: string | parameter;
-name: ANY_NAME;
-entity: ANY_NAME;
+name: ANY_NAME | 'group';
+entity: ANY_NAME | 'group';
 array: '{' element (',' element)* '}';
 function: convert;
 convert: 'convert(' element ',' name')';
@@ -58,6 +70,11 @@ STRING :  '\'' ( ESC | ~('\\'|'\'') )* '\'' |'"' ( ESC | ~('\\'|'"') )* '"';
 INT: [0-9]+;
 NUMBER: INT [.]? INT?;
 BOOLEAN: 'true' | 'false';
+COUNT: 'count' [ \t\r\n]* '(';
+SUM: 'sum' [ \t\r\n]* '(';
+MIN: 'min' [ \t\r\n]* '(';
+MAX: 'max' [ \t\r\n]* '(';
+AVG: 'avg' [ \t\r\n]* '(';
 ANY_NAME: [a-zA-Z_.][a-zA-Z_.0-9-]*;
 PARAMETER: '@' ANY_NAME;
 WS: [ \t\r\n]+ -> skip ;
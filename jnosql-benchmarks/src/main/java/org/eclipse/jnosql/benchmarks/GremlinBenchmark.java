@@ -0,0 +1,88 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.benchmarks;
+
+import jakarta.enterprise.inject.se.SeContainer;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.eclipse.jnosql.benchmarks.entities.Person;
+import org.eclipse.jnosql.mapping.graph.GraphTemplate;
+import org.eclipse.jnosql.mapping.graph.GraphTemplateProducer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Evaluates Gremlin queries through the {@link GraphTemplate} on an in-memory TinkerGraph, covering the evaluation
+ * at the Gremlin executor and the vertex conversion of the result.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GremlinBenchmark {
+
+    @Param({"100", "1000"})
+    public int vertices;
+
+    private SeContainer container;
+
+    private TinkerGraph graph;
+
+    private GraphTemplate template;
+
+    @Setup
+    public void setUp() {
+        this.container = MappingContainer.graph();
+        this.graph = TinkerGraph.open();
+        for (int index = 0; index < vertices; index++) {
+            graph.addVertex(T.label, "Person", "name", "Ada " + index, "age", index % 100);
+        }
+        this.template = container.select(GraphTemplateProducer.class).get().get(graph);
+    }
+
+    @TearDown
+    public void tearDown() {
+        graph.close();
+        container.close();
+    }
+
+    @Benchmark
+    public List<Person> query() {
+        return template.<Person>query("g.V().hasLabel('Person').has('age', gt(90))").toList();
+    }
+
+    @Benchmark
+    public List<Person> prepare() {
+        return template.prepare("g.V().hasLabel('Person').has('name', @name)")
+                .bind("name", "Ada 10")
+                .<Person>result()
+                .toList();
+    }
+}
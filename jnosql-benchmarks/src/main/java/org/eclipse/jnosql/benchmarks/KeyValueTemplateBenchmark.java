@@ -0,0 +1,91 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.benchmarks;
+
+import jakarta.enterprise.inject.se.SeContainer;
+import jakarta.nosql.keyvalue.KeyValueTemplate;
+import org.eclipse.jnosql.benchmarks.entities.Person;
+import org.eclipse.jnosql.mapping.keyvalue.KeyValueTemplateProducer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * Runs the bulk put, get and delete of the {@link org.eclipse.jnosql.mapping.keyvalue.AbstractKeyValueTemplate}
+ * against an in-memory bucket.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class KeyValueTemplateBenchmark {
+
+    @Param({"10", "100"})
+    public int size;
+
+    private SeContainer container;
+
+    private KeyValueTemplate template;
+
+    private List<Person> people;
+
+    private List<Long> keys;
+
+    @Setup
+    public void setUp() {
+        this.container = MappingContainer.keyValue();
+        this.template = container.select(KeyValueTemplateProducer.class).get().apply(new StandInBucketManager());
+        this.keys = LongStream.range(0, size).boxed().toList();
+        this.people = keys.stream().map(id -> new Person(id, "Ada " + id, 36)).toList();
+        template.put(people);
+    }
+
+    @TearDown
+    public void tearDown() {
+        container.close();
+    }
+
+    @Benchmark
+    public void put(Blackhole blackhole) {
+        template.put(people).forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void get(Blackhole blackhole) {
+        template.get(keys, Person.class).forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void deleteAndPut(Blackhole blackhole) {
+        template.delete(keys);
+        template.put(people).forEach(blackhole::consume);
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.benchmarks;
+
+import jakarta.enterprise.inject.se.SeContainer;
+import jakarta.enterprise.inject.se.SeContainerInitializer;
+import jakarta.enterprise.inject.spi.Extension;
+import org.eclipse.jnosql.mapping.column.ColumnEntityConverter;
+import org.eclipse.jnosql.mapping.column.query.ColumnRepositoryProducer;
+import org.eclipse.jnosql.mapping.column.spi.ColumnExtension;
+import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.core.spi.EntityMetadataExtension;
+import org.eclipse.jnosql.mapping.document.DocumentEntityConverter;
+import org.eclipse.jnosql.mapping.document.query.DocumentRepositoryProducer;
+import org.eclipse.jnosql.mapping.document.spi.DocumentExtension;
+import org.eclipse.jnosql.mapping.graph.Transactional;
+import org.eclipse.jnosql.mapping.graph.spi.GraphExtension;
+import org.eclipse.jnosql.mapping.keyvalue.KeyValueEntityConverter;
+import org.eclipse.jnosql.mapping.keyvalue.spi.KeyValueExtension;
+import org.eclipse.jnosql.mapping.reflection.Reflections;
+
+/**
+ * Starts the CDI container of a mapping module the way its tests do: the module packages, the entity metadata
+ * extension and the module extension, without bean discovery. The managers are the stand-ins each benchmark
+ * creates, so the container holds no database.
+ */
+final class MappingContainer {
+
+    private MappingContainer() {
+    }
+
+    static SeContainer document() {
+        return start(DocumentExtension.class, DocumentEntityConverter.class, DocumentRepositoryProducer.class);
+    }
+
+    static SeContainer column() {
+        return start(ColumnExtension.class, ColumnEntityConverter.class, ColumnRepositoryProducer.class);
+    }
+
+    static SeContainer graph() {
+        return start(GraphExtension.class, Transactional.class);
+    }
+
+    static SeContainer keyValue() {
+        return start(KeyValueExtension.class, KeyValueEntityConverter.class);
+    }
+
+    private static SeContainer start(Class<? extends Extension> extension, Class<?>... packages) {
+        return SeContainerInitializer.newInstance()
+                .disableDiscovery()
+                .addPackages(Converters.class, Reflections.class)
+                .addPackages(packages)
+                .addExtensions(EntityMetadataExtension.class)
+                .addExtensions(extension)
+                .initialize();
+    }
+}
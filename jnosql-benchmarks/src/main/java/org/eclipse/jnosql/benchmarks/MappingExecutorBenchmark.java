@@ -0,0 +1,80 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.benchmarks;
+
+import org.eclipse.jnosql.communication.document.DocumentManager;
+import org.eclipse.jnosql.mapping.core.MappingExecutor;
+import org.eclipse.jnosql.mapping.core.config.MappingConfigurations;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * Fans out calls to a manager that blocks for a millisecond, as a {@code findByIdIn} does against a remote database,
+ * from many request threads at once on the platform and on the virtual threads of the {@link MappingExecutor}.
+ * <p>
+ * The executor is read from the {@link MappingConfigurations#EXECUTOR} property at the first use, so each
+ * {@code executor} param needs its own fork, which is the JMH default. The virtual threads need Java 21 or later;
+ * on older versions both params run on platform threads.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(32)
+@State(Scope.Benchmark)
+public class MappingExecutorBenchmark {
+
+    @Param({"platform", "virtual"})
+    public String executor;
+
+    @Param({"16", "64"})
+    public int fanOut;
+
+    private MappingExecutor mapping;
+
+    private DocumentManager manager;
+
+    private List<Long> ids;
+
+    @Setup
+    public void setUp() {
+        System.setProperty(MappingConfigurations.EXECUTOR.get(), executor);
+        System.setProperty(MappingConfigurations.EXECUTOR_CONCURRENCY.get(), Integer.toString(fanOut));
+        this.mapping = MappingExecutor.get();
+        this.manager = new StandInDocumentManager(List.of(), Duration.ofMillis(1));
+        this.ids = LongStream.range(0, fanOut).boxed().toList();
+    }
+
+    @Benchmark
+    public List<Long> map() {
+        return mapping.map(ids, id -> manager.count("Person"));
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.benchmarks;
+
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.ParseTreeWalker;
+import org.eclipse.jnosql.communication.query.SelectQuery;
+import org.eclipse.jnosql.communication.query.method.MethodQuery;
+import org.eclipse.jnosql.communication.query.method.SelectMethodQueryProvider;
+import org.eclipse.jnosql.query.grammar.method.MethodBaseListener;
+import org.eclipse.jnosql.query.grammar.method.MethodLexer;
+import org.eclipse.jnosql.query.grammar.method.MethodParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parses the same repository method name with the hand-written parser behind {@link SelectMethodQueryProvider} and
+ * with the ANTLR grammar at Method.g4 that it replaced, generated only into this module. The ANTLR side walks the
+ * tree with an empty listener, while the hand-written side also builds the {@link SelectQuery}, so the comparison
+ * favors ANTLR. The {@code parse} benchmarks are the steady state, the {@code startup} ones the first parse of a new
+ * JVM, which includes loading the classes and, for ANTLR, deserializing the ATN.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MethodParserBenchmark {
+
+    private static final String METHOD = "findByNameAndAgeGreaterThanOrderByName";
+
+    @Benchmark
+    public SelectQuery parseHandWritten() {
+        return new SelectMethodQueryProvider().apply(METHOD, "Person");
+    }
+
+    @Benchmark
+    public ParseTree parseAntlr() {
+        return antlr();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    @Fork(10)
+    public SelectQuery startupHandWritten() {
+        return new SelectMethodQueryProvider().apply(METHOD, "Person");
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    @Fork(10)
+    public ParseTree startupAntlr() {
+        return antlr();
+    }
+
+    private static ParseTree antlr() {
+        MethodLexer lexer = new MethodLexer(CharStreams.fromString(MethodQuery.of(METHOD).get()));
+        MethodParser parser = new MethodParser(new CommonTokenStream(lexer));
+        ParseTree tree = parser.select();
+        ParseTreeWalker.DEFAULT.walk(new MethodBaseListener(), tree);
+        return tree;
+    }
+}
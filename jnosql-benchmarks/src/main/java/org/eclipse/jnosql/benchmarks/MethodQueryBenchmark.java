@@ -0,0 +1,64 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.benchmarks;
+
+import org.eclipse.jnosql.communication.query.method.MethodQuery;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads the {@link MethodQuery} cache from many threads at once, as the repositories of a busy application do.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+public class MethodQueryBenchmark {
+
+    private static final String[] METHODS = {"findByName", "findByNameAndAge", "findByAgeGreaterThan",
+        "findByNameOrderByAge", "countByName", "existsByName", "deleteByName", "findByNameAndAgeLessThanOrderByName"};
+
+    /**
+     * The position of each thread at the method names
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        private int index;
+
+        String next() {
+            String method = METHODS[index];
+            index = (index + 1) % METHODS.length;
+            return method;
+        }
+    }
+
+    @Benchmark
+    public String of(Cursor cursor) {
+        return MethodQuery.of(cursor.next()).get();
+    }
+}
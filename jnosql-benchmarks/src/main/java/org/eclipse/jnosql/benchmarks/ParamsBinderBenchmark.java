@@ -0,0 +1,105 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.benchmarks;
+
+import jakarta.enterprise.inject.se.SeContainer;
+import org.eclipse.jnosql.benchmarks.entities.Wide;
+import org.eclipse.jnosql.communication.Params;
+import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.core.util.ParamsBinder;
+import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Binds the arguments of a repository method with five and ten params through the {@link ParamsBinder}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParamsBinderBenchmark {
+
+    private static final List<String> NAMES = List.of("name", "email", "phone", "city", "country",
+            "age", "visits", "score", "rating", "active");
+
+    private static final Object[] ARGS = {"Ada", "ada@jnosql.org", "+44 20 7946 0000", "London", "United Kingdom",
+        36, 1_815L, 98.6D, 4.9F, true};
+
+    @Param({"5", "10"})
+    public int size;
+
+    private SeContainer container;
+
+    private ParamsBinder binder;
+
+    private Params params;
+
+    private Object[] args;
+
+    private Method method;
+
+    @Setup
+    public void setUp() {
+        this.container = MappingContainer.document();
+        EntitiesMetadata entities = container.select(EntitiesMetadata.class).get();
+        this.binder = new ParamsBinder(entities.get(Wide.class), container.select(Converters.class).get());
+        this.params = Params.newParams();
+        NAMES.subList(0, size).forEach(params::add);
+        this.args = Arrays.copyOf(ARGS, size);
+        String name = size == 5 ? "five" : "ten";
+        this.method = Arrays.stream(Queries.class.getMethods()).filter(m -> m.getName().equals(name))
+                .findFirst().orElseThrow();
+    }
+
+    @TearDown
+    public void tearDown() {
+        container.close();
+    }
+
+    @Benchmark
+    public Params bind() {
+        binder.bind(params, args, method);
+        return params;
+    }
+
+    /**
+     * The repository methods whose params are bound
+     */
+    public interface Queries {
+
+        List<Wide> five(String name, String email, String phone, String city, String country);
+
+        List<Wide> ten(String name, String email, String phone, String city, String country,
+                       int age, long visits, double score, float rating, boolean active);
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.benchmarks;
+
+import org.eclipse.jnosql.communication.query.SelectQuery;
+import org.eclipse.jnosql.communication.query.SelectQueryConverter;
+import org.eclipse.jnosql.communication.query.method.SelectMethodQueryProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parses the text queries through the ANTLR grammar at {@link SelectQueryConverter} and, apart, the repository
+ * method names through the hand-written parser at {@link SelectMethodQueryProvider}. Each parser runs on its own
+ * inputs, from the simplest to one with conditions and sorting, so the two scores are not a comparison of the
+ * parsers; {@link MethodParserBenchmark} compares the hand-written method parser with the ANTLR grammar it replaced
+ * on the same method name.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QueryParserBenchmark {
+
+    @Benchmark
+    public SelectQuery text(TextQuery query) {
+        return new SelectQueryConverter().apply(query.query);
+    }
+
+    @Benchmark
+    public SelectQuery method(MethodName method) {
+        return new SelectMethodQueryProvider().apply(method.method, "Person");
+    }
+
+    @State(Scope.Benchmark)
+    public static class TextQuery {
+
+        @Param({"select * from Person",
+                "select * from Person where name = @name",
+                "select * from Person where name = @name and age > @age order by name"})
+        public String query;
+    }
+
+    @State(Scope.Benchmark)
+    public static class MethodName {
+
+        @Param({"findByName",
+                "findByNameAndAgeGreaterThan",
+                "findByNameAndAgeGreaterThanOrderByName"})
+        public String method;
+    }
+}
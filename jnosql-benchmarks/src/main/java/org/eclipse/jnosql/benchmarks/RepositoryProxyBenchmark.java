@@ -0,0 +1,131 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.benchmarks;
+
+import jakarta.enterprise.inject.se.SeContainer;
+import org.eclipse.jnosql.benchmarks.entities.Person;
+import org.eclipse.jnosql.benchmarks.entities.PersonRepository;
+import org.eclipse.jnosql.benchmarks.entities.ProxyPersonRepository;
+import org.eclipse.jnosql.mapping.document.DocumentEntityConverter;
+import org.eclipse.jnosql.mapping.document.query.DocumentRepositoryProducer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Calls a document repository through {@link org.eclipse.jnosql.mapping.core.query.AbstractRepositoryProxy#invoke},
+ * from the built-in methods to the method name and {@code @Query} ones, once through the dynamic proxy of
+ * {@link ProxyPersonRepository} and once, at the {@code Generated} benchmarks, through the {@code PersonRepository_JNoSQL}
+ * that the jnosql-mapping-processor generates at the build of this module. The stand-in manager returns a single row,
+ * so the time is the mapping.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RepositoryProxyBenchmark {
+
+    private SeContainer container;
+
+    private ProxyPersonRepository repository;
+
+    private PersonRepository generated;
+
+    private Person person;
+
+    @Setup
+    public void setUp() {
+        this.container = MappingContainer.document();
+        this.person = new Person(1L, "Ada", 36);
+        DocumentEntityConverter converter = container.select(DocumentEntityConverter.class).get();
+        StandInDocumentManager manager = new StandInDocumentManager(List.of(converter.toDocument(person)));
+        DocumentRepositoryProducer producer = container.select(DocumentRepositoryProducer.class).get();
+        this.repository = producer.get(ProxyPersonRepository.class, manager);
+        this.generated = producer.get(PersonRepository.class, manager);
+        if (Proxy.isProxyClass(generated.getClass())) {
+            throw new IllegalStateException("The PersonRepository is a proxy, the jnosql-mapping-processor did not run");
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        container.close();
+    }
+
+    @Benchmark
+    public Optional<Person> findById() {
+        return repository.findById(1L);
+    }
+
+    @Benchmark
+    public Optional<Person> findByIdGenerated() {
+        return generated.findById(1L);
+    }
+
+    @Benchmark
+    public Person save() {
+        return repository.save(person);
+    }
+
+    @Benchmark
+    public Person saveGenerated() {
+        return generated.save(person);
+    }
+
+    @Benchmark
+    public List<Person> findByName() {
+        return repository.findByName("Ada");
+    }
+
+    @Benchmark
+    public List<Person> findByNameGenerated() {
+        return generated.findByName("Ada");
+    }
+
+    @Benchmark
+    public List<Person> findByNameAndAgeGreaterThan() {
+        return repository.findByNameAndAgeGreaterThan("Ada", 18);
+    }
+
+    @Benchmark
+    public List<Person> findByNameAndAgeGreaterThanGenerated() {
+        return generated.findByNameAndAgeGreaterThan("Ada", 18);
+    }
+
+    @Benchmark
+    public List<Person> query() {
+        return repository.query("Ada", 36);
+    }
+
+    @Benchmark
+    public List<Person> queryGenerated() {
+        return generated.query("Ada", 36);
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.benchmarks;
+
+import org.eclipse.jnosql.benchmarks.entities.EmailNotification;
+import org.eclipse.jnosql.benchmarks.entities.Order;
+import org.eclipse.jnosql.benchmarks.entities.Person;
+import org.eclipse.jnosql.benchmarks.entities.Wide;
+
+import java.util.function.Supplier;
+
+/**
+ * The entity shapes the converter benchmarks run against.
+ */
+public enum Shape {
+
+    /**
+     * An id and two columns
+     */
+    NARROW(() -> new Person(1L, "Ada", 36)),
+    /**
+     * An id and twenty columns of mixed types
+     */
+    WIDE(() -> Wide.of("wide")),
+    /**
+     * An embeddable, a sub document two levels deep and a list of sub documents
+     */
+    NESTED(() -> Order.of("order")),
+    /**
+     * A subclass of an entity hierarchy with a discriminator column
+     */
+    INHERITANCE(() -> EmailNotification.of(1L));
+
+    private final Supplier<Object> entity;
+
+    Shape(Supplier<Object> entity) {
+        this.entity = entity;
+    }
+
+    /**
+     * Creates a new entity of this shape
+     *
+     * @return the entity
+     */
+    public Object entity() {
+        return entity.get();
+    }
+}
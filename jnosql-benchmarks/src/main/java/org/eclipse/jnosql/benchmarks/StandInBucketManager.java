@@ -0,0 +1,97 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.benchmarks;
+
+import org.eclipse.jnosql.communication.Value;
+import org.eclipse.jnosql.communication.keyvalue.BucketManager;
+import org.eclipse.jnosql.communication.keyvalue.KeyValueEntity;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The in-process {@link BucketManager} of the benchmarks, backed by a {@link ConcurrentHashMap}. The time to live
+ * is ignored.
+ */
+public final class StandInBucketManager implements BucketManager {
+
+    private final Map<Object, Object> bucket = new ConcurrentHashMap<>();
+
+    @Override
+    public String name() {
+        return "benchmarks";
+    }
+
+    @Override
+    public <K, V> void put(K key, V value) {
+        bucket.put(Objects.requireNonNull(key, "key is required"), Objects.requireNonNull(value, "value is required"));
+    }
+
+    @Override
+    public void put(KeyValueEntity entity) {
+        put(entity.key(), entity.value());
+    }
+
+    @Override
+    public void put(KeyValueEntity entity, Duration ttl) {
+        put(entity);
+    }
+
+    @Override
+    public void put(Iterable<KeyValueEntity> entities) {
+        entities.forEach(this::put);
+    }
+
+    @Override
+    public void put(Iterable<KeyValueEntity> entities, Duration ttl) {
+        put(entities);
+    }
+
+    @Override
+    public <K> Optional<Value> get(K key) {
+        return Optional.ofNullable(bucket.get(key)).map(Value::of);
+    }
+
+    @Override
+    public <K> Iterable<Value> get(Iterable<K> keys) {
+        List<Value> values = new ArrayList<>();
+        for (K key : keys) {
+            Object value = bucket.get(key);
+            if (value != null) {
+                values.add(Value.of(value));
+            }
+        }
+        return values;
+    }
+
+    @Override
+    public <K> void delete(K key) {
+        bucket.remove(key);
+    }
+
+    @Override
+    public <K> void delete(Iterable<K> keys) {
+        keys.forEach(bucket::remove);
+    }
+
+    @Override
+    public void close() {
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.benchmarks;
+
+import org.eclipse.jnosql.communication.column.ColumnDeleteQuery;
+import org.eclipse.jnosql.communication.column.ColumnEntity;
+import org.eclipse.jnosql.communication.column.ColumnManager;
+import org.eclipse.jnosql.communication.column.ColumnQuery;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+/**
+ * The in-process {@link ColumnManager} of the benchmarks. It keeps no state: the writes return the entities they
+ * receive and every query returns the same rows, after an optional latency that stands for the database round trip.
+ */
+public final class StandInColumnManager implements ColumnManager {
+
+    private final List<ColumnEntity> rows;
+
+    private final long latency;
+
+    /**
+     * Creates a {@link StandInColumnManager} without latency
+     *
+     * @param rows the rows every query returns
+     */
+    public StandInColumnManager(List<ColumnEntity> rows) {
+        this(rows, Duration.ZERO);
+    }
+
+    /**
+     * Creates a {@link StandInColumnManager}
+     *
+     * @param rows    the rows every query returns
+     * @param latency the time each read and delete blocks the caller thread
+     */
+    public StandInColumnManager(List<ColumnEntity> rows, Duration latency) {
+        this.rows = List.copyOf(Objects.requireNonNull(rows, "rows is required"));
+        this.latency = Objects.requireNonNull(latency, "latency is required").toNanos();
+    }
+
+    @Override
+    public String name() {
+        return "benchmarks";
+    }
+
+    @Override
+    public ColumnEntity insert(ColumnEntity entity) {
+        return entity;
+    }
+
+    @Override
+    public ColumnEntity insert(ColumnEntity entity, Duration ttl) {
+        return entity;
+    }
+
+    @Override
+    public Iterable<ColumnEntity> insert(Iterable<ColumnEntity> entities) {
+        return entities;
+    }
+
+    @Override
+    public Iterable<ColumnEntity> insert(Iterable<ColumnEntity> entities, Duration ttl) {
+        return entities;
+    }
+
+    @Override
+    public ColumnEntity update(ColumnEntity entity) {
+        return entity;
+    }
+
+    @Override
+    public Iterable<ColumnEntity> update(Iterable<ColumnEntity> entities) {
+        return entities;
+    }
+
+    @Override
+    public Iterable<ColumnEntity> upsert(Iterable<ColumnEntity> entities) {
+        return entities;
+    }
+
+    @Override
+    public boolean isUpsertSupported() {
+        return true;
+    }
+
+    @Override
+    public void delete(ColumnDeleteQuery query) {
+        await();
+    }
+
+    @Override
+    public Stream<ColumnEntity> select(ColumnQuery query) {
+        await();
+        return rows.stream();
+    }
+
+    @Override
+    public long count(String columnFamily) {
+        await();
+        return rows.size();
+    }
+
+    @Override
+    public void close() {
+    }
+
+    private void await() {
+        if (latency > 0) {
+            LockSupport.parkNanos(latency);
+        }
+    }
+}
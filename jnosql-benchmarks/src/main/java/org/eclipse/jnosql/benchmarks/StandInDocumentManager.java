@@ -0,0 +1,129 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.benchmarks;
+
+import org.eclipse.jnosql.communication.document.DocumentDeleteQuery;
+import org.eclipse.jnosql.communication.document.DocumentEntity;
+import org.eclipse.jnosql.communication.document.DocumentManager;
+import org.eclipse.jnosql.communication.document.DocumentQuery;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+/**
+ * The in-process {@link DocumentManager} of the benchmarks. It keeps no state: the writes return the entities they
+ * receive and every query returns the same rows, after an optional latency that stands for the database round trip.
+ */
+public final class StandInDocumentManager implements DocumentManager {
+
+    private final List<DocumentEntity> rows;
+
+    private final long latency;
+
+    /**
+     * Creates a {@link StandInDocumentManager} without latency
+     *
+     * @param rows the rows every query returns
+     */
+    public StandInDocumentManager(List<DocumentEntity> rows) {
+        this(rows, Duration.ZERO);
+    }
+
+    /**
+     * Creates a {@link StandInDocumentManager}
+     *
+     * @param rows    the rows every query returns
+     * @param latency the time each read and delete blocks the caller thread
+     */
+    public StandInDocumentManager(List<DocumentEntity> rows, Duration latency) {
+        this.rows = List.copyOf(Objects.requireNonNull(rows, "rows is required"));
+        this.latency = Objects.requireNonNull(latency, "latency is required").toNanos();
+    }
+
+    @Override
+    public String name() {
+        return "benchmarks";
+    }
+
+    @Override
+    public DocumentEntity insert(DocumentEntity entity) {
+        return entity;
+    }
+
+    @Override
+    public DocumentEntity insert(DocumentEntity entity, Duration ttl) {
+        return entity;
+    }
+
+    @Override
+    public Iterable<DocumentEntity> insert(Iterable<DocumentEntity> entities) {
+        return entities;
+    }
+
+    @Override
+    public Iterable<DocumentEntity> insert(Iterable<DocumentEntity> entities, Duration ttl) {
+        return entities;
+    }
+
+    @Override
+    public DocumentEntity update(DocumentEntity entity) {
+        return entity;
+    }
+
+    @Override
+    public Iterable<DocumentEntity> update(Iterable<DocumentEntity> entities) {
+        return entities;
+    }
+
+    @Override
+    public Iterable<DocumentEntity> upsert(Iterable<DocumentEntity> entities) {
+        return entities;
+    }
+
+    @Override
+    public boolean isUpsertSupported() {
+        return true;
+    }
+
+    @Override
+    public void delete(DocumentDeleteQuery query) {
+        await();
+    }
+
+    @Override
+    public Stream<DocumentEntity> select(DocumentQuery query) {
+        await();
+        return rows.stream();
+    }
+
+    @Override
+    public long count(String documentCollection) {
+        await();
+        return rows.size();
+    }
+
+    @Override
+    public void close() {
+    }
+
+    private void await() {
+        if (latency > 0) {
+            LockSupport.parkNanos(latency);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.benchmarks;
+
+import org.eclipse.jnosql.benchmarks.entities.Wide;
+import org.eclipse.jnosql.communication.ValueReader;
+import org.eclipse.jnosql.communication.ValueReaderDecorator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads the values the converters meet the most through {@link ValueReaderDecorator#read(Class, Object)}, from the
+ * value that is already of the type to the readers at the end of the lookup.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValueReaderBenchmark {
+
+    private final ValueReader reader = ValueReaderDecorator.getInstance();
+
+    private final Object text = "Ada";
+
+    private final Object number = "36";
+
+    private final Object decimal = "1843.15";
+
+    private final Object date = "1815-12-10";
+
+    private final Object status = "ACTIVE";
+
+    @Benchmark
+    public String sameType() {
+        return reader.read(String.class, text);
+    }
+
+    @Benchmark
+    public Integer integer() {
+        return reader.read(Integer.class, number);
+    }
+
+    @Benchmark
+    public Long longValue() {
+        return reader.read(Long.class, number);
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimal() {
+        return reader.read(BigDecimal.class, decimal);
+    }
+
+    @Benchmark
+    public LocalDate localDate() {
+        return reader.read(LocalDate.class, date);
+    }
+
+    @Benchmark
+    public Wide.Status enumValue() {
+        return reader.read(Wide.Status.class, status);
+    }
+}
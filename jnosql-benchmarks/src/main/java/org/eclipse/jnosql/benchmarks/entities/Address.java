@@ -0,0 +1,55 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.benchmarks.entities;
+
+import jakarta.nosql.Column;
+import jakarta.nosql.Entity;
+
+/**
+ * The address of an {@link Order}, kept as a sub document.
+ */
+@Entity
+public class Address {
+
+    @Column
+    private String street;
+
+    @Column
+    private String city;
+
+    @Column
+    private ZipCode zipCode;
+
+    public Address() {
+    }
+
+    public Address(String street, String city, ZipCode zipCode) {
+        this.street = street;
+        this.city = city;
+        this.zipCode = zipCode;
+    }
+
+    public String getStreet() {
+        return street;
+    }
+
+    public String getCity() {
+        return city;
+    }
+
+    public ZipCode getZipCode() {
+        return zipCode;
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.benchmarks.entities;
+
+import jakarta.nosql.Column;
+import jakarta.nosql.Entity;
+import org.eclipse.jnosql.mapping.DiscriminatorValue;
+
+import java.time.LocalDate;
+
+/**
+ * A {@link Notification} sent by email.
+ */
+@Entity
+@DiscriminatorValue("Email")
+public class EmailNotification extends Notification {
+
+    @Column
+    private String email;
+
+    /**
+     * Creates an {@link EmailNotification}
+     *
+     * @param id the id
+     * @return a new instance
+     */
+    public static EmailNotification of(Long id) {
+        EmailNotification notification = new EmailNotification();
+        notification.id = id;
+        notification.name = "Welcome";
+        notification.createdOn = LocalDate.of(2024, 1, 10);
+        notification.email = "ada@jnosql.org";
+        return notification;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+}
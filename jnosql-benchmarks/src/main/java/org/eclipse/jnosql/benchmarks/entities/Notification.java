@@ -0,0 +1,51 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.benchmarks.entities;
+
+import jakarta.nosql.Column;
+import jakarta.nosql.Entity;
+import jakarta.nosql.Id;
+import org.eclipse.jnosql.mapping.Inheritance;
+
+import java.time.LocalDate;
+
+/**
+ * The root of the inheritance entities, stored at a single collection with a discriminator column.
+ */
+@Entity
+@Inheritance
+public abstract class Notification {
+
+    @Id
+    protected Long id;
+
+    @Column
+    protected String name;
+
+    @Column
+    protected LocalDate createdOn;
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public LocalDate getCreatedOn() {
+        return createdOn;
+    }
+}
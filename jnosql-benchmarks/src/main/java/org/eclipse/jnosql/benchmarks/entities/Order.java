@@ -0,0 +1,74 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.benchmarks.entities;
+
+import jakarta.nosql.Column;
+import jakarta.nosql.Entity;
+import jakarta.nosql.Id;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * The nested entity: an embeddable customer, a sub document two levels deep and a list of sub documents.
+ */
+@Entity("Orders")
+public class Order {
+
+    @Id
+    private String id;
+
+    @Column
+    private Customer customer;
+
+    @Column
+    private Address address;
+
+    @Column
+    private List<Item> items;
+
+    /**
+     * Creates an {@link Order} with three items
+     *
+     * @param id the id
+     * @return a new instance
+     */
+    public static Order of(String id) {
+        Order order = new Order();
+        order.id = id;
+        order.customer = new Customer("Ada Lovelace", "ada@jnosql.org");
+        order.address = new Address("St James's Square", "London", new ZipCode("SW1Y 4JH", "0001"));
+        order.items = List.of(new Item("Notebook", 2, new BigDecimal("12.50")),
+                new Item("Pencil", 10, new BigDecimal("0.99")),
+                new Item("Difference Engine", 1, new BigDecimal("17470.00")));
+        return order;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Customer getCustomer() {
+        return customer;
+    }
+
+    public Address getAddress() {
+        return address;
+    }
+
+    public List<Item> getItems() {
+        return items;
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.benchmarks.entities;
+
+import jakarta.data.repository.PageableRepository;
+import jakarta.data.repository.Param;
+import jakarta.data.repository.Query;
+
+import java.util.List;
+
+/**
+ * The same methods as {@link PersonRepository} without the {@code Repository} annotation, so the
+ * jnosql-mapping-processor skips it and it keeps using the dynamic proxy.
+ */
+public interface ProxyPersonRepository extends PageableRepository<Person, Long> {
+
+    List<Person> findByName(String name);
+
+    List<Person> findByNameAndAgeGreaterThan(String name, int age);
+
+    @Query("select * from Person where name = @name and age = @age")
+    List<Person> query(@Param("name") String name, @Param("age") int age);
+}
@@ -0,0 +1,146 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.benchmarks.entities;
+
+import jakarta.nosql.Column;
+import jakarta.nosql.Entity;
+import jakarta.nosql.Id;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The wide entity: an id and twenty columns of mixed types.
+ */
+@Entity
+public class Wide {
+
+    @Id
+    private String id;
+
+    @Column
+    private String name;
+
+    @Column
+    private String email;
+
+    @Column
+    private String phone;
+
+    @Column
+    private String city;
+
+    @Column
+    private String country;
+
+    @Column
+    private int age;
+
+    @Column
+    private long visits;
+
+    @Column
+    private double score;
+
+    @Column
+    private float rating;
+
+    @Column
+    private boolean active;
+
+    @Column
+    private Integer level;
+
+    @Column
+    private Long points;
+
+    @Column
+    private BigDecimal balance;
+
+    @Column
+    private LocalDate birthday;
+
+    @Column
+    private LocalDateTime createdAt;
+
+    @Column
+    private LocalDateTime updatedAt;
+
+    @Column
+    private Status status;
+
+    @Column
+    private List<String> tags;
+
+    @Column
+    private Set<String> roles;
+
+    @Column
+    private String description;
+
+    /**
+     * The status of a {@link Wide}
+     */
+    public enum Status {
+        ACTIVE, SUSPENDED
+    }
+
+    /**
+     * Creates a {@link Wide} with every column filled
+     *
+     * @param id the id
+     * @return a new instance
+     */
+    public static Wide of(String id) {
+        Wide wide = new Wide();
+        wide.id = id;
+        wide.name = "Ada Lovelace";
+        wide.email = "ada@jnosql.org";
+        wide.phone = "+44 20 7946 0000";
+        wide.city = "London";
+        wide.country = "United Kingdom";
+        wide.age = 36;
+        wide.visits = 1_815L;
+        wide.score = 98.6D;
+        wide.rating = 4.9F;
+        wide.active = true;
+        wide.level = 10;
+        wide.points = 1_000_000L;
+        wide.balance = new BigDecimal("1843.15");
+        wide.birthday = LocalDate.of(1815, 12, 10);
+        wide.createdAt = LocalDateTime.of(2024, 1, 10, 10, 0);
+        wide.updatedAt = LocalDateTime.of(2024, 2, 10, 10, 0);
+        wide.status = Status.ACTIVE;
+        wide.tags = List.of("math", "engine", "poetry");
+        wide.roles = Set.of("admin", "author");
+        wide.description = "The first computer programmer";
+        return wide;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getAge() {
+        return age;
+    }
+}
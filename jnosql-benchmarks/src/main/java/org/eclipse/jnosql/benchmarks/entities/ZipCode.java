@@ -0,0 +1,47 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.benchmarks.entities;
+
+import jakarta.nosql.Column;
+import jakarta.nosql.Entity;
+
+/**
+ * The zip code of an {@link Address}, the deepest level of an {@link Order}.
+ */
+@Entity
+public class ZipCode {
+
+    @Column
+    private String zip;
+
+    @Column
+    private String plusFour;
+
+    public ZipCode() {
+    }
+
+    public ZipCode(String zip, String plusFour) {
+        this.zip = zip;
+        this.plusFour = plusFour;
+    }
+
+    public String getZip() {
+        return zip;
+    }
+
+    public String getPlusFour() {
+        return plusFour;
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.column;
+
+import org.eclipse.jnosql.communication.PublisherStream;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Stream;
+
+/**
+ * A {@link ColumnManager} that waits at the calling thread for each operation of an {@link AsyncColumnManager}.
+ * A failed stage rethrows its cause rather than the {@link CompletionException} around it.
+ */
+final class BlockingColumnManager implements ColumnManager {
+
+    private final AsyncColumnManager manager;
+
+    BlockingColumnManager(AsyncColumnManager manager) {
+        this.manager = manager;
+    }
+
+    AsyncColumnManager manager() {
+        return manager;
+    }
+
+    @Override
+    public String name() {
+        return manager.name();
+    }
+
+    @Override
+    public ColumnEntity insert(ColumnEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        return join(manager.insert(entity));
+    }
+
+    @Override
+    public ColumnEntity insert(ColumnEntity entity, Duration ttl) {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        return join(manager.insert(entity, ttl));
+    }
+
+    @Override
+    public Iterable<ColumnEntity> insert(Iterable<ColumnEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        return join(manager.insert(entities));
+    }
+
+    @Override
+    public Iterable<ColumnEntity> insert(Iterable<ColumnEntity> entities, Duration ttl) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        return join(manager.insert(entities, ttl));
+    }
+
+    @Override
+    public ColumnEntity update(ColumnEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        return join(manager.update(entity));
+    }
+
+    @Override
+    public Iterable<ColumnEntity> update(Iterable<ColumnEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        return join(manager.update(entities));
+    }
+
+    @Override
+    public Iterable<ColumnEntity> upsert(Iterable<ColumnEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        return join(manager.upsert(entities));
+    }
+
+    @Override
+    public boolean isUpsertSupported() {
+        return manager.isUpsertSupported();
+    }
+
+    @Override
+    public void delete(ColumnDeleteQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        join(manager.delete(query));
+    }
+
+    @Override
+    public Stream<ColumnEntity> select(ColumnQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return PublisherStream.of(manager.select(query));
+    }
+
+    @Override
+    public Stream<ColumnEntity> aggregate(ColumnAggregateQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return PublisherStream.of(manager.aggregate(query));
+    }
+
+    @Override
+    public long count(ColumnQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return join(manager.count(query));
+    }
+
+    @Override
+    public boolean exists(ColumnQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return join(manager.exists(query));
+    }
+
+    @Override
+    public Optional<ColumnEntity> singleResult(ColumnQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return join(manager.singleResult(query));
+    }
+
+    @Override
+    public long count(String columnFamily) {
+        Objects.requireNonNull(columnFamily, "columnFamily is required");
+        return join(manager.count(columnFamily));
+    }
+
+    @Override
+    public void close() {
+        manager.close();
+    }
+
+    @Override
+    public String toString() {
+        return "BlockingColumnManager{" +
+                "manager=" + manager +
+                '}';
+    }
+
+    private static <T> T join(CompletionStage<T> stage) {
+        try {
+            return stage.toCompletableFuture().join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw exception;
+        }
+    }
+}
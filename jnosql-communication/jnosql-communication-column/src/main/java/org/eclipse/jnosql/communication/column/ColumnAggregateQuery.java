@@ -0,0 +1,81 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.column;
+
+import org.eclipse.jnosql.communication.query.Aggregation;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Class that contains information to run aggregate functions at {@link ColumnManager}
+ *
+ * @see ColumnManager#aggregate(ColumnAggregateQuery)
+ * @see Aggregation
+ */
+public interface ColumnAggregateQuery {
+
+    /**
+     * The column family name
+     *
+     * @return the column family name
+     */
+    String name();
+
+    /**
+     * The aggregate functions, each one returns a column named after {@link Aggregation#label()}.
+     *
+     * @return the aggregations
+     */
+    List<Aggregation> aggregations();
+
+    /**
+     * The columns used to group the entities, if it is empty the whole result is a single group.
+     *
+     * @return the group by columns
+     */
+    List<String> groupBy();
+
+    /**
+     * The conditions that contains in this {@link ColumnAggregateQuery}
+     * If empty, {@link Optional#empty()} is true, it aggregates all the entities of the column family.
+     *
+     * @return the conditions
+     */
+    Optional<ColumnCondition> condition();
+
+    /**
+     * Creates a {@link ColumnAggregateQuery} instance
+     *
+     * @param name         the column family name
+     * @param aggregations the aggregate functions
+     * @param groupBy      the group by columns
+     * @param condition    the condition, it might be null
+     * @return a {@link ColumnAggregateQuery} instance
+     * @throws NullPointerException     when either name, aggregations or groupBy is null
+     * @throws IllegalArgumentException when aggregations is empty
+     */
+    static ColumnAggregateQuery of(String name, List<Aggregation> aggregations, List<String> groupBy,
+                                   ColumnCondition condition) {
+        Objects.requireNonNull(name, "name is required");
+        Objects.requireNonNull(aggregations, "aggregations is required");
+        Objects.requireNonNull(groupBy, "groupBy is required");
+        if (aggregations.isEmpty()) {
+            throw new IllegalArgumentException("The aggregate query requires at least one aggregation");
+        }
+        return new DefaultColumnAggregateQuery(name, List.copyOf(aggregations), List.copyOf(groupBy), condition);
+    }
+}
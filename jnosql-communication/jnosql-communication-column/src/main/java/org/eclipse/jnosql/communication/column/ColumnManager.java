@@ -18,6 +18,7 @@ package org.eclipse.jnosql.communication.column;
 
 
 import jakarta.data.exceptions.NonUniqueResultException;
+import org.eclipse.jnosql.communication.query.Aggregation;
 
 import java.time.Duration;
 import java.util.Iterator;
@@ -68,6 +69,36 @@ public interface ColumnManager extends AutoCloseable {
      */
     Iterable<ColumnEntity> update(Iterable<ColumnEntity> entities);
 
+    /**
+     * Inserts the entities that do not exist and replaces the ones that exist, matching them by id, in a single
+     * operation; it allows the mapping layer to save entities without reading them first.
+     * The result has exactly one entity per entity given, in the same order, the mapping layer relies on it to
+     * bind each saved entity back to its instance.
+     * The NoSQL vendors with a native upsert should override it along with {@link ColumnManager#isUpsertSupported()};
+     * by default it throws {@link UnsupportedOperationException}, since an insert of an existing id duplicates the
+     * entity or fails on most databases.
+     *
+     * @param entities entities to be saved
+     * @return the entities saved, one per entity given and in the same order
+     * @throws NullPointerException          when entities is null
+     * @throws UnsupportedOperationException when the database has no native upsert
+     */
+    default Iterable<ColumnEntity> upsert(Iterable<ColumnEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        throw new UnsupportedOperationException("The ColumnManager " + name() + " does not support upsert");
+    }
+
+    /**
+     * Checks whether {@link ColumnManager#upsert(Iterable)} is a native upsert that the mapping layer should prefer.
+     * When it is false, the mapping layer never calls {@link ColumnManager#upsert(Iterable)}; it checks which entities
+     * exist with a single query and then inserts or updates each of them.
+     *
+     * @return true when the database supports a native upsert
+     */
+    default boolean isUpsertSupported() {
+        return false;
+    }
+
     /**
      * Saves a Column family entity with time to live
      *
@@ -144,6 +175,38 @@ public interface ColumnManager extends AutoCloseable {
         return this.select(DefaultColumnQuery.existsBy(query)).findAny().isPresent();
     }
 
+    /**
+     * Runs the aggregate functions of the query and returns a {@link ColumnEntity} per group, named after the column family,
+     * with the group by columns and a column per aggregation named after {@link Aggregation#label()}.
+     * By default, it selects the matching entities with only the columns the aggregations need and aggregates them
+     * while streaming, without keeping them, so the memory depends on the number of groups instead of the number of entities;
+     * each NoSQL vendor that can aggregate at the database might replace it.
+     *
+     * @param query the query
+     * @return an entity per group
+     * @throws NullPointerException when query is null
+     * @throws org.eclipse.jnosql.communication.QueryException when a sum or an average finds a non-numeric value
+     */
+    default Stream<ColumnEntity> aggregate(ColumnAggregateQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return DefaultColumnAggregateQuery.aggregate(query, this::select);
+    }
+
+    /**
+     * Executes a <b>select</b> query with aggregate functions, e.g.:
+     * {@code select city, count(*), avg(age) from Person where active = true group by city}.
+     *
+     * @param query the query as {@link String}
+     * @return an entity per group
+     * @throws NullPointerException when query is null
+     * @see ColumnManager#aggregate(ColumnAggregateQuery)
+     */
+    default Stream<ColumnEntity> aggregate(String query) {
+        Objects.requireNonNull(query, "query is required");
+        ColumnQueryParser parser = new ColumnQueryParser();
+        return parser.aggregate(query, this, ColumnObserverParser.EMPTY);
+    }
+
     /**
      * Executes a query and returns the result, when the operations are <b>insert</b>, <b>update</b> and <b>select</b>
      * command it will return the result of the operation when the command is <b>delete</b> it will return an empty collection.
@@ -19,6 +19,7 @@ package org.eclipse.jnosql.communication.column;
 
 
 import jakarta.data.Sort;
+import org.eclipse.jnosql.communication.QueryHints;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -75,6 +76,28 @@ public interface ColumnQuery {
      */
     List<String> columns();
 
+    /**
+     * The number of entities the driver should fetch from the database at each round trip while the result is read,
+     * it allows reading large results in chunks instead of one at a time or all at once.
+     * Zero means the driver default. The implementation might ignore this option.
+     *
+     * @return the fetch size
+     * @see QueryHints#FETCH_SIZE
+     */
+    default int fetchSize() {
+        return hints().fetchSize();
+    }
+
+    /**
+     * The hints to the driver, such as the fetch size, the timeout, the read preference and the consistency level.
+     * The hints do not change the result and the implementation might ignore them.
+     *
+     * @return the hints, by default {@link QueryHints#empty()}
+     */
+    default QueryHints hints() {
+        return QueryHints.empty();
+    }
+
     /**
      * The sorts that contains in this {@link ColumnQuery}
      * The implementation might ignore this option.
@@ -294,6 +317,29 @@ public interface ColumnQuery {
          */
         Optional<ColumnEntity> getSingleResult(ColumnManager manager);
 
+        /**
+         * Defines the number of entities the driver should fetch at each round trip while the result is read.
+         * The default value is zero, the driver default.
+         *
+         * @param fetchSize the fetch size
+         * @return the {@link ColumnQueryBuild}
+         * @throws IllegalArgumentException if fetchSize is negative
+         * @see ColumnQuery#fetchSize()
+         */
+        ColumnQueryBuild fetchSize(int fetchSize);
+
+        /**
+         * Defines a hint to the driver, it replaces the current value of the key.
+         *
+         * @param key   the hint key, e.g. {@link QueryHints#TIMEOUT}
+         * @param value the hint value
+         * @return the {@link ColumnQueryBuild}
+         * @throws NullPointerException     when there are null parameters
+         * @throws IllegalArgumentException when the value of a well-known key is either invalid or negative
+         * @see ColumnQuery#hints()
+         */
+        ColumnQueryBuild hint(String key, Object value);
+
     }
 
     /**
@@ -589,6 +635,29 @@ public interface ColumnQuery {
          */
         ColumnQueryBuilder limit(long limit);
 
+        /**
+         * Defines the number of entities the driver should fetch at each round trip while the result is read.
+         * The default value is zero, the driver default, and it will replace the current property.
+         *
+         * @param fetchSize the fetch size
+         * @return the {@link ColumnQueryBuilder}
+         * @throws IllegalArgumentException if fetchSize is negative
+         * @see ColumnQuery#fetchSize()
+         */
+        ColumnQueryBuilder fetchSize(int fetchSize);
+
+        /**
+         * Defines a hint to the driver, it replaces the current value of the key.
+         *
+         * @param key   the hint key, e.g. {@link QueryHints#TIMEOUT}
+         * @param value the hint value
+         * @return the {@link ColumnQueryBuilder}
+         * @throws NullPointerException     when there are null parameters
+         * @throws IllegalArgumentException when the value of a well-known key is either invalid or negative
+         * @see ColumnQuery#hints()
+         */
+        ColumnQueryBuilder hint(String key, Object value);
+
         /**
          * It will validate and then create a {@link ColumnQuery} instance.
          *
@@ -0,0 +1,255 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.column;
+
+import jakarta.data.Sort;
+import org.eclipse.jnosql.communication.Condition;
+import org.eclipse.jnosql.communication.QueryHints;
+import org.eclipse.jnosql.communication.query.Aggregation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Normalizes the queries into fingerprints, that are the same for all the queries of the same shape: the values
+ * are replaced with placeholders, the conditions joined by {@link Condition#AND} or {@link Condition#OR} and the
+ * columns are sorted by name, and the skip is a placeholder. The sorts and the limit are kept.
+ * <p>Given:</p>
+ * <pre>
+ * {@code
+ * ColumnQuery query = ColumnQuery.select().from("Person").where("name").eq("Ada").and("age").gt(10).limit(10).build();
+ * }
+ * </pre>
+ * The fingerprint is {@code select * from Person where age > ? and name = ? limit 10}.
+ * <p>
+ * The {@link ColumnQueryFingerprint#key(ColumnQuery)} normalizes the query in the same way but keeps the values,
+ * so it is the same for the queries that return the same result.
+ */
+public final class ColumnQueryFingerprint {
+
+    private static final String PLACEHOLDER = "?";
+
+    private ColumnQueryFingerprint() {
+    }
+
+    /**
+     * Returns the fingerprint of a select query
+     *
+     * @param query the query
+     * @return the fingerprint
+     * @throws NullPointerException when query is null
+     */
+    public static String of(ColumnQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        StringBuilder fingerprint = new StringBuilder("select ").append(projection(query.columns()))
+                .append(" from ").append(query.name());
+        query.condition().ifPresent(condition -> fingerprint.append(" where ").append(condition(condition, false)));
+        if (!query.sorts().isEmpty()) {
+            fingerprint.append(" order by ").append(query.sorts().stream()
+                    .map(ColumnQueryFingerprint::sort)
+                    .collect(Collectors.joining(", ")));
+        }
+        if (query.skip() > 0) {
+            fingerprint.append(" skip ").append(PLACEHOLDER);
+        }
+        if (query.limit() > 0) {
+            fingerprint.append(" limit ").append(query.limit());
+        }
+        return fingerprint.toString();
+    }
+
+    /**
+     * Returns the canonical key of a select query, that keeps the values: the keys of two queries are equal when they
+     * differ only by the order of the conditions joined by {@link Condition#AND} or {@link Condition#OR}, the order of
+     * the columns, the fetch size or the timeout. The sorts, the skip, the limit and the other hints, such as the read
+     * preference, are kept, as they change the result.
+     *
+     * @param query the query
+     * @return the key, that implements equals and hashCode
+     * @throws NullPointerException when query is null
+     */
+    public static Object key(ColumnQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return new QueryKey(query.name(), Set.copyOf(query.columns()),
+                query.condition().map(ColumnQueryFingerprint::key).orElse(null),
+                List.copyOf(query.sorts()), query.skip(), query.limit(), hints(query.hints()));
+    }
+
+    /**
+     * Returns the fingerprint of a delete query
+     *
+     * @param query the query
+     * @return the fingerprint
+     * @throws NullPointerException when query is null
+     */
+    public static String of(ColumnDeleteQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        StringBuilder fingerprint = new StringBuilder("delete ");
+        if (!query.columns().isEmpty()) {
+            fingerprint.append(projection(query.columns())).append(' ');
+        }
+        fingerprint.append("from ").append(query.name());
+        query.condition().ifPresent(condition -> fingerprint.append(" where ").append(condition(condition, false)));
+        return fingerprint.toString();
+    }
+
+    /**
+     * Returns the fingerprint of an aggregate query, whose select list has the group by fields followed by the
+     * aggregations, as each row of its result, e.g. {@code select city, count(*) from Person group by city}.
+     *
+     * @param query the query
+     * @return the fingerprint
+     * @throws NullPointerException when query is null
+     */
+    public static String of(ColumnAggregateQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        List<String> columns = new ArrayList<>(query.groupBy());
+        query.aggregations().stream().map(Aggregation::label).forEach(columns::add);
+        StringBuilder fingerprint = new StringBuilder("select ").append(String.join(", ", columns))
+                .append(" from ").append(query.name());
+        query.condition().ifPresent(condition -> fingerprint.append(" where ").append(condition(condition, false)));
+        if (!query.groupBy().isEmpty()) {
+            fingerprint.append(" group by ").append(String.join(", ", query.groupBy()));
+        }
+        return fingerprint.toString();
+    }
+
+    /**
+     * Returns the fingerprint of a condition
+     *
+     * @param condition the condition
+     * @return the fingerprint
+     * @throws NullPointerException when condition is null
+     */
+    public static String of(ColumnCondition condition) {
+        Objects.requireNonNull(condition, "condition is required");
+        return condition(condition, false);
+    }
+
+    private static String condition(ColumnCondition condition, boolean nested) {
+        String name = condition.column().name();
+        return switch (condition.condition()) {
+            case EQUALS -> name + " = " + PLACEHOLDER;
+            case GREATER_THAN -> name + " > " + PLACEHOLDER;
+            case GREATER_EQUALS_THAN -> name + " >= " + PLACEHOLDER;
+            case LESSER_THAN -> name + " < " + PLACEHOLDER;
+            case LESSER_EQUALS_THAN -> name + " <= " + PLACEHOLDER;
+            case IN -> name + " in " + PLACEHOLDER;
+            case LIKE -> name + " like " + PLACEHOLDER;
+            case BETWEEN -> name + " between " + PLACEHOLDER + " and " + PLACEHOLDER;
+            case NOT -> negation(condition);
+            case AND -> junction(condition, " and ", nested);
+            case OR -> junction(condition, " or ", nested);
+        };
+    }
+
+    private static String negation(ColumnCondition condition) {
+        Object value = condition.column().get();
+        if (value instanceof ColumnCondition negated) {
+            return "not " + condition(negated, true);
+        }
+        return "not " + PLACEHOLDER;
+    }
+
+    private static String junction(ColumnCondition condition, String operator, boolean nested) {
+        List<String> conditions = new ArrayList<>();
+        flatten(condition, condition.condition(), conditions);
+        String fingerprint = conditions.stream().sorted().collect(Collectors.joining(operator));
+        return nested && conditions.size() > 1 ? '(' + fingerprint + ')' : fingerprint;
+    }
+
+    private static void flatten(ColumnCondition condition, Condition junction, List<String> conditions) {
+        if (condition.condition() != junction) {
+            conditions.add(condition(condition, true));
+            return;
+        }
+        if (condition.column().get() instanceof Iterable<?> iterable) {
+            for (Object value : iterable) {
+                if (value instanceof ColumnCondition child) {
+                    flatten(child, junction, conditions);
+                }
+            }
+        }
+    }
+
+    private static Object key(ColumnCondition condition) {
+        Condition operator = condition.condition();
+        Object value = condition.column().get();
+        return switch (operator) {
+            case AND, OR -> {
+                Set<Object> conditions = new HashSet<>();
+                flatten(condition, operator, conditions);
+                yield conditions.size() == 1 ? conditions.iterator().next() : new ConditionKey(operator, "", conditions);
+            }
+            case NOT -> value instanceof ColumnCondition negated ? new ConditionKey(operator, "", key(negated))
+                    : new ConditionKey(operator, condition.column().name(), value(value));
+            default -> new ConditionKey(operator, condition.column().name(), value(value));
+        };
+    }
+
+    private static void flatten(ColumnCondition condition, Condition junction, Set<Object> conditions) {
+        if (condition.condition() != junction) {
+            conditions.add(key(condition));
+            return;
+        }
+        if (condition.column().get() instanceof Iterable<?> iterable) {
+            for (Object value : iterable) {
+                if (value instanceof ColumnCondition child) {
+                    flatten(child, junction, conditions);
+                }
+            }
+        }
+    }
+
+    private static Map<String, Object> hints(QueryHints hints) {
+        Map<String, Object> values = new HashMap<>(hints.toMap());
+        values.remove(QueryHints.FETCH_SIZE);
+        values.remove(QueryHints.TIMEOUT);
+        return values;
+    }
+
+    private static Object value(Object value) {
+        if (value instanceof Object[] array) {
+            return Arrays.asList(array);
+        }
+        return value;
+    }
+
+    private static String projection(List<String> columns) {
+        if (columns.isEmpty()) {
+            return "*";
+        }
+        return columns.stream().sorted().collect(Collectors.joining(", "));
+    }
+
+    private static String sort(Sort sort) {
+        String property = sort.ignoreCase() ? "lower(" + sort.property() + ')' : sort.property();
+        return property + (sort.isAscending() ? " asc" : " desc");
+    }
+
+    private record QueryKey(String name, Set<String> columns, Object condition, List<Sort> sorts, long skip,
+                            long limit, Map<String, Object> hints) {
+    }
+
+    private record ConditionKey(Condition condition, String name, Object value) {
+    }
+}
@@ -30,6 +30,7 @@ public final class ColumnQueryParser {
     private final DeleteQueryParser delete = new DeleteQueryParser();
     private final InsertQueryParser insert = new InsertQueryParser();
     private final UpdateQueryParser update = new UpdateQueryParser();
+    private final AggregateQueryParser aggregate = new AggregateQueryParser();
 
     /**
      * Executes a query and returns the result, when the operations are <b>insert</b>, <b>update</b> and <b>select</b>
@@ -83,6 +84,22 @@ public final class ColumnQueryParser {
     }
 
 
+    /**
+     * Executes a <b>select</b> query with aggregate functions and returns a {@link ColumnEntity} per group,
+     * e.g.: {@code select city, count(*), avg(age) from Person where active = true group by city}.
+     *
+     * @param query    the query as {@link String}
+     * @param manager  the manager
+     * @param observer the observer
+     * @return the result of {@link ColumnManager#aggregate(ColumnAggregateQuery)}
+     * @throws NullPointerException when there is parameter null
+     * @throws QueryException       when there is error in the syntax or the query has parameters
+     */
+    public Stream<ColumnEntity> aggregate(String query, ColumnManager manager, ColumnObserverParser observer) {
+        validation(query, manager, observer);
+        return aggregate.query(query, manager, observer);
+    }
+
     private void validation(String query, ColumnManager manager, ColumnObserverParser observer) {
         Objects.requireNonNull(query, "query is required");
         Objects.requireNonNull(manager, "manager is required");
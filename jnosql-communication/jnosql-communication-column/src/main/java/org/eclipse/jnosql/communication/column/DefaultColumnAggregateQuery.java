@@ -0,0 +1,63 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.column;
+
+import org.eclipse.jnosql.communication.query.Aggregation;
+import org.eclipse.jnosql.communication.query.Aggregator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static java.util.Optional.ofNullable;
+
+record DefaultColumnAggregateQuery(String name, List<Aggregation> aggregations, List<String> groupBy,
+                                   ColumnCondition columnCondition) implements ColumnAggregateQuery {
+
+    @Override
+    public Optional<ColumnCondition> condition() {
+        return ofNullable(columnCondition).map(ColumnCondition::readOnly);
+    }
+
+    static ColumnQuery select(ColumnAggregateQuery query, Set<String> columns) {
+        return new DefaultColumnQuery(0, 0, query.name(), new ArrayList<>(columns),
+                Collections.emptyList(), query.condition().orElse(null));
+    }
+
+    static Stream<ColumnEntity> aggregate(ColumnAggregateQuery query, Function<ColumnQuery, Stream<ColumnEntity>> select) {
+        Aggregator aggregator = Aggregator.of(query.groupBy(), query.aggregations());
+        try (Stream<ColumnEntity> entities = select.apply(select(query, aggregator.fields()))) {
+            entities.forEach(entity -> aggregator.accept(name -> entity.find(name).map(Column::get).orElse(null)));
+        }
+        return aggregator.result().stream().map(row -> entity(query.name(), row));
+    }
+
+    static ColumnEntity entity(String name, Map<String, Object> row) {
+        ColumnEntity entity = ColumnEntity.of(name);
+        row.forEach((column, value) -> {
+            if (value == null) {
+                entity.addNull(column);
+            } else {
+                entity.add(column, value);
+            }
+        });
+        return entity;
+    }
+}
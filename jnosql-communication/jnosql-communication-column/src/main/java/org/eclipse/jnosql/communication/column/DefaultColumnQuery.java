@@ -19,6 +19,7 @@ package org.eclipse.jnosql.communication.column;
 
 
 import jakarta.data.Sort;
+import org.eclipse.jnosql.communication.QueryHints;
 
 import java.util.Collections;
 import java.util.List;
@@ -32,10 +33,16 @@ import static java.util.Optional.ofNullable;
  * The default implementation of column query.
  */
 record DefaultColumnQuery(long limit, long skip, String name,
-                          List<String> columns, List<Sort> sorts, ColumnCondition columnCondition)
+                          List<String> columns, List<Sort> sorts, ColumnCondition columnCondition,
+                          QueryHints hints)
         implements ColumnQuery {
 
 
+    DefaultColumnQuery(long limit, long skip, String name, List<String> columns, List<Sort> sorts,
+                       ColumnCondition columnCondition) {
+        this(limit, skip, name, columns, sorts, columnCondition, QueryHints.empty());
+    }
+
     @Override
     public Optional<ColumnCondition> condition() {
         return ofNullable(columnCondition).map(ColumnCondition::readOnly);
@@ -62,6 +69,7 @@ record DefaultColumnQuery(long limit, long skip, String name,
         return limit == that.limit() &&
                 skip == that.skip() &&
                 Objects.equals(name, that.name()) &&
+                Objects.equals(hints, that.hints()) &&
                 Objects.equals(columns, that.columns()) &&
                 Objects.equals(sorts, that.sorts()) &&
                 Objects.equals(columnCondition, that.condition().orElse(null));
@@ -69,17 +77,17 @@ record DefaultColumnQuery(long limit, long skip, String name,
 
     @Override
     public int hashCode() {
-        return Objects.hash(limit, skip, name, columns, sorts, columnCondition);
+        return Objects.hash(limit, skip, name, columns, sorts, columnCondition, hints);
     }
 
 
     static ColumnQuery countBy(ColumnQuery query) {
         return new DefaultColumnQuery(0, 0, query.name(), query.columns(),
-                Collections.emptyList(), query.condition().orElse(null));
+                Collections.emptyList(), query.condition().orElse(null), query.hints());
     }
 
     static ColumnQuery existsBy(ColumnQuery query) {
         return new DefaultColumnQuery(1, 0, query.name(), query.columns(),
-                Collections.emptyList(), query.condition().orElse(null));
+                Collections.emptyList(), query.condition().orElse(null), query.hints());
     }
 }
@@ -18,6 +18,7 @@ package org.eclipse.jnosql.communication.column;
 
 
 import jakarta.data.Sort;
+import org.eclipse.jnosql.communication.QueryHints;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -42,6 +43,8 @@ class DefaultColumnQueryBuilder implements ColumnQuery.ColumnQueryBuilder {
 
     private long limit;
 
+    private QueryHints hints = QueryHints.empty();
+
 
     @Override
     public ColumnQuery.ColumnQueryBuilder select(String column) {
@@ -105,13 +108,28 @@ class DefaultColumnQueryBuilder implements ColumnQuery.ColumnQueryBuilder {
         return this;
     }
 
+    @Override
+    public ColumnQuery.ColumnQueryBuilder fetchSize(int fetchSize) {
+        if (fetchSize < 0) {
+            throw new IllegalArgumentException("The fetch size should not be negative, fetchSize: " + fetchSize);
+        }
+        this.hints = hints.with(QueryHints.FETCH_SIZE, fetchSize);
+        return this;
+    }
+
+    @Override
+    public ColumnQuery.ColumnQueryBuilder hint(String key, Object value) {
+        this.hints = hints.with(key, value);
+        return this;
+    }
+
     @Override
     public ColumnQuery build() {
         if (Objects.isNull(documentCollection)) {
             throw new IllegalArgumentException("The document collection is mandatory to build");
         }
         return new DefaultColumnQuery(limit, skip, documentCollection,
-                columns, sorts, condition);
+                columns, sorts, condition, hints);
     }
 
     @Override
@@ -137,6 +155,7 @@ class DefaultColumnQueryBuilder implements ColumnQuery.ColumnQueryBuilder {
         DefaultColumnQueryBuilder that = (DefaultColumnQueryBuilder) o;
         return skip == that.skip
                 && limit == that.limit
+                && Objects.equals(hints, that.hints)
                 && Objects.equals(columns, that.columns)
                 && Objects.equals(sorts, that.sorts)
                 && Objects.equals(documentCollection, that.documentCollection)
@@ -145,7 +164,7 @@ class DefaultColumnQueryBuilder implements ColumnQuery.ColumnQueryBuilder {
 
     @Override
     public int hashCode() {
-        return Objects.hash(columns, sorts, documentCollection, condition, skip, limit);
+        return Objects.hash(columns, sorts, documentCollection, condition, skip, limit, hints);
     }
 
     @Override
@@ -157,6 +176,7 @@ class DefaultColumnQueryBuilder implements ColumnQuery.ColumnQueryBuilder {
                 ", condition=" + condition +
                 ", skip=" + skip +
                 ", limit=" + limit +
+                ", hints=" + hints +
                 '}';
     }
 }
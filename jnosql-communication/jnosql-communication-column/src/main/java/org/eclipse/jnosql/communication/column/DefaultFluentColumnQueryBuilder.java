@@ -18,6 +18,7 @@ package org.eclipse.jnosql.communication.column;
 
 
 import jakarta.data.Sort;
+import org.eclipse.jnosql.communication.QueryHints;
 import org.eclipse.jnosql.communication.column.ColumnQuery.ColumnFrom;
 import org.eclipse.jnosql.communication.column.ColumnQuery.ColumnLimit;
 import org.eclipse.jnosql.communication.column.ColumnQuery.ColumnNameCondition;
@@ -50,6 +51,8 @@ class DefaultFluentColumnQueryBuilder extends BaseQueryBuilder implements
 
     private long limit;
 
+    private QueryHints hints = QueryHints.empty();
+
     private final List<Sort> sorts = new ArrayList<>();
 
     private final List<String> columns;
@@ -187,9 +190,24 @@ class DefaultFluentColumnQueryBuilder extends BaseQueryBuilder implements
     }
 
 
+    @Override
+    public ColumnQueryBuild fetchSize(int fetchSize) {
+        if (fetchSize < 0) {
+            throw new IllegalArgumentException("The fetch size should not be negative, fetchSize: " + fetchSize);
+        }
+        this.hints = hints.with(QueryHints.FETCH_SIZE, fetchSize);
+        return this;
+    }
+
+    @Override
+    public ColumnQueryBuild hint(String key, Object value) {
+        this.hints = hints.with(key, value);
+        return this;
+    }
+
     @Override
     public ColumnQuery build() {
-        return new DefaultColumnQuery(limit, skip, columnFamily, columns, sorts, condition);
+        return new DefaultColumnQuery(limit, skip, columnFamily, columns, sorts, condition, hints);
     }
 
     @Override
@@ -0,0 +1,154 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.column;
+
+import org.eclipse.jnosql.communication.StreamPublisher;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+
+/**
+ * An {@link AsyncColumnManager} that runs each call of a blocking {@link ColumnManager} at an {@link Executor}.
+ */
+final class ExecutorAsyncColumnManager implements AsyncColumnManager {
+
+    private final ColumnManager manager;
+
+    private final Executor executor;
+
+    ExecutorAsyncColumnManager(ColumnManager manager, Executor executor) {
+        this.manager = manager;
+        this.executor = executor;
+    }
+
+    @Override
+    public String name() {
+        return manager.name();
+    }
+
+    @Override
+    public CompletionStage<ColumnEntity> insert(ColumnEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        return CompletableFuture.supplyAsync(() -> manager.insert(entity), executor);
+    }
+
+    @Override
+    public CompletionStage<ColumnEntity> insert(ColumnEntity entity, Duration ttl) {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        return CompletableFuture.supplyAsync(() -> manager.insert(entity, ttl), executor);
+    }
+
+    @Override
+    public CompletionStage<Iterable<ColumnEntity>> insert(Iterable<ColumnEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        return CompletableFuture.supplyAsync(() -> manager.insert(entities), executor);
+    }
+
+    @Override
+    public CompletionStage<Iterable<ColumnEntity>> insert(Iterable<ColumnEntity> entities, Duration ttl) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        return CompletableFuture.supplyAsync(() -> manager.insert(entities, ttl), executor);
+    }
+
+    @Override
+    public CompletionStage<ColumnEntity> update(ColumnEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        return CompletableFuture.supplyAsync(() -> manager.update(entity), executor);
+    }
+
+    @Override
+    public CompletionStage<Iterable<ColumnEntity>> update(Iterable<ColumnEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        return CompletableFuture.supplyAsync(() -> manager.update(entities), executor);
+    }
+
+    @Override
+    public CompletionStage<Iterable<ColumnEntity>> upsert(Iterable<ColumnEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        return CompletableFuture.supplyAsync(() -> manager.upsert(entities), executor);
+    }
+
+    @Override
+    public boolean isUpsertSupported() {
+        return manager.isUpsertSupported();
+    }
+
+    @Override
+    public CompletionStage<Void> delete(ColumnDeleteQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return CompletableFuture.runAsync(() -> manager.delete(query), executor);
+    }
+
+    @Override
+    public Flow.Publisher<ColumnEntity> select(ColumnQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return StreamPublisher.of(() -> manager.select(query), executor);
+    }
+
+    @Override
+    public Flow.Publisher<ColumnEntity> aggregate(ColumnAggregateQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return StreamPublisher.of(() -> manager.aggregate(query), executor);
+    }
+
+    @Override
+    public CompletionStage<Long> count(ColumnQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return CompletableFuture.supplyAsync(() -> manager.count(query), executor);
+    }
+
+    @Override
+    public CompletionStage<Boolean> exists(ColumnQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return CompletableFuture.supplyAsync(() -> manager.exists(query), executor);
+    }
+
+    @Override
+    public CompletionStage<Optional<ColumnEntity>> singleResult(ColumnQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return CompletableFuture.supplyAsync(() -> manager.singleResult(query), executor);
+    }
+
+    @Override
+    public CompletionStage<Long> count(String columnFamily) {
+        Objects.requireNonNull(columnFamily, "columnFamily is required");
+        return CompletableFuture.supplyAsync(() -> manager.count(columnFamily), executor);
+    }
+
+    @Override
+    public void close() {
+        manager.close();
+    }
+
+    @Override
+    public ColumnManager blocking() {
+        return manager;
+    }
+
+    @Override
+    public String toString() {
+        return "ExecutorAsyncColumnManager{" +
+                "manager=" + manager +
+                ", executor=" + executor +
+                '}';
+    }
+}
@@ -87,7 +87,7 @@ public final class SelectQueryParser implements BiFunction<SelectQuery, ColumnOb
         if (params.isNotEmpty()) {
             throw new QueryException("To run a query with a parameter use a PrepareStatement instead.");
         }
-        return new DefaultColumnQuery(limit, skip, columnFamily, columns, sorts, condition);
+        return new DefaultColumnQuery(limit, skip, columnFamily, columns, sorts, condition, selectQuery.hints());
     }
 
     private ColumnQuery getColumnQuery(Params params, SelectQuery selectQuery, ColumnObserverParser observer) {
@@ -104,7 +104,7 @@ public final class SelectQueryParser implements BiFunction<SelectQuery, ColumnOb
                 .map(c -> Conditions.getCondition(c, params, observer, columnFamily))
                 .orElse(null);
 
-        return new DefaultColumnQuery(limit, skip, columnFamily, columns, sorts, condition);
+        return new DefaultColumnQuery(limit, skip, columnFamily, columns, sorts, condition, selectQuery.hints());
     }
 
     private Sort toSort(Sort sort, ColumnObserverParser observer, String entity) {
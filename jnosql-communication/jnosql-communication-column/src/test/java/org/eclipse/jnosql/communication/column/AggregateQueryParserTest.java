@@ -0,0 +1,82 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.column;
+
+import org.eclipse.jnosql.communication.Condition;
+import org.eclipse.jnosql.communication.QueryException;
+import org.eclipse.jnosql.communication.query.AggregateFunction;
+import org.eclipse.jnosql.communication.query.Aggregation;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AggregateQueryParserTest {
+
+    private final ColumnQueryParser parser = new ColumnQueryParser();
+
+    private final ColumnManager manager = Mockito.mock(ColumnManager.class);
+
+    private final ColumnObserverParser observer = new ColumnObserverParser() {
+        @Override
+        public String fireEntity(String entity) {
+            return entity.toLowerCase();
+        }
+
+        @Override
+        public String fireField(String entity, String field) {
+            return "native_" + field;
+        }
+    };
+
+    @Test
+    void shouldReturnErrorWhenParameterIsNull() {
+        assertThatThrownBy(() -> parser.aggregate(null, manager, observer)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> parser.aggregate("select count(*) from God", null, observer))
+                .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> parser.aggregate("select count(*) from God", manager, null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void shouldAggregate() {
+        parser.aggregate("select city, count(*), sum(salary) from Person where age > 10 group by city", manager, observer);
+
+        ArgumentCaptor<ColumnAggregateQuery> captor = ArgumentCaptor.forClass(ColumnAggregateQuery.class);
+        Mockito.verify(manager).aggregate(captor.capture());
+        ColumnAggregateQuery query = captor.getValue();
+        assertThat(query.name()).isEqualTo("person");
+        assertThat(query.aggregations()).containsExactly(Aggregation.count(),
+                Aggregation.of(AggregateFunction.SUM, "native_salary"));
+        assertThat(query.groupBy()).containsExactly("native_city");
+        ColumnCondition condition = query.condition().orElseThrow();
+        assertThat(condition.condition()).isEqualTo(Condition.GREATER_THAN);
+        assertThat(condition.column().name()).isEqualTo("native_age");
+    }
+
+    @Test
+    void shouldReturnErrorWhenThereIsParameter() {
+        assertThatThrownBy(() -> parser.aggregate("select count(*) from Person where age > @age", manager, observer))
+                .isInstanceOf(QueryException.class);
+    }
+
+    @Test
+    void shouldReturnErrorWhenSelectHasAggregation() {
+        assertThatThrownBy(() -> parser.query("select count(*) from Person", manager, observer))
+                .isInstanceOf(QueryException.class);
+    }
+}
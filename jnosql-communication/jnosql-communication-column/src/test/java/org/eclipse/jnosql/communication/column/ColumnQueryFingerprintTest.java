@@ -0,0 +1,157 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.column;
+
+import jakarta.data.Direction;
+import jakarta.data.Sort;
+import org.eclipse.jnosql.communication.QueryHints;
+import org.eclipse.jnosql.communication.query.AggregateFunction;
+import org.eclipse.jnosql.communication.query.Aggregation;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+class ColumnQueryFingerprintTest {
+
+    @Test
+    void shouldReturnErrorWhenParameterIsNull() {
+        assertThatNullPointerException().isThrownBy(() -> ColumnQueryFingerprint.of((ColumnQuery) null));
+        assertThatNullPointerException().isThrownBy(() -> ColumnQueryFingerprint.of((ColumnDeleteQuery) null));
+        assertThatNullPointerException().isThrownBy(() -> ColumnQueryFingerprint.of((ColumnAggregateQuery) null));
+        assertThatNullPointerException().isThrownBy(() -> ColumnQueryFingerprint.of((ColumnCondition) null));
+        assertThatNullPointerException().isThrownBy(() -> ColumnQueryFingerprint.key(null));
+    }
+
+    @Test
+    void shouldReturnSelectFingerprint() {
+        ColumnQuery query = ColumnQuery.select("name", "age").from("Person")
+                .where("name").eq("Ada").and("age").gt(10)
+                .orderBy("name").asc().orderBy("age").desc()
+                .skip(20).limit(10).build();
+
+        assertThat(ColumnQueryFingerprint.of(query))
+                .isEqualTo("select age, name from Person where age > ? and name = ? order by name asc, age desc skip ? limit 10");
+    }
+
+    @Test
+    void shouldReplaceValues() {
+        ColumnQuery ada = ColumnQuery.select().from("Person").where("name").eq("Ada").build();
+        ColumnQuery grace = ColumnQuery.select().from("Person").where("name").eq("Grace").build();
+
+        assertThat(ColumnQueryFingerprint.of(ada)).isEqualTo(ColumnQueryFingerprint.of(grace))
+                .isEqualTo("select * from Person where name = ?");
+    }
+
+    @Test
+    void shouldIgnoreTheOrderOfTheConditions() {
+        ColumnQuery first = ColumnQuery.select().from("Person").where("name").eq("Ada").and("age").gt(10).build();
+        ColumnQuery second = ColumnQuery.select().from("Person").where("age").gt(20).and("name").eq("Grace").build();
+
+        assertThat(ColumnQueryFingerprint.of(first)).isEqualTo(ColumnQueryFingerprint.of(second));
+    }
+
+    @Test
+    void shouldKeepTheStructureOfTheConditions() {
+        ColumnCondition condition = ColumnCondition.and(
+                ColumnCondition.eq("name", "Ada"),
+                ColumnCondition.and(ColumnCondition.lte("age", 10), ColumnCondition.gte("age", 5)),
+                ColumnCondition.or(ColumnCondition.in("city", List.of("Paris", "Rome")),
+                        ColumnCondition.like("city", "Lon%")),
+                ColumnCondition.eq("active", true).negate(),
+                ColumnCondition.between("age", List.of(1, 2)),
+                ColumnCondition.lt("age", 100));
+
+        assertThat(ColumnQueryFingerprint.of(condition)).isEqualTo("(city in ? or city like ?) and age < ? and age <= ?"
+                + " and age >= ? and age between ? and ? and name = ? and not active = ?");
+    }
+
+    @Test
+    void shouldKeepTheSortsAndTheLimit() {
+        ColumnQuery first = ColumnQuery.builder().from("Person").sort(Sort.of("name", Direction.ASC, true))
+                .limit(10).build();
+        ColumnQuery second = ColumnQuery.builder().from("Person").sort(Sort.desc("name")).limit(100).build();
+
+        assertThat(ColumnQueryFingerprint.of(first)).isEqualTo("select * from Person order by lower(name) asc limit 10");
+        assertThat(ColumnQueryFingerprint.of(second)).isEqualTo("select * from Person order by name desc limit 100");
+    }
+
+    @Test
+    void shouldReturnDeleteFingerprint() {
+        ColumnDeleteQuery all = ColumnDeleteQuery.delete().from("Person").build();
+        ColumnDeleteQuery query = ColumnDeleteQuery.delete("name").from("Person").where("age").lt(10).build();
+
+        assertThat(ColumnQueryFingerprint.of(all)).isEqualTo("delete from Person");
+        assertThat(ColumnQueryFingerprint.of(query)).isEqualTo("delete name from Person where age < ?");
+    }
+
+    @Test
+    void shouldReturnAggregateFingerprint() {
+        ColumnAggregateQuery query = ColumnAggregateQuery.of("Person",
+                List.of(Aggregation.count(), Aggregation.of(AggregateFunction.SUM, "age")), List.of("city"),
+                ColumnCondition.eq("name", "Ada"));
+
+        assertThat(ColumnQueryFingerprint.of(query))
+                .isEqualTo("select city, count(*), sum(age) from Person where name = ? group by city");
+    }
+
+    @Test
+    void shouldKeepTheGroupByFieldsInTheAggregateFingerprint() {
+        ColumnAggregateQuery byCity = ColumnAggregateQuery.of("Person", List.of(Aggregation.count()), List.of("city"), null);
+        ColumnAggregateQuery byCountry = ColumnAggregateQuery.of("Person", List.of(Aggregation.count()), List.of("country"), null);
+        ColumnAggregateQuery all = ColumnAggregateQuery.of("Person", List.of(Aggregation.count()), List.of(), null);
+
+        assertThat(ColumnQueryFingerprint.of(byCity)).isEqualTo("select city, count(*) from Person group by city");
+        assertThat(ColumnQueryFingerprint.of(byCountry)).isEqualTo("select country, count(*) from Person group by country");
+        assertThat(ColumnQueryFingerprint.of(all)).isEqualTo("select count(*) from Person");
+    }
+
+    @Test
+    void shouldReturnTheSameKeyRegardlessOfTheConditionOrder() {
+        ColumnQuery first = ColumnQuery.select("name", "age").from("Person")
+                .where("name").eq("Ada").and("age").gt(10).and("city").eq("London").limit(10).build();
+        ColumnQuery second = ColumnQuery.select("age", "name").from("Person")
+                .where("city").eq("London").and("age").gt(10).and("name").eq("Ada").limit(10)
+                .fetchSize(100).hint(QueryHints.TIMEOUT, "PT1S").build();
+
+        assertThat(ColumnQueryFingerprint.key(first)).isEqualTo(ColumnQueryFingerprint.key(second))
+                .hasSameHashCodeAs(ColumnQueryFingerprint.key(second));
+    }
+
+    @Test
+    void shouldKeepTheValuesAtTheKey() {
+        ColumnQuery ada = ColumnQuery.select().from("Person").where("name").eq("Ada").or("age").gt(10).build();
+        ColumnQuery grace = ColumnQuery.select().from("Person").where("name").eq("Grace").or("age").gt(10).build();
+        ColumnQuery and = ColumnQuery.select().from("Person").where("name").eq("Ada").and("age").gt(10).build();
+
+        assertThat(ColumnQueryFingerprint.key(ada)).isNotEqualTo(ColumnQueryFingerprint.key(grace))
+                .isNotEqualTo(ColumnQueryFingerprint.key(and));
+    }
+
+    @Test
+    void shouldKeepTheSortsTheLimitAndTheReadHintsAtTheKey() {
+        ColumnQuery query = ColumnQuery.select().from("Person").where("name").eq("Ada").build();
+        ColumnQuery sorted = ColumnQuery.select().from("Person").where("name").eq("Ada").orderBy("age").asc().build();
+        ColumnQuery limited = ColumnQuery.select().from("Person").where("name").eq("Ada").limit(1).build();
+        ColumnQuery secondary = ColumnQuery.select().from("Person").where("name").eq("Ada")
+                .hint(QueryHints.READ_PREFERENCE, "secondary").build();
+
+        assertThat(ColumnQueryFingerprint.key(query)).isNotEqualTo(ColumnQueryFingerprint.key(sorted))
+                .isNotEqualTo(ColumnQueryFingerprint.key(limited))
+                .isNotEqualTo(ColumnQueryFingerprint.key(secondary));
+    }
+}
@@ -19,11 +19,13 @@ package org.eclipse.jnosql.communication.column;
 import org.eclipse.jnosql.communication.Condition;
 import jakarta.data.Sort;
 import org.eclipse.jnosql.communication.TypeReference;
+import org.eclipse.jnosql.communication.QueryHints;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -110,6 +112,29 @@ class DefaultColumnQueryBuilderTest {
         Assertions.assertThrows(IllegalArgumentException.class, () -> builder().from(documentCollection).limit(-1));
     }
 
+    @Test
+    void shouldSelectFetchSize() {
+        String documentCollection = "documentCollection";
+        ColumnQuery query = builder().from(documentCollection).fetchSize(500).build();
+        assertEquals(documentCollection, query.name());
+        assertEquals(500, query.fetchSize());
+        assertEquals(0, builder().from(documentCollection).build().fetchSize());
+    }
+
+    @Test
+    void shouldDefineHints() {
+        ColumnQuery query = builder().from("documentCollection").fetchSize(100).hint(QueryHints.CONSISTENCY_LEVEL, "quorum").build();
+        assertEquals(100, query.fetchSize());
+        assertEquals("quorum", query.hints().consistencyLevel().orElseThrow());
+        Assertions.assertThrows(NullPointerException.class, () -> builder().hint(QueryHints.TIMEOUT, null));
+    }
+
+    @Test
+    void shouldReturnErrorWhenFetchSizeIsNegative() {
+        String documentCollection = "documentCollection";
+        Assertions.assertThrows(IllegalArgumentException.class, () -> builder().from(documentCollection).fetchSize(-1));
+    }
+
     @Test
     void shouldSelectSkip() {
         String documentCollection = "documentCollection";
@@ -20,11 +20,13 @@ import org.eclipse.jnosql.communication.Condition;
 import jakarta.data.Sort;
 import jakarta.data.Direction;
 import org.eclipse.jnosql.communication.TypeReference;
+import org.eclipse.jnosql.communication.QueryHints;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -114,6 +116,33 @@ class DefaultSelectQueryBuilderTest {
         Assertions.assertThrows(IllegalArgumentException.class, () -> builder().from(columnFamily).limit(-1));
     }
 
+    @Test
+    void shouldSelectFetchSize() {
+        String columnFamily = "columnFamily";
+        ColumnQuery query = select().from(columnFamily).where("name").eq("Ada").fetchSize(500).build();
+        assertEquals(columnFamily, query.name());
+        assertEquals(500, query.fetchSize());
+        assertEquals(0, select().from(columnFamily).build().fetchSize());
+    }
+
+    @Test
+    void shouldSelectHints() {
+        String columnFamily = "columnFamily";
+        ColumnQuery query = select().from(columnFamily).fetchSize(100).hint(QueryHints.TIMEOUT, Duration.ofSeconds(1))
+                .hint("driver.option", true).build();
+        assertEquals(100, query.fetchSize());
+        assertEquals(Duration.ofSeconds(1), query.hints().timeout().orElseThrow());
+        assertEquals(true, query.hints().get("driver.option").orElseThrow());
+        assertEquals(QueryHints.empty(), select().from(columnFamily).build().hints());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> select().from(columnFamily).hint(QueryHints.FETCH_SIZE, -1));
+    }
+
+    @Test
+    void shouldReturnErrorWhenFetchSizeIsNegative() {
+        String columnFamily = "columnFamily";
+        Assertions.assertThrows(IllegalArgumentException.class, () -> select().from(columnFamily).fetchSize(-1));
+    }
+
     @Test
     void shouldSelectSkip() {
         String columnFamily = "columnFamily";
@@ -19,6 +19,7 @@ package org.eclipse.jnosql.communication.column;
 import org.assertj.core.api.Assertions;
 import org.eclipse.jnosql.communication.Condition;
 import org.eclipse.jnosql.communication.QueryException;
+import org.eclipse.jnosql.communication.QueryHints;
 import jakarta.data.Sort;
 import jakarta.data.Direction;
 import org.eclipse.jnosql.communication.TypeReference;
@@ -28,6 +29,7 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 
@@ -505,4 +507,19 @@ class SelectQueryParserTest {
         assertEquals(skip, columnQuery.skip());
         assertEquals("God", columnQuery.name());
     }
+
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"select * from God limit 10 hints(fetch-size = 200, timeout = 1500, read-preference = 'nearest')"})
+    void shouldReturnParserQueryWithHints(String query) {
+        ArgumentCaptor<DefaultColumnQuery> captor = ArgumentCaptor.forClass(DefaultColumnQuery.class);
+        parser.query(query, manager, observer);
+        Mockito.verify(manager).select(captor.capture());
+        DefaultColumnQuery columnQuery = captor.getValue();
+
+        assertEquals(10L, columnQuery.limit());
+        assertEquals(200, columnQuery.fetchSize());
+        QueryHints hints = columnQuery.hints();
+        assertThat(hints.timeout()).contains(Duration.ofMillis(1500));
+        assertThat(hints.readPreference()).contains("nearest");
+    }
 }
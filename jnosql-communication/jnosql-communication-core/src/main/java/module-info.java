@@ -17,10 +17,13 @@
 module org.eclipse.jnosql.communication.core {
     requires microprofile.config.api;
     requires jakarta.json;
+    requires java.logging;
+    requires jdk.jfr;
     exports org.eclipse.jnosql.communication;
     opens org.eclipse.jnosql.communication;
     opens org.eclipse.jnosql.communication.reader;
     opens org.eclipse.jnosql.communication.writer;
+    uses org.eclipse.jnosql.communication.Instrumentation;
     uses org.eclipse.jnosql.communication.TypeReferenceReader;
     uses org.eclipse.jnosql.communication.ValueReader;
     uses org.eclipse.jnosql.communication.ValueWriter;
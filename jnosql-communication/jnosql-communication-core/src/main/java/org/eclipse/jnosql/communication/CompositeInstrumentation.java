@@ -0,0 +1,63 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * An {@link Instrumentation} that reports each operation to several ones.
+ */
+record CompositeInstrumentation(List<Instrumentation> instrumentations) implements Instrumentation {
+
+    @Override
+    public Measurement start(String provider, String operation, String entity) {
+        List<Measurement> measurements = instrumentations.stream()
+                .map(instrumentation -> instrumentation.start(provider, operation, entity))
+                .toList();
+        return new CompositeMeasurement(measurements);
+    }
+
+    @Override
+    public Measurement start(String provider, String operation, String entity, Supplier<String> query) {
+        List<Measurement> measurements = instrumentations.stream()
+                .map(instrumentation -> instrumentation.start(provider, operation, entity, query))
+                .toList();
+        return new CompositeMeasurement(measurements);
+    }
+
+    private record CompositeMeasurement(List<Measurement> measurements) implements Measurement {
+
+        @Override
+        public void rows(long rows) {
+            measurements.forEach(measurement -> measurement.rows(rows));
+        }
+
+        @Override
+        public void read(long rows) {
+            measurements.forEach(measurement -> measurement.read(rows));
+        }
+
+        @Override
+        public void error(Throwable error) {
+            measurements.forEach(measurement -> measurement.error(error));
+        }
+
+        @Override
+        public void close() {
+            measurements.forEach(Measurement::close);
+        }
+    }
+}
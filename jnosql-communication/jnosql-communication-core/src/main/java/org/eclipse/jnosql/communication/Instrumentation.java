@@ -0,0 +1,112 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.ServiceLoader;
+import java.util.function.Supplier;
+
+/**
+ * The SPI that receives the latency, the row count and the errors of the database operations, e.g. to publish them
+ * as metrics or tracing spans. Each operation is tagged by the provider of its {@code DatabaseQualifier},
+ * the operation type, e.g. {@code insert} or {@code select}, and the entity, e.g. the document collection
+ * or the column family.
+ * <p>
+ * The implementations are loaded through the {@link ServiceLoader}. When there is none, {@link Instrumentation#get()}
+ * returns {@link Instrumentation#noop()}, and the managers are not decorated at all.
+ *
+ * @see Measurement
+ * @see SlowQueryLog
+ */
+public interface Instrumentation {
+
+    /**
+     * Starts the measurement of an operation, that the caller closes when the operation ends.
+     *
+     * @param provider  the provider of the database, empty for the default one
+     * @param operation the operation type
+     * @param entity    the entity, empty when it is unknown
+     * @return the measurement of the operation
+     */
+    Measurement start(String provider, String operation, String entity);
+
+    /**
+     * Starts the measurement of a query, that the caller closes when the query ends. The query is the fingerprint
+     * of its shape, without any value, that is only built when an instrumentation reads it.
+     * By default, it ignores the query and calls {@link Instrumentation#start(String, String, String)}.
+     *
+     * @param provider  the provider of the database, empty for the default one
+     * @param operation the operation type
+     * @param entity    the entity, empty when it is unknown
+     * @param query     the supplier of the query fingerprint
+     * @return the measurement of the query
+     */
+    default Measurement start(String provider, String operation, String entity, Supplier<String> query) {
+        return start(provider, operation, entity);
+    }
+
+    /**
+     * Returns the instrumentation that records nothing and allocates nothing
+     *
+     * @return the no-op instance
+     */
+    static Instrumentation noop() {
+        return NoopInstrumentation.INSTANCE;
+    }
+
+    /**
+     * Returns the instrumentation that records each operation as a JDK Flight Recorder event named
+     * {@code org.eclipse.jnosql.Manager}. It costs nothing while no recording enables the event.
+     *
+     * @return the JDK Flight Recorder instance
+     */
+    static Instrumentation jfr() {
+        return JfrInstrumentation.INSTANCE;
+    }
+
+    /**
+     * Returns the instrumentation of the implementations at the {@link ServiceLoader}: {@link Instrumentation#noop()}
+     * when there is none, and one that reports to all of them when there are many.
+     *
+     * @return the {@link Instrumentation} instance
+     */
+    static Instrumentation get() {
+        List<Instrumentation> instrumentations = ServiceLoader.load(Instrumentation.class).stream()
+                .map(ServiceLoader.Provider::get)
+                .toList();
+        return of(instrumentations);
+    }
+
+    /**
+     * Returns the instrumentation that reports to all the informed ones
+     *
+     * @param instrumentations the instrumentations
+     * @return the {@link Instrumentation} instance
+     * @throws NullPointerException when instrumentations is null
+     */
+    static Instrumentation of(List<Instrumentation> instrumentations) {
+        Objects.requireNonNull(instrumentations, "instrumentations is required");
+        List<Instrumentation> enabled = instrumentations.stream()
+                .filter(instrumentation -> instrumentation != NoopInstrumentation.INSTANCE)
+                .toList();
+        if (enabled.isEmpty()) {
+            return noop();
+        } else if (enabled.size() == 1) {
+            return enabled.get(0);
+        }
+        return new CompositeInstrumentation(enabled);
+    }
+}
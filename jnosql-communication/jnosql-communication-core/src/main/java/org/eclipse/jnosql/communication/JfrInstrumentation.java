@@ -0,0 +1,38 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication;
+
+import jdk.jfr.EventType;
+
+/**
+ * The {@link Instrumentation} that records each operation as a {@link ManagerEvent}. While no recording enables
+ * the event, it returns the {@link Instrumentation#noop()} measurement.
+ */
+enum JfrInstrumentation implements Instrumentation {
+
+    INSTANCE;
+
+    private static final EventType TYPE = EventType.getEventType(ManagerEvent.class);
+
+    @Override
+    public Measurement start(String provider, String operation, String entity) {
+        if (!TYPE.isEnabled()) {
+            return NoopInstrumentation.INSTANCE;
+        }
+        ManagerEvent event = new ManagerEvent(provider, operation, entity);
+        event.begin();
+        return event;
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The JDK Flight Recorder event of a manager operation, that is also its {@link Measurement}.
+ */
+@Name("org.eclipse.jnosql.Manager")
+@Label("Manager Operation")
+@Category({"JNoSQL", "Communication"})
+@Description("An operation of a DocumentManager, ColumnManager or BucketManager at the database")
+final class ManagerEvent extends Event implements Measurement {
+
+    @Label("Provider")
+    private String provider;
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Entity")
+    @Description("The document collection, the column family or the bucket")
+    private String entity;
+
+    @Label("Rows")
+    @Description("The rows written or counted; the rows that the caller reads from a select are not known yet when it ends")
+    private long rows;
+
+    @Label("Error")
+    private String error;
+
+    ManagerEvent(String provider, String operation, String entity) {
+        this.provider = provider;
+        this.operation = operation;
+        this.entity = entity;
+    }
+
+    @Override
+    public void rows(long rows) {
+        this.rows = rows;
+    }
+
+    @Override
+    public void error(Throwable error) {
+        this.error = error.getClass().getName();
+    }
+
+    @Override
+    public void close() {
+        end();
+        if (shouldCommit()) {
+            commit();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication;
+
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A {@link Spliterator} that ends the {@link Measurement} once, at the first element or when there are no more
+ * elements, the stream fails or it is closed before that, and reports the elements that the caller read when there
+ * are no more elements or the stream is closed.
+ *
+ * @param <T> the element type
+ */
+final class MeasuredSpliterator<T> implements Spliterator<T> {
+
+    private final Spliterator<T> delegate;
+
+    private final Measurement measurement;
+
+    private final AtomicBoolean measured = new AtomicBoolean();
+
+    private final AtomicBoolean finished = new AtomicBoolean();
+
+    private long rows;
+
+    private MeasuredSpliterator(Spliterator<T> delegate, Measurement measurement) {
+        this.delegate = delegate;
+        this.measurement = measurement;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        boolean advanced;
+        try {
+            advanced = delegate.tryAdvance(element -> {
+                rows++;
+                measured();
+                action.accept(element);
+            });
+        } catch (RuntimeException | Error exception) {
+            if (!measured.get()) {
+                measurement.error(exception);
+            }
+            finish();
+            throw exception;
+        }
+        if (!advanced) {
+            finish();
+        }
+        return advanced;
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        return null;
+    }
+
+    @Override
+    public long estimateSize() {
+        return delegate.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+        return delegate.characteristics() & ~(SIZED | SUBSIZED);
+    }
+
+    private void measured() {
+        if (measured.compareAndSet(false, true)) {
+            measurement.close();
+        }
+    }
+
+    void finish() {
+        measured();
+        if (finished.compareAndSet(false, true)) {
+            measurement.read(rows);
+        }
+    }
+
+    static <T> Stream<T> stream(Stream<T> stream, Measurement measurement) {
+        MeasuredSpliterator<T> spliterator = new MeasuredSpliterator<>(stream.spliterator(), measurement);
+        return StreamSupport.stream(spliterator, false).onClose(() -> {
+            try {
+                stream.close();
+            } finally {
+                spliterator.finish();
+            }
+        });
+    }
+}
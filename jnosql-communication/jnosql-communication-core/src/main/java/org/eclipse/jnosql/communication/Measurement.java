@@ -0,0 +1,74 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication;
+
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * The measurement of a single operation, started by {@link Instrumentation#start(String, String, String)}.
+ * The caller reports the rows and the error, if any, and closes it when the operation ends. The measurement of a
+ * stream, see {@link Measurement#track(Stream)}, ends when the database returns the first row and reports the rows
+ * that the caller read later, by {@link Measurement#read(long)}.
+ */
+public interface Measurement extends AutoCloseable {
+
+    /**
+     * Reports how many rows the operation read or wrote
+     *
+     * @param rows the number of rows
+     */
+    void rows(long rows);
+
+    /**
+     * Reports how many rows the caller read from the stream of the operation, after the measurement is closed.
+     * It is called once, when the caller reads the whole stream or closes it, and never when the caller does neither.
+     * By default, it does nothing.
+     *
+     * @param rows the number of rows
+     */
+    default void read(long rows) {
+    }
+
+    /**
+     * Reports that the operation failed
+     *
+     * @param error the failure
+     */
+    void error(Throwable error);
+
+    /**
+     * Ends the measurement
+     */
+    @Override
+    void close();
+
+    /**
+     * Returns a stream that ends this measurement when the database returns the first row, or when the stream is
+     * exhausted, fails or is closed before that, so the latency covers neither the work of the caller on each row nor
+     * a stream that the caller never finishes, e.g. with {@code findFirst}. The failures thrown before the first row
+     * are reported by {@link Measurement#error(Throwable)}, the later ones only reach the caller. The rows that the
+     * caller read are reported by {@link Measurement#read(long)} when the stream is exhausted or closed.
+     *
+     * @param stream the result of the operation
+     * @param <T>    the entity type
+     * @return the stream that reports to this measurement
+     * @throws NullPointerException when stream is null
+     */
+    default <T> Stream<T> track(Stream<T> stream) {
+        Objects.requireNonNull(stream, "stream is required");
+        return MeasuredSpliterator.stream(stream, this);
+    }
+}
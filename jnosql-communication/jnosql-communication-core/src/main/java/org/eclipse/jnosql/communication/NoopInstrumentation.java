@@ -0,0 +1,48 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication;
+
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * The {@link Instrumentation} and {@link Measurement} that record nothing, so a measurement costs no allocation.
+ */
+enum NoopInstrumentation implements Instrumentation, Measurement {
+
+    INSTANCE;
+
+    @Override
+    public Measurement start(String provider, String operation, String entity) {
+        return this;
+    }
+
+    @Override
+    public void rows(long rows) {
+    }
+
+    @Override
+    public void error(Throwable error) {
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public <T> Stream<T> track(Stream<T> stream) {
+        return Objects.requireNonNull(stream, "stream is required");
+    }
+}
@@ -58,8 +58,22 @@ public final class Params {
      * @param value the value
      */
     public void bind(String name, Object value) {
-        parameters.stream().filter(p -> p.getName().startsWith(name)).forEach(p -> p.setValue(value));
+        for (ParamValue parameter : parameters) {
+            if (parameter.getName().startsWith(name)) {
+                parameter.setValue(value);
+            }
+        }
+    }
 
+    /**
+     * set the value from the position of the param, in the order it was added
+     *
+     * @param index the position of the param
+     * @param value the value
+     * @throws IndexOutOfBoundsException when the index is out of range
+     */
+    public void bind(int index, Object value) {
+        parameters.get(index).setValue(value);
     }
 
     /**
@@ -68,11 +82,21 @@ public final class Params {
      * @param value the value
      */
     public void prefix(String name, Object value) {
-        parameters.stream().filter(p -> {
-            int lastIndex = p.getName().lastIndexOf('_') == -1 ? p.getName().length() : p.getName().lastIndexOf('_');
-            String fieldName = p.getName().substring(0, lastIndex);
-            return fieldName.equals(name);
-        }).forEach(p -> p.setValue(value));
+        for (ParamValue parameter : parameters) {
+            String parameterName = parameter.getName();
+            int lastIndex = parameterName.lastIndexOf('_');
+            int length = lastIndex == -1 ? parameterName.length() : lastIndex;
+            if (length == name.length() && parameterName.startsWith(name)) {
+                parameter.setValue(value);
+            }
+        }
+    }
+
+    /**
+     * @return the number of params
+     */
+    public int size() {
+        return parameters.size();
     }
 
     /**
@@ -0,0 +1,169 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads a {@link Flow.Publisher} as a blocking {@link Stream}, the inverse of {@link StreamPublisher}.
+ * The stream subscribes at the first read and requests one element at a time, so it never holds more than
+ * what was already emitted; closing the stream cancels the subscription.
+ */
+public final class PublisherStream {
+
+    private PublisherStream() {
+    }
+
+    /**
+     * Creates a {@link Stream} that reads the publisher, waiting at the calling thread for each element.
+     * An error signal is rethrown when it is a {@link RuntimeException} or an {@link Error},
+     * otherwise it is wrapped in a {@link CommunicationException}.
+     *
+     * @param publisher the publisher
+     * @param <T>       the element type
+     * @return a {@link Stream} instance
+     * @throws NullPointerException when publisher is null
+     */
+    public static <T> Stream<T> of(Flow.Publisher<T> publisher) {
+        Objects.requireNonNull(publisher, "publisher is required");
+        BlockingSubscriber<T> subscriber = new BlockingSubscriber<>(publisher);
+        Spliterator<T> spliterator = Spliterators.spliteratorUnknownSize(subscriber,
+                Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false).onClose(subscriber::cancel);
+    }
+
+    private static final class BlockingSubscriber<T> implements Flow.Subscriber<T>, Iterator<T> {
+
+        private static final Object COMPLETE = new Object();
+
+        private final Flow.Publisher<T> publisher;
+
+        private final BlockingQueue<Object> signals = new LinkedBlockingQueue<>();
+
+        private volatile Flow.Subscription subscription;
+
+        private boolean subscribed;
+
+        private boolean finished;
+
+        private Object next;
+
+        private BlockingSubscriber(Flow.Publisher<T> publisher) {
+            this.publisher = publisher;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            if (this.subscription != null) {
+                subscription.cancel();
+                return;
+            }
+            this.subscription = subscription;
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(T item) {
+            signals.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            signals.add(new Failure(throwable));
+        }
+
+        @Override
+        public void onComplete() {
+            signals.add(COMPLETE);
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (finished) {
+                return false;
+            }
+            if (next == null) {
+                if (!subscribed) {
+                    subscribed = true;
+                    publisher.subscribe(this);
+                }
+                next = take();
+            }
+            if (next == COMPLETE) {
+                finished = true;
+                next = null;
+                return false;
+            }
+            if (next instanceof Failure failure) {
+                finished = true;
+                next = null;
+                throw failure.rethrow();
+            }
+            return true;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("The publisher has no more elements");
+            }
+            T item = (T) next;
+            next = null;
+            subscription.request(1);
+            return item;
+        }
+
+        private Object take() {
+            try {
+                return signals.take();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                cancel();
+                throw new CommunicationException("Interrupted while waiting for the publisher", exception);
+            }
+        }
+
+        private void cancel() {
+            Flow.Subscription current = this.subscription;
+            if (current != null && !finished) {
+                current.cancel();
+            }
+            finished = true;
+        }
+    }
+
+    private record Failure(Throwable error) {
+
+        RuntimeException rethrow() {
+            if (error instanceof RuntimeException exception) {
+                return exception;
+            }
+            if (error instanceof Error exception) {
+                throw exception;
+            }
+            return new CommunicationException("The publisher signaled an error", error);
+        }
+    }
+}
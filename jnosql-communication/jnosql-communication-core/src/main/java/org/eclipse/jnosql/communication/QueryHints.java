@@ -0,0 +1,265 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication;
+
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * The hints a query sends to the driver, such as how many entities to fetch at each round trip or how long the
+ * query might run. The hints do not change the result of a query, so a driver that does not support a hint ignores it.
+ * Besides the well-known keys at this class, a driver might read its own keys, e.g. {@code mongodb.allow-disk-use}.
+ * This class is immutable, {@link QueryHints#with(String, Object)} returns a new instance.
+ *
+ * <pre>{@code
+ * QueryHints hints = QueryHints.empty()
+ *         .with(QueryHints.FETCH_SIZE, 500)
+ *         .with(QueryHints.TIMEOUT, Duration.ofSeconds(2));
+ * }</pre>
+ */
+public final class QueryHints {
+
+    /**
+     * The number of entities the driver should fetch at each round trip, the value is a non-negative {@link Integer}
+     * where zero means the driver default.
+     */
+    public static final String FETCH_SIZE = "fetch-size";
+
+    /**
+     * The time budget of the query, the value is a non-negative {@link Duration}. A number or a text with only digits
+     * is read as milliseconds and any other text as an ISO-8601 duration, e.g. {@code PT2S}.
+     */
+    public static final String TIMEOUT = "timeout";
+
+    /**
+     * From which members the driver should read, e.g. {@code primary} or {@code nearest}.
+     */
+    public static final String READ_PREFERENCE = "read-preference";
+
+    /**
+     * The consistency level of the read, e.g. {@code quorum} or {@code one}.
+     */
+    public static final String CONSISTENCY_LEVEL = "consistency-level";
+
+    private static final QueryHints EMPTY = new QueryHints(Collections.emptyMap());
+
+    private final Map<String, Object> hints;
+
+    private QueryHints(Map<String, Object> hints) {
+        this.hints = hints;
+    }
+
+    /**
+     * Returns the value of a hint
+     *
+     * @param key the hint key
+     * @return the value otherwise {@link Optional#empty()}
+     * @throws NullPointerException when key is null
+     */
+    public Optional<Object> get(String key) {
+        Objects.requireNonNull(key, "key is required");
+        return Optional.ofNullable(hints.get(key));
+    }
+
+    /**
+     * Returns the value of a hint converted by {@link Value#get(Class)}
+     *
+     * @param key  the hint key
+     * @param type the type to convert the value
+     * @param <T>  the type
+     * @return the value otherwise {@link Optional#empty()}
+     * @throws NullPointerException when there are null parameters
+     */
+    public <T> Optional<T> get(String key, Class<T> type) {
+        Objects.requireNonNull(type, "type is required");
+        return get(key).map(v -> Value.of(v).get(type));
+    }
+
+    /**
+     * @return the {@link QueryHints#FETCH_SIZE} hint, zero when it is not defined
+     */
+    public int fetchSize() {
+        Object value = hints.get(FETCH_SIZE);
+        return value == null ? 0 : (Integer) value;
+    }
+
+    /**
+     * @return the {@link QueryHints#TIMEOUT} hint
+     */
+    public Optional<Duration> timeout() {
+        return Optional.ofNullable((Duration) hints.get(TIMEOUT));
+    }
+
+    /**
+     * @return the {@link QueryHints#READ_PREFERENCE} hint
+     */
+    public Optional<String> readPreference() {
+        return get(READ_PREFERENCE).map(Object::toString);
+    }
+
+    /**
+     * @return the {@link QueryHints#CONSISTENCY_LEVEL} hint
+     */
+    public Optional<String> consistencyLevel() {
+        return get(CONSISTENCY_LEVEL).map(Object::toString);
+    }
+
+    /**
+     * Returns a copy of this instance with the hint, it replaces the current value of the key.
+     * The values of the well-known keys are converted, so {@link QueryHints#FETCH_SIZE} is always an {@link Integer}
+     * and {@link QueryHints#TIMEOUT} is always a {@link Duration}.
+     *
+     * @param key   the hint key
+     * @param value the hint value
+     * @return a new {@link QueryHints} instance
+     * @throws NullPointerException     when there are null parameters
+     * @throws IllegalArgumentException when the value of a well-known key is either invalid or negative
+     */
+    public QueryHints with(String key, Object value) {
+        Objects.requireNonNull(key, "key is required");
+        Objects.requireNonNull(value, "value is required");
+        Map<String, Object> copy = new LinkedHashMap<>(hints);
+        copy.put(key, convert(key, value));
+        return new QueryHints(Collections.unmodifiableMap(copy));
+    }
+
+    /**
+     * Returns a copy of this instance with the hints of both, the hints informed replace the current ones.
+     *
+     * @param hints the hints
+     * @return a new {@link QueryHints} instance
+     * @throws NullPointerException when hints is null
+     */
+    public QueryHints with(QueryHints hints) {
+        Objects.requireNonNull(hints, "hints is required");
+        if (hints.isEmpty()) {
+            return this;
+        }
+        if (this.isEmpty()) {
+            return hints;
+        }
+        Map<String, Object> copy = new LinkedHashMap<>(this.hints);
+        copy.putAll(hints.hints);
+        return new QueryHints(Collections.unmodifiableMap(copy));
+    }
+
+    /**
+     * @return true when there is no hint
+     */
+    public boolean isEmpty() {
+        return hints.isEmpty();
+    }
+
+    /**
+     * @return the hints as an unmodifiable map
+     */
+    public Map<String, Object> toMap() {
+        return hints;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof QueryHints that)) {
+            return false;
+        }
+        return Objects.equals(hints, that.hints);
+    }
+
+    @Override
+    public int hashCode() {
+        return hints.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "QueryHints" + hints;
+    }
+
+    /**
+     * @return a {@link QueryHints} instance without hints
+     */
+    public static QueryHints empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Creates a {@link QueryHints} instance from a map
+     *
+     * @param hints the hints
+     * @return a {@link QueryHints} instance
+     * @throws NullPointerException     when hints is null or there is a null key or value
+     * @throws IllegalArgumentException when the value of a well-known key is either invalid or negative
+     */
+    public static QueryHints of(Map<String, ?> hints) {
+        Objects.requireNonNull(hints, "hints is required");
+        QueryHints queryHints = EMPTY;
+        for (Map.Entry<String, ?> entry : hints.entrySet()) {
+            queryHints = queryHints.with(entry.getKey(), entry.getValue());
+        }
+        return queryHints;
+    }
+
+    private static Object convert(String key, Object value) {
+        if (FETCH_SIZE.equals(key)) {
+            return fetchSize(value);
+        } else if (TIMEOUT.equals(key)) {
+            return timeout(value);
+        }
+        return value;
+    }
+
+    private static Integer fetchSize(Object value) {
+        int fetchSize;
+        try {
+            fetchSize = value instanceof Number number ? number.intValue() : Integer.parseInt(value.toString().trim());
+        } catch (NumberFormatException exception) {
+            throw new IllegalArgumentException("The fetch size should be a number, fetchSize: " + value, exception);
+        }
+        if (fetchSize < 0) {
+            throw new IllegalArgumentException("The fetch size should not be negative, fetchSize: " + fetchSize);
+        }
+        return fetchSize;
+    }
+
+    private static Duration timeout(Object value) {
+        Duration timeout;
+        if (value instanceof Duration duration) {
+            timeout = duration;
+        } else if (value instanceof Number number) {
+            timeout = Duration.ofMillis(number.longValue());
+        } else {
+            String text = value.toString().trim();
+            try {
+                timeout = text.chars().allMatch(Character::isDigit) && !text.isEmpty()
+                        ? Duration.ofMillis(Long.parseLong(text)) : Duration.parse(text);
+            } catch (NumberFormatException | DateTimeParseException exception) {
+                throw new IllegalArgumentException("The timeout should be either milliseconds or an ISO-8601 duration, timeout: "
+                        + value, exception);
+            }
+        }
+        if (timeout.isNegative()) {
+            throw new IllegalArgumentException("The timeout should not be negative, timeout: " + timeout);
+        }
+        return timeout;
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication;
+
+import java.time.Duration;
+
+/**
+ * The statistics of a query fingerprint at the {@link SlowQueryLog}. The percentiles cover the latest
+ * executions only, the other values cover all of them.
+ *
+ * @param provider  the provider of the database, empty for the default one
+ * @param operation the operation type, e.g. {@code select} or {@code count}
+ * @param entity    the entity, e.g. the document collection or the column family
+ * @param query     the query fingerprint
+ * @param count     how many times the query ran
+ * @param rows      how many rows the query read in total
+ * @param errors    how many times the query failed
+ * @param total     the total latency
+ * @param p50       the median latency
+ * @param p95       the 95th percentile latency
+ * @param p99       the 99th percentile latency
+ * @param max       the maximum latency
+ */
+public record QueryStatistics(String provider, String operation, String entity, String query, long count, long rows,
+                              long errors, Duration total, Duration p50, Duration p95, Duration p99, Duration max) {
+}
@@ -0,0 +1,258 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * An {@link Instrumentation} that keeps the latency and the rows of each query fingerprint, e.g.
+ * {@code select * from Person where age > ? and name = ?}, and logs, as a warning, the queries that take at least
+ * the threshold. As the fingerprint replaces every value with a placeholder, neither the logs nor the statistics
+ * hold the parameters of a query.
+ * <p>
+ * It only measures the operations started with a query, by
+ * {@link Instrumentation#start(String, String, String, Supplier)}. The table of fingerprints stops growing at its
+ * capacity, after that the new fingerprints are only logged.
+ * <p>
+ * The latency of a select ends when the database returns its first row, see {@link Measurement#track(java.util.stream.Stream)},
+ * so the log does not know its rows yet; the statistics add them when the caller finishes reading the stream.
+ */
+public final class SlowQueryLog implements Instrumentation {
+
+    private static final Logger LOGGER = Logger.getLogger(SlowQueryLog.class.getName());
+
+    /**
+     * How many of the latest executions of a fingerprint the percentiles cover
+     */
+    static final int SAMPLES = 256;
+
+    private static final Comparator<QueryStatistics> BY_TOTAL = Comparator.comparing(QueryStatistics::total).reversed();
+
+    private final long threshold;
+
+    private final int capacity;
+
+    private final Map<QueryKey, Tally> table = new ConcurrentHashMap<>();
+
+    private SlowQueryLog(long threshold, int capacity) {
+        this.threshold = threshold;
+        this.capacity = capacity;
+    }
+
+    @Override
+    public Measurement start(String provider, String operation, String entity) {
+        return NoopInstrumentation.INSTANCE;
+    }
+
+    @Override
+    public Measurement start(String provider, String operation, String entity, Supplier<String> query) {
+        Objects.requireNonNull(query, "query is required");
+        return new QueryMeasurement(new QueryKey(provider, operation, entity, query.get()));
+    }
+
+    /**
+     * Returns the statistics of the fingerprints that took the longest in total, the slowest first
+     *
+     * @param size the maximum number of fingerprints
+     * @return the statistics
+     * @throws IllegalArgumentException when size is negative
+     */
+    public List<QueryStatistics> top(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("size must be positive or zero: " + size);
+        }
+        return table.entrySet().stream()
+                .map(entry -> entry.getValue().statistics(entry.getKey()))
+                .sorted(BY_TOTAL)
+                .limit(size)
+                .toList();
+    }
+
+    /**
+     * Removes the statistics of all fingerprints
+     */
+    public void clear() {
+        table.clear();
+    }
+
+    /**
+     * Returns the threshold from which a query is logged
+     *
+     * @return the threshold
+     */
+    public Duration threshold() {
+        return Duration.ofNanos(threshold);
+    }
+
+    @Override
+    public String toString() {
+        return "SlowQueryLog{" +
+                "threshold=" + threshold() +
+                ", capacity=" + capacity +
+                ", size=" + table.size() +
+                '}';
+    }
+
+    private void record(QueryKey key, long nanos, long rows, boolean error) {
+        Tally tally = table.get(key);
+        if (tally == null && table.size() < capacity) {
+            tally = table.computeIfAbsent(key, k -> new Tally());
+        }
+        if (tally != null) {
+            tally.add(nanos, rows, error);
+        }
+        if (nanos >= threshold) {
+            LOGGER.log(Level.WARNING, () -> String.format("Slow %s on %s%s took %d ms and read %s rows: %s",
+                    key.operation(), key.entity(), key.provider().isBlank() ? "" : " at " + key.provider(),
+                    TimeUnit.NANOSECONDS.toMillis(nanos), rows < 0 ? "unknown" : Long.toString(rows), key.query()));
+        }
+    }
+
+    private void read(QueryKey key, long rows) {
+        Tally tally = table.get(key);
+        if (tally != null) {
+            tally.read(rows);
+        }
+    }
+
+    /**
+     * Creates a {@link SlowQueryLog}
+     *
+     * @param threshold the latency from which a query is logged, zero logs all of them
+     * @param capacity  the maximum number of fingerprints it keeps statistics of
+     * @return a {@link SlowQueryLog} instance
+     * @throws NullPointerException     when threshold is null
+     * @throws IllegalArgumentException when threshold is negative or capacity is not positive
+     */
+    public static SlowQueryLog of(Duration threshold, int capacity) {
+        Objects.requireNonNull(threshold, "threshold is required");
+        if (threshold.isNegative()) {
+            throw new IllegalArgumentException("threshold must be positive or zero: " + threshold);
+        }
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        return new SlowQueryLog(threshold.toNanos(), capacity);
+    }
+
+    private record QueryKey(String provider, String operation, String entity, String query) {
+    }
+
+    private final class QueryMeasurement implements Measurement {
+
+        private final QueryKey key;
+
+        private final long start = System.nanoTime();
+
+        private long rows = -1L;
+
+        private boolean error;
+
+        private boolean closed;
+
+        private QueryMeasurement(QueryKey key) {
+            this.key = key;
+        }
+
+        @Override
+        public void rows(long rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public void read(long rows) {
+            SlowQueryLog.this.read(key, rows);
+        }
+
+        @Override
+        public void error(Throwable error) {
+            this.error = true;
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                record(key, System.nanoTime() - start, rows, error);
+            }
+        }
+    }
+
+    private static final class Tally {
+
+        private final LongAdder count = new LongAdder();
+
+        private final LongAdder rows = new LongAdder();
+
+        private final LongAdder errors = new LongAdder();
+
+        private final LongAdder total = new LongAdder();
+
+        private final AtomicLong max = new AtomicLong();
+
+        private final AtomicLong index = new AtomicLong();
+
+        private final AtomicLongArray samples = new AtomicLongArray(SAMPLES);
+
+        private void add(long nanos, long rows, boolean error) {
+            count.increment();
+            total.add(nanos);
+            if (rows > 0) {
+                this.rows.add(rows);
+            }
+            if (error) {
+                errors.increment();
+            }
+            max.accumulateAndGet(nanos, Math::max);
+            samples.set((int) (index.getAndIncrement() % SAMPLES), nanos);
+        }
+
+        private void read(long rows) {
+            this.rows.add(rows);
+        }
+
+        private QueryStatistics statistics(QueryKey key) {
+            long[] latest = new long[(int) Math.min(index.get(), SAMPLES)];
+            for (int position = 0; position < latest.length; position++) {
+                latest[position] = samples.get(position);
+            }
+            Arrays.sort(latest);
+            return new QueryStatistics(key.provider(), key.operation(), key.entity(), key.query(), count.sum(),
+                    rows.sum(), errors.sum(), Duration.ofNanos(total.sum()), percentile(latest, 0.5),
+                    percentile(latest, 0.95), percentile(latest, 0.99), Duration.ofNanos(max.get()));
+        }
+
+        private static Duration percentile(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return Duration.ZERO;
+            }
+            int rank = (int) Math.ceil(percentile * sorted.length);
+            return Duration.ofNanos(sorted[Math.max(rank, 1) - 1]);
+        }
+    }
+}
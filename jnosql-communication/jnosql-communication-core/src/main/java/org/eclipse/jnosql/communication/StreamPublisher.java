@@ -0,0 +1,189 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * A {@link Flow.Publisher} that reads a {@link Stream} only as fast as the subscriber requests it.
+ * Each subscription opens its own stream at the first request and pulls a single element per requested item,
+ * so the result is never buffered, and the stream is closed once it completes, fails or the subscription is cancelled.
+ * The elements are emitted at the thread that calls {@link Flow.Subscription#request(long)}, or at the {@link Executor}
+ * informed at {@link StreamPublisher#of(Supplier, Executor)}, so a blocking stream does not hold the subscriber thread.
+ *
+ * @param <T> the element type
+ */
+public final class StreamPublisher<T> implements Flow.Publisher<T> {
+
+    private final Supplier<Stream<T>> supplier;
+
+    private final Executor executor;
+
+    private StreamPublisher(Supplier<Stream<T>> supplier, Executor executor) {
+        this.supplier = supplier;
+        this.executor = executor;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber is required");
+        subscriber.onSubscribe(new StreamSubscription<>(supplier, executor, subscriber));
+    }
+
+    /**
+     * Creates a {@link StreamPublisher} instance
+     *
+     * @param supplier the supplier called once per subscription
+     * @param <T>      the element type
+     * @return a {@link StreamPublisher} instance
+     * @throws NullPointerException when supplier is null
+     */
+    public static <T> StreamPublisher<T> of(Supplier<Stream<T>> supplier) {
+        Objects.requireNonNull(supplier, "supplier is required");
+        return new StreamPublisher<>(supplier, Runnable::run);
+    }
+
+    /**
+     * Creates a {@link StreamPublisher} instance that opens and reads the stream at the executor
+     *
+     * @param supplier the supplier called once per subscription
+     * @param executor the executor that reads the stream and emits the elements
+     * @param <T>      the element type
+     * @return a {@link StreamPublisher} instance
+     * @throws NullPointerException when there are null parameters
+     */
+    public static <T> StreamPublisher<T> of(Supplier<Stream<T>> supplier, Executor executor) {
+        Objects.requireNonNull(supplier, "supplier is required");
+        Objects.requireNonNull(executor, "executor is required");
+        return new StreamPublisher<>(supplier, executor);
+    }
+
+    private static final class StreamSubscription<T> implements Flow.Subscription {
+
+        private final Supplier<Stream<T>> supplier;
+
+        private final Executor executor;
+
+        private final Flow.Subscriber<? super T> subscriber;
+
+        private final AtomicLong requested = new AtomicLong();
+
+        private final AtomicInteger work = new AtomicInteger();
+
+        private volatile boolean cancelled;
+
+        private volatile IllegalArgumentException invalidRequest;
+
+        private Stream<T> stream;
+
+        private Iterator<T> iterator;
+
+        private boolean done;
+
+        private StreamSubscription(Supplier<Stream<T>> supplier, Executor executor, Flow.Subscriber<? super T> subscriber) {
+            this.supplier = supplier;
+            this.executor = executor;
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                invalidRequest = new IllegalArgumentException("The request must be positive: " + n);
+            } else {
+                requested.getAndUpdate(current -> current + n < 0 ? Long.MAX_VALUE : current + n);
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            drain();
+        }
+
+        private void drain() {
+            if (work.getAndIncrement() != 0) {
+                return;
+            }
+            try {
+                executor.execute(this::drainLoop);
+            } catch (RejectedExecutionException exception) {
+                work.set(0);
+                close();
+                subscriber.onError(exception);
+            }
+        }
+
+        private void drainLoop() {
+            int missed = 1;
+            do {
+                emit();
+                missed = work.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void emit() {
+            if (done) {
+                return;
+            }
+            if (cancelled) {
+                close();
+                return;
+            }
+            if (invalidRequest != null) {
+                close();
+                subscriber.onError(invalidRequest);
+                return;
+            }
+            try {
+                if (iterator == null) {
+                    stream = supplier.get();
+                    iterator = stream.iterator();
+                }
+                while (requested.get() > 0 && !cancelled && invalidRequest == null) {
+                    if (!iterator.hasNext()) {
+                        close();
+                        subscriber.onComplete();
+                        return;
+                    }
+                    T next = iterator.next();
+                    if (requested.get() != Long.MAX_VALUE) {
+                        requested.decrementAndGet();
+                    }
+                    subscriber.onNext(next);
+                }
+            } catch (RuntimeException exception) {
+                close();
+                subscriber.onError(exception);
+            }
+        }
+
+        private void close() {
+            done = true;
+            if (stream != null) {
+                stream.close();
+            }
+        }
+    }
+}
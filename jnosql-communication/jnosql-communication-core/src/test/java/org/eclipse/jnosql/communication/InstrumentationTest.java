@@ -0,0 +1,190 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InstrumentationTest {
+
+    @Test
+    void shouldReturnErrorWhenParameterIsNull() {
+        assertThatNullPointerException().isThrownBy(() -> Instrumentation.of(null));
+        assertThatNullPointerException().isThrownBy(() -> Instrumentation.noop().start("", "select", "Person")
+                .track(null));
+        assertThatNullPointerException().isThrownBy(() -> new Recorder().start("", "select", "Person").track(null));
+    }
+
+    @Test
+    void shouldReturnNoopWhenThereIsNoProvider() {
+        assertThat(Instrumentation.get()).isSameAs(Instrumentation.noop());
+        assertThat(Instrumentation.of(List.of())).isSameAs(Instrumentation.noop());
+        assertThat(Instrumentation.of(List.of(Instrumentation.noop()))).isSameAs(Instrumentation.noop());
+    }
+
+    @Test
+    void shouldNotAllocateWhenNoop() {
+        Measurement measurement = Instrumentation.noop().start("", "select", "Person");
+        Stream<String> stream = Stream.of("Ada");
+        assertThat(measurement).isSameAs(Instrumentation.noop());
+        assertThat(measurement.track(stream)).isSameAs(stream);
+    }
+
+    @Test
+    void shouldReturnSingleInstrumentation() {
+        Recorder recorder = new Recorder();
+        assertThat(Instrumentation.of(List.of(recorder, Instrumentation.noop()))).isSameAs(recorder);
+    }
+
+    @Test
+    void shouldReportToAllInstrumentations() {
+        Recorder first = new Recorder();
+        Recorder second = new Recorder();
+        Instrumentation instrumentation = Instrumentation.of(List.of(first, second));
+        try (Measurement measurement = instrumentation.start("mongodb", "insert", "Person")) {
+            measurement.rows(2);
+        }
+        assertThat(first.events).containsExactly("start mongodb insert Person", "rows 2", "close");
+        assertThat(second.events).containsExactly("start mongodb insert Person", "rows 2", "close");
+    }
+
+    @Test
+    void shouldReportTheQueryToAllInstrumentations() {
+        Recorder first = new Recorder();
+        SlowQueryLog log = SlowQueryLog.of(Duration.ofHours(1), 10);
+        Instrumentation instrumentation = Instrumentation.of(List.of(first, log));
+        try (Measurement measurement = instrumentation.start("mongodb", "select", "Person", () -> "select * from Person")) {
+            measurement.rows(2);
+        }
+        assertThat(first.events).containsExactly("start mongodb select Person", "rows 2", "close");
+        assertThat(log.top(1)).singleElement().extracting(QueryStatistics::query).isEqualTo("select * from Person");
+    }
+
+    @Test
+    void shouldEndAtTheFirstRowAndReadRowsUntilTheStreamEnds() {
+        Recorder recorder = new Recorder();
+        Stream<String> stream = recorder.start("", "select", "Person").track(Stream.of("Ada", "Grace", "Alan"));
+        assertThat(recorder.events).containsExactly("start  select Person");
+
+        List<String> names = new ArrayList<>();
+        stream.forEach(name -> {
+            recorder.events.add("consume " + name);
+            names.add(name);
+        });
+        assertThat(names).containsExactly("Ada", "Grace", "Alan");
+        assertThat(recorder.events).containsExactly("start  select Person", "close", "consume Ada", "consume Grace",
+                "consume Alan", "read 3");
+    }
+
+    @Test
+    void shouldEndWhenTheStreamIsEmpty() {
+        Recorder recorder = new Recorder();
+        assertThat(recorder.start("", "select", "Person").track(Stream.empty()).toList()).isEmpty();
+        assertThat(recorder.events).containsExactly("start  select Person", "close", "read 0");
+    }
+
+    @Test
+    void shouldEndWhenThePartialReadIsNotClosed() {
+        Recorder recorder = new Recorder();
+        Stream<String> stream = recorder.start("", "select", "Person").track(Stream.of("Ada", "Grace", "Alan"));
+        assertThat(stream.findFirst()).contains("Ada");
+        assertThat(recorder.events).containsExactly("start  select Person", "close");
+    }
+
+    @Test
+    void shouldReadRowsWhenTheStreamIsClosed() {
+        Recorder recorder = new Recorder();
+        List<String> closed = new ArrayList<>();
+        Stream<String> source = Stream.of("Ada", "Grace", "Alan").onClose(() -> closed.add("source"));
+        try (Stream<String> stream = recorder.start("", "select", "Person").track(source)) {
+            assertThat(stream.findFirst()).contains("Ada");
+        }
+        assertThat(closed).containsExactly("source");
+        assertThat(recorder.events).containsExactly("start  select Person", "close", "read 1");
+    }
+
+    @Test
+    void shouldEndWhenTheStreamIsClosedBeforeTheFirstRow() {
+        Recorder recorder = new Recorder();
+        recorder.start("", "select", "Person").track(Stream.of("Ada")).close();
+        assertThat(recorder.events).containsExactly("start  select Person", "close", "read 0");
+    }
+
+    @Test
+    void shouldTrackErrorBeforeTheFirstRow() {
+        Recorder recorder = new Recorder();
+        Stream<String> source = Stream.of("Ada").map(name -> {
+            throw new CommunicationException("failure");
+        });
+        Stream<String> stream = recorder.start("", "select", "Person").track(source);
+        assertThatThrownBy(stream::toList).isInstanceOf(CommunicationException.class);
+        stream.close();
+        assertThat(recorder.events).containsExactly("start  select Person", "error failure", "close", "read 0");
+    }
+
+    @Test
+    void shouldNotTrackErrorAfterTheFirstRow() {
+        Recorder recorder = new Recorder();
+        Stream<String> source = Stream.of("Ada", "Grace").map(name -> {
+            if (name.equals("Grace")) {
+                throw new CommunicationException("failure");
+            }
+            return name;
+        });
+        Stream<String> stream = recorder.start("", "select", "Person").track(source);
+        assertThatThrownBy(stream::toList).isInstanceOf(CommunicationException.class);
+        stream.close();
+        assertThat(recorder.events).containsExactly("start  select Person", "close", "read 1");
+    }
+
+    private static final class Recorder implements Instrumentation {
+
+        private final List<String> events = new ArrayList<>();
+
+        @Override
+        public Measurement start(String provider, String operation, String entity) {
+            events.add("start " + provider + " " + operation + " " + entity);
+            return new Measurement() {
+                @Override
+                public void rows(long rows) {
+                    events.add("rows " + rows);
+                }
+
+                @Override
+                public void read(long rows) {
+                    events.add("read " + rows);
+                }
+
+                @Override
+                public void error(Throwable error) {
+                    events.add("error " + error.getMessage());
+                }
+
+                @Override
+                public void close() {
+                    events.add("close");
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JfrInstrumentationTest {
+
+    private static final String EVENT = "org.eclipse.jnosql.Manager";
+
+    @Test
+    void shouldReturnNoopWhenEventIsDisabled() {
+        assertThat(Instrumentation.jfr().start("mongodb", "insert", "Person")).isSameAs(NoopInstrumentation.INSTANCE);
+    }
+
+    @Test
+    void shouldRecordOperation() throws IOException {
+        List<RecordedEvent> events = record(() -> {
+            try (Measurement measurement = Instrumentation.jfr().start("mongodb", "insert", "Person")) {
+                measurement.rows(2);
+            }
+        });
+        assertThat(events).hasSize(1);
+        RecordedEvent event = events.get(0);
+        assertThat(event.getString("provider")).isEqualTo("mongodb");
+        assertThat(event.getString("operation")).isEqualTo("insert");
+        assertThat(event.getString("entity")).isEqualTo("Person");
+        assertThat(event.getLong("rows")).isEqualTo(2L);
+        assertThat(event.getString("error")).isNull();
+    }
+
+    @Test
+    void shouldRecordError() throws IOException {
+        List<RecordedEvent> events = record(() -> {
+            try (Measurement measurement = Instrumentation.jfr().start("mongodb", "delete", "Person")) {
+                measurement.error(new CommunicationException("failure"));
+            }
+        });
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getString("error")).isEqualTo(CommunicationException.class.getName());
+    }
+
+    @Test
+    void shouldRecordTrackedSelectAtTheFirstRow() throws IOException {
+        List<RecordedEvent> events = record(() -> {
+            Measurement measurement = Instrumentation.jfr().start("mongodb", "select", "Person");
+            assertThat(measurement.track(Stream.of("Ada", "Grace", "Linus")).findFirst()).contains("Ada");
+        });
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getString("operation")).isEqualTo("select");
+        assertThat(events.get(0).getLong("rows")).isZero();
+    }
+
+    private static List<RecordedEvent> record(Runnable runnable) throws IOException {
+        Path file = Files.createTempFile("jnosql", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(EVENT);
+            recording.start();
+            runnable.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file).stream()
+                    .filter(e -> EVENT.equals(e.getEventType().getName())).toList();
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
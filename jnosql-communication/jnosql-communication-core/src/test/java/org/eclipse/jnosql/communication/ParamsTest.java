@@ -58,6 +58,37 @@ class ParamsTest {
         Assertions.assertEquals("Ada", value.get());
     }
 
+    @Test
+    void shouldNotPrefixLongerName() {
+        Params params = Params.newParams();
+        Value name = params.add("name_1");
+        Value nickname = params.add("nameAlias_2");
+        params.prefix("name", "Ada");
+        Assertions.assertEquals("Ada", name.get());
+        Assertions.assertThrows(QueryException.class, nickname::get);
+    }
+
+    @Test
+    void shouldBindByIndex() {
+        Params params = Params.newParams();
+        Value first = params.add("name_1");
+        Value second = params.add("name_10");
+        params.bind(1, "Ada");
+        params.bind(0, "Grace");
+        assertSoftly(softly -> {
+            softly.assertThat(params.size()).isEqualTo(2);
+            softly.assertThat(first.get()).isEqualTo("Grace");
+            softly.assertThat(second.get()).isEqualTo("Ada");
+        });
+    }
+
+    @Test
+    void shouldReturnErrorWhenIndexIsInvalid() {
+        Params params = Params.newParams();
+        params.add("name");
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> params.bind(1, "Ada"));
+    }
+
     @Nested
     @DisplayName("Given an empty Params")
     class GivenEmptyParamsTest {
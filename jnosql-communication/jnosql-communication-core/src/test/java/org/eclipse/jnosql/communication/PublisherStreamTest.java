@@ -0,0 +1,127 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PublisherStreamTest {
+
+    @Test
+    void shouldReturnErrorWhenParameterIsNull() {
+        assertThatThrownBy(() -> PublisherStream.of(null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void shouldReadAllElements() {
+        Flow.Publisher<Integer> publisher = StreamPublisher.of(() -> IntStream.range(0, 1_000).boxed());
+
+        List<Integer> result = PublisherStream.of(publisher).toList();
+
+        assertThat(result).hasSize(1_000).startsWith(0, 1, 2).endsWith(999);
+    }
+
+    @Test
+    void shouldNotSubscribeBeforeRead() {
+        AtomicInteger opened = new AtomicInteger();
+        Stream<Integer> stream = PublisherStream.of(StreamPublisher.of(() -> {
+            opened.incrementAndGet();
+            return Stream.of(1);
+        }));
+
+        assertThat(opened).hasValue(0);
+        assertThat(stream.findFirst()).contains(1);
+        assertThat(opened).hasValue(1);
+    }
+
+    @Test
+    void shouldReadOnlyWhatIsConsumed() {
+        AtomicInteger read = new AtomicInteger();
+        AtomicBoolean closed = new AtomicBoolean();
+        Flow.Publisher<Integer> publisher = StreamPublisher.of(() -> IntStream.range(0, 100).boxed()
+                .peek(i -> read.incrementAndGet())
+                .onClose(() -> closed.set(true)));
+
+        try (Stream<Integer> stream = PublisherStream.of(publisher)) {
+            assertThat(stream.limit(3).toList()).containsExactly(0, 1, 2);
+        }
+
+        assertThat(read.get()).isLessThanOrEqualTo(4);
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void shouldReadFromAnotherThread() {
+        try (SubmissionPublisher<String> publisher = new SubmissionPublisher<>()) {
+            Iterator<String> iterator = PublisherStream.of(publisher).iterator();
+            Thread producer = new Thread(() -> {
+                while (publisher.getNumberOfSubscribers() == 0) {
+                    Thread.onSpinWait();
+                }
+                publisher.submit("Ada");
+                publisher.submit("Otavio");
+                publisher.close();
+            });
+            producer.start();
+
+            assertThat(iterator.next()).isEqualTo("Ada");
+            assertThat(iterator.next()).isEqualTo("Otavio");
+            assertThat(iterator.hasNext()).isFalse();
+            assertThatThrownBy(iterator::next).isInstanceOf(NoSuchElementException.class);
+        }
+    }
+
+    @Test
+    void shouldRethrowRuntimeException() {
+        Flow.Publisher<Integer> publisher = StreamPublisher.of(() -> Stream.of(1, 0).map(i -> 1 / i));
+
+        Iterator<Integer> iterator = PublisherStream.of(publisher).iterator();
+
+        assertThat(iterator.next()).isEqualTo(1);
+        assertThatThrownBy(iterator::hasNext).isInstanceOf(ArithmeticException.class);
+        assertThat(iterator.hasNext()).isFalse();
+    }
+
+    @Test
+    void shouldWrapCheckedException() {
+        Flow.Publisher<Integer> publisher = subscriber -> subscriber.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(long n) {
+                subscriber.onError(new IOException("connection reset"));
+            }
+
+            @Override
+            public void cancel() {
+            }
+        });
+
+        assertThatThrownBy(() -> PublisherStream.of(publisher).toList())
+                .isInstanceOf(CommunicationException.class)
+                .hasCauseInstanceOf(IOException.class);
+    }
+}
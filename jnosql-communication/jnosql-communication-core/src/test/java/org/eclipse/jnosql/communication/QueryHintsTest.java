@@ -0,0 +1,131 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class QueryHintsTest {
+
+    @Test
+    void shouldReturnEmpty() {
+        QueryHints hints = QueryHints.empty();
+        assertSoftly(softly -> {
+            softly.assertThat(hints.isEmpty()).isTrue();
+            softly.assertThat(hints.fetchSize()).isZero();
+            softly.assertThat(hints.timeout()).isEmpty();
+            softly.assertThat(hints.readPreference()).isEmpty();
+            softly.assertThat(hints.consistencyLevel()).isEmpty();
+            softly.assertThat(hints.toMap()).isEmpty();
+        });
+    }
+
+    @Test
+    void shouldReturnWellKnownHints() {
+        QueryHints hints = QueryHints.empty()
+                .with(QueryHints.FETCH_SIZE, 500)
+                .with(QueryHints.TIMEOUT, Duration.ofSeconds(2))
+                .with(QueryHints.READ_PREFERENCE, "nearest")
+                .with(QueryHints.CONSISTENCY_LEVEL, "quorum");
+        assertSoftly(softly -> {
+            softly.assertThat(hints.fetchSize()).isEqualTo(500);
+            softly.assertThat(hints.timeout()).contains(Duration.ofSeconds(2));
+            softly.assertThat(hints.readPreference()).contains("nearest");
+            softly.assertThat(hints.consistencyLevel()).contains("quorum");
+        });
+    }
+
+    @Test
+    void shouldConvertWellKnownHints() {
+        QueryHints hints = QueryHints.of(Map.of(QueryHints.FETCH_SIZE, "100", QueryHints.TIMEOUT, "1500"));
+        assertSoftly(softly -> {
+            softly.assertThat(hints.get(QueryHints.FETCH_SIZE)).contains(100);
+            softly.assertThat(hints.timeout()).contains(Duration.ofMillis(1500));
+            softly.assertThat(QueryHints.empty().with(QueryHints.TIMEOUT, "PT3S").timeout()).contains(Duration.ofSeconds(3));
+            softly.assertThat(QueryHints.empty().with(QueryHints.TIMEOUT, 10L).timeout()).contains(Duration.ofMillis(10));
+        });
+    }
+
+    @Test
+    void shouldKeepDriverHints() {
+        QueryHints hints = QueryHints.empty().with("mongodb.allow-disk-use", "true");
+        assertSoftly(softly -> {
+            softly.assertThat(hints.get("mongodb.allow-disk-use")).contains("true");
+            softly.assertThat(hints.get("mongodb.allow-disk-use", Boolean.class)).contains(true);
+            softly.assertThat(hints.get("unknown")).isEmpty();
+        });
+    }
+
+    @Test
+    void shouldBeImmutable() {
+        QueryHints empty = QueryHints.empty();
+        QueryHints hints = empty.with(QueryHints.FETCH_SIZE, 10);
+        assertSoftly(softly -> {
+            softly.assertThat(empty.isEmpty()).isTrue();
+            softly.assertThat(hints.fetchSize()).isEqualTo(10);
+            softly.assertThatThrownBy(() -> hints.toMap().put("key", "value"))
+                    .isInstanceOf(UnsupportedOperationException.class);
+        });
+    }
+
+    @Test
+    void shouldMerge() {
+        QueryHints hints = QueryHints.empty().with(QueryHints.FETCH_SIZE, 10).with(QueryHints.READ_PREFERENCE, "primary");
+        QueryHints merged = hints.with(QueryHints.empty().with(QueryHints.FETCH_SIZE, 20));
+        assertSoftly(softly -> {
+            softly.assertThat(merged.fetchSize()).isEqualTo(20);
+            softly.assertThat(merged.readPreference()).contains("primary");
+            softly.assertThat(hints.with(QueryHints.empty())).isSameAs(hints);
+            softly.assertThat(QueryHints.empty().with(hints)).isSameAs(hints);
+        });
+    }
+
+    @Test
+    void shouldReturnErrorWhenWellKnownHintIsInvalid() {
+        QueryHints hints = QueryHints.empty();
+        assertSoftly(softly -> {
+            softly.assertThatThrownBy(() -> hints.with(QueryHints.FETCH_SIZE, -1))
+                    .isInstanceOf(IllegalArgumentException.class);
+            softly.assertThatThrownBy(() -> hints.with(QueryHints.FETCH_SIZE, "many"))
+                    .isInstanceOf(IllegalArgumentException.class);
+            softly.assertThatThrownBy(() -> hints.with(QueryHints.TIMEOUT, Duration.ofSeconds(-1)))
+                    .isInstanceOf(IllegalArgumentException.class);
+            softly.assertThatThrownBy(() -> hints.with(QueryHints.TIMEOUT, "soon"))
+                    .isInstanceOf(IllegalArgumentException.class);
+        });
+    }
+
+    @Test
+    void shouldReturnErrorWhenThereIsNullParameter() {
+        QueryHints hints = QueryHints.empty();
+        assertThatThrownBy(() -> hints.with(null, 1)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> hints.with(QueryHints.FETCH_SIZE, null)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> QueryHints.of(null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void shouldEquals() {
+        QueryHints hints = QueryHints.empty().with(QueryHints.FETCH_SIZE, 10);
+        assertThat(hints).isEqualTo(QueryHints.of(Map.of(QueryHints.FETCH_SIZE, "10")))
+                .hasSameHashCodeAs(QueryHints.of(Map.of(QueryHints.FETCH_SIZE, 10)))
+                .isNotEqualTo(QueryHints.empty());
+    }
+}
@@ -0,0 +1,234 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+class SlowQueryLogTest {
+
+    private static final Logger LOGGER = Logger.getLogger(SlowQueryLog.class.getName());
+
+    private final List<LogRecord> records = new ArrayList<>();
+
+    private final Handler handler = new Handler() {
+        @Override
+        public void publish(LogRecord record) {
+            records.add(record);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    };
+
+    @BeforeEach
+    void setUp() {
+        LOGGER.addHandler(handler);
+    }
+
+    @AfterEach
+    void tearDown() {
+        LOGGER.removeHandler(handler);
+    }
+
+    @Test
+    void shouldReturnErrorWhenParameterIsInvalid() {
+        assertThatNullPointerException().isThrownBy(() -> SlowQueryLog.of(null, 10));
+        assertThatIllegalArgumentException().isThrownBy(() -> SlowQueryLog.of(Duration.ofMillis(-1), 10));
+        assertThatIllegalArgumentException().isThrownBy(() -> SlowQueryLog.of(Duration.ZERO, 0));
+        SlowQueryLog log = SlowQueryLog.of(Duration.ZERO, 10);
+        assertThatNullPointerException().isThrownBy(() -> log.start("", "select", "Person", null));
+        assertThatIllegalArgumentException().isThrownBy(() -> log.top(-1));
+    }
+
+    @Test
+    void shouldIgnoreOperationsWithoutQuery() {
+        SlowQueryLog log = SlowQueryLog.of(Duration.ZERO, 10);
+        assertThat(log.start("", "insert", "Person")).isSameAs(Instrumentation.noop());
+        assertThat(log.top(10)).isEmpty();
+    }
+
+    @Test
+    void shouldKeepStatisticsByFingerprint() {
+        SlowQueryLog log = SlowQueryLog.of(Duration.ofHours(1), 10);
+        for (int index = 0; index < 3; index++) {
+            try (Measurement measurement = log.start("mongodb", "select", "Person", () -> "select * from Person where name = ?")) {
+                measurement.rows(2);
+            }
+        }
+        try (Measurement measurement = log.start("mongodb", "count", "Person", () -> "select * from Person where name = ?")) {
+            measurement.error(new CommunicationException("failure"));
+        }
+
+        List<QueryStatistics> top = log.top(10);
+        assertThat(top).hasSize(2);
+        QueryStatistics select = top.stream().filter(s -> s.operation().equals("select")).findFirst().orElseThrow();
+        assertThat(select.provider()).isEqualTo("mongodb");
+        assertThat(select.entity()).isEqualTo("Person");
+        assertThat(select.query()).isEqualTo("select * from Person where name = ?");
+        assertThat(select.count()).isEqualTo(3L);
+        assertThat(select.rows()).isEqualTo(6L);
+        assertThat(select.errors()).isZero();
+        assertThat(select.p50()).isLessThanOrEqualTo(select.p95());
+        assertThat(select.p95()).isLessThanOrEqualTo(select.p99());
+        assertThat(select.p99()).isLessThanOrEqualTo(select.max());
+        assertThat(select.max()).isLessThanOrEqualTo(select.total());
+        QueryStatistics count = top.stream().filter(s -> s.operation().equals("count")).findFirst().orElseThrow();
+        assertThat(count.count()).isEqualTo(1L);
+        assertThat(count.errors()).isEqualTo(1L);
+        assertThat(records).isEmpty();
+    }
+
+    @Test
+    void shouldReturnTheSlowestFirst() throws InterruptedException {
+        SlowQueryLog log = SlowQueryLog.of(Duration.ofHours(1), 10);
+        log.start("", "select", "Person", () -> "fast").close();
+        try (Measurement ignored = log.start("", "select", "Person", () -> "slow")) {
+            TimeUnit.MILLISECONDS.sleep(5);
+        }
+
+        assertThat(log.top(1)).extracting(QueryStatistics::query).containsExactly("slow");
+        assertThat(log.top(10)).extracting(QueryStatistics::query).containsExactly("slow", "fast");
+        assertThat(log.top(0)).isEmpty();
+        log.clear();
+        assertThat(log.top(10)).isEmpty();
+    }
+
+    @Test
+    void shouldLogQueriesAboveTheThreshold() throws InterruptedException {
+        SlowQueryLog log = SlowQueryLog.of(Duration.ofMillis(5), 10);
+        log.start("", "select", "Person", () -> "select * from Person where name = ?").close();
+        assertThat(records).isEmpty();
+
+        try (Measurement measurement = log.start("mongodb", "select", "Person", () -> "select * from Person where name = ?")) {
+            measurement.rows(1);
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+
+        assertThat(records).singleElement().satisfies(record -> {
+            assertThat(record.getLevel()).isEqualTo(Level.WARNING);
+            assertThat(record.getMessage()).startsWith("Slow select on Person at mongodb took ")
+                    .endsWith(" ms and read 1 rows: select * from Person where name = ?");
+        });
+    }
+
+    @Test
+    void shouldMeasureOnce() {
+        SlowQueryLog log = SlowQueryLog.of(Duration.ZERO, 10);
+        Measurement measurement = log.start("", "select", "Person", () -> "select * from Person");
+        measurement.close();
+        measurement.close();
+        assertThat(log.top(1)).singleElement().extracting(QueryStatistics::count).isEqualTo(1L);
+        assertThat(records).hasSize(1);
+    }
+
+    @Test
+    void shouldMeasureUntilTheFirstRowAndAddTheRowsRead() {
+        SlowQueryLog log = SlowQueryLog.of(Duration.ofHours(1), 10);
+        Stream<String> stream = log.start("", "select", "Person", () -> "select * from Person")
+                .track(Stream.of("Ada", "Grace"));
+        assertThat(log.top(1)).isEmpty();
+
+        Iterator<String> iterator = stream.iterator();
+        assertThat(iterator.next()).isEqualTo("Ada");
+        assertThat(log.top(1)).singleElement().satisfies(statistics -> {
+            assertThat(statistics.count()).isEqualTo(1L);
+            assertThat(statistics.rows()).isZero();
+        });
+
+        assertThat(iterator.next()).isEqualTo("Grace");
+        assertThat(iterator.hasNext()).isFalse();
+        assertThat(log.top(1)).singleElement().extracting(QueryStatistics::rows).isEqualTo(2L);
+    }
+
+    @Test
+    void shouldStopGrowingAtTheCapacity() {
+        SlowQueryLog log = SlowQueryLog.of(Duration.ZERO, 2);
+        for (int index = 0; index < 5; index++) {
+            int value = index;
+            log.start("", "select", "Person", () -> "query " + value).close();
+        }
+        assertThat(log.top(10)).hasSize(2);
+        assertThat(records).hasSize(5);
+    }
+
+    @Test
+    void shouldKeepTheLatestSamples() {
+        SlowQueryLog log = SlowQueryLog.of(Duration.ofHours(1), 10);
+        for (int index = 0; index < SlowQueryLog.SAMPLES * 2; index++) {
+            log.start("", "select", "Person", () -> "select * from Person").close();
+        }
+        QueryStatistics statistics = log.top(1).get(0);
+        assertThat(statistics.count()).isEqualTo(SlowQueryLog.SAMPLES * 2L);
+        assertThat(statistics.p99()).isLessThanOrEqualTo(statistics.max());
+    }
+
+    @Test
+    void shouldCountConcurrentQueries() throws InterruptedException {
+        SlowQueryLog log = SlowQueryLog.of(Duration.ofHours(1), 10);
+        int threads = 8;
+        int queries = 1_000;
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger failures = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int thread = 0; thread < threads; thread++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    for (int index = 0; index < queries; index++) {
+                        try (Measurement measurement = log.start("", "select", "Person", () -> "select * from Person")) {
+                            measurement.rows(1);
+                        }
+                    }
+                } catch (InterruptedException | RuntimeException exception) {
+                    failures.incrementAndGet();
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(failures).hasValue(0);
+        QueryStatistics statistics = log.top(1).get(0);
+        assertThat(statistics.count()).isEqualTo((long) threads * queries);
+        assertThat(statistics.rows()).isEqualTo((long) threads * queries);
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StreamPublisherTest {
+
+    @Test
+    void shouldReturnErrorWhenParameterIsNull() {
+        assertThatThrownBy(() -> StreamPublisher.of(null)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> StreamPublisher.of(Stream::empty).subscribe(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void shouldNotOpenStreamBeforeRequest() {
+        AtomicInteger opened = new AtomicInteger();
+        Recorder<Integer> recorder = new Recorder<>();
+        StreamPublisher.of(() -> {
+            opened.incrementAndGet();
+            return Stream.of(1);
+        }).subscribe(recorder);
+
+        assertThat(opened).hasValue(0);
+        recorder.subscription.request(1);
+        assertThat(opened).hasValue(1);
+    }
+
+    @Test
+    void shouldEmitOnlyRequested() {
+        AtomicInteger read = new AtomicInteger();
+        AtomicBoolean closed = new AtomicBoolean();
+        Recorder<Integer> recorder = new Recorder<>();
+        StreamPublisher.of(() -> IntStream.range(0, 10).boxed().peek(i -> read.incrementAndGet())
+                .onClose(() -> closed.set(true))).subscribe(recorder);
+
+        recorder.subscription.request(3);
+        assertThat(recorder.items).containsExactly(0, 1, 2);
+        assertThat(read).hasValue(3);
+        assertThat(closed).isFalse();
+
+        recorder.subscription.request(Long.MAX_VALUE);
+        assertThat(recorder.items).hasSize(10);
+        assertThat(recorder.completed).isTrue();
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void shouldCloseWhenCancelled() {
+        AtomicBoolean closed = new AtomicBoolean();
+        Recorder<Integer> recorder = new Recorder<>();
+        StreamPublisher.of(() -> Stream.of(1, 2, 3).onClose(() -> closed.set(true))).subscribe(recorder);
+
+        recorder.subscription.request(1);
+        recorder.subscription.cancel();
+        recorder.subscription.request(1);
+
+        assertThat(recorder.items).containsExactly(1);
+        assertThat(recorder.completed).isFalse();
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void shouldRequestFromOnNext() {
+        Recorder<Integer> recorder = new Recorder<>() {
+            @Override
+            public void onNext(Integer item) {
+                super.onNext(item);
+                subscription.request(1);
+            }
+        };
+        StreamPublisher.of(() -> IntStream.range(0, 10_000).boxed()).subscribe(recorder);
+
+        recorder.subscription.request(1);
+        assertThat(recorder.items).hasSize(10_000);
+        assertThat(recorder.completed).isTrue();
+    }
+
+    @Test
+    void shouldSignalErrorWhenRequestIsNotPositive() {
+        AtomicBoolean closed = new AtomicBoolean();
+        Recorder<Integer> recorder = new Recorder<>();
+        StreamPublisher.of(() -> Stream.of(1).onClose(() -> closed.set(true))).subscribe(recorder);
+
+        recorder.subscription.request(1);
+        recorder.subscription.request(0);
+
+        assertThat(recorder.items).containsExactly(1);
+        assertThat(recorder.error).isInstanceOf(IllegalArgumentException.class);
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void shouldSignalErrorFromStream() {
+        AtomicBoolean closed = new AtomicBoolean();
+        Recorder<Integer> recorder = new Recorder<>();
+        StreamPublisher.of(() -> Stream.of(1, 0).map(i -> 1 / i).onClose(() -> closed.set(true))).subscribe(recorder);
+
+        recorder.subscription.request(5);
+
+        assertThat(recorder.items).containsExactly(1);
+        assertThat(recorder.error).isInstanceOf(ArithmeticException.class);
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void shouldOpenAStreamPerSubscription() {
+        AtomicInteger opened = new AtomicInteger();
+        StreamPublisher<Integer> publisher = StreamPublisher.of(() -> {
+            opened.incrementAndGet();
+            return Stream.of(1, 2);
+        });
+        Recorder<Integer> first = new Recorder<>();
+        Recorder<Integer> second = new Recorder<>();
+        publisher.subscribe(first);
+        publisher.subscribe(second);
+        first.subscription.request(2);
+        second.subscription.request(2);
+
+        assertThat(first.items).containsExactly(1, 2);
+        assertThat(second.items).containsExactly(1, 2);
+        assertThat(opened).hasValue(2);
+    }
+
+    @Test
+    void shouldReadAtExecutor() throws InterruptedException {
+        ExecutorService executor = Executors.newSingleThreadExecutor(task -> new Thread(task, "publisher-reader"));
+        try {
+            List<String> threads = new CopyOnWriteArrayList<>();
+            CountDownLatch completed = new CountDownLatch(1);
+            Recorder<Integer> recorder = new Recorder<>() {
+                @Override
+                public void onNext(Integer item) {
+                    threads.add(Thread.currentThread().getName());
+                    super.onNext(item);
+                }
+
+                @Override
+                public void onComplete() {
+                    super.onComplete();
+                    completed.countDown();
+                }
+            };
+            StreamPublisher.of(() -> Stream.of(1, 2, 3), executor).subscribe(recorder);
+
+            recorder.subscription.request(Long.MAX_VALUE);
+
+            assertThat(completed.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(threads).containsOnly("publisher-reader").hasSize(3);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldSignalErrorWhenExecutorRejects() {
+        Executor executor = task -> {
+            throw new RejectedExecutionException("full");
+        };
+        Recorder<Integer> recorder = new Recorder<>();
+        StreamPublisher.of(() -> Stream.of(1), executor).subscribe(recorder);
+
+        recorder.subscription.request(1);
+
+        assertThat(recorder.items).isEmpty();
+        assertThat(recorder.error).isInstanceOf(RejectedExecutionException.class);
+        assertThatThrownBy(() -> StreamPublisher.of(Stream::empty, null)).isInstanceOf(NullPointerException.class);
+    }
+
+    private static class Recorder<T> implements Flow.Subscriber<T> {
+
+        protected Flow.Subscription subscription;
+
+        private final List<T> items = new ArrayList<>();
+
+        private boolean completed;
+
+        private Throwable error;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(T item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            this.error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            this.completed = true;
+        }
+    }
+}
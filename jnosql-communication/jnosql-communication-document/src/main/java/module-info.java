@@ -12,6 +12,7 @@
 module org.eclipse.jnosql.communication.document {
     requires org.eclipse.jnosql.communication.core;
     requires org.eclipse.jnosql.communication.query;
+    requires org.antlr.antlr4.runtime;
     requires jakarta.json.bind;
     requires jakarta.json;
     requires jakarta.data;
@@ -0,0 +1,47 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.document;
+
+import org.eclipse.jnosql.communication.Params;
+import org.eclipse.jnosql.communication.QueryException;
+import org.eclipse.jnosql.communication.query.AggregateQuery;
+import org.eclipse.jnosql.communication.query.AggregateQueryConverter;
+import org.eclipse.jnosql.communication.query.Aggregation;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+final class AggregateQueryParser {
+
+    Stream<DocumentEntity> query(String query, DocumentManager manager, DocumentObserverParser observer) {
+        AggregateQuery aggregateQuery = new AggregateQueryConverter().apply(query);
+        String collection = observer.fireEntity(aggregateQuery.entity());
+        List<Aggregation> aggregations = aggregateQuery.aggregations().stream()
+                .map(a -> a.field() == null ? a : Aggregation.of(a.function(), observer.fireField(collection, a.field())))
+                .toList();
+        List<String> groupBy = aggregateQuery.groupBy().stream()
+                .map(f -> observer.fireField(collection, f))
+                .toList();
+        Params params = Params.newParams();
+        DocumentCondition condition = aggregateQuery.where()
+                .map(c -> Conditions.getCondition(c, params, observer, collection))
+                .orElse(null);
+
+        if (params.isNotEmpty()) {
+            throw new QueryException("The aggregate query does not support parameters: " + query);
+        }
+        return manager.aggregate(DocumentAggregateQuery.of(collection, aggregations, groupBy, condition));
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.document;
+
+import org.eclipse.jnosql.communication.PublisherStream;
+import org.eclipse.jnosql.communication.StreamPublisher;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+
+/**
+ * The non-blocking counterpart of {@link DocumentManager}: the single results complete a {@link CompletionStage}
+ * and the queries emit their entities through a {@link Flow.Publisher}, so a caller can combine several
+ * operations without holding a thread per call. A driver with a native async client implements it directly,
+ * the others reach it with {@link AsyncDocumentManager#of(DocumentManager, Executor)}.
+ *
+ * @see DocumentManager
+ */
+public interface AsyncDocumentManager extends AutoCloseable {
+
+    /**
+     * Returns the database's name of this {@link AsyncDocumentManager}
+     *
+     * @return the database's name
+     */
+    String name();
+
+    /**
+     * Saves document collection entity
+     *
+     * @param entity entity to be saved
+     * @return the stage completed with the entity saved
+     * @throws NullPointerException when entity is null
+     */
+    CompletionStage<DocumentEntity> insert(DocumentEntity entity);
+
+    /**
+     * Saves document collection entity with time to live
+     *
+     * @param entity entity to be saved
+     * @param ttl    the time to live
+     * @return the stage completed with the entity saved
+     * @throws NullPointerException when either entity or ttl are null
+     */
+    CompletionStage<DocumentEntity> insert(DocumentEntity entity, Duration ttl);
+
+    /**
+     * Saves document collection entities
+     *
+     * @param entities entities to be saved
+     * @return the stage completed with the entities saved
+     * @throws NullPointerException when entities is null
+     */
+    CompletionStage<Iterable<DocumentEntity>> insert(Iterable<DocumentEntity> entities);
+
+    /**
+     * Saves document collection entities with time to live
+     *
+     * @param entities entities to be saved
+     * @param ttl      the time to live
+     * @return the stage completed with the entities saved
+     * @throws NullPointerException when either entities or ttl are null
+     */
+    CompletionStage<Iterable<DocumentEntity>> insert(Iterable<DocumentEntity> entities, Duration ttl);
+
+    /**
+     * Updates a document collection entity
+     *
+     * @param entity entity to be updated
+     * @return the stage completed with the entity updated
+     * @throws NullPointerException when entity is null
+     */
+    CompletionStage<DocumentEntity> update(DocumentEntity entity);
+
+    /**
+     * Updates document collection entities
+     *
+     * @param entities entities to be updated
+     * @return the stage completed with the entities updated
+     * @throws NullPointerException when entities is null
+     */
+    CompletionStage<Iterable<DocumentEntity>> update(Iterable<DocumentEntity> entities);
+
+    /**
+     * Inserts the entities that do not exist and replaces the ones that exist, matching them by id, in a single
+     * operation. The NoSQL vendors with a native upsert should override it along with
+     * {@link AsyncDocumentManager#isUpsertSupported()}; by default it throws {@link UnsupportedOperationException}.
+     *
+     * @param entities entities to be saved
+     * @return the stage completed with the entities saved, one per entity given and in the same order
+     * @throws NullPointerException          when entities is null
+     * @throws UnsupportedOperationException when the database has no native upsert
+     * @see DocumentManager#upsert(Iterable)
+     */
+    default CompletionStage<Iterable<DocumentEntity>> upsert(Iterable<DocumentEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        throw new UnsupportedOperationException("The AsyncDocumentManager " + name() + " does not support upsert");
+    }
+
+    /**
+     * Checks whether {@link AsyncDocumentManager#upsert(Iterable)} is a native upsert
+     *
+     * @return true when the database supports a native upsert
+     * @see DocumentManager#isUpsertSupported()
+     */
+    default boolean isUpsertSupported() {
+        return false;
+    }
+
+    /**
+     * Deletes an entity
+     *
+     * @param query the query to delete an entity
+     * @return the stage completed once the entities are deleted
+     * @throws NullPointerException when query is null
+     */
+    CompletionStage<Void> delete(DocumentDeleteQuery query);
+
+    /**
+     * Finds {@link DocumentEntity} from query; the query runs once per subscription and emits
+     * only what the subscriber requests.
+     *
+     * @param query the query
+     * @return a publisher of the entities found by query
+     * @throws NullPointerException when query is null
+     */
+    Flow.Publisher<DocumentEntity> select(DocumentQuery query);
+
+    /**
+     * Runs the aggregate functions of the query and emits a {@link DocumentEntity} per group.
+     * By default, it reads {@link AsyncDocumentManager#select(DocumentQuery)} at the thread that requests the first group and
+     * aggregates the entities without keeping them; each NoSQL vendor that can aggregate at the database might replace it.
+     *
+     * @param query the query
+     * @return a publisher of an entity per group
+     * @throws NullPointerException when query is null
+     * @see DocumentManager#aggregate(DocumentAggregateQuery)
+     */
+    default Flow.Publisher<DocumentEntity> aggregate(DocumentAggregateQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return StreamPublisher.of(() -> DefaultDocumentAggregateQuery.aggregate(query, selectQuery -> PublisherStream.of(select(selectQuery))));
+    }
+
+    /**
+     * Returns the number of elements from the query
+     *
+     * @param query the query
+     * @return the stage completed with the number of elements
+     * @throws NullPointerException when query is null
+     */
+    CompletionStage<Long> count(DocumentQuery query);
+
+    /**
+     * Returns whether the query has at least one element
+     *
+     * @param query the query
+     * @return the stage completed with true when there is a result
+     * @throws NullPointerException when query is null
+     */
+    CompletionStage<Boolean> exists(DocumentQuery query);
+
+    /**
+     * Returns a single entity from query
+     *
+     * @param query the query
+     * @return the stage completed with the entity, or failed with
+     * {@link jakarta.data.exceptions.NonUniqueResultException} when the query returns more than one
+     * @throws NullPointerException when query is null
+     */
+    CompletionStage<Optional<DocumentEntity>> singleResult(DocumentQuery query);
+
+    /**
+     * Returns the number of elements from the document collection
+     *
+     * @param documentCollection the document collection
+     * @return the stage completed with the number of elements
+     * @throws NullPointerException when documentCollection is null
+     */
+    CompletionStage<Long> count(String documentCollection);
+
+    /**
+     * closes a resource
+     */
+    void close();
+
+    /**
+     * Returns a blocking {@link DocumentManager} view of this manager, that waits for each stage at the calling thread
+     * and reads the publishers as a {@link java.util.stream.Stream}.
+     *
+     * @return a {@link DocumentManager} instance
+     */
+    default DocumentManager blocking() {
+        return new BlockingDocumentManager(this);
+    }
+
+    /**
+     * Creates an {@link AsyncDocumentManager} that runs each operation of the blocking manager at the executor.
+     *
+     * @param manager  the blocking manager
+     * @param executor the executor that runs the operations
+     * @return an {@link AsyncDocumentManager} instance
+     * @throws NullPointerException when there are null parameters
+     */
+    static AsyncDocumentManager of(DocumentManager manager, Executor executor) {
+        Objects.requireNonNull(manager, "manager is required");
+        Objects.requireNonNull(executor, "executor is required");
+        if (manager instanceof BlockingDocumentManager blocking) {
+            return blocking.manager();
+        }
+        return new ExecutorAsyncDocumentManager(manager, executor);
+    }
+}
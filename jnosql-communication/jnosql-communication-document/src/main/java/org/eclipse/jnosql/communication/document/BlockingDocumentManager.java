@@ -0,0 +1,160 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.document;
+
+import org.eclipse.jnosql.communication.PublisherStream;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Stream;
+
+/**
+ * A {@link DocumentManager} that waits at the calling thread for each operation of an {@link AsyncDocumentManager}.
+ * A failed stage rethrows its cause rather than the {@link CompletionException} around it.
+ */
+final class BlockingDocumentManager implements DocumentManager {
+
+    private final AsyncDocumentManager manager;
+
+    BlockingDocumentManager(AsyncDocumentManager manager) {
+        this.manager = manager;
+    }
+
+    AsyncDocumentManager manager() {
+        return manager;
+    }
+
+    @Override
+    public String name() {
+        return manager.name();
+    }
+
+    @Override
+    public DocumentEntity insert(DocumentEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        return join(manager.insert(entity));
+    }
+
+    @Override
+    public DocumentEntity insert(DocumentEntity entity, Duration ttl) {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        return join(manager.insert(entity, ttl));
+    }
+
+    @Override
+    public Iterable<DocumentEntity> insert(Iterable<DocumentEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        return join(manager.insert(entities));
+    }
+
+    @Override
+    public Iterable<DocumentEntity> insert(Iterable<DocumentEntity> entities, Duration ttl) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        return join(manager.insert(entities, ttl));
+    }
+
+    @Override
+    public DocumentEntity update(DocumentEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        return join(manager.update(entity));
+    }
+
+    @Override
+    public Iterable<DocumentEntity> update(Iterable<DocumentEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        return join(manager.update(entities));
+    }
+
+    @Override
+    public Iterable<DocumentEntity> upsert(Iterable<DocumentEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        return join(manager.upsert(entities));
+    }
+
+    @Override
+    public boolean isUpsertSupported() {
+        return manager.isUpsertSupported();
+    }
+
+    @Override
+    public void delete(DocumentDeleteQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        join(manager.delete(query));
+    }
+
+    @Override
+    public Stream<DocumentEntity> select(DocumentQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return PublisherStream.of(manager.select(query));
+    }
+
+    @Override
+    public Stream<DocumentEntity> aggregate(DocumentAggregateQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return PublisherStream.of(manager.aggregate(query));
+    }
+
+    @Override
+    public long count(DocumentQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return join(manager.count(query));
+    }
+
+    @Override
+    public boolean exists(DocumentQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return join(manager.exists(query));
+    }
+
+    @Override
+    public Optional<DocumentEntity> singleResult(DocumentQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return join(manager.singleResult(query));
+    }
+
+    @Override
+    public long count(String documentCollection) {
+        Objects.requireNonNull(documentCollection, "documentCollection is required");
+        return join(manager.count(documentCollection));
+    }
+
+    @Override
+    public void close() {
+        manager.close();
+    }
+
+    @Override
+    public String toString() {
+        return "BlockingDocumentManager{" +
+                "manager=" + manager +
+                '}';
+    }
+
+    private static <T> T join(CompletionStage<T> stage) {
+        try {
+            return stage.toCompletableFuture().join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw exception;
+        }
+    }
+}
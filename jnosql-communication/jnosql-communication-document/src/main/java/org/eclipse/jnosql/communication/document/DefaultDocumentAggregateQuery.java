@@ -0,0 +1,63 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.document;
+
+import org.eclipse.jnosql.communication.query.Aggregation;
+import org.eclipse.jnosql.communication.query.Aggregator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static java.util.Optional.ofNullable;
+
+record DefaultDocumentAggregateQuery(String name, List<Aggregation> aggregations, List<String> groupBy,
+                                     DocumentCondition documentCondition) implements DocumentAggregateQuery {
+
+    @Override
+    public Optional<DocumentCondition> condition() {
+        return ofNullable(documentCondition).map(DocumentCondition::readOnly);
+    }
+
+    static DocumentQuery select(DocumentAggregateQuery query, Set<String> documents) {
+        return new DefaultDocumentQuery(0, 0, query.name(), new ArrayList<>(documents),
+                Collections.emptyList(), query.condition().orElse(null));
+    }
+
+    static Stream<DocumentEntity> aggregate(DocumentAggregateQuery query, Function<DocumentQuery, Stream<DocumentEntity>> select) {
+        Aggregator aggregator = Aggregator.of(query.groupBy(), query.aggregations());
+        try (Stream<DocumentEntity> entities = select.apply(select(query, aggregator.fields()))) {
+            entities.forEach(entity -> aggregator.accept(name -> entity.find(name).map(Document::get).orElse(null)));
+        }
+        return aggregator.result().stream().map(row -> entity(query.name(), row));
+    }
+
+    static DocumentEntity entity(String name, Map<String, Object> row) {
+        DocumentEntity entity = DocumentEntity.of(name);
+        row.forEach((document, value) -> {
+            if (value == null) {
+                entity.addNull(document);
+            } else {
+                entity.add(document, value);
+            }
+        });
+        return entity;
+    }
+}
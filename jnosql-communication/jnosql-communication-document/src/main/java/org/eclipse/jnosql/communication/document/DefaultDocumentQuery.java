@@ -18,6 +18,7 @@ package org.eclipse.jnosql.communication.document;
 
 
 import jakarta.data.Sort;
+import org.eclipse.jnosql.communication.QueryHints;
 
 import java.util.Collections;
 import java.util.List;
@@ -28,10 +29,16 @@ import static java.util.Collections.unmodifiableList;
 import static java.util.Optional.ofNullable;
 
 record DefaultDocumentQuery(long limit, long skip, String name,
-                            List<String> documents, List<Sort> sorts, DocumentCondition documentCondition) implements DocumentQuery {
+                            List<String> documents, List<Sort> sorts, DocumentCondition documentCondition,
+                            QueryHints hints) implements DocumentQuery {
 
 
 
+    DefaultDocumentQuery(long limit, long skip, String name, List<String> documents, List<Sort> sorts,
+                         DocumentCondition documentCondition) {
+        this(limit, skip, name, documents, sorts, documentCondition, QueryHints.empty());
+    }
+
     @Override
     public Optional<DocumentCondition> condition() {
         return ofNullable(documentCondition).map(DocumentCondition::readOnly);
@@ -58,6 +65,7 @@ record DefaultDocumentQuery(long limit, long skip, String name,
         return limit == that.limit() &&
                 skip == that.skip() &&
                 Objects.equals(name, that.name()) &&
+                Objects.equals(hints, that.hints()) &&
                 Objects.equals(documentCondition, that.condition().orElse(null)) &&
                 Objects.equals(sorts, that.sorts()) &&
                 Objects.equals(documents, that.documents());
@@ -65,16 +73,16 @@ record DefaultDocumentQuery(long limit, long skip, String name,
 
     @Override
     public int hashCode() {
-        return Objects.hash(limit, skip, name, documentCondition, sorts, documents);
+        return Objects.hash(limit, skip, name, documentCondition, sorts, documents, hints);
     }
 
 
     static DocumentQuery countBy(DocumentQuery query) {
         return new DefaultDocumentQuery(0, 0, query.name(), query.documents(),
-                Collections.emptyList(), query.condition().orElse(null));
+                Collections.emptyList(), query.condition().orElse(null), query.hints());
     }
     static DocumentQuery existsBy(DocumentQuery query) {
         return new DefaultDocumentQuery(1, 0, query.name(), query.documents(),
-                Collections.emptyList(), query.condition().orElse(null));
+                Collections.emptyList(), query.condition().orElse(null), query.hints());
     }
 }
@@ -18,6 +18,7 @@ package org.eclipse.jnosql.communication.document;
 
 
 import jakarta.data.Sort;
+import org.eclipse.jnosql.communication.QueryHints;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -42,6 +43,8 @@ class DefaultDocumentQueryBuilder implements DocumentQuery.DocumentQueryBuilder
 
     private long limit;
 
+    private QueryHints hints = QueryHints.empty();
+
 
     @Override
     public DocumentQuery.DocumentQueryBuilder select(String document) {
@@ -105,13 +108,28 @@ class DefaultDocumentQueryBuilder implements DocumentQuery.DocumentQueryBuilder
         return this;
     }
 
+    @Override
+    public DocumentQuery.DocumentQueryBuilder fetchSize(int fetchSize) {
+        if (fetchSize < 0) {
+            throw new IllegalArgumentException("The fetch size should not be negative, fetchSize: " + fetchSize);
+        }
+        this.hints = hints.with(QueryHints.FETCH_SIZE, fetchSize);
+        return this;
+    }
+
+    @Override
+    public DocumentQuery.DocumentQueryBuilder hint(String key, Object value) {
+        this.hints = hints.with(key, value);
+        return this;
+    }
+
     @Override
     public DocumentQuery build() {
         if (Objects.isNull(documentCollection)) {
             throw new IllegalArgumentException("The document collection is mandatory to build");
         }
         return new DefaultDocumentQuery(limit, skip, documentCollection,
-                documents, sorts, condition);
+                documents, sorts, condition, hints);
     }
 
     @Override
@@ -137,6 +155,7 @@ class DefaultDocumentQueryBuilder implements DocumentQuery.DocumentQueryBuilder
         DefaultDocumentQueryBuilder that = (DefaultDocumentQueryBuilder) o;
         return skip == that.skip
                 && limit == that.limit
+                && Objects.equals(hints, that.hints)
                 && Objects.equals(documents, that.documents)
                 && Objects.equals(sorts, that.sorts)
                 && Objects.equals(documentCollection, that.documentCollection)
@@ -145,7 +164,7 @@ class DefaultDocumentQueryBuilder implements DocumentQuery.DocumentQueryBuilder
 
     @Override
     public int hashCode() {
-        return Objects.hash(documents, sorts, documentCollection, condition, skip, limit);
+        return Objects.hash(documents, sorts, documentCollection, condition, skip, limit, hints);
     }
 
     @Override
@@ -157,6 +176,7 @@ class DefaultDocumentQueryBuilder implements DocumentQuery.DocumentQueryBuilder
                 ", condition=" + condition +
                 ", skip=" + skip +
                 ", limit=" + limit +
+                ", hints=" + hints +
                 '}';
     }
 }
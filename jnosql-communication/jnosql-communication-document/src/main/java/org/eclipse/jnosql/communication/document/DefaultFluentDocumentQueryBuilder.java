@@ -18,6 +18,7 @@ package org.eclipse.jnosql.communication.document;
 
 
 import jakarta.data.Sort;
+import org.eclipse.jnosql.communication.QueryHints;
 import jakarta.data.Direction;
 import org.eclipse.jnosql.communication.document.DocumentQuery.DocumentFrom;
 import org.eclipse.jnosql.communication.document.DocumentQuery.DocumentLimit;
@@ -50,6 +51,8 @@ class DefaultFluentDocumentQueryBuilder extends BaseQueryBuilder implements Docu
 
     private long limit;
 
+    private QueryHints hints = QueryHints.empty();
+
     private final List<Sort> sorts = new ArrayList<>();
 
     private final List<String> documents;
@@ -187,9 +190,24 @@ class DefaultFluentDocumentQueryBuilder extends BaseQueryBuilder implements Docu
     }
 
 
+    @Override
+    public DocumentQueryBuild fetchSize(int fetchSize) {
+        if (fetchSize < 0) {
+            throw new IllegalArgumentException("The fetch size should not be negative, fetchSize: " + fetchSize);
+        }
+        this.hints = hints.with(QueryHints.FETCH_SIZE, fetchSize);
+        return this;
+    }
+
+    @Override
+    public DocumentQueryBuild hint(String key, Object value) {
+        this.hints = hints.with(key, value);
+        return this;
+    }
+
     @Override
     public DocumentQuery build() {
-        return new DefaultDocumentQuery(limit, skip, documentCollection, documents, sorts, condition);
+        return new DefaultDocumentQuery(limit, skip, documentCollection, documents, sorts, condition, hints);
     }
 
     @Override
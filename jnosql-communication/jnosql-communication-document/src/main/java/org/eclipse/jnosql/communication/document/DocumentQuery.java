@@ -19,6 +19,7 @@ package org.eclipse.jnosql.communication.document;
 
 
 import jakarta.data.Sort;
+import org.eclipse.jnosql.communication.QueryHints;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -84,6 +85,28 @@ public interface DocumentQuery {
      */
     List<String> documents();
 
+    /**
+     * The number of entities the driver should fetch from the database at each round trip while the result is read,
+     * it allows reading large results in chunks instead of one at a time or all at once.
+     * Zero means the driver default. The implementation might ignore this option.
+     *
+     * @return the fetch size
+     * @see QueryHints#FETCH_SIZE
+     */
+    default int fetchSize() {
+        return hints().fetchSize();
+    }
+
+    /**
+     * The hints to the driver, such as the fetch size, the timeout, the read preference and the consistency level.
+     * The hints do not change the result and the implementation might ignore them.
+     *
+     * @return the hints, by default {@link QueryHints#empty()}
+     */
+    default QueryHints hints() {
+        return QueryHints.empty();
+    }
+
     /**
      * It starts the first step of {@link DocumentQuery} creation using a fluent-API way.
      * This first step will inform the fields to return to the query, such as a "select field, fieldB from database"
@@ -492,6 +515,29 @@ public interface DocumentQuery {
          */
         Optional<DocumentEntity> getSingleResult(DocumentManager manager);
 
+        /**
+         * Defines the number of entities the driver should fetch at each round trip while the result is read.
+         * The default value is zero, the driver default.
+         *
+         * @param fetchSize the fetch size
+         * @return the {@link DocumentQueryBuild}
+         * @throws IllegalArgumentException if fetchSize is negative
+         * @see DocumentQuery#fetchSize()
+         */
+        DocumentQueryBuild fetchSize(int fetchSize);
+
+        /**
+         * Defines a hint to the driver, it replaces the current value of the key.
+         *
+         * @param key   the hint key, e.g. {@link QueryHints#TIMEOUT}
+         * @param value the hint value
+         * @return the {@link DocumentQueryBuild}
+         * @throws NullPointerException     when there are null parameters
+         * @throws IllegalArgumentException when the value of a well-known key is either invalid or negative
+         * @see DocumentQuery#hints()
+         */
+        DocumentQueryBuild hint(String key, Object value);
+
     }
 
     /**
@@ -580,6 +626,29 @@ public interface DocumentQuery {
          */
         DocumentQueryBuilder limit(long limit);
 
+        /**
+         * Defines the number of entities the driver should fetch at each round trip while the result is read.
+         * The default value is zero, the driver default, and it will replace the current property.
+         *
+         * @param fetchSize the fetch size
+         * @return the {@link DocumentQueryBuilder}
+         * @throws IllegalArgumentException if fetchSize is negative
+         * @see DocumentQuery#fetchSize()
+         */
+        DocumentQueryBuilder fetchSize(int fetchSize);
+
+        /**
+         * Defines a hint to the driver, it replaces the current value of the key.
+         *
+         * @param key   the hint key, e.g. {@link QueryHints#TIMEOUT}
+         * @param value the hint value
+         * @return the {@link DocumentQueryBuilder}
+         * @throws NullPointerException     when there are null parameters
+         * @throws IllegalArgumentException when the value of a well-known key is either invalid or negative
+         * @see DocumentQuery#hints()
+         */
+        DocumentQueryBuilder hint(String key, Object value);
+
         /**
          * It will validate and then create a {@link DocumentQuery} instance.
          *
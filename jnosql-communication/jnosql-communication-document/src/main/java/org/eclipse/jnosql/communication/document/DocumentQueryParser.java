@@ -32,6 +32,7 @@ public final class DocumentQueryParser {
     private final DeleteQueryParser delete = new DeleteQueryParser();
     private final InsertQueryParser insert = new InsertQueryParser();
     private final UpdateQueryParser update = new UpdateQueryParser();
+    private final AggregateQueryParser aggregate = new AggregateQueryParser();
 
     /**
      * Executes a query and returns the result, when the operations are <b>insert</b>, <b>update</b> and <b>select</b>
@@ -88,6 +89,23 @@ public final class DocumentQueryParser {
     }
 
 
+    /**
+     * Executes a <b>select</b> query with aggregate functions and returns a {@link DocumentEntity} per group,
+     * e.g.: {@code select city, count(*), avg(age) from Person where active = true group by city}.
+     *
+     * @param query             the query as {@link String}
+     * @param collectionManager the collection manager
+     * @param observer          the observer
+     * @return the result of {@link DocumentManager#aggregate(DocumentAggregateQuery)}
+     * @throws NullPointerException when there is parameter null
+     * @throws QueryException       when there is error in the syntax or the query has parameters
+     */
+    public Stream<DocumentEntity> aggregate(String query, DocumentManager collectionManager,
+                                            DocumentObserverParser observer) {
+        validation(query, collectionManager, observer);
+        return aggregate.query(query, collectionManager, observer);
+    }
+
     private void validation(String query, DocumentManager collectionManager, DocumentObserverParser observer) {
         Objects.requireNonNull(query, "query is required");
         Objects.requireNonNull(collectionManager, "collectionManager is required");
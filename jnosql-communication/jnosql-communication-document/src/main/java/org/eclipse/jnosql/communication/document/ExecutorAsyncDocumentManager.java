@@ -0,0 +1,154 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.document;
+
+import org.eclipse.jnosql.communication.StreamPublisher;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+
+/**
+ * An {@link AsyncDocumentManager} that runs each call of a blocking {@link DocumentManager} at an {@link Executor}.
+ */
+final class ExecutorAsyncDocumentManager implements AsyncDocumentManager {
+
+    private final DocumentManager manager;
+
+    private final Executor executor;
+
+    ExecutorAsyncDocumentManager(DocumentManager manager, Executor executor) {
+        this.manager = manager;
+        this.executor = executor;
+    }
+
+    @Override
+    public String name() {
+        return manager.name();
+    }
+
+    @Override
+    public CompletionStage<DocumentEntity> insert(DocumentEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        return CompletableFuture.supplyAsync(() -> manager.insert(entity), executor);
+    }
+
+    @Override
+    public CompletionStage<DocumentEntity> insert(DocumentEntity entity, Duration ttl) {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        return CompletableFuture.supplyAsync(() -> manager.insert(entity, ttl), executor);
+    }
+
+    @Override
+    public CompletionStage<Iterable<DocumentEntity>> insert(Iterable<DocumentEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        return CompletableFuture.supplyAsync(() -> manager.insert(entities), executor);
+    }
+
+    @Override
+    public CompletionStage<Iterable<DocumentEntity>> insert(Iterable<DocumentEntity> entities, Duration ttl) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        return CompletableFuture.supplyAsync(() -> manager.insert(entities, ttl), executor);
+    }
+
+    @Override
+    public CompletionStage<DocumentEntity> update(DocumentEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        return CompletableFuture.supplyAsync(() -> manager.update(entity), executor);
+    }
+
+    @Override
+    public CompletionStage<Iterable<DocumentEntity>> update(Iterable<DocumentEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        return CompletableFuture.supplyAsync(() -> manager.update(entities), executor);
+    }
+
+    @Override
+    public CompletionStage<Iterable<DocumentEntity>> upsert(Iterable<DocumentEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        return CompletableFuture.supplyAsync(() -> manager.upsert(entities), executor);
+    }
+
+    @Override
+    public boolean isUpsertSupported() {
+        return manager.isUpsertSupported();
+    }
+
+    @Override
+    public CompletionStage<Void> delete(DocumentDeleteQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return CompletableFuture.runAsync(() -> manager.delete(query), executor);
+    }
+
+    @Override
+    public Flow.Publisher<DocumentEntity> select(DocumentQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return StreamPublisher.of(() -> manager.select(query), executor);
+    }
+
+    @Override
+    public Flow.Publisher<DocumentEntity> aggregate(DocumentAggregateQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return StreamPublisher.of(() -> manager.aggregate(query), executor);
+    }
+
+    @Override
+    public CompletionStage<Long> count(DocumentQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return CompletableFuture.supplyAsync(() -> manager.count(query), executor);
+    }
+
+    @Override
+    public CompletionStage<Boolean> exists(DocumentQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return CompletableFuture.supplyAsync(() -> manager.exists(query), executor);
+    }
+
+    @Override
+    public CompletionStage<Optional<DocumentEntity>> singleResult(DocumentQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return CompletableFuture.supplyAsync(() -> manager.singleResult(query), executor);
+    }
+
+    @Override
+    public CompletionStage<Long> count(String documentCollection) {
+        Objects.requireNonNull(documentCollection, "documentCollection is required");
+        return CompletableFuture.supplyAsync(() -> manager.count(documentCollection), executor);
+    }
+
+    @Override
+    public void close() {
+        manager.close();
+    }
+
+    @Override
+    public DocumentManager blocking() {
+        return manager;
+    }
+
+    @Override
+    public String toString() {
+        return "ExecutorAsyncDocumentManager{" +
+                "manager=" + manager +
+                ", executor=" + executor +
+                '}';
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.document;
+
+import org.eclipse.jnosql.communication.Instrumentation;
+import org.eclipse.jnosql.communication.Measurement;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+
+/**
+ * A {@link DocumentManager} that reports the latency, the rows and the errors of each operation of another manager
+ * to an {@link Instrumentation}, tagged by the provider, the operation and the document collection.
+ * The result of a select is measured until the caller reads all of it or closes it. The queries are reported
+ * with their {@link DocumentQueryFingerprint}.
+ *
+ * @see InstrumentedDocumentManager#of(DocumentManager, Instrumentation, String)
+ */
+public final class InstrumentedDocumentManager implements DocumentManager {
+
+    private final DocumentManager manager;
+
+    private final Instrumentation instrumentation;
+
+    private final String provider;
+
+    private InstrumentedDocumentManager(DocumentManager manager, Instrumentation instrumentation, String provider) {
+        this.manager = manager;
+        this.instrumentation = instrumentation;
+        this.provider = provider;
+    }
+
+    @Override
+    public String name() {
+        return manager.name();
+    }
+
+    @Override
+    public DocumentEntity insert(DocumentEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        return measure("insert", entity.name(), () -> manager.insert(entity), e -> 1L);
+    }
+
+    @Override
+    public DocumentEntity insert(DocumentEntity entity, Duration ttl) {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        return measure("insert", entity.name(), () -> manager.insert(entity, ttl), e -> 1L);
+    }
+
+    @Override
+    public Iterable<DocumentEntity> insert(Iterable<DocumentEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        return measure("insert", name(entities), () -> manager.insert(entities), InstrumentedDocumentManager::size);
+    }
+
+    @Override
+    public Iterable<DocumentEntity> insert(Iterable<DocumentEntity> entities, Duration ttl) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        return measure("insert", name(entities), () -> manager.insert(entities, ttl), InstrumentedDocumentManager::size);
+    }
+
+    @Override
+    public DocumentEntity update(DocumentEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        return measure("update", entity.name(), () -> manager.update(entity), e -> 1L);
+    }
+
+    @Override
+    public Iterable<DocumentEntity> update(Iterable<DocumentEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        return measure("update", name(entities), () -> manager.update(entities), InstrumentedDocumentManager::size);
+    }
+
+    @Override
+    public Iterable<DocumentEntity> upsert(Iterable<DocumentEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        return measure("upsert", name(entities), () -> manager.upsert(entities), InstrumentedDocumentManager::size);
+    }
+
+    @Override
+    public boolean isUpsertSupported() {
+        return manager.isUpsertSupported();
+    }
+
+    @Override
+    public void delete(DocumentDeleteQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        measure("delete", query.name(), () -> DocumentQueryFingerprint.of(query), () -> {
+            manager.delete(query);
+            return null;
+        }, r -> -1L);
+    }
+
+    @Override
+    public Stream<DocumentEntity> select(DocumentQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return track("select", query.name(), () -> DocumentQueryFingerprint.of(query), () -> manager.select(query));
+    }
+
+    @Override
+    public long count(DocumentQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return measure("count", query.name(), () -> DocumentQueryFingerprint.of(query), () -> manager.count(query), r -> -1L);
+    }
+
+    @Override
+    public boolean exists(DocumentQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return measure("exists", query.name(), () -> DocumentQueryFingerprint.of(query), () -> manager.exists(query), r -> -1L);
+    }
+
+    @Override
+    public Stream<DocumentEntity> aggregate(DocumentAggregateQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return track("aggregate", query.name(), () -> DocumentQueryFingerprint.of(query), () -> manager.aggregate(query));
+    }
+
+    @Override
+    public Optional<DocumentEntity> singleResult(DocumentQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return measure("select", query.name(), () -> DocumentQueryFingerprint.of(query), () -> manager.singleResult(query),
+                r -> r.isPresent() ? 1L : 0L);
+    }
+
+    @Override
+    public long count(String documentCollection) {
+        Objects.requireNonNull(documentCollection, "documentCollection is required");
+        return measure("count", documentCollection, () -> manager.count(documentCollection), r -> -1L);
+    }
+
+    @Override
+    public void close() {
+        manager.close();
+    }
+
+    /**
+     * Returns the decorated {@link DocumentManager}
+     *
+     * @return the decorated manager
+     */
+    public DocumentManager manager() {
+        return manager;
+    }
+
+    @Override
+    public String toString() {
+        return "InstrumentedDocumentManager{" +
+                "manager=" + manager +
+                ", instrumentation=" + instrumentation +
+                ", provider='" + provider + '\'' +
+                '}';
+    }
+
+    private <T> T measure(String operation, String entity, Supplier<T> supplier, ToLongFunction<T> rows) {
+        return measure(instrumentation.start(provider, operation, entity), supplier, rows);
+    }
+
+    private <T> T measure(String operation, String entity, Supplier<String> query, Supplier<T> supplier,
+                          ToLongFunction<T> rows) {
+        return measure(instrumentation.start(provider, operation, entity, query), supplier, rows);
+    }
+
+    private <T> T measure(Measurement started, Supplier<T> supplier, ToLongFunction<T> rows) {
+        try (Measurement measurement = started) {
+            try {
+                T result = supplier.get();
+                long count = rows.applyAsLong(result);
+                if (count >= 0) {
+                    measurement.rows(count);
+                }
+                return result;
+            } catch (RuntimeException | Error exception) {
+                measurement.error(exception);
+                throw exception;
+            }
+        }
+    }
+
+    private Stream<DocumentEntity> track(String operation, String entity, Supplier<String> query,
+                                         Supplier<Stream<DocumentEntity>> supplier) {
+        Measurement measurement = instrumentation.start(provider, operation, entity, query);
+        try {
+            return measurement.track(supplier.get());
+        } catch (RuntimeException | Error exception) {
+            measurement.error(exception);
+            measurement.close();
+            throw exception;
+        }
+    }
+
+    private static String name(Iterable<DocumentEntity> entities) {
+        if (entities instanceof Collection<DocumentEntity> collection && !collection.isEmpty()) {
+            Iterator<DocumentEntity> iterator = collection.iterator();
+            DocumentEntity entity = iterator.next();
+            return entity == null ? "" : entity.name();
+        }
+        return "";
+    }
+
+    private static long size(Iterable<DocumentEntity> entities) {
+        if (entities instanceof Collection<DocumentEntity> collection) {
+            return collection.size();
+        }
+        return -1L;
+    }
+
+    /**
+     * Decorates the manager with the instrumentation. It returns the manager itself when the instrumentation is
+     * {@link Instrumentation#noop()}, so a disabled instrumentation costs nothing.
+     *
+     * @param manager         the manager
+     * @param instrumentation the instrumentation
+     * @param provider        the provider of the database, empty for the default one
+     * @return the decorated manager
+     * @throws NullPointerException when there are null parameters
+     */
+    public static DocumentManager of(DocumentManager manager, Instrumentation instrumentation, String provider) {
+        Objects.requireNonNull(manager, "manager is required");
+        Objects.requireNonNull(instrumentation, "instrumentation is required");
+        Objects.requireNonNull(provider, "provider is required");
+        if (instrumentation == Instrumentation.noop() || manager instanceof InstrumentedDocumentManager) {
+            return manager;
+        }
+        return new InstrumentedDocumentManager(manager, instrumentation, provider);
+    }
+}
@@ -81,7 +81,7 @@ public final class SelectQueryParser implements BiFunction<SelectQuery, Document
         if (params.isNotEmpty()) {
             throw new QueryException("To run a query with a parameter use a PrepareStatement instead.");
         }
-        return new DefaultDocumentQuery(limit, skip, collection, documents, sorts, condition);
+        return new DefaultDocumentQuery(limit, skip, collection, documents, sorts, condition, selectQuery.hints());
     }
 
     private DocumentQuery getDocumentQuery(Params params, SelectQuery selectQuery, DocumentObserverParser observer) {
@@ -97,7 +97,7 @@ public final class SelectQueryParser implements BiFunction<SelectQuery, Document
         DocumentCondition condition = selectQuery.where()
                 .map(c -> Conditions.getCondition(c, params, observer, collection)).orElse(null);
 
-        return new DefaultDocumentQuery(limit, skip, collection, documents, sorts, condition);
+        return new DefaultDocumentQuery(limit, skip, collection, documents, sorts, condition, selectQuery.hints());
     }
 
     private Sort toSort(Sort sort, DocumentObserverParser observer, String entity) {
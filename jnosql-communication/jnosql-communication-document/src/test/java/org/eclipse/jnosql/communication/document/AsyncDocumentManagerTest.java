@@ -0,0 +1,199 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.document;
+
+import org.eclipse.jnosql.communication.PublisherStream;
+import org.eclipse.jnosql.communication.StreamPublisher;
+import org.eclipse.jnosql.communication.query.Aggregation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AsyncDocumentManagerTest {
+
+    private final DocumentEntity entity = DocumentEntity.of("person", List.of(Document.of("name", "Ada")));
+
+    private final DocumentQuery query = DocumentQuery.select().from("person").build();
+
+    private DocumentManager manager;
+
+    private ExecutorService executor;
+
+    private AsyncDocumentManager async;
+
+    @BeforeEach
+    void setUp() {
+        this.manager = Mockito.mock(DocumentManager.class);
+        this.executor = Executors.newSingleThreadExecutor(task -> new Thread(task, "document-async"));
+        this.async = AsyncDocumentManager.of(manager, executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldReturnErrorWhenParameterIsNull() {
+        assertThatNullPointerException().isThrownBy(() -> AsyncDocumentManager.of(null, executor));
+        assertThatNullPointerException().isThrownBy(() -> AsyncDocumentManager.of(manager, null));
+        assertThatNullPointerException().isThrownBy(() -> async.insert((DocumentEntity) null));
+        assertThatNullPointerException().isThrownBy(() -> async.select(null));
+    }
+
+    @Test
+    void shouldInsertAtExecutor() throws Exception {
+        AtomicReference<String> thread = new AtomicReference<>();
+        when(manager.insert(entity)).thenAnswer(invocation -> {
+            thread.set(Thread.currentThread().getName());
+            return entity;
+        });
+
+        DocumentEntity result = async.insert(entity).toCompletableFuture().get(5, TimeUnit.SECONDS);
+
+        assertThat(result).isEqualTo(entity);
+        assertThat(thread).hasValue("document-async");
+    }
+
+    @Test
+    void shouldSelectAtExecutor() {
+        AtomicReference<String> thread = new AtomicReference<>();
+        when(manager.select(query)).thenAnswer(invocation -> {
+            thread.set(Thread.currentThread().getName());
+            return Stream.of(entity);
+        });
+
+        List<DocumentEntity> result = PublisherStream.of(async.select(query)).toList();
+
+        assertThat(result).containsExactly(entity);
+        assertThat(thread).hasValue("document-async");
+    }
+
+    @Test
+    void shouldCountAndDelete() throws Exception {
+        DocumentDeleteQuery deleteQuery = DocumentDeleteQuery.delete().from("person").build();
+        when(manager.count(query)).thenReturn(3L);
+        when(manager.exists(query)).thenReturn(true);
+
+        assertThat(async.count(query).toCompletableFuture().get(5, TimeUnit.SECONDS)).isEqualTo(3L);
+        assertThat(async.exists(query).toCompletableFuture().get(5, TimeUnit.SECONDS)).isTrue();
+        async.delete(deleteQuery).toCompletableFuture().get(5, TimeUnit.SECONDS);
+
+        verify(manager).delete(deleteQuery);
+    }
+
+    @Test
+    void shouldCompleteExceptionally() {
+        when(manager.singleResult(query)).thenThrow(new IllegalStateException("offline"));
+
+        CompletableFuture<Optional<DocumentEntity>> future = async.singleResult(query).toCompletableFuture();
+
+        assertThat(future).failsWithin(5, TimeUnit.SECONDS)
+                .withThrowableOfType(Exception.class)
+                .withCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldReturnTheBlockingManager() {
+        assertThat(async.blocking()).isSameAs(manager);
+    }
+
+    @Test
+    void shouldWaitForAsyncManager() {
+        AsyncDocumentManager asyncManager = Mockito.mock(AsyncDocumentManager.class);
+        when(asyncManager.insert(entity)).thenReturn(CompletableFuture.completedFuture(entity));
+        when(asyncManager.select(query)).thenReturn(StreamPublisher.of(() -> Stream.of(entity)));
+        when(asyncManager.count("person")).thenReturn(CompletableFuture.completedFuture(1L));
+        DocumentManager blocking = new BlockingDocumentManager(asyncManager);
+
+        assertThat(blocking.insert(entity)).isEqualTo(entity);
+        assertThat(blocking.select(query)).containsExactly(entity);
+        assertThat(blocking.count("person")).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldRethrowCauseFromAsyncManager() {
+        AsyncDocumentManager asyncManager = Mockito.mock(AsyncDocumentManager.class);
+        when(asyncManager.update(entity)).thenReturn(CompletableFuture.failedFuture(new IllegalStateException("offline")));
+        DocumentManager blocking = new BlockingDocumentManager(asyncManager);
+
+        assertThatIllegalStateException().isThrownBy(() -> blocking.update(entity)).withMessage("offline");
+    }
+
+    @Test
+    void shouldUnwrapBlockingManager() {
+        AsyncDocumentManager asyncManager = Mockito.mock(AsyncDocumentManager.class);
+
+        assertThat(AsyncDocumentManager.of(new BlockingDocumentManager(asyncManager), executor)).isSameAs(asyncManager);
+    }
+
+    @Test
+    void shouldUpsertAndAggregateAtExecutor() throws Exception {
+        DocumentAggregateQuery aggregate = DocumentAggregateQuery.of("person", List.of(Aggregation.count()), List.of(), null);
+        when(manager.upsert(List.of(entity))).thenReturn(List.of(entity));
+        when(manager.isUpsertSupported()).thenReturn(true);
+        when(manager.aggregate(aggregate)).thenAnswer(invocation -> Stream.of(entity));
+
+        assertThat(async.upsert(List.of(entity)).toCompletableFuture().get(5, TimeUnit.SECONDS)).containsExactly(entity);
+        assertThat(async.isUpsertSupported()).isTrue();
+        assertThat(PublisherStream.of(async.aggregate(aggregate))).containsExactly(entity);
+    }
+
+    @Test
+    void shouldForwardUpsertAndAggregateToAsyncManager() {
+        DocumentAggregateQuery aggregate = DocumentAggregateQuery.of("person", List.of(Aggregation.count()), List.of(), null);
+        AsyncDocumentManager asyncManager = Mockito.mock(AsyncDocumentManager.class);
+        when(asyncManager.upsert(List.of(entity))).thenReturn(CompletableFuture.completedFuture(List.of(entity)));
+        when(asyncManager.isUpsertSupported()).thenReturn(true);
+        when(asyncManager.aggregate(aggregate)).thenReturn(StreamPublisher.of(() -> Stream.of(entity)));
+        DocumentManager blocking = new BlockingDocumentManager(asyncManager);
+
+        assertThat(blocking.upsert(List.of(entity))).containsExactly(entity);
+        assertThat(blocking.isUpsertSupported()).isTrue();
+        assertThat(blocking.aggregate(aggregate)).containsExactly(entity);
+    }
+
+    @Test
+    void shouldAggregateTheSelectByDefault() {
+        DocumentAggregateQuery aggregate = DocumentAggregateQuery.of("person", List.of(Aggregation.count()), List.of(), null);
+        AsyncDocumentManager asyncManager = Mockito.mock(AsyncDocumentManager.class, Mockito.CALLS_REAL_METHODS);
+        doReturn(StreamPublisher.of(() -> Stream.of(entity, entity))).when(asyncManager).select(Mockito.any());
+
+        List<DocumentEntity> groups = PublisherStream.of(asyncManager.aggregate(aggregate)).toList();
+
+        assertThat(groups).hasSize(1);
+        assertThat(groups.get(0).find("count(*)")).map(Document::get).contains(2L);
+        assertThat(asyncManager.isUpsertSupported()).isFalse();
+        assertThatThrownBy(() -> asyncManager.upsert(List.of(entity))).isInstanceOf(UnsupportedOperationException.class);
+    }
+}
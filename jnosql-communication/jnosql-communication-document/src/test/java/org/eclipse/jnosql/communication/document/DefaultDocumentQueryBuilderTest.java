@@ -17,9 +17,11 @@
 package org.eclipse.jnosql.communication.document;
 
 import jakarta.data.Sort;
+import org.eclipse.jnosql.communication.QueryHints;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Stream;
@@ -156,6 +158,25 @@ class DefaultDocumentQueryBuilderTest {
         assertSame(builder, builder.limit(1));
     }
 
+    @Test
+    void shouldReturnErrorWhenFetchSizeIsCalledWithArgumentLessThanZero() {
+        assertThrows(IllegalArgumentException.class, () -> builder.fetchSize(-1));
+    }
+
+    @Test
+    void shouldDefineFetchSize() {
+        assertSame(builder, builder.fetchSize(100));
+        assertEquals(100, builder.from(newRandomDocumentCollection()).build().fetchSize());
+    }
+
+    @Test
+    void shouldDefineHints() {
+        DocumentQuery query = builder.from("NAME").fetchSize(100).hint(QueryHints.CONSISTENCY_LEVEL, "quorum").build();
+        assertEquals(100, query.fetchSize());
+        assertEquals("quorum", query.hints().consistencyLevel().orElseThrow());
+        assertThrows(NullPointerException.class, () -> builder.hint(QueryHints.TIMEOUT, null));
+    }
+
     @Test
     void shouldReturnErrorWhenBuildIsCalledWithoutDocumentCollectionIsNotProvidedPreviously() {
         assertThrows(IllegalArgumentException.class, () -> builder.build());
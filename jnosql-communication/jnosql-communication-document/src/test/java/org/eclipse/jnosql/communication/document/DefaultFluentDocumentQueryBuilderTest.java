@@ -20,10 +20,12 @@ import org.assertj.core.api.Assertions;
 import org.eclipse.jnosql.communication.Condition;
 import jakarta.data.Sort;
 import org.eclipse.jnosql.communication.TypeReference;
+import org.eclipse.jnosql.communication.QueryHints;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
@@ -114,6 +116,33 @@ class DefaultFluentDocumentQueryBuilderTest {
         assertThrows(IllegalArgumentException.class, () -> select().from(documentCollection).limit(-1));
     }
 
+    @Test
+    void shouldSelectFetchSize() {
+        String documentCollection = "documentCollection";
+        DocumentQuery query = select().from(documentCollection).where("name").eq("Ada").fetchSize(500).build();
+        assertEquals(documentCollection, query.name());
+        assertEquals(500, query.fetchSize());
+        assertEquals(0, select().from(documentCollection).build().fetchSize());
+    }
+
+    @Test
+    void shouldSelectHints() {
+        String documentCollection = "documentCollection";
+        DocumentQuery query = select().from(documentCollection).fetchSize(100).hint(QueryHints.TIMEOUT, Duration.ofSeconds(1))
+                .hint("driver.option", true).build();
+        assertEquals(100, query.fetchSize());
+        assertEquals(Duration.ofSeconds(1), query.hints().timeout().orElseThrow());
+        assertEquals(true, query.hints().get("driver.option").orElseThrow());
+        assertEquals(QueryHints.empty(), select().from(documentCollection).build().hints());
+        assertThrows(IllegalArgumentException.class, () -> select().from(documentCollection).hint(QueryHints.FETCH_SIZE, -1));
+    }
+
+    @Test
+    void shouldReturnErrorWhenFetchSizeIsNegative() {
+        String documentCollection = "documentCollection";
+        assertThrows(IllegalArgumentException.class, () -> select().from(documentCollection).fetchSize(-1));
+    }
+
     @Test
     void shouldSelectSkip() {
         String documentCollection = "documentCollection";
@@ -0,0 +1,98 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.document;
+
+import org.eclipse.jnosql.communication.query.AggregateFunction;
+import org.eclipse.jnosql.communication.query.Aggregation;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+class DocumentAggregateQueryTest {
+
+    private static final Aggregation SUM = Aggregation.of(AggregateFunction.SUM, "salary");
+
+    @Test
+    void shouldReturnErrorWhenParameterIsInvalid() {
+        assertThatThrownBy(() -> DocumentAggregateQuery.of(null, List.of(SUM), List.of(), null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> DocumentAggregateQuery.of("Person", null, List.of(), null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> DocumentAggregateQuery.of("Person", List.of(SUM), null, null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> DocumentAggregateQuery.of("Person", List.of(), List.of(), null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldCreateQuery() {
+        DocumentCondition condition = DocumentCondition.eq("active", true);
+        DocumentAggregateQuery query = DocumentAggregateQuery.of("Person", List.of(SUM), List.of("city"), condition);
+        assertThat(query.name()).isEqualTo("Person");
+        assertThat(query.aggregations()).containsExactly(SUM);
+        assertThat(query.groupBy()).containsExactly("city");
+        assertThat(query.condition()).contains(condition);
+    }
+
+    @Test
+    void shouldAggregateWhileStreaming() {
+        DocumentManager manager = Mockito.mock(DocumentManager.class, Mockito.CALLS_REAL_METHODS);
+        Mockito.doReturn(Stream.of(entity("Salvador", 10), entity("Lisbon", 5), entity("Salvador", 20)))
+                .when(manager).select(any(DocumentQuery.class));
+        DocumentCondition condition = DocumentCondition.eq("active", true);
+        DocumentAggregateQuery query = DocumentAggregateQuery.of("Person", List.of(Aggregation.count(), SUM),
+                List.of("city"), condition);
+
+        List<Map<String, Object>> result = manager.aggregate(query).map(DocumentEntity::toMap).toList();
+
+        assertThat(result).containsExactly(Map.of("city", "Salvador", "count(*)", 2L, "sum(salary)", 30L),
+                Map.of("city", "Lisbon", "count(*)", 1L, "sum(salary)", 5L));
+        ArgumentCaptor<DocumentQuery> captor = ArgumentCaptor.forClass(DocumentQuery.class);
+        Mockito.verify(manager).select(captor.capture());
+        DocumentQuery select = captor.getValue();
+        assertThat(select.name()).isEqualTo("Person");
+        assertThat(select.documents()).containsExactly("city", "salary");
+        assertThat(select.condition()).contains(condition);
+    }
+
+    @Test
+    void shouldReturnNullWhenThereIsNoValue() {
+        DocumentManager manager = Mockito.mock(DocumentManager.class, Mockito.CALLS_REAL_METHODS);
+        when(manager.select(any(DocumentQuery.class))).thenReturn(Stream.empty());
+        DocumentAggregateQuery query = DocumentAggregateQuery.of("Person", List.of(Aggregation.count(), SUM),
+                List.of(), null);
+
+        List<DocumentEntity> result = manager.aggregate(query).toList();
+
+        assertThat(result).hasSize(1);
+        DocumentEntity entity = result.get(0);
+        assertThat(entity.find("count(*)", Long.class)).contains(0L);
+        assertThat(entity.find("sum(salary)")).isPresent().get().extracting(Document::get).isNull();
+    }
+
+    private static DocumentEntity entity(String city, int salary) {
+        return DocumentEntity.of("Person", List.of(Document.of("city", city), Document.of("salary", salary),
+                Document.of("name", "Ada")));
+    }
+}
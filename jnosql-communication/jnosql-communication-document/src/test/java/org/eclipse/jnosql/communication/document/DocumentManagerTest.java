@@ -0,0 +1,51 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.document;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class DocumentManagerTest {
+
+    @Test
+    void shouldNotUpsertByDefault() {
+        DocumentManager manager = Mockito.mock(DocumentManager.class, Mockito.CALLS_REAL_METHODS);
+        Mockito.doReturn("database").when(manager).name();
+        DocumentEntity ada = DocumentEntity.of("Person", List.of(Document.of("_id", 1L)));
+
+        assertThatThrownBy(() -> manager.upsert(List.of(ada))).isInstanceOf(UnsupportedOperationException.class)
+                .hasMessageContaining("database");
+        verify(manager, never()).insert(ada);
+    }
+
+    @Test
+    void shouldReturnErrorWhenUpsertEntitiesIsNull() {
+        DocumentManager manager = Mockito.mock(DocumentManager.class, Mockito.CALLS_REAL_METHODS);
+        assertThatThrownBy(() -> manager.upsert(null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void shouldNotSupportNativeUpsertByDefault() {
+        DocumentManager manager = Mockito.mock(DocumentManager.class, Mockito.CALLS_REAL_METHODS);
+        assertThat(manager.isUpsertSupported()).isFalse();
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.document;
+
+import jakarta.data.Direction;
+import jakarta.data.Sort;
+import org.eclipse.jnosql.communication.QueryHints;
+import org.eclipse.jnosql.communication.query.AggregateFunction;
+import org.eclipse.jnosql.communication.query.Aggregation;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+class DocumentQueryFingerprintTest {
+
+    @Test
+    void shouldReturnErrorWhenParameterIsNull() {
+        assertThatNullPointerException().isThrownBy(() -> DocumentQueryFingerprint.of((DocumentQuery) null));
+        assertThatNullPointerException().isThrownBy(() -> DocumentQueryFingerprint.of((DocumentDeleteQuery) null));
+        assertThatNullPointerException().isThrownBy(() -> DocumentQueryFingerprint.of((DocumentAggregateQuery) null));
+        assertThatNullPointerException().isThrownBy(() -> DocumentQueryFingerprint.of((DocumentCondition) null));
+        assertThatNullPointerException().isThrownBy(() -> DocumentQueryFingerprint.key(null));
+    }
+
+    @Test
+    void shouldReturnSelectFingerprint() {
+        DocumentQuery query = DocumentQuery.select("name", "age").from("Person")
+                .where("name").eq("Ada").and("age").gt(10)
+                .orderBy("name").asc().orderBy("age").desc()
+                .skip(20).limit(10).build();
+
+        assertThat(DocumentQueryFingerprint.of(query))
+                .isEqualTo("select age, name from Person where age > ? and name = ? order by name asc, age desc skip ? limit 10");
+    }
+
+    @Test
+    void shouldReplaceValues() {
+        DocumentQuery ada = DocumentQuery.select().from("Person").where("name").eq("Ada").build();
+        DocumentQuery grace = DocumentQuery.select().from("Person").where("name").eq("Grace").build();
+
+        assertThat(DocumentQueryFingerprint.of(ada)).isEqualTo(DocumentQueryFingerprint.of(grace))
+                .isEqualTo("select * from Person where name = ?");
+    }
+
+    @Test
+    void shouldIgnoreTheOrderOfTheConditions() {
+        DocumentQuery first = DocumentQuery.select().from("Person").where("name").eq("Ada").and("age").gt(10).build();
+        DocumentQuery second = DocumentQuery.select().from("Person").where("age").gt(20).and("name").eq("Grace").build();
+
+        assertThat(DocumentQueryFingerprint.of(first)).isEqualTo(DocumentQueryFingerprint.of(second));
+    }
+
+    @Test
+    void shouldKeepTheStructureOfTheConditions() {
+        DocumentCondition condition = DocumentCondition.and(
+                DocumentCondition.eq("name", "Ada"),
+                DocumentCondition.and(DocumentCondition.lte("age", 10), DocumentCondition.gte("age", 5)),
+                DocumentCondition.or(DocumentCondition.in("city", List.of("Paris", "Rome")),
+                        DocumentCondition.like("city", "Lon%")),
+                DocumentCondition.eq("active", true).negate(),
+                DocumentCondition.between("age", List.of(1, 2)),
+                DocumentCondition.lt("age", 100));
+
+        assertThat(DocumentQueryFingerprint.of(condition)).isEqualTo("(city in ? or city like ?) and age < ? and age <= ?"
+                + " and age >= ? and age between ? and ? and name = ? and not active = ?");
+    }
+
+    @Test
+    void shouldKeepTheSortsAndTheLimit() {
+        DocumentQuery first = DocumentQuery.builder().from("Person").sort(Sort.of("name", Direction.ASC, true))
+                .limit(10).build();
+        DocumentQuery second = DocumentQuery.builder().from("Person").sort(Sort.desc("name")).limit(100).build();
+
+        assertThat(DocumentQueryFingerprint.of(first)).isEqualTo("select * from Person order by lower(name) asc limit 10");
+        assertThat(DocumentQueryFingerprint.of(second)).isEqualTo("select * from Person order by name desc limit 100");
+    }
+
+    @Test
+    void shouldReturnDeleteFingerprint() {
+        DocumentDeleteQuery all = DocumentDeleteQuery.delete().from("Person").build();
+        DocumentDeleteQuery query = DocumentDeleteQuery.delete("name").from("Person").where("age").lt(10).build();
+
+        assertThat(DocumentQueryFingerprint.of(all)).isEqualTo("delete from Person");
+        assertThat(DocumentQueryFingerprint.of(query)).isEqualTo("delete name from Person where age < ?");
+    }
+
+    @Test
+    void shouldReturnAggregateFingerprint() {
+        DocumentAggregateQuery query = DocumentAggregateQuery.of("Person",
+                List.of(Aggregation.count(), Aggregation.of(AggregateFunction.SUM, "age")), List.of("city"),
+                DocumentCondition.eq("name", "Ada"));
+
+        assertThat(DocumentQueryFingerprint.of(query))
+                .isEqualTo("select city, count(*), sum(age) from Person where name = ? group by city");
+    }
+
+    @Test
+    void shouldKeepTheGroupByFieldsInTheAggregateFingerprint() {
+        DocumentAggregateQuery byCity = DocumentAggregateQuery.of("Person", List.of(Aggregation.count()), List.of("city"), null);
+        DocumentAggregateQuery byCountry = DocumentAggregateQuery.of("Person", List.of(Aggregation.count()), List.of("country"), null);
+        DocumentAggregateQuery all = DocumentAggregateQuery.of("Person", List.of(Aggregation.count()), List.of(), null);
+
+        assertThat(DocumentQueryFingerprint.of(byCity)).isEqualTo("select city, count(*) from Person group by city");
+        assertThat(DocumentQueryFingerprint.of(byCountry)).isEqualTo("select country, count(*) from Person group by country");
+        assertThat(DocumentQueryFingerprint.of(all)).isEqualTo("select count(*) from Person");
+    }
+
+    @Test
+    void shouldReturnTheSameKeyRegardlessOfTheConditionOrder() {
+        DocumentQuery first = DocumentQuery.select("name", "age").from("Person")
+                .where("name").eq("Ada").and("age").gt(10).and("city").eq("London").limit(10).build();
+        DocumentQuery second = DocumentQuery.select("age", "name").from("Person")
+                .where("city").eq("London").and("age").gt(10).and("name").eq("Ada").limit(10)
+                .fetchSize(100).hint(QueryHints.TIMEOUT, "PT1S").build();
+
+        assertThat(DocumentQueryFingerprint.key(first)).isEqualTo(DocumentQueryFingerprint.key(second))
+                .hasSameHashCodeAs(DocumentQueryFingerprint.key(second));
+    }
+
+    @Test
+    void shouldKeepTheValuesAtTheKey() {
+        DocumentQuery ada = DocumentQuery.select().from("Person").where("name").eq("Ada").or("age").gt(10).build();
+        DocumentQuery grace = DocumentQuery.select().from("Person").where("name").eq("Grace").or("age").gt(10).build();
+        DocumentQuery and = DocumentQuery.select().from("Person").where("name").eq("Ada").and("age").gt(10).build();
+
+        assertThat(DocumentQueryFingerprint.key(ada)).isNotEqualTo(DocumentQueryFingerprint.key(grace))
+                .isNotEqualTo(DocumentQueryFingerprint.key(and));
+    }
+
+    @Test
+    void shouldKeepTheSortsTheLimitAndTheReadHintsAtTheKey() {
+        DocumentQuery query = DocumentQuery.select().from("Person").where("name").eq("Ada").build();
+        DocumentQuery sorted = DocumentQuery.select().from("Person").where("name").eq("Ada").orderBy("age").asc().build();
+        DocumentQuery limited = DocumentQuery.select().from("Person").where("name").eq("Ada").limit(1).build();
+        DocumentQuery secondary = DocumentQuery.select().from("Person").where("name").eq("Ada")
+                .hint(QueryHints.READ_PREFERENCE, "secondary").build();
+
+        assertThat(DocumentQueryFingerprint.key(query)).isNotEqualTo(DocumentQueryFingerprint.key(sorted))
+                .isNotEqualTo(DocumentQueryFingerprint.key(limited))
+                .isNotEqualTo(DocumentQueryFingerprint.key(secondary));
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.document;
+
+import org.eclipse.jnosql.communication.CommunicationException;
+import org.eclipse.jnosql.communication.Instrumentation;
+import org.eclipse.jnosql.communication.Measurement;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class InstrumentedDocumentManagerTest {
+
+    private final DocumentEntity entity = DocumentEntity.of("person", List.of(Document.of("name", "Ada")));
+
+    private final DocumentQuery query = DocumentQuery.select().from("person").build();
+
+    private DocumentManager manager;
+
+    private Instrumentation instrumentation;
+
+    private Measurement measurement;
+
+    private DocumentManager instrumented;
+
+    @BeforeEach
+    void setUp() {
+        this.manager = Mockito.mock(DocumentManager.class);
+        this.instrumentation = Mockito.mock(Instrumentation.class, Answers.CALLS_REAL_METHODS);
+        this.measurement = Mockito.mock(Measurement.class, Answers.CALLS_REAL_METHODS);
+        when(instrumentation.start(Mockito.anyString(), Mockito.anyString(), Mockito.anyString())).thenReturn(measurement);
+        this.instrumented = InstrumentedDocumentManager.of(manager, instrumentation, "mongodb");
+    }
+
+    @Test
+    void shouldReturnErrorWhenParameterIsNull() {
+        assertThatNullPointerException().isThrownBy(() -> InstrumentedDocumentManager.of(null, instrumentation, ""));
+        assertThatNullPointerException().isThrownBy(() -> InstrumentedDocumentManager.of(manager, null, ""));
+        assertThatNullPointerException().isThrownBy(() -> InstrumentedDocumentManager.of(manager, instrumentation, null));
+        assertThatNullPointerException().isThrownBy(() -> instrumented.insert((DocumentEntity) null));
+        assertThatNullPointerException().isThrownBy(() -> instrumented.select(null));
+    }
+
+    @Test
+    void shouldNotDecorateWhenNoop() {
+        assertThat(InstrumentedDocumentManager.of(manager, Instrumentation.noop(), "")).isSameAs(manager);
+        assertThat(InstrumentedDocumentManager.of(instrumented, instrumentation, "")).isSameAs(instrumented);
+    }
+
+    @Test
+    void shouldReturnTheDecoratedManager() {
+        assertThat(((InstrumentedDocumentManager) instrumented).manager()).isSameAs(manager);
+    }
+
+    @Test
+    void shouldMeasureInsert() {
+        when(manager.insert(entity)).thenReturn(entity);
+
+        assertThat(instrumented.insert(entity)).isEqualTo(entity);
+
+        InOrder order = Mockito.inOrder(instrumentation, manager, measurement);
+        order.verify(instrumentation).start("mongodb", "insert", "person");
+        order.verify(manager).insert(entity);
+        order.verify(measurement).rows(1L);
+        order.verify(measurement).close();
+    }
+
+    @Test
+    void shouldMeasureInsertIterable() {
+        List<DocumentEntity> entities = List.of(entity, entity);
+        when(manager.insert(entities)).thenReturn(entities);
+
+        instrumented.insert(entities);
+
+        verify(instrumentation).start("mongodb", "insert", "person");
+        verify(measurement).rows(2L);
+        verify(measurement).close();
+    }
+
+    @Test
+    void shouldMeasureError() {
+        CommunicationException exception = new CommunicationException("failure");
+        when(manager.update(entity)).thenThrow(exception);
+
+        assertThatThrownBy(() -> instrumented.update(entity)).isSameAs(exception);
+
+        verify(instrumentation).start("mongodb", "update", "person");
+        verify(measurement).error(exception);
+        verify(measurement, never()).rows(anyLong());
+        verify(measurement).close();
+    }
+
+    @Test
+    void shouldMeasureDelete() {
+        DocumentDeleteQuery deleteQuery = DocumentDeleteQuery.delete().from("person").build();
+
+        instrumented.delete(deleteQuery);
+
+        verify(manager).delete(deleteQuery);
+        verify(instrumentation).start("mongodb", "delete", "person");
+        verify(measurement, never()).rows(anyLong());
+        verify(measurement).close();
+    }
+
+    @Test
+    void shouldMeasureSelectUntilTheFirstRow() {
+        when(manager.select(query)).thenReturn(Stream.of(entity, entity, entity));
+
+        Stream<DocumentEntity> result = instrumented.select(query);
+        verify(instrumentation).start("mongodb", "select", "person");
+        verify(measurement, never()).close();
+
+        Iterator<DocumentEntity> iterator = result.iterator();
+        iterator.next();
+        verify(measurement).close();
+        verify(measurement, never()).read(anyLong());
+
+        iterator.next();
+        iterator.next();
+        assertThat(iterator.hasNext()).isFalse();
+        verify(measurement).read(3L);
+        verify(measurement).close();
+        verify(measurement, never()).rows(anyLong());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldReportTheQueryFingerprint() {
+        DocumentQuery selectQuery = DocumentQuery.select().from("person").where("name").eq("Ada").build();
+        when(manager.select(selectQuery)).thenReturn(Stream.empty());
+
+        instrumented.select(selectQuery).toList();
+
+        ArgumentCaptor<Supplier<String>> fingerprint = ArgumentCaptor.forClass(Supplier.class);
+        verify(instrumentation).start(eq("mongodb"), eq("select"), eq("person"), fingerprint.capture());
+        assertThat(fingerprint.getValue().get()).isEqualTo("select * from person where name = ?");
+    }
+
+    @Test
+    void shouldMeasureSingleResult() {
+        when(manager.singleResult(query)).thenReturn(Optional.of(entity));
+
+        assertThat(instrumented.singleResult(query)).contains(entity);
+
+        verify(instrumentation).start("mongodb", "select", "person");
+        verify(measurement).rows(1L);
+        verify(measurement).close();
+    }
+
+    @Test
+    void shouldMeasureCount() {
+        when(manager.count("person")).thenReturn(10L);
+        when(manager.count(query)).thenReturn(5L);
+        when(manager.exists(query)).thenReturn(true);
+
+        assertThat(instrumented.count("person")).isEqualTo(10L);
+        assertThat(instrumented.count(query)).isEqualTo(5L);
+        assertThat(instrumented.exists(query)).isTrue();
+
+        verify(instrumentation, Mockito.times(2)).start("mongodb", "count", "person");
+        verify(instrumentation).start("mongodb", "exists", "person");
+        verify(measurement, never()).rows(anyLong());
+        verify(measurement, Mockito.times(3)).close();
+    }
+
+    @Test
+    void shouldDelegate() {
+        when(manager.name()).thenReturn("database");
+        when(manager.isUpsertSupported()).thenReturn(true);
+
+        assertThat(instrumented.name()).isEqualTo("database");
+        assertThat(instrumented.isUpsertSupported()).isTrue();
+        instrumented.close();
+
+        verify(manager).close();
+    }
+}
@@ -19,6 +19,7 @@ package org.eclipse.jnosql.communication.document;
 import org.assertj.core.api.Assertions;
 import org.eclipse.jnosql.communication.Condition;
 import org.eclipse.jnosql.communication.QueryException;
+import org.eclipse.jnosql.communication.QueryHints;
 import jakarta.data.Sort;
 import jakarta.data.Direction;
 import org.eclipse.jnosql.communication.TypeReference;
@@ -28,6 +29,7 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 
@@ -510,4 +512,19 @@ class SelectQueryParserTest {
         assertEquals(skip, documentQuery.skip());
         assertEquals("God", documentQuery.name());
     }
+
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"select * from God limit 10 hints(fetch-size = 200, timeout = 1500, read-preference = 'nearest')"})
+    void shouldReturnParserQueryWithHints(String query) {
+        ArgumentCaptor<DefaultDocumentQuery> captor = ArgumentCaptor.forClass(DefaultDocumentQuery.class);
+        parser.query(query, documentCollection, observer);
+        Mockito.verify(documentCollection).select(captor.capture());
+        DefaultDocumentQuery documentQuery = captor.getValue();
+
+        assertEquals(10L, documentQuery.limit());
+        assertEquals(200, documentQuery.fetchSize());
+        QueryHints hints = documentQuery.hints();
+        assertThat(hints.timeout()).contains(Duration.ofMillis(1500));
+        assertThat(hints.readPreference()).contains("nearest");
+    }
 }
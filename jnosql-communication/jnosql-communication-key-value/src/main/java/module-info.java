@@ -13,7 +13,9 @@ module org.eclipse.jnosql.communication.key.value {
     requires jakarta.json;
     requires org.eclipse.jnosql.communication.core;
     requires org.eclipse.jnosql.communication.query;
+    requires org.antlr.antlr4.runtime;
     requires jakarta.data;
+    requires java.logging;
     opens org.eclipse.jnosql.communication.keyvalue;
     uses org.eclipse.jnosql.communication.keyvalue.KeyValueConfiguration;
 
@@ -0,0 +1,161 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.keyvalue;
+
+import org.eclipse.jnosql.communication.Value;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+/**
+ * The non-blocking counterpart of {@link BucketManager}, where every operation completes a {@link CompletionStage}.
+ * A driver with a native async client implements it directly,
+ * the others reach it with {@link AsyncBucketManager#of(BucketManager, Executor)}.
+ *
+ * @see BucketManager
+ */
+public interface AsyncBucketManager extends AutoCloseable {
+
+    /**
+     * Returns the bucket name of this {@link AsyncBucketManager}
+     *
+     * @return the bucket name
+     */
+    String name();
+
+    /**
+     * Associates the specified value with the specified key and then storage
+     *
+     * @param key   the key
+     * @param value the value
+     * @param <K>   the key type
+     * @param <V>   the value type
+     * @return the stage completed once the value is stored
+     * @throws NullPointerException when either key or value are null
+     */
+    <K, V> CompletionStage<Void> put(K key, V value);
+
+    /**
+     * Saves the {@link KeyValueEntity}
+     *
+     * @param entity the entity to be inserted
+     * @return the stage completed once the entity is stored
+     * @throws NullPointerException when entity is null
+     */
+    CompletionStage<Void> put(KeyValueEntity entity);
+
+    /**
+     * Saves the {@link KeyValueEntity} with time to live
+     *
+     * @param entity the entity to be inserted
+     * @param ttl    the defined time to live
+     * @return the stage completed once the entity is stored
+     * @throws NullPointerException when either entity or ttl are null
+     */
+    CompletionStage<Void> put(KeyValueEntity entity, Duration ttl);
+
+    /**
+     * Saves the {@link Iterable} of keys
+     *
+     * @param entities keys to be inserted
+     * @return the stage completed once the entities are stored
+     * @throws NullPointerException when the iterable is null
+     */
+    CompletionStage<Void> put(Iterable<KeyValueEntity> entities);
+
+    /**
+     * Saves the {@link Iterable} of keys with a defined time to live
+     *
+     * @param entities keys to be inserted
+     * @param ttl      the time to entity expire
+     * @return the stage completed once the entities are stored
+     * @throws NullPointerException when either the iterable or ttl are null
+     */
+    CompletionStage<Void> put(Iterable<KeyValueEntity> entities, Duration ttl);
+
+    /**
+     * Finds the Value from a key
+     *
+     * @param key the key
+     * @param <K> the key type
+     * @return the stage completed with the value, or {@link Optional#empty()} when it is not found
+     * @throws NullPointerException when the key is null
+     */
+    <K> CompletionStage<Optional<Value>> get(K key);
+
+    /**
+     * Finds a list of values from keys
+     *
+     * @param keys the keys to be used in this query
+     * @param <K>  the key type
+     * @return the stage completed with the values found
+     * @throws NullPointerException when the keys are null
+     */
+    <K> CompletionStage<Iterable<Value>> get(Iterable<K> keys);
+
+    /**
+     * Removes an entity from key
+     *
+     * @param key the key bo be used
+     * @param <K> the key type
+     * @return the stage completed once the entity is removed
+     * @throws NullPointerException when the key is null
+     */
+    <K> CompletionStage<Void> delete(K key);
+
+    /**
+     * Removes entities from keys
+     *
+     * @param keys the keys to be used
+     * @param <K>  the key type
+     * @return the stage completed once the entities are removed
+     * @throws NullPointerException when the keys are null
+     */
+    <K> CompletionStage<Void> delete(Iterable<K> keys);
+
+    /**
+     * closes a resource
+     */
+    void close();
+
+    /**
+     * Returns a blocking {@link BucketManager} view of this manager, that waits for each stage at the calling thread.
+     *
+     * @return a {@link BucketManager} instance
+     */
+    default BucketManager blocking() {
+        return new BlockingBucketManager(this);
+    }
+
+    /**
+     * Creates an {@link AsyncBucketManager} that runs each operation of the blocking manager at the executor.
+     *
+     * @param manager  the blocking manager
+     * @param executor the executor that runs the operations
+     * @return an {@link AsyncBucketManager} instance
+     * @throws NullPointerException when there are null parameters
+     */
+    static AsyncBucketManager of(BucketManager manager, Executor executor) {
+        Objects.requireNonNull(manager, "manager is required");
+        Objects.requireNonNull(executor, "executor is required");
+        if (manager instanceof BlockingBucketManager blocking) {
+            return blocking.manager();
+        }
+        return new ExecutorAsyncBucketManager(manager, executor);
+    }
+}
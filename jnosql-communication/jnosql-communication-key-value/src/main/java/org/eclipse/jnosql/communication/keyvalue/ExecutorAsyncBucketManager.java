@@ -0,0 +1,119 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.keyvalue;
+
+import org.eclipse.jnosql.communication.Value;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+/**
+ * An {@link AsyncBucketManager} that runs each call of a blocking {@link BucketManager} at an {@link Executor}.
+ */
+final class ExecutorAsyncBucketManager implements AsyncBucketManager {
+
+    private final BucketManager manager;
+
+    private final Executor executor;
+
+    ExecutorAsyncBucketManager(BucketManager manager, Executor executor) {
+        this.manager = manager;
+        this.executor = executor;
+    }
+
+    @Override
+    public String name() {
+        return manager.name();
+    }
+
+    @Override
+    public <K, V> CompletionStage<Void> put(K key, V value) {
+        Objects.requireNonNull(key, "key is required");
+        Objects.requireNonNull(value, "value is required");
+        return CompletableFuture.runAsync(() -> manager.put(key, value), executor);
+    }
+
+    @Override
+    public CompletionStage<Void> put(KeyValueEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        return CompletableFuture.runAsync(() -> manager.put(entity), executor);
+    }
+
+    @Override
+    public CompletionStage<Void> put(KeyValueEntity entity, Duration ttl) {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        return CompletableFuture.runAsync(() -> manager.put(entity, ttl), executor);
+    }
+
+    @Override
+    public CompletionStage<Void> put(Iterable<KeyValueEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        return CompletableFuture.runAsync(() -> manager.put(entities), executor);
+    }
+
+    @Override
+    public CompletionStage<Void> put(Iterable<KeyValueEntity> entities, Duration ttl) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        return CompletableFuture.runAsync(() -> manager.put(entities, ttl), executor);
+    }
+
+    @Override
+    public <K> CompletionStage<Optional<Value>> get(K key) {
+        Objects.requireNonNull(key, "key is required");
+        return CompletableFuture.supplyAsync(() -> manager.get(key), executor);
+    }
+
+    @Override
+    public <K> CompletionStage<Iterable<Value>> get(Iterable<K> keys) {
+        Objects.requireNonNull(keys, "keys is required");
+        return CompletableFuture.supplyAsync(() -> manager.get(keys), executor);
+    }
+
+    @Override
+    public <K> CompletionStage<Void> delete(K key) {
+        Objects.requireNonNull(key, "key is required");
+        return CompletableFuture.runAsync(() -> manager.delete(key), executor);
+    }
+
+    @Override
+    public <K> CompletionStage<Void> delete(Iterable<K> keys) {
+        Objects.requireNonNull(keys, "keys is required");
+        return CompletableFuture.runAsync(() -> manager.delete(keys), executor);
+    }
+
+    @Override
+    public void close() {
+        manager.close();
+    }
+
+    @Override
+    public BucketManager blocking() {
+        return manager;
+    }
+
+    @Override
+    public String toString() {
+        return "ExecutorAsyncBucketManager{" +
+                "manager=" + manager +
+                ", executor=" + executor +
+                '}';
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.keyvalue;
+
+import org.eclipse.jnosql.communication.Instrumentation;
+import org.eclipse.jnosql.communication.Measurement;
+import org.eclipse.jnosql.communication.Value;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * A {@link BucketManager} that reports the latency, the rows and the errors of each operation of another manager
+ * to an {@link Instrumentation}, tagged by the provider, the operation and the bucket name.
+ *
+ * @see InstrumentedBucketManager#of(BucketManager, Instrumentation, String)
+ */
+public final class InstrumentedBucketManager implements BucketManager {
+
+    private final BucketManager manager;
+
+    private final Instrumentation instrumentation;
+
+    private final String provider;
+
+    private InstrumentedBucketManager(BucketManager manager, Instrumentation instrumentation, String provider) {
+        this.manager = manager;
+        this.instrumentation = instrumentation;
+        this.provider = provider;
+    }
+
+    @Override
+    public String name() {
+        return manager.name();
+    }
+
+    @Override
+    public <K, V> void put(K key, V value) {
+        Objects.requireNonNull(key, "key is required");
+        Objects.requireNonNull(value, "value is required");
+        run("put", () -> manager.put(key, value), 1L);
+    }
+
+    @Override
+    public void put(KeyValueEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        run("put", () -> manager.put(entity), 1L);
+    }
+
+    @Override
+    public void put(KeyValueEntity entity, Duration ttl) {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        run("put", () -> manager.put(entity, ttl), 1L);
+    }
+
+    @Override
+    public void put(Iterable<KeyValueEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        run("put", () -> manager.put(entities), size(entities));
+    }
+
+    @Override
+    public void put(Iterable<KeyValueEntity> entities, Duration ttl) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        run("put", () -> manager.put(entities, ttl), size(entities));
+    }
+
+    @Override
+    public <K> Optional<Value> get(K key) {
+        Objects.requireNonNull(key, "key is required");
+        return measure("get", () -> manager.get(key), r -> r.isPresent() ? 1L : 0L);
+    }
+
+    @Override
+    public <K> Iterable<Value> get(Iterable<K> keys) {
+        Objects.requireNonNull(keys, "keys is required");
+        return measure("get", () -> manager.get(keys), InstrumentedBucketManager::size);
+    }
+
+    @Override
+    public <K> void delete(K key) {
+        Objects.requireNonNull(key, "key is required");
+        run("delete", () -> manager.delete(key), 1L);
+    }
+
+    @Override
+    public <K> void delete(Iterable<K> keys) {
+        Objects.requireNonNull(keys, "keys is required");
+        run("delete", () -> manager.delete(keys), size(keys));
+    }
+
+    @Override
+    public void close() {
+        manager.close();
+    }
+
+    /**
+     * Returns the decorated {@link BucketManager}
+     *
+     * @return the decorated manager
+     */
+    public BucketManager manager() {
+        return manager;
+    }
+
+    @Override
+    public String toString() {
+        return "InstrumentedBucketManager{" +
+                "manager=" + manager +
+                ", instrumentation=" + instrumentation +
+                ", provider='" + provider + '\'' +
+                '}';
+    }
+
+    private void run(String operation, Runnable runnable, long rows) {
+        measure(operation, () -> {
+            runnable.run();
+            return null;
+        }, r -> rows);
+    }
+
+    private <T> T measure(String operation, Supplier<T> supplier, ToLongFunction<T> rows) {
+        try (Measurement measurement = instrumentation.start(provider, operation, manager.name())) {
+            try {
+                T result = supplier.get();
+                long count = rows.applyAsLong(result);
+                if (count >= 0) {
+                    measurement.rows(count);
+                }
+                return result;
+            } catch (RuntimeException | Error exception) {
+                measurement.error(exception);
+                throw exception;
+            }
+        }
+    }
+
+    private static long size(Iterable<?> values) {
+        if (values instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        return -1L;
+    }
+
+    /**
+     * Decorates the manager with the instrumentation. It returns the manager itself when the instrumentation is
+     * {@link Instrumentation#noop()}, so a disabled instrumentation costs nothing.
+     *
+     * @param manager         the manager
+     * @param instrumentation the instrumentation
+     * @param provider        the provider of the database, empty for the default one
+     * @return the decorated manager
+     * @throws NullPointerException when there are null parameters
+     */
+    public static BucketManager of(BucketManager manager, Instrumentation instrumentation, String provider) {
+        Objects.requireNonNull(manager, "manager is required");
+        Objects.requireNonNull(instrumentation, "instrumentation is required");
+        Objects.requireNonNull(provider, "provider is required");
+        if (instrumentation == Instrumentation.noop() || manager instanceof InstrumentedBucketManager) {
+            return manager;
+        }
+        return new InstrumentedBucketManager(manager, instrumentation, provider);
+    }
+}
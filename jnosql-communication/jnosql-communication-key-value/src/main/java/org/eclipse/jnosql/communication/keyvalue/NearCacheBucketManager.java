@@ -0,0 +1,476 @@
+/*
+ *
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.keyvalue;
+
+import org.eclipse.jnosql.communication.Value;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link BucketManager} decorator that keeps a bounded local copy of the values read from the decorated manager,
+ * so repeated reads of hot keys do not reach the database.
+ * <p>The cache is split into segments, each one an LRU map guarded by its own lock, so threads reading different
+ * keys rarely compete. An entry expires after {@link Builder#withExpireAfterWrite(Duration)} or, when the key was
+ * written through {@link #put(KeyValueEntity, Duration)}, when the database expires it, whichever comes first.</p>
+ * <p>Every {@link #put(KeyValueEntity)} and {@link #delete(Object)} invalidates the local copy of the key;
+ * writes performed by other processes are only observed once the entry expires.</p>
+ *
+ * @see NearCacheStatistics
+ */
+public final class NearCacheBucketManager implements BucketManager {
+
+    private static final int SEGMENTS = 16;
+
+    private static final long NO_EXPIRATION = Long.MAX_VALUE;
+
+    private final BucketManager manager;
+
+    private final long expireAfterWriteNanos;
+
+    private final boolean negativeCaching;
+
+    private final boolean coalescing;
+
+    private final Segment[] segments;
+
+    private final Map<Object, CompletableFuture<Optional<Value>>> loading = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    private final LongAdder loads = new LongAdder();
+
+    private final LongAdder loadTime = new LongAdder();
+
+    private NearCacheBucketManager(Builder builder) {
+        this.manager = builder.manager;
+        this.expireAfterWriteNanos = builder.expireAfterWrite == null ? NO_EXPIRATION : builder.expireAfterWrite.toNanos();
+        this.negativeCaching = builder.negativeCaching;
+        this.coalescing = builder.coalescing;
+        int capacity = (int) Math.max(1, (builder.maximumSize + SEGMENTS - 1) / SEGMENTS);
+        this.segments = new Segment[SEGMENTS];
+        for (int index = 0; index < SEGMENTS; index++) {
+            this.segments[index] = new Segment(capacity, evictions);
+        }
+    }
+
+    @Override
+    public String name() {
+        return manager.name();
+    }
+
+    @Override
+    public <K, V> void put(K key, V value) {
+        manager.put(key, value);
+        invalidate(key, NO_EXPIRATION);
+    }
+
+    @Override
+    public void put(KeyValueEntity entity) {
+        requireNonNull(entity, "entity is required");
+        manager.put(entity);
+        invalidate(entity.key(), NO_EXPIRATION);
+    }
+
+    @Override
+    public void put(KeyValueEntity entity, Duration ttl) {
+        requireNonNull(entity, "entity is required");
+        requireNonNull(ttl, "ttl is required");
+        manager.put(entity, ttl);
+        invalidate(entity.key(), deadline(ttl.toNanos()));
+    }
+
+    @Override
+    public void put(Iterable<KeyValueEntity> entities) {
+        requireNonNull(entities, "entities is required");
+        manager.put(entities);
+        entities.forEach(e -> invalidate(e.key(), NO_EXPIRATION));
+    }
+
+    @Override
+    public void put(Iterable<KeyValueEntity> entities, Duration ttl) {
+        requireNonNull(entities, "entities is required");
+        requireNonNull(ttl, "ttl is required");
+        manager.put(entities, ttl);
+        long deadline = deadline(ttl.toNanos());
+        entities.forEach(e -> invalidate(e.key(), deadline));
+    }
+
+    @Override
+    public <K> Optional<Value> get(K key) {
+        requireNonNull(key, "key is required");
+        Object cacheKey = toCacheKey(key);
+        Segment segment = segment(cacheKey);
+        CacheEntry entry = segment.lookup(cacheKey, System.nanoTime());
+        if (entry != null) {
+            hits.increment();
+            return entry.value();
+        }
+        misses.increment();
+        if (!coalescing) {
+            return load(key, cacheKey, segment);
+        }
+        CompletableFuture<Optional<Value>> future = new CompletableFuture<>();
+        CompletableFuture<Optional<Value>> inFlight = loading.putIfAbsent(cacheKey, future);
+        if (inFlight != null) {
+            return await(inFlight);
+        }
+        try {
+            Optional<Value> value = load(key, cacheKey, segment);
+            future.complete(value);
+            return value;
+        } catch (RuntimeException exception) {
+            future.completeExceptionally(exception);
+            throw exception;
+        } finally {
+            loading.remove(cacheKey, future);
+        }
+    }
+
+    /**
+     * Returns the values from the cache when every key is cached, otherwise it delegates the whole
+     * request to the {@link BucketManager}; as the result does not carry the keys, it is not cached.
+     */
+    @Override
+    public <K> Iterable<Value> get(Iterable<K> keys) {
+        requireNonNull(keys, "keys is required");
+        long now = System.nanoTime();
+        List<Value> values = new ArrayList<>();
+        long found = 0;
+        for (K key : keys) {
+            Object cacheKey = toCacheKey(key);
+            CacheEntry entry = segment(cacheKey).lookup(cacheKey, now);
+            if (entry == null) {
+                misses.increment();
+                return manager.get(keys);
+            }
+            entry.value().ifPresent(values::add);
+            found++;
+        }
+        hits.add(found);
+        return values;
+    }
+
+    @Override
+    public <K> void delete(K key) {
+        requireNonNull(key, "key is required");
+        manager.delete(key);
+        invalidate(key, NO_EXPIRATION);
+    }
+
+    @Override
+    public <K> void delete(Iterable<K> keys) {
+        requireNonNull(keys, "keys is required");
+        manager.delete(keys);
+        keys.forEach(k -> invalidate(k, NO_EXPIRATION));
+    }
+
+    @Override
+    public void close() {
+        invalidateAll();
+        manager.close();
+    }
+
+    /**
+     * Removes every entry from the local cache, the decorated {@link BucketManager} is not touched.
+     */
+    public void invalidateAll() {
+        for (Segment segment : segments) {
+            segment.clear();
+        }
+        loading.clear();
+    }
+
+    /**
+     * Returns a snapshot of the cache counters
+     *
+     * @return the {@link NearCacheStatistics}
+     */
+    public NearCacheStatistics statistics() {
+        long size = 0;
+        for (Segment segment : segments) {
+            size += segment.count();
+        }
+        return new NearCacheStatistics(hits.sum(), misses.sum(), evictions.sum(), loads.sum(), loadTime.sum(), size);
+    }
+
+    /**
+     * Returns the decorated {@link BucketManager}
+     *
+     * @return the decorated manager
+     */
+    public BucketManager manager() {
+        return manager;
+    }
+
+    @Override
+    public String toString() {
+        return "NearCacheBucketManager{" +
+                "manager=" + manager +
+                ", statistics=" + statistics() +
+                '}';
+    }
+
+    private <K> Optional<Value> load(K key, Object cacheKey, Segment segment) {
+        long generation = segment.generation();
+        long start = System.nanoTime();
+        Optional<Value> value = manager.get(key);
+        long end = System.nanoTime();
+        loads.increment();
+        loadTime.add(end - start);
+        if (value.isPresent() || negativeCaching) {
+            long expiresAt = expireAfterWriteNanos == NO_EXPIRATION ? NO_EXPIRATION : end + expireAfterWriteNanos;
+            segment.store(cacheKey, value, expiresAt, generation);
+        }
+        return value;
+    }
+
+    private Optional<Value> await(CompletableFuture<Optional<Value>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw exception;
+        }
+    }
+
+    private void invalidate(Object key, long deadline) {
+        Object cacheKey = toCacheKey(key);
+        segment(cacheKey).invalidate(cacheKey, deadline);
+        loading.remove(cacheKey);
+    }
+
+    private long deadline(long ttlNanos) {
+        return System.nanoTime() + ttlNanos;
+    }
+
+    private Segment segment(Object cacheKey) {
+        int hash = cacheKey.hashCode();
+        hash ^= (hash >>> 16);
+        return segments[hash & (SEGMENTS - 1)];
+    }
+
+    private static Object toCacheKey(Object key) {
+        if (key instanceof Value value) {
+            return value.get();
+        }
+        return key;
+    }
+
+    /**
+     * Creates a builder to a {@link NearCacheBucketManager}
+     *
+     * @param manager the {@link BucketManager} to be decorated
+     * @return a {@link Builder} instance
+     * @throws NullPointerException when manager is null
+     */
+    public static Builder builder(BucketManager manager) {
+        requireNonNull(manager, "manager is required");
+        return new Builder(manager);
+    }
+
+    /**
+     * The {@link NearCacheBucketManager} builder
+     */
+    public static final class Builder {
+
+        private final BucketManager manager;
+
+        private long maximumSize = 10_000;
+
+        private Duration expireAfterWrite;
+
+        private boolean negativeCaching;
+
+        private boolean coalescing = true;
+
+        private Builder(BucketManager manager) {
+            this.manager = manager;
+        }
+
+        /**
+         * Defines the maximum number of entries; when it is reached, the least recently used entries are evicted.
+         * The default value is 10,000.
+         *
+         * @param maximumSize the maximum size
+         * @return this builder
+         * @throws IllegalArgumentException when the maximum size is not positive
+         */
+        public Builder withMaximumSize(long maximumSize) {
+            if (maximumSize <= 0) {
+                throw new IllegalArgumentException("The maximum size must be positive: " + maximumSize);
+            }
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * Defines how long an entry lives after it was loaded. By default, entries only leave the cache through
+         * eviction, invalidation or the time to live informed at {@link BucketManager#put(KeyValueEntity, Duration)}.
+         *
+         * @param expireAfterWrite the duration
+         * @return this builder
+         * @throws NullPointerException     when the duration is null
+         * @throws IllegalArgumentException when the duration is negative or zero
+         */
+        public Builder withExpireAfterWrite(Duration expireAfterWrite) {
+            requireNonNull(expireAfterWrite, "expireAfterWrite is required");
+            if (expireAfterWrite.isNegative() || expireAfterWrite.isZero()) {
+                throw new IllegalArgumentException("The expire after write must be positive: " + expireAfterWrite);
+            }
+            this.expireAfterWrite = expireAfterWrite;
+            return this;
+        }
+
+        /**
+         * Defines whether absent keys are cached as well. The default value is false.
+         *
+         * @param negativeCaching true to cache absent keys
+         * @return this builder
+         */
+        public Builder withNegativeCaching(boolean negativeCaching) {
+            this.negativeCaching = negativeCaching;
+            return this;
+        }
+
+        /**
+         * Defines whether concurrent misses to the same key share a single call at the {@link BucketManager}.
+         * The default value is true.
+         *
+         * @param coalescing true to coalesce concurrent misses
+         * @return this builder
+         */
+        public Builder withCoalescing(boolean coalescing) {
+            this.coalescing = coalescing;
+            return this;
+        }
+
+        /**
+         * Creates the {@link NearCacheBucketManager}
+         *
+         * @return a new {@link NearCacheBucketManager} instance
+         */
+        public NearCacheBucketManager build() {
+            return new NearCacheBucketManager(this);
+        }
+    }
+
+    /**
+     * An entry whose value is null is a placeholder that only keeps the deadline of a key written with
+     * a time to live; it is a miss, but it caps the expiration of the value loaded afterward.
+     */
+    private record CacheEntry(Optional<Value> value, long expiresAt) {
+
+        boolean isExpired(long now) {
+            return expiresAt != NO_EXPIRATION && now - expiresAt >= 0;
+        }
+
+        boolean isPlaceholder() {
+            return value == null;
+        }
+    }
+
+    private static final class Segment {
+
+        private final Map<Object, CacheEntry> entries;
+
+        private long generation;
+
+        Segment(int capacity, LongAdder evictions) {
+            this.entries = new LinkedHashMap<>(16, 0.75F, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Object, CacheEntry> eldest) {
+                    if (size() > capacity) {
+                        if (!eldest.getValue().isPlaceholder()) {
+                            evictions.increment();
+                        }
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        synchronized CacheEntry lookup(Object key, long now) {
+            CacheEntry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.isExpired(now)) {
+                entries.remove(key);
+                return null;
+            }
+            return entry.isPlaceholder() ? null : entry;
+        }
+
+        synchronized void store(Object key, Optional<Value> value, long expiresAt, long loadGeneration) {
+            if (generation != loadGeneration) {
+                return;
+            }
+            CacheEntry current = entries.get(key);
+            long deadline = expiresAt;
+            if (current != null && current.isPlaceholder()) {
+                deadline = Math.min(deadline, current.expiresAt());
+            }
+            entries.put(key, new CacheEntry(value, deadline));
+        }
+
+        synchronized void invalidate(Object key, long deadline) {
+            generation++;
+            if (deadline == NO_EXPIRATION) {
+                entries.remove(key);
+            } else {
+                entries.put(key, new CacheEntry(null, deadline));
+            }
+        }
+
+        synchronized long generation() {
+            return generation;
+        }
+
+        synchronized int count() {
+            int count = 0;
+            for (CacheEntry entry : entries.values()) {
+                if (!entry.isPlaceholder()) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        synchronized void clear() {
+            generation++;
+            entries.clear();
+        }
+    }
+}
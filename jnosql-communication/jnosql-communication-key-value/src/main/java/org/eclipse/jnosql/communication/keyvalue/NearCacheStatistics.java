@@ -0,0 +1,60 @@
+/*
+ *
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.keyvalue;
+
+import java.time.Duration;
+
+/**
+ * An immutable snapshot of the counters kept by a {@link NearCacheBucketManager}.
+ *
+ * @param hits          the number of lookups served from the local cache, negative entries included
+ * @param misses        the number of lookups that had to reach the {@link BucketManager}
+ * @param evictions     the number of entries removed because the cache reached its maximum size
+ * @param loads         the number of calls performed at the {@link BucketManager} to load a value
+ * @param loadTimeNanos the total time, in nanoseconds, spent loading values from the {@link BucketManager}
+ * @param size          the number of entries currently in the cache
+ */
+public record NearCacheStatistics(long hits, long misses, long evictions, long loads, long loadTimeNanos, long size) {
+
+    /**
+     * Returns the number of lookups
+     *
+     * @return the sum of hits and misses
+     */
+    public long requests() {
+        return hits + misses;
+    }
+
+    /**
+     * Returns the ratio of lookups served from the cache, when there is no request it returns 1.0
+     *
+     * @return the hit ratio between 0.0 and 1.0
+     */
+    public double hitRatio() {
+        long requests = requests();
+        return requests == 0 ? 1.0 : (double) hits / requests;
+    }
+
+    /**
+     * Returns the average time spent loading a value from the {@link BucketManager}
+     *
+     * @return the average load time or {@link Duration#ZERO} when there is no load
+     */
+    public Duration averageLoadTime() {
+        return loads == 0 ? Duration.ZERO : Duration.ofNanos(loadTimeNanos / loads);
+    }
+}
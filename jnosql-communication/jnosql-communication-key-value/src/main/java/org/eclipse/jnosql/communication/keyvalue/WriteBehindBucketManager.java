@@ -0,0 +1,633 @@
+/*
+ *
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.keyvalue;
+
+import org.eclipse.jnosql.communication.CommunicationException;
+import org.eclipse.jnosql.communication.Value;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link BucketManager} decorator that buffers the puts and writes them to the decorated manager in batches,
+ * through {@link BucketManager#put(Iterable)} and {@link BucketManager#put(Iterable, Duration)}, on a background
+ * scheduler every {@link Builder#withWindow(Duration)}.
+ * <p>The buffer keeps a single pending write by key, so the puts of the same key within a window reach the database
+ * once, with the last value. A pending write stays at the buffer until the database acknowledges it, so
+ * {@link #get(Object)} always returns the last value put through this manager.
+ * {@link #delete(Object)} discards the pending write of the key and reaches the database right away.</p>
+ * <p>The buffer is bounded by {@link Builder#withMaximumPending(int)} keys; when it is full, the
+ * {@link Backpressure} decides what a new key does; a blocked put waits up to {@link Builder#withBlockTimeout(Duration)},
+ * so a database that keeps failing does not hold the writers forever. A failed batch stays at the buffer and is
+ * retried at the next window. {@link #close()} writes every pending write before closing the decorated manager.</p>
+ * <p>The writes are acknowledged before they reach the database, so they are lost if the process stops before
+ * the next flush; it fits data such as counters and session touches, not data that must be durable.</p>
+ *
+ * @see WriteBehindStatistics
+ */
+public final class WriteBehindBucketManager implements BucketManager {
+
+    private static final Logger LOGGER = Logger.getLogger(WriteBehindBucketManager.class.getName());
+
+    private final BucketManager manager;
+
+    private final int batchSize;
+
+    private final int maximumPending;
+
+    private final Backpressure backpressure;
+
+    private final long blockTimeout;
+
+    private final ScheduledExecutorService scheduler;
+
+    private final boolean ownScheduler;
+
+    private final ScheduledFuture<?> task;
+
+    private final Map<Object, PendingWrite> pending = new LinkedHashMap<>();
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Condition notFull = lock.newCondition();
+
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private final LongAdder writes = new LongAdder();
+
+    private final LongAdder coalesced = new LongAdder();
+
+    private final LongAdder dropped = new LongAdder();
+
+    private final LongAdder flushes = new LongAdder();
+
+    private final LongAdder flushed = new LongAdder();
+
+    private final LongAdder failures = new LongAdder();
+
+    private final LongAdder flushTime = new LongAdder();
+
+    private final AtomicLong maximumFlushTime = new AtomicLong();
+
+    private boolean closed;
+
+    private WriteBehindBucketManager(Builder builder) {
+        this.manager = builder.manager;
+        this.batchSize = builder.batchSize;
+        this.maximumPending = builder.maximumPending;
+        this.backpressure = builder.backpressure;
+        this.blockTimeout = builder.blockTimeout.toNanos();
+        this.ownScheduler = builder.scheduler == null;
+        this.scheduler = ownScheduler ? Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "jnosql-write-behind-" + manager.name());
+            thread.setDaemon(true);
+            return thread;
+        }) : builder.scheduler;
+        long window = builder.window.toNanos();
+        this.task = scheduler.scheduleWithFixedDelay(this::flushQuietly, window, window, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public String name() {
+        return manager.name();
+    }
+
+    @Override
+    public <K, V> void put(K key, V value) {
+        enqueue(KeyValueEntity.of(key, value), null);
+    }
+
+    @Override
+    public void put(KeyValueEntity entity) {
+        requireNonNull(entity, "entity is required");
+        enqueue(entity, null);
+    }
+
+    @Override
+    public void put(KeyValueEntity entity, Duration ttl) {
+        requireNonNull(entity, "entity is required");
+        requireNonNull(ttl, "ttl is required");
+        enqueue(entity, ttl);
+    }
+
+    @Override
+    public void put(Iterable<KeyValueEntity> entities) {
+        requireNonNull(entities, "entities is required");
+        entities.forEach(this::put);
+    }
+
+    @Override
+    public void put(Iterable<KeyValueEntity> entities, Duration ttl) {
+        requireNonNull(entities, "entities is required");
+        requireNonNull(ttl, "ttl is required");
+        entities.forEach(e -> put(e, ttl));
+    }
+
+    @Override
+    public <K> Optional<Value> get(K key) {
+        requireNonNull(key, "key is required");
+        PendingWrite write;
+        lock.lock();
+        try {
+            write = pending.get(toKey(key));
+        } finally {
+            lock.unlock();
+        }
+        if (write != null) {
+            return Optional.of(write.value());
+        }
+        return manager.get(key);
+    }
+
+    /**
+     * Returns the values in the order of the keys, the pending value when the key is pending and otherwise the value
+     * read from the {@link BucketManager}. When no key is pending, it delegates the whole request; otherwise, it reads
+     * the other keys one by one, since the values read at once do not tell which key they belong to.
+     */
+    @Override
+    public <K> Iterable<Value> get(Iterable<K> keys) {
+        requireNonNull(keys, "keys is required");
+        List<K> ordered = new ArrayList<>();
+        List<PendingWrite> writes = new ArrayList<>();
+        boolean anyPending = false;
+        lock.lock();
+        try {
+            for (K key : keys) {
+                PendingWrite write = pending.get(toKey(key));
+                ordered.add(key);
+                writes.add(write);
+                anyPending |= write != null;
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (!anyPending) {
+            return manager.get(ordered);
+        }
+        List<Value> values = new ArrayList<>(ordered.size());
+        for (int index = 0; index < ordered.size(); index++) {
+            PendingWrite write = writes.get(index);
+            if (write == null) {
+                manager.get(ordered.get(index)).ifPresent(values::add);
+            } else {
+                values.add(write.value());
+            }
+        }
+        return values;
+    }
+
+    @Override
+    public <K> void delete(K key) {
+        requireNonNull(key, "key is required");
+        flushLock.lock();
+        try {
+            discard(List.of(key));
+            manager.delete(key);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @Override
+    public <K> void delete(Iterable<K> keys) {
+        requireNonNull(keys, "keys is required");
+        flushLock.lock();
+        try {
+            discard(keys);
+            manager.delete(keys);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Writes every pending write to the {@link BucketManager} in batches, in the calling thread.
+     *
+     * @throws RuntimeException the error of the {@link BucketManager}, the failed batch stays pending
+     */
+    public void flush() {
+        flushLock.lock();
+        try {
+            int remaining = size();
+            while (remaining > 0) {
+                List<PendingWrite> batch = nextBatch(Math.min(batchSize, remaining));
+                if (batch.isEmpty()) {
+                    return;
+                }
+                write(batch);
+                remaining -= batch.size();
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Stops the background flush, writes every pending write and closes the decorated {@link BucketManager},
+     * even when the last flush fails.
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        task.cancel(false);
+        try {
+            flush();
+        } finally {
+            if (ownScheduler) {
+                scheduler.shutdown();
+            }
+            manager.close();
+        }
+    }
+
+    /**
+     * Returns a snapshot of the buffer counters
+     *
+     * @return the {@link WriteBehindStatistics}
+     */
+    public WriteBehindStatistics statistics() {
+        return new WriteBehindStatistics(size(), writes.sum(), coalesced.sum(), dropped.sum(), flushes.sum(),
+                flushed.sum(), failures.sum(), flushTime.sum(), maximumFlushTime.get());
+    }
+
+    /**
+     * Returns the decorated {@link BucketManager}
+     *
+     * @return the decorated manager
+     */
+    public BucketManager manager() {
+        return manager;
+    }
+
+    @Override
+    public String toString() {
+        return "WriteBehindBucketManager{" +
+                "manager=" + manager +
+                ", backpressure=" + backpressure +
+                ", blockTimeout=" + Duration.ofNanos(blockTimeout) +
+                ", statistics=" + statistics() +
+                '}';
+    }
+
+    private void enqueue(KeyValueEntity entity, Duration ttl) {
+        PendingWrite write = new PendingWrite(entity, ttl);
+        while (!offer(write)) {
+            flush();
+        }
+    }
+
+    /**
+     * Returns false only when the buffer is full and the backpressure is {@link Backpressure#FLUSH_SYNC},
+     * so the caller flushes outside the lock and tries again.
+     */
+    private boolean offer(PendingWrite write) {
+        Object key = write.entity().key();
+        lock.lock();
+        try {
+            checkOpen();
+            long remaining = blockTimeout;
+            while (!pending.containsKey(key) && pending.size() >= maximumPending) {
+                switch (backpressure) {
+                    case BLOCK -> remaining = awaitRoom(remaining);
+                    case DROP_OLDEST -> dropOldest();
+                    default -> {
+                        return false;
+                    }
+                }
+            }
+            if (pending.put(key, write) != null) {
+                coalesced.increment();
+            }
+            writes.increment();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long awaitRoom(long remaining) {
+        if (remaining <= 0L) {
+            throw new CommunicationException("Timed out after " + Duration.ofNanos(blockTimeout)
+                    + " waiting for room at the write-behind buffer of the bucket " + manager.name()
+                    + ", " + maximumPending + " writes remain pending");
+        }
+        long left;
+        try {
+            left = notFull.awaitNanos(remaining);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new CommunicationException("Interrupted while waiting for room at the write-behind buffer", exception);
+        }
+        checkOpen();
+        return left;
+    }
+
+    private void dropOldest() {
+        Iterator<PendingWrite> eldest = pending.values().iterator();
+        eldest.next();
+        eldest.remove();
+        dropped.increment();
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("The write-behind buffer of the bucket " + manager.name() + " is closed");
+        }
+    }
+
+    private List<PendingWrite> nextBatch(int size) {
+        List<PendingWrite> batch = new ArrayList<>(size);
+        lock.lock();
+        try {
+            Iterator<PendingWrite> iterator = pending.values().iterator();
+            while (batch.size() < size && iterator.hasNext()) {
+                batch.add(iterator.next());
+            }
+        } finally {
+            lock.unlock();
+        }
+        return batch;
+    }
+
+    private void write(List<PendingWrite> batch) {
+        Map<Duration, List<PendingWrite>> groups = new LinkedHashMap<>();
+        for (PendingWrite write : batch) {
+            groups.computeIfAbsent(write.ttl(), k -> new ArrayList<>()).add(write);
+        }
+        for (Map.Entry<Duration, List<PendingWrite>> group : groups.entrySet()) {
+            List<KeyValueEntity> entities = group.getValue().stream().map(PendingWrite::entity).toList();
+            long start = System.nanoTime();
+            try {
+                if (group.getKey() == null) {
+                    manager.put(entities);
+                } else {
+                    manager.put(entities, group.getKey());
+                }
+            } catch (RuntimeException exception) {
+                failures.increment();
+                throw exception;
+            }
+            long elapsed = System.nanoTime() - start;
+            flushes.increment();
+            flushed.add(entities.size());
+            flushTime.add(elapsed);
+            maximumFlushTime.accumulateAndGet(elapsed, Math::max);
+            acknowledge(group.getValue());
+        }
+    }
+
+    /**
+     * Removes the written entries, unless a newer write of the same key replaced them meanwhile.
+     */
+    private void acknowledge(List<PendingWrite> batch) {
+        lock.lock();
+        try {
+            for (PendingWrite write : batch) {
+                pending.remove(write.entity().key(), write);
+            }
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private <K> void discard(Iterable<K> keys) {
+        lock.lock();
+        try {
+            keys.forEach(k -> pending.remove(toKey(k)));
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException exception) {
+            LOGGER.log(Level.WARNING, exception, () -> "The write-behind flush of the bucket " + manager.name()
+                    + " failed, " + size() + " writes remain pending");
+        }
+    }
+
+    private int size() {
+        lock.lock();
+        try {
+            return pending.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static Object toKey(Object key) {
+        if (key instanceof Value value) {
+            return value.get();
+        }
+        return key;
+    }
+
+    /**
+     * Creates a builder to a {@link WriteBehindBucketManager}
+     *
+     * @param manager the {@link BucketManager} to be decorated
+     * @return a {@link Builder} instance
+     * @throws NullPointerException when manager is null
+     */
+    public static Builder builder(BucketManager manager) {
+        requireNonNull(manager, "manager is required");
+        return new Builder(manager);
+    }
+
+    /**
+     * What a put of a new key does when the buffer already keeps {@link Builder#withMaximumPending(int)} keys.
+     * A put of a key that is already pending always replaces it.
+     */
+    public enum Backpressure {
+        /**
+         * The caller waits until a flush or a delete makes room, up to {@link Builder#withBlockTimeout(Duration)};
+         * then the put throws a {@link CommunicationException}
+         */
+        BLOCK,
+        /**
+         * The oldest pending write is discarded without reaching the database
+         */
+        DROP_OLDEST,
+        /**
+         * The caller writes the pending writes itself before adding its own
+         */
+        FLUSH_SYNC
+    }
+
+    /**
+     * The {@link WriteBehindBucketManager} builder
+     */
+    public static final class Builder {
+
+        private final BucketManager manager;
+
+        private Duration window = Duration.ofMillis(50);
+
+        private int batchSize = 500;
+
+        private int maximumPending = 10_000;
+
+        private Backpressure backpressure = Backpressure.BLOCK;
+
+        private Duration blockTimeout = Duration.ofSeconds(10);
+
+        private ScheduledExecutorService scheduler;
+
+        private Builder(BucketManager manager) {
+            this.manager = manager;
+        }
+
+        /**
+         * Defines how long the writes wait at the buffer before the background flush; the puts of the same key
+         * within it reach the database once. The default value is 50 milliseconds.
+         *
+         * @param window the duration
+         * @return this builder
+         * @throws NullPointerException     when the duration is null
+         * @throws IllegalArgumentException when the duration is negative or zero
+         */
+        public Builder withWindow(Duration window) {
+            requireNonNull(window, "window is required");
+            if (window.isNegative() || window.isZero()) {
+                throw new IllegalArgumentException("The window must be positive: " + window);
+            }
+            this.window = window;
+            return this;
+        }
+
+        /**
+         * Defines the maximum number of entities of each call at the {@link BucketManager}. The default value is 500.
+         *
+         * @param batchSize the batch size
+         * @return this builder
+         * @throws IllegalArgumentException when the batch size is not positive
+         */
+        public Builder withBatchSize(int batchSize) {
+            if (batchSize <= 0) {
+                throw new IllegalArgumentException("The batch size must be positive: " + batchSize);
+            }
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * Defines the maximum number of pending keys; when it is reached, the {@link Backpressure} applies.
+         * The default value is 10,000.
+         *
+         * @param maximumPending the maximum number of pending keys
+         * @return this builder
+         * @throws IllegalArgumentException when the maximum is not positive
+         */
+        public Builder withMaximumPending(int maximumPending) {
+            if (maximumPending <= 0) {
+                throw new IllegalArgumentException("The maximum pending must be positive: " + maximumPending);
+            }
+            this.maximumPending = maximumPending;
+            return this;
+        }
+
+        /**
+         * Defines what a put of a new key does when the buffer is full. The default value is {@link Backpressure#BLOCK}.
+         *
+         * @param backpressure the backpressure policy
+         * @return this builder
+         * @throws NullPointerException when backpressure is null
+         */
+        public Builder withBackpressure(Backpressure backpressure) {
+            this.backpressure = requireNonNull(backpressure, "backpressure is required");
+            return this;
+        }
+
+        /**
+         * Defines how long a put waits for room when the buffer is full and the backpressure is
+         * {@link Backpressure#BLOCK}; after it, the put throws a {@link CommunicationException}.
+         * The default value is 10 seconds.
+         *
+         * @param blockTimeout the duration
+         * @return this builder
+         * @throws NullPointerException     when the duration is null
+         * @throws IllegalArgumentException when the duration is negative or zero
+         */
+        public Builder withBlockTimeout(Duration blockTimeout) {
+            requireNonNull(blockTimeout, "blockTimeout is required");
+            if (blockTimeout.isNegative() || blockTimeout.isZero()) {
+                throw new IllegalArgumentException("The block timeout must be positive: " + blockTimeout);
+            }
+            this.blockTimeout = blockTimeout;
+            return this;
+        }
+
+        /**
+         * Defines the scheduler of the background flush, it is not shut down at {@link WriteBehindBucketManager#close()}.
+         * By default, each manager has its own daemon thread.
+         *
+         * @param scheduler the scheduler
+         * @return this builder
+         * @throws NullPointerException when scheduler is null
+         */
+        public Builder withScheduler(ScheduledExecutorService scheduler) {
+            this.scheduler = requireNonNull(scheduler, "scheduler is required");
+            return this;
+        }
+
+        /**
+         * Creates the {@link WriteBehindBucketManager} and starts its background flush
+         *
+         * @return a new {@link WriteBehindBucketManager} instance
+         */
+        public WriteBehindBucketManager build() {
+            return new WriteBehindBucketManager(this);
+        }
+    }
+
+    private record PendingWrite(KeyValueEntity entity, Duration ttl) {
+
+        Value value() {
+            return Value.of(entity.value());
+        }
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ *
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.keyvalue;
+
+import java.time.Duration;
+
+/**
+ * An immutable snapshot of the counters kept by a {@link WriteBehindBucketManager}.
+ *
+ * @param pending               the number of keys waiting to be written, the queue depth
+ * @param writes                the number of writes accepted by the buffer
+ * @param coalesced             the number of writes that replaced a pending write of the same key
+ * @param dropped               the number of pending writes discarded by {@link WriteBehindBucketManager.Backpressure#DROP_OLDEST}
+ * @param flushes               the number of batches written to the {@link BucketManager}
+ * @param flushed               the number of entities written to the {@link BucketManager}
+ * @param failures              the number of batches that the {@link BucketManager} failed to write
+ * @param flushTimeNanos        the total time, in nanoseconds, spent writing batches to the {@link BucketManager}
+ * @param maximumFlushTimeNanos the longest time, in nanoseconds, spent writing a batch to the {@link BucketManager}
+ */
+public record WriteBehindStatistics(long pending, long writes, long coalesced, long dropped, long flushes, long flushed,
+                                    long failures, long flushTimeNanos, long maximumFlushTimeNanos) {
+
+    /**
+     * Returns the ratio of writes that never reached the {@link BucketManager} because a later write
+     * of the same key replaced them, when there is no write it returns 0.0
+     *
+     * @return the coalescing ratio between 0.0 and 1.0
+     */
+    public double coalescingRatio() {
+        return writes == 0 ? 0.0 : (double) coalesced / writes;
+    }
+
+    /**
+     * Returns the average time spent writing a batch to the {@link BucketManager}
+     *
+     * @return the average flush time or {@link Duration#ZERO} when there is no flush
+     */
+    public Duration averageFlushTime() {
+        return flushes == 0 ? Duration.ZERO : Duration.ofNanos(flushTimeNanos / flushes);
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.keyvalue;
+
+import org.eclipse.jnosql.communication.Value;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AsyncBucketManagerTest {
+
+    private BucketManager manager;
+
+    private ExecutorService executor;
+
+    private AsyncBucketManager async;
+
+    @BeforeEach
+    void setUp() {
+        this.manager = Mockito.mock(BucketManager.class);
+        this.executor = Executors.newSingleThreadExecutor(task -> new Thread(task, "bucket-async"));
+        this.async = AsyncBucketManager.of(manager, executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldReturnErrorWhenParameterIsNull() {
+        assertThatNullPointerException().isThrownBy(() -> AsyncBucketManager.of(null, executor));
+        assertThatNullPointerException().isThrownBy(() -> AsyncBucketManager.of(manager, null));
+        assertThatNullPointerException().isThrownBy(() -> async.get((Object) null));
+        assertThatNullPointerException().isThrownBy(() -> async.put((KeyValueEntity) null));
+    }
+
+    @Test
+    void shouldGetAtExecutor() throws Exception {
+        AtomicReference<String> thread = new AtomicReference<>();
+        when(manager.get("otavio")).thenAnswer(invocation -> {
+            thread.set(Thread.currentThread().getName());
+            return Optional.of(Value.of("Otavio"));
+        });
+
+        Optional<Value> value = async.get("otavio").toCompletableFuture().get(5, TimeUnit.SECONDS);
+
+        assertThat(value).map(Value::get).contains("Otavio");
+        assertThat(thread).hasValue("bucket-async");
+    }
+
+    @Test
+    void shouldPutAndDelete() throws Exception {
+        KeyValueEntity entity = KeyValueEntity.of("otavio", "Otavio");
+
+        async.put(entity, Duration.ofSeconds(1)).toCompletableFuture().get(5, TimeUnit.SECONDS);
+        async.delete(List.of("otavio")).toCompletableFuture().get(5, TimeUnit.SECONDS);
+
+        verify(manager).put(entity, Duration.ofSeconds(1));
+        verify(manager).delete(List.of("otavio"));
+    }
+
+    @Test
+    void shouldCompleteExceptionally() {
+        when(manager.get("otavio")).thenThrow(new IllegalStateException("offline"));
+
+        CompletableFuture<Optional<Value>> future = async.get("otavio").toCompletableFuture();
+
+        assertThat(future).failsWithin(5, TimeUnit.SECONDS)
+                .withThrowableOfType(Exception.class)
+                .withCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldReturnTheBlockingManager() {
+        assertThat(async.blocking()).isSameAs(manager);
+    }
+
+    @Test
+    void shouldWaitForAsyncManager() {
+        AsyncBucketManager asyncManager = Mockito.mock(AsyncBucketManager.class);
+        when(asyncManager.get("otavio")).thenReturn(CompletableFuture.completedFuture(Optional.of(Value.of("Otavio"))));
+        when(asyncManager.put("otavio", "Otavio")).thenReturn(CompletableFuture.completedFuture(null));
+        BucketManager blocking = new BlockingBucketManager(asyncManager);
+
+        blocking.put("otavio", "Otavio");
+
+        assertThat(blocking.get("otavio")).map(Value::get).contains("Otavio");
+        verify(asyncManager).put("otavio", "Otavio");
+    }
+
+    @Test
+    void shouldRethrowCauseFromAsyncManager() {
+        AsyncBucketManager asyncManager = Mockito.mock(AsyncBucketManager.class);
+        when(asyncManager.get("otavio")).thenReturn(CompletableFuture.failedFuture(new IllegalStateException("offline")));
+        BucketManager blocking = new BlockingBucketManager(asyncManager);
+
+        assertThatIllegalStateException().isThrownBy(() -> blocking.get("otavio")).withMessage("offline");
+    }
+
+    @Test
+    void shouldUnwrapBlockingManager() {
+        AsyncBucketManager asyncManager = Mockito.mock(AsyncBucketManager.class);
+
+        assertThat(AsyncBucketManager.of(new BlockingBucketManager(asyncManager), executor)).isSameAs(asyncManager);
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.keyvalue;
+
+import org.eclipse.jnosql.communication.CommunicationException;
+import org.eclipse.jnosql.communication.Instrumentation;
+import org.eclipse.jnosql.communication.Measurement;
+import org.eclipse.jnosql.communication.Value;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class InstrumentedBucketManagerTest {
+
+    private BucketManager manager;
+
+    private Instrumentation instrumentation;
+
+    private Measurement measurement;
+
+    private BucketManager instrumented;
+
+    @BeforeEach
+    void setUp() {
+        this.manager = Mockito.mock(BucketManager.class);
+        this.instrumentation = Mockito.mock(Instrumentation.class);
+        this.measurement = Mockito.mock(Measurement.class);
+        when(manager.name()).thenReturn("users");
+        when(instrumentation.start(Mockito.anyString(), Mockito.anyString(), Mockito.anyString())).thenReturn(measurement);
+        this.instrumented = InstrumentedBucketManager.of(manager, instrumentation, "redis");
+    }
+
+    @Test
+    void shouldReturnErrorWhenParameterIsNull() {
+        assertThatNullPointerException().isThrownBy(() -> InstrumentedBucketManager.of(null, instrumentation, ""));
+        assertThatNullPointerException().isThrownBy(() -> InstrumentedBucketManager.of(manager, null, ""));
+        assertThatNullPointerException().isThrownBy(() -> InstrumentedBucketManager.of(manager, instrumentation, null));
+        assertThatNullPointerException().isThrownBy(() -> instrumented.put((KeyValueEntity) null));
+        assertThatNullPointerException().isThrownBy(() -> instrumented.get((String) null));
+    }
+
+    @Test
+    void shouldNotDecorateWhenNoop() {
+        assertThat(InstrumentedBucketManager.of(manager, Instrumentation.noop(), "")).isSameAs(manager);
+        assertThat(InstrumentedBucketManager.of(instrumented, instrumentation, "")).isSameAs(instrumented);
+    }
+
+    @Test
+    void shouldReturnTheDecoratedManager() {
+        assertThat(((InstrumentedBucketManager) instrumented).manager()).isSameAs(manager);
+    }
+
+    @Test
+    void shouldMeasurePut() {
+        instrumented.put(List.of(KeyValueEntity.of("ada", "Ada"), KeyValueEntity.of("grace", "Grace")));
+
+        verify(instrumentation).start("redis", "put", "users");
+        verify(measurement).rows(2L);
+        verify(measurement).close();
+    }
+
+    @Test
+    void shouldMeasureGet() {
+        when(manager.get("ada")).thenReturn(Optional.of(Value.of("Ada")));
+        when(manager.get("grace")).thenReturn(Optional.empty());
+
+        assertThat(instrumented.get("ada")).contains(Value.of("Ada"));
+        assertThat(instrumented.get("grace")).isEmpty();
+
+        verify(instrumentation, Mockito.times(2)).start("redis", "get", "users");
+        verify(measurement).rows(1L);
+        verify(measurement).rows(0L);
+        verify(measurement, Mockito.times(2)).close();
+    }
+
+    @Test
+    void shouldMeasureError() {
+        CommunicationException exception = new CommunicationException("failure");
+        Mockito.doThrow(exception).when(manager).delete("ada");
+
+        assertThatThrownBy(() -> instrumented.delete("ada")).isSameAs(exception);
+
+        verify(instrumentation).start("redis", "delete", "users");
+        verify(measurement).error(exception);
+        verify(measurement).close();
+    }
+
+    @Test
+    void shouldDelegate() {
+        assertThat(instrumented.name()).isEqualTo("users");
+        instrumented.close();
+        verify(manager).close();
+    }
+}
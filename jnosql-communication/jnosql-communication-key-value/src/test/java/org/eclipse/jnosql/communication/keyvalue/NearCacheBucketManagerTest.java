@@ -0,0 +1,289 @@
+/*
+ *
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.keyvalue;
+
+import org.eclipse.jnosql.communication.Value;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class NearCacheBucketManagerTest {
+
+    private BucketManager manager;
+
+    private NearCacheBucketManager cache;
+
+    @BeforeEach
+    void setUp() {
+        this.manager = Mockito.mock(BucketManager.class);
+        this.cache = NearCacheBucketManager.builder(manager).build();
+    }
+
+    @Test
+    void shouldReturnErrorWhenManagerIsNull() {
+        assertThatNullPointerException().isThrownBy(() -> NearCacheBucketManager.builder(null));
+    }
+
+    @Test
+    void shouldReturnErrorWhenMaximumSizeIsInvalid() {
+        assertThatIllegalArgumentException().isThrownBy(() -> NearCacheBucketManager.builder(manager)
+                .withMaximumSize(0));
+    }
+
+    @Test
+    void shouldReturnErrorWhenExpireAfterWriteIsInvalid() {
+        assertThatIllegalArgumentException().isThrownBy(() -> NearCacheBucketManager.builder(manager)
+                .withExpireAfterWrite(Duration.ZERO));
+    }
+
+    @Test
+    void shouldReturnName() {
+        when(manager.name()).thenReturn("bucket");
+        assertThat(cache.name()).isEqualTo("bucket");
+    }
+
+    @Test
+    void shouldCacheValue() {
+        when(manager.get("key")).thenReturn(Optional.of(Value.of("value")));
+
+        assertThat(cache.get("key")).get().extracting(Value::get).isEqualTo("value");
+        assertThat(cache.get("key")).get().extracting(Value::get).isEqualTo("value");
+
+        verify(manager, times(1)).get("key");
+        NearCacheStatistics statistics = cache.statistics();
+        assertSoftly(softly -> {
+            softly.assertThat(statistics.hits()).isEqualTo(1L);
+            softly.assertThat(statistics.misses()).isEqualTo(1L);
+            softly.assertThat(statistics.loads()).isEqualTo(1L);
+            softly.assertThat(statistics.size()).isEqualTo(1L);
+            softly.assertThat(statistics.hitRatio()).isEqualTo(0.5);
+        });
+    }
+
+    @Test
+    void shouldNotCacheAbsentKeyByDefault() {
+        when(manager.get("key")).thenReturn(Optional.empty());
+
+        assertThat(cache.get("key")).isEmpty();
+        assertThat(cache.get("key")).isEmpty();
+
+        verify(manager, times(2)).get("key");
+    }
+
+    @Test
+    void shouldCacheAbsentKeyWhenNegativeCachingIsEnabled() {
+        cache = NearCacheBucketManager.builder(manager).withNegativeCaching(true).build();
+        when(manager.get("key")).thenReturn(Optional.empty());
+
+        assertThat(cache.get("key")).isEmpty();
+        assertThat(cache.get("key")).isEmpty();
+
+        verify(manager, times(1)).get("key");
+    }
+
+    @Test
+    void shouldInvalidateOnPut() {
+        when(manager.get("key")).thenReturn(Optional.of(Value.of("value")));
+        cache.get("key");
+
+        cache.put(KeyValueEntity.of("key", "other"));
+        cache.get("key");
+
+        verify(manager).put(KeyValueEntity.of("key", "other"));
+        verify(manager, times(2)).get("key");
+    }
+
+    @Test
+    void shouldInvalidateOnPutKeyValue() {
+        when(manager.get("key")).thenReturn(Optional.of(Value.of("value")));
+        cache.get("key");
+
+        cache.put("key", "other");
+        cache.get("key");
+
+        verify(manager, times(2)).get("key");
+    }
+
+    @Test
+    void shouldInvalidateOnDelete() {
+        when(manager.get("key")).thenReturn(Optional.of(Value.of("value")));
+        cache.get("key");
+
+        cache.delete("key");
+        cache.get("key");
+
+        verify(manager).delete("key");
+        verify(manager, times(2)).get("key");
+    }
+
+    @Test
+    void shouldInvalidateOnDeleteKeys() {
+        when(manager.get("key")).thenReturn(Optional.of(Value.of("value")));
+        cache.get("key");
+
+        cache.delete(List.of("key"));
+        cache.get("key");
+
+        verify(manager, times(2)).get("key");
+    }
+
+    @Test
+    void shouldExpireAfterWrite() {
+        cache = NearCacheBucketManager.builder(manager).withExpireAfterWrite(Duration.ofMillis(50)).build();
+        when(manager.get("key")).thenReturn(Optional.of(Value.of("value")));
+        cache.get("key");
+
+        await().atMost(Duration.ofSeconds(2)).untilAsserted(() -> {
+            cache.get("key");
+            verify(manager, times(2)).get("key");
+        });
+    }
+
+    @Test
+    void shouldHonorTimeToLiveFromPut() {
+        when(manager.get("key")).thenReturn(Optional.of(Value.of("value")));
+        cache.put(KeyValueEntity.of("key", "value"), Duration.ofMillis(50));
+        cache.get("key");
+        cache.get("key");
+        verify(manager, times(1)).get("key");
+
+        await().atMost(Duration.ofSeconds(2)).untilAsserted(() -> {
+            cache.get("key");
+            verify(manager, times(2)).get("key");
+        });
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsed() {
+        cache = NearCacheBucketManager.builder(manager).withMaximumSize(1).build();
+        when(manager.get(any(Integer.class))).thenReturn(Optional.of(Value.of("value")));
+
+        for (int index = 0; index < 100; index++) {
+            cache.get(index);
+        }
+
+        NearCacheStatistics statistics = cache.statistics();
+        assertThat(statistics.evictions()).isPositive();
+        assertThat(statistics.size()).isLessThanOrEqualTo(16L);
+    }
+
+    @Test
+    void shouldReturnAllKeysFromCache() {
+        when(manager.get("one")).thenReturn(Optional.of(Value.of("1")));
+        when(manager.get("two")).thenReturn(Optional.of(Value.of("2")));
+        cache.get("one");
+        cache.get("two");
+
+        Iterable<Value> values = cache.get(List.of("one", "two"));
+
+        assertThat(values).extracting(Value::get).containsExactly("1", "2");
+        verify(manager, never()).get(anyIterable());
+    }
+
+    @Test
+    void shouldDelegateKeysWhenThereIsMiss() {
+        when(manager.get("one")).thenReturn(Optional.of(Value.of("1")));
+        List<String> keys = List.of("one", "two");
+        when(manager.get(keys)).thenReturn(List.of(Value.of("1"), Value.of("2")));
+        cache.get("one");
+
+        Iterable<Value> values = cache.get(keys);
+
+        assertThat(values).extracting(Value::get).containsExactly("1", "2");
+        verify(manager).get(keys);
+    }
+
+    @Test
+    void shouldCoalesceConcurrentMisses() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(manager.get("key")).thenAnswer(invocation -> {
+            calls.incrementAndGet();
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.of(Value.of("value"));
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<Optional<Value>> first = executor.submit(() -> cache.get("key"));
+            loading.await(5, TimeUnit.SECONDS);
+            Future<Optional<Value>> second = executor.submit(() -> cache.get("key"));
+            Future<Optional<Value>> third = executor.submit(() -> cache.get("key"));
+            await().atMost(Duration.ofSeconds(2)).until(() -> cache.statistics().misses() == 3L);
+            release.countDown();
+
+            assertThat(first.get(5, TimeUnit.SECONDS)).isPresent();
+            assertThat(second.get(5, TimeUnit.SECONDS)).isPresent();
+            assertThat(third.get(5, TimeUnit.SECONDS)).isPresent();
+            assertThat(calls.get()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldPropagateErrorToCoalescedMisses() {
+        when(manager.get("key")).thenThrow(new IllegalStateException("error"));
+        assertThatIllegalStateException().isThrownBy(() -> cache.get("key"));
+        assertThat(cache.statistics().size()).isZero();
+    }
+
+    @Test
+    void shouldUseQueryThroughCache() {
+        when(manager.get("key")).thenReturn(Optional.of(Value.of("value")));
+        cache.get("key");
+
+        assertThat(cache.query("get \"key\"")).extracting(Value::get).containsExactly("value");
+        verify(manager, times(1)).get("key");
+    }
+
+    @Test
+    void shouldClearOnClose() {
+        when(manager.get("key")).thenReturn(Optional.of(Value.of("value")));
+        cache.get("key");
+
+        cache.close();
+
+        verify(manager).close();
+        assertThat(cache.statistics().size()).isZero();
+    }
+}
@@ -0,0 +1,397 @@
+/*
+ *
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.keyvalue;
+
+import org.eclipse.jnosql.communication.CommunicationException;
+import org.eclipse.jnosql.communication.Value;
+import org.eclipse.jnosql.communication.keyvalue.WriteBehindBucketManager.Backpressure;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class WriteBehindBucketManagerTest {
+
+    private static final Duration NEVER = Duration.ofHours(1);
+
+    private BucketManager manager;
+
+    private WriteBehindBucketManager buffer;
+
+    @BeforeEach
+    void setUp() {
+        this.manager = Mockito.mock(BucketManager.class);
+        when(manager.name()).thenReturn("bucket");
+        this.buffer = WriteBehindBucketManager.builder(manager).withWindow(NEVER).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        buffer.close();
+    }
+
+    @Test
+    void shouldReturnErrorWhenParameterIsInvalid() {
+        assertThatNullPointerException().isThrownBy(() -> WriteBehindBucketManager.builder(null));
+        WriteBehindBucketManager.Builder builder = WriteBehindBucketManager.builder(manager);
+        assertSoftly(softly -> {
+            softly.assertThatThrownBy(() -> builder.withWindow(Duration.ZERO)).isInstanceOf(IllegalArgumentException.class);
+            softly.assertThatThrownBy(() -> builder.withWindow(null)).isInstanceOf(NullPointerException.class);
+            softly.assertThatThrownBy(() -> builder.withBatchSize(0)).isInstanceOf(IllegalArgumentException.class);
+            softly.assertThatThrownBy(() -> builder.withMaximumPending(0)).isInstanceOf(IllegalArgumentException.class);
+            softly.assertThatThrownBy(() -> builder.withBackpressure(null)).isInstanceOf(NullPointerException.class);
+            softly.assertThatThrownBy(() -> builder.withBlockTimeout(Duration.ZERO)).isInstanceOf(IllegalArgumentException.class);
+            softly.assertThatThrownBy(() -> builder.withBlockTimeout(null)).isInstanceOf(NullPointerException.class);
+            softly.assertThatThrownBy(() -> builder.withScheduler(null)).isInstanceOf(NullPointerException.class);
+        });
+    }
+
+    @Test
+    void shouldReturnName() {
+        assertThat(buffer.name()).isEqualTo("bucket");
+    }
+
+    @Test
+    void shouldNotWriteBeforeFlush() {
+        buffer.put("key", "value");
+
+        verify(manager, never()).put(anyIterable());
+        verify(manager, never()).put(anyIterable(), any(Duration.class));
+        assertThat(buffer.statistics().pending()).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldCoalesceWritesOfTheSameKey() {
+        buffer.put("counter", 1);
+        buffer.put("counter", 2);
+        buffer.put(KeyValueEntity.of("counter", 3));
+        buffer.put("other", 1);
+
+        buffer.flush();
+
+        assertThat(flushed()).containsExactly(KeyValueEntity.of("counter", 3), KeyValueEntity.of("other", 1));
+        WriteBehindStatistics statistics = buffer.statistics();
+        assertSoftly(softly -> {
+            softly.assertThat(statistics.writes()).isEqualTo(4L);
+            softly.assertThat(statistics.coalesced()).isEqualTo(2L);
+            softly.assertThat(statistics.coalescingRatio()).isEqualTo(0.5);
+            softly.assertThat(statistics.flushes()).isEqualTo(1L);
+            softly.assertThat(statistics.flushed()).isEqualTo(2L);
+            softly.assertThat(statistics.pending()).isZero();
+        });
+    }
+
+    @Test
+    void shouldFlushInBatches() {
+        buffer.close();
+        buffer = WriteBehindBucketManager.builder(manager).withWindow(NEVER).withBatchSize(2).build();
+        for (int index = 0; index < 5; index++) {
+            buffer.put("key-" + index, index);
+        }
+
+        buffer.flush();
+
+        verify(manager, times(3)).put(anyIterable());
+        assertThat(buffer.statistics().flushed()).isEqualTo(5L);
+    }
+
+    @Test
+    void shouldFlushWithTimeToLive() {
+        Duration ttl = Duration.ofMinutes(1);
+        buffer.put(KeyValueEntity.of("session", "touch"), ttl);
+        buffer.put(KeyValueEntity.of("counter", 1));
+
+        buffer.flush();
+
+        verify(manager).put(List.of(KeyValueEntity.of("session", "touch")), ttl);
+        verify(manager).put(List.of(KeyValueEntity.of("counter", 1)));
+    }
+
+    @Test
+    void shouldFlushIterables() {
+        Duration ttl = Duration.ofMinutes(1);
+        buffer.put(List.of(KeyValueEntity.of("first", 1), KeyValueEntity.of("second", 2)));
+        buffer.put(List.of(KeyValueEntity.of("third", 3)), ttl);
+
+        buffer.flush();
+
+        verify(manager).put(List.of(KeyValueEntity.of("first", 1), KeyValueEntity.of("second", 2)));
+        verify(manager).put(List.of(KeyValueEntity.of("third", 3)), ttl);
+    }
+
+    @Test
+    void shouldReadYourWrites() {
+        buffer.put("key", "pending");
+
+        assertThat(buffer.get("key")).map(Value::get).contains("pending");
+        assertThat(buffer.get(Value.of("key"))).map(Value::get).contains("pending");
+        verify(manager, never()).get(any());
+    }
+
+    @Test
+    void shouldReadFromManagerWhenNotPending() {
+        when(manager.get("key")).thenReturn(Optional.of(Value.of("stored")));
+        buffer.put("key", "pending");
+        buffer.flush();
+
+        assertThat(buffer.get("key")).map(Value::get).contains("stored");
+        verify(manager).get("key");
+    }
+
+    @Test
+    void shouldReadKeysFromBufferAndManagerInTheOrderOfTheKeys() {
+        when(manager.get("first")).thenReturn(Optional.of(Value.of("first from database")));
+        when(manager.get("third")).thenReturn(Optional.of(Value.of("third from database")));
+        when(manager.get("absent")).thenReturn(Optional.empty());
+        buffer.put("second", "second from buffer");
+
+        Iterable<Value> values = buffer.get(List.of("first", "second", "absent", "third"));
+
+        assertThat(values).extracting(Value::get)
+                .containsExactly("first from database", "second from buffer", "third from database");
+        verify(manager, never()).get(anyIterable());
+    }
+
+    @Test
+    void shouldDelegateKeysWhenNothingIsPending() {
+        List<String> keys = List.of("first", "second");
+        when(manager.get(keys)).thenReturn(List.of(Value.of(1), Value.of(2)));
+
+        assertThat(buffer.get(keys)).hasSize(2);
+        verify(manager).get(keys);
+    }
+
+    @Test
+    void shouldDiscardPendingWriteOnDelete() {
+        buffer.put("key", "value");
+        buffer.put("other", "value");
+
+        buffer.delete("key");
+        buffer.delete(List.of("other"));
+        buffer.flush();
+
+        verify(manager).delete("key");
+        verify(manager).delete(List.of("other"));
+        verify(manager, never()).put(anyIterable());
+        assertThat(buffer.statistics().pending()).isZero();
+    }
+
+    @Test
+    void shouldKeepFailedBatchPending() {
+        doThrow(new CommunicationException("unavailable")).doNothing().when(manager).put(anyIterable());
+        buffer.put("key", "value");
+
+        assertThatThrownBy(buffer::flush).isInstanceOf(CommunicationException.class);
+        assertThat(buffer.statistics().pending()).isEqualTo(1L);
+        assertThat(buffer.get("key")).map(Value::get).contains("value");
+
+        buffer.flush();
+        assertThat(buffer.statistics().pending()).isZero();
+        assertThat(buffer.statistics().failures()).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldKeepNewerWriteOfFlushedKey() {
+        doThrow(new CommunicationException("unavailable")).doNothing().when(manager).put(anyIterable());
+        buffer.put("key", 1);
+        assertThatThrownBy(buffer::flush).isInstanceOf(CommunicationException.class);
+        buffer.put("key", 2);
+
+        buffer.flush();
+
+        verify(manager).put(List.of(KeyValueEntity.of("key", 2)));
+    }
+
+    @Test
+    void shouldFlushInBackground() {
+        buffer.close();
+        buffer = WriteBehindBucketManager.builder(manager).withWindow(Duration.ofMillis(10)).build();
+
+        buffer.put("key", "value");
+
+        await().atMost(Duration.ofSeconds(2)).untilAsserted(() -> verify(manager).put(anyIterable()));
+        await().atMost(Duration.ofSeconds(2)).until(() -> buffer.statistics().pending() == 0L);
+        assertThat(buffer.statistics().maximumFlushTimeNanos()).isPositive();
+        assertThat(buffer.statistics().averageFlushTime()).isPositive();
+    }
+
+    @Test
+    void shouldUseInformedScheduler() {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            WriteBehindBucketManager scheduled = WriteBehindBucketManager.builder(manager)
+                    .withWindow(Duration.ofMillis(10)).withScheduler(scheduler).build();
+            scheduled.put("key", "value");
+
+            await().atMost(Duration.ofSeconds(2)).untilAsserted(() -> verify(manager).put(anyIterable()));
+            scheduled.close();
+            assertThat(scheduler.isShutdown()).isFalse();
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldDropOldest() {
+        buffer.close();
+        buffer = WriteBehindBucketManager.builder(manager).withWindow(NEVER).withMaximumPending(2)
+                .withBackpressure(Backpressure.DROP_OLDEST).build();
+
+        buffer.put("first", 1);
+        buffer.put("second", 2);
+        buffer.put("second", 3);
+        buffer.put("third", 4);
+        buffer.flush();
+
+        assertThat(flushed()).containsExactly(KeyValueEntity.of("second", 3), KeyValueEntity.of("third", 4));
+        assertThat(buffer.statistics().dropped()).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldFlushSyncWhenFull() {
+        buffer.close();
+        buffer = WriteBehindBucketManager.builder(manager).withWindow(NEVER).withMaximumPending(2)
+                .withBackpressure(Backpressure.FLUSH_SYNC).build();
+
+        buffer.put("first", 1);
+        buffer.put("second", 2);
+        buffer.put("third", 3);
+
+        verify(manager).put(List.of(KeyValueEntity.of("first", 1), KeyValueEntity.of("second", 2)));
+        assertThat(buffer.statistics().pending()).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldBlockWhenFull() throws Exception {
+        buffer.close();
+        buffer = WriteBehindBucketManager.builder(manager).withWindow(NEVER).withMaximumPending(1).build();
+        buffer.put("first", 1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> blocked = executor.submit(() -> buffer.put("second", 2));
+            TimeUnit.MILLISECONDS.sleep(100);
+            assertThat(blocked).isNotDone();
+
+            buffer.flush();
+
+            blocked.get(2, TimeUnit.SECONDS);
+            assertThat(buffer.get("second")).map(Value::get).contains(2);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldThrowWhenBlockedLongerThanTheTimeout() {
+        doThrow(new CommunicationException("unavailable")).when(manager).put(anyIterable());
+        buffer.close();
+        buffer = WriteBehindBucketManager.builder(manager).withWindow(Duration.ofMillis(10)).withMaximumPending(1)
+                .withBlockTimeout(Duration.ofMillis(100)).build();
+        buffer.put("first", 1);
+
+        assertThatThrownBy(() -> buffer.put("second", 2)).isInstanceOf(CommunicationException.class)
+                .hasMessageContaining("Timed out");
+        assertThat(buffer.get("first")).map(Value::get).contains(1);
+        assertThat(buffer.statistics().failures()).isPositive();
+        Mockito.doNothing().when(manager).put(anyIterable());
+    }
+
+    @Test
+    void shouldThrowWhenInterruptedWhileBlocked() {
+        buffer.close();
+        buffer = WriteBehindBucketManager.builder(manager).withWindow(NEVER).withMaximumPending(1).build();
+        buffer.put("first", 1);
+
+        Thread.currentThread().interrupt();
+        try {
+            assertThatThrownBy(() -> buffer.put("second", 2)).isInstanceOf(CommunicationException.class);
+            assertThat(Thread.interrupted()).isTrue();
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    @Test
+    void shouldFlushOnClose() {
+        buffer.put("key", "value");
+
+        buffer.close();
+
+        verify(manager).put(List.of(KeyValueEntity.of("key", "value")));
+        verify(manager).close();
+        assertThatIllegalStateException().isThrownBy(() -> buffer.put("key", "value"));
+    }
+
+    @Test
+    void shouldCloseManagerWhenLastFlushFails() {
+        doThrow(new CommunicationException("unavailable")).when(manager).put(anyIterable());
+        buffer.put("key", "value");
+
+        assertThatThrownBy(buffer::close).isInstanceOf(CommunicationException.class);
+        verify(manager).close();
+    }
+
+    @Test
+    void shouldUsePendingWritesAtQuery() {
+        buffer.put("key", "value");
+
+        assertThat(buffer.query("get \"key\"")).extracting(Value::get).containsExactly("value");
+        verify(manager, never()).get(any());
+    }
+
+    @Test
+    void shouldReturnZeroWithoutActivity() {
+        WriteBehindStatistics statistics = buffer.statistics();
+        assertThat(statistics.coalescingRatio()).isZero();
+        assertThat(statistics.averageFlushTime()).isZero();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<KeyValueEntity> flushed() {
+        ArgumentCaptor<Iterable<KeyValueEntity>> captor = ArgumentCaptor.forClass(Iterable.class);
+        verify(manager, Mockito.atLeastOnce()).put(captor.capture());
+        List<KeyValueEntity> entities = new ArrayList<>();
+        captor.getAllValues().forEach(i -> i.forEach(entities::add));
+        return entities;
+    }
+}
@@ -10,10 +10,11 @@
  *  Otavio Santana
  */
 module org.eclipse.jnosql.communication.query {
-    requires org.antlr.antlr4.runtime;
+    requires static org.antlr.antlr4.runtime;
     requires jakarta.json;
     requires org.eclipse.jnosql.communication.core;
     requires jakarta.data;
+    requires jdk.jfr;
 
     exports org.eclipse.jnosql.communication.query.method;
     exports org.eclipse.jnosql.communication.query;
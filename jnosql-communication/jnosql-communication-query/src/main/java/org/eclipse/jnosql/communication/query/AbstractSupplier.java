@@ -27,8 +27,13 @@ abstract class AbstractSupplier extends QueryBaseListener {
 
     abstract Function<QueryParser, ParseTree> getParserTree();
 
+    String entity() {
+        return null;
+    }
+
     protected void runQuery(String query) {
         Objects.requireNonNull(query, "query is required");
+        QueryParseEvent event = QueryParseEvent.start();
 
         CharStream stream = CharStreams.fromString(query);
         QueryLexer lexer = new QueryLexer(stream);
@@ -42,5 +47,6 @@ abstract class AbstractSupplier extends QueryBaseListener {
         ParseTree tree = getParserTree().apply(parser);
         ParseTreeWalker walker = new ParseTreeWalker();
         walker.walk(this, tree);
+        event.end(query, entity());
     }
 }
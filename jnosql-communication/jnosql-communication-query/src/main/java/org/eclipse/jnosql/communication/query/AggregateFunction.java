@@ -0,0 +1,41 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.query;
+
+/**
+ * The functions available at the <b>SELECT</b> aggregate statement, e.g.: {@code select count(*), sum(salary) from Person}.
+ */
+public enum AggregateFunction {
+    /**
+     * The number of rows, or the number of non-null values when it has a field.
+     */
+    COUNT,
+    /**
+     * The sum of the non-null values of a field.
+     */
+    SUM,
+    /**
+     * The lowest non-null value of a field.
+     */
+    MIN,
+    /**
+     * The highest non-null value of a field.
+     */
+    MAX,
+    /**
+     * The average of the non-null values of a field.
+     */
+    AVG
+}
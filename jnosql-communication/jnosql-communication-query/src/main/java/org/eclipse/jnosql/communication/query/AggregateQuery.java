@@ -0,0 +1,70 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.query;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * The <b>SELECT</b> statement with aggregate functions, e.g.:
+ * {@code select city, count(*), avg(age) from Person where active = true group by city}.
+ * Each row of the result has the {@link AggregateQuery#groupBy()} fields and the {@link Aggregation#label()} of
+ * each aggregation. Blanks are allowed between a function and its parenthesis, e.g. {@code count (*)}, and
+ * {@code group} stays a valid field and entity name.
+ */
+public interface AggregateQuery extends Query {
+
+    /**
+     * The entity name
+     *
+     * @return the entity name
+     */
+    String entity();
+
+    /**
+     * The aggregate functions of this query
+     *
+     * @return the aggregations
+     */
+    List<Aggregation> aggregations();
+
+    /**
+     * The fields used to group the rows, if it is empty the whole result is a single group.
+     *
+     * @return the group by fields
+     */
+    List<String> groupBy();
+
+    /**
+     * The condition at this {@link AggregateQuery}, if the Where is empty that means it aggregates the whole entities.
+     *
+     * @return the {@link Where} entity otherwise {@link Optional#empty()}
+     */
+    Optional<Where> where();
+
+    /**
+     * Obtains an instance of {@link AggregateQuery} from a text string.
+     *
+     * @param query the query
+     * @return {@link AggregateQuery} instance
+     * @throws NullPointerException when the query is null
+     * @throws org.eclipse.jnosql.communication.QueryException when there is an error in the syntax
+     */
+    static AggregateQuery parse(String query) {
+        Objects.requireNonNull(query, "query is required");
+        return new AggregateQueryConverter().apply(query);
+    }
+}
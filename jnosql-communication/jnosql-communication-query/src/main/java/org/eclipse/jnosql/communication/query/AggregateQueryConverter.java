@@ -0,0 +1,113 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.query;
+
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.eclipse.jnosql.communication.QueryException;
+import org.eclipse.jnosql.query.grammar.QueryParser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static java.util.Collections.emptyList;
+
+/**
+ * A provider to {@link AggregateQuery}, this provider converts text into {@link AggregateQuery}
+ */
+public final class AggregateQueryConverter extends AbstractWhereSupplier implements Function<String, AggregateQuery> {
+
+    private String entity;
+
+    private final List<Aggregation> aggregations = new ArrayList<>();
+
+    private final List<String> fields = new ArrayList<>();
+
+    private List<String> groupBy = emptyList();
+
+    @Override
+    public void exitAggregateField(QueryParser.AggregateFieldContext ctx) {
+        if (ctx.name() != null) {
+            fields.add(ctx.name().getText());
+        }
+    }
+
+    @Override
+    public void exitCount(QueryParser.CountContext ctx) {
+        if (ctx.star() == null) {
+            aggregations.add(Aggregation.of(AggregateFunction.COUNT, ctx.name().getText()));
+        } else {
+            aggregations.add(Aggregation.count());
+        }
+    }
+
+    @Override
+    public void exitSum(QueryParser.SumContext ctx) {
+        aggregations.add(Aggregation.of(AggregateFunction.SUM, ctx.name().getText()));
+    }
+
+    @Override
+    public void exitMin(QueryParser.MinContext ctx) {
+        aggregations.add(Aggregation.of(AggregateFunction.MIN, ctx.name().getText()));
+    }
+
+    @Override
+    public void exitMax(QueryParser.MaxContext ctx) {
+        aggregations.add(Aggregation.of(AggregateFunction.MAX, ctx.name().getText()));
+    }
+
+    @Override
+    public void exitAvg(QueryParser.AvgContext ctx) {
+        aggregations.add(Aggregation.of(AggregateFunction.AVG, ctx.name().getText()));
+    }
+
+    @Override
+    public void exitGroup(QueryParser.GroupContext ctx) {
+        this.groupBy = ctx.name().stream().map(QueryParser.NameContext::getText).toList();
+    }
+
+    @Override
+    public void exitEntity(QueryParser.EntityContext ctx) {
+        this.entity = ctx.getText();
+    }
+
+    @Override
+    String entity() {
+        return entity;
+    }
+
+    @Override
+    public AggregateQuery apply(String query) {
+        aggregations.clear();
+        fields.clear();
+        groupBy = emptyList();
+        runQuery(query);
+        if (aggregations.isEmpty()) {
+            throw new QueryException("The aggregate query requires at least one aggregate function: " + query);
+        }
+        for (String field : fields) {
+            if (!groupBy.contains(field)) {
+                throw new QueryException(String.format("The field %s must be either at the group by or inside an " +
+                        "aggregate function at the query: %s", field, query));
+            }
+        }
+        return new DefaultAggregateQuery(entity, List.copyOf(aggregations), groupBy, where);
+    }
+
+    @Override
+    Function<QueryParser, ParseTree> getParserTree() {
+        return QueryParser::aggregate;
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.query;
+
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * An aggregate function applied to a field, e.g.: {@code sum(salary)}.
+ *
+ * @param function the aggregate function
+ * @param field    the field name, it is null at {@code count(*)}
+ */
+public record Aggregation(AggregateFunction function, String field) {
+
+    private static final String ALL = "*";
+
+    /**
+     * Creates an {@link Aggregation} instance
+     *
+     * @param function the aggregate function
+     * @param field    the field name
+     * @return the {@link Aggregation} instance
+     * @throws NullPointerException when either function or field is null
+     */
+    public static Aggregation of(AggregateFunction function, String field) {
+        Objects.requireNonNull(function, "function is required");
+        Objects.requireNonNull(field, "field is required");
+        return new Aggregation(function, field);
+    }
+
+    /**
+     * Creates the {@code count(*)} aggregation, that counts every row.
+     *
+     * @return the {@link Aggregation} instance
+     */
+    public static Aggregation count() {
+        return new Aggregation(AggregateFunction.COUNT, null);
+    }
+
+    /**
+     * The name of this aggregation at the result, e.g.: {@code count(*)} or {@code sum(salary)}.
+     *
+     * @return the label
+     */
+    public String label() {
+        return function.name().toLowerCase(Locale.US) + '(' + (field == null ? ALL : field) + ')';
+    }
+}
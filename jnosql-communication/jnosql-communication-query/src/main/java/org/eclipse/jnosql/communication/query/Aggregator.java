@@ -0,0 +1,222 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.query;
+
+import org.eclipse.jnosql.communication.QueryException;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Runs the aggregations of an {@link AggregateQuery} on the client, for the databases that cannot run them.
+ * The rows are read one at a time and are not kept: it holds a single accumulator per group and aggregation,
+ * so the memory depends on the number of groups instead of the number of rows.
+ * The sum and the average keep the {@link BigDecimal} arithmetic when any value is a {@link BigDecimal} or a
+ * {@link BigInteger}; otherwise the sum is a long, or a double when any value is a floating point number.
+ * This class is not thread-safe.
+ */
+public final class Aggregator {
+
+    private final List<String> groupBy;
+
+    private final List<Aggregation> aggregations;
+
+    private final Map<List<Object>, Accumulator[]> groups = new LinkedHashMap<>();
+
+    private Aggregator(List<String> groupBy, List<Aggregation> aggregations) {
+        this.groupBy = groupBy;
+        this.aggregations = aggregations;
+    }
+
+    /**
+     * The fields that the rows must have to run this aggregation, the group by fields followed by the aggregated ones.
+     *
+     * @return the fields
+     */
+    public Set<String> fields() {
+        Set<String> fields = new LinkedHashSet<>(groupBy);
+        aggregations.stream().map(Aggregation::field).filter(Objects::nonNull).forEach(fields::add);
+        return Collections.unmodifiableSet(fields);
+    }
+
+    /**
+     * Accumulates a row
+     *
+     * @param row the function that returns the value of a field at the row, or null when the row does not have it
+     * @throws NullPointerException when row is null
+     * @throws QueryException       when either a sum or an average finds a non-numeric value,
+     *                              or a min or a max finds a value that cannot be compared
+     */
+    public void accept(Function<String, Object> row) {
+        Objects.requireNonNull(row, "row is required");
+        Object[] key = new Object[groupBy.size()];
+        for (int index = 0; index < key.length; index++) {
+            key[index] = row.apply(groupBy.get(index));
+        }
+        Accumulator[] accumulators = groups.computeIfAbsent(Arrays.asList(key), k -> accumulators());
+        for (Accumulator accumulator : accumulators) {
+            String field = accumulator.aggregation.field();
+            accumulator.accept(field == null ? null : row.apply(field));
+        }
+    }
+
+    /**
+     * Returns a row for each group, in the order the groups were found, with the group by fields and the
+     * {@link Aggregation#label()} of each aggregation. Without group by fields, it always returns a single row.
+     *
+     * @return the rows
+     */
+    public List<Map<String, Object>> result() {
+        if (groups.isEmpty() && groupBy.isEmpty()) {
+            groups.put(List.of(), accumulators());
+        }
+        List<Map<String, Object>> rows = new ArrayList<>(groups.size());
+        for (Map.Entry<List<Object>, Accumulator[]> group : groups.entrySet()) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (int index = 0; index < groupBy.size(); index++) {
+                row.put(groupBy.get(index), group.getKey().get(index));
+            }
+            for (Accumulator accumulator : group.getValue()) {
+                row.put(accumulator.aggregation.label(), accumulator.result());
+            }
+            rows.add(Collections.unmodifiableMap(row));
+        }
+        return rows;
+    }
+
+    private Accumulator[] accumulators() {
+        return aggregations.stream().map(Accumulator::new).toArray(Accumulator[]::new);
+    }
+
+    /**
+     * Creates an {@link Aggregator} instance
+     *
+     * @param groupBy      the group by fields
+     * @param aggregations the aggregations
+     * @return the {@link Aggregator} instance
+     * @throws NullPointerException when either groupBy or aggregations is null
+     */
+    public static Aggregator of(List<String> groupBy, List<Aggregation> aggregations) {
+        Objects.requireNonNull(groupBy, "groupBy is required");
+        Objects.requireNonNull(aggregations, "aggregations is required");
+        return new Aggregator(List.copyOf(groupBy), List.copyOf(aggregations));
+    }
+
+    private static final class Accumulator {
+
+        private final Aggregation aggregation;
+
+        private long count;
+
+        private BigDecimal sum = BigDecimal.ZERO;
+
+        private boolean integral = true;
+
+        private boolean exact;
+
+        private Object value;
+
+        private Accumulator(Aggregation aggregation) {
+            this.aggregation = aggregation;
+        }
+
+        private void accept(Object value) {
+            if (aggregation.field() == null) {
+                count++;
+                return;
+            }
+            if (value == null) {
+                return;
+            }
+            count++;
+            switch (aggregation.function()) {
+                case SUM, AVG -> sum = sum.add(decimal(value));
+                case MIN -> this.value = this.value == null || compare(value, this.value) < 0 ? value : this.value;
+                case MAX -> this.value = this.value == null || compare(value, this.value) > 0 ? value : this.value;
+                default -> {
+                }
+            }
+        }
+
+        private Object result() {
+            return switch (aggregation.function()) {
+                case COUNT -> count;
+                case SUM -> count == 0 ? null : number(sum);
+                case AVG -> count == 0 ? null : average();
+                case MIN, MAX -> value;
+            };
+        }
+
+        private BigDecimal decimal(Object value) {
+            if (value instanceof BigDecimal decimal) {
+                integral = false;
+                exact = true;
+                return decimal;
+            } else if (value instanceof BigInteger integer) {
+                exact = true;
+                return new BigDecimal(integer);
+            } else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                return BigDecimal.valueOf(((Number) value).longValue());
+            } else if (value instanceof Number number) {
+                integral = false;
+                return BigDecimal.valueOf(number.doubleValue());
+            }
+            throw new QueryException(String.format("The field %s has the non-numeric value %s at %s",
+                    aggregation.field(), value, aggregation.label()));
+        }
+
+        private Object number(BigDecimal value) {
+            if (exact) {
+                return integral ? value.toBigInteger() : value;
+            }
+            if (!integral) {
+                return value.doubleValue();
+            }
+            try {
+                return value.longValueExact();
+            } catch (ArithmeticException exception) {
+                return value.toBigInteger();
+            }
+        }
+
+        private Object average() {
+            BigDecimal average = sum.divide(BigDecimal.valueOf(count), exact ? MathContext.DECIMAL128 : MathContext.DECIMAL64);
+            return exact ? average : average.doubleValue();
+        }
+
+        @SuppressWarnings("unchecked")
+        private int compare(Object value, Object current) {
+            if (value instanceof Number && current instanceof Number && !value.getClass().equals(current.getClass())) {
+                return new BigDecimal(value.toString()).compareTo(new BigDecimal(current.toString()));
+            }
+            if (value instanceof Comparable && value.getClass().isInstance(current)) {
+                return ((Comparable<Object>) value).compareTo(current);
+            }
+            throw new QueryException(String.format("The values %s and %s cannot be compared at %s",
+                    value, current, aggregation.label()));
+        }
+    }
+}
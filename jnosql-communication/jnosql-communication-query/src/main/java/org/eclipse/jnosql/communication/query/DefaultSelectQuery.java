@@ -14,6 +14,7 @@ package org.eclipse.jnosql.communication.query;
 
 
 import jakarta.data.Sort;
+import org.eclipse.jnosql.communication.QueryHints;
 
 import java.util.List;
 import java.util.Objects;
@@ -24,7 +25,7 @@ import java.util.Optional;
  * The default implementation of {@link SelectQuery}
  */
 record DefaultSelectQuery(String entity, List<String> fields, List<Sort> orderBy, long skip,
-                               long limit, Where condition) implements SelectQuery {
+                               long limit, Where condition, QueryHints hints) implements SelectQuery {
 
 
     @Override
@@ -42,6 +42,11 @@ public final class DeleteQueryConverter extends AbstractWhereSupplier implements
         this.entity = ctx.getText();
     }
 
+    @Override
+    String entity() {
+        return entity;
+    }
+
     @Override
     public DeleteQuery apply(String query) {
         runQuery(query);
@@ -68,6 +68,11 @@ public final class InsertQueryConverter extends AbstractSupplier implements Func
     }
 
 
+    @Override
+    String entity() {
+        return entity;
+    }
+
     @Override
     public InsertQuery apply(String query) {
         runQuery(query);
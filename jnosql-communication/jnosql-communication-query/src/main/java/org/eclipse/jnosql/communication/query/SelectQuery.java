@@ -13,6 +13,7 @@
 package org.eclipse.jnosql.communication.query;
 
 import jakarta.data.Sort;
+import org.eclipse.jnosql.communication.QueryHints;
 
 import java.util.List;
 import java.util.Optional;
@@ -64,4 +65,13 @@ public interface SelectQuery extends Query {
      * @return the order list
      */
     List<Sort> orderBy();
+
+    /**
+     * The hints to the driver, defined by the {@code hints(fetch-size = 500, timeout = 2000)} clause at the end of the query.
+     *
+     * @return the hints, otherwise {@link QueryHints#empty()}
+     */
+    default QueryHints hints() {
+        return QueryHints.empty();
+    }
 }
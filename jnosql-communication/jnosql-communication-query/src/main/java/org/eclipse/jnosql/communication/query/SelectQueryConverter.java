@@ -16,9 +16,13 @@ package org.eclipse.jnosql.communication.query;
 import org.antlr.v4.runtime.tree.ParseTree;
 import jakarta.data.Sort;
 import jakarta.data.Direction;
+import org.eclipse.jnosql.communication.QueryException;
+import org.eclipse.jnosql.communication.QueryHints;
 import org.eclipse.jnosql.query.grammar.QueryParser;
 
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -30,6 +34,8 @@ import static java.util.stream.Collectors.toList;
  */
 public final class SelectQueryConverter extends AbstractWhereSupplier implements Function<String, DefaultSelectQuery> {
 
+    private static final Set<ValueType> HINT_TYPES = EnumSet.of(ValueType.NUMBER, ValueType.STRING, ValueType.BOOLEAN);
+
     private String entity;
 
     private List<String> fields = emptyList();
@@ -40,6 +46,7 @@ public final class SelectQueryConverter extends AbstractWhereSupplier implements
 
     private long limit;
 
+    private QueryHints hints = QueryHints.empty();
 
     @Override
     public void exitFields(QueryParser.FieldsContext ctx) {
@@ -66,11 +73,29 @@ public final class SelectQueryConverter extends AbstractWhereSupplier implements
         this.sorts = ctx.orderName().stream().map(this::sort).collect(Collectors.toList());
     }
 
+    @Override
+    public void exitHint(QueryParser.HintContext ctx) {
+        String name = ctx.name().getText();
+        QueryValue<?> value = ValueConverter.get(ctx.value());
+        if (!HINT_TYPES.contains(value.type())) {
+            throw new QueryException("The hint " + name + " should be either a number, a string or a boolean");
+        }
+        try {
+            this.hints = hints.with(name, value.get());
+        } catch (IllegalArgumentException exception) {
+            throw new QueryException(exception.getMessage(), exception);
+        }
+    }
+
+    @Override
+    String entity() {
+        return entity;
+    }
 
     @Override
     public DefaultSelectQuery apply(String query) {
         runQuery(query);
-        return new DefaultSelectQuery(entity, fields, sorts, skip, limit, where);
+        return new DefaultSelectQuery(entity, fields, sorts, skip, limit, where, hints);
     }
 
     @Override
@@ -59,6 +59,11 @@ public final class UpdateQueryConverter extends AbstractSupplier implements Func
     }
 
 
+    @Override
+    String entity() {
+        return entity;
+    }
+
     @Override
     public UpdateQuery apply(String query) {
         runQuery(query);
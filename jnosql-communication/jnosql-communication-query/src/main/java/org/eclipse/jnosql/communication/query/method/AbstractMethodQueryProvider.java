@@ -11,22 +11,13 @@
  */
 package org.eclipse.jnosql.communication.query.method;
 
-import org.antlr.v4.runtime.CharStream;
-import org.antlr.v4.runtime.CharStreams;
-import org.antlr.v4.runtime.CommonTokenStream;
-import org.antlr.v4.runtime.tree.ParseTree;
-import org.antlr.v4.runtime.tree.ParseTreeWalker;
 import org.eclipse.jnosql.communication.Condition;
 import org.eclipse.jnosql.communication.query.ArrayQueryValue;
 import org.eclipse.jnosql.communication.query.BooleanQueryValue;
 import org.eclipse.jnosql.communication.query.ConditionQueryValue;
 import org.eclipse.jnosql.communication.query.ParamQueryValue;
 import org.eclipse.jnosql.communication.query.QueryCondition;
-import org.eclipse.jnosql.communication.query.QueryErrorListener;
 import org.eclipse.jnosql.communication.query.Where;
-import org.eclipse.jnosql.query.grammar.method.MethodBaseListener;
-import org.eclipse.jnosql.query.grammar.method.MethodLexer;
-import org.eclipse.jnosql.query.grammar.method.MethodParser;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -34,23 +25,16 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
-import java.util.function.Function;
 import java.util.stream.Stream;
 
 import static org.eclipse.jnosql.communication.Condition.AND;
 import static org.eclipse.jnosql.communication.Condition.BETWEEN;
 import static org.eclipse.jnosql.communication.Condition.EQUALS;
-import static org.eclipse.jnosql.communication.Condition.GREATER_EQUALS_THAN;
-import static org.eclipse.jnosql.communication.Condition.GREATER_THAN;
-import static org.eclipse.jnosql.communication.Condition.IN;
-import static org.eclipse.jnosql.communication.Condition.LESSER_EQUALS_THAN;
-import static org.eclipse.jnosql.communication.Condition.LESSER_THAN;
-import static org.eclipse.jnosql.communication.Condition.LIKE;
 import static org.eclipse.jnosql.communication.Condition.NOT;
 import static org.eclipse.jnosql.communication.Condition.OR;
 import static java.util.stream.Collectors.joining;
 
-abstract class AbstractMethodQueryProvider extends MethodBaseListener {
+abstract class AbstractMethodQueryProvider {
 
     private static final String SUB_ENTITY_FLAG = "_";
     protected Where where;
@@ -61,113 +45,42 @@ abstract class AbstractMethodQueryProvider extends MethodBaseListener {
 
     protected void runQuery(String query) {
 
-        CharStream stream = CharStreams.fromString(query);
-        MethodLexer lexer = new MethodLexer(stream);
-        CommonTokenStream tokens = new CommonTokenStream(lexer);
-        MethodParser parser = new MethodParser(tokens);
-        lexer.removeErrorListeners();
-        parser.removeErrorListeners();
-        lexer.addErrorListener(QueryErrorListener.INSTANCE);
-        parser.addErrorListener(QueryErrorListener.INSTANCE);
-
-        ParseTree tree = getParserTree().apply(parser);
-        ParseTreeWalker walker = new ParseTreeWalker();
-        walker.walk(this, tree);
+        MethodQueryParser parser = new MethodQueryParser(query, this);
+        parse(parser);
 
         if (Objects.nonNull(condition)) {
             this.where = Where.of(condition);
         }
     }
 
-    abstract Function<MethodParser, ParseTree> getParserTree();
-
-    @Override
-    public void exitEq(MethodParser.EqContext ctx) {
-        Condition operator = EQUALS;
-        boolean hasNot = Objects.nonNull(ctx.not());
-        String variable = getVariable(ctx.variable());
-        appendCondition(hasNot, variable, operator);
-    }
-
-    @Override
-    public void exitTruth(MethodParser.TruthContext ctx) {
-        String variable = getVariable(ctx.variable());
-        checkCondition(new MethodCondition(variable, EQUALS, BooleanQueryValue.TRUE), false);
-    }
-
-    @Override
-    public void exitUntruth(MethodParser.UntruthContext ctx) {
-        String variable = getVariable(ctx.variable());
-        checkCondition(new MethodCondition(variable, EQUALS, BooleanQueryValue.FALSE), false);
-    }
+    abstract void parse(MethodQueryParser parser);
 
-    @Override
-    public void exitGt(MethodParser.GtContext ctx) {
-        boolean hasNot = Objects.nonNull(ctx.not());
-        String variable = getVariable(ctx.variable());
-        Condition operator = GREATER_THAN;
-        appendCondition(hasNot, variable, operator);
+    void condition(String variable, Condition operator, boolean hasNot) {
+        appendCondition(hasNot, getFormatField(variable), operator);
     }
 
-    @Override
-    public void exitGte(MethodParser.GteContext ctx) {
-        boolean hasNot = Objects.nonNull(ctx.not());
-        String variable = getVariable(ctx.variable());
-        Condition operator = GREATER_EQUALS_THAN;
-        appendCondition(hasNot, variable, operator);
+    void truth(String variable, boolean value) {
+        BooleanQueryValue queryValue = value ? BooleanQueryValue.TRUE : BooleanQueryValue.FALSE;
+        checkCondition(new MethodCondition(getFormatField(variable), EQUALS, queryValue), false);
     }
 
-    @Override
-    public void exitLt(MethodParser.LtContext ctx) {
-        boolean hasNot = Objects.nonNull(ctx.not());
-        String variable = getVariable(ctx.variable());
-        Condition operator = LESSER_THAN;
-        appendCondition(hasNot, variable, operator);
+    void between(String variable, boolean hasNot) {
+        String field = getFormatField(variable);
+        ArrayQueryValue value = MethodArrayValue.of(field);
+        checkCondition(new MethodCondition(field, BETWEEN, value), hasNot);
     }
 
-    @Override
-    public void exitLte(MethodParser.LteContext ctx) {
-        boolean hasNot = Objects.nonNull(ctx.not());
-        String variable = getVariable(ctx.variable());
-        Condition operator = LESSER_EQUALS_THAN;
-        appendCondition(hasNot, variable, operator);
-    }
-
-    @Override
-    public void exitLike(MethodParser.LikeContext ctx) {
-        boolean hasNot = Objects.nonNull(ctx.not());
-        String variable = getVariable(ctx.variable());
-        Condition operator = LIKE;
-        appendCondition(hasNot, variable, operator);
-    }
-
-    @Override
-    public void exitIn(MethodParser.InContext ctx) {
-        boolean hasNot = Objects.nonNull(ctx.not());
-        String variable = getVariable(ctx.variable());
-        Condition operator = IN;
-        appendCondition(hasNot, variable, operator);
-    }
-
-    @Override
-    public void exitBetween(MethodParser.BetweenContext ctx) {
-        boolean hasNot = Objects.nonNull(ctx.not());
-        String variable = getVariable(ctx.variable());
-        Condition operator = BETWEEN;
-        ArrayQueryValue value = MethodArrayValue.of(variable);
-        checkCondition(new MethodCondition(variable, operator, value), hasNot);
-    }
-
-    @Override
-    public void exitAnd(MethodParser.AndContext ctx) {
+    void and() {
         this.and = true;
     }
 
-    @Override
-    public void exitOr(MethodParser.OrContext ctx) {
+    void or() {
         this.and = false;
     }
 
+    void orderBy(String variable, boolean desc) {
+    }
+
     private void appendCondition(boolean hasNot, String variable, Condition operator) {
         ParamQueryValue queryValue = new MethodParamQueryValue(variable);
         checkCondition(new MethodCondition(variable, operator, queryValue), hasNot);
@@ -188,10 +101,6 @@ abstract class AbstractMethodQueryProvider extends MethodBaseListener {
 
     }
 
-    private String getVariable(MethodParser.VariableContext ctx) {
-        return getFormatField(ctx.getText());
-    }
-
     protected String getFormatField(String text) {
         if (text.contains(SUB_ENTITY_FLAG)) {
             return Stream.of(text.split(SUB_ENTITY_FLAG)).map(this::formatField).collect(joining("."));
@@ -11,13 +11,10 @@
  */
 package org.eclipse.jnosql.communication.query.method;
 
-import org.antlr.v4.runtime.tree.ParseTree;
 import org.eclipse.jnosql.communication.query.DeleteQuery;
-import org.eclipse.jnosql.query.grammar.method.MethodParser;
 
 import java.util.Objects;
 import java.util.function.BiFunction;
-import java.util.function.Function;
 
 public final class DeleteByMethodQueryProvider extends AbstractMethodQueryProvider implements BiFunction<String, String, DeleteQuery> {
 
@@ -26,12 +23,14 @@ public final class DeleteByMethodQueryProvider extends AbstractMethodQueryProvid
     public DeleteQuery apply(String query, String entity) {
         Objects.requireNonNull(query, " query is required");
         Objects.requireNonNull(entity, " entity is required");
+        MethodQueryParseEvent event = MethodQueryParseEvent.start();
         runQuery(MethodQuery.of(query).get());
+        event.end(query, entity);
         return DeleteQuery.of(entity, where);
     }
 
     @Override
-    Function<MethodParser, ParseTree> getParserTree() {
-        return MethodParser::deleteBy;
+    void parse(MethodQueryParser parser) {
+        parser.deleteBy();
     }
 }
@@ -15,7 +15,9 @@ package org.eclipse.jnosql.communication.query.method;
 import org.eclipse.jnosql.communication.query.DeleteQuery;
 
 import java.lang.reflect.Method;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 
 /**
@@ -28,11 +30,28 @@ import java.util.function.BiFunction;
 public enum DeleteMethodProvider implements BiFunction<Method, String, DeleteQuery> {
     INSTANCE;
 
+    /**
+     * The delete queries already parsed by method name and entity, the queries are immutable, so every call of the same
+     * repository method shares one instance; as {@link MethodQuery}, it never holds a class and stops growing at
+     * {@link MethodQuery#CACHE_SIZE}.
+     */
+    private static final Map<Key, DeleteQuery> CACHE = new ConcurrentHashMap<>();
+
     @Override
     public DeleteQuery apply(Method method, String entity) {
         Objects.requireNonNull(method, "method is required");
         Objects.requireNonNull(entity, "entity is required");
-        DeleteByMethodQueryProvider supplier = new DeleteByMethodQueryProvider();
-        return supplier.apply(method.getName(), entity);
+        Key key = new Key(method.getName(), entity);
+        DeleteQuery query = CACHE.get(key);
+        if (query == null) {
+            query = new DeleteByMethodQueryProvider().apply(method.getName(), entity);
+            if (CACHE.size() < MethodQuery.CACHE_SIZE) {
+                CACHE.putIfAbsent(key, query);
+            }
+        }
+        return query;
+    }
+
+    private record Key(String method, String entity) {
     }
 }
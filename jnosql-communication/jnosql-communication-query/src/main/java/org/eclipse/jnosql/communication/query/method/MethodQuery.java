@@ -11,10 +11,9 @@
  */
 package org.eclipse.jnosql.communication.query.method;
 
-import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
-import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 import java.util.regex.Pattern;
 
@@ -25,7 +24,12 @@ public final class MethodQuery implements Supplier<String> {
             + "OrderBy|"
             + "And|Or(?!der)|Not|Equals|GreaterThanEqual|True|False|" +
             "LessThanEqual|GreaterThan|LessThan|Between|In|Like|Asc|Desc");
-    private static final Map<String, String> CACHE = Collections.synchronizedMap(new WeakHashMap<>());
+    /**
+     * The method names tokenized, the keys and values are strings only, so it never holds a class loader; it reads without
+     * locks and stops growing at {@link MethodQuery#CACHE_SIZE}, after that the new method names are tokenized at each call.
+     */
+    private static final Map<String, String> CACHE = new ConcurrentHashMap<>();
+    static final int CACHE_SIZE = 10_000;
     private MethodQuery(String value) {
         this.value = value;
     }
@@ -62,7 +66,9 @@ public final class MethodQuery implements Supplier<String> {
         String value = CACHE.get(query);
         if (Objects.isNull(value)) {
             value = PATTERN.matcher(query).replaceAll(" $0 ").trim();
-            CACHE.put(query, value);
+            if (CACHE.size() < CACHE_SIZE) {
+                CACHE.putIfAbsent(query, value);
+            }
         }
         return new MethodQuery(value);
     }
@@ -0,0 +1,52 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.query.method;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The JDK Flight Recorder event of a repository method name parse, e.g. {@code findByNameAndAgeGreaterThan}.
+ */
+@Name("org.eclipse.jnosql.MethodQueryParse")
+@Label("Method Query Parse")
+@Category({"JNoSQL", "Query"})
+@Description("Parses the name of a repository method into a query")
+final class MethodQueryParseEvent extends Event {
+
+    @Label("Method")
+    private String method;
+
+    @Label("Entity")
+    private String entity;
+
+    static MethodQueryParseEvent start() {
+        MethodQueryParseEvent event = new MethodQueryParseEvent();
+        event.begin();
+        return event;
+    }
+
+    void end(String method, String entity) {
+        end();
+        if (shouldCommit()) {
+            this.method = method;
+            this.entity = entity;
+            commit();
+        }
+    }
+}
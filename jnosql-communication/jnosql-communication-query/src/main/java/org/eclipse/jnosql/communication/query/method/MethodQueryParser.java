@@ -0,0 +1,219 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.query.method;
+
+import org.eclipse.jnosql.communication.Condition;
+import org.eclipse.jnosql.communication.QueryException;
+
+/**
+ * A recursive-descent parser of the repository method names, it follows the grammar at Method.g4:
+ * <pre>
+ * select: ('findBy' | 'countBy' | 'existsBy') where? order? EOF;
+ * deleteBy: 'deleteBy' where? EOF;
+ * where: condition (('And' | 'Or') condition)*;
+ * condition: variable ('True' | 'False' | 'Not'? ('Equals' | 'GreaterThan' | 'GreaterThanEqual' | 'LessThan'
+ *            | 'LessThanEqual' | 'Between' | 'In' | 'Like')?);
+ * order: 'OrderBy' (variable ('Asc' | 'Desc')?)+;
+ * </pre>
+ * It reads the tokens of a {@link MethodQuery}, the keywords already split by whitespace, and notifies the
+ * {@link AbstractMethodQueryProvider} in the same order the ANTLR listener used to, without a token stream
+ * or a parse tree.
+ */
+final class MethodQueryParser {
+
+    private enum Keyword {
+        FIND_BY("findBy"), COUNT_BY("countBy"), EXISTS_BY("existsBy"), DELETE_BY("deleteBy"), ORDER_BY("OrderBy"),
+        AND("And"), OR("Or"), ASC("Asc"), DESC("Desc"), TRUE("True"), FALSE("False"), NOT("Not"),
+        EQUALS("Equals"), GREATER_THAN("GreaterThan"), GREATER_THAN_EQUAL("GreaterThanEqual"),
+        LESS_THAN("LessThan"), LESS_THAN_EQUAL("LessThanEqual"), BETWEEN("Between"), IN("In"), LIKE("Like");
+
+        private static final Keyword[] VALUES = values();
+
+        private final String text;
+
+        Keyword(String text) {
+            this.text = text;
+        }
+    }
+
+    private final String query;
+
+    private final AbstractMethodQueryProvider provider;
+
+    private int start;
+
+    private int end;
+
+    private Keyword keyword;
+
+    MethodQueryParser(String query, AbstractMethodQueryProvider provider) {
+        this.query = query;
+        this.provider = provider;
+        next();
+    }
+
+    void select() {
+        if (keyword != Keyword.FIND_BY && keyword != Keyword.COUNT_BY && keyword != Keyword.EXISTS_BY) {
+            throw error("{'findBy', 'countBy', 'existsBy'}");
+        }
+        next();
+        where();
+        order();
+        eof();
+    }
+
+    void deleteBy() {
+        if (keyword != Keyword.DELETE_BY) {
+            throw error("'deleteBy'");
+        }
+        next();
+        where();
+        eof();
+    }
+
+    private void where() {
+        if (isEof() || keyword == Keyword.ORDER_BY) {
+            return;
+        }
+        condition();
+        while (keyword == Keyword.AND || keyword == Keyword.OR) {
+            if (keyword == Keyword.AND) {
+                provider.and();
+            } else {
+                provider.or();
+            }
+            next();
+            condition();
+        }
+    }
+
+    private void condition() {
+        String variable = variable();
+        if (keyword == Keyword.TRUE || keyword == Keyword.FALSE) {
+            boolean value = keyword == Keyword.TRUE;
+            next();
+            provider.truth(variable, value);
+            return;
+        }
+        boolean hasNot = keyword == Keyword.NOT;
+        if (hasNot) {
+            next();
+        }
+        Condition operator = operator();
+        if (operator == null) {
+            provider.condition(variable, Condition.EQUALS, hasNot);
+            return;
+        }
+        next();
+        if (operator == Condition.BETWEEN) {
+            provider.between(variable, hasNot);
+        } else {
+            provider.condition(variable, operator, hasNot);
+        }
+    }
+
+    private Condition operator() {
+        if (keyword == null) {
+            return null;
+        }
+        return switch (keyword) {
+            case EQUALS -> Condition.EQUALS;
+            case GREATER_THAN -> Condition.GREATER_THAN;
+            case GREATER_THAN_EQUAL -> Condition.GREATER_EQUALS_THAN;
+            case LESS_THAN -> Condition.LESSER_THAN;
+            case LESS_THAN_EQUAL -> Condition.LESSER_EQUALS_THAN;
+            case BETWEEN -> Condition.BETWEEN;
+            case IN -> Condition.IN;
+            case LIKE -> Condition.LIKE;
+            default -> null;
+        };
+    }
+
+    private void order() {
+        if (keyword != Keyword.ORDER_BY) {
+            return;
+        }
+        next();
+        do {
+            String variable = variable();
+            boolean desc = keyword == Keyword.DESC;
+            if (desc || keyword == Keyword.ASC) {
+                next();
+            }
+            provider.orderBy(variable, desc);
+        } while (!isEof());
+    }
+
+    private void eof() {
+        if (!isEof()) {
+            throw error("<EOF>");
+        }
+    }
+
+    private String variable() {
+        if (isEof() || keyword != null) {
+            throw error("ANY_NAME");
+        }
+        for (int index = start; index < end; index++) {
+            if (!isNameCharacter(query.charAt(index), index == start)) {
+                throw new QueryException("line 1:" + index + " token recognition error at: '"
+                        + query.substring(index, end) + "'");
+            }
+        }
+        String variable = query.substring(start, end);
+        next();
+        return variable;
+    }
+
+    private boolean isEof() {
+        return start == query.length();
+    }
+
+    private void next() {
+        int index = end;
+        while (index < query.length() && Character.isWhitespace(query.charAt(index))) {
+            index++;
+        }
+        this.start = index;
+        while (index < query.length() && !Character.isWhitespace(query.charAt(index))) {
+            index++;
+        }
+        this.end = index;
+        this.keyword = keyword(start, end - start);
+    }
+
+    private Keyword keyword(int offset, int length) {
+        for (Keyword value : Keyword.VALUES) {
+            if (value.text.length() == length && query.startsWith(value.text, offset)) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    private QueryException error(String expecting) {
+        String token = isEof() ? "<EOF>" : query.substring(start, end);
+        return new QueryException("line 1:" + start + " mismatched input '" + token + "' expecting " + expecting);
+    }
+
+    private static boolean isNameCharacter(char character, boolean first) {
+        boolean letter = (character >= 'a' && character <= 'z') || (character >= 'A' && character <= 'Z')
+                || character == '_' || character == '.';
+        if (first) {
+            return letter;
+        }
+        return letter || (character >= '0' && character <= '9') || character == '-';
+    }
+}
@@ -15,19 +15,38 @@ package org.eclipse.jnosql.communication.query.method;
 import org.eclipse.jnosql.communication.query.SelectQuery;
 
 import java.lang.reflect.Method;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 
 public enum SelectMethodProvider implements BiFunction<Method, String, SelectQuery> {
 
     INSTANCE;
 
+    /**
+     * The select queries already parsed by method name and entity, the queries are immutable, so every call of the same
+     * repository method shares one instance; as {@link MethodQuery}, it never holds a class and stops growing at
+     * {@link MethodQuery#CACHE_SIZE}.
+     */
+    private static final Map<Key, SelectQuery> CACHE = new ConcurrentHashMap<>();
+
 
     @Override
     public SelectQuery apply(Method method, String entity) {
         Objects.requireNonNull(method, "method is required");
         Objects.requireNonNull(entity, "entity is required");
-        SelectMethodQueryProvider supplier = new SelectMethodQueryProvider();
-        return supplier.apply(method.getName(), entity);
+        Key key = new Key(method.getName(), entity);
+        SelectQuery query = CACHE.get(key);
+        if (query == null) {
+            query = new SelectMethodQueryProvider().apply(method.getName(), entity);
+            if (CACHE.size() < MethodQuery.CACHE_SIZE) {
+                CACHE.putIfAbsent(key, query);
+            }
+        }
+        return query;
+    }
+
+    private record Key(String method, String entity) {
     }
 }
@@ -11,17 +11,14 @@
  */
 package org.eclipse.jnosql.communication.query.method;
 
-import org.antlr.v4.runtime.tree.ParseTree;
 import jakarta.data.Sort;
 import jakarta.data.Direction;
 import org.eclipse.jnosql.communication.query.SelectQuery;
-import org.eclipse.jnosql.query.grammar.method.MethodParser;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.BiFunction;
-import java.util.function.Function;
 
 public final class SelectMethodQueryProvider extends AbstractMethodQueryProvider implements BiFunction<String, String, SelectQuery> {
 
@@ -31,23 +28,19 @@ public final class SelectMethodQueryProvider extends AbstractMethodQueryProvider
     public SelectQuery apply(String query, String entity) {
         Objects.requireNonNull(query, " query is required");
         Objects.requireNonNull(entity, " entity is required");
+        MethodQueryParseEvent event = MethodQueryParseEvent.start();
         runQuery(MethodQuery.of(query).get());
+        event.end(query, entity);
         return new MethodSelectQuery(entity, sorts, where);
     }
 
     @Override
-    public void exitOrderName(MethodParser.OrderNameContext ctx) {
-        sorts.add(this.sort(ctx));
+    void parse(MethodQueryParser parser) {
+        parser.select();
     }
 
     @Override
-    Function<MethodParser, ParseTree> getParserTree() {
-        return MethodParser::select;
-    }
-
-    private Sort sort(MethodParser.OrderNameContext context) {
-        String text = context.variable().getText();
-        Direction type = context.desc() == null ? Direction.ASC : Direction.DESC;
-        return Sort.of(getFormatField(text), type, false);
+    void orderBy(String variable, boolean desc) {
+        sorts.add(Sort.of(getFormatField(variable), desc ? Direction.DESC : Direction.ASC, false));
     }
 }
@@ -0,0 +1,118 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.query;
+
+import org.eclipse.jnosql.communication.Condition;
+import org.eclipse.jnosql.communication.QueryException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AggregateQueryConverterTest {
+
+    private final AggregateQueryConverter converter = new AggregateQueryConverter();
+
+    @Test
+    void shouldReturnErrorWhenStringIsNull() {
+        assertThatThrownBy(() -> converter.apply(null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void shouldParseCount() {
+        AggregateQuery query = converter.apply("select count(*) from God");
+        assertThat(query.entity()).isEqualTo("God");
+        assertThat(query.aggregations()).containsExactly(Aggregation.count());
+        assertThat(query.groupBy()).isEmpty();
+        assertThat(query.where()).isEmpty();
+    }
+
+    @Test
+    void shouldParseFunctions() {
+        AggregateQuery query = converter.apply("select count(name), sum(salary), min(age), max(age), avg(salary) from Person");
+        assertThat(query.aggregations()).containsExactly(Aggregation.of(AggregateFunction.COUNT, "name"),
+                Aggregation.of(AggregateFunction.SUM, "salary"),
+                Aggregation.of(AggregateFunction.MIN, "age"),
+                Aggregation.of(AggregateFunction.MAX, "age"),
+                Aggregation.of(AggregateFunction.AVG, "salary"));
+    }
+
+    @Test
+    void shouldParseGroupByAndWhere() {
+        AggregateQuery query = converter.apply("select city, country, count(*) from Person where age > 10 and active = true " +
+                "group by city, country");
+        assertThat(query.aggregations()).containsExactly(Aggregation.count());
+        assertThat(query.groupBy()).containsExactly("city", "country");
+        assertThat(query.where()).isPresent();
+        QueryCondition condition = query.where().orElseThrow().condition();
+        assertThat(condition.condition()).isEqualTo(Condition.AND);
+    }
+
+    @Test
+    void shouldParseWithParameter() {
+        AggregateQuery query = converter.apply("select sum(salary) from Person where age > @age group by city");
+        QueryCondition condition = query.where().orElseThrow().condition();
+        assertThat(condition.name()).isEqualTo("age");
+        assertThat(condition.value().type()).isEqualTo(ValueType.PARAMETER);
+    }
+
+    @Test
+    void shouldReturnErrorWhenFieldIsNotGrouped() {
+        assertThatThrownBy(() -> converter.apply("select name, count(*) from Person group by city"))
+                .isInstanceOf(QueryException.class);
+    }
+
+    @ParameterizedTest(name = "Should return an error to the query {0}")
+    @ValueSource(strings = {"select name from Person", "select * from Person", "select count(*) from Person order by name",
+            "select sum(*) from Person", "select count(*) from Person group by", "select count(*) Person"})
+    void shouldReturnErrorWhenQueryIsInvalid(String query) {
+        assertThatThrownBy(() -> converter.apply(query)).isInstanceOf(QueryException.class);
+    }
+
+    @Test
+    void shouldParseFunctionWithSpaceBeforeParenthesis() {
+        AggregateQuery query = converter.apply("select count (*), sum ( salary ) from Person");
+        assertThat(query.aggregations()).containsExactly(Aggregation.count(), Aggregation.of(AggregateFunction.SUM, "salary"));
+    }
+
+    @Test
+    void shouldParseGroupAsFieldName() {
+        AggregateQuery query = converter.apply("select group, count(*) from Person where group = 'admin' group by group");
+        assertThat(query.groupBy()).containsExactly("group");
+        assertThat(query.where()).isPresent();
+    }
+
+    @Test
+    void shouldParseWithTheSameInstance() {
+        converter.apply("select city, count(*) from Person group by city");
+        AggregateQuery query = converter.apply("select max(age) from Person");
+        assertThat(query.aggregations()).containsExactly(Aggregation.of(AggregateFunction.MAX, "age"));
+        assertThat(query.groupBy()).isEmpty();
+    }
+
+    @Test
+    void shouldParseFromQuery() {
+        AggregateQuery query = AggregateQuery.parse("select avg(age) from Person");
+        assertThat(query.aggregations()).containsExactly(Aggregation.of(AggregateFunction.AVG, "age"));
+    }
+
+    @Test
+    void shouldReturnLabel() {
+        assertThat(Aggregation.count().label()).isEqualTo("count(*)");
+        assertThat(Aggregation.of(AggregateFunction.SUM, "salary").label()).isEqualTo("sum(salary)");
+    }
+}
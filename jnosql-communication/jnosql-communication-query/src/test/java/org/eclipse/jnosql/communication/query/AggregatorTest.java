@@ -0,0 +1,162 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.query;
+
+import org.eclipse.jnosql.communication.QueryException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AggregatorTest {
+
+    private static final Aggregation SUM = Aggregation.of(AggregateFunction.SUM, "salary");
+    private static final Aggregation AVG = Aggregation.of(AggregateFunction.AVG, "salary");
+    private static final Aggregation MIN = Aggregation.of(AggregateFunction.MIN, "age");
+    private static final Aggregation MAX = Aggregation.of(AggregateFunction.MAX, "age");
+    private static final Aggregation COUNT_AGE = Aggregation.of(AggregateFunction.COUNT, "age");
+
+    @Test
+    void shouldReturnErrorWhenParameterIsNull() {
+        assertThatThrownBy(() -> Aggregator.of(null, List.of())).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> Aggregator.of(List.of(), null)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> Aggregator.of(List.of(), List.of()).accept(null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void shouldReturnFields() {
+        Aggregator aggregator = Aggregator.of(List.of("city"), List.of(Aggregation.count(), SUM, MIN, MAX));
+        assertThat(aggregator.fields()).containsExactly("city", "salary", "age");
+    }
+
+    @Test
+    void shouldReturnASingleRowWithoutRows() {
+        Aggregator aggregator = Aggregator.of(List.of(), List.of(Aggregation.count(), SUM, AVG, MIN));
+        List<Map<String, Object>> result = aggregator.result();
+        assertThat(result).hasSize(1);
+        Map<String, Object> row = result.get(0);
+        assertThat(row).containsEntry("count(*)", 0L)
+                .containsEntry("sum(salary)", null)
+                .containsEntry("avg(salary)", null)
+                .containsEntry("min(age)", null);
+    }
+
+    @Test
+    void shouldReturnNoRowWhenGroupedWithoutRows() {
+        Aggregator aggregator = Aggregator.of(List.of("city"), List.of(Aggregation.count()));
+        assertThat(aggregator.result()).isEmpty();
+    }
+
+    @Test
+    void shouldAggregate() {
+        Aggregator aggregator = Aggregator.of(List.of(), List.of(Aggregation.count(), COUNT_AGE, SUM, AVG, MIN, MAX));
+        aggregator.accept(row("salary", 10, "age", 20));
+        aggregator.accept(row("salary", 20L, "age", 40));
+        aggregator.accept(row("salary", null, "age", null));
+
+        Map<String, Object> row = aggregator.result().get(0);
+        assertThat(row).containsEntry("count(*)", 3L)
+                .containsEntry("count(age)", 2L)
+                .containsEntry("sum(salary)", 30L)
+                .containsEntry("avg(salary)", 15D)
+                .containsEntry("min(age)", 20)
+                .containsEntry("max(age)", 40);
+    }
+
+    @Test
+    void shouldSumDecimals() {
+        Aggregator aggregator = Aggregator.of(List.of(), List.of(SUM));
+        aggregator.accept(row("salary", 10));
+        aggregator.accept(row("salary", 2.5D));
+        aggregator.accept(row("salary", 1.5D));
+        assertThat(aggregator.result().get(0)).containsEntry("sum(salary)", 14D);
+    }
+
+    @Test
+    void shouldKeepBigDecimalPrecision() {
+        Aggregator aggregator = Aggregator.of(List.of(), List.of(SUM, AVG));
+        aggregator.accept(row("salary", new BigDecimal("0.1")));
+        aggregator.accept(row("salary", new BigDecimal("0.2")));
+        aggregator.accept(row("salary", 10));
+        Map<String, Object> row = aggregator.result().get(0);
+        assertThat(row.get("sum(salary)")).isEqualTo(new BigDecimal("10.3"));
+        assertThat(row.get("avg(salary)")).isInstanceOf(BigDecimal.class);
+        assertThat((BigDecimal) row.get("avg(salary)")).isEqualByComparingTo(new BigDecimal("10.3")
+                .divide(BigDecimal.valueOf(3), MathContext.DECIMAL128));
+    }
+
+    @Test
+    void shouldSumBigIntegerBeyondLong() {
+        Aggregator aggregator = Aggregator.of(List.of(), List.of(SUM));
+        BigInteger big = BigInteger.valueOf(Long.MAX_VALUE).add(BigInteger.TEN);
+        aggregator.accept(row("salary", big));
+        aggregator.accept(row("salary", 1));
+        assertThat(aggregator.result().get(0)).containsEntry("sum(salary)", big.add(BigInteger.ONE));
+    }
+
+    @Test
+    void shouldCompareDifferentNumbers() {
+        Aggregator aggregator = Aggregator.of(List.of(), List.of(MIN, MAX));
+        aggregator.accept(row("age", 10));
+        aggregator.accept(row("age", 2.5D));
+        aggregator.accept(row("age", 30L));
+        assertThat(aggregator.result().get(0)).containsEntry("min(age)", 2.5D).containsEntry("max(age)", 30L);
+    }
+
+    @Test
+    void shouldGroup() {
+        Aggregator aggregator = Aggregator.of(List.of("city"), List.of(Aggregation.count(), SUM));
+        aggregator.accept(row("city", "Salvador", "salary", 10));
+        aggregator.accept(row("city", "Lisbon", "salary", 5));
+        aggregator.accept(row("city", "Salvador", "salary", 20));
+        aggregator.accept(row("city", null, "salary", 1));
+
+        List<Map<String, Object>> result = aggregator.result();
+        assertThat(result).hasSize(3);
+        assertThat(result.get(0)).containsEntry("city", "Salvador").containsEntry("count(*)", 2L)
+                .containsEntry("sum(salary)", 30L);
+        assertThat(result.get(1)).containsEntry("city", "Lisbon").containsEntry("count(*)", 1L);
+        assertThat(result.get(2)).containsEntry("city", null).containsEntry("sum(salary)", 1L);
+    }
+
+    @Test
+    void shouldReturnErrorWhenValueIsNotNumeric() {
+        Aggregator aggregator = Aggregator.of(List.of(), List.of(SUM));
+        assertThatThrownBy(() -> aggregator.accept(row("salary", "ten"))).isInstanceOf(QueryException.class);
+    }
+
+    @Test
+    void shouldReturnErrorWhenValuesAreNotComparable() {
+        Aggregator aggregator = Aggregator.of(List.of(), List.of(MAX));
+        aggregator.accept(row("age", 10));
+        assertThatThrownBy(() -> aggregator.accept(row("age", "ten"))).isInstanceOf(QueryException.class);
+    }
+
+    private static Function<String, Object> row(Object... values) {
+        Map<String, Object> row = new HashMap<>();
+        for (int index = 0; index < values.length; index += 2) {
+            row.put((String) values[index], values[index + 1]);
+        }
+        return row::get;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.query;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueryParseEventTest {
+
+    private static final String EVENT = "org.eclipse.jnosql.QueryParse";
+
+    @Test
+    void shouldRecordParse() throws IOException {
+        List<RecordedEvent> events = record(() -> new SelectQueryConverter().apply("select * from God where age > 10"));
+        assertThat(events).hasSize(1);
+        RecordedEvent event = events.get(0);
+        assertThat(event.getString("query")).isEqualTo("select * from God where age > 10");
+        assertThat(event.getString("entity")).isEqualTo("God");
+    }
+
+    @Test
+    void shouldRecordParseWithoutEntity() throws IOException {
+        List<RecordedEvent> events = record(() -> new DelQueryConverter().apply("del \"Diana\""));
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getString("query")).isEqualTo("del \"Diana\"");
+        assertThat(events.get(0).getString("entity")).isNull();
+    }
+
+    private static List<RecordedEvent> record(Runnable runnable) throws IOException {
+        Path file = Files.createTempFile("jnosql", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(EVENT);
+            recording.start();
+            runnable.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file).stream()
+                    .filter(e -> EVENT.equals(e.getEventType().getName())).toList();
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
@@ -13,6 +13,8 @@
 package org.eclipse.jnosql.communication.query;
 
 import org.eclipse.jnosql.communication.Condition;
+import org.eclipse.jnosql.communication.QueryException;
+import org.eclipse.jnosql.communication.QueryHints;
 import jakarta.data.Sort;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -20,6 +22,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import jakarta.json.JsonObject;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.stream.Stream;
@@ -157,6 +160,19 @@ class SelectQueryConverterTest {
         assertEquals(10L, value.get());
     }
 
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"select group from God where group = 'admin'"})
+    void shouldParseGroupAsFieldName(String query) {
+        DefaultSelectQuery selectQuery = selectQueryConverter.apply(query);
+        assertThat(selectQuery.fields()).containsExactly("group");
+        assertTrue(selectQuery.where().isPresent());
+
+        QueryCondition condition = selectQuery.where().get().condition();
+        Assertions.assertEquals(Condition.EQUALS, condition.condition());
+        assertEquals("group", condition.name());
+        assertEquals("admin", condition.value().get());
+    }
+
     @ParameterizedTest(name = "Should parser the query {0}")
     @ValueSource(strings = {"select  * from God where stamina > 10.23"})
     void shouldReturnParserQuery10(String query) {
@@ -704,6 +720,37 @@ class SelectQueryConverterTest {
         assertThat(result).isTrue();
     }
 
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"select * from God where age > 10 limit 20 hints(fetch-size = 500, timeout = 'PT2S', consistency-level = \"quorum\")"})
+    void shouldReturnParserQueryWithHints(String query) {
+        DefaultSelectQuery selectQuery = selectQueryConverter.apply(query);
+
+        assertEquals("God", selectQuery.entity());
+        assertEquals(20, selectQuery.limit());
+        assertTrue(selectQuery.where().isPresent());
+        QueryHints hints = selectQuery.hints();
+        assertEquals(500, hints.fetchSize());
+        assertThat(hints.timeout()).contains(Duration.ofSeconds(2));
+        assertThat(hints.consistencyLevel()).contains("quorum");
+    }
+
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"select hints from God where hints = 'none'"})
+    void shouldReturnParserQueryWithHintsField(String query) {
+        DefaultSelectQuery selectQuery = selectQueryConverter.apply(query);
+
+        assertThat(selectQuery.fields()).containsExactly("hints");
+        assertEquals("hints", selectQuery.where().orElseThrow().condition().name());
+        assertTrue(selectQuery.hints().isEmpty());
+    }
+
+    @ParameterizedTest(name = "Should return an error when the hint is invalid {0}")
+    @ValueSource(strings = {"select * from God hints(fetch-size = @size)", "select * from God hints(fetch-size = -1)",
+            "select * from God hints(timeout = 'soon')"})
+    void shouldReturnErrorWhenHintIsInvalid(String query) {
+        Assertions.assertThrows(QueryException.class, () -> selectQueryConverter.apply(query));
+    }
+
 
     private DefaultSelectQuery checkSelectFromStart(String query) {
         DefaultSelectQuery selectQuery = selectQueryConverter.apply(query);
@@ -27,6 +27,16 @@ class DeleteMethodProviderTest {
         Assertions.assertEquals("Person", query.entity());
     }
 
+    @Test
+    void shouldParseTheSameMethodOnce() {
+        Method method = PersonRepository.class.getDeclaredMethods()[0];
+        DeleteQuery query = DeleteMethodProvider.INSTANCE.apply(method, "Person");
+        Assertions.assertSame(query, DeleteMethodProvider.INSTANCE.apply(method, "Person"));
+        DeleteQuery other = DeleteMethodProvider.INSTANCE.apply(method, "Employee");
+        Assertions.assertNotSame(query, other);
+        Assertions.assertEquals("Employee", other.entity());
+    }
+
     interface PersonRepository{
         void deleteByAge(Integer age);
     }
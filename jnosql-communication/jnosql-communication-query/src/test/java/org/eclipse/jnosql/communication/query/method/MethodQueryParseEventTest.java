@@ -0,0 +1,63 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.query.method;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MethodQueryParseEventTest {
+
+    private static final String EVENT = "org.eclipse.jnosql.MethodQueryParse";
+
+    @Test
+    void shouldRecordSelectMethod() throws IOException {
+        List<RecordedEvent> events = record(() -> new SelectMethodQueryProvider().apply("findByNameAndAge", "Person"));
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getString("method")).isEqualTo("findByNameAndAge");
+        assertThat(events.get(0).getString("entity")).isEqualTo("Person");
+    }
+
+    @Test
+    void shouldRecordDeleteMethod() throws IOException {
+        List<RecordedEvent> events = record(() -> new DeleteByMethodQueryProvider().apply("deleteByName", "Person"));
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getString("method")).isEqualTo("deleteByName");
+        assertThat(events.get(0).getString("entity")).isEqualTo("Person");
+    }
+
+    private static List<RecordedEvent> record(Runnable runnable) throws IOException {
+        Path file = Files.createTempFile("jnosql", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(EVENT);
+            recording.start();
+            runnable.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file).stream()
+                    .filter(e -> EVENT.equals(e.getEventType().getName())).toList();
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.query.method;
+
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.LexerInterpreter;
+import org.antlr.v4.runtime.ParserInterpreter;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.tree.ErrorNode;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.ParseTreeListener;
+import org.antlr.v4.runtime.tree.ParseTreeWalker;
+import org.antlr.v4.runtime.tree.TerminalNode;
+import org.antlr.v4.tool.Grammar;
+import org.eclipse.jnosql.communication.Condition;
+import org.eclipse.jnosql.communication.QueryException;
+import org.eclipse.jnosql.communication.query.QueryErrorListener;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Checks the hand-written parser against the ANTLR grammar at Method.g4, both must notify the same sequence of
+ * conditions, connectors and sorts, and reject the same method names. The grammar is not generated into the main
+ * sources, the test runs it through the ANTLR tool interpreter.
+ */
+class MethodQueryParserTest {
+
+    private static final Grammar GRAMMAR = Grammar.load("../../antlr4/org/eclipse/jnosql/query/grammar/method/Method.g4");
+
+    @ParameterizedTest(name = "Should parse {0} as the grammar")
+    @ValueSource(strings = {"findBy", "countBy", "existsBy", "findByName", "findByNameEquals", "findByNameNot",
+            "findByNameNotEquals", "countByAgeGreaterThan", "existsByAgeNotGreaterThanEqual", "findByAgeLessThan",
+            "findByAgeNotLessThanEqual", "findByAgeBetween", "findByAgeNotBetween", "findByNameIn", "findByNameNotIn",
+            "findByNameLike", "findByNameNotLike", "findByActiveTrue", "findByActiveFalse", "findByNameAndAge",
+            "findByNameOrAgeGreaterThan", "findByNameAndAgeOrActiveTrueAndSalaryBetween",
+            "findByOrderByName", "findByOrderByNameAsc", "findByOrderByNameDescAgeAsc", "findByOrderByNameDescAge",
+            "findByNameAndAgeGreaterThanOrderByNameDesc", "findBySalary_CurrencyAndCredential_Role",
+            "countBySalary_CurrencyOrderBySalary_Value", "findByOrder", "findByOrderOrderByOrder",
+            "findByNameNotTrue", "findByNameAndOrderByName", "findByOrderBy", "findByAnd", "findByNameAsc",
+            "findByInfo", "findByNameDesc", "findByName1", "findByName$", "findBy1Name", "countByNameTrueFalse",
+            "findByNameNotNot", "deleteByName", "Name", ""})
+    void shouldParseSelectAsGrammar(String method) {
+        assertSameAsGrammar(method, MethodQueryParser::select, "select");
+    }
+
+    @ParameterizedTest(name = "Should parse {0} as the grammar")
+    @ValueSource(strings = {"deleteBy", "deleteByName", "deleteByNameNotEquals", "deleteByAgeBetweenAndNameIn",
+            "deleteByActiveTrueOrNameLike", "deleteBySalary_Currency", "deleteByOrderByName", "deleteByNameOrderByName",
+            "findByName", "deleteByAnd", "deleteByNameAndActiveFalse"})
+    void shouldParseDeleteAsGrammar(String method) {
+        assertSameAsGrammar(method, MethodQueryParser::deleteBy, "deleteBy");
+    }
+
+    private void assertSameAsGrammar(String method, Consumer<MethodQueryParser> rule, String grammarRule) {
+        String query = MethodQuery.of(method).get();
+        List<String> expected = new ArrayList<>();
+        QueryException expectedError = null;
+        try {
+            grammar(query, grammarRule, expected);
+        } catch (QueryException exception) {
+            expectedError = exception;
+        }
+
+        Recorder recorder = new Recorder();
+        if (expectedError == null) {
+            rule.accept(new MethodQueryParser(query, recorder));
+            assertThat(recorder.events).isEqualTo(expected);
+        } else {
+            assertThatThrownBy(() -> rule.accept(new MethodQueryParser(query, recorder)))
+                    .isInstanceOf(QueryException.class);
+        }
+    }
+
+    private static void grammar(String query, String rule, List<String> events) {
+        LexerInterpreter lexer = GRAMMAR.createLexerInterpreter(CharStreams.fromString(query));
+        ParserInterpreter parser = GRAMMAR.createParserInterpreter(new CommonTokenStream(lexer));
+        lexer.removeErrorListeners();
+        parser.removeErrorListeners();
+        lexer.addErrorListener(QueryErrorListener.INSTANCE);
+        parser.addErrorListener(QueryErrorListener.INSTANCE);
+        ParseTree tree = parser.parse(GRAMMAR.getRule(rule).index);
+        new ParseTreeWalker().walk(new GrammarRecorder(events), tree);
+    }
+
+    private static final class Recorder extends AbstractMethodQueryProvider {
+
+        private final List<String> events = new ArrayList<>();
+
+        @Override
+        void parse(MethodQueryParser parser) {
+        }
+
+        @Override
+        void condition(String variable, Condition operator, boolean hasNot) {
+            events.add(event(variable, operator.name(), hasNot));
+        }
+
+        @Override
+        void truth(String variable, boolean value) {
+            events.add(event(variable, String.valueOf(value), false));
+        }
+
+        @Override
+        void between(String variable, boolean hasNot) {
+            events.add(event(variable, Condition.BETWEEN.name(), hasNot));
+        }
+
+        @Override
+        void and() {
+            events.add("and");
+        }
+
+        @Override
+        void or() {
+            events.add("or");
+        }
+
+        @Override
+        void orderBy(String variable, boolean desc) {
+            events.add("sort " + variable + (desc ? " desc" : " asc"));
+        }
+    }
+
+    private static final class GrammarRecorder implements ParseTreeListener {
+
+        private static final Map<String, String> CONDITIONS = Map.of("eq", Condition.EQUALS.name(),
+                "gt", Condition.GREATER_THAN.name(), "gte", Condition.GREATER_EQUALS_THAN.name(),
+                "lt", Condition.LESSER_THAN.name(), "lte", Condition.LESSER_EQUALS_THAN.name(),
+                "between", Condition.BETWEEN.name(), "in", Condition.IN.name(), "like", Condition.LIKE.name());
+
+        private final List<String> events;
+
+        private GrammarRecorder(List<String> events) {
+            this.events = events;
+        }
+
+        @Override
+        public void exitEveryRule(ParserRuleContext ctx) {
+            String rule = GRAMMAR.getRuleNames()[ctx.getRuleIndex()];
+            if (CONDITIONS.containsKey(rule)) {
+                events.add(event(child(ctx, "variable").getText(), CONDITIONS.get(rule), child(ctx, "not") != null));
+            } else if ("truth".equals(rule) || "untruth".equals(rule)) {
+                events.add(event(child(ctx, "variable").getText(), String.valueOf("truth".equals(rule)), false));
+            } else if ("and".equals(rule) || "or".equals(rule)) {
+                events.add(rule);
+            } else if ("orderName".equals(rule)) {
+                events.add("sort " + child(ctx, "variable").getText() + (child(ctx, "desc") == null ? " asc" : " desc"));
+            }
+        }
+
+        @Override
+        public void enterEveryRule(ParserRuleContext ctx) {
+        }
+
+        @Override
+        public void visitTerminal(TerminalNode node) {
+        }
+
+        @Override
+        public void visitErrorNode(ErrorNode node) {
+        }
+
+        private static ParserRuleContext child(ParserRuleContext ctx, String rule) {
+            int index = GRAMMAR.getRule(rule).index;
+            return ctx.children.stream()
+                    .filter(ParserRuleContext.class::isInstance)
+                    .map(ParserRuleContext.class::cast)
+                    .filter(c -> c.getRuleIndex() == index)
+                    .findFirst().orElse(null);
+        }
+    }
+
+    private static String event(String variable, String operator, boolean hasNot) {
+        return variable + " " + operator + (hasNot ? " not" : "");
+    }
+}
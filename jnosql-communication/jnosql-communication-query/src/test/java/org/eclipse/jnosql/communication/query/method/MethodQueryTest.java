@@ -16,6 +16,15 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
@@ -325,5 +334,36 @@ class MethodQueryTest {
         assertEquals("findBy Salary_Currency And Name", methodQuery.get());
     }
 
+    @Test
+    void shouldTokenizeWhenThreadsShareTheCache() throws Exception {
+        int threads = 16;
+        List<String> queries = IntStream.range(0, 500).mapToObj(i -> "findByName" + i + "AndAgeOrderByAgeDesc").toList();
+        List<String> expected = IntStream.range(0, 500).mapToObj(i -> "findBy Name" + i + " And Age OrderBy Age Desc").toList();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<List<String>>> results = new ArrayList<>();
+            for (int thread = 0; thread < threads; thread++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return queries.stream().map(q -> MethodQuery.of(q).get()).toList();
+                }));
+            }
+            start.countDown();
+            for (Future<List<String>> result : results) {
+                assertEquals(expected, result.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 
-}
\ No newline at end of file
+    @Test
+    void shouldTokenizeWhenCacheIsFull() {
+        for (int index = 0; index <= MethodQuery.CACHE_SIZE; index++) {
+            MethodQuery.of("findByFull" + index);
+        }
+        assertEquals("findBy Full And Age", MethodQuery.of("findByFullAndAge").get());
+        assertEquals("countBy Full OrderBy Age Desc", MethodQuery.of("countByFullOrderByAgeDesc").get());
+    }
+}
@@ -30,6 +30,16 @@ class SelectMethodProviderTest {
     }
 
 
+    @Test
+    void shouldParseTheSameMethodOnce() {
+        Method method = PersonRepository.class.getDeclaredMethods()[0];
+        SelectQuery query = SelectMethodProvider.INSTANCE.apply(method, "Person");
+        Assertions.assertSame(query, SelectMethodProvider.INSTANCE.apply(method, "Person"));
+        SelectQuery other = SelectMethodProvider.INSTANCE.apply(method, "Employee");
+        Assertions.assertNotSame(query, other);
+        Assertions.assertEquals("Employee", other.entity());
+    }
+
     interface PersonRepository{
         List<String> findByAge(Integer age);
     }
@@ -22,11 +22,18 @@ import org.eclipse.jnosql.communication.query.QueryValue;
 import org.eclipse.jnosql.communication.query.SelectQuery;
 import org.eclipse.jnosql.communication.query.Where;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.io.File;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.BiFunction;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -577,4 +584,29 @@ class SelectMethodQueryProviderTest {
         assertEquals(operator, condition.condition());
         assertTrue(ParamQueryValue.class.cast(value).get().contains(variable));
     }
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldParseWithoutAntlr() throws Exception {
+        String path = System.getProperty("jdk.module.path", "") + File.pathSeparator + System.getProperty("java.class.path");
+        URL[] classpath = Arrays.stream(path.split(File.pathSeparator))
+                .filter(entry -> !entry.isBlank() && !entry.contains("antlr"))
+                .map(SelectMethodQueryProviderTest::toURL)
+                .toArray(URL[]::new);
+        try (URLClassLoader loader = new URLClassLoader(classpath, null)) {
+            Assertions.assertThrows(ClassNotFoundException.class, () -> loader.loadClass("org.antlr.v4.runtime.CharStream"));
+            Class<?> type = loader.loadClass(SelectMethodQueryProvider.class.getName());
+            BiFunction<String, String, Object> provider = (BiFunction<String, String, Object>) type.getConstructor().newInstance();
+            Object query = provider.apply("findByNameAndAgeGreaterThanOrderByNameAsc", "entity");
+            assertNotNull(query);
+            assertTrue(query.toString().contains("entity"));
+        }
+    }
+
+    private static URL toURL(String entry) {
+        try {
+            return new File(entry).toURI().toURL();
+        } catch (MalformedURLException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,110 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.instrumentation.micrometer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.eclipse.jnosql.communication.Instrumentation;
+import org.eclipse.jnosql.communication.Measurement;
+
+import java.util.Objects;
+
+/**
+ * The {@link Instrumentation} that records each operation at a Micrometer {@link MeterRegistry}:
+ * <ul>
+ *     <li>{@code jnosql.operation}, a {@link Timer} of the latency, tagged by provider, operation, entity and the
+ *     error class, {@code none} when it succeeds;</li>
+ *     <li>{@code jnosql.operation.rows}, a distribution summary of the rows written, counted or read.</li>
+ * </ul>
+ * The {@link java.util.ServiceLoader} creates it with the {@link Metrics#globalRegistry}.
+ */
+public final class MicrometerInstrumentation implements Instrumentation {
+
+    static final String TIMER = "jnosql.operation";
+
+    static final String ROWS = "jnosql.operation.rows";
+
+    private final MeterRegistry registry;
+
+    /**
+     * Creates the instrumentation of the {@link Metrics#globalRegistry}, the constructor of the
+     * {@link java.util.ServiceLoader}
+     */
+    public MicrometerInstrumentation() {
+        this(Metrics.globalRegistry);
+    }
+
+    /**
+     * Creates the instrumentation of the registry
+     *
+     * @param registry the registry
+     * @throws NullPointerException when registry is null
+     */
+    public MicrometerInstrumentation(MeterRegistry registry) {
+        this.registry = Objects.requireNonNull(registry, "registry is required");
+    }
+
+    @Override
+    public Measurement start(String provider, String operation, String entity) {
+        Tags tags = Tags.of("provider", provider, "operation", operation, "entity", entity);
+        return new MicrometerMeasurement(registry, tags, Timer.start(registry));
+    }
+
+    @Override
+    public String toString() {
+        return "MicrometerInstrumentation{" +
+                "registry=" + registry +
+                '}';
+    }
+
+    private static final class MicrometerMeasurement implements Measurement {
+
+        private final MeterRegistry registry;
+
+        private final Tags tags;
+
+        private final Timer.Sample sample;
+
+        private String error = "none";
+
+        private MicrometerMeasurement(MeterRegistry registry, Tags tags, Timer.Sample sample) {
+            this.registry = registry;
+            this.tags = tags;
+            this.sample = sample;
+        }
+
+        @Override
+        public void rows(long rows) {
+            registry.summary(ROWS, tags).record(rows);
+        }
+
+        @Override
+        public void read(long rows) {
+            registry.summary(ROWS, tags).record(rows);
+        }
+
+        @Override
+        public void error(Throwable error) {
+            this.error = error.getClass().getName();
+        }
+
+        @Override
+        public void close() {
+            sample.stop(registry.timer(TIMER, tags.and("error", error)));
+        }
+    }
+}
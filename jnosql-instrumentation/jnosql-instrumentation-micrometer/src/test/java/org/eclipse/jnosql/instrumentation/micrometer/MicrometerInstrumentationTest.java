@@ -0,0 +1,81 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.instrumentation.micrometer;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.jnosql.communication.Instrumentation;
+import org.eclipse.jnosql.communication.Measurement;
+import org.junit.jupiter.api.Test;
+
+import java.util.ServiceLoader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+class MicrometerInstrumentationTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private final Instrumentation instrumentation = new MicrometerInstrumentation(registry);
+
+    @Test
+    void shouldReturnErrorWhenRegistryIsNull() {
+        assertThatNullPointerException().isThrownBy(() -> new MicrometerInstrumentation(null));
+    }
+
+    @Test
+    void shouldLoadFromServiceLoader() {
+        assertThat(ServiceLoader.load(Instrumentation.class).stream().map(ServiceLoader.Provider::type))
+                .contains(MicrometerInstrumentation.class);
+    }
+
+    @Test
+    void shouldRecordOperation() {
+        try (Measurement measurement = instrumentation.start("mongodb", "insert", "Person")) {
+            measurement.rows(3);
+        }
+
+        Timer timer = registry.get(MicrometerInstrumentation.TIMER)
+                .tags("provider", "mongodb", "operation", "insert", "entity", "Person", "error", "none").timer();
+        DistributionSummary rows = registry.get(MicrometerInstrumentation.ROWS)
+                .tags("provider", "mongodb", "operation", "insert", "entity", "Person").summary();
+        assertThat(timer.count()).isEqualTo(1L);
+        assertThat(rows.totalAmount()).isEqualTo(3D);
+    }
+
+    @Test
+    void shouldRecordRowsReadAfterClose() {
+        Measurement measurement = instrumentation.start("", "select", "Person");
+        measurement.close();
+        measurement.read(10);
+
+        DistributionSummary rows = registry.get(MicrometerInstrumentation.ROWS)
+                .tags("operation", "select").summary();
+        assertThat(rows.totalAmount()).isEqualTo(10D);
+    }
+
+    @Test
+    void shouldTagError() {
+        try (Measurement measurement = instrumentation.start("", "delete", "Person")) {
+            measurement.error(new IllegalStateException("offline"));
+        }
+
+        Timer timer = registry.get(MicrometerInstrumentation.TIMER)
+                .tags("error", IllegalStateException.class.getName()).timer();
+        assertThat(timer.count()).isEqualTo(1L);
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.instrumentation.microprofile.metrics;
+
+import jakarta.enterprise.inject.spi.CDI;
+import org.eclipse.jnosql.communication.Instrumentation;
+import org.eclipse.jnosql.communication.Measurement;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.Tag;
+import org.eclipse.microprofile.metrics.Timer;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * The {@link Instrumentation} that records each operation at a MicroProfile Metrics {@link MetricRegistry}:
+ * <ul>
+ *     <li>{@code jnosql.operation}, a {@link Timer} of the latency, tagged by provider, operation, entity and the
+ *     error class, {@code none} when it succeeds;</li>
+ *     <li>{@code jnosql.operation.rows}, a histogram of the rows written, counted or read.</li>
+ * </ul>
+ * The {@link java.util.ServiceLoader} creates it before the CDI container starts, so it looks the application
+ * registry up at the first operation.
+ */
+public final class MicroProfileMetricsInstrumentation implements Instrumentation {
+
+    static final String TIMER = "jnosql.operation";
+
+    static final String ROWS = "jnosql.operation.rows";
+
+    private final Supplier<MetricRegistry> supplier;
+
+    private volatile MetricRegistry registry;
+
+    /**
+     * Creates the instrumentation of the {@link MetricRegistry} at the CDI container, the constructor of the
+     * {@link java.util.ServiceLoader}
+     */
+    public MicroProfileMetricsInstrumentation() {
+        this.supplier = () -> CDI.current().select(MetricRegistry.class).get();
+    }
+
+    /**
+     * Creates the instrumentation of the registry
+     *
+     * @param registry the registry
+     * @throws NullPointerException when registry is null
+     */
+    public MicroProfileMetricsInstrumentation(MetricRegistry registry) {
+        this.registry = Objects.requireNonNull(registry, "registry is required");
+        this.supplier = () -> registry;
+    }
+
+    @Override
+    public Measurement start(String provider, String operation, String entity) {
+        Tag[] tags = {new Tag("provider", provider), new Tag("operation", operation), new Tag("entity", entity)};
+        return new MicroProfileMeasurement(registry(), tags, System.nanoTime());
+    }
+
+    private MetricRegistry registry() {
+        MetricRegistry current = this.registry;
+        if (current == null) {
+            current = supplier.get();
+            this.registry = current;
+        }
+        return current;
+    }
+
+    @Override
+    public String toString() {
+        return "MicroProfileMetricsInstrumentation{" +
+                "registry=" + registry +
+                '}';
+    }
+
+    private static final class MicroProfileMeasurement implements Measurement {
+
+        private final MetricRegistry registry;
+
+        private final Tag[] tags;
+
+        private final long start;
+
+        private String error = "none";
+
+        private MicroProfileMeasurement(MetricRegistry registry, Tag[] tags, long start) {
+            this.registry = registry;
+            this.tags = tags;
+            this.start = start;
+        }
+
+        @Override
+        public void rows(long rows) {
+            registry.histogram(ROWS, tags).update(rows);
+        }
+
+        @Override
+        public void read(long rows) {
+            registry.histogram(ROWS, tags).update(rows);
+        }
+
+        @Override
+        public void error(Throwable error) {
+            this.error = error.getClass().getName();
+        }
+
+        @Override
+        public void close() {
+            Tag[] timerTags = {tags[0], tags[1], tags[2], new Tag("error", error)};
+            registry.timer(TIMER, timerTags).update(Duration.ofNanos(System.nanoTime() - start));
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.instrumentation.microprofile.metrics;
+
+import org.eclipse.jnosql.communication.Instrumentation;
+import org.eclipse.jnosql.communication.Measurement;
+import org.eclipse.microprofile.metrics.Histogram;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.Tag;
+import org.eclipse.microprofile.metrics.Timer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ServiceLoader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MicroProfileMetricsInstrumentationTest {
+
+    private static final Tag PROVIDER = new Tag("provider", "mongodb");
+
+    private static final Tag OPERATION = new Tag("operation", "insert");
+
+    private static final Tag ENTITY = new Tag("entity", "Person");
+
+    @Mock
+    private MetricRegistry registry;
+
+    @Mock
+    private Timer timer;
+
+    @Mock
+    private Histogram histogram;
+
+    private Instrumentation instrumentation;
+
+    @BeforeEach
+    void setUp() {
+        this.instrumentation = new MicroProfileMetricsInstrumentation(registry);
+    }
+
+    @Test
+    void shouldReturnErrorWhenRegistryIsNull() {
+        assertThatNullPointerException().isThrownBy(() -> new MicroProfileMetricsInstrumentation(null));
+    }
+
+    @Test
+    void shouldLoadFromServiceLoader() {
+        assertThat(ServiceLoader.load(Instrumentation.class).stream().map(ServiceLoader.Provider::type))
+                .contains(MicroProfileMetricsInstrumentation.class);
+    }
+
+    @Test
+    void shouldRecordOperation() {
+        when(registry.timer(MicroProfileMetricsInstrumentation.TIMER, PROVIDER, OPERATION, ENTITY,
+                new Tag("error", "none"))).thenReturn(timer);
+        when(registry.histogram(MicroProfileMetricsInstrumentation.ROWS, PROVIDER, OPERATION, ENTITY))
+                .thenReturn(histogram);
+
+        try (Measurement measurement = instrumentation.start("mongodb", "insert", "Person")) {
+            measurement.rows(3);
+        }
+
+        verify(histogram).update(3L);
+        verify(timer).update(any(Duration.class));
+    }
+
+    @Test
+    void shouldTagError() {
+        when(registry.timer(MicroProfileMetricsInstrumentation.TIMER, PROVIDER, OPERATION, ENTITY,
+                new Tag("error", IllegalStateException.class.getName()))).thenReturn(timer);
+
+        try (Measurement measurement = instrumentation.start("mongodb", "insert", "Person")) {
+            measurement.error(new IllegalStateException("offline"));
+        }
+
+        verify(timer).update(any(Duration.class));
+        verify(registry, never()).timer(eq(MicroProfileMetricsInstrumentation.TIMER), eq(PROVIDER), eq(OPERATION),
+                eq(ENTITY), eq(new Tag("error", "none")));
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.instrumentation.opentelemetry;
+
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.LongHistogram;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import org.eclipse.jnosql.communication.Instrumentation;
+import org.eclipse.jnosql.communication.Measurement;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * The {@link Instrumentation} that reports each operation to OpenTelemetry:
+ * <ul>
+ *     <li>a {@link SpanKind#CLIENT} span named by the operation and the entity, with the query fingerprint as
+ *     {@code db.statement}, and the failure recorded as an exception event with the {@link StatusCode#ERROR} status;</li>
+ *     <li>{@code jnosql.operation.duration}, a histogram of the latency in seconds;</li>
+ *     <li>{@code jnosql.operation.rows}, a histogram of the rows written, counted or read.</li>
+ * </ul>
+ * Every span and metric has the provider, operation and entity attributes.
+ * The {@link java.util.ServiceLoader} creates it with the {@link GlobalOpenTelemetry}.
+ */
+public final class OpenTelemetryInstrumentation implements Instrumentation {
+
+    static final String SCOPE = "org.eclipse.jnosql";
+
+    static final String DURATION = "jnosql.operation.duration";
+
+    static final String ROWS = "jnosql.operation.rows";
+
+    static final AttributeKey<String> PROVIDER = AttributeKey.stringKey("jnosql.provider");
+
+    static final AttributeKey<String> OPERATION = AttributeKey.stringKey("db.operation");
+
+    static final AttributeKey<String> ENTITY = AttributeKey.stringKey("jnosql.entity");
+
+    static final AttributeKey<String> STATEMENT = AttributeKey.stringKey("db.statement");
+
+    static final AttributeKey<String> ERROR = AttributeKey.stringKey("error.type");
+
+    private final Tracer tracer;
+
+    private final DoubleHistogram duration;
+
+    private final LongHistogram rows;
+
+    /**
+     * Creates the instrumentation of the {@link GlobalOpenTelemetry}, the constructor of the
+     * {@link java.util.ServiceLoader}
+     */
+    public OpenTelemetryInstrumentation() {
+        this(GlobalOpenTelemetry.get());
+    }
+
+    /**
+     * Creates the instrumentation of the OpenTelemetry instance
+     *
+     * @param openTelemetry the OpenTelemetry instance
+     * @throws NullPointerException when openTelemetry is null
+     */
+    public OpenTelemetryInstrumentation(OpenTelemetry openTelemetry) {
+        Objects.requireNonNull(openTelemetry, "openTelemetry is required");
+        this.tracer = openTelemetry.getTracer(SCOPE);
+        Meter meter = openTelemetry.getMeter(SCOPE);
+        this.duration = meter.histogramBuilder(DURATION).setUnit("s").build();
+        this.rows = meter.histogramBuilder(ROWS).ofLongs().build();
+    }
+
+    @Override
+    public Measurement start(String provider, String operation, String entity) {
+        return start(provider, operation, entity, null);
+    }
+
+    @Override
+    public Measurement start(String provider, String operation, String entity, Supplier<String> query) {
+        Attributes attributes = Attributes.of(PROVIDER, provider, OPERATION, operation, ENTITY, entity);
+        var builder = tracer.spanBuilder(entity.isEmpty() ? operation : operation + ' ' + entity)
+                .setSpanKind(SpanKind.CLIENT)
+                .setAllAttributes(attributes);
+        if (query != null) {
+            builder.setAttribute(STATEMENT, query.get());
+        }
+        return new OpenTelemetryMeasurement(this, attributes, builder.startSpan(), System.nanoTime());
+    }
+
+    @Override
+    public String toString() {
+        return "OpenTelemetryInstrumentation{" +
+                "tracer=" + tracer +
+                '}';
+    }
+
+    private static final class OpenTelemetryMeasurement implements Measurement {
+
+        private final OpenTelemetryInstrumentation instrumentation;
+
+        private final Attributes attributes;
+
+        private final Span span;
+
+        private final long start;
+
+        private String error;
+
+        private OpenTelemetryMeasurement(OpenTelemetryInstrumentation instrumentation, Attributes attributes,
+                                         Span span, long start) {
+            this.instrumentation = instrumentation;
+            this.attributes = attributes;
+            this.span = span;
+            this.start = start;
+        }
+
+        @Override
+        public void rows(long rows) {
+            span.setAttribute(ROWS, rows);
+            instrumentation.rows.record(rows, attributes);
+        }
+
+        @Override
+        public void read(long rows) {
+            instrumentation.rows.record(rows, attributes);
+        }
+
+        @Override
+        public void error(Throwable error) {
+            this.error = error.getClass().getName();
+            span.recordException(error);
+            span.setStatus(StatusCode.ERROR);
+        }
+
+        @Override
+        public void close() {
+            Attributes tags = error == null ? attributes : attributes.toBuilder().put(ERROR, error).build();
+            instrumentation.duration.record((System.nanoTime() - start) / 1_000_000_000D, tags);
+            span.end();
+        }
+    }
+}
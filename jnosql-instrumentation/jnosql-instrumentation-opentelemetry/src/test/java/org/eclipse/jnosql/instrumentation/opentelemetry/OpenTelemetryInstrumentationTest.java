@@ -0,0 +1,97 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.instrumentation.opentelemetry;
+
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.testing.junit5.OpenTelemetryExtension;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import org.eclipse.jnosql.communication.Instrumentation;
+import org.eclipse.jnosql.communication.Measurement;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.util.ServiceLoader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+class OpenTelemetryInstrumentationTest {
+
+    @RegisterExtension
+    static final OpenTelemetryExtension OPEN_TELEMETRY = OpenTelemetryExtension.create();
+
+    private Instrumentation instrumentation;
+
+    @BeforeEach
+    void setUp() {
+        this.instrumentation = new OpenTelemetryInstrumentation(OPEN_TELEMETRY.getOpenTelemetry());
+    }
+
+    @Test
+    void shouldReturnErrorWhenOpenTelemetryIsNull() {
+        assertThatNullPointerException().isThrownBy(() -> new OpenTelemetryInstrumentation(null));
+    }
+
+    @Test
+    void shouldLoadFromServiceLoader() {
+        assertThat(ServiceLoader.load(Instrumentation.class).stream().map(ServiceLoader.Provider::type))
+                .contains(OpenTelemetryInstrumentation.class);
+    }
+
+    @Test
+    void shouldCreateSpan() {
+        try (Measurement measurement = instrumentation.start("mongodb", "select", "Person", () -> "select * from Person")) {
+            measurement.rows(2);
+        }
+
+        assertThat(OPEN_TELEMETRY.getSpans()).singleElement().satisfies(span -> {
+            assertThat(span.getName()).isEqualTo("select Person");
+            assertThat(span.getKind()).isEqualTo(SpanKind.CLIENT);
+            assertThat(span.getAttributes().get(OpenTelemetryInstrumentation.PROVIDER)).isEqualTo("mongodb");
+            assertThat(span.getAttributes().get(OpenTelemetryInstrumentation.STATEMENT)).isEqualTo("select * from Person");
+            assertThat(span.getStatus().getStatusCode()).isEqualTo(StatusCode.UNSET);
+        });
+    }
+
+    @Test
+    void shouldRecordHistograms() {
+        Measurement measurement = instrumentation.start("", "select", "Person");
+        measurement.close();
+        measurement.read(10);
+
+        assertThat(OPEN_TELEMETRY.getMetrics()).extracting(MetricData::getName)
+                .contains(OpenTelemetryInstrumentation.DURATION, OpenTelemetryInstrumentation.ROWS);
+        assertThat(OPEN_TELEMETRY.getMetrics()).filteredOn(metric -> metric.getName().equals(OpenTelemetryInstrumentation.ROWS))
+                .singleElement()
+                .satisfies(metric -> assertThat(metric.getHistogramData().getPoints()).singleElement()
+                        .satisfies(point -> assertThat(point.getSum()).isEqualTo(10D)));
+    }
+
+    @Test
+    void shouldRecordError() {
+        IllegalStateException error = new IllegalStateException("offline");
+        try (Measurement measurement = instrumentation.start("", "delete", "Person")) {
+            measurement.error(error);
+        }
+
+        SpanData span = OPEN_TELEMETRY.getSpans().get(0);
+        assertThat(span.getStatus().getStatusCode()).isEqualTo(StatusCode.ERROR);
+        assertThat(span.getEvents()).singleElement()
+                .satisfies(event -> assertThat(event.getName()).isEqualTo("exception"));
+    }
+}
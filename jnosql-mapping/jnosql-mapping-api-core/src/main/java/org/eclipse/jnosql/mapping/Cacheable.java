@@ -0,0 +1,74 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping;
+
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Specifies that the entities found by id are kept at the entity cache, so the next find by id
+ * of the same entity does not reach the database.
+ * The template keeps the cache coherent with its own insert, update and delete operations;
+ * changes performed by other processes are only observed once the entry expires.
+ * When it is used at the root of an {@link Inheritance} hierarchy, it applies to every subclass.
+ *
+ * <pre>
+ *
+ *   Example:
+ *   &#064;Entity
+ *   &#064;Cacheable(maximumSize = 500, expireAfterWrite = 10, unit = TimeUnit.MINUTES)
+ *   public class Country { ... }
+ * </pre>
+ */
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Cacheable {
+
+    /**
+     * The maximum number of entities kept at the cache; when it is reached, the least recently used are evicted.
+     *
+     * @return the maximum size
+     */
+    long maximumSize() default 1_000;
+
+    /**
+     * How long an entity lives at the cache after it was loaded, zero means it only leaves the cache through
+     * eviction or the template write operations.
+     *
+     * @return the expiration in {@link #unit()}
+     */
+    long expireAfterWrite() default 0;
+
+    /**
+     * The time unit of {@link #expireAfterWrite()}
+     *
+     * @return the time unit
+     */
+    TimeUnit unit() default TimeUnit.SECONDS;
+
+    /**
+     * Declares the entity as immutable, such as a record, so the cache keeps the entity instance itself and
+     * returns it to every caller instead of converting a new instance at each read.
+     *
+     * @return true when the entity instance can be shared
+     */
+    boolean immutable() default false;
+}
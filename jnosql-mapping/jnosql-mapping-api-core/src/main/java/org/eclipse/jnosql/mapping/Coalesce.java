@@ -0,0 +1,71 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping;
+
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Specifies that the concurrent identical reads of the entity share a single database call: the find by id and the
+ * select of the document and column templates, and the get of the key-value template. While a read is in flight,
+ * the same read from other threads waits for its result instead of reaching the database, and each caller receives
+ * its own entity instance.
+ * A waiting read that does not receive the result within the {@link #timeout()} reaches the database by itself.
+ * When it is used at the root of an {@link Inheritance} hierarchy, it applies to every subclass.
+ * <p>
+ * Two selects are identical when they differ only by the order of their conditions joined by and or or, the order of
+ * their fields, the fetch size or the timeout. A shared select is read whole before the callers receive it, so only the
+ * selects with a limit are coalesced; a select without a limit keeps streaming from the database to its caller.
+ *
+ * <pre>
+ *
+ *   Example:
+ *   &#064;Entity
+ *   &#064;Coalesce(timeout = 500, unit = TimeUnit.MILLISECONDS)
+ *   public class Product { ... }
+ * </pre>
+ */
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Coalesce {
+
+    /**
+     * How long a read waits for the identical read in flight, after that it reaches the database by itself.
+     *
+     * @return the timeout in {@link #unit()}
+     */
+    long timeout() default 1_000;
+
+    /**
+     * The time unit of {@link #timeout()}
+     *
+     * @return the time unit
+     */
+    TimeUnit unit() default TimeUnit.MILLISECONDS;
+
+    /**
+     * Declares the entity as immutable, such as a record, so all the callers of a shared read receive the same
+     * entity instance instead of converting one each.
+     *
+     * @return true when the entity instance can be shared
+     */
+    boolean immutable() default false;
+}
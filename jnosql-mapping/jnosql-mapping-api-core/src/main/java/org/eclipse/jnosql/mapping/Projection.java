@@ -0,0 +1,51 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping;
+
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Specifies a projection of an entity, a record or an interface that has only the fields that the caller reads.
+ * A query that returns a projection fetches only the fields of its components, and the result is created through
+ * the record canonical constructor, or through the interface methods, without creating the entity.
+ * The component name is the Java field of the entity; use {@link Select} to read a nested field.
+ * A record that is not an entity is also a projection at repository methods, so this annotation is only required by
+ * interfaces and by the template, where {@link #from()} tells the entity.
+ *
+ * <pre>
+ *
+ *   Example:
+ *   &#064;Projection(from = Person.class)
+ *   public record PersonSummary(String name, &#064;Select("address.city") String city) { }
+ *
+ *   List&lt;PersonSummary&gt; people = template.select(PersonSummary.class).where("age").gt(18).result();
+ * </pre>
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Projection {
+
+    /**
+     * The entity that this projection reads, required when the projection is used at {@code select(type)}
+     * of the templates; at repository methods the entity of the repository is used.
+     *
+     * @return the entity type
+     */
+    Class<?> from() default void.class;
+}
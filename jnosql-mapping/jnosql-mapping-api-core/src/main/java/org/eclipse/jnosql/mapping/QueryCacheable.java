@@ -0,0 +1,78 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping;
+
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Specifies that the results of the queries of the entity, from the template select and the repository finders,
+ * are kept at the query cache, so the same query does not reach the database again. Two queries are the same when
+ * they differ only by the order of their conditions joined by and or or, the order of their fields, the fetch size
+ * or the timeout. Only the selects with a limit up to {@link #maximumRows()} are kept, the others stream from
+ * the database, and the entities that share a collection, e.g. through inheritance, must declare the same settings.
+ * It fits reference data, such as countries or categories, that is read constantly and changes rarely.
+ * The cache keeps the rows in the database format, so each caller receives its own entity instances.
+ * Any insert, update or delete of the entity through the template drops every query of its collection;
+ * changes performed by other processes are only observed once the entry expires.
+ *
+ * <pre>
+ *
+ *   Example:
+ *   &#064;Entity
+ *   &#064;QueryCacheable(maximumSize = 100, maximumRows = 10_000, expireAfterWrite = 5, unit = TimeUnit.MINUTES)
+ *   public class Category { ... }
+ * </pre>
+ */
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface QueryCacheable {
+
+    /**
+     * The maximum number of queries kept at the cache; when it is reached, the least recently used are evicted.
+     *
+     * @return the maximum size
+     */
+    long maximumSize() default 100;
+
+    /**
+     * The maximum number of rows kept at the cache, summing the results of every query;
+     * when it is reached, the least recently used queries are evicted. A result larger than it is never kept.
+     *
+     * @return the maximum rows
+     */
+    long maximumRows() default 10_000;
+
+    /**
+     * How long a result lives at the cache after it was loaded, zero means it only leaves the cache through
+     * eviction or the template write operations.
+     *
+     * @return the expiration in {@link #unit()}
+     */
+    long expireAfterWrite() default 0;
+
+    /**
+     * The time unit of {@link #expireAfterWrite()}
+     *
+     * @return the time unit
+     */
+    TimeUnit unit() default TimeUnit.SECONDS;
+}
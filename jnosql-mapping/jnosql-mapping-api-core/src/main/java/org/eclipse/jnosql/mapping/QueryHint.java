@@ -0,0 +1,75 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping;
+
+
+import org.eclipse.jnosql.communication.QueryHints;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Defines a hint to the driver at the queries of a repository method, such as the fetch size or the timeout.
+ * The keys are the ones at {@link QueryHints} or the ones a driver reads, and the hints do not change the result.
+ * It applies to the find, count and exists methods, a method with the {@code Query} annotation defines the hints
+ * at the query text instead, e.g. {@code select * from Person hints(fetch-size = 500)}.
+ *
+ * <pre>
+ *
+ *   Example:
+ *   &#064;QueryHint(name = QueryHints.FETCH_SIZE, value = "500")
+ *   &#064;QueryHint(name = QueryHints.TIMEOUT, value = "PT2S")
+ *   Stream&#60;Person&#62; findByActive(boolean active);
+ * </pre>
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+@Repeatable(QueryHint.List.class)
+public @interface QueryHint {
+
+    /**
+     * The hint key
+     *
+     * @return the key
+     * @see QueryHints#FETCH_SIZE
+     * @see QueryHints#TIMEOUT
+     * @see QueryHints#READ_PREFERENCE
+     * @see QueryHints#CONSISTENCY_LEVEL
+     */
+    String name();
+
+    /**
+     * The hint value, the values of the well-known keys are converted, see {@link QueryHints#with(String, Object)}
+     *
+     * @return the value
+     */
+    String value();
+
+    /**
+     * Defines several {@link QueryHint} annotations on the same method.
+     */
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.METHOD)
+    @interface List {
+
+        /**
+         * @return the hints
+         */
+        QueryHint[] value();
+    }
+}
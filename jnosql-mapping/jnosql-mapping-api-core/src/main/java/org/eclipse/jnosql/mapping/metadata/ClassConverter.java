@@ -33,6 +33,8 @@ import java.util.function.Function;
  * This metadata can be used by data mapping and storage components to facilitate various
  * operations such as CRUD (Create, Read, Update, Delete) operations and schema management.
  *
+ * <p>The metadata of the scanned classes is built in parallel, so implementations must be thread-safe.
+ *
  */
 public interface ClassConverter extends Function<Class<?>, EntityMetadata> {
 
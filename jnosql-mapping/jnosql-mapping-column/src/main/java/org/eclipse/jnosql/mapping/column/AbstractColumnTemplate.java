@@ -19,14 +19,25 @@ import jakarta.data.exceptions.NonUniqueResultException;
 import jakarta.nosql.PreparedStatement;
 import jakarta.nosql.QueryMapper;
 import jakarta.nosql.column.ColumnTemplate;
+import org.eclipse.jnosql.communication.QueryHints;
+import org.eclipse.jnosql.communication.StreamPublisher;
+import org.eclipse.jnosql.communication.column.Column;
+import org.eclipse.jnosql.communication.column.ColumnAggregateQuery;
 import org.eclipse.jnosql.communication.column.ColumnDeleteQuery;
 import org.eclipse.jnosql.communication.column.ColumnEntity;
 import org.eclipse.jnosql.communication.column.ColumnManager;
 import org.eclipse.jnosql.communication.column.ColumnObserverParser;
 import org.eclipse.jnosql.communication.column.ColumnQuery;
 import org.eclipse.jnosql.communication.column.ColumnQueryParser;
+import org.eclipse.jnosql.communication.column.ColumnQueryFingerprint;
 import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.core.EntityUpsert;
+import org.eclipse.jnosql.mapping.core.ProjectionMetadata;
 import org.eclipse.jnosql.mapping.IdNotFoundException;
+import org.eclipse.jnosql.mapping.core.cache.EntityCache;
+import org.eclipse.jnosql.mapping.core.cache.QueryCache;
+import org.eclipse.jnosql.mapping.core.coalescing.RequestCoalescer;
+import org.eclipse.jnosql.mapping.metadata.ClassInformationNotFoundException;
 import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
 import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
 import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
@@ -34,9 +45,12 @@ import org.eclipse.jnosql.mapping.core.util.ConverterUtil;
 import org.eclipse.jnosql.mapping.metadata.InheritanceMetadata;
 
 import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 import java.util.Iterator;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.Flow;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
@@ -63,18 +77,52 @@ public abstract class AbstractColumnTemplate implements JNoSQLColumnTemplate {
 
     protected abstract Converters getConverters();
 
+    /**
+     * The cache used at {@link #find(Class, Object)} of the entities annotated with
+     * {@link org.eclipse.jnosql.mapping.Cacheable}, by default there is no cache.
+     *
+     * @return the {@link EntityCache} instance
+     */
+    protected EntityCache getEntityCache() {
+        return EntityCache.none();
+    }
+
+    /**
+     * The coalescer of the identical concurrent reads at {@link #find(Class, Object)} and {@link #select(ColumnQuery)}
+     * of the entities annotated with {@link org.eclipse.jnosql.mapping.Coalesce}, by default there is no coalescing.
+     *
+     * @return the {@link RequestCoalescer} instance
+     */
+    protected RequestCoalescer getCoalescer() {
+        return RequestCoalescer.none();
+    }
+
+    /**
+     * The cache used at {@link #select(ColumnQuery)} of the entities annotated with
+     * {@link org.eclipse.jnosql.mapping.QueryCacheable}, by default there is no cache.
+     *
+     * @return the {@link QueryCache} instance
+     */
+    protected QueryCache getQueryCache() {
+        return QueryCache.none();
+    }
+
     private final UnaryOperator<ColumnEntity> insert = e -> getManager().insert(e);
 
     private final UnaryOperator<ColumnEntity> update = e -> getManager().update(e);
 
-    private ColumnObserverParser observer;
+    private final EntityUpsert<ColumnEntity> upsert = new ColumnUpsert();
+
+    private volatile ColumnObserverParser observer;
 
 
     private ColumnObserverParser getObserver() {
-        if (Objects.isNull(observer)) {
-            observer = new ColumnMapperObserver(getEntities());
+        ColumnObserverParser value = this.observer;
+        if (Objects.isNull(value)) {
+            value = new ColumnMapperObserver(getEntities());
+            this.observer = value;
         }
-        return observer;
+        return value;
     }
 
     @Override
@@ -101,30 +149,38 @@ public abstract class AbstractColumnTemplate implements JNoSQLColumnTemplate {
     @Override
     public <T> Iterable<T> update(Iterable<T> entities) {
         requireNonNull(entities, "entity is required");
-        return StreamSupport.stream(entities.spliterator(), false)
+        List<T> values = StreamSupport.stream(entities.spliterator(), false)
                 .map(this::update).collect(Collectors.toList());
+        getEventManager().firePostEntities(values);
+        return values;
     }
 
     @Override
     public <T> Iterable<T> insert(Iterable<T> entities) {
         requireNonNull(entities, "entities is required");
-        return StreamSupport.stream(entities.spliterator(), false)
+        List<T> values = StreamSupport.stream(entities.spliterator(), false)
                 .map(this::insert).collect(Collectors.toList());
+        getEventManager().firePostEntities(values);
+        return values;
     }
 
     @Override
     public <T> Iterable<T> insert(Iterable<T> entities, Duration ttl) {
         requireNonNull(entities, "entities is required");
         requireNonNull(ttl, "ttl is required");
-        return StreamSupport.stream(entities.spliterator(), false)
+        List<T> values = StreamSupport.stream(entities.spliterator(), false)
                 .map(e -> insert(e, ttl))
                 .collect(Collectors.toList());
+        getEventManager().firePostEntities(values);
+        return values;
     }
 
     @Override
     public void delete(ColumnDeleteQuery query) {
         requireNonNull(query, "query is required");
         getManager().delete(query);
+        getEntityCache().evictAll(query.name());
+        getQueryCache().evictAll(query.name());
     }
 
 
@@ -147,21 +203,30 @@ public abstract class AbstractColumnTemplate implements JNoSQLColumnTemplate {
     @Override
     public <T> Optional<T> singleResult(ColumnQuery query) {
         requireNonNull(query, "query is required");
-        final Stream<T> select = select(query);
-
-        final Iterator<T> iterator = select.iterator();
+        return singleResult(select(query), query);
+    }
 
-        if (!iterator.hasNext()) {
-            return Optional.empty();
+    @Override
+    public <P> Stream<P> select(ColumnQuery query, Class<P> projection) {
+        requireNonNull(query, "query is required");
+        requireNonNull(projection, "projection is required");
+        EntityMetadata entityMetadata = ProjectionMetadata.from(projection).map(getEntities()::get)
+                .orElseGet(() -> getEntities().findByName(query.name()));
+        ProjectionMetadata metadata = ProjectionMetadata.of(projection, entityMetadata);
+        ColumnQuery projectionQuery = query;
+        if (query.columns().isEmpty()) {
+            projectionQuery = new MappingColumnQuery(query.sorts(), query.limit(), query.skip(),
+                    query.condition().orElse(null), query.name(), metadata.columns(), query.hints());
         }
-        final T entity = iterator.next();
+        return getManager().select(projectionQuery).map(e -> getConverter().toProjection(metadata, e));
+    }
 
-        if (!iterator.hasNext()) {
-            return Optional.of(entity);
-        }
-        throw new NonUniqueResultException("No Unique result found to the query: " + query);
+    @Override
+    public <P> Optional<P> singleResult(ColumnQuery query, Class<P> projection) {
+        return singleResult(select(query, projection), query);
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public <T, K> Optional<T> find(Class<T> type, K id) {
         requireNonNull(type, "type is required");
@@ -174,7 +239,17 @@ public abstract class AbstractColumnTemplate implements JNoSQLColumnTemplate {
         ColumnQuery query = ColumnQuery.select().from(entityMetadata.name())
                 .where(idField.name()).eq(value).build();
 
-        return singleResult(query);
+        EntityCache cache = getEntityCache();
+        RequestCoalescer coalescer = getCoalescer();
+        boolean cacheable = cache.isCacheable(entityMetadata);
+        if (!cacheable && !coalescer.isCoalesced(type)) {
+            return singleResult(query);
+        }
+        boolean immutable = cacheable ? cache.isImmutable(entityMetadata) : coalescer.isImmutable(type);
+        Optional<Object> cached = cache.get(entityMetadata, value,
+                () -> coalescer.execute(type, value, () -> load(query, immutable)));
+        return cached.map(c -> immutable ? (T) c : getConverter().<T>toEntity((ColumnEntity) c))
+                .map(toUnary(getEventManager()::firePostEntity));
     }
 
     @Override
@@ -190,13 +265,17 @@ public abstract class AbstractColumnTemplate implements JNoSQLColumnTemplate {
         ColumnDeleteQuery query = ColumnDeleteQuery.delete().from(entityMetadata.name())
                 .where(idField.name()).eq(value).build();
         getManager().delete(query);
+        getEntityCache().evict(entityMetadata.name(), value);
+        getQueryCache().evictAll(entityMetadata.name());
     }
 
 
     @Override
     public <T> Stream<T> query(String query) {
         requireNonNull(query, "query is required");
-        return PARSER.query(query, getManager(), getObserver()).map(c -> getConverter().toEntity(c));
+        Stream<ColumnEntity> entities = PARSER.query(query, getManager(), getObserver());
+        evictWhenWrite(query).run();
+        return entities.map(c -> getConverter().toEntity(c));
     }
 
     @Override
@@ -214,9 +293,28 @@ public abstract class AbstractColumnTemplate implements JNoSQLColumnTemplate {
         throw new NonUniqueResultException("No unique result found to the query: " + query);
     }
 
+    @Override
+    public <T> Flow.Publisher<T> publisher(ColumnQuery query) {
+        requireNonNull(query, "query is required");
+        return StreamPublisher.of(() -> select(query));
+    }
+
+    @Override
+    public Stream<Map<String, Object>> aggregate(String query) {
+        requireNonNull(query, "query is required");
+        return PARSER.aggregate(query, getManager(), getObserver()).map(ColumnEntity::toMap);
+    }
+
+    @Override
+    public Stream<Map<String, Object>> aggregate(ColumnAggregateQuery query) {
+        requireNonNull(query, "query is required");
+        return getManager().aggregate(query).map(ColumnEntity::toMap);
+    }
+
     @Override
     public PreparedStatement prepare(String query) {
-        return new ColumnPreparedStatement(PARSER.prepare(query, getManager(), getObserver()), getConverter());
+        return new ColumnPreparedStatement(PARSER.prepare(query, getManager(), getObserver()), getConverter(),
+                evictWhenWrite(query));
     }
 
 
@@ -232,18 +330,81 @@ public abstract class AbstractColumnTemplate implements JNoSQLColumnTemplate {
         return getManager().count(findAllQuery(type));
     }
 
+    private static <T> Optional<T> singleResult(Stream<T> entities, ColumnQuery query) {
+        final Iterator<T> iterator = entities.iterator();
+
+        if (!iterator.hasNext()) {
+            return Optional.empty();
+        }
+        final T entity = iterator.next();
+
+        if (!iterator.hasNext()) {
+            return Optional.of(entity);
+        }
+        throw new NonUniqueResultException("No Unique result found to the query: " + query);
+    }
+
     private <T> Stream<T> executeQuery(ColumnQuery query) {
         requireNonNull(query, "query is required");
+        Optional<EntityMetadata> metadata = entityMetadata(query.name());
+        if (metadata.isPresent() && getQueryCache().isCacheable(metadata.get(), query.limit())) {
+            return executeCachedQuery(query, metadata.get());
+        }
+        Optional<Class<?>> coalesced = metadata.map(EntityMetadata::type).filter(getCoalescer()::isCoalesced);
+        if (coalesced.isPresent() && query.limit() > 0) {
+            return executeCoalescedQuery(query, coalesced.get());
+        }
         Stream<ColumnEntity> entities = getManager().select(query);
         Function<ColumnEntity, T> function = e -> getConverter().toEntity(e);
         return entities.map(function).peek(getEventManager()::firePostEntity);
     }
 
+    @SuppressWarnings("unchecked")
+    private <T> Stream<T> executeCoalescedQuery(ColumnQuery query, Class<?> type) {
+        boolean immutable = getCoalescer().isImmutable(type);
+        List<Object> entities = getCoalescer().execute(type, ColumnQueryFingerprint.key(query), () -> getManager().select(query)
+                .<Object>map(e -> immutable ? getConverter().toEntity(e) : e)
+                .toList());
+        Function<Object, T> function = e -> immutable ? (T) e : getConverter().toEntity((ColumnEntity) e);
+        return entities.stream().map(function).peek(getEventManager()::firePostEntity);
+    }
+
+    private <T> Stream<T> executeCachedQuery(ColumnQuery query, EntityMetadata metadata) {
+        Object key = ColumnQueryFingerprint.key(query);
+        List<ColumnEntity> entities = getQueryCache().get(metadata, key,
+                () -> getCoalescer().execute(metadata.type(), key, () -> getManager().select(query)
+                        .map(ColumnEntity::copy)
+                        .toList()));
+        Function<ColumnEntity, T> function = e -> getConverter().toEntity(e);
+        return entities.stream().map(function).peek(getEventManager()::firePostEntity);
+    }
+
+    private Optional<EntityMetadata> entityMetadata(String name) {
+        if (getCoalescer() == RequestCoalescer.none() && getQueryCache() == QueryCache.none()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(getEntities().findByName(name));
+        } catch (ClassInformationNotFoundException exception) {
+            return Optional.empty();
+        }
+    }
+
     @Override
     public <T> QueryMapper.MapperFrom select(Class<T> type) {
+        return select(type, QueryHints.empty());
+    }
+
+    @Override
+    public <T> QueryMapper.MapperFrom select(Class<T> type, QueryHints hints) {
         Objects.requireNonNull(type, "type is required");
+        Objects.requireNonNull(hints, "hints is required");
+        Optional<Class<?>> projection = ProjectionMetadata.from(type);
+        if (projection.isPresent()) {
+            return new ColumnMapperSelect(getEntities().get(projection.get()), getConverters(), this, type, hints);
+        }
         EntityMetadata metadata = getEntities().get(type);
-        return new ColumnMapperSelect(metadata, getConverters(), this);
+        return new ColumnMapperSelect(metadata, getConverters(), this, null, hints);
     }
 
     @Override
@@ -269,10 +430,47 @@ public abstract class AbstractColumnTemplate implements JNoSQLColumnTemplate {
                 getManager().delete(ColumnDeleteQuery.delete().from(metadata.name())
                         .where(inheritanceMetadata.discriminatorColumn())
                         .eq(inheritanceMetadata.discriminatorValue()).build());
+                getEntityCache().evictAll(metadata.name());
+                getQueryCache().evictAll(metadata.name());
                 return;
             }
         }
         getManager().delete(ColumnDeleteQuery.delete().from(metadata.name()).build());
+        getEntityCache().evictAll(metadata.name());
+        getQueryCache().evictAll(metadata.name());
+    }
+
+    @Override
+    public <T> T upsert(T entity) {
+        requireNonNull(entity, "entity is required");
+        return upsert.save(List.of(entity)).get(0);
+    }
+
+    @Override
+    public <T> Iterable<T> upsert(Iterable<T> entities) {
+        requireNonNull(entities, "entities is required");
+        List<T> values = StreamSupport.stream(entities.spliterator(), false).collect(Collectors.toList());
+        if (values.isEmpty()) {
+            return values;
+        }
+        List<T> result = upsert.save(values);
+        getEventManager().firePostEntities(result);
+        return result;
+    }
+
+    @Override
+    public EntityCache cache() {
+        return getEntityCache();
+    }
+
+    @Override
+    public RequestCoalescer coalescer() {
+        return getCoalescer();
+    }
+
+    @Override
+    public QueryCache queryCache() {
+        return getQueryCache();
     }
 
     protected <T> T persist(T entity, UnaryOperator<ColumnEntity> persistAction) {
@@ -281,11 +479,45 @@ public abstract class AbstractColumnTemplate implements JNoSQLColumnTemplate {
                 .map(getConverter()::toColumn)
                 .map(persistAction)
                 .map(t -> getConverter().toEntity(entity, t))
+                .map(toUnary(this::evict))
                 .map(toUnary(getEventManager()::firePostEntity))
                 .findFirst()
                 .orElseThrow();
     }
 
+    private <T> void evict(T entity) {
+        EntityMetadata metadata = getEntities().get(entity.getClass());
+        getQueryCache().evictAll(metadata.name());
+        metadata.id().ifPresent(id -> {
+            Object value = id.read(entity);
+            if (value != null) {
+                getEntityCache().evict(metadata.name(), ConverterUtil.getValue(value, getConverters(), id));
+            }
+        });
+    }
+
+    private Optional<Object> load(ColumnQuery query, boolean immutable) {
+        Iterator<ColumnEntity> entities = getManager().select(query).iterator();
+        if (!entities.hasNext()) {
+            return Optional.empty();
+        }
+        ColumnEntity entity = entities.next();
+        if (entities.hasNext()) {
+            throw new NonUniqueResultException("No Unique result found to the query: " + query);
+        }
+        return Optional.of(immutable ? getConverter().toEntity(entity) : entity.copy());
+    }
+
+    private Runnable evictWhenWrite(String query) {
+        if (query.stripLeading().regionMatches(true, 0, "select", 0, 6)) {
+            return () -> { };
+        }
+        return () -> {
+            getEntityCache().evictAll();
+            getQueryCache().evictAll();
+        };
+    }
+
     private <T> UnaryOperator<T> toUnary(Consumer<T> consumer) {
         return t -> {
             consumer.accept(t);
@@ -305,4 +537,57 @@ public abstract class AbstractColumnTemplate implements JNoSQLColumnTemplate {
         }
         return ColumnQuery.select().from(metadata.name()).build();
     }
+
+    private final class ColumnUpsert extends EntityUpsert<ColumnEntity> {
+
+        @Override
+        protected boolean isUpsertSupported() {
+            return getManager().isUpsertSupported();
+        }
+
+        @Override
+        protected Iterable<ColumnEntity> upsert(List<ColumnEntity> entities) {
+            return getManager().upsert(entities);
+        }
+
+        @Override
+        protected <T> T insert(T entity) {
+            return persist(entity, insert);
+        }
+
+        @Override
+        protected <T> T update(T entity) {
+            return persist(entity, update);
+        }
+
+        @Override
+        protected <T> ColumnEntity toDatabase(T entity) {
+            getEventManager().firePreEntity(entity);
+            return getConverter().toColumn(entity);
+        }
+
+        @Override
+        protected <T> T saved(T entity, ColumnEntity saved) {
+            T value = getConverter().toEntity(entity, saved);
+            evict(value);
+            getEventManager().firePostEntity(value);
+            return value;
+        }
+
+        @Override
+        protected Stream<Object> find(EntityMetadata entity, FieldMetadata id, List<Object> ids) {
+            ColumnQuery query = ColumnQuery.select(id.name()).from(entity.name()).where(id.name()).in(ids).build();
+            return getManager().select(query).map(e -> e.find(id.name())).flatMap(Optional::stream).map(Column::get);
+        }
+
+        @Override
+        protected EntitiesMetadata entities() {
+            return getEntities();
+        }
+
+        @Override
+        protected Converters converters() {
+            return getConverters();
+        }
+    }
 }
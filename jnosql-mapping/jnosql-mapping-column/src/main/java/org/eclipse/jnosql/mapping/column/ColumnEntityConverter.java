@@ -14,19 +14,27 @@
  */
 package org.eclipse.jnosql.mapping.column;
 
+import org.eclipse.jnosql.communication.TypeReference;
+import org.eclipse.jnosql.communication.Value;
 import org.eclipse.jnosql.communication.column.Column;
 import org.eclipse.jnosql.communication.column.ColumnEntity;
+import org.eclipse.jnosql.mapping.AttributeConverter;
 import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.core.EntityConversionEvent;
+import org.eclipse.jnosql.mapping.core.ProjectionMetadata;
 import jakarta.data.exceptions.MappingException;
 import org.eclipse.jnosql.mapping.metadata.ConstructorBuilder;
 import org.eclipse.jnosql.mapping.metadata.ConstructorMetadata;
 import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
 import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
 import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
+import org.eclipse.jnosql.mapping.metadata.GenericFieldMetadata;
 import org.eclipse.jnosql.mapping.metadata.InheritanceMetadata;
 import org.eclipse.jnosql.mapping.metadata.MappingType;
 import org.eclipse.jnosql.mapping.metadata.ParameterMetaData;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -57,6 +65,7 @@ public abstract class ColumnEntityConverter {
      */
     public ColumnEntity toColumn(Object entity) {
         requireNonNull(entity, "entity is required");
+        EntityConversionEvent event = EntityConversionEvent.start();
         EntityMetadata mapping = getEntities().get(entity.getClass());
         ColumnEntity communication = ColumnEntity.of(mapping.name());
         mapping.fields().stream()
@@ -67,6 +76,7 @@ public abstract class ColumnEntityConverter {
 
         mapping.inheritance().ifPresent(i -> communication.add(i.discriminatorColumn(),
                 i.discriminatorValue()));
+        event.end(communication.name(), EntityConversionEvent.TO_DATABASE);
         return communication;
     }
 
@@ -82,7 +92,10 @@ public abstract class ColumnEntityConverter {
     public <T> T toEntity(Class<T> type, ColumnEntity entity) {
         requireNonNull(entity, "entity is required");
         requireNonNull(type, "type is required");
-        return toEntity(type, entity.columns());
+        EntityConversionEvent event = EntityConversionEvent.start();
+        T result = toEntity(type, entity.columns());
+        event.end(entity.name(), EntityConversionEvent.TO_ENTITY);
+        return result;
     }
 
     /**
@@ -99,11 +112,16 @@ public abstract class ColumnEntityConverter {
         requireNonNull(entity, "entity is required");
         requireNonNull(type, "type is required");
 
+        EntityConversionEvent event = EntityConversionEvent.start();
+        T result;
         if (type.getClass().isRecord()) {
-            return (T) toEntity(type.getClass(), entity.columns());
+            result = (T) toEntity(type.getClass(), entity.columns());
+        } else {
+            EntityMetadata mapping = getEntities().get(type.getClass());
+            result = convertEntity(entity.columns(), mapping, type);
         }
-        EntityMetadata mapping = getEntities().get(type.getClass());
-        return convertEntity(entity.columns(), mapping, type);
+        event.end(entity.name(), EntityConversionEvent.TO_ENTITY);
+        return result;
     }
 
     /**
@@ -117,17 +135,19 @@ public abstract class ColumnEntityConverter {
      */
     public <T> T toEntity(ColumnEntity entity) {
         requireNonNull(entity, "entity is required");
+        EntityConversionEvent event = EntityConversionEvent.start();
         EntityMetadata mapping = getEntities().findByName(entity.name());
+        T result;
         if (mapping.isInheritance()) {
-            return mapInheritanceEntity(entity, mapping.type());
-        }
-        ConstructorMetadata constructor = mapping.constructor();
-        if (constructor.isDefault()) {
+            result = mapInheritanceEntity(entity, mapping.type());
+        } else if (mapping.constructor().isDefault()) {
             T instance = mapping.newInstance();
-            return convertEntity(entity.columns(), mapping, instance);
+            result = convertEntity(entity.columns(), mapping, instance);
         } else {
-            return convertEntityByConstructor(entity.columns(), mapping);
+            result = convertEntityByConstructor(entity.columns(), mapping);
         }
+        event.end(entity.name(), EntityConversionEvent.TO_ENTITY);
+        return result;
     }
 
     protected ColumnFieldValue to(FieldMetadata field, Object entity) {
@@ -149,6 +169,27 @@ public abstract class ColumnEntityConverter {
     }
 
 
+    /**
+     * Converts a {@link ColumnEntity} to a projection, it reads only the columns of the projection attributes
+     * and creates the projection without creating the entity.
+     *
+     * @param projection the projection metadata
+     * @param entity     the {@link ColumnEntity} to be converted
+     * @param <T>        the projection type
+     * @return the projection instance from {@link ColumnEntity}
+     * @throws NullPointerException when either projection or entity are null
+     */
+    public <T> T toProjection(ProjectionMetadata projection, ColumnEntity entity) {
+        requireNonNull(projection, "projection is required");
+        requireNonNull(entity, "entity is required");
+        List<ProjectionMetadata.Attribute> attributes = projection.attributes();
+        Object[] values = new Object[attributes.size()];
+        for (int index = 0; index < values.length; index++) {
+            values[index] = projectionValue(projection.entity(), attributes.get(index).path(), entity.columns());
+        }
+        return projection.newInstance(values);
+    }
+
     protected <T> T toEntity(Class<T> type, List<Column> columns) {
         EntityMetadata mapping = getEntities().get(type);
         if (mapping.isInheritance()) {
@@ -163,6 +204,60 @@ public abstract class ColumnEntityConverter {
         }
     }
 
+    @SuppressWarnings("unchecked")
+    private Object projectionValue(EntityMetadata mapping, String path, List<Column> columns) {
+        int dot = path.indexOf('.');
+        String javaField = dot < 0 ? path : path.substring(0, dot);
+        FieldMetadata field = mapping.fieldMapping(javaField).orElseThrow(() -> new MappingException("There is no field "
+                + javaField + " at the entity " + mapping.type().getName()));
+        Optional<Column> column = columns.stream().filter(d -> d.name().equals(field.name())).findFirst();
+        if (dot > 0) {
+            EntityMetadata subMapping = getEntities().get(field.type());
+            String subPath = path.substring(dot + 1);
+            if (EMBEDDED.equals(field.mappingType())) {
+                return projectionValue(subMapping, subPath, columns);
+            }
+            return column.map(d -> projectionValue(subMapping, subPath, subColumns(d))).orElse(null);
+        }
+        if (EMBEDDED.equals(field.mappingType())) {
+            return toEntity(field.type(), columns);
+        } else if (ENTITY.equals(field.mappingType())) {
+            return column.map(d -> toEntity(field.type(), subColumns(d))).orElse(null);
+        } else if (MappingType.COLLECTION.equals(field.mappingType()) && ((GenericFieldMetadata) field).isEmbeddable()) {
+            return column.map(d -> {
+                GenericFieldMetadata genericField = (GenericFieldMetadata) field;
+                Collection<Object> collection = (Collection<Object>) genericField.collectionInstance();
+                for (List<Column> subColumns : (List<List<Column>>) d.get()) {
+                    collection.add(toEntity(genericField.elementType(), subColumns));
+                }
+                return collection;
+            }).orElse(null);
+        }
+        return column.map(d -> {
+            Value value = d.value();
+            if (field.converter().isPresent()) {
+                AttributeConverter<Object, Object> attributeConverter = getConverters().get(field);
+                Object attribute = value.isInstanceOf(List.class) ? d : value.get();
+                return field.value(Value.of(attributeConverter.convertToEntityAttribute(attribute)));
+            }
+            return field.value(value);
+        }).orElse(null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Column> subColumns(Column column) {
+        Object value = column.get();
+        if (value instanceof Map<?, ?> map) {
+            List<Column> columns = new ArrayList<>();
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                columns.add(Column.of(entry.getKey().toString(), entry.getValue()));
+            }
+            return columns;
+        }
+        return column.get(new TypeReference<List<Column>>() {
+        });
+    }
+
     private <T> T convertEntityByConstructor(List<Column> columns, EntityMetadata mapping) {
         ConstructorBuilder builder = ConstructorBuilder.of(mapping.constructor());
         for (ParameterMetaData parameter : builder.parameters()) {
@@ -15,11 +15,17 @@
 package org.eclipse.jnosql.mapping.column;
 
 
+import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.event.Event;
+import jakarta.enterprise.inject.spi.BeanManager;
 import jakarta.inject.Inject;
+import org.eclipse.jnosql.mapping.EntitiesPostPersist;
 import org.eclipse.jnosql.mapping.EntityPostPersist;
 import org.eclipse.jnosql.mapping.EntityPrePersist;
+import org.eclipse.jnosql.mapping.core.EntityObservers;
+
+import java.util.List;
 
 /**
  * This interface represents the manager of events. When an entity be either saved or updated an event will be fired.
@@ -39,6 +45,19 @@ public class ColumnEventPersistManager {
     @Inject
     private Event<EntityPostPersist> entityPostPersistEvent;
 
+    @Inject
+    private Event<EntitiesPostPersist> entitiesPostPersistEvent;
+
+    @Inject
+    private BeanManager beanManager;
+
+    private EntityObservers observers = EntityObservers.unresolved();
+
+    @PostConstruct
+    void init() {
+        this.observers = EntityObservers.of(beanManager);
+    }
+
     /**
      * Fire an event once the method is called
      *
@@ -46,7 +65,9 @@ public class ColumnEventPersistManager {
      * @param <T>    the entity type
      */
     public <T> void firePreEntity(T entity) {
-        entityPrePersistEvent.fire(EntityPrePersist.of(entity));
+        if (observers.isObserved(EntityPrePersist.class)) {
+            entityPrePersistEvent.fire(EntityPrePersist.of(entity));
+        }
     }
 
     /**
@@ -56,7 +77,17 @@ public class ColumnEventPersistManager {
      * @param <T>    the entity kind
      */
     public <T> void firePostEntity(T entity) {
-        entityPostPersistEvent.fire(EntityPostPersist.of(entity));
+        observers.fire(entityPostPersistEvent, EntityPostPersist.class, () -> EntityPostPersist.of(entity));
+    }
+
+    /**
+     * Fire a single event after every {@link ColumnEntity} written by a save or update call is converted to an entity.
+     *
+     * @param entities the entities
+     * @param <T>      the entity type
+     */
+    public <T> void firePostEntities(List<T> entities) {
+        observers.fire(entitiesPostPersistEvent, EntitiesPostPersist.class, () -> EntitiesPostPersist.of(entities));
     }
 
 }
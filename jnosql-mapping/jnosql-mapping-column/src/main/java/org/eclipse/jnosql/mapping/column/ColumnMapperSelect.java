@@ -16,6 +16,7 @@ package org.eclipse.jnosql.mapping.column;
 
 import jakarta.data.Direction;
 import jakarta.data.Sort;
+import org.eclipse.jnosql.communication.QueryHints;
 import org.eclipse.jnosql.communication.column.ColumnQuery;
 import org.eclipse.jnosql.mapping.core.Converters;
 import jakarta.nosql.QueryMapper.MapperFrom;
@@ -41,8 +42,19 @@ final class ColumnMapperSelect extends AbstractMapperQuery implements MapperFrom
 
     private final List<Sort> sorts = new ArrayList<>();
 
+    private final Class<?> projection;
+
+    private final QueryHints hints;
+
     ColumnMapperSelect(EntityMetadata mapping, Converters converters, JNoSQLColumnTemplate template) {
+        this(mapping, converters, template, null, QueryHints.empty());
+    }
+
+    ColumnMapperSelect(EntityMetadata mapping, Converters converters, JNoSQLColumnTemplate template,
+                       Class<?> projection, QueryHints hints) {
         super(mapping, converters, template);
+        this.projection = projection;
+        this.hints = hints;
     }
 
     @Override
@@ -155,25 +167,31 @@ final class ColumnMapperSelect extends AbstractMapperQuery implements MapperFrom
         return this;
     }
     private ColumnQuery build() {
-        return new MappingColumnQuery(sorts, limit, start, condition, columnFamily);
+        return new MappingColumnQuery(sorts, limit, start, condition, columnFamily, hints);
     }
 
     @Override
     public <T> List<T> result() {
-        ColumnQuery query = build();
-        return this.template.<T>select(query)
-                .toList();
+        return this.<T>stream().toList();
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public <T> Stream<T> stream() {
         ColumnQuery query = build();
+        if (projection != null) {
+            return (Stream<T>) this.template.select(query, projection);
+        }
         return this.template.select(query);
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public <T> Optional<T> singleResult() {
         ColumnQuery query = build();
+        if (projection != null) {
+            return (Optional<T>) this.template.singleResult(query, projection);
+        }
         return this.template.singleResult(query);
     }
 
@@ -26,10 +26,13 @@ final class ColumnPreparedStatement implements PreparedStatement {
 
     private final ColumnEntityConverter converter;
 
+    private final Runnable afterExecution;
+
     ColumnPreparedStatement(org.eclipse.jnosql.communication.column.ColumnPreparedStatement preparedStatement,
-                            ColumnEntityConverter converter) {
+                            ColumnEntityConverter converter, Runnable afterExecution) {
         this.preparedStatement = preparedStatement;
         this.converter = converter;
+        this.afterExecution = afterExecution;
     }
 
     @Override
@@ -40,12 +43,15 @@ final class ColumnPreparedStatement implements PreparedStatement {
 
     @Override
     public <T> Stream<T> result() {
-        return preparedStatement.result().map(c -> converter.toEntity(c));
+        Stream<ColumnEntity> entities = preparedStatement.result();
+        afterExecution.run();
+        return entities.map(c -> converter.toEntity(c));
     }
 
     @Override
     public <T> Optional<T> singleResult() {
         Optional<ColumnEntity> singleResult = preparedStatement.singleResult();
+        afterExecution.run();
         return singleResult.map(converter::toEntity);
     }
 }
@@ -20,6 +20,9 @@ import jakarta.inject.Inject;
 import jakarta.nosql.column.ColumnTemplate;
 import org.eclipse.jnosql.communication.column.ColumnManager;
 import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.core.cache.EntityCache;
+import org.eclipse.jnosql.mapping.core.cache.QueryCache;
+import org.eclipse.jnosql.mapping.core.coalescing.RequestCoalescer;
 import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
 
 import java.util.Objects;
@@ -65,6 +68,12 @@ public class ColumnTemplateProducer implements Function<ColumnManager, JNoSQLCol
 
         private Converters converters;
 
+        private final EntityCache cache = EntityCache.create();
+
+        private final RequestCoalescer coalescer = RequestCoalescer.create();
+
+        private final QueryCache queryCache = QueryCache.create();
+
         ProducerColumnTemplate(ColumnEntityConverter converter,
                                ColumnManager manager,
                                ColumnEventPersistManager eventManager,
@@ -104,5 +113,20 @@ public class ColumnTemplateProducer implements Function<ColumnManager, JNoSQLCol
         protected Converters getConverters() {
             return converters;
         }
+
+        @Override
+        protected EntityCache getEntityCache() {
+            return cache;
+        }
+
+        @Override
+        protected RequestCoalescer getCoalescer() {
+            return coalescer;
+        }
+
+        @Override
+        protected QueryCache getQueryCache() {
+            return queryCache;
+        }
     }
 }
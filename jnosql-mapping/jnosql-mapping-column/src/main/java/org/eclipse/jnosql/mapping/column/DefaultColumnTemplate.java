@@ -20,6 +20,9 @@ import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
 import org.eclipse.jnosql.communication.column.ColumnManager;
 import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.core.cache.EntityCache;
+import org.eclipse.jnosql.mapping.core.cache.QueryCache;
+import org.eclipse.jnosql.mapping.core.coalescing.RequestCoalescer;
 import org.eclipse.jnosql.mapping.Database;
 import org.eclipse.jnosql.mapping.DatabaseType;
 import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
@@ -42,6 +45,12 @@ class DefaultColumnTemplate extends AbstractColumnTemplate {
 
     private Converters converters;
 
+    private final EntityCache cache = EntityCache.create();
+
+    private final RequestCoalescer coalescer = RequestCoalescer.create();
+
+    private final QueryCache queryCache = QueryCache.create();
+
     @Inject
     DefaultColumnTemplate(ColumnEntityConverter converter, Instance<ColumnManager> manager,
                           ColumnEventPersistManager eventManager,
@@ -80,4 +89,19 @@ class DefaultColumnTemplate extends AbstractColumnTemplate {
     protected Converters getConverters() {
         return converters;
     }
+
+    @Override
+    protected EntityCache getEntityCache() {
+        return cache;
+    }
+
+    @Override
+    protected RequestCoalescer getCoalescer() {
+        return coalescer;
+    }
+
+    @Override
+    protected QueryCache getQueryCache() {
+        return queryCache;
+    }
 }
@@ -16,6 +16,7 @@ package org.eclipse.jnosql.mapping.column;
 
 
 import jakarta.data.Sort;
+import org.eclipse.jnosql.communication.QueryHints;
 import org.eclipse.jnosql.communication.column.ColumnCondition;
 import org.eclipse.jnosql.communication.column.ColumnQuery;
 
@@ -28,8 +29,22 @@ import static java.util.Collections.emptyList;
 /**
  * A mapping implementation of {@link ColumnQuery}
  */
-public record MappingColumnQuery(List<Sort> sorts, long limit, long skip, ColumnCondition columnCondition, String columnFamily)
-        implements ColumnQuery {
+public record MappingColumnQuery(List<Sort> sorts, long limit, long skip, ColumnCondition columnCondition, String columnFamily,
+                                 List<String> columns, QueryHints hints) implements ColumnQuery {
+
+    public MappingColumnQuery(List<Sort> sorts, long limit, long skip, ColumnCondition columnCondition, String columnFamily) {
+        this(sorts, limit, skip, columnCondition, columnFamily, emptyList());
+    }
+
+    public MappingColumnQuery(List<Sort> sorts, long limit, long skip, ColumnCondition columnCondition, String columnFamily,
+                              List<String> columns) {
+        this(sorts, limit, skip, columnCondition, columnFamily, columns, QueryHints.empty());
+    }
+
+    public MappingColumnQuery(List<Sort> sorts, long limit, long skip, ColumnCondition columnCondition, String columnFamily,
+                              QueryHints hints) {
+        this(sorts, limit, skip, columnCondition, columnFamily, emptyList(), hints);
+    }
 
 
     @Override
@@ -44,7 +59,7 @@ public record MappingColumnQuery(List<Sort> sorts, long limit, long skip, Column
 
     @Override
     public List<String> columns() {
-        return emptyList();
+        return Collections.unmodifiableList(columns);
     }
 
     @Override
@@ -19,6 +19,8 @@ import org.eclipse.jnosql.communication.Settings;
 import org.eclipse.jnosql.communication.column.ColumnConfiguration;
 import org.eclipse.jnosql.communication.column.ColumnManager;
 import org.eclipse.jnosql.communication.column.ColumnManagerFactory;
+import org.eclipse.jnosql.communication.column.InstrumentedColumnManager;
+import org.eclipse.jnosql.mapping.core.MappingInstrumentation;
 import org.eclipse.jnosql.mapping.core.config.MicroProfileSettings;
 import org.eclipse.jnosql.mapping.reflection.Reflections;
 
@@ -61,7 +63,7 @@ class ColumnManagerSupplier implements Supplier<ColumnManager> {
 
         LOGGER.log(Level.FINEST, "Starting  a ColumnManager instance using Eclipse MicroProfile Config," +
                 " database name: " + db);
-        return manager;
+        return InstrumentedColumnManager.of(manager, MappingInstrumentation.get(), "");
     }
 
     public void close(@Disposes ColumnManager manager) {
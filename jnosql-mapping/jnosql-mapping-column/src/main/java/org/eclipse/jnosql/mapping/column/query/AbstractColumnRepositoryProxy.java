@@ -16,6 +16,7 @@ package org.eclipse.jnosql.mapping.column.query;
 
 import org.eclipse.jnosql.communication.column.ColumnDeleteQuery;
 import org.eclipse.jnosql.communication.column.ColumnQuery;
+import org.eclipse.jnosql.mapping.core.MappingExecutor;
 import org.eclipse.jnosql.mapping.core.repository.DynamicQueryMethodReturn;
 import org.eclipse.jnosql.mapping.core.repository.RepositoryReflectionUtils;
 
@@ -38,7 +39,8 @@ public abstract class AbstractColumnRepositoryProxy<T, K> extends BaseColumnRepo
                 .withMethod(method)
                 .withTypeClass(type)
                 .withPrepareConverter(q -> template().prepare(q))
-                .withQueryConverter(q -> template().query(q)).build();
+                .withQueryConverter(q -> template().query(q))
+                .withExecutor(MappingExecutor.get().database(database())).build();
         return methodReturn.execute();
     }
 
@@ -53,7 +55,7 @@ public abstract class AbstractColumnRepositoryProxy<T, K> extends BaseColumnRepo
     protected Object executeFindAll(Object instance, Method method, Object[] params) {
         Class<?> type = entityMetadata().type();
         var query = ColumnQuery.select().from(entityMetadata().name()).build();
-        return executeFindByQuery(method, params, type, updateQueryDynamically(params, query));
+        return executeFindByQuery(method, params, type, updateQueryDynamically(params, includeHints(method, query)));
     }
 
     @Override
@@ -77,7 +79,7 @@ public abstract class AbstractColumnRepositoryProxy<T, K> extends BaseColumnRepo
         Class<?> type = entityMetadata().type();
         Map<String, Object> parameters = RepositoryReflectionUtils.INSTANCE.getBy(method, params);
         var query = ColumnParameterBasedQuery.INSTANCE.toQuery(parameters, entityMetadata());
-        return executeFindByQuery(method, params, type, updateQueryDynamically(params, query));
+        return executeFindByQuery(method, params, type, updateQueryDynamically(params, includeHints(method, query)));
     }
 
 }
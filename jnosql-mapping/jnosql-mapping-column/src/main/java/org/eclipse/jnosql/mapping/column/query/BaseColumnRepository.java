@@ -17,9 +17,12 @@ package org.eclipse.jnosql.mapping.column.query;
 
 import jakarta.data.Limit;
 import jakarta.data.Sort;
+import jakarta.data.exceptions.MappingException;
+import jakarta.data.page.KeysetAwareSlice;
 import jakarta.data.page.Page;
 import jakarta.data.page.Pageable;
 import org.eclipse.jnosql.communication.Params;
+import org.eclipse.jnosql.communication.QueryHints;
 import org.eclipse.jnosql.communication.column.Column;
 import org.eclipse.jnosql.communication.column.ColumnCondition;
 import org.eclipse.jnosql.communication.column.ColumnDeleteQuery;
@@ -35,21 +38,32 @@ import org.eclipse.jnosql.communication.query.method.DeleteMethodProvider;
 import org.eclipse.jnosql.communication.query.method.SelectMethodProvider;
 import org.eclipse.jnosql.mapping.column.MappingColumnQuery;
 import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.core.Keyset;
+import org.eclipse.jnosql.mapping.core.KeysetCondition;
 import org.eclipse.jnosql.mapping.core.NoSQLPage;
+import org.eclipse.jnosql.mapping.core.PageTotalPolicy;
+import org.eclipse.jnosql.mapping.core.MappingExecutor;
+import org.eclipse.jnosql.mapping.core.PageTotals;
+import org.eclipse.jnosql.mapping.core.ProjectionMetadata;
 import org.eclipse.jnosql.mapping.column.JNoSQLColumnTemplate;
 import org.eclipse.jnosql.mapping.core.query.AbstractRepositoryProxy;
 import org.eclipse.jnosql.mapping.core.repository.SpecialParameters;
 import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+import org.eclipse.jnosql.mapping.QueryHint;
 import org.eclipse.jnosql.mapping.core.repository.DynamicReturn;
+import org.eclipse.jnosql.mapping.core.repository.RepositoryReflectionUtils;
 import org.eclipse.jnosql.mapping.core.util.ParamsBinder;
 import org.eclipse.jnosql.mapping.metadata.InheritanceMetadata;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 /**
@@ -61,6 +75,10 @@ import java.util.stream.Stream;
  */
 public abstract class BaseColumnRepository<T, K> extends AbstractRepositoryProxy<T, K> {
 
+    private static final KeysetCondition<ColumnCondition> KEYSET_CONDITION = KeysetCondition.of(ColumnCondition::eq,
+            ColumnCondition::gt, ColumnCondition::lt, c -> ColumnCondition.and(c.toArray(ColumnCondition[]::new)),
+            c -> ColumnCondition.or(c.toArray(ColumnCondition[]::new)));
+
     private static final SelectQueryParser SELECT_PARSER = new SelectQueryParser();
 
     private static final DeleteQueryParser DELETE_PARSER = new DeleteQueryParser();
@@ -87,9 +105,23 @@ public abstract class BaseColumnRepository<T, K> extends AbstractRepositoryProxy
      */
     protected abstract JNoSQLColumnTemplate template();
 
-    private ColumnObserverParser parser;
+    /**
+     * Returns the database of this repository, that keys its bulkhead at {@link MappingExecutor#database(Object)}.
+     * By default it is the template.
+     *
+     * @return the database of this repository
+     */
+    protected Object database() {
+        return template();
+    }
+
+    private final AtomicReference<ColumnObserverParser> parser = new AtomicReference<>();
 
-    private ParamsBinder paramsBinder;
+    private final AtomicReference<ParamsBinder> paramsBinder = new AtomicReference<>();
+
+    private final AtomicReference<PageTotals> pageTotals = new AtomicReference<>();
+
+    private final Map<Method, QueryHints> hints = new ConcurrentHashMap<>();
 
 
     protected ColumnQuery query(Method method, Object[] args) {
@@ -99,7 +131,23 @@ public abstract class BaseColumnRepository<T, K> extends AbstractRepositoryProxy
         ColumnQuery query = queryParams.query();
         Params params = queryParams.params();
         paramsBinder().bind(params, args(args), method);
-        return updateQueryDynamically(args(args), query);
+        return updateQueryDynamically(args(args), includeHints(method, query));
+    }
+
+    /**
+     * Adds the hints of the {@link QueryHint} annotations at the method to the query, the annotations are read once per method
+     *
+     * @param method the repository method
+     * @param query  the query
+     * @return the query with the hints of the method
+     */
+    protected ColumnQuery includeHints(Method method, ColumnQuery query) {
+        QueryHints hints = this.hints.computeIfAbsent(method, RepositoryReflectionUtils.INSTANCE::getHints);
+        if (hints.isEmpty()) {
+            return query;
+        }
+        return new MappingColumnQuery(query.sorts(), query.limit(), query.skip(), query.condition().orElse(null),
+                query.name(), query.columns(), query.hints().with(hints));
     }
 
     private static Object[] args(Object[] args) {
@@ -123,10 +171,12 @@ public abstract class BaseColumnRepository<T, K> extends AbstractRepositoryProxy
      */
 
     protected ColumnObserverParser parser() {
-        if (parser == null) {
-            this.parser = new RepositoryColumnObserverParser(entityMetadata());
+        ColumnObserverParser value = this.parser.get();
+        if (value == null) {
+            this.parser.compareAndSet(null, new RepositoryColumnObserverParser(entityMetadata()));
+            value = this.parser.get();
         }
-        return parser;
+        return value;
     }
 
     /**
@@ -135,13 +185,19 @@ public abstract class BaseColumnRepository<T, K> extends AbstractRepositoryProxy
      * @return The ParamsBinder instance.
      */
     protected ParamsBinder paramsBinder() {
-        if (Objects.isNull(paramsBinder)) {
-            this.paramsBinder = new ParamsBinder(entityMetadata(), converters());
+        ParamsBinder value = this.paramsBinder.get();
+        if (value == null) {
+            this.paramsBinder.compareAndSet(null, new ParamsBinder(entityMetadata(), converters()));
+            value = this.paramsBinder.get();
         }
-        return paramsBinder;
+        return value;
     }
 
     protected Object executeFindByQuery(Method method, Object[] args, Class<?> typeClass, ColumnQuery query) {
+        Optional<Class<?>> projection = ProjectionMetadata.projection(method, entityMetadata());
+        if (projection.isPresent()) {
+            return executeProjectionQuery(method, args, projection.get(), query);
+        }
         DynamicReturn<?> dynamicReturn = DynamicReturn.builder()
                 .withClassSource(typeClass)
                 .withMethodSource(method)
@@ -150,11 +206,21 @@ public abstract class BaseColumnRepository<T, K> extends AbstractRepositoryProxy
                 .withPagination(DynamicReturn.findPageable(args))
                 .withStreamPagination(streamPagination(query))
                 .withSingleResultPagination(getSingleResult(query))
-                .withPage(getPage(query))
+                .withPage(isKeyset(method) ? keysetPage(query) : getPage(query))
+                .withExecutor(MappingExecutor.get().database(database()))
                 .build();
         return dynamicReturn.execute();
     }
 
+    private ColumnQuery keysetQuery(Pageable pageable, Keyset keyset, ColumnQuery query) {
+        ColumnCondition condition = KEYSET_CONDITION.condition(keyset, pageable, query.condition().orElse(null));
+        return new MappingColumnQuery(keyset.sorts(pageable), pageable.size(), 0, condition, query.name(), query.hints());
+    }
+
+    private static boolean isKeyset(Method method) {
+        return method != null && KeysetAwareSlice.class.isAssignableFrom(method.getReturnType());
+    }
+
     private ColumnQuery includeInheritance(ColumnQuery query){
         EntityMetadata metadata = this.entityMetadata();
         if(metadata.inheritance().isPresent()){
@@ -167,7 +233,7 @@ public abstract class BaseColumnRepository<T, K> extends AbstractRepositoryProxy
                     condition = condition.and(columnCondition);
                 }
                 return new MappingColumnQuery(query.sorts(), query.limit(), query.skip(),
-                        condition, query.name());
+                        condition, query.name(), query.hints());
             }
         }
         return query;
@@ -183,10 +249,85 @@ public abstract class BaseColumnRepository<T, K> extends AbstractRepositoryProxy
 
 
 
+    /**
+     * Executes the query of a method that returns a {@link org.eclipse.jnosql.mapping.Projection}, it fetches only
+     * the columns of the projection instead of the entity.
+     *
+     * @param method     the repository method
+     * @param args       the method arguments
+     * @param projection the projection type
+     * @param query      the query
+     * @param <P>        the projection type
+     * @return the method result
+     * @throws MappingException when the method uses keyset pagination, which reads the cursor from the entity
+     */
+    protected <P> Object executeProjectionQuery(Method method, Object[] args, Class<P> projection, ColumnQuery query) {
+        if (isKeyset(method)) {
+            throw new MappingException("The keyset pagination does not support the projection " + projection.getName()
+                    + " at the method " + method.getName());
+        }
+        Function<Pageable, Page<P>> page = p -> offsetPage(query, p, () -> template().select(query, projection).toList());
+        Function<Pageable, Stream<P>> streamPagination = p -> template().select(query, projection);
+        Function<Pageable, Optional<P>> singleResultPagination = p -> template().singleResult(query, projection);
+        DynamicReturn<?> dynamicReturn = DynamicReturn.builder()
+                .withClassSource(projection)
+                .withMethodSource(method)
+                .withResult(() -> template().select(query, projection))
+                .withSingleResult(() -> template().singleResult(query, projection))
+                .withPagination(DynamicReturn.findPageable(args))
+                .withStreamPagination(streamPagination)
+                .withSingleResultPagination(singleResultPagination)
+                .withPage(page)
+                .withExecutor(MappingExecutor.get().database(database()))
+                .build();
+        return dynamicReturn.execute();
+    }
+
     protected Function<Pageable, Page<T>> getPage(ColumnQuery query) {
         return p -> {
-            Stream<T> entities = template().select(query);
-            return NoSQLPage.of(entities.toList(), p);
+            if (p.mode() != Pageable.Mode.OFFSET) {
+                return keysetPage(query).apply(p);
+            }
+            return offsetPage(query, p, () -> template().<T>select(query).toList());
+        };
+    }
+
+    private <R> Page<R> offsetPage(ColumnQuery query, Pageable pageable, Supplier<List<R>> select) {
+        ColumnQuery countQuery = new MappingColumnQuery(List.of(), 0, 0, query.condition().orElse(null), query.name(), query.hints());
+        return pageTotals().page(countQuery, pageable, select, () -> template().count(countQuery));
+    }
+
+    /**
+     * Returns how the pages compute their totals, by default from the {@link PageTotalPolicy#get()} property
+     *
+     * @return the {@link PageTotals} of this repository
+     */
+    protected PageTotals pageTotals() {
+        PageTotals value = this.pageTotals.get();
+        if (value == null) {
+            this.pageTotals.compareAndSet(null, PageTotals.of(PageTotalPolicy.get(), MappingExecutor.get().implicit(database())));
+            value = this.pageTotals.get();
+        }
+        return value;
+    }
+
+    /**
+     * Reads the page with the cursor of each entity, so the next page starts right after the last entity instead of
+     * skipping the previous ones. On the first page, {@link Pageable.Mode#OFFSET}, the id is added to the sorts as tiebreaker.
+     *
+     * @param query the query already updated by {@link BaseColumnRepository#updateQueryDynamically(Object[], ColumnQuery)}
+     * @return the page function
+     */
+    protected Function<Pageable, Page<T>> keysetPage(ColumnQuery query) {
+        return p -> {
+            Keyset keyset = Keyset.of(entityMetadata(), query.sorts(), converters());
+            ColumnQuery keysetQuery = query;
+            if (p.mode() == Pageable.Mode.OFFSET) {
+                keysetQuery = new MappingColumnQuery(keyset.sorts(), query.limit(), query.skip(),
+                        query.condition().orElse(null), query.name(), query.hints());
+            }
+            List<T> entities = template().<T>select(keysetQuery).toList();
+            return keyset.page(entities, p);
         };
     }
 
@@ -217,7 +358,7 @@ public abstract class BaseColumnRepository<T, K> extends AbstractRepositoryProxy
             return new MappingColumnQuery(sorts, max,
                     skip,
                     documentQuery.condition().orElse(null),
-                    documentQuery.name());
+                    documentQuery.name(), documentQuery.hints());
         }
 
         if (limit.isPresent()) {
@@ -226,7 +367,7 @@ public abstract class BaseColumnRepository<T, K> extends AbstractRepositoryProxy
             return new MappingColumnQuery(documentQuery.sorts(), max,
                     skip,
                     documentQuery.condition().orElse(null),
-                    documentQuery.name());
+                    documentQuery.name(), documentQuery.hints());
         }
 
         return special.pageable().<ColumnQuery>map(p -> {
@@ -237,8 +378,11 @@ public abstract class BaseColumnRepository<T, K> extends AbstractRepositoryProxy
                 sorts = new ArrayList<>(documentQuery.sorts());
                 sorts.addAll(special.sorts());
             }
+            if (p.mode() != Pageable.Mode.OFFSET) {
+                return keysetQuery(p, Keyset.of(entityMetadata(), sorts, converters()), documentQuery);
+            }
             return new MappingColumnQuery(sorts, size, skip,
-                    documentQuery.condition().orElse(null), documentQuery.name());
+                    documentQuery.condition().orElse(null), documentQuery.name(), documentQuery.hints());
         }).orElse(documentQuery);
     }
 
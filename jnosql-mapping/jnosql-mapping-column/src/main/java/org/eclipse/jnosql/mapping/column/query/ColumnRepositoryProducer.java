@@ -21,11 +21,11 @@ import org.eclipse.jnosql.mapping.core.Converters;
 import org.eclipse.jnosql.mapping.column.ColumnTemplateProducer;
 import org.eclipse.jnosql.mapping.column.JNoSQLColumnTemplate;
 import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.core.query.GeneratedRepository;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
-import java.lang.reflect.Proxy;
 import java.util.Objects;
 
 /**
@@ -58,7 +58,7 @@ public class ColumnRepositoryProducer {
         Objects.requireNonNull(repositoryClass, "repository class is required");
         Objects.requireNonNull(manager, "manager class is required");
         JNoSQLColumnTemplate template = producer.apply(manager);
-        return get(repositoryClass, template);
+        return get(repositoryClass, template, manager);
     }
 
     /**
@@ -75,11 +75,13 @@ public class ColumnRepositoryProducer {
     public <T, K, R extends PageableRepository<T, K>> R get(Class<R> repositoryClass, JNoSQLColumnTemplate template) {
         Objects.requireNonNull(repositoryClass, "repository class is required");
         Objects.requireNonNull(template, "template class is required");
+        return get(repositoryClass, template, template);
+    }
 
+    private <T, K, R extends PageableRepository<T, K>> R get(Class<R> repositoryClass, JNoSQLColumnTemplate template,
+                                                               Object database) {
         ColumnRepositoryProxy<T, K> handler = new ColumnRepositoryProxy<>(template,
-                entities, repositoryClass, converters);
-        return (R) Proxy.newProxyInstance(repositoryClass.getClassLoader(),
-                new Class[]{repositoryClass},
-                handler);
+                entities, repositoryClass, converters, database);
+        return GeneratedRepository.create(repositoryClass, handler);
     }
 }
@@ -43,16 +43,24 @@ public class ColumnRepositoryProxy<T, K> extends AbstractColumnRepositoryProxy<T
 
     private final Class<?> repositoryType;
 
+    private final Object database;
+
 
     ColumnRepositoryProxy(JNoSQLColumnTemplate template, EntitiesMetadata entities, Class<?> repositoryType,
                           Converters converters) {
+        this(template, entities, repositoryType, converters, template);
+    }
+
+    ColumnRepositoryProxy(JNoSQLColumnTemplate template, EntitiesMetadata entities, Class<?> repositoryType,
+                          Converters converters, Object database) {
         this.template = template;
         Class<T> typeClass = (Class) ((ParameterizedType) repositoryType.getGenericInterfaces()[0])
                 .getActualTypeArguments()[0];
         this.entityMetadata = entities.get(typeClass);
-        this.repository = new ColumnRepository<>(template, entityMetadata);
+        this.repository = new ColumnRepository<>(template, entityMetadata, database);
         this.converters = converters;
         this.repositoryType =  repositoryType;
+        this.database = database;
     }
 
     @Override
@@ -65,6 +73,11 @@ public class ColumnRepositoryProxy<T, K> extends AbstractColumnRepositoryProxy<T
         return entityMetadata;
     }
 
+    @Override
+    protected Object database() {
+        return database;
+    }
+
     @Override
     protected JNoSQLColumnTemplate template() {
         return template;
@@ -93,9 +106,12 @@ public class ColumnRepositoryProxy<T, K> extends AbstractColumnRepositoryProxy<T
 
         private final EntityMetadata entityMetadata;
 
-        ColumnRepository(JNoSQLColumnTemplate template, EntityMetadata entityMetadata) {
+        private final Object database;
+
+        ColumnRepository(JNoSQLColumnTemplate template, EntityMetadata entityMetadata, Object database) {
             this.template = template;
             this.entityMetadata = entityMetadata;
+            this.database = database;
         }
 
         @Override
@@ -108,6 +124,11 @@ public class ColumnRepositoryProxy<T, K> extends AbstractColumnRepositoryProxy<T
             return entityMetadata;
         }
 
+        @Override
+        protected Object database() {
+            return database;
+        }
+
         /**
          * Creates a new instance of ColumnRepository.
          *
@@ -121,7 +142,7 @@ public class ColumnRepositoryProxy<T, K> extends AbstractColumnRepositoryProxy<T
         public static <T, K> ColumnRepository<T, K> of(JNoSQLColumnTemplate template, EntityMetadata metadata) {
             Objects.requireNonNull(template,"template is required");
             Objects.requireNonNull(metadata,"metadata is required");
-            return new ColumnRepository<>(template, metadata);
+            return new ColumnRepository<>(template, metadata, template);
         }
     }
 }
@@ -56,7 +56,7 @@ public class DynamicQuery implements Supplier<ColumnQuery> {
             return new MappingColumnQuery(sorts, max,
                     skip,
                     query.condition().orElse(null),
-                    query.name());
+                    query.name(), query.hints());
         }
 
         if (limit.isPresent()) {
@@ -70,7 +70,7 @@ public class DynamicQuery implements Supplier<ColumnQuery> {
             return new MappingColumnQuery(sorts, max,
                     skip,
                     query.condition().orElse(null),
-                    query.name());
+                    query.name(), query.hints());
         }
 
         return special.pageable().<ColumnQuery>map(p -> {
@@ -82,7 +82,7 @@ public class DynamicQuery implements Supplier<ColumnQuery> {
                 sorts.addAll(special.sorts());
             }
             return new MappingColumnQuery(sorts, size, skip,
-                    query.condition().orElse(null), query.name());
+                    query.condition().orElse(null), query.name(), query.hints());
         }).orElse(query);
     }
 
@@ -23,9 +23,9 @@ import org.eclipse.jnosql.mapping.column.JNoSQLColumnTemplate;
 import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
 import org.eclipse.jnosql.mapping.core.spi.AbstractBean;
 import org.eclipse.jnosql.mapping.core.util.AnnotationLiteralUtil;
+import org.eclipse.jnosql.mapping.core.query.GeneratedRepository;
 
 import java.lang.annotation.Annotation;
-import java.lang.reflect.Proxy;
 import java.lang.reflect.Type;
 import java.util.Collections;
 import java.util.HashSet;
@@ -44,6 +44,8 @@ public class RepositoryColumnBean<T extends DataRepository<?, ?>> extends Abstra
 
     private final Set<Annotation> qualifiers;
 
+    private final DatabaseQualifier qualifier;
+
     /**
      * Constructor
      *
@@ -55,13 +57,14 @@ public class RepositoryColumnBean<T extends DataRepository<?, ?>> extends Abstra
         this.type = (Class<T>) type;
         this.types = Collections.singleton(type);
         this.provider = provider;
+        this.qualifier = provider.isEmpty() ? DatabaseQualifier.ofColumn() : DatabaseQualifier.ofColumn(provider);
         if (provider.isEmpty()) {
             this.qualifiers = new HashSet<>();
-            qualifiers.add(DatabaseQualifier.ofColumn());
+            qualifiers.add(qualifier);
             qualifiers.add(AnnotationLiteralUtil.DEFAULT_ANNOTATION);
             qualifiers.add(AnnotationLiteralUtil.ANY_ANNOTATION);
         } else {
-            this.qualifiers = Collections.singleton(DatabaseQualifier.ofColumn(provider));
+            this.qualifiers = Collections.singleton(qualifier);
         }
     }
 
@@ -74,14 +77,12 @@ public class RepositoryColumnBean<T extends DataRepository<?, ?>> extends Abstra
     public T create(CreationalContext<T> creationalContext) {
         EntitiesMetadata entities = getInstance(EntitiesMetadata.class);
         JNoSQLColumnTemplate template = provider.isEmpty() ? getInstance(JNoSQLColumnTemplate.class) :
-                getInstance(JNoSQLColumnTemplate.class, DatabaseQualifier.ofColumn(provider));
+                getInstance(JNoSQLColumnTemplate.class, qualifier);
         Converters converters = getInstance(Converters.class);
 
         ColumnRepositoryProxy handler = new ColumnRepositoryProxy(template,
-                entities, type, converters);
-        return (T) Proxy.newProxyInstance(type.getClassLoader(),
-                new Class[]{type},
-                handler);
+                entities, type, converters, qualifier);
+        return GeneratedRepository.create(type, handler);
     }
 
     @Override
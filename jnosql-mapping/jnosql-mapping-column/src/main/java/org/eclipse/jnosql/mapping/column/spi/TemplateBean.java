@@ -18,10 +18,12 @@ package org.eclipse.jnosql.mapping.column.spi;
 import jakarta.enterprise.context.spi.CreationalContext;
 import jakarta.nosql.column.ColumnTemplate;
 import org.eclipse.jnosql.communication.column.ColumnManager;
+import org.eclipse.jnosql.communication.column.InstrumentedColumnManager;
 import org.eclipse.jnosql.mapping.DatabaseQualifier;
 import org.eclipse.jnosql.mapping.DatabaseType;
 import org.eclipse.jnosql.mapping.column.ColumnTemplateProducer;
 import org.eclipse.jnosql.mapping.column.JNoSQLColumnTemplate;
+import org.eclipse.jnosql.mapping.core.MappingInstrumentation;
 import org.eclipse.jnosql.mapping.core.spi.AbstractBean;
 
 import java.lang.annotation.Annotation;
@@ -61,7 +63,8 @@ class TemplateBean extends AbstractBean<JNoSQLColumnTemplate> {
     }
 
     private ColumnManager getColumnManager() {
-        return getInstance(ColumnManager.class, DatabaseQualifier.ofColumn(provider));
+        ColumnManager manager = getInstance(ColumnManager.class, DatabaseQualifier.ofColumn(provider));
+        return InstrumentedColumnManager.of(manager, MappingInstrumentation.get(), provider);
     }
 
     @Override
@@ -20,7 +20,9 @@ import org.eclipse.jnosql.communication.TypeReference;
 import org.eclipse.jnosql.communication.Value;
 import org.eclipse.jnosql.communication.column.Column;
 import org.eclipse.jnosql.communication.column.ColumnEntity;
+import org.eclipse.jnosql.mapping.Select;
 import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.core.ProjectionMetadata;
 import org.eclipse.jnosql.mapping.column.entities.Actor;
 import org.eclipse.jnosql.mapping.column.entities.Address;
 import org.eclipse.jnosql.mapping.column.entities.AppointmentBook;
@@ -34,12 +36,14 @@ import org.eclipse.jnosql.mapping.column.entities.MainStepType;
 import org.eclipse.jnosql.mapping.column.entities.Money;
 import org.eclipse.jnosql.mapping.column.entities.Movie;
 import org.eclipse.jnosql.mapping.column.entities.Person;
+import org.eclipse.jnosql.mapping.column.entities.PersonSummary;
 import org.eclipse.jnosql.mapping.column.entities.Transition;
 import org.eclipse.jnosql.mapping.column.entities.Vendor;
 import org.eclipse.jnosql.mapping.column.entities.Worker;
 import org.eclipse.jnosql.mapping.column.entities.WorkflowStep;
 import org.eclipse.jnosql.mapping.column.entities.ZipCode;
 import org.eclipse.jnosql.mapping.column.spi.ColumnExtension;
+import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
 import org.eclipse.jnosql.mapping.reflection.Reflections;
 import org.eclipse.jnosql.mapping.core.spi.EntityMetadataExtension;
 import org.jboss.weld.junit5.auto.AddExtensions;
@@ -76,6 +80,9 @@ class ColumnEntityConverterTest {
     @Inject
     private DefaultColumnEntityConverter converter;
 
+    @Inject
+    private EntitiesMetadata entities;
+
     private Column[] columns;
 
     private final Actor actor = Actor.actorBuilder().withAge()
@@ -596,8 +603,60 @@ class ColumnEntityConverterTest {
     }
 
 
+    @Test
+    void shouldConvertToProjection() {
+        ColumnEntity entity = ColumnEntity.of("Person");
+        entity.add("name", "Ada");
+        entity.add("age", "10");
+        ProjectionMetadata projection = ProjectionMetadata.of(PersonSummary.class, entities.get(Person.class));
+
+        PersonSummary summary = converter.toProjection(projection, entity);
+
+        assertThat(summary).isEqualTo(new PersonSummary("Ada", 10));
+    }
+
+    @Test
+    void shouldConvertToProjectionWithEmbeddedAndConverter() {
+        ColumnEntity entity = ColumnEntity.of("Worker");
+        entity.add("name", "Bob");
+        entity.add("city", "Sao Paulo");
+        entity.add("money", "BRL 10");
+        ProjectionMetadata projection = ProjectionMetadata.of(WorkerSalary.class, entities.get(Worker.class));
+
+        WorkerSalary salary = converter.toProjection(projection, entity);
+
+        assertThat(salary).isEqualTo(new WorkerSalary("Bob", "Sao Paulo", new Money("BRL", BigDecimal.TEN)));
+    }
+
+    @Test
+    void shouldConvertToProjectionFromSubEntity() {
+        ColumnEntity entity = ColumnEntity.of("Address");
+        entity.add(Column.of("city", "Salvador"));
+        entity.add(Column.of("zipCode", Arrays.asList(Column.of("zip", "12321"))));
+        ProjectionMetadata projection = ProjectionMetadata.of(AddressZip.class, entities.get(Address.class));
+
+        AddressZip zip = converter.toProjection(projection, entity);
+
+        assertThat(zip).isEqualTo(new AddressZip("Salvador", "12321"));
+    }
+
+    @Test
+    void shouldConvertToProjectionWhenColumnIsMissing() {
+        ColumnEntity entity = ColumnEntity.of("Address");
+        ProjectionMetadata projection = ProjectionMetadata.of(AddressZip.class, entities.get(Address.class));
+
+        AddressZip zip = converter.toProjection(projection, entity);
+
+        assertThat(zip).isEqualTo(new AddressZip(null, null));
+    }
+
     private Object getValue(Optional<Column> column) {
         return column.map(Column::value).map(Value::get).orElse(null);
     }
 
+    record WorkerSalary(String name, @Select("job.city") String city, Money salary) {
+    }
+
+    record AddressZip(String city, @Select("zipCode.zip") String zip) {
+    }
 }
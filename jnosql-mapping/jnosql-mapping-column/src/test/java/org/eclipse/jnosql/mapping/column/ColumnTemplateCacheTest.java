@@ -0,0 +1,249 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.column;
+
+import jakarta.data.exceptions.NonUniqueResultException;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import org.eclipse.jnosql.communication.column.Column;
+import org.eclipse.jnosql.communication.column.ColumnDeleteQuery;
+import org.eclipse.jnosql.communication.column.ColumnEntity;
+import org.eclipse.jnosql.communication.column.ColumnManager;
+import org.eclipse.jnosql.communication.column.ColumnQuery;
+import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.core.cache.EntityCacheStatistics;
+import org.eclipse.jnosql.mapping.core.spi.EntityMetadataExtension;
+import org.eclipse.jnosql.mapping.column.entities.Country;
+import org.eclipse.jnosql.mapping.column.entities.Currency;
+import org.eclipse.jnosql.mapping.column.entities.Person;
+import org.eclipse.jnosql.mapping.column.spi.ColumnExtension;
+import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.reflection.Reflections;
+import org.jboss.weld.junit5.auto.AddExtensions;
+import org.jboss.weld.junit5.auto.AddPackages;
+import org.jboss.weld.junit5.auto.EnableAutoWeld;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@EnableAutoWeld
+@AddPackages(value = {Converters.class, ColumnEntityConverter.class})
+@AddPackages(MockProducer.class)
+@AddPackages(Reflections.class)
+@AddExtensions({EntityMetadataExtension.class, ColumnExtension.class})
+class ColumnTemplateCacheTest {
+
+    @Inject
+    private ColumnEntityConverter converter;
+
+    @Inject
+    private EntitiesMetadata entities;
+
+    @Inject
+    private Converters converters;
+
+    private ColumnManager manager;
+
+    private ColumnEventPersistManager eventManager;
+
+    private DefaultColumnTemplate template;
+
+    @BeforeEach
+    void setUp() {
+        manager = Mockito.mock(ColumnManager.class);
+        eventManager = Mockito.mock(ColumnEventPersistManager.class);
+        Instance<ColumnManager> instance = Mockito.mock(Instance.class);
+        when(instance.get()).thenReturn(manager);
+        this.template = new DefaultColumnTemplate(converter, instance, eventManager, entities, converters);
+    }
+
+    @Test
+    void shouldFindFromCache() {
+        when(manager.select(any(ColumnQuery.class))).thenAnswer(i -> Stream.of(brazil()));
+
+        Optional<Country> first = template.find(Country.class, "BR");
+        Optional<Country> second = template.find(Country.class, "BR");
+
+        assertSoftly(softly -> {
+            softly.assertThat(first).get().extracting(Country::getName).isEqualTo("Brazil");
+            softly.assertThat(second).get().extracting(Country::getName).isEqualTo("Brazil");
+            softly.assertThat(first.orElseThrow()).isNotSameAs(second.orElseThrow());
+        });
+        verify(manager, times(1)).select(any(ColumnQuery.class));
+        verify(eventManager, times(2)).firePostEntity(any(Country.class));
+        EntityCacheStatistics statistics = template.cache().statistics().get("Country");
+        assertThat(statistics.hits()).isEqualTo(1L);
+        assertThat(statistics.misses()).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldNotShareMutableEntity() {
+        when(manager.select(any(ColumnQuery.class))).thenAnswer(i -> Stream.of(brazil()));
+
+        template.find(Country.class, "BR").orElseThrow().setName("changed");
+
+        assertThat(template.find(Country.class, "BR")).get().extracting(Country::getName).isEqualTo("Brazil");
+    }
+
+    @Test
+    void shouldShareImmutableEntity() {
+        ColumnEntity entity = ColumnEntity.of("Currency", List.of(Column.of("_id", "BRL"),
+                Column.of("symbol", "R$")));
+        when(manager.select(any(ColumnQuery.class))).thenAnswer(i -> Stream.of(entity));
+
+        Currency first = template.find(Currency.class, "BRL").orElseThrow();
+        Currency second = template.find(Currency.class, "BRL").orElseThrow();
+
+        assertThat(first).isSameAs(second).isEqualTo(new Currency("BRL", "R$"));
+        verify(manager, times(1)).select(any(ColumnQuery.class));
+    }
+
+    @Test
+    void shouldNotCacheEntityWithoutCacheable() {
+        ColumnEntity entity = ColumnEntity.of("Person", List.of(Column.of("_id", 10L),
+                Column.of("name", "Ada")));
+        when(manager.select(any(ColumnQuery.class))).thenAnswer(i -> Stream.of(entity));
+
+        template.find(Person.class, 10L);
+        template.find(Person.class, 10L);
+
+        verify(manager, times(2)).select(any(ColumnQuery.class));
+        assertThat(template.cache().statistics()).isEmpty();
+    }
+
+    @Test
+    void shouldNotCacheWhenNotFound() {
+        when(manager.select(any(ColumnQuery.class))).thenAnswer(i -> Stream.empty());
+
+        assertThat(template.find(Country.class, "BR")).isEmpty();
+        assertThat(template.find(Country.class, "BR")).isEmpty();
+
+        verify(manager, times(2)).select(any(ColumnQuery.class));
+    }
+
+    @Test
+    void shouldReturnErrorWhenThereIsNoUniqueResult() {
+        when(manager.select(any(ColumnQuery.class))).thenAnswer(i -> Stream.of(brazil(), brazil()));
+
+        assertThatThrownBy(() -> template.find(Country.class, "BR")).isInstanceOf(NonUniqueResultException.class);
+    }
+
+    @Test
+    void shouldEvictOnUpdate() {
+        when(manager.select(any(ColumnQuery.class))).thenAnswer(i -> Stream.of(brazil()));
+        when(manager.update(any(ColumnEntity.class))).thenAnswer(i -> i.getArgument(0));
+        template.find(Country.class, "BR");
+
+        template.update(new Country("BR", "Brasil"));
+        template.find(Country.class, "BR");
+
+        verify(manager, times(2)).select(any(ColumnQuery.class));
+    }
+
+    @Test
+    void shouldEvictOnInsert() {
+        when(manager.select(any(ColumnQuery.class))).thenAnswer(i -> Stream.of(brazil()));
+        when(manager.insert(any(ColumnEntity.class))).thenAnswer(i -> i.getArgument(0));
+        template.find(Country.class, "BR");
+
+        template.insert(new Country("BR", "Brasil"));
+        template.find(Country.class, "BR");
+
+        verify(manager, times(2)).select(any(ColumnQuery.class));
+    }
+
+    @Test
+    void shouldEvictOnDeleteById() {
+        when(manager.select(any(ColumnQuery.class))).thenAnswer(i -> Stream.of(brazil()));
+        template.find(Country.class, "BR");
+
+        template.delete(Country.class, "BR");
+        template.find(Country.class, "BR");
+
+        verify(manager).delete(any(ColumnDeleteQuery.class));
+        verify(manager, times(2)).select(any(ColumnQuery.class));
+    }
+
+    @Test
+    void shouldEvictAllOnDeleteQuery() {
+        when(manager.select(any(ColumnQuery.class))).thenAnswer(i -> Stream.of(brazil()));
+        template.find(Country.class, "BR");
+
+        template.delete(ColumnDeleteQuery.delete().from("Country").build());
+        template.find(Country.class, "BR");
+
+        verify(manager, times(2)).select(any(ColumnQuery.class));
+    }
+
+    @Test
+    void shouldEvictAllOnDeleteAll() {
+        when(manager.select(any(ColumnQuery.class))).thenAnswer(i -> Stream.of(brazil()));
+        template.find(Country.class, "BR");
+
+        template.deleteAll(Country.class);
+        template.find(Country.class, "BR");
+
+        verify(manager, times(2)).select(any(ColumnQuery.class));
+    }
+
+    @Test
+    void shouldEvictAllOnWriteQuery() {
+        when(manager.select(any(ColumnQuery.class))).thenAnswer(i -> Stream.of(brazil()));
+        template.find(Country.class, "BR");
+
+        template.query("delete from Country where _id = \"BR\"");
+        template.find(Country.class, "BR");
+
+        verify(manager, times(2)).select(any(ColumnQuery.class));
+    }
+
+    @Test
+    void shouldKeepCacheOnSelectQuery() {
+        when(manager.select(any(ColumnQuery.class))).thenAnswer(i -> Stream.of(brazil()));
+        template.find(Country.class, "BR");
+
+        template.query("select * from Country").count();
+        template.find(Country.class, "BR");
+
+        verify(manager, times(2)).select(any(ColumnQuery.class));
+    }
+
+    @Test
+    void shouldEvictAllOnPreparedWrite() {
+        when(manager.select(any(ColumnQuery.class))).thenAnswer(i -> Stream.of(brazil()));
+        template.find(Country.class, "BR");
+
+        template.prepare("delete from Country where _id = @id").bind("id", "BR").result();
+        template.find(Country.class, "BR");
+
+        verify(manager, times(2)).select(any(ColumnQuery.class));
+    }
+
+    private static ColumnEntity brazil() {
+        return ColumnEntity.of("Country", List.of(Column.of("_id", "BR"), Column.of("name", "Brazil")));
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.column;
+
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import org.eclipse.jnosql.communication.column.Column;
+import org.eclipse.jnosql.communication.column.ColumnDeleteQuery;
+import org.eclipse.jnosql.communication.column.ColumnEntity;
+import org.eclipse.jnosql.communication.column.ColumnManager;
+import org.eclipse.jnosql.communication.column.ColumnQuery;
+import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.core.cache.QueryCacheStatistics;
+import org.eclipse.jnosql.mapping.core.spi.EntityMetadataExtension;
+import org.eclipse.jnosql.mapping.column.entities.Category;
+import org.eclipse.jnosql.mapping.column.entities.Person;
+import org.eclipse.jnosql.mapping.column.spi.ColumnExtension;
+import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.reflection.Reflections;
+import org.jboss.weld.junit5.auto.AddExtensions;
+import org.jboss.weld.junit5.auto.AddPackages;
+import org.jboss.weld.junit5.auto.EnableAutoWeld;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.eclipse.jnosql.communication.column.ColumnQuery.select;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@EnableAutoWeld
+@AddPackages(value = {Converters.class, ColumnEntityConverter.class})
+@AddPackages(MockProducer.class)
+@AddPackages(Reflections.class)
+@AddExtensions({EntityMetadataExtension.class, ColumnExtension.class})
+class ColumnTemplateQueryCacheTest {
+
+    private static final ColumnQuery QUERY = select().from("Category").where("name").eq("Books").limit(10).build();
+
+    @Inject
+    private ColumnEntityConverter converter;
+
+    @Inject
+    private EntitiesMetadata entities;
+
+    @Inject
+    private Converters converters;
+
+    private ColumnManager manager;
+
+    private ColumnEventPersistManager eventManager;
+
+    private DefaultColumnTemplate template;
+
+    @BeforeEach
+    void setUp() {
+        manager = Mockito.mock(ColumnManager.class);
+        eventManager = Mockito.mock(ColumnEventPersistManager.class);
+        Instance<ColumnManager> instance = Mockito.mock(Instance.class);
+        when(instance.get()).thenReturn(manager);
+        this.template = new DefaultColumnTemplate(converter, instance, eventManager, entities, converters);
+        when(manager.select(any(ColumnQuery.class))).thenAnswer(i -> Stream.of(books()));
+    }
+
+    @Test
+    void shouldSelectFromCache() {
+        List<Category> first = template.<Category>select(QUERY).toList();
+        List<Category> second = template.<Category>select(QUERY).toList();
+
+        assertSoftly(softly -> {
+            softly.assertThat(first).extracting(Category::getName).containsExactly("Books");
+            softly.assertThat(second).extracting(Category::getName).containsExactly("Books");
+            softly.assertThat(first.get(0)).isNotSameAs(second.get(0));
+        });
+        verify(manager, times(1)).select(any(ColumnQuery.class));
+        verify(eventManager, times(2)).firePostEntity(any(Category.class));
+        QueryCacheStatistics statistics = template.queryCache().statistics().get("Category");
+        assertThat(statistics.hits()).isEqualTo(1L);
+        assertThat(statistics.misses()).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldNotShareMutableEntity() {
+        template.<Category>select(QUERY).findFirst().orElseThrow().setName("changed");
+
+        assertThat(template.<Category>select(QUERY).findFirst()).get()
+                .extracting(Category::getName).isEqualTo("Books");
+    }
+
+    @Test
+    void shouldUseCacheAtSingleResult() {
+        template.singleResult(QUERY);
+        template.singleResult(QUERY);
+
+        verify(manager, times(1)).select(any(ColumnQuery.class));
+    }
+
+    @Test
+    void shouldNotShareDifferentQueries() {
+        template.select(QUERY).toList();
+        template.select(select().from("Category").where("name").eq("Music").build()).toList();
+
+        verify(manager, times(2)).select(any(ColumnQuery.class));
+    }
+
+    @Test
+    void shouldShareQueriesThatDifferInConditionOrderAndFetchSize() {
+        template.select(select().from("Category").where("name").eq("Books").and("_id").eq("C1").limit(10).build()).toList();
+        template.select(select().from("Category").where("_id").eq("C1").and("name").eq("Books").limit(10).fetchSize(10).build())
+                .toList();
+
+        verify(manager, times(1)).select(any(ColumnQuery.class));
+        assertThat(template.queryCache().statistics().get("Category").rows()).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldStreamSelectWithoutLimit() {
+        ColumnQuery query = select().from("Category").where("name").eq("Books").build();
+
+        template.select(query).toList();
+        template.select(query).toList();
+
+        verify(manager, times(2)).select(any(ColumnQuery.class));
+        assertThat(template.queryCache().statistics()).isEmpty();
+    }
+
+    @Test
+    void shouldStreamSelectAboveMaximumRows() {
+        ColumnQuery query = select().from("Category").where("name").eq("Books").limit(10_001).build();
+
+        template.select(query).toList();
+        template.select(query).toList();
+
+        verify(manager, times(2)).select(any(ColumnQuery.class));
+        assertThat(template.queryCache().statistics()).isEmpty();
+    }
+
+    @Test
+    void shouldNotCacheEntityWithoutQueryCacheable() {
+        ColumnEntity entity = ColumnEntity.of("Person", List.of(Column.of("_id", 10L),
+                Column.of("name", "Ada")));
+        when(manager.select(any(ColumnQuery.class))).thenAnswer(i -> Stream.of(entity));
+        ColumnQuery query = select().from("Person").build();
+
+        template.select(query).toList();
+        template.select(query).toList();
+
+        verify(manager, times(2)).select(any(ColumnQuery.class));
+        assertThat(template.queryCache().statistics()).isEmpty();
+    }
+
+    @Test
+    void shouldEvictOnInsert() {
+        when(manager.insert(any(ColumnEntity.class))).thenAnswer(i -> i.getArgument(0));
+        template.select(QUERY).toList();
+
+        template.insert(new Category("music", "Music"));
+        template.select(QUERY).toList();
+
+        verify(manager, times(2)).select(any(ColumnQuery.class));
+    }
+
+    @Test
+    void shouldEvictOnUpdate() {
+        when(manager.update(any(ColumnEntity.class))).thenAnswer(i -> i.getArgument(0));
+        template.select(QUERY).toList();
+
+        template.update(new Category("books", "Novels"));
+        template.select(QUERY).toList();
+
+        verify(manager, times(2)).select(any(ColumnQuery.class));
+    }
+
+    @Test
+    void shouldEvictOnDeleteById() {
+        template.select(QUERY).toList();
+
+        template.delete(Category.class, "books");
+        template.select(QUERY).toList();
+
+        verify(manager, times(2)).select(any(ColumnQuery.class));
+    }
+
+    @Test
+    void shouldEvictOnDeleteQuery() {
+        template.select(QUERY).toList();
+
+        template.delete(ColumnDeleteQuery.delete().from("Category").build());
+        template.select(QUERY).toList();
+
+        verify(manager, times(2)).select(any(ColumnQuery.class));
+    }
+
+    @Test
+    void shouldEvictOnDeleteAll() {
+        template.select(QUERY).toList();
+
+        template.deleteAll(Category.class);
+        template.select(QUERY).toList();
+
+        verify(manager, times(2)).select(any(ColumnQuery.class));
+    }
+
+    @Test
+    void shouldEvictOnTextWrite() {
+        template.select(QUERY).toList();
+
+        template.query("delete from Category");
+        template.select(QUERY).toList();
+
+        verify(manager, times(2)).select(any(ColumnQuery.class));
+    }
+
+    @Test
+    void shouldNotEvictOtherCollection() {
+        template.select(QUERY).toList();
+
+        template.delete(Person.class, 10L);
+        template.select(QUERY).toList();
+
+        verify(manager, times(1)).select(any(ColumnQuery.class));
+    }
+
+    private static ColumnEntity books() {
+        return ColumnEntity.of("Category", List.of(Column.of("_id", "books"), Column.of("name", "Books")));
+    }
+}
@@ -16,6 +16,7 @@ package org.eclipse.jnosql.mapping.column;
 
 import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
+import org.eclipse.jnosql.communication.QueryHints;
 import org.eclipse.jnosql.communication.column.ColumnEntity;
 import org.eclipse.jnosql.communication.column.ColumnManager;
 import org.eclipse.jnosql.communication.column.ColumnQuery;
@@ -90,6 +91,17 @@ class MapperSelectTest {
         assertEquals(queryExpected, query);
     }
 
+    @Test
+    void shouldSelectWithHints() {
+        QueryHints hints = QueryHints.empty().with(QueryHints.FETCH_SIZE, 500);
+        template.select(Person.class, hints).where("name").eq("Ada").result();
+        ColumnQuery queryExpected = select().from("Person").where("name").eq("Ada").fetchSize(500).build();
+        Mockito.verify(managerMock).select(captor.capture());
+        ColumnQuery query = captor.getValue();
+        assertEquals(queryExpected, query);
+        assertEquals(hints, query.hints());
+    }
+
     @Test
     void shouldSelectOrderAsc() {
         template.select(Worker.class).orderBy("salary").asc().result();
@@ -17,6 +17,7 @@ package org.eclipse.jnosql.mapping.column.configuration;
 import jakarta.data.exceptions.MappingException;
 import jakarta.inject.Inject;
 import org.eclipse.jnosql.communication.column.ColumnManager;
+import org.eclipse.jnosql.communication.column.InstrumentedColumnManager;
 import org.eclipse.jnosql.mapping.core.Converters;
 import org.eclipse.jnosql.mapping.column.ColumnEntityConverter;
 import org.eclipse.jnosql.mapping.column.MockProducer;
@@ -57,7 +58,8 @@ class ColumnManagerSupplierTest {
         System.setProperty(COLUMN_DATABASE.get(), "database");
         ColumnManager manager = supplier.get();
         Assertions.assertNotNull(manager);
-        assertThat(manager).isInstanceOf(ColumnConfigurationMock.ColumnManagerMock.class);
+        assertThat(manager).isInstanceOf(InstrumentedColumnManager.class);
+        assertThat(((InstrumentedColumnManager) manager).manager()).isInstanceOf(ColumnConfigurationMock.ColumnManagerMock.class);
     }
 
 
@@ -67,7 +69,8 @@ class ColumnManagerSupplierTest {
         System.setProperty(COLUMN_DATABASE.get(), "database");
         ColumnManager manager = supplier.get();
         Assertions.assertNotNull(manager);
-        assertThat(manager).isInstanceOf(ColumnConfigurationMock2.ColumnManagerMock.class);
+        assertThat(manager).isInstanceOf(InstrumentedColumnManager.class);
+        assertThat(((InstrumentedColumnManager) manager).manager()).isInstanceOf(ColumnConfigurationMock2.ColumnManagerMock.class);
     }
 
     @Test
@@ -75,7 +78,8 @@ class ColumnManagerSupplierTest {
         System.setProperty(COLUMN_DATABASE.get(), "database");
         ColumnManager manager = supplier.get();
         Assertions.assertNotNull(manager);
-        assertThat(manager).isInstanceOf(ColumnConfigurationMock2.ColumnManagerMock.class);
+        assertThat(manager).isInstanceOf(InstrumentedColumnManager.class);
+        assertThat(((InstrumentedColumnManager) manager).manager()).isInstanceOf(ColumnConfigurationMock2.ColumnManagerMock.class);
     }
 
     @Test
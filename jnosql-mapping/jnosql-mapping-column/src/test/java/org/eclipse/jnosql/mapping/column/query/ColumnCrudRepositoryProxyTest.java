@@ -119,33 +119,17 @@ class ColumnCrudRepositoryProxyTest {
 
 
     @Test
-    void shouldSaveUsingInsertWhenDataDoesNotExist() {
-        when(template.find(Person.class, 10L)).thenReturn(Optional.empty());
-
+    void shouldSaveUsingUpsert() {
         ArgumentCaptor<Person> captor = ArgumentCaptor.forClass(Person.class);
         Person person = Person.builder().withName("Ada")
                 .withId(10L)
                 .withPhones(singletonList("123123"))
                 .build();
-        assertNotNull(personRepository.save(person));
-        verify(template).insert(captor.capture());
-        Person value = captor.getValue();
-        assertEquals(person, value);
-    }
-
+        when(template.upsert(person)).thenReturn(person);
 
-    @Test
-    void shouldSaveUsingUpdateWhenDataExists() {
-
-        when(template.find(Person.class, 10L)).thenReturn(Optional.of(Person.builder().build()));
-
-        ArgumentCaptor<Person> captor = ArgumentCaptor.forClass(Person.class);
-        Person person = Person.builder().withName("Ada")
-                .withId(10L)
-                .withPhones(singletonList("123123"))
-                .build();
         assertNotNull(personRepository.save(person));
-        verify(template).update(captor.capture());
+        verify(template).upsert(captor.capture());
+        verify(template, Mockito.never()).find(Person.class, 10L);
         Person value = captor.getValue();
         assertEquals(person, value);
     }
@@ -153,18 +137,14 @@ class ColumnCrudRepositoryProxyTest {
 
     @Test
     void shouldSaveIterable() {
-        when(personRepository.findById(10L)).thenReturn(Optional.empty());
-
-        ArgumentCaptor<Person> captor = ArgumentCaptor.forClass(Person.class);
         Person person = Person.builder().withName("Ada")
                 .withId(10L)
                 .withPhones(singletonList("123123"))
                 .build();
+        when(template.upsert(singletonList(person))).thenReturn(singletonList(person));
 
-        personRepository.saveAll(singletonList(person));
-        verify(template).insert(captor.capture());
-        Person personCapture = captor.getValue();
-        assertEquals(person, personCapture);
+        assertThat(personRepository.saveAll(singletonList(person))).containsExactly(person);
+        verify(template).upsert(singletonList(person));
     }
 
 
@@ -15,6 +15,7 @@
 package org.eclipse.jnosql.mapping.column.query;
 
 import jakarta.data.Limit;
+import jakarta.data.page.KeysetAwarePage;
 import jakarta.data.page.Page;
 import jakarta.data.page.Pageable;
 import jakarta.data.repository.PageableRepository;
@@ -41,6 +42,8 @@ import org.eclipse.jnosql.mapping.core.spi.EntityMetadataExtension;
 import org.jboss.weld.junit5.auto.AddExtensions;
 import org.jboss.weld.junit5.auto.AddPackages;
 import org.jboss.weld.junit5.auto.EnableAutoWeld;
+import org.eclipse.jnosql.mapping.core.config.MappingConfigurations;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -55,6 +58,8 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -513,6 +518,107 @@ public class ColumnRepositoryProxyPageableTest {
         assertNull(personRepository.findByName("name", pagination));
     }
 
+    @AfterEach
+    public void tearDown() {
+        System.clearProperty(MappingConfigurations.PAGE_TOTAL.get());
+    }
+
+    @Test
+    public void shouldReturnPageWithTotals() {
+        System.setProperty(MappingConfigurations.PAGE_TOTAL.get(), "always");
+        Person ada = Person.builder().withAge(20).withName("Ada").build();
+        when(template.select(any(ColumnQuery.class))).thenReturn(Stream.of(ada));
+        when(template.count(any(ColumnQuery.class))).thenReturn(7L);
+
+        Pageable pagination = getPageable();
+        Page<Person> page = personRepository.findByNameOrderByAge("name", pagination);
+
+        ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
+        verify(template).count(captor.capture());
+        ColumnQuery countQuery = captor.getValue();
+        assertEquals(7L, page.totalElements());
+        assertEquals(2L, page.totalPages());
+        assertEquals(0, countQuery.skip());
+        assertEquals(0, countQuery.limit());
+        assertThat(countQuery.sorts()).isEmpty();
+        assertEquals(ColumnCondition.eq("name", "name"), countQuery.condition().orElseThrow());
+    }
+
+    @Test
+    public void shouldReturnPageWithoutTotalsByDefault() {
+        when(template.select(any(ColumnQuery.class))).thenReturn(Stream.of(Person.builder().build()));
+
+        Page<Person> page = personRepository.findByNameOrderByAge("name", getPageable());
+
+        assertThrows(UnsupportedOperationException.class, page::totalElements);
+        verify(template, Mockito.never()).count(any(ColumnQuery.class));
+    }
+
+    @Test
+    public void shouldFindKeysetPageOnFirstPage() {
+        Person ada = Person.builder().withId(1L).withAge(20).withName("Ada").build();
+        Person otavio = Person.builder().withId(2L).withAge(20).withName("Otavio").build();
+        when(template.select(any(ColumnQuery.class))).thenReturn(Stream.of(ada, otavio));
+
+        KeysetAwarePage<Person> page = personRepository.findByAgeOrderByName(20, Pageable.ofSize(2));
+
+        ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
+        verify(template).select(captor.capture());
+        ColumnQuery query = captor.getValue();
+        assertEquals(0, query.skip());
+        assertEquals(2, query.limit());
+        assertThat(query.sorts()).containsExactly(Sort.asc("name"), Sort.asc("_id"));
+        assertThat(page.content()).containsExactly(ada, otavio);
+        Pageable next = page.nextPageable();
+        assertEquals(Pageable.Mode.CURSOR_NEXT, next.mode());
+        assertEquals("Otavio", next.cursor().orElseThrow().getKeysetElement(0));
+        assertEquals(2L, next.cursor().orElseThrow().getKeysetElement(1));
+    }
+
+    @Test
+    public void shouldFindKeysetPageAfterCursor() {
+        Person poliana = Person.builder().withId(3L).withAge(20).withName("Poliana").build();
+        when(template.select(any(ColumnQuery.class))).thenReturn(Stream.of(poliana));
+
+        Pageable pageable = Pageable.ofSize(2).afterKeyset("Otavio", 2L).page(2);
+        KeysetAwarePage<Person> page = personRepository.findByAgeOrderByName(20, pageable);
+
+        ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
+        verify(template).select(captor.capture());
+        ColumnQuery query = captor.getValue();
+        assertEquals(0, query.skip());
+        assertEquals(2, query.limit());
+        assertThat(query.sorts()).containsExactly(Sort.asc("name"), Sort.asc("_id"));
+
+        ColumnCondition condition = query.condition().orElseThrow();
+        assertEquals(AND, condition.condition());
+        List<ColumnCondition> conditions = condition.column().get(new TypeReference<>() {
+        });
+        assertEquals(ColumnCondition.eq("age", 20), conditions.get(0));
+        assertEquals(ColumnCondition.or(ColumnCondition.gt("name", "Otavio"),
+                ColumnCondition.and(ColumnCondition.eq("name", "Otavio"), ColumnCondition.gt("_id", 2L))),
+                conditions.get(1));
+        assertThat(page.content()).containsExactly(poliana);
+        assertNull(page.nextPageable());
+    }
+
+    @Test
+    public void shouldFindKeysetPageBeforeCursor() {
+        Person ada = Person.builder().withId(1L).withAge(20).withName("Ada").build();
+        Person otavio = Person.builder().withId(2L).withAge(20).withName("Otavio").build();
+        when(template.select(any(ColumnQuery.class))).thenReturn(Stream.of(otavio, ada));
+
+        Pageable pageable = Pageable.ofSize(2).beforeKeyset("Poliana", 3L).page(2);
+        KeysetAwarePage<Person> page = personRepository.findByAgeOrderByName(20, pageable);
+
+        ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
+        verify(template).select(captor.capture());
+        ColumnQuery query = captor.getValue();
+        assertEquals(0, query.skip());
+        assertThat(query.sorts()).containsExactly(Sort.desc("name"), Sort.desc("_id"));
+        assertThat(page.content()).containsExactly(ada, otavio);
+    }
+
     @Test
     public void shouldFindByNameSort() {
         when(template.singleResult(any(ColumnQuery.class))).thenReturn(Optional
@@ -588,6 +694,25 @@ public class ColumnRepositoryProxyPageableTest {
         assertEquals(Column.of("name", "name"), condition.column());
     }
 
+    @Test
+    void shouldShareTheSameStateAcrossThreads() {
+        ColumnRepositoryProxy<?, ?> handler = new ColumnRepositoryProxy<>(template, entities, PersonRepository.class, converters);
+        CountDownLatch start = new CountDownLatch(1);
+        List<CompletableFuture<List<Object>>> calls = Stream.generate(() -> CompletableFuture.supplyAsync(() -> {
+            try {
+                start.await();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+            return List.<Object>of(handler.parser(), handler.paramsBinder(), handler.pageTotals());
+        })).limit(8).toList();
+        start.countDown();
+
+        Set<List<Object>> states = calls.stream().map(CompletableFuture::join).collect(Collectors.toSet());
+
+        assertThat(states).hasSize(1);
+    }
+
     @Test
     public void shouldFindByNameLimit3() {
         when(template.singleResult(any(ColumnQuery.class))).thenReturn(Optional
@@ -624,6 +749,8 @@ public class ColumnRepositoryProxyPageableTest {
 
         Page<Person> findByNameOrderByAge(String name, Pageable Pageable);
 
+        KeysetAwarePage<Person> findByAgeOrderByName(Integer age, Pageable pageable);
+
         Slice<Person> findByAge(String age, Pageable pagination);
 
         List<Person> findByNameAndAge(String name, Integer age, Pageable pagination);
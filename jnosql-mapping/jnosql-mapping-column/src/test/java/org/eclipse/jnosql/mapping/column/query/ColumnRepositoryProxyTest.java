@@ -15,6 +15,8 @@
 package org.eclipse.jnosql.mapping.column.query;
 
 import jakarta.data.exceptions.MappingException;
+import jakarta.data.page.KeysetAwareSlice;
+import jakarta.data.page.Pageable;
 import jakarta.data.repository.By;
 import jakarta.data.repository.Delete;
 import jakarta.data.repository.Insert;
@@ -29,17 +31,21 @@ import jakarta.inject.Inject;
 import jakarta.nosql.PreparedStatement;
 import org.assertj.core.api.SoftAssertions;
 import org.eclipse.jnosql.communication.Condition;
+import org.eclipse.jnosql.communication.QueryHints;
 import org.eclipse.jnosql.communication.TypeReference;
 import org.eclipse.jnosql.communication.Value;
 import org.eclipse.jnosql.communication.column.Column;
 import org.eclipse.jnosql.communication.column.ColumnCondition;
 import org.eclipse.jnosql.communication.column.ColumnDeleteQuery;
 import org.eclipse.jnosql.communication.column.ColumnQuery;
+import org.eclipse.jnosql.mapping.DatabaseQualifier;
+import org.eclipse.jnosql.mapping.QueryHint;
 import org.eclipse.jnosql.mapping.core.Converters;
 import org.eclipse.jnosql.mapping.column.ColumnEntityConverter;
 import org.eclipse.jnosql.mapping.column.JNoSQLColumnTemplate;
 import org.eclipse.jnosql.mapping.column.MockProducer;
 import org.eclipse.jnosql.mapping.column.entities.Person;
+import org.eclipse.jnosql.mapping.column.entities.PersonSummary;
 import org.eclipse.jnosql.mapping.column.entities.PersonStatisticRepository;
 import org.eclipse.jnosql.mapping.column.entities.Vendor;
 import org.eclipse.jnosql.mapping.column.spi.ColumnExtension;
@@ -67,6 +73,8 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -121,55 +129,50 @@ class ColumnRepositoryProxyTest {
 
 
     @Test
-    void shouldSaveUsingInsertWhenDataDoesNotExist() {
-        when(template.find(Person.class, 10L)).thenReturn(Optional.empty());
-
+    void shouldSaveUsingUpsert() {
         ArgumentCaptor<Person> captor = ArgumentCaptor.forClass(Person.class);
         Person person = Person.builder().withName("Ada")
                 .withId(10L)
                 .withPhones(singletonList("123123"))
                 .build();
+        when(template.upsert(person)).thenReturn(person);
+
         assertNotNull(personRepository.save(person));
-        verify(template).insert(captor.capture());
+        verify(template).upsert(captor.capture());
+        verify(template, Mockito.never()).find(Person.class, 10L);
         Person value = captor.getValue();
         assertEquals(person, value);
     }
 
 
     @Test
-    void shouldSaveUsingUpdateWhenDataExists() {
-
-        when(template.find(Person.class, 10L)).thenReturn(Optional.of(Person.builder().build()));
-
-        ArgumentCaptor<Person> captor = ArgumentCaptor.forClass(Person.class);
+    void shouldSaveIterable() {
         Person person = Person.builder().withName("Ada")
                 .withId(10L)
                 .withPhones(singletonList("123123"))
                 .build();
-        assertNotNull(personRepository.save(person));
-        verify(template).update(captor.capture());
-        Person value = captor.getValue();
-        assertEquals(person, value);
+        when(template.upsert(singletonList(person))).thenReturn(singletonList(person));
+
+        assertThat(personRepository.saveAll(singletonList(person))).containsExactly(person);
+        verify(template).upsert(singletonList(person));
     }
 
 
     @Test
-    void shouldSaveIterable() {
-        when(personRepository.findById(10L)).thenReturn(Optional.empty());
+    void shouldFindCompletionStage() throws Exception {
+        Person ada = Person.builder().withName("Ada").build();
+        when(template.singleResult(any(ColumnQuery.class))).thenReturn(Optional.of(ada));
 
-        ArgumentCaptor<Person> captor = ArgumentCaptor.forClass(Person.class);
-        Person person = Person.builder().withName("Ada")
-                .withId(10L)
-                .withPhones(singletonList("123123"))
-                .build();
+        CompletionStage<Person> stage = personRepository.findByNameAndAgeLessThan("Ada", 33);
 
-        personRepository.saveAll(singletonList(person));
-        verify(template).insert(captor.capture());
-        Person personCapture = captor.getValue();
-        assertEquals(person, personCapture);
+        assertEquals(ada, stage.toCompletableFuture().get(5, TimeUnit.SECONDS));
+        ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
+        verify(template).singleResult(captor.capture());
+        ColumnCondition condition = captor.getValue().condition().orElseThrow();
+        assertEquals("Person", captor.getValue().name());
+        assertEquals(AND, condition.condition());
     }
 
-
     @Test
     void shouldFindByNameInstance() {
 
@@ -195,6 +198,41 @@ class ColumnRepositoryProxyTest {
 
     }
 
+    @Test
+    void shouldFindProjection() {
+        when(template.select(any(ColumnQuery.class), eq(PersonSummary.class)))
+                .thenReturn(Stream.of(new PersonSummary("Ada", 10)));
+
+        List<PersonSummary> summaries = personRepository.findByNameOrderByAge("Ada");
+
+        assertThat(summaries).containsExactly(new PersonSummary("Ada", 10));
+        ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
+        verify(template).select(captor.capture(), eq(PersonSummary.class));
+        verify(template, never()).select(any(ColumnQuery.class));
+        ColumnQuery query = captor.getValue();
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(query.name()).isEqualTo("Person");
+            soft.assertThat(query.condition()).get().extracting(c -> c.column().name()).isEqualTo("name");
+            soft.assertThat(query.condition()).get().extracting(c -> c.column().get()).isEqualTo("Ada");
+            soft.assertThat(query.sorts()).containsExactly(Sort.asc("age"));
+        });
+    }
+
+    @Test
+    void shouldFindSingleProjection() {
+        when(template.singleResult(any(ColumnQuery.class), eq(PersonSummary.class)))
+                .thenReturn(Optional.of(new PersonSummary("Ada", 10)));
+
+        assertThat(personRepository.findByPhones("123")).contains(new PersonSummary("Ada", 10));
+        verify(template).singleResult(any(ColumnQuery.class), eq(PersonSummary.class));
+    }
+
+    @Test
+    void shouldReturnErrorWhenProjectionUsesKeyset() {
+        assertThrows(MappingException.class, () -> personRepository.findByAgeGreaterThanEqual(10,
+                Pageable.ofSize(10).afterKeyset(10)));
+    }
+
     @Test
     void shouldFindByNameANDAge() {
         Person ada = Person.builder()
@@ -286,6 +324,17 @@ class ColumnRepositoryProxyTest {
         verify(template, times(4)).find(Mockito.eq(Person.class), Mockito.any(Long.class));
     }
 
+    @Test
+    void shouldKeyTheBulkheadByTheDatabase() {
+        DatabaseQualifier qualifier = DatabaseQualifier.ofColumn("provider");
+        ColumnRepositoryProxy<Person, Long> handler = new ColumnRepositoryProxy<>(template,
+                entities, PersonRepository.class, converters, qualifier);
+        assertThat(handler.database()).isSameAs(qualifier);
+        assertThat(((ColumnRepositoryProxy.ColumnRepository<Person, Long>) handler.repository()).database()).isSameAs(qualifier);
+        assertThat(new ColumnRepositoryProxy<Person, Long>(template, entities, PersonRepository.class, converters).database())
+                .isSameAs(template);
+    }
+
     @Test
     void shouldDeleteById() {
         ArgumentCaptor<ColumnDeleteQuery> captor = ArgumentCaptor.forClass(ColumnDeleteQuery.class);
@@ -414,6 +463,20 @@ class ColumnRepositoryProxyTest {
 
     }
 
+    @Test
+    void shouldFindWithQueryHints() {
+        when(template.select(any(ColumnQuery.class))).thenReturn(Stream.of(Person.builder().build()));
+
+        personRepository.findByAgeOrderByName(33).toList();
+        ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
+        verify(template).select(captor.capture());
+        ColumnQuery query = captor.getValue();
+        assertEquals("Person", query.name());
+        assertEquals(500, query.fetchSize());
+        assertEquals(Duration.ofSeconds(2), query.hints().timeout().orElseThrow());
+        assertEquals("quorum", query.hints().consistencyLevel().orElseThrow());
+    }
+
     @Test
     void shouldFindByAgeLessThanEqual() {
         Person ada = Person.builder()
@@ -846,7 +909,7 @@ class ColumnRepositoryProxyTest {
                 .withPhones(singletonList("123123"))
                 .build();
         personRepository.savePerson(person);
-        Mockito.verify(template).insert(person);
+        Mockito.verify(template).upsert(person);
     }
 
     @Test
@@ -886,6 +949,8 @@ class ColumnRepositoryProxyTest {
 
         Person findByName(String name);
 
+        CompletionStage<Person> findByNameAndAgeLessThan(String name, Integer age);
+
         Person findByNameNot(String name);
 
         Person findByNameNotEquals(String name);
@@ -936,6 +1001,11 @@ class ColumnRepositoryProxyTest {
 
         Set<Person> findByAgeLessThan(Integer age);
 
+        @QueryHint(name = QueryHints.FETCH_SIZE, value = "500")
+        @QueryHint(name = QueryHints.TIMEOUT, value = "PT2S")
+        @QueryHint(name = QueryHints.CONSISTENCY_LEVEL, value = "quorum")
+        Stream<Person> findByAgeOrderByName(Integer age);
+
         Set<Person> findByAgeBetween(Integer ageA, Integer ageB);
 
         Set<Person> findByNameLike(String name);
@@ -958,6 +1028,12 @@ class ColumnRepositoryProxyTest {
         List<Person> findByException();
 
         List<Person> find(@By("name") String name);
+
+        List<PersonSummary> findByNameOrderByAge(String name);
+
+        Optional<PersonSummary> findByPhones(String phone);
+
+        KeysetAwareSlice<PersonSummary> findByAgeGreaterThanEqual(Integer age, Pageable pageable);
     }
 
     public interface VendorRepository extends PageableRepository<Vendor, String> {
@@ -17,6 +17,7 @@ package org.eclipse.jnosql.mapping.column.query;
 import jakarta.inject.Inject;
 import org.eclipse.jnosql.communication.column.ColumnManager;
 import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.core.query.GeneratedRepository;
 import org.eclipse.jnosql.mapping.column.ColumnEntityConverter;
 import org.eclipse.jnosql.mapping.column.JNoSQLColumnTemplate;
 import org.eclipse.jnosql.mapping.column.MockProducer;
@@ -30,6 +31,10 @@ import org.jboss.weld.junit5.auto.EnableAutoWeld;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import java.lang.reflect.Proxy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 @EnableAutoWeld
@@ -58,5 +63,11 @@ class DefaultColumnRepositoryProducerTest {
         assertNotNull(personRepository);
     }
 
-
+    @Test
+    void shouldUseGeneratedRepository() {
+        JNoSQLColumnTemplate template = Mockito.mock(JNoSQLColumnTemplate.class);
+        PersonRepository personRepository = producer.get(PersonRepository.class, template);
+        assertFalse(Proxy.isProxyClass(personRepository.getClass()));
+        assertEquals(GeneratedRepository.name(PersonRepository.class), personRepository.getClass().getName());
+    }
 }
@@ -0,0 +1,156 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core;
+
+import jakarta.nosql.Template;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+/**
+ * The non-blocking view of a {@link Template}, e.g. a {@code DocumentTemplate}, {@code ColumnTemplate} or
+ * {@code KeyValueTemplate}, where every operation completes a {@link CompletionStage}.
+ * Each operation runs at the executor informed at {@link AsyncTemplate#of(Template, Executor)},
+ * so the caller can combine several of them without holding a thread per call.
+ * Queries that stream their result are available with the {@code publisher} method of the document
+ * and column templates and the {@link java.util.concurrent.Flow.Publisher} repository return.
+ *
+ * @see Template
+ */
+public interface AsyncTemplate {
+
+    /**
+     * Inserts an entity
+     *
+     * @param entity entity to insert
+     * @param <T>    the instance type
+     * @return the stage completed with the entity saved
+     * @throws NullPointerException when entity is null
+     */
+    <T> CompletionStage<T> insert(T entity);
+
+    /**
+     * Inserts an entity with time to live
+     *
+     * @param entity entity to insert
+     * @param ttl    the time to live
+     * @param <T>    the instance type
+     * @return the stage completed with the entity saved
+     * @throws NullPointerException when either entity or ttl are null
+     */
+    <T> CompletionStage<T> insert(T entity, Duration ttl);
+
+    /**
+     * Inserts entities
+     *
+     * @param entities entities to insert
+     * @param <T>      the instance type
+     * @return the stage completed with the entities saved
+     * @throws NullPointerException when entities is null
+     */
+    <T> CompletionStage<Iterable<T>> insert(Iterable<T> entities);
+
+    /**
+     * Inserts entities with time to live
+     *
+     * @param entities entities to insert
+     * @param ttl      the time to live
+     * @param <T>      the instance type
+     * @return the stage completed with the entities saved
+     * @throws NullPointerException when either entities or ttl are null
+     */
+    <T> CompletionStage<Iterable<T>> insert(Iterable<T> entities, Duration ttl);
+
+    /**
+     * Updates an entity
+     *
+     * @param entity entity to update
+     * @param <T>    the instance type
+     * @return the stage completed with the entity updated
+     * @throws NullPointerException when entity is null
+     */
+    <T> CompletionStage<T> update(T entity);
+
+    /**
+     * Updates entities
+     *
+     * @param entities entities to update
+     * @param <T>      the instance type
+     * @return the stage completed with the entities updated
+     * @throws NullPointerException when entities is null
+     */
+    <T> CompletionStage<Iterable<T>> update(Iterable<T> entities);
+
+    /**
+     * Finds an entity by id
+     *
+     * @param type the entity class
+     * @param id   the id value
+     * @param <T>  the entity class type
+     * @param <K>  the id type
+     * @return the stage completed with the entity, or {@link Optional#empty()} when it is not found
+     * @throws NullPointerException when either type or id are null
+     */
+    <T, K> CompletionStage<Optional<T>> find(Class<T> type, K id);
+
+    /**
+     * Deletes an entity by id
+     *
+     * @param type the entity class
+     * @param id   the id value
+     * @param <T>  the entity class type
+     * @param <K>  the id type
+     * @return the stage completed once the entity is deleted
+     * @throws NullPointerException when either type or id are null
+     */
+    <T, K> CompletionStage<Void> delete(Class<T> type, K id);
+
+    /**
+     * Returns the blocking {@link Template} behind this instance
+     *
+     * @return the {@link Template} instance
+     */
+    Template blocking();
+
+    /**
+     * Creates an {@link AsyncTemplate} that runs each operation of the template at the bulkhead of the template
+     * in the {@link MappingExecutor#get()}
+     *
+     * @param template the blocking template
+     * @return an {@link AsyncTemplate} instance
+     * @throws NullPointerException when template is null
+     */
+    static AsyncTemplate of(Template template) {
+        Objects.requireNonNull(template, "template is required");
+        return of(template, MappingExecutor.get().database(template));
+    }
+
+    /**
+     * Creates an {@link AsyncTemplate} that runs each operation of the template at the executor
+     *
+     * @param template the blocking template
+     * @param executor the executor that runs the operations
+     * @return an {@link AsyncTemplate} instance
+     * @throws NullPointerException when there are null parameters
+     */
+    static AsyncTemplate of(Template template, Executor executor) {
+        Objects.requireNonNull(template, "template is required");
+        Objects.requireNonNull(executor, "executor is required");
+        return new DefaultAsyncTemplate(template, executor);
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core;
+
+import jakarta.nosql.Template;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+final class DefaultAsyncTemplate implements AsyncTemplate {
+
+    private final Template template;
+
+    private final Executor executor;
+
+    DefaultAsyncTemplate(Template template, Executor executor) {
+        this.template = template;
+        this.executor = executor;
+    }
+
+    @Override
+    public <T> CompletionStage<T> insert(T entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        return CompletableFuture.supplyAsync(() -> template.insert(entity), executor);
+    }
+
+    @Override
+    public <T> CompletionStage<T> insert(T entity, Duration ttl) {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        return CompletableFuture.supplyAsync(() -> template.insert(entity, ttl), executor);
+    }
+
+    @Override
+    public <T> CompletionStage<Iterable<T>> insert(Iterable<T> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        return CompletableFuture.supplyAsync(() -> template.insert(entities), executor);
+    }
+
+    @Override
+    public <T> CompletionStage<Iterable<T>> insert(Iterable<T> entities, Duration ttl) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        return CompletableFuture.supplyAsync(() -> template.insert(entities, ttl), executor);
+    }
+
+    @Override
+    public <T> CompletionStage<T> update(T entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        return CompletableFuture.supplyAsync(() -> template.update(entity), executor);
+    }
+
+    @Override
+    public <T> CompletionStage<Iterable<T>> update(Iterable<T> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        return CompletableFuture.supplyAsync(() -> template.update(entities), executor);
+    }
+
+    @Override
+    public <T, K> CompletionStage<Optional<T>> find(Class<T> type, K id) {
+        Objects.requireNonNull(type, "type is required");
+        Objects.requireNonNull(id, "id is required");
+        return CompletableFuture.supplyAsync(() -> template.find(type, id), executor);
+    }
+
+    @Override
+    public <T, K> CompletionStage<Void> delete(Class<T> type, K id) {
+        Objects.requireNonNull(type, "type is required");
+        Objects.requireNonNull(id, "id is required");
+        return CompletableFuture.runAsync(() -> template.delete(type, id), executor);
+    }
+
+    @Override
+    public Template blocking() {
+        return template;
+    }
+
+    @Override
+    public String toString() {
+        return "DefaultAsyncTemplate{" +
+                "template=" + template +
+                ", executor=" + executor +
+                '}';
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The JDK Flight Recorder event of an entity conversion, from the entity to the communication entity of the
+ * database or the opposite. The converters start it before the conversion and end it with the entity name:
+ *
+ * <pre>{@code
+ * EntityConversionEvent event = EntityConversionEvent.start();
+ * DocumentEntity communication = ...;
+ * event.end(communication.name(), EntityConversionEvent.TO_DATABASE);
+ * }</pre>
+ * While no recording enables the event, it costs nothing.
+ */
+@Name("org.eclipse.jnosql.EntityConversion")
+@Label("Entity Conversion")
+@Category({"JNoSQL", "Mapping"})
+@Description("Converts an entity to or from the entity of the database")
+public final class EntityConversionEvent extends Event {
+
+    /**
+     * The direction of a conversion from the entity to the database
+     */
+    public static final String TO_DATABASE = "to-database";
+
+    /**
+     * The direction of a conversion from the database to the entity
+     */
+    public static final String TO_ENTITY = "to-entity";
+
+    @Label("Entity")
+    private String entity;
+
+    @Label("Direction")
+    private String direction;
+
+    private EntityConversionEvent() {
+    }
+
+    /**
+     * Ends the conversion and commits the event when it is enabled
+     *
+     * @param entity    the entity name, e.g. the document collection
+     * @param direction either {@link EntityConversionEvent#TO_DATABASE} or {@link EntityConversionEvent#TO_ENTITY}
+     */
+    public void end(String entity, String direction) {
+        end();
+        if (shouldCommit()) {
+            this.entity = entity;
+            this.direction = direction;
+            commit();
+        }
+    }
+
+    /**
+     * Starts the event of a conversion
+     *
+     * @return the event
+     */
+    public static EntityConversionEvent start() {
+        EntityConversionEvent event = new EntityConversionEvent();
+        event.begin();
+        return event;
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core;
+
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.inject.spi.BeanManager;
+import jakarta.enterprise.inject.spi.ObserverMethod;
+import org.eclipse.jnosql.mapping.EntitiesPostPersist;
+import org.eclipse.jnosql.mapping.EntityPostPersist;
+import org.eclipse.jnosql.mapping.EntityPrePersist;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * The observers of the entity lifecycle events, {@link EntityPrePersist}, {@link EntityPostPersist} and
+ * {@link EntitiesPostPersist}, resolved once from the {@link BeanManager}. The observer methods cannot change
+ * after the container starts, so the event managers use it to skip the events that nobody observes and to know
+ * whether there are asynchronous observers to notify.
+ */
+public final class EntityObservers {
+
+    private static final EntityObservers UNRESOLVED = new EntityObservers(
+            Set.of(EntityPrePersist.class, EntityPostPersist.class, EntitiesPostPersist.class), Set.of());
+
+    private final Set<Class<?>> synchronous;
+
+    private final Set<Class<?>> asynchronous;
+
+    private EntityObservers(Set<Class<?>> synchronous, Set<Class<?>> asynchronous) {
+        this.synchronous = synchronous;
+        this.asynchronous = asynchronous;
+    }
+
+    /**
+     * Checks whether there is a synchronous observer to the event type
+     *
+     * @param event the event type
+     * @return true when {@link jakarta.enterprise.event.Event#fire(Object)} reaches an observer
+     */
+    public boolean isObserved(Class<?> event) {
+        return synchronous.contains(event);
+    }
+
+    /**
+     * Checks whether there is an asynchronous observer to the event type
+     *
+     * @param event the event type
+     * @return true when {@link jakarta.enterprise.event.Event#fireAsync(Object)} reaches an observer
+     */
+    public boolean isObservedAsync(Class<?> event) {
+        return asynchronous.contains(event);
+    }
+
+    /**
+     * Fires the event to the synchronous and the asynchronous observers of its type, the event is created once and
+     * only when there is an observer to notify.
+     *
+     * @param event   the CDI event that fires it
+     * @param type    the event type
+     * @param factory creates the event
+     * @param <E>     the event type
+     * @throws NullPointerException when any parameter is null
+     */
+    public <E> void fire(Event<E> event, Class<E> type, Supplier<? extends E> factory) {
+        Objects.requireNonNull(event, "event is required");
+        Objects.requireNonNull(type, "type is required");
+        Objects.requireNonNull(factory, "factory is required");
+        boolean observed = isObserved(type);
+        boolean observedAsync = isObservedAsync(type);
+        if (observed || observedAsync) {
+            E value = factory.get();
+            if (observed) {
+                event.fire(value);
+            }
+            if (observedAsync) {
+                event.fireAsync(value);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "EntityObservers{" +
+                "synchronous=" + synchronous +
+                ", asynchronous=" + asynchronous +
+                '}';
+    }
+
+    /**
+     * Resolves the observers of the entity lifecycle events
+     *
+     * @param beanManager the bean manager
+     * @return the {@link EntityObservers} instance
+     * @throws NullPointerException when beanManager is null
+     */
+    public static EntityObservers of(BeanManager beanManager) {
+        Objects.requireNonNull(beanManager, "beanManager is required");
+        Set<Class<?>> synchronous = new HashSet<>();
+        Set<Class<?>> asynchronous = new HashSet<>();
+        Object sample = new Object();
+        for (Object event : List.of(EntityPrePersist.of(sample), EntityPostPersist.of(sample), EntitiesPostPersist.of(List.of()))) {
+            for (ObserverMethod<?> observer : beanManager.resolveObserverMethods(event)) {
+                if (observer.isAsync()) {
+                    asynchronous.add(event.getClass());
+                } else {
+                    synchronous.add(event.getClass());
+                }
+            }
+        }
+        return new EntityObservers(Set.copyOf(synchronous), Set.copyOf(asynchronous));
+    }
+
+    /**
+     * Returns the instance used before the observers are resolved, it considers every event type observed
+     * synchronously, the behavior before the resolution existed.
+     *
+     * @return the {@link EntityObservers} instance
+     */
+    public static EntityObservers unresolved() {
+        return UNRESOLVED;
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core;
+
+import jakarta.data.exceptions.MappingException;
+import org.eclipse.jnosql.communication.Value;
+import org.eclipse.jnosql.mapping.IdNotFoundException;
+import org.eclipse.jnosql.mapping.core.util.ConverterUtil;
+import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Saves entities, inserting the ones that do not exist and updating the others, for the templates whose database
+ * entity is {@code E}, e.g. the document and column ones.
+ * When the manager supports a native upsert, all the entities are written in a single call. Otherwise, it finds the
+ * ids that already exist with a single query by entity type, projecting only the id, and then inserts or updates each
+ * entity; this fallback is not atomic, an entity that another client inserts or deletes between the query and the
+ * write makes its insert fail or its update miss.
+ *
+ * @param <E> the database entity type
+ */
+public abstract class EntityUpsert<E> {
+
+    /**
+     * Saves the entities
+     *
+     * @param entities the entities to be saved
+     * @param <T>      the entity type
+     * @return the entities saved at the same order
+     * @throws MappingException when the native upsert does not return one entity per entity given
+     */
+    public <T> List<T> save(List<T> entities) {
+        if (isUpsertSupported()) {
+            return upsertAll(entities);
+        }
+        Set<Object> existing = existing(entities);
+        return entities.stream()
+                .map(e -> existing.contains(e) ? update(e) : insert(e))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Whether the manager has a native upsert
+     *
+     * @return true when the manager supports upsert
+     */
+    protected abstract boolean isUpsertSupported();
+
+    /**
+     * Writes the entities at the native upsert of the manager
+     *
+     * @param entities the database entities
+     * @return the saved database entities, one per entity given and in the same order
+     */
+    protected abstract Iterable<E> upsert(List<E> entities);
+
+    /**
+     * Inserts the entity, firing its events
+     *
+     * @param entity the entity
+     * @param <T>    the entity type
+     * @return the entity inserted
+     */
+    protected abstract <T> T insert(T entity);
+
+    /**
+     * Updates the entity, firing its events
+     *
+     * @param entity the entity
+     * @param <T>    the entity type
+     * @return the entity updated
+     */
+    protected abstract <T> T update(T entity);
+
+    /**
+     * Fires the pre-persist event of the entity and converts it to the database entity
+     *
+     * @param entity the entity
+     * @param <T>    the entity type
+     * @return the database entity
+     */
+    protected abstract <T> E toDatabase(T entity);
+
+    /**
+     * Converts back the saved database entity and fires the post-persist event
+     *
+     * @param entity the entity given
+     * @param saved  the saved database entity
+     * @param <T>    the entity type
+     * @return the entity saved
+     */
+    protected abstract <T> T saved(T entity, E saved);
+
+    /**
+     * Finds which of the ids exist
+     *
+     * @param entity the entity metadata
+     * @param id     the id field
+     * @param ids    the ids, already converted to the database
+     * @return the values of the ids found
+     */
+    protected abstract Stream<Object> find(EntityMetadata entity, FieldMetadata id, List<Object> ids);
+
+    /**
+     * The entities metadata
+     *
+     * @return the entities metadata
+     */
+    protected abstract EntitiesMetadata entities();
+
+    /**
+     * The converters
+     *
+     * @return the converters
+     */
+    protected abstract Converters converters();
+
+    private <T> List<T> upsertAll(List<T> entities) {
+        List<E> values = entities.stream().map(this::toDatabase).collect(Collectors.toList());
+        List<E> saved = StreamSupport.stream(upsert(values).spliterator(), false).toList();
+        if (saved.size() != entities.size()) {
+            throw new MappingException("The upsert must return one entity per entity given, it returned "
+                    + saved.size() + " to " + entities.size() + " entities");
+        }
+        List<T> result = new ArrayList<>(entities.size());
+        for (int index = 0; index < entities.size(); index++) {
+            result.add(saved(entities.get(index), saved.get(index)));
+        }
+        return result;
+    }
+
+    private <T> Set<Object> existing(List<T> entities) {
+        Set<Object> existing = Collections.newSetFromMap(new IdentityHashMap<>());
+        Map<Class<?>, List<T>> types = entities.stream()
+                .collect(Collectors.groupingBy(Object::getClass, LinkedHashMap::new, Collectors.toList()));
+        types.forEach((type, values) -> {
+            EntityMetadata metadata = entities().get(type);
+            FieldMetadata idField = metadata.id().orElseThrow(() -> IdNotFoundException.newInstance(type));
+            Map<Object, List<T>> ids = new LinkedHashMap<>();
+            for (T value : values) {
+                Object id = idField.read(value);
+                if (id != null) {
+                    ids.computeIfAbsent(ConverterUtil.getValue(id, converters(), idField), k -> new ArrayList<>())
+                            .add(value);
+                }
+            }
+            if (ids.isEmpty()) {
+                return;
+            }
+            Class<?> idType = ids.keySet().iterator().next().getClass();
+            Set<Object> found = new HashSet<>();
+            find(metadata, idField, new ArrayList<>(ids.keySet())).map(v -> normalize(v, idType)).forEach(found::add);
+            ids.forEach((id, items) -> {
+                if (found.contains(id)) {
+                    existing.addAll(items);
+                }
+            });
+        });
+        return existing;
+    }
+
+    private static Object normalize(Object value, Class<?> type) {
+        if (type.isInstance(value)) {
+            return value;
+        }
+        try {
+            return Value.of(value).get(type);
+        } catch (UnsupportedOperationException exception) {
+            return value;
+        }
+    }
+}
@@ -0,0 +1,250 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core;
+
+import jakarta.data.Sort;
+import jakarta.data.page.KeysetAwarePage;
+import jakarta.data.page.Pageable;
+import org.eclipse.jnosql.communication.Condition;
+import org.eclipse.jnosql.mapping.IdNotFoundException;
+import org.eclipse.jnosql.mapping.core.util.ConverterUtil;
+import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * The keyset, or cursor, of a paginated query: the sort keys of the query followed by the entity id as a tiebreaker.
+ * Instead of skipping the rows of the previous pages, the next page is read with a condition that starts right after
+ * the keys of the last entity, so reading a deep page costs the same as reading the first one.
+ *
+ * <p>Given the sorts {@code s1, s2} and the id, the page after the cursor {@code (v1, v2, id)} is read with:</p>
+ * <pre>
+ * s1 &gt; v1 OR (s1 = v1 AND s2 &gt; v2) OR (s1 = v1 AND s2 = v2 AND id &gt; id)
+ * </pre>
+ * where {@code >} becomes {@code <} for descending sorts and both are inverted to read the previous page.
+ *
+ * @see NoSQLKeysetPage
+ */
+public final class Keyset {
+
+    private final List<Sort> sorts;
+
+    private final List<FieldMetadata> fields;
+
+    private final FieldMetadata id;
+
+    private final Converters converters;
+
+    private Keyset(List<Sort> sorts, List<FieldMetadata> fields, FieldMetadata id, Converters converters) {
+        this.sorts = sorts;
+        this.fields = fields;
+        this.id = id;
+        this.converters = converters;
+    }
+
+    /**
+     * Returns the sorts of the query: the original ones followed by the id, unless the id is already sorted.
+     *
+     * @return the sorts to read a page, next pages included
+     */
+    public List<Sort> sorts() {
+        return Collections.unmodifiableList(sorts);
+    }
+
+    /**
+     * Returns the sorts to read the page requested, when it is {@link Pageable.Mode#CURSOR_PREVIOUS} the database
+     * reads it backwards, so the directions are inverted and {@link Keyset#page(List, Pageable)} restores the order.
+     *
+     * @param pageable the page requested
+     * @return the sorts to the query
+     * @throws NullPointerException when pageable is null
+     */
+    public List<Sort> sorts(Pageable pageable) {
+        Objects.requireNonNull(pageable, "pageable is required");
+        if (pageable.mode() != Pageable.Mode.CURSOR_PREVIOUS) {
+            return sorts();
+        }
+        List<Sort> inverted = new ArrayList<>(sorts.size());
+        for (Sort sort : sorts) {
+            inverted.add(sort.isAscending() ? Sort.desc(sort.property()) : Sort.asc(sort.property()));
+        }
+        return inverted;
+    }
+
+    /**
+     * Checks if the name, either the Java field or the column, is the entity id. It is useful to databases where the id
+     * is not an attribute, such as the vertex id on Graph.
+     *
+     * @param name the sort property or the comparison name
+     * @return true when it is the id
+     */
+    public boolean isId(String name) {
+        return id.name().equals(name) || id.fieldName().equals(name);
+    }
+
+    /**
+     * Returns the condition that starts the page after, or before, the cursor of the pageable.
+     * Each item is a conjunction of comparisons, and the items are joined in a disjunction.
+     * The values are already converted to the database format.
+     *
+     * @param pageable the page requested
+     * @return the condition or {@link Optional#empty()} when the pageable has no cursor
+     * @throws NullPointerException     when pageable is null
+     * @throws IllegalArgumentException when the cursor size does not match the keyset
+     */
+    public Optional<List<List<Comparison>>> condition(Pageable pageable) {
+        Objects.requireNonNull(pageable, "pageable is required");
+        if (pageable.mode() == Pageable.Mode.OFFSET || pageable.cursor().isEmpty()) {
+            return Optional.empty();
+        }
+        Pageable.Cursor cursor = pageable.cursor().orElseThrow();
+        if (cursor.size() != fields.size()) {
+            throw new IllegalArgumentException("The cursor has " + cursor.size() + " keys, but the query is sorted by "
+                    + fields.size() + " keys, the id included: " + sorts);
+        }
+        boolean next = pageable.mode() == Pageable.Mode.CURSOR_NEXT;
+        List<List<Comparison>> disjunction = new ArrayList<>(fields.size());
+        for (int index = 0; index < fields.size(); index++) {
+            List<Comparison> conjunction = new ArrayList<>(index + 1);
+            for (int previous = 0; previous < index; previous++) {
+                conjunction.add(comparison(previous, Condition.EQUALS, cursor));
+            }
+            boolean greater = sorts.get(index).isAscending() == next;
+            conjunction.add(comparison(index, greater ? Condition.GREATER_THAN : Condition.LESSER_THAN, cursor));
+            disjunction.add(conjunction);
+        }
+        return Optional.of(disjunction);
+    }
+
+    /**
+     * Creates the cursor of the entity from its sort keys
+     *
+     * @param entity the entity
+     * @return the cursor
+     * @throws NullPointerException when entity is null
+     */
+    public Pageable.Cursor cursor(Object entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        List<Object> values = new ArrayList<>(fields.size());
+        for (FieldMetadata field : fields) {
+            values.add(field.read(entity));
+        }
+        return new KeysetCursor(values);
+    }
+
+    /**
+     * Creates the page from the entities read with {@link Keyset#sorts(Pageable)}
+     *
+     * @param entities the entities
+     * @param pageable the page requested
+     * @param <T>      the entity type
+     * @return the page, where each entity has its cursor
+     * @throws NullPointerException when there is null parameter
+     */
+    public <T> KeysetAwarePage<T> page(List<T> entities, Pageable pageable) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(pageable, "pageable is required");
+        List<T> content = entities;
+        if (pageable.mode() == Pageable.Mode.CURSOR_PREVIOUS) {
+            content = new ArrayList<>(entities);
+            Collections.reverse(content);
+        }
+        return NoSQLKeysetPage.of(content, pageable, this::cursor);
+    }
+
+    /**
+     * Creates the keyset from the sorts of a query, the entity id is appended as tiebreaker when it is not sorted
+     *
+     * @param metadata   the entity metadata
+     * @param sorts      the sorts of the query
+     * @param converters the converters
+     * @return the keyset
+     * @throws NullPointerException     when there is null parameter
+     * @throws IllegalArgumentException when a sort is not an attribute of the entity
+     * @throws IdNotFoundException      when the entity has no id
+     */
+    public static Keyset of(EntityMetadata metadata, List<Sort> sorts, Converters converters) {
+        Objects.requireNonNull(metadata, "metadata is required");
+        Objects.requireNonNull(sorts, "sorts is required");
+        Objects.requireNonNull(converters, "converters is required");
+        FieldMetadata id = metadata.id().orElseThrow(() -> IdNotFoundException.newInstance(metadata.type()));
+        List<Sort> keys = new ArrayList<>(sorts.size() + 1);
+        List<FieldMetadata> fields = new ArrayList<>(sorts.size() + 1);
+        for (Sort sort : sorts) {
+            FieldMetadata field = field(metadata, sort.property());
+            if (!fields.contains(field)) {
+                keys.add(sort);
+                fields.add(field);
+            }
+        }
+        if (!fields.contains(id)) {
+            keys.add(Sort.asc(id.name()));
+            fields.add(id);
+        }
+        return new Keyset(keys, fields, id, converters);
+    }
+
+    private Comparison comparison(int index, Condition condition, Pageable.Cursor cursor) {
+        FieldMetadata field = fields.get(index);
+        Object value = cursor.getKeysetElement(index);
+        if (value == null) {
+            throw new IllegalArgumentException("The keyset pagination does not support null values at the cursor, field: "
+                    + field.fieldName());
+        }
+        return new Comparison(field.name(), condition, ConverterUtil.getValue(value, converters, field));
+    }
+
+    private static FieldMetadata field(EntityMetadata metadata, String property) {
+        return metadata.fieldMapping(property)
+                .or(() -> Optional.ofNullable(metadata.fieldsGroupByName().get(property)))
+                .orElseThrow(() -> new IllegalArgumentException("The keyset pagination requires the sort to be an attribute of "
+                        + metadata.className() + ", property: " + property));
+    }
+
+    @Override
+    public String toString() {
+        return "Keyset{" +
+                "sorts=" + sorts +
+                '}';
+    }
+
+    /**
+     * A comparison of the keyset condition
+     *
+     * @param name      the column name
+     * @param condition either {@link Condition#EQUALS}, {@link Condition#GREATER_THAN} or {@link Condition#LESSER_THAN}
+     * @param value     the value in the database format
+     */
+    public record Comparison(String name, Condition condition, Object value) {
+    }
+
+    private record KeysetCursor(List<Object> values) implements Pageable.Cursor {
+
+        @Override
+        public Object getKeysetElement(int index) {
+            return values.get(index);
+        }
+
+        @Override
+        public int size() {
+            return values.size();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core;
+
+import jakarta.data.page.Pageable;
+import org.eclipse.jnosql.communication.Condition;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Converts the condition of a {@link Keyset} to the condition type {@code C} of a database, e.g. the document or the
+ * column one, from the factories of its comparisons, conjunction and disjunction.
+ *
+ * @param <C> the condition type
+ */
+public final class KeysetCondition<C> {
+
+    private final BiFunction<String, Object, C> equals;
+
+    private final BiFunction<String, Object, C> greaterThan;
+
+    private final BiFunction<String, Object, C> lesserThan;
+
+    private final Function<List<C>, C> and;
+
+    private final Function<List<C>, C> or;
+
+    private KeysetCondition(BiFunction<String, Object, C> equals, BiFunction<String, Object, C> greaterThan,
+                            BiFunction<String, Object, C> lesserThan, Function<List<C>, C> and,
+                            Function<List<C>, C> or) {
+        this.equals = equals;
+        this.greaterThan = greaterThan;
+        this.lesserThan = lesserThan;
+        this.and = and;
+        this.or = or;
+    }
+
+    /**
+     * Returns the condition of the query joined with the one that starts the page after, or before, the cursor of
+     * the pageable.
+     *
+     * @param keyset    the keyset of the query
+     * @param pageable  the page requested
+     * @param condition the condition of the query, it might be null
+     * @return the condition, or null when the query has no condition and the pageable has no cursor
+     * @throws NullPointerException     when keyset or pageable is null
+     * @throws IllegalArgumentException when the cursor size does not match the keyset
+     * @see Keyset#condition(Pageable)
+     */
+    public C condition(Keyset keyset, Pageable pageable, C condition) {
+        Objects.requireNonNull(keyset, "keyset is required");
+        return keyset.condition(pageable)
+                .map(this::disjunction)
+                .map(k -> condition == null ? k : and.apply(List.of(condition, k)))
+                .orElse(condition);
+    }
+
+    private C disjunction(List<List<Keyset.Comparison>> disjunction) {
+        List<C> conditions = new ArrayList<>(disjunction.size());
+        for (List<Keyset.Comparison> conjunction : disjunction) {
+            List<C> comparisons = new ArrayList<>(conjunction.size());
+            for (Keyset.Comparison comparison : conjunction) {
+                comparisons.add(comparison(comparison));
+            }
+            conditions.add(comparisons.size() == 1 ? comparisons.get(0) : and.apply(comparisons));
+        }
+        return conditions.size() == 1 ? conditions.get(0) : or.apply(conditions);
+    }
+
+    private C comparison(Keyset.Comparison comparison) {
+        if (Condition.EQUALS.equals(comparison.condition())) {
+            return equals.apply(comparison.name(), comparison.value());
+        } else if (Condition.GREATER_THAN.equals(comparison.condition())) {
+            return greaterThan.apply(comparison.name(), comparison.value());
+        }
+        return lesserThan.apply(comparison.name(), comparison.value());
+    }
+
+    /**
+     * Creates a {@link KeysetCondition} from the factories of the condition type
+     *
+     * @param equals      creates the equals comparison
+     * @param greaterThan creates the greater than comparison
+     * @param lesserThan  creates the lesser than comparison
+     * @param and         creates the conjunction of two or more conditions
+     * @param or          creates the disjunction of two or more conditions
+     * @param <C>         the condition type
+     * @return a {@link KeysetCondition} instance
+     * @throws NullPointerException when there is null parameter
+     */
+    public static <C> KeysetCondition<C> of(BiFunction<String, Object, C> equals,
+                                            BiFunction<String, Object, C> greaterThan,
+                                            BiFunction<String, Object, C> lesserThan,
+                                            Function<List<C>, C> and,
+                                            Function<List<C>, C> or) {
+        Objects.requireNonNull(equals, "equals is required");
+        Objects.requireNonNull(greaterThan, "greaterThan is required");
+        Objects.requireNonNull(lesserThan, "lesserThan is required");
+        Objects.requireNonNull(and, "and is required");
+        Objects.requireNonNull(or, "or is required");
+        return new KeysetCondition<>(equals, greaterThan, lesserThan, and, or);
+    }
+}
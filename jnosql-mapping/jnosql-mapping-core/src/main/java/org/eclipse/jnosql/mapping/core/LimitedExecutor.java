@@ -0,0 +1,102 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An {@link Executor} that runs at most {@code limit} tasks at the delegate and queues the others,
+ * without holding a thread while they wait. A task that submits to the same instance runs inline,
+ * so a task never waits for a permit that it holds itself.
+ */
+final class LimitedExecutor implements Executor {
+
+    private static final ThreadLocal<LimitedExecutor> CURRENT = new ThreadLocal<>();
+
+    private final Executor delegate;
+
+    private final int limit;
+
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger active = new AtomicInteger();
+
+    LimitedExecutor(Executor delegate, int limit) {
+        this.delegate = delegate;
+        this.limit = limit;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (CURRENT.get() == this) {
+            task.run();
+            return;
+        }
+        tasks.add(task);
+        dispatch();
+    }
+
+    int active() {
+        return active.get();
+    }
+
+    private void dispatch() {
+        while (!tasks.isEmpty()) {
+            int current = active.get();
+            if (current >= limit) {
+                return;
+            }
+            if (!active.compareAndSet(current, current + 1)) {
+                continue;
+            }
+            Runnable task = tasks.poll();
+            if (task == null) {
+                active.decrementAndGet();
+                continue;
+            }
+            try {
+                delegate.execute(() -> run(task));
+            } catch (RejectedExecutionException exception) {
+                active.decrementAndGet();
+                throw exception;
+            }
+        }
+    }
+
+    private void run(Runnable task) {
+        CURRENT.set(this);
+        try {
+            task.run();
+        } finally {
+            CURRENT.remove();
+            active.decrementAndGet();
+            dispatch();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "LimitedExecutor{" +
+                "delegate=" + delegate +
+                ", limit=" + limit +
+                ", active=" + active +
+                ", queued=" + tasks.size() +
+                '}';
+    }
+}
@@ -0,0 +1,297 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core;
+
+import org.eclipse.jnosql.mapping.core.config.MappingConfigurations;
+import org.eclipse.jnosql.mapping.core.config.MicroProfileSettings;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * The executor of the blocking operations that the mapping runs away from the calling thread: the
+ * {@code findByIdIn} fan-out, the page counts of {@link PageTotals}, the {@link java.util.concurrent.CompletionStage}
+ * repository return and {@link AsyncTemplate}.
+ * <p>
+ * The default instance, {@link MappingExecutor#get()}, runs them on virtual threads on Java 21 or later and on a
+ * cached pool of daemon threads otherwise. {@link MappingExecutor#database(Object)} gives each database a bulkhead of
+ * {@link MappingExecutor#bulkhead()} operations, so a slow database queues its own work instead of taking
+ * the threads of the others.
+ * <p>
+ * The fan-out and the page counts, that the application did not ask to be asynchronous, run at the calling thread
+ * unless {@link MappingExecutor#parallel()} is enabled, because sessions, transactions and the CDI request context
+ * are bound to that thread. When it is enabled, they run at the bulkhead of their database and a fan-out runs at most
+ * {@link MappingExecutor#concurrency()} operations at the same time.
+ *
+ * @see MappingConfigurations#EXECUTOR
+ * @see MappingConfigurations#EXECUTOR_PARALLEL
+ * @see MappingConfigurations#EXECUTOR_CONCURRENCY
+ * @see MappingConfigurations#EXECUTOR_BULKHEAD
+ */
+public final class MappingExecutor implements Executor {
+
+    static final int DEFAULT_CONCURRENCY = 16;
+
+    static final int DEFAULT_BULKHEAD = 64;
+
+    private final Executor executor;
+
+    private final int concurrency;
+
+    private final int bulkhead;
+
+    private final boolean parallel;
+
+    private final Map<Object, Executor> databases = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private MappingExecutor(Executor executor, int concurrency, int bulkhead, boolean parallel) {
+        this.executor = executor;
+        this.concurrency = concurrency;
+        this.bulkhead = bulkhead;
+        this.parallel = parallel;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        Objects.requireNonNull(command, "command is required");
+        executor.execute(command);
+    }
+
+    /**
+     * Returns how many operations of a single fan-out run at the same time
+     *
+     * @return the concurrency
+     */
+    public int concurrency() {
+        return concurrency;
+    }
+
+    /**
+     * Returns how many operations run at the same time against a single database
+     *
+     * @return the bulkhead size
+     */
+    public int bulkhead() {
+        return bulkhead;
+    }
+
+    /**
+     * Returns whether the fan-out and the page counts leave the calling thread
+     *
+     * @return true when they run at the executor
+     */
+    public boolean parallel() {
+        return parallel;
+    }
+
+    /**
+     * Returns the executor of a database, that runs at most {@link MappingExecutor#bulkhead()} operations at a time
+     * and queues the others. The database is any object that identifies it, e.g. the
+     * {@link org.eclipse.jnosql.mapping.DatabaseQualifier} of a repository bean; it is weakly referenced, so it
+     * must be held by something that lives as long as the database, such as the bean.
+     *
+     * @param database the database
+     * @return the executor of the database
+     * @throws NullPointerException when database is null
+     */
+    public Executor database(Object database) {
+        Objects.requireNonNull(database, "database is required");
+        return databases.computeIfAbsent(database, key -> new LimitedExecutor(executor, bulkhead));
+    }
+
+    /**
+     * Returns the executor of the work that the mapping runs on its own for a database, such as the page counts:
+     * the {@link MappingExecutor#database(Object)} when {@link MappingExecutor#parallel()} is enabled,
+     * otherwise the calling thread.
+     *
+     * @param database the database
+     * @return the executor of the implicit work of the database
+     * @throws NullPointerException when database is null
+     */
+    public Executor implicit(Object database) {
+        Objects.requireNonNull(database, "database is required");
+        return parallel ? database(database) : Runnable::run;
+    }
+
+    /**
+     * Applies the function to each item and waits for all of them at the calling thread. When
+     * {@link MappingExecutor#parallel()} is enabled, the items run at the bulkhead of the database, at most
+     * {@link MappingExecutor#concurrency()} of them at the same time; otherwise they run one after the other at the
+     * calling thread. The result keeps the order of the items; when a function fails, the operations not started yet
+     * are cancelled and the failure is rethrown.
+     *
+     * @param database the database, see {@link MappingExecutor#database(Object)}
+     * @param items    the items
+     * @param function the function, e.g. a find by id
+     * @param <T>      the item type
+     * @param <R>      the result type
+     * @return the results in the order of the items
+     * @throws NullPointerException when there are null parameters
+     */
+    public <T, R> List<R> map(Object database, List<T> items, Function<? super T, ? extends R> function) {
+        Objects.requireNonNull(database, "database is required");
+        Objects.requireNonNull(items, "items is required");
+        Objects.requireNonNull(function, "function is required");
+        if (!parallel || items.size() < 2) {
+            List<R> result = new ArrayList<>(items.size());
+            items.forEach(item -> result.add(function.apply(item)));
+            return result;
+        }
+        Executor limited = new LimitedExecutor(database(database), concurrency);
+        List<CompletableFuture<R>> futures = new ArrayList<>(items.size());
+        for (T item : items) {
+            futures.add(CompletableFuture.supplyAsync(() -> function.apply(item), limited));
+        }
+        List<R> result = new ArrayList<>(items.size());
+        try {
+            for (CompletableFuture<R> future : futures) {
+                result.add(join(future));
+            }
+        } catch (RuntimeException exception) {
+            futures.forEach(future -> future.cancel(false));
+            throw exception;
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "MappingExecutor{" +
+                "executor=" + executor +
+                ", concurrency=" + concurrency +
+                ", bulkhead=" + bulkhead +
+                ", parallel=" + parallel +
+                '}';
+    }
+
+    /**
+     * Returns the shared instance, created at the first call from the {@link MappingConfigurations#EXECUTOR},
+     * {@link MappingConfigurations#EXECUTOR_PARALLEL}, {@link MappingConfigurations#EXECUTOR_CONCURRENCY} and
+     * {@link MappingConfigurations#EXECUTOR_BULKHEAD} properties.
+     *
+     * @return the shared {@link MappingExecutor}
+     * @throws IllegalArgumentException when a property has an invalid value
+     */
+    public static MappingExecutor get() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Creates a {@link MappingExecutor} whose fan-out and page counts run at the executor
+     *
+     * @param executor    the executor that runs the operations
+     * @param concurrency how many operations of a single fan-out run at the same time
+     * @param bulkhead    how many operations run at the same time against a single database
+     * @return a new {@link MappingExecutor} instance
+     * @throws NullPointerException     when executor is null
+     * @throws IllegalArgumentException when either concurrency or bulkhead are not positive
+     */
+    public static MappingExecutor of(Executor executor, int concurrency, int bulkhead) {
+        return of(executor, concurrency, bulkhead, true);
+    }
+
+    /**
+     * Creates a {@link MappingExecutor}
+     *
+     * @param executor    the executor that runs the operations
+     * @param concurrency how many operations of a single fan-out run at the same time
+     * @param bulkhead    how many operations run at the same time against a single database
+     * @param parallel    whether the fan-out and the page counts run at the executor instead of the calling thread
+     * @return a new {@link MappingExecutor} instance
+     * @throws NullPointerException     when executor is null
+     * @throws IllegalArgumentException when either concurrency or bulkhead are not positive
+     */
+    public static MappingExecutor of(Executor executor, int concurrency, int bulkhead, boolean parallel) {
+        Objects.requireNonNull(executor, "executor is required");
+        if (concurrency <= 0) {
+            throw new IllegalArgumentException("The concurrency must be positive: " + concurrency);
+        }
+        if (bulkhead <= 0) {
+            throw new IllegalArgumentException("The bulkhead must be positive: " + bulkhead);
+        }
+        return new MappingExecutor(executor, concurrency, bulkhead, parallel);
+    }
+
+    static Executor executor(String type) {
+        return switch (type.trim().toLowerCase(Locale.US)) {
+            case "virtual" -> {
+                ExecutorService virtual = virtualThreads();
+                yield virtual == null ? platformThreads() : virtual;
+            }
+            case "platform" -> platformThreads();
+            default -> throw new IllegalArgumentException("The executor must be virtual or platform: " + type);
+        };
+    }
+
+    static ExecutorService virtualThreads() {
+        try {
+            Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) method.invoke(null);
+        } catch (ReflectiveOperationException exception) {
+            return null;
+        }
+    }
+
+    private static ExecutorService platformThreads() {
+        AtomicInteger counter = new AtomicInteger();
+        ThreadFactory factory = task -> {
+            Thread thread = new Thread(task, "jnosql-executor-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        return Executors.newCachedThreadPool(factory);
+    }
+
+    private static <R> R join(CompletableFuture<R> future) {
+        try {
+            return future.join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw exception;
+        }
+    }
+
+    private static final class Holder {
+
+        private static final MappingExecutor INSTANCE = create();
+
+        private static MappingExecutor create() {
+            MicroProfileSettings settings = MicroProfileSettings.INSTANCE;
+            Executor executor = executor(settings.get(MappingConfigurations.EXECUTOR, String.class).orElse("virtual"));
+            int concurrency = settings.get(MappingConfigurations.EXECUTOR_CONCURRENCY, Integer.class)
+                    .orElse(DEFAULT_CONCURRENCY);
+            int bulkhead = settings.get(MappingConfigurations.EXECUTOR_BULKHEAD, Integer.class)
+                    .orElse(DEFAULT_BULKHEAD);
+            boolean parallel = settings.get(MappingConfigurations.EXECUTOR_PARALLEL, Boolean.class).orElse(false);
+            return of(executor, concurrency, bulkhead, parallel);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core;
+
+import org.eclipse.jnosql.communication.Instrumentation;
+import org.eclipse.jnosql.communication.SlowQueryLog;
+import org.eclipse.jnosql.mapping.core.config.MappingConfigurations;
+import org.eclipse.jnosql.mapping.core.config.MicroProfileSettings;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Returns the {@link Instrumentation} that the managers and the templates report to.
+ *
+ * @see MappingConfigurations#INSTRUMENTATION
+ * @see MappingConfigurations#SLOW_QUERY_THRESHOLD
+ */
+public final class MappingInstrumentation {
+
+    private static final int SLOW_QUERY_CAPACITY = 1_000;
+
+    private static volatile SlowQueryLog slowQueryLog;
+
+    private MappingInstrumentation() {
+    }
+
+    /**
+     * Returns the {@link Instrumentation#jfr()}, that records nothing until a recording enables its event, together with
+     * the {@link Instrumentation#get()} when the {@link MappingConfigurations#INSTRUMENTATION} property is true, and the
+     * {@link MappingInstrumentation#slowQueryLog()} when it is enabled.
+     *
+     * @return the {@link Instrumentation} instance
+     */
+    public static Instrumentation get() {
+        boolean enabled = MicroProfileSettings.INSTANCE.get(MappingConfigurations.INSTRUMENTATION, Boolean.class)
+                .orElse(false);
+        List<Instrumentation> instrumentations = new ArrayList<>();
+        if (enabled) {
+            instrumentations.add(Instrumentation.get());
+        }
+        instrumentations.add(Instrumentation.jfr());
+        slowQueryLog().ifPresent(instrumentations::add);
+        return Instrumentation.of(instrumentations);
+    }
+
+    /**
+     * Returns the slow query log that all the managers share, e.g. to read its {@link SlowQueryLog#top(int)}
+     * fingerprints, when the {@link MappingConfigurations#SLOW_QUERY_THRESHOLD} property is defined. The log is created
+     * with the threshold and the {@link MappingConfigurations#SLOW_QUERY_CAPACITY} defined at the first call.
+     *
+     * @return the {@link SlowQueryLog} instance or {@link Optional#empty()} when it is disabled
+     */
+    public static Optional<SlowQueryLog> slowQueryLog() {
+        Optional<Duration> threshold = MicroProfileSettings.INSTANCE.get(MappingConfigurations.SLOW_QUERY_THRESHOLD, String.class)
+                .map(Duration::parse);
+        if (threshold.isEmpty()) {
+            return Optional.empty();
+        }
+        SlowQueryLog value = slowQueryLog;
+        if (value == null) {
+            synchronized (MappingInstrumentation.class) {
+                value = slowQueryLog;
+                if (value == null) {
+                    int capacity = MicroProfileSettings.INSTANCE.get(MappingConfigurations.SLOW_QUERY_CAPACITY, Integer.class)
+                            .orElse(SLOW_QUERY_CAPACITY);
+                    value = SlowQueryLog.of(threshold.get(), capacity);
+                    slowQueryLog = value;
+                }
+            }
+        }
+        return Optional.of(value);
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core;
+
+
+import jakarta.data.page.KeysetAwarePage;
+import jakarta.data.page.Pageable;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * A JNoSQL implementation of {@link KeysetAwarePage}, the next and previous pages start from the cursor
+ * of the last and first entities instead of an offset.
+ *
+ * @param <T> the entity type
+ * @see Keyset
+ */
+public final class NoSQLKeysetPage<T> implements KeysetAwarePage<T> {
+
+    private final List<T> entities;
+
+    private final Pageable pageable;
+
+    private final Function<T, Pageable.Cursor> cursor;
+
+    private NoSQLKeysetPage(List<T> entities, Pageable pageable, Function<T, Pageable.Cursor> cursor) {
+        this.entities = entities;
+        this.pageable = pageable;
+        this.cursor = cursor;
+    }
+
+    @Override
+    public Pageable.Cursor getKeysetCursor(int index) {
+        return cursor.apply(entities.get(index));
+    }
+
+    @Override
+    public Pageable nextPageable() {
+        if (entities.isEmpty() || isLast()) {
+            return null;
+        }
+        return pageable.afterKeysetCursor(getKeysetCursor(entities.size() - 1)).page(pageable.page() + 1);
+    }
+
+    @Override
+    public Pageable previousPageable() {
+        if (entities.isEmpty() || isFirst()) {
+            return null;
+        }
+        return pageable.beforeKeysetCursor(getKeysetCursor(0)).page(Math.max(1, pageable.page() - 1));
+    }
+
+    @Override
+    public long totalElements() {
+        throw new UnsupportedOperationException("JNoSQL has no support for this feature yet");
+    }
+
+    @Override
+    public long totalPages() {
+        throw new UnsupportedOperationException("JNoSQL has no support for this feature yet");
+    }
+
+    @Override
+    public List<T> content() {
+        return Collections.unmodifiableList(entities);
+    }
+
+    @Override
+    public boolean hasContent() {
+        return !this.entities.isEmpty();
+    }
+
+    @Override
+    public int numberOfElements() {
+        return this.entities.size();
+    }
+
+    @Override
+    public Pageable pageable() {
+        return this.pageable;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return this.entities.iterator();
+    }
+
+    private boolean isLast() {
+        return pageable.mode() != Pageable.Mode.CURSOR_PREVIOUS && entities.size() < pageable.size();
+    }
+
+    private boolean isFirst() {
+        if (pageable.mode() == Pageable.Mode.OFFSET) {
+            return pageable.page() == 1;
+        }
+        return pageable.mode() == Pageable.Mode.CURSOR_PREVIOUS && entities.size() < pageable.size();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        NoSQLKeysetPage<?> that = (NoSQLKeysetPage<?>) o;
+        return Objects.equals(entities, that.entities) && Objects.equals(pageable, that.pageable);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(entities, pageable);
+    }
+
+    @Override
+    public String toString() {
+        return "NoSQLKeysetPage{" +
+                "entities=" + entities +
+                ", pageable=" + pageable +
+                '}';
+    }
+
+    /**
+     * Creates a {@link KeysetAwarePage} implementation from entities, the pageable requested and the cursor function
+     *
+     * @param entities the entities, at the order of the sorts
+     * @param pageable the pageable requested
+     * @param cursor   the function that creates the cursor of an entity
+     * @param <T>      the entity type
+     * @return a {@link KeysetAwarePage} instance
+     * @throws NullPointerException when there is null parameter
+     */
+    public static <T> KeysetAwarePage<T> of(List<T> entities, Pageable pageable, Function<T, Pageable.Cursor> cursor) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(pageable, "pageable is required");
+        Objects.requireNonNull(cursor, "cursor is required");
+        return new NoSQLKeysetPage<>(entities, pageable, cursor);
+    }
+}
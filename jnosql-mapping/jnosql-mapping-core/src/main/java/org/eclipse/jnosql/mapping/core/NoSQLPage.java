@@ -34,19 +34,36 @@ public class NoSQLPage<T> implements Page<T> {
 
     private final Pageable pageable;
 
-    private NoSQLPage(List<T> entities, Pageable pageable) {
+    private final long totalElements;
+
+    private NoSQLPage(List<T> entities, Pageable pageable, long totalElements) {
         this.entities = entities;
         this.pageable = pageable;
+        this.totalElements = totalElements;
     }
 
     @Override
     public long totalElements() {
-        throw new UnsupportedOperationException("JNoSQL has no support for this feature yet");
+        if (totalElements < 0) {
+            throw new UnsupportedOperationException("There is no total at this page, check the " +
+                    "jnosql.page.total property to enable it");
+        }
+        return totalElements;
     }
 
     @Override
     public long totalPages() {
-        throw new UnsupportedOperationException("JNoSQL has no support for this feature yet");
+        long total = totalElements();
+        return (total + pageable.size() - 1) / pageable.size();
+    }
+
+    /**
+     * Checks if the page has the totals, {@link NoSQLPage#totalElements()} and {@link NoSQLPage#totalPages()}.
+     *
+     * @return true when the totals were computed
+     */
+    public boolean hasTotals() {
+        return totalElements >= 0;
     }
 
     @Override
@@ -88,12 +105,14 @@ public class NoSQLPage<T> implements Page<T> {
             return false;
         }
         NoSQLPage<?> noSQLPage = (NoSQLPage<?>) o;
-        return Objects.equals(entities, noSQLPage.entities) && Objects.equals(pageable, noSQLPage.pageable);
+        return totalElements == noSQLPage.totalElements
+                && Objects.equals(entities, noSQLPage.entities)
+                && Objects.equals(pageable, noSQLPage.pageable);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(entities, pageable);
+        return Objects.hash(entities, pageable, totalElements);
     }
 
     @Override
@@ -101,6 +120,7 @@ public class NoSQLPage<T> implements Page<T> {
         return "NoSQLPage{" +
                 "entities=" + entities +
                 ", pageable=" + pageable +
+                ", totalElements=" + totalElements +
                 '}';
     }
 
@@ -114,7 +134,26 @@ public class NoSQLPage<T> implements Page<T> {
     public static <T> Page<T> of(List<T> entities, Pageable pageable) {
         Objects.requireNonNull(entities, "entities is required");
         Objects.requireNonNull(pageable, "pageable is required");
-        return new NoSQLPage<>(entities, pageable);
+        return new NoSQLPage<>(entities, pageable, -1);
+    }
+
+    /**
+     * Creates a {@link  Page} implementation from entities, a pageable and the total of elements of the query
+     * @param entities the entities
+     * @param pageable the pageable
+     * @param totalElements the total of elements, usually from a count query with the same condition
+     * @return a {@link Page} instance
+     * @param <T> the entity type
+     * @throws NullPointerException when there is null parameter
+     * @throws IllegalArgumentException when totalElements is negative
+     */
+    public static <T> Page<T> of(List<T> entities, Pageable pageable, long totalElements) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(pageable, "pageable is required");
+        if (totalElements < 0) {
+            throw new IllegalArgumentException("totalElements cannot be negative: " + totalElements);
+        }
+        return new NoSQLPage<>(entities, pageable, totalElements);
     }
 
     /**
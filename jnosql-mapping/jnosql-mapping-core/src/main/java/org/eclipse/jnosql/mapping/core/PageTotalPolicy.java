@@ -0,0 +1,63 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core;
+
+import org.eclipse.jnosql.mapping.core.config.MappingConfigurations;
+import org.eclipse.jnosql.mapping.core.config.MicroProfileSettings;
+
+import java.util.Locale;
+
+/**
+ * Defines when a repository page computes {@link jakarta.data.page.Page#totalElements()} with a count query.
+ * The count runs with the same condition as the page query and in parallel with it.
+ *
+ * @see MappingConfigurations#PAGE_TOTAL
+ * @see PageTotals
+ */
+public enum PageTotalPolicy {
+
+    /**
+     * The page has no totals; it is the default.
+     */
+    NEVER,
+    /**
+     * Every page runs a count query.
+     */
+    ALWAYS,
+    /**
+     * Only the first page runs a count query, the next pages of the same query reuse its total until it expires, so
+     * they may report a total that is stale after writes; a next page without a total to reuse runs the count.
+     *
+     * @see MappingConfigurations#PAGE_TOTAL_EXPIRE
+     */
+    FIRST_PAGE;
+
+    /**
+     * Returns the policy from the {@link MappingConfigurations#PAGE_TOTAL} property, where the values are
+     * never, always or first-page.
+     *
+     * @return the policy defined or {@link PageTotalPolicy#NEVER}
+     * @throws IllegalArgumentException when the property has an invalid value
+     */
+    public static PageTotalPolicy get() {
+        return MicroProfileSettings.INSTANCE.get(MappingConfigurations.PAGE_TOTAL, String.class)
+                .map(PageTotalPolicy::parse)
+                .orElse(NEVER);
+    }
+
+    static PageTotalPolicy parse(String value) {
+        return valueOf(value.trim().replace('-', '_').toUpperCase(Locale.US));
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core;
+
+import jakarta.data.page.Page;
+import jakarta.data.page.Pageable;
+import org.eclipse.jnosql.mapping.core.config.MappingConfigurations;
+import org.eclipse.jnosql.mapping.core.config.MicroProfileSettings;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Creates the pages of a repository with the totals defined by a {@link PageTotalPolicy}.
+ * The count query runs at the executor while the current thread reads the page, so the totals cost one round trip
+ * in parallel instead of a second, sequential, code path. With {@link PageTotalPolicy#FIRST_PAGE} the total of the
+ * first page is kept, by query, and reused on the next pages until it expires; writes do not refresh it, so the next
+ * pages may report a stale total for up to the expiration, by default
+ * {@link MappingConfigurations#PAGE_TOTAL_EXPIRE 30 seconds}, or until the first page is read again. A next page
+ * without a kept total, because it expired, was evicted or the first page was never read, runs the count as the
+ * first page does, so every page has its totals.
+ */
+public final class PageTotals {
+
+    private static final int MAXIMUM_SIZE = 1_000;
+
+    private static final Duration EXPIRATION = Duration.ofSeconds(30);
+
+    private final PageTotalPolicy policy;
+
+    private final Executor executor;
+
+    private final long expirationNanos;
+
+    private final Map<Object, Total> totals = new LinkedHashMap<>(16, 0.75F, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Object, Total> eldest) {
+            return size() > MAXIMUM_SIZE;
+        }
+    };
+
+    private PageTotals(PageTotalPolicy policy, Executor executor, Duration expiration) {
+        this.policy = policy;
+        this.executor = executor;
+        this.expirationNanos = expiration.toNanos();
+    }
+
+    /**
+     * Returns the policy
+     *
+     * @return the policy
+     */
+    public PageTotalPolicy policy() {
+        return policy;
+    }
+
+    /**
+     * Reads the page and, when the policy requires it, its totals.
+     *
+     * @param query    the key of the query, without skip and limit, that identifies the pages of the same query
+     * @param pageable the page requested
+     * @param select   reads the entities of the page
+     * @param count    counts the elements of the query
+     * @param <T>      the entity type
+     * @return the page
+     * @throws NullPointerException when there is null parameter
+     */
+    public <T> Page<T> page(Object query, Pageable pageable, Supplier<List<T>> select, LongSupplier count) {
+        Objects.requireNonNull(query, "query is required");
+        Objects.requireNonNull(pageable, "pageable is required");
+        Objects.requireNonNull(select, "select is required");
+        Objects.requireNonNull(count, "count is required");
+        if (PageTotalPolicy.NEVER.equals(policy)) {
+            return NoSQLPage.of(select.get(), pageable);
+        }
+        if (PageTotalPolicy.FIRST_PAGE.equals(policy) && pageable.page() > 1) {
+            Long total = total(query);
+            if (total != null) {
+                return NoSQLPage.of(select.get(), pageable, total);
+            }
+        }
+        CompletableFuture<Long> future = CompletableFuture.supplyAsync(count::getAsLong, executor);
+        List<T> entities;
+        try {
+            entities = select.get();
+        } catch (RuntimeException exception) {
+            future.cancel(false);
+            throw exception;
+        }
+        long total = join(future);
+        if (PageTotalPolicy.FIRST_PAGE.equals(policy)) {
+            synchronized (totals) {
+                totals.put(query, new Total(total, System.nanoTime() + expirationNanos));
+            }
+        }
+        return NoSQLPage.of(entities, pageable, total);
+    }
+
+    private Long total(Object query) {
+        synchronized (totals) {
+            Total total = totals.get(query);
+            if (total == null) {
+                return null;
+            }
+            if (System.nanoTime() - total.expiresAt() >= 0) {
+                totals.remove(query);
+                return null;
+            }
+            return total.value();
+        }
+    }
+
+    private static long join(CompletableFuture<Long> future) {
+        try {
+            return future.join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw exception;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "PageTotals{" +
+                "policy=" + policy +
+                ", expiration=" + Duration.ofNanos(expirationNanos) +
+                '}';
+    }
+
+    /**
+     * Creates a {@link PageTotals} that counts at the {@link MappingExecutor#get()}
+     *
+     * @param policy the policy
+     * @return a new {@link PageTotals} instance
+     * @throws NullPointerException when policy is null
+     */
+    public static PageTotals of(PageTotalPolicy policy) {
+        return of(policy, MappingExecutor.get());
+    }
+
+    /**
+     * Creates a {@link PageTotals} whose first page totals expire after the {@link MappingConfigurations#PAGE_TOTAL_EXPIRE}
+     * property, by default 30 seconds
+     *
+     * @param policy   the policy
+     * @param executor the executor that runs the count queries
+     * @return a new {@link PageTotals} instance
+     * @throws NullPointerException     when there is null parameter
+     * @throws IllegalArgumentException when the property is not a positive ISO-8601 duration
+     */
+    public static PageTotals of(PageTotalPolicy policy, Executor executor) {
+        Duration expiration = MicroProfileSettings.INSTANCE.get(MappingConfigurations.PAGE_TOTAL_EXPIRE, String.class)
+                .map(Duration::parse)
+                .orElse(EXPIRATION);
+        return of(policy, executor, expiration);
+    }
+
+    /**
+     * Creates a {@link PageTotals}
+     *
+     * @param policy     the policy
+     * @param executor   the executor that runs the count queries
+     * @param expiration how long a first page total is reused by the next pages
+     * @return a new {@link PageTotals} instance
+     * @throws NullPointerException     when there is null parameter
+     * @throws IllegalArgumentException when the expiration is not positive
+     */
+    public static PageTotals of(PageTotalPolicy policy, Executor executor, Duration expiration) {
+        Objects.requireNonNull(policy, "policy is required");
+        Objects.requireNonNull(executor, "executor is required");
+        Objects.requireNonNull(expiration, "expiration is required");
+        if (expiration.isNegative() || expiration.isZero()) {
+            throw new IllegalArgumentException("The page total expiration must be positive: " + expiration);
+        }
+        return new PageTotals(policy, executor, expiration);
+    }
+
+    private record Total(long value, long expiresAt) {
+    }
+}
@@ -0,0 +1,360 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core;
+
+import jakarta.data.exceptions.MappingException;
+import jakarta.data.page.Page;
+import jakarta.data.page.Slice;
+import jakarta.nosql.Entity;
+import org.eclipse.jnosql.communication.Value;
+import org.eclipse.jnosql.mapping.Projection;
+import org.eclipse.jnosql.mapping.Select;
+import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Proxy;
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * The metadata of a {@link Projection}: the attributes that it reads from the entity, the minimal list of columns that
+ * a query must fetch, and how to create the projection instance. A record is created through its canonical
+ * constructor, and an interface through a {@link Proxy} that returns the attribute values.
+ * The columns come from {@link EntityMetadata#columnField(String)}, so a nested path such as {@code address.city}
+ * fetches only the native field of the city.
+ */
+public final class ProjectionMetadata {
+
+    private static final ClassValue<AtomicReference<ProjectionMetadata>> CACHE = new ClassValue<>() {
+        @Override
+        protected AtomicReference<ProjectionMetadata> computeValue(Class<?> type) {
+            return new AtomicReference<>();
+        }
+    };
+
+    private static final Set<Class<?>> CONTAINERS = Set.of(Iterable.class, Stream.class, Optional.class, Page.class,
+            Slice.class);
+
+    private final Class<?> type;
+
+    private final EntityMetadata entity;
+
+    private final List<Attribute> attributes;
+
+    private final List<String> columns;
+
+    private final Constructor<?> constructor;
+
+    private ProjectionMetadata(Class<?> type, EntityMetadata entity, List<Attribute> attributes, List<String> columns,
+                               Constructor<?> constructor) {
+        this.type = type;
+        this.entity = entity;
+        this.attributes = attributes;
+        this.columns = columns;
+        this.constructor = constructor;
+    }
+
+    /**
+     * The projection type
+     *
+     * @return the projection type
+     */
+    public Class<?> type() {
+        return type;
+    }
+
+    /**
+     * The entity that the projection reads
+     *
+     * @return the entity metadata
+     */
+    public EntityMetadata entity() {
+        return entity;
+    }
+
+    /**
+     * The attributes at the declaration order, the same order {@link #newInstance(Object[])} expects the values
+     *
+     * @return the attributes
+     */
+    public List<Attribute> attributes() {
+        return attributes;
+    }
+
+    /**
+     * The native columns that a query needs to fetch to create the projection
+     *
+     * @return the columns
+     */
+    public List<String> columns() {
+        return columns;
+    }
+
+    /**
+     * Creates the projection instance, a null value of a primitive component becomes its default value.
+     *
+     * @param values the attribute values at the order of {@link #attributes()}
+     * @param <P>    the projection type
+     * @return the projection instance
+     * @throws NullPointerException     when values is null
+     * @throws IllegalArgumentException when the number of values is not the number of attributes
+     */
+    @SuppressWarnings("unchecked")
+    public <P> P newInstance(Object[] values) {
+        Objects.requireNonNull(values, "values is required");
+        if (values.length != attributes.size()) {
+            throw new IllegalArgumentException("The projection " + type.getName() + " requires " + attributes.size()
+                    + " values but received " + values.length);
+        }
+        Object[] arguments = new Object[values.length];
+        for (int index = 0; index < values.length; index++) {
+            arguments[index] = attributes.get(index).value(values[index]);
+        }
+        if (constructor == null) {
+            return (P) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                    new ProjectionHandler(type, attributes, arguments));
+        }
+        try {
+            return (P) constructor.newInstance(arguments);
+        } catch (InvocationTargetException exception) {
+            throw new MappingException("There is an issue to create the projection " + type.getName(), exception.getCause());
+        } catch (ReflectiveOperationException exception) {
+            throw new MappingException("There is an issue to create the projection " + type.getName(), exception);
+        }
+    }
+
+    /**
+     * Returns the entity of the {@link Projection#from()}
+     *
+     * @param type the projection type
+     * @return the entity type or {@link Optional#empty()} when the type has no {@link Projection} with an entity
+     * @throws NullPointerException when type is null
+     */
+    public static Optional<Class<?>> from(Class<?> type) {
+        Objects.requireNonNull(type, "type is required");
+        return Optional.ofNullable(type.getAnnotation(Projection.class))
+                .<Class<?>>map(Projection::from)
+                .filter(t -> !void.class.equals(t));
+    }
+
+    /**
+     * Checks if the type is a projection of the entity: a type that is not the entity itself and is either
+     * annotated with {@link Projection} or a record that is not an {@link Entity}.
+     *
+     * @param type   the type
+     * @param entity the entity metadata
+     * @return true when the type is a projection
+     * @throws NullPointerException when there is null parameter
+     */
+    public static boolean isProjection(Class<?> type, EntityMetadata entity) {
+        Objects.requireNonNull(type, "type is required");
+        Objects.requireNonNull(entity, "entity is required");
+        if (type.isAssignableFrom(entity.type())) {
+            return false;
+        }
+        return type.isAnnotationPresent(Projection.class) || type.isRecord() && !type.isAnnotationPresent(Entity.class);
+    }
+
+    /**
+     * Returns the projection that the repository method returns, e.g. {@code List<PersonSummary>} or
+     * {@code Optional<PersonSummary>}
+     *
+     * @param method the repository method
+     * @param entity the entity of the repository
+     * @return the projection type or {@link Optional#empty()} when the method returns the entity
+     * @throws NullPointerException when there is null parameter
+     */
+    public static Optional<Class<?>> projection(Method method, EntityMetadata entity) {
+        Objects.requireNonNull(method, "method is required");
+        Objects.requireNonNull(entity, "entity is required");
+        Class<?> returnType = method.getReturnType();
+        Type genericType = method.getGenericReturnType();
+        Class<?> type = returnType;
+        if (genericType instanceof ParameterizedType parameterized && CONTAINERS.stream().anyMatch(c -> c.isAssignableFrom(returnType))) {
+            Type argument = parameterized.getActualTypeArguments()[0];
+            if (argument instanceof Class<?> argumentType) {
+                type = argumentType;
+            } else if (argument instanceof ParameterizedType parameterizedArgument) {
+                type = (Class<?>) parameterizedArgument.getRawType();
+            } else {
+                return Optional.empty();
+            }
+        }
+        return isProjection(type, entity) ? Optional.of(type) : Optional.empty();
+    }
+
+    /**
+     * Returns the metadata of the projection, the metadata is created once per projection type and kept at a
+     * {@link ClassValue}, so it does not hold the application classes after a redeploy.
+     *
+     * @param type   the projection type, a record or an interface
+     * @param entity the entity that the projection reads
+     * @return the projection metadata
+     * @throws NullPointerException when there is null parameter
+     * @throws MappingException     when the type is neither a record nor an interface, or when an attribute
+     *                              does not exist at the entity
+     */
+    public static ProjectionMetadata of(Class<?> type, EntityMetadata entity) {
+        Objects.requireNonNull(type, "type is required");
+        Objects.requireNonNull(entity, "entity is required");
+        AtomicReference<ProjectionMetadata> cached = CACHE.get(type);
+        ProjectionMetadata metadata = cached.get();
+        if (metadata != null && metadata.entity.equals(entity)) {
+            return metadata;
+        }
+        metadata = create(type, entity);
+        cached.set(metadata);
+        return metadata;
+    }
+
+    private static ProjectionMetadata create(Class<?> type, EntityMetadata entity) {
+        List<Attribute> attributes = new ArrayList<>();
+        Constructor<?> constructor = null;
+        if (type.isRecord()) {
+            RecordComponent[] components = type.getRecordComponents();
+            for (RecordComponent component : components) {
+                Select select = component.getAnnotation(Select.class);
+                String path = select == null ? component.getName() : select.value();
+                attributes.add(attribute(type, entity, component.getName(), path, component.getType()));
+            }
+            constructor = constructor(type, components);
+        } else if (type.isInterface()) {
+            for (Method method : type.getMethods()) {
+                if (Modifier.isAbstract(method.getModifiers()) && method.getParameterCount() == 0
+                        && !void.class.equals(method.getReturnType())) {
+                    Select select = method.getAnnotation(Select.class);
+                    String path = select == null ? path(entity, method.getName()) : select.value();
+                    attributes.add(attribute(type, entity, method.getName(), path, method.getReturnType()));
+                }
+            }
+        } else {
+            throw new MappingException("The projection " + type.getName() + " must be either a record or an interface");
+        }
+        Set<String> columns = new LinkedHashSet<>();
+        for (Attribute attribute : attributes) {
+            columns.addAll(Arrays.asList(entity.columnField(attribute.path()).split(",")));
+        }
+        return new ProjectionMetadata(type, entity, Collections.unmodifiableList(attributes), List.copyOf(columns), constructor);
+    }
+
+    private static Attribute attribute(Class<?> type, EntityMetadata entity, String name, String path, Class<?> attributeType) {
+        if (entity.fieldMapping(path).isEmpty()) {
+            throw new MappingException("The projection " + type.getName() + " has the attribute " + name
+                    + " but there is no field " + path + " at the entity " + entity.type().getName());
+        }
+        return new Attribute(name, path, attributeType);
+    }
+
+    private static String path(EntityMetadata entity, String name) {
+        if (entity.fieldMapping(name).isPresent()) {
+            return name;
+        }
+        for (String prefix : List.of("get", "is")) {
+            if (name.length() > prefix.length() && name.startsWith(prefix)
+                    && Character.isUpperCase(name.charAt(prefix.length()))) {
+                return name.substring(prefix.length(), prefix.length() + 1).toLowerCase(Locale.US)
+                        + name.substring(prefix.length() + 1);
+            }
+        }
+        return name;
+    }
+
+    private static Constructor<?> constructor(Class<?> type, RecordComponent[] components) {
+        Class<?>[] parameters = Stream.of(components).map(RecordComponent::getType).toArray(Class<?>[]::new);
+        try {
+            Constructor<?> constructor = type.getDeclaredConstructor(parameters);
+            constructor.trySetAccessible();
+            return constructor;
+        } catch (NoSuchMethodException exception) {
+            throw new MappingException("There is no canonical constructor at the projection " + type.getName(), exception);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ProjectionMetadata{" +
+                "type=" + type +
+                ", entity=" + entity.type() +
+                ", attributes=" + attributes +
+                ", columns=" + columns +
+                '}';
+    }
+
+    /**
+     * An attribute of the projection
+     *
+     * @param name the record component or the interface method name
+     * @param path the Java field at the entity, a nested field is separated by dot
+     * @param type the attribute type
+     */
+    public record Attribute(String name, String path, Class<?> type) {
+
+        private Object value(Object value) {
+            if (value == null) {
+                return type.isPrimitive() ? Array.get(Array.newInstance(type, 1), 0) : null;
+            }
+            Class<?> wrapper = type.isPrimitive() ? Array.get(Array.newInstance(type, 1), 0).getClass() : type;
+            return wrapper.isInstance(value) ? value : Value.of(value).get(wrapper);
+        }
+    }
+
+    private record ProjectionHandler(Class<?> type, List<Attribute> attributes, Object[] values) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (method.getParameterCount() == 0) {
+                for (int index = 0; index < attributes.size(); index++) {
+                    if (attributes.get(index).name().equals(name)) {
+                        return values[index];
+                    }
+                }
+            }
+            if (method.isDefault()) {
+                return InvocationHandler.invokeDefault(proxy, method, args);
+            }
+            return switch (name) {
+                case "equals" -> proxy == args[0] || args[0] != null && Proxy.isProxyClass(args[0].getClass())
+                        && Proxy.getInvocationHandler(args[0]) instanceof ProjectionHandler other
+                        && type.equals(other.type) && Arrays.equals(values, other.values);
+                case "hashCode" -> Arrays.hashCode(values);
+                case "toString" -> type.getSimpleName() + IntStream.range(0, values.length)
+                        .mapToObj(index -> attributes.get(index).name() + "=" + values[index])
+                        .collect(Collectors.joining(", ", "{", "}"));
+                default -> throw new UnsupportedOperationException("The projection " + type.getName()
+                        + " does not support the method " + name);
+            };
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * An {@link Iterator} that reads a {@link Stream} one element at a time, it opens the stream at the first access and
+ * closes it as soon as there is no next element. A consumer that stops before the end must call {@link #close()}.
+ *
+ * @param <T> the element type
+ */
+public final class StreamIterator<T> implements Iterator<T>, AutoCloseable {
+
+    private final Supplier<Stream<T>> supplier;
+
+    private Stream<T> stream;
+
+    private Iterator<T> iterator;
+
+    private boolean closed;
+
+    private StreamIterator(Supplier<Stream<T>> supplier) {
+        this.supplier = supplier;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (closed) {
+            return false;
+        }
+        if (iterator == null) {
+            stream = supplier.get();
+            iterator = stream.iterator();
+        }
+        if (iterator.hasNext()) {
+            return true;
+        }
+        close();
+        return false;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("There is no next element at the stream");
+        }
+        return iterator.next();
+    }
+
+    /**
+     * Closes the underlying {@link Stream}, after it {@link #hasNext()} always returns false.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    /**
+     * Creates a {@link StreamIterator} instance
+     *
+     * @param supplier the supplier of the stream
+     * @param <T>      the element type
+     * @return a {@link StreamIterator} instance
+     * @throws NullPointerException when supplier is null
+     */
+    public static <T> StreamIterator<T> of(Supplier<Stream<T>> supplier) {
+        Objects.requireNonNull(supplier, "supplier is required");
+        return new StreamIterator<>(supplier);
+    }
+}
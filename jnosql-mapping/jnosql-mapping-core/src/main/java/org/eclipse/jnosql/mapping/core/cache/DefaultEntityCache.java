@@ -0,0 +1,230 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core.cache;
+
+import org.eclipse.jnosql.mapping.Cacheable;
+import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The default {@link EntityCache}, each region is split into segments, where each segment is an LRU map guarded
+ * by its own lock. A load that races with an eviction of the same segment does not store its result,
+ * so a find by id never brings back a value older than the last write performed by the template.
+ * The configuration of a region comes from the {@link Cacheable} of the first entity that reads from it.
+ */
+final class DefaultEntityCache implements EntityCache {
+
+    private static final int MAXIMUM_SEGMENTS = 16;
+
+    private static final long NO_EXPIRATION = Long.MAX_VALUE;
+
+    private final Map<String, Region> regions = new ConcurrentHashMap<>();
+
+    @Override
+    public <T> Optional<T> get(EntityMetadata metadata, Object id, Supplier<Optional<T>> loader) {
+        requireNonNull(metadata, "metadata is required");
+        requireNonNull(id, "id is required");
+        requireNonNull(loader, "loader is required");
+        Cacheable cacheable = metadata.type().getAnnotation(Cacheable.class);
+        if (cacheable == null) {
+            return loader.get();
+        }
+        Region region = regions.computeIfAbsent(metadata.name(), k -> new Region(cacheable));
+        return region.get(id, loader);
+    }
+
+    @Override
+    public boolean isCacheable(EntityMetadata metadata) {
+        requireNonNull(metadata, "metadata is required");
+        return metadata.type().isAnnotationPresent(Cacheable.class);
+    }
+
+    @Override
+    public boolean isImmutable(EntityMetadata metadata) {
+        requireNonNull(metadata, "metadata is required");
+        Cacheable cacheable = metadata.type().getAnnotation(Cacheable.class);
+        return cacheable != null && cacheable.immutable();
+    }
+
+    @Override
+    public void evict(String name, Object id) {
+        requireNonNull(name, "name is required");
+        requireNonNull(id, "id is required");
+        Region region = regions.get(name);
+        if (region != null) {
+            region.evict(id);
+        }
+    }
+
+    @Override
+    public void evictAll(String name) {
+        requireNonNull(name, "name is required");
+        Region region = regions.get(name);
+        if (region != null) {
+            region.evictAll();
+        }
+    }
+
+    @Override
+    public void evictAll() {
+        regions.values().forEach(Region::evictAll);
+    }
+
+    @Override
+    public Map<String, EntityCacheStatistics> statistics() {
+        Map<String, EntityCacheStatistics> statistics = new LinkedHashMap<>();
+        regions.forEach((name, region) -> statistics.put(name, region.statistics()));
+        return statistics;
+    }
+
+    @Override
+    public String toString() {
+        return "DefaultEntityCache{" +
+                "regions=" + regions.keySet() +
+                '}';
+    }
+
+    private static final class Region {
+
+        private final Segment[] segments;
+
+        private final long expireAfterWriteNanos;
+
+        private final LongAdder hits = new LongAdder();
+
+        private final LongAdder misses = new LongAdder();
+
+        private final LongAdder evictions = new LongAdder();
+
+        Region(Cacheable cacheable) {
+            if (cacheable.maximumSize() <= 0) {
+                throw new IllegalArgumentException("The maximumSize at @Cacheable must be positive: " + cacheable.maximumSize());
+            }
+            if (cacheable.expireAfterWrite() < 0) {
+                throw new IllegalArgumentException("The expireAfterWrite at @Cacheable cannot be negative: "
+                        + cacheable.expireAfterWrite());
+            }
+            this.expireAfterWriteNanos = cacheable.expireAfterWrite() == 0 ? NO_EXPIRATION :
+                    cacheable.unit().toNanos(cacheable.expireAfterWrite());
+            int size = Integer.highestOneBit((int) Math.min(MAXIMUM_SEGMENTS, cacheable.maximumSize()));
+            int capacity = (int) Math.min(Integer.MAX_VALUE, (cacheable.maximumSize() + size - 1) / size);
+            this.segments = new Segment[size];
+            for (int index = 0; index < size; index++) {
+                this.segments[index] = new Segment(capacity, evictions);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        <T> Optional<T> get(Object id, Supplier<Optional<T>> loader) {
+            Segment segment = segment(id);
+            long now = System.nanoTime();
+            long generation;
+            synchronized (segment) {
+                CacheEntry entry = segment.entries.get(id);
+                if (entry != null && entry.isExpired(now)) {
+                    segment.entries.remove(id);
+                } else if (entry != null) {
+                    hits.increment();
+                    return Optional.of((T) entry.value());
+                }
+                generation = segment.generation;
+            }
+            misses.increment();
+            Optional<T> value = loader.get();
+            value.ifPresent(v -> segment.store(id, new CacheEntry(v, expiresAt(now)), generation));
+            return value;
+        }
+
+        void evict(Object id) {
+            Segment segment = segment(id);
+            synchronized (segment) {
+                segment.generation++;
+                segment.entries.remove(id);
+            }
+        }
+
+        void evictAll() {
+            for (Segment segment : segments) {
+                synchronized (segment) {
+                    segment.generation++;
+                    segment.entries.clear();
+                }
+            }
+        }
+
+        EntityCacheStatistics statistics() {
+            long size = 0;
+            for (Segment segment : segments) {
+                synchronized (segment) {
+                    size += segment.entries.size();
+                }
+            }
+            return new EntityCacheStatistics(hits.sum(), misses.sum(), evictions.sum(), size);
+        }
+
+        private long expiresAt(long now) {
+            if (expireAfterWriteNanos == NO_EXPIRATION) {
+                return NO_EXPIRATION;
+            }
+            return now + expireAfterWriteNanos;
+        }
+
+        private Segment segment(Object id) {
+            int hash = id.hashCode();
+            return segments[(hash ^ (hash >>> 16)) & (segments.length - 1)];
+        }
+    }
+
+    private static final class Segment {
+
+        private final Map<Object, CacheEntry> entries;
+
+        private long generation;
+
+        Segment(int capacity, LongAdder evictions) {
+            this.entries = new LinkedHashMap<>(16, 0.75F, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Object, CacheEntry> eldest) {
+                    if (size() > capacity) {
+                        evictions.increment();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        synchronized void store(Object id, CacheEntry entry, long loadGeneration) {
+            if (generation == loadGeneration) {
+                entries.put(id, entry);
+            }
+        }
+    }
+
+    private record CacheEntry(Object value, long expiresAt) {
+
+        boolean isExpired(long now) {
+            return expiresAt != NO_EXPIRATION && now - expiresAt >= 0;
+        }
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core.cache;
+
+import org.eclipse.jnosql.mapping.QueryCacheable;
+import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The default {@link QueryCache}, each region is an LRU map guarded by its own lock that tracks the number of
+ * rows it keeps. A load that races with an eviction of the region does not store its result,
+ * so a select never brings back rows older than the last write performed by the template.
+ * The configuration of a region comes from the {@link QueryCacheable} of the first entity that reads from it,
+ * and another entity of the same name with other settings is rejected instead of silently using them.
+ */
+final class DefaultQueryCache implements QueryCache {
+
+    private static final long NO_EXPIRATION = Long.MAX_VALUE;
+
+    private final Map<String, Region> regions = new ConcurrentHashMap<>();
+
+    @Override
+    public <T> List<T> get(EntityMetadata metadata, Object query, Supplier<List<T>> loader) {
+        requireNonNull(metadata, "metadata is required");
+        requireNonNull(query, "query is required");
+        requireNonNull(loader, "loader is required");
+        QueryCacheable cacheable = metadata.type().getAnnotation(QueryCacheable.class);
+        if (cacheable == null) {
+            return loader.get();
+        }
+        Region region = regions.computeIfAbsent(metadata.name(), k -> new Region(metadata.type(), cacheable));
+        if (!region.cacheable.equals(cacheable)) {
+            throw new IllegalArgumentException("The entity " + metadata.type().getName() + " shares the query cache region "
+                    + metadata.name() + " with " + region.type.getName() + ", but with other @QueryCacheable settings: "
+                    + cacheable + " instead of " + region.cacheable);
+        }
+        return region.get(query, loader);
+    }
+
+    @Override
+    public boolean isCacheable(EntityMetadata metadata) {
+        requireNonNull(metadata, "metadata is required");
+        return metadata.type().isAnnotationPresent(QueryCacheable.class);
+    }
+
+    @Override
+    public boolean isCacheable(EntityMetadata metadata, long limit) {
+        requireNonNull(metadata, "metadata is required");
+        QueryCacheable cacheable = metadata.type().getAnnotation(QueryCacheable.class);
+        return cacheable != null && limit > 0 && limit <= cacheable.maximumRows();
+    }
+
+    @Override
+    public void evictAll(String name) {
+        requireNonNull(name, "name is required");
+        Region region = regions.get(name);
+        if (region != null) {
+            region.evictAll();
+        }
+    }
+
+    @Override
+    public void evictAll() {
+        regions.values().forEach(Region::evictAll);
+    }
+
+    @Override
+    public Map<String, QueryCacheStatistics> statistics() {
+        Map<String, QueryCacheStatistics> statistics = new LinkedHashMap<>();
+        regions.forEach((name, region) -> statistics.put(name, region.statistics()));
+        return statistics;
+    }
+
+    @Override
+    public String toString() {
+        return "DefaultQueryCache{" +
+                "regions=" + regions.keySet() +
+                '}';
+    }
+
+    private static final class Region {
+
+        private final Class<?> type;
+
+        private final QueryCacheable cacheable;
+
+        private final Map<Object, CacheEntry> entries = new LinkedHashMap<>(16, 0.75F, true);
+
+        private final long maximumSize;
+
+        private final long maximumRows;
+
+        private final long expireAfterWriteNanos;
+
+        private final LongAdder hits = new LongAdder();
+
+        private final LongAdder misses = new LongAdder();
+
+        private final LongAdder evictions = new LongAdder();
+
+        private long rows;
+
+        private long generation;
+
+        Region(Class<?> type, QueryCacheable cacheable) {
+            if (cacheable.maximumSize() <= 0) {
+                throw new IllegalArgumentException("The maximumSize at @QueryCacheable must be positive: "
+                        + cacheable.maximumSize());
+            }
+            if (cacheable.maximumRows() <= 0) {
+                throw new IllegalArgumentException("The maximumRows at @QueryCacheable must be positive: "
+                        + cacheable.maximumRows());
+            }
+            if (cacheable.expireAfterWrite() < 0) {
+                throw new IllegalArgumentException("The expireAfterWrite at @QueryCacheable cannot be negative: "
+                        + cacheable.expireAfterWrite());
+            }
+            this.type = type;
+            this.cacheable = cacheable;
+            this.maximumSize = cacheable.maximumSize();
+            this.maximumRows = cacheable.maximumRows();
+            this.expireAfterWriteNanos = cacheable.expireAfterWrite() == 0 ? NO_EXPIRATION :
+                    cacheable.unit().toNanos(cacheable.expireAfterWrite());
+        }
+
+        @SuppressWarnings("unchecked")
+        <T> List<T> get(Object query, Supplier<List<T>> loader) {
+            long now = System.nanoTime();
+            long loadGeneration;
+            synchronized (this) {
+                CacheEntry entry = entries.get(query);
+                if (entry != null && entry.isExpired(now)) {
+                    remove(query);
+                } else if (entry != null) {
+                    hits.increment();
+                    return (List<T>) entry.rows();
+                }
+                loadGeneration = generation;
+            }
+            misses.increment();
+            List<T> rows = List.copyOf(loader.get());
+            store(query, new CacheEntry(rows, expiresAt(now)), loadGeneration);
+            return rows;
+        }
+
+        synchronized void evictAll() {
+            generation++;
+            entries.clear();
+            rows = 0;
+        }
+
+        synchronized QueryCacheStatistics statistics() {
+            return new QueryCacheStatistics(hits.sum(), misses.sum(), evictions.sum(), entries.size(), rows);
+        }
+
+        private synchronized void store(Object query, CacheEntry entry, long loadGeneration) {
+            if (generation != loadGeneration || entry.rows().size() > maximumRows) {
+                return;
+            }
+            remove(query);
+            entries.put(query, entry);
+            rows += entry.rows().size();
+            Iterator<CacheEntry> eldest = entries.values().iterator();
+            while (entries.size() > maximumSize || rows > maximumRows) {
+                rows -= eldest.next().rows().size();
+                eldest.remove();
+                evictions.increment();
+            }
+        }
+
+        private void remove(Object query) {
+            CacheEntry removed = entries.remove(query);
+            if (removed != null) {
+                rows -= removed.rows().size();
+            }
+        }
+
+        private long expiresAt(long now) {
+            if (expireAfterWriteNanos == NO_EXPIRATION) {
+                return NO_EXPIRATION;
+            }
+            return now + expireAfterWriteNanos;
+        }
+    }
+
+    private record CacheEntry(List<?> rows, long expiresAt) {
+
+        boolean isExpired(long now) {
+            return expiresAt != NO_EXPIRATION && now - expiresAt >= 0;
+        }
+    }
+}
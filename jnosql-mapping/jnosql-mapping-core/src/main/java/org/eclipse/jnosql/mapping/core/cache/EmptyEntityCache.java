@@ -0,0 +1,60 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core.cache;
+
+import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+enum EmptyEntityCache implements EntityCache {
+
+    INSTANCE;
+
+    @Override
+    public <T> Optional<T> get(EntityMetadata metadata, Object id, Supplier<Optional<T>> loader) {
+        Objects.requireNonNull(loader, "loader is required");
+        return loader.get();
+    }
+
+    @Override
+    public boolean isCacheable(EntityMetadata metadata) {
+        return false;
+    }
+
+    @Override
+    public boolean isImmutable(EntityMetadata metadata) {
+        return false;
+    }
+
+    @Override
+    public void evict(String name, Object id) {
+    }
+
+    @Override
+    public void evictAll(String name) {
+    }
+
+    @Override
+    public void evictAll() {
+    }
+
+    @Override
+    public Map<String, EntityCacheStatistics> statistics() {
+        return Map.of();
+    }
+}
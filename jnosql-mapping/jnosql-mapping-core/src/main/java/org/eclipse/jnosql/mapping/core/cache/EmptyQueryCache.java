@@ -0,0 +1,56 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core.cache;
+
+import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+enum EmptyQueryCache implements QueryCache {
+
+    INSTANCE;
+
+    @Override
+    public <T> List<T> get(EntityMetadata metadata, Object query, Supplier<List<T>> loader) {
+        Objects.requireNonNull(loader, "loader is required");
+        return loader.get();
+    }
+
+    @Override
+    public boolean isCacheable(EntityMetadata metadata) {
+        return false;
+    }
+
+    @Override
+    public boolean isCacheable(EntityMetadata metadata, long limit) {
+        return false;
+    }
+
+    @Override
+    public void evictAll(String name) {
+    }
+
+    @Override
+    public void evictAll() {
+    }
+
+    @Override
+    public Map<String, QueryCacheStatistics> statistics() {
+        return Map.of();
+    }
+}
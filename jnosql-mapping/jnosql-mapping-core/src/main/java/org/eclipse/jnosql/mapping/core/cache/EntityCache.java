@@ -0,0 +1,111 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core.cache;
+
+import org.eclipse.jnosql.mapping.Cacheable;
+import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * The cache of the entities annotated with {@link Cacheable} used by the templates at the find by id.
+ * The entries are grouped by region, where a region is the entity name, so the classes that share the same
+ * collection or column family, such as an inheritance hierarchy, share the same entries.
+ * The template is responsible for evicting the entries at its write operations.
+ */
+public interface EntityCache {
+
+    /**
+     * Returns the entity cached for the id, when it is absent it loads it using the loader and keeps the result
+     * when it is present.
+     * When the entity is not {@link Cacheable}, it always uses the loader.
+     *
+     * @param metadata the entity metadata
+     * @param id       the id in the database format
+     * @param loader   the loader used when there is no entry at the cache
+     * @param <T>      the value type
+     * @return the cached or loaded value
+     * @throws NullPointerException when there is null parameter
+     */
+    <T> Optional<T> get(EntityMetadata metadata, Object id, Supplier<Optional<T>> loader);
+
+    /**
+     * Checks if the entity is annotated with {@link Cacheable}
+     *
+     * @param metadata the entity metadata
+     * @return true when the find by id of this entity goes through the cache
+     * @throws NullPointerException when metadata is null
+     */
+    boolean isCacheable(EntityMetadata metadata);
+
+    /**
+     * Checks if the entity instance can be shared between the callers, {@link Cacheable#immutable()}
+     *
+     * @param metadata the entity metadata
+     * @return true when the cache keeps the entity instead of its database representation
+     * @throws NullPointerException when metadata is null
+     */
+    boolean isImmutable(EntityMetadata metadata);
+
+    /**
+     * Removes the entry of the id from the region
+     *
+     * @param name the region, the entity name
+     * @param id   the id in the database format
+     * @throws NullPointerException when there is null parameter
+     */
+    void evict(String name, Object id);
+
+    /**
+     * Removes all entries from the region
+     *
+     * @param name the region, the entity name
+     * @throws NullPointerException when name is null
+     */
+    void evictAll(String name);
+
+    /**
+     * Removes all entries from all regions
+     */
+    void evictAll();
+
+    /**
+     * Returns a snapshot of the statistics grouped by region
+     *
+     * @return the statistics by entity name
+     */
+    Map<String, EntityCacheStatistics> statistics();
+
+    /**
+     * Creates a cache that keeps the {@link Cacheable} entities in memory, bounded by
+     * {@link Cacheable#maximumSize()} by region.
+     *
+     * @return a new {@link EntityCache} instance
+     */
+    static EntityCache create() {
+        return new DefaultEntityCache();
+    }
+
+    /**
+     * Returns a cache that never keeps an entry, so every lookup uses the loader.
+     *
+     * @return the {@link EntityCache} instance that does not cache
+     */
+    static EntityCache none() {
+        return EmptyEntityCache.INSTANCE;
+    }
+}
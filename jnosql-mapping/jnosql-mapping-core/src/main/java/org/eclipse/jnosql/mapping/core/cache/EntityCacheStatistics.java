@@ -0,0 +1,45 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core.cache;
+
+/**
+ * An immutable snapshot of the counters of an {@link EntityCache} region.
+ *
+ * @param hits      the number of find by id served from the cache
+ * @param misses    the number of find by id that reached the database
+ * @param evictions the number of entries removed because the region reached its maximum size
+ * @param size      the number of entries currently in the region
+ */
+public record EntityCacheStatistics(long hits, long misses, long evictions, long size) {
+
+    /**
+     * Returns the number of lookups
+     *
+     * @return the sum of hits and misses
+     */
+    public long requests() {
+        return hits + misses;
+    }
+
+    /**
+     * Returns the ratio of lookups served from the cache, when there is no request it returns 1.0
+     *
+     * @return the hit ratio between 0.0 and 1.0
+     */
+    public double hitRatio() {
+        long requests = requests();
+        return requests == 0 ? 1.0 : (double) hits / requests;
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core.cache;
+
+import org.eclipse.jnosql.mapping.QueryCacheable;
+import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * The cache of the query results of the entities annotated with {@link QueryCacheable} used by the templates
+ * at the select. The templates use the canonical key of the query, e.g. {@code DocumentQueryFingerprint.key},
+ * so two queries are the same entry when they differ only by the order of their conditions or fields.
+ * The entries are grouped by region, where a region is the entity name, and the template is responsible
+ * for evicting the whole region at its write operations. The entities that share a name, e.g. through inheritance,
+ * share the region, so they must declare the same {@link QueryCacheable} settings.
+ */
+public interface QueryCache {
+
+    /**
+     * Returns the rows cached for the query, when they are absent it loads them using the loader and keeps
+     * the result when it fits the region.
+     * When the entity is not {@link QueryCacheable}, it always uses the loader.
+     *
+     * @param metadata the entity metadata
+     * @param query    the query, it must implement equals and hashCode
+     * @param loader   the loader used when there is no entry at the cache
+     * @param <T>      the row type
+     * @return the cached or loaded rows
+     * @throws NullPointerException     when there is null parameter
+     * @throws IllegalArgumentException when the entity declares other {@link QueryCacheable} settings than the
+     *                                  entity that created the region of the same name
+     */
+    <T> List<T> get(EntityMetadata metadata, Object query, Supplier<List<T>> loader);
+
+    /**
+     * Checks if the entity is annotated with {@link QueryCacheable}
+     *
+     * @param metadata the entity metadata
+     * @return true when the select of this entity goes through the cache
+     * @throws NullPointerException when metadata is null
+     */
+    boolean isCacheable(EntityMetadata metadata);
+
+    /**
+     * Checks if a select of the entity with the limit goes through the cache: the entity is annotated with
+     * {@link QueryCacheable} and the limit is positive and at most {@link QueryCacheable#maximumRows()},
+     * so the result is never larger than the region can keep. The other selects stream from the database.
+     *
+     * @param metadata the entity metadata
+     * @param limit    the limit of the select, zero when there is none
+     * @return true when the select goes through the cache
+     * @throws NullPointerException when metadata is null
+     */
+    boolean isCacheable(EntityMetadata metadata, long limit);
+
+    /**
+     * Removes all queries from the region
+     *
+     * @param name the region, the entity name
+     * @throws NullPointerException when name is null
+     */
+    void evictAll(String name);
+
+    /**
+     * Removes all queries from all regions
+     */
+    void evictAll();
+
+    /**
+     * Returns a snapshot of the statistics grouped by region
+     *
+     * @return the statistics by entity name
+     */
+    Map<String, QueryCacheStatistics> statistics();
+
+    /**
+     * Creates a cache that keeps the results of the {@link QueryCacheable} entities in memory, bounded by
+     * {@link QueryCacheable#maximumSize()} and {@link QueryCacheable#maximumRows()} by region.
+     *
+     * @return a new {@link QueryCache} instance
+     */
+    static QueryCache create() {
+        return new DefaultQueryCache();
+    }
+
+    /**
+     * Returns a cache that never keeps an entry, so every lookup uses the loader.
+     *
+     * @return the {@link QueryCache} instance that does not cache
+     */
+    static QueryCache none() {
+        return EmptyQueryCache.INSTANCE;
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core.cache;
+
+/**
+ * An immutable snapshot of the counters of a {@link QueryCache} region.
+ *
+ * @param hits      the number of queries served from the cache
+ * @param misses    the number of queries that reached the database
+ * @param evictions the number of results removed because the region reached its maximum size or rows
+ * @param size      the number of queries currently in the region
+ * @param rows      the number of rows currently in the region
+ */
+public record QueryCacheStatistics(long hits, long misses, long evictions, long size, long rows) {
+
+    /**
+     * Returns the number of lookups
+     *
+     * @return the sum of hits and misses
+     */
+    public long requests() {
+        return hits + misses;
+    }
+
+    /**
+     * Returns the ratio of lookups served from the cache, when there is no request it returns 1.0
+     *
+     * @return the hit ratio between 0.0 and 1.0
+     */
+    public double hitRatio() {
+        long requests = requests();
+        return requests == 0 ? 1.0 : (double) hits / requests;
+    }
+}
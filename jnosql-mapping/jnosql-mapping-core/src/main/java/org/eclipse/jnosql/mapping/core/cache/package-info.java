@@ -0,0 +1,20 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+/**
+ * The caches used by the templates: the entity cache at the find by id of the entities annotated with
+ * {@link org.eclipse.jnosql.mapping.Cacheable} and the query cache at the select of the entities annotated with
+ * {@link org.eclipse.jnosql.mapping.QueryCacheable}.
+ */
+package org.eclipse.jnosql.mapping.core.cache;
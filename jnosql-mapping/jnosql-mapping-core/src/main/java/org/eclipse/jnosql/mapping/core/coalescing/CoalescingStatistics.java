@@ -0,0 +1,35 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core.coalescing;
+
+/**
+ * An immutable snapshot of the counters of the reads of an entity type at a {@link RequestCoalescer}.
+ *
+ * @param requests  the number of reads
+ * @param coalesced the number of reads served by an identical read in flight instead of reaching the database
+ * @param timeouts  the number of reads that waited for an identical read in flight but reached the database as
+ *                  they did not receive its result in time
+ */
+public record CoalescingStatistics(long requests, long coalesced, long timeouts) {
+
+    /**
+     * Returns the ratio of reads served by an identical read in flight, when there is no request it returns 0.0
+     *
+     * @return the coalescing rate between 0.0 and 1.0
+     */
+    public double coalescingRate() {
+        return requests == 0 ? 0.0 : (double) coalesced / requests;
+    }
+}
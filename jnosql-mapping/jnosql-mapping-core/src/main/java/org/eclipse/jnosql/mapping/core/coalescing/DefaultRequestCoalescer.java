@@ -0,0 +1,136 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core.coalescing;
+
+import jakarta.data.exceptions.DataException;
+import org.eclipse.jnosql.mapping.Coalesce;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The {@link RequestCoalescer} that keeps, by entity type, the reads in flight at a {@link ConcurrentHashMap}.
+ * The first read of a key is the leader: it reaches the database and completes the future that the followers wait for;
+ * the key leaves the map as soon as the leader ends, so a read that arrives later reaches the database again.
+ * When the leader fails, each follower throws its own {@link DataException} caused by the failure of the leader,
+ * so the followers never share, and add suppressed exceptions or stack frames to, the same exception instance.
+ */
+final class DefaultRequestCoalescer implements RequestCoalescer {
+
+    private final Map<Class<?>, Group> groups = new ConcurrentHashMap<>();
+
+    @Override
+    public <T> T execute(Class<?> type, Object key, Supplier<T> loader) {
+        requireNonNull(type, "type is required");
+        requireNonNull(key, "key is required");
+        requireNonNull(loader, "loader is required");
+        Coalesce coalesce = type.getAnnotation(Coalesce.class);
+        if (coalesce == null) {
+            return loader.get();
+        }
+        Group group = groups.computeIfAbsent(type, k -> new Group(coalesce));
+        return group.execute(key, loader);
+    }
+
+    @Override
+    public boolean isCoalesced(Class<?> type) {
+        requireNonNull(type, "type is required");
+        return type.isAnnotationPresent(Coalesce.class);
+    }
+
+    @Override
+    public boolean isImmutable(Class<?> type) {
+        requireNonNull(type, "type is required");
+        Coalesce coalesce = type.getAnnotation(Coalesce.class);
+        return coalesce != null && coalesce.immutable();
+    }
+
+    @Override
+    public Map<Class<?>, CoalescingStatistics> statistics() {
+        Map<Class<?>, CoalescingStatistics> statistics = new LinkedHashMap<>();
+        groups.forEach((type, group) -> statistics.put(type, group.statistics()));
+        return statistics;
+    }
+
+    private static final class Group {
+
+        private final long timeoutNanos;
+
+        private final Map<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+        private final LongAdder requests = new LongAdder();
+
+        private final LongAdder coalesced = new LongAdder();
+
+        private final LongAdder timeouts = new LongAdder();
+
+        Group(Coalesce coalesce) {
+            if (coalesce.timeout() < 0) {
+                throw new IllegalArgumentException("The timeout at @Coalesce cannot be negative: " + coalesce.timeout());
+            }
+            this.timeoutNanos = coalesce.unit().toNanos(coalesce.timeout());
+        }
+
+        @SuppressWarnings("unchecked")
+        <T> T execute(Object key, Supplier<T> loader) {
+            CompletableFuture<Object> future = new CompletableFuture<>();
+            CompletableFuture<Object> leader = inFlight.putIfAbsent(key, future);
+            requests.increment();
+            if (leader != null) {
+                return (T) await(leader, loader);
+            }
+            try {
+                T value = loader.get();
+                future.complete(value);
+                return value;
+            } catch (RuntimeException | Error exception) {
+                future.completeExceptionally(exception);
+                throw exception;
+            } finally {
+                inFlight.remove(key, future);
+            }
+        }
+
+        private Object await(CompletableFuture<Object> leader, Supplier<?> loader) {
+            try {
+                Object value = leader.get(timeoutNanos, TimeUnit.NANOSECONDS);
+                coalesced.increment();
+                return value;
+            } catch (TimeoutException exception) {
+                timeouts.increment();
+                return loader.get();
+            } catch (ExecutionException exception) {
+                coalesced.increment();
+                throw new DataException("The identical read in flight failed", exception.getCause());
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new DataException("Interrupted while waiting for an identical read in flight", exception);
+            }
+        }
+
+        CoalescingStatistics statistics() {
+            return new CoalescingStatistics(requests.sum(), coalesced.sum(), timeouts.sum());
+        }
+    }
+}
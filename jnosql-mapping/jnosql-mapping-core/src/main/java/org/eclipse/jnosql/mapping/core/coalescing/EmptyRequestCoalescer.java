@@ -0,0 +1,51 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core.coalescing;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+enum EmptyRequestCoalescer implements RequestCoalescer {
+
+    INSTANCE;
+
+    @Override
+    public <T> T execute(Class<?> type, Object key, Supplier<T> loader) {
+        requireNonNull(type, "type is required");
+        requireNonNull(key, "key is required");
+        requireNonNull(loader, "loader is required");
+        return loader.get();
+    }
+
+    @Override
+    public boolean isCoalesced(Class<?> type) {
+        requireNonNull(type, "type is required");
+        return false;
+    }
+
+    @Override
+    public boolean isImmutable(Class<?> type) {
+        requireNonNull(type, "type is required");
+        return false;
+    }
+
+    @Override
+    public Map<Class<?>, CoalescingStatistics> statistics() {
+        return Collections.emptyMap();
+    }
+}
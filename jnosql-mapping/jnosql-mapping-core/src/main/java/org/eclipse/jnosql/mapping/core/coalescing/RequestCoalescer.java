@@ -0,0 +1,87 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core.coalescing;
+
+import org.eclipse.jnosql.mapping.Coalesce;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Shares a single database call between the identical reads in flight of the entities annotated with {@link Coalesce}.
+ * The reads are grouped by entity type, and identified by a key, such as the id or the query, so the read that
+ * arrives while another one with the same type and key is in flight waits for its result.
+ * Nothing is kept after the read ends: it is not a cache.
+ */
+public interface RequestCoalescer {
+
+    /**
+     * Returns the result of the read in flight of the same type and key, when there is none it reads using
+     * the loader and shares the result with the identical reads that arrive meanwhile.
+     * When the type is not {@link Coalesce}, it always uses the loader.
+     *
+     * @param type   the entity type
+     * @param key    the key of the read, e.g. the id in the database format or the query
+     * @param loader the read
+     * @param <T>    the result type
+     * @return the shared or loaded result
+     * @throws NullPointerException when there is null parameter
+     * @throws jakarta.data.exceptions.DataException when the shared read fails, caused by the failure of the read
+     */
+    <T> T execute(Class<?> type, Object key, Supplier<T> loader);
+
+    /**
+     * Checks if the entity is annotated with {@link Coalesce}
+     *
+     * @param type the entity type
+     * @return true when the reads of this entity are coalesced
+     * @throws NullPointerException when type is null
+     */
+    boolean isCoalesced(Class<?> type);
+
+    /**
+     * Checks if the entity instance can be shared between the callers, {@link Coalesce#immutable()}
+     *
+     * @param type the entity type
+     * @return true when the callers share the entity instead of its database representation
+     * @throws NullPointerException when type is null
+     */
+    boolean isImmutable(Class<?> type);
+
+    /**
+     * Returns a snapshot of the statistics grouped by entity type
+     *
+     * @return the statistics by entity type
+     */
+    Map<Class<?>, CoalescingStatistics> statistics();
+
+    /**
+     * Creates a coalescer of the reads of the {@link Coalesce} entities.
+     *
+     * @return a new {@link RequestCoalescer} instance
+     */
+    static RequestCoalescer create() {
+        return new DefaultRequestCoalescer();
+    }
+
+    /**
+     * Returns a coalescer that never shares a read, so every read uses the loader.
+     *
+     * @return the {@link RequestCoalescer} instance that does not coalesce
+     */
+    static RequestCoalescer none() {
+        return EmptyRequestCoalescer.INSTANCE;
+    }
+}
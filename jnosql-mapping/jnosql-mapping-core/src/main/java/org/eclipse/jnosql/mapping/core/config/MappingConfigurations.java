@@ -29,6 +29,56 @@ public enum MappingConfigurations implements Supplier<String> {
      *Define the key-value database name.
      */
     KEY_VALUE_DATABASE("jnosql.keyvalue.database"),
+    /**
+     * Enables a local near cache in front of the BucketManager. By default it is false.
+     */
+    KEY_VALUE_CACHE_ENABLED("jnosql.keyvalue.cache.enabled"),
+    /**
+     * Define the maximum number of entries at the key-value near cache. By default it is 10000.
+     */
+    KEY_VALUE_CACHE_MAXIMUM_SIZE("jnosql.keyvalue.cache.maximum.size"),
+    /**
+     * Define, as an ISO-8601 duration such as PT5M, how long an entry lives at the key-value near cache after it was loaded.
+     * By default, entries only expire by the time to live informed when they were put.
+     */
+    KEY_VALUE_CACHE_EXPIRE_AFTER_WRITE("jnosql.keyvalue.cache.expire.after.write"),
+    /**
+     * Enables the key-value near cache to cache absent keys. By default it is false.
+     */
+    KEY_VALUE_CACHE_NEGATIVE("jnosql.keyvalue.cache.negative"),
+    /**
+     * Enables the key-value near cache to share a single database call between concurrent misses to the same key.
+     * By default it is true.
+     */
+    KEY_VALUE_CACHE_COALESCING("jnosql.keyvalue.cache.coalescing"),
+    /**
+     * Enables a write-behind buffer in front of the BucketManager, which writes the puts in batches in the background.
+     * By default it is false.
+     */
+    KEY_VALUE_WRITE_BEHIND_ENABLED("jnosql.keyvalue.write.behind.enabled"),
+    /**
+     * Define, as an ISO-8601 duration such as PT0.1S, how long the puts wait at the key-value write-behind buffer
+     * before they are written. By default it is 50 milliseconds.
+     */
+    KEY_VALUE_WRITE_BEHIND_WINDOW("jnosql.keyvalue.write.behind.window"),
+    /**
+     * Define the maximum number of entities written at once by the key-value write-behind buffer. By default it is 500.
+     */
+    KEY_VALUE_WRITE_BEHIND_BATCH_SIZE("jnosql.keyvalue.write.behind.batch.size"),
+    /**
+     * Define the maximum number of keys waiting at the key-value write-behind buffer. By default it is 10000.
+     */
+    KEY_VALUE_WRITE_BEHIND_MAXIMUM_PENDING("jnosql.keyvalue.write.behind.maximum.pending"),
+    /**
+     * Define what a put does when the key-value write-behind buffer is full: block, drop_oldest or flush_sync.
+     * By default it is block.
+     */
+    KEY_VALUE_WRITE_BEHIND_BACKPRESSURE("jnosql.keyvalue.write.behind.backpressure"),
+    /**
+     * Define, as an ISO-8601 duration such as PT5S, how long a put waits for room at the full key-value write-behind
+     * buffer when the backpressure is block, before it fails. By default it is 10 seconds.
+     */
+    KEY_VALUE_WRITE_BEHIND_BLOCK_TIMEOUT("jnosql.keyvalue.write.behind.block.timeout"),
     /**
      * Define the DocumentConfiguration that creates a DocumentManager instance.
      * It is necessary when there is more than one implementation; otherwise,  it will find automatically.
@@ -55,7 +105,63 @@ public enum MappingConfigurations implements Supplier<String> {
     /**
      * Activate the automatic transaction at Graph database. By default it is true.
      */
-    GRAPH_TRANSACTION_AUTOMATIC("jnosql.graph.transaction.automatic");
+    GRAPH_TRANSACTION_AUTOMATIC("jnosql.graph.transaction.automatic"),
+    /**
+     * Define how the Graph traversals convert the vertices to entities: vertex or element-map.
+     * By default it is vertex, that reads each property from the vertex.
+     */
+    GRAPH_MATERIALIZATION("jnosql.graph.materialization"),
+    /**
+     * Define when a repository page computes its totals with a count query: never, always or first-page.
+     * By default it is never, so {@link jakarta.data.page.Page#totalElements()} is not supported.
+     * With first-page the next pages reuse the first page total, which is not refreshed by writes, so it may be
+     * stale until it expires, see {@link MappingConfigurations#PAGE_TOTAL_EXPIRE}.
+     */
+    PAGE_TOTAL("jnosql.page.total"),
+    /**
+     * Define, as an ISO-8601 duration such as PT10S, how long the next pages reuse the first page total when
+     * {@link MappingConfigurations#PAGE_TOTAL} is first-page. By default it is 30 seconds.
+     */
+    PAGE_TOTAL_EXPIRE("jnosql.page.total.expire"),
+    /**
+     * Define the threads that run the async operations and, when {@link MappingConfigurations#EXECUTOR_PARALLEL} is true,
+     * the repository fan-out and the page counts: virtual or platform. By default it is virtual on Java 21 or later,
+     * otherwise platform.
+     */
+    EXECUTOR("jnosql.executor"),
+    /**
+     * Define whether the repository fan-out, e.g. {@code findByIdIn}, and the page counts leave the calling thread to run
+     * in parallel at the bulkhead of their database. Turn it on only when the sessions and transactions of the database
+     * are not bound to the calling thread. By default it is false, so they run at the calling thread.
+     */
+    EXECUTOR_PARALLEL("jnosql.executor.parallel"),
+    /**
+     * Define how many operations of a single fan-out, e.g. {@code findByIdIn}, run at the same time when
+     * {@link MappingConfigurations#EXECUTOR_PARALLEL} is true. By default it is 16.
+     */
+    EXECUTOR_CONCURRENCY("jnosql.executor.concurrency"),
+    /**
+     * Define how many async operations run at the same time against a single database, the others wait in a queue.
+     * By default it is 64.
+     */
+    EXECUTOR_BULKHEAD("jnosql.executor.bulkhead"),
+    /**
+     * Activate the instrumentation of the managers and the graph template, that reports each operation to the
+     * {@link org.eclipse.jnosql.communication.Instrumentation} implementations at the classpath. By default it is false.
+     * The JDK Flight Recorder events are emitted regardless of it, whenever a recording enables them.
+     */
+    INSTRUMENTATION("jnosql.instrumentation"),
+    /**
+     * Enables the slow query log of the document and column managers and defines, as an ISO-8601 duration such as
+     * PT0.5S, the latency from which a query is logged. By default, it is disabled.
+     *
+     * @see org.eclipse.jnosql.communication.SlowQueryLog
+     */
+    SLOW_QUERY_THRESHOLD("jnosql.slow.query.threshold"),
+    /**
+     * Define how many query fingerprints the slow query log keeps statistics of. By default it is 1000.
+     */
+    SLOW_QUERY_CAPACITY("jnosql.slow.query.capacity");
 
 
     private final String value;
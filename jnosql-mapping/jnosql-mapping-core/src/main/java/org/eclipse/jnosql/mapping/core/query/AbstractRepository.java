@@ -19,9 +19,11 @@ import jakarta.data.page.Pageable;
 import jakarta.data.repository.CrudRepository;
 import jakarta.data.repository.PageableRepository;
 import jakarta.nosql.Template;
+import org.eclipse.jnosql.mapping.core.MappingExecutor;
 import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
 import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
@@ -139,11 +141,32 @@ public abstract class AbstractRepository<T, K> implements PageableRepository<T,
     }
 
 
+    /**
+     * Returns the executor of the operations that this repository runs in parallel, such as the lookups of
+     * {@link AbstractRepository#findByIdIn(Iterable)}.
+     *
+     * @return the shared {@link MappingExecutor} by default
+     */
+    protected MappingExecutor executor() {
+        return MappingExecutor.get();
+    }
+
+    /**
+     * Returns the database of this repository, that keys its bulkhead at {@link MappingExecutor#database(Object)},
+     * so the repositories of the same database share it. By default it is the repository itself.
+     *
+     * @return the database of this repository
+     */
+    protected Object database() {
+        return this;
+    }
+
     @Override
     public Stream<T> findByIdIn(Iterable<K> ids) {
         requireNonNull(ids, "ids is required");
-        return stream(ids.spliterator(), false)
-                .flatMap(optionalToStream());
+        List<K> keys = stream(ids.spliterator(), false).collect(toList());
+        return executor().map(database(), keys, this::findById).stream()
+                .flatMap(Optional::stream);
     }
 
     @Override
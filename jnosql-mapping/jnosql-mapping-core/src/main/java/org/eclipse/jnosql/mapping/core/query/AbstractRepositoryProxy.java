@@ -131,8 +131,22 @@ public abstract class AbstractRepositoryProxy<T, K> implements InvocationHandler
 
     @Override
     public Object invoke(Object instance, Method method, Object[] params) throws Throwable {
+        return invoke(instance, method, RepositoryType.of(method, repositoryType()), params);
+    }
 
-        RepositoryType type = RepositoryType.of(method, repositoryType());
+    /**
+     * Executes the method with a {@link RepositoryType} that was already resolved, so the classification of the
+     * method is not performed on every call. It is the entry point of the repository classes generated at compile time.
+     *
+     * @param instance The instance on which the method was invoked.
+     * @param method   The method being invoked.
+     * @param type     The repository type of the method.
+     * @param params   The parameters of the method.
+     * @return The result of the method execution.
+     * @throws Throwable when the method execution throws an exception
+     * @see GeneratedRepository
+     */
+    public Object invoke(Object instance, Method method, RepositoryType type, Object[] params) throws Throwable {
 
         switch (type) {
             case DEFAULT -> {
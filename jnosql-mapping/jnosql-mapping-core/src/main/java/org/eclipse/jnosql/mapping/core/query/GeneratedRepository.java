@@ -0,0 +1,157 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core.query;
+
+import jakarta.data.exceptions.MappingException;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * The bridge between the repository implementations generated at compile time by the jnosql-mapping-processor and the
+ * {@link AbstractRepositoryProxy}. A generated class keeps the name of the repository interface followed by
+ * {@link GeneratedRepository#SUFFIX}, e.g. {@code PersonRepository_JNoSQL}, and when it is not at the classpath the
+ * repository falls back to a {@link Proxy}. The generated class is only present when the application runs the
+ * jnosql-mapping-processor at its build.
+ */
+public final class GeneratedRepository {
+
+    private static final Logger LOGGER = Logger.getLogger(GeneratedRepository.class.getName());
+
+    /**
+     * The suffix of the generated repository implementation.
+     */
+    public static final String SUFFIX = "_JNoSQL";
+
+    private static final ClassValue<Optional<Constructor<?>>> CONSTRUCTORS = new ClassValue<>() {
+        @Override
+        protected Optional<Constructor<?>> computeValue(Class<?> type) {
+            return constructor(type);
+        }
+    };
+
+    private GeneratedRepository() {
+    }
+
+    /**
+     * Creates the repository instance, it uses the implementation generated at compile time when it exists, otherwise
+     * a {@link Proxy} that uses the proxy as {@link java.lang.reflect.InvocationHandler}.
+     *
+     * @param type  the repository interface
+     * @param proxy the repository proxy
+     * @param <T>   the repository type
+     * @return the repository instance
+     * @throws NullPointerException when there is null parameter
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T create(Class<T> type, AbstractRepositoryProxy<?, ?> proxy) {
+        Objects.requireNonNull(type, "type is required");
+        Objects.requireNonNull(proxy, "proxy is required");
+        return CONSTRUCTORS.get(type).map(c -> (T) newInstance(c, proxy))
+                .orElseGet(() -> (T) Proxy.newProxyInstance(type.getClassLoader(), new Class[]{type}, proxy));
+    }
+
+    /**
+     * Returns the name of the generated implementation of the repository interface.
+     * A nested interface uses the name of the enclosing types, e.g. {@code Outer.PersonRepository} will
+     * generate {@code Outer_PersonRepository_JNoSQL} at the same package.
+     *
+     * @param type the repository interface
+     * @return the name of the generated class
+     * @throws NullPointerException when type is null
+     */
+    public static String name(Class<?> type) {
+        Objects.requireNonNull(type, "type is required");
+        String packageName = type.getPackageName();
+        String simpleName = packageName.isEmpty() ? type.getName() : type.getName().substring(packageName.length() + 1);
+        String name = simpleName.replace('$', '_') + SUFFIX;
+        return packageName.isEmpty() ? name : packageName + '.' + name;
+    }
+
+    /**
+     * Finds the method of the repository interface, it is used by the generated class to resolve the method only once.
+     *
+     * @param type       the repository interface
+     * @param name       the method name
+     * @param parameters the method parameter types
+     * @return the method
+     * @throws MappingException when the method does not exist
+     */
+    public static Method method(Class<?> type, String name, Class<?>... parameters) {
+        try {
+            return type.getMethod(name, parameters);
+        } catch (NoSuchMethodException exception) {
+            throw new MappingException("There is no method " + name + " at the repository " + type.getName(), exception);
+        }
+    }
+
+    /**
+     * Executes the repository method at the proxy with the {@link RepositoryType} resolved by the generated class.
+     *
+     * @param proxy    the repository proxy
+     * @param instance the generated repository instance
+     * @param method   the method
+     * @param type     the repository type of the method
+     * @param params   the method parameters
+     * @return the method result
+     * @throws UndeclaredThrowableException when the method throws a checked exception
+     */
+    public static Object invoke(AbstractRepositoryProxy<?, ?> proxy, Object instance, Method method, RepositoryType type,
+                                Object... params) {
+        try {
+            return proxy.invoke(instance, method, type, params);
+        } catch (RuntimeException | Error exception) {
+            throw exception;
+        } catch (Throwable throwable) {
+            throw new UndeclaredThrowableException(throwable);
+        }
+    }
+
+    private static Object newInstance(Constructor<?> constructor, AbstractRepositoryProxy<?, ?> proxy) {
+        try {
+            return constructor.newInstance(proxy.repository(), proxy);
+        } catch (InvocationTargetException exception) {
+            if (exception.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new MappingException("There is an issue to create the repository " + constructor.getName(), exception.getCause());
+        } catch (ReflectiveOperationException exception) {
+            throw new MappingException("There is an issue to create the repository " + constructor.getName(), exception);
+        }
+    }
+
+    private static Optional<Constructor<?>> constructor(Class<?> type) {
+        String name = name(type);
+        try {
+            Class<?> implementation = Class.forName(name, false, type.getClassLoader());
+            if (!type.isAssignableFrom(implementation)) {
+                LOGGER.log(Level.WARNING, "The class {0} does not implement {1}, the repository will use a proxy",
+                        new Object[]{name, type.getName()});
+                return Optional.empty();
+            }
+            return Optional.of(implementation.getConstructor(AbstractRepository.class, AbstractRepositoryProxy.class));
+        } catch (ClassNotFoundException | NoSuchMethodException | LinkageError exception) {
+            LOGGER.log(Level.FINEST, "There is no generated repository for " + type.getName() + ", it will use a proxy", exception);
+            return Optional.empty();
+        }
+    }
+}
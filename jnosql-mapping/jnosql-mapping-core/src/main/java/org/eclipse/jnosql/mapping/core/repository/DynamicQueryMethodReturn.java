@@ -19,6 +19,7 @@ import jakarta.nosql.PreparedStatement;
 
 import java.lang.reflect.Method;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
@@ -33,14 +34,16 @@ public final class DynamicQueryMethodReturn implements MethodDynamicExecutable {
     private final Class<?> typeClass;
     private final java.util.function.Function<String, Stream<?>> queryConverter;
     private final Function<String, PreparedStatement> prepareConverter;
+    private final Executor executor;
 
     private DynamicQueryMethodReturn(Method method, Object[] args, Class<?> typeClass, Function<String, Stream<?>> queryConverter,
-                                     Function<String, PreparedStatement> prepareConverter) {
+                                     Function<String, PreparedStatement> prepareConverter, Executor executor) {
         this.method = method;
         this.args = args;
         this.typeClass = typeClass;
         this.queryConverter = queryConverter;
         this.prepareConverter = prepareConverter;
+        this.executor = executor;
     }
 
     Method getMethod() {
@@ -63,6 +66,10 @@ public final class DynamicQueryMethodReturn implements MethodDynamicExecutable {
         return prepareConverter;
     }
 
+    Executor getExecutor() {
+        return executor;
+    }
+
     public static DynamicQueryMethodReturnBuilder builder() {
         return new DynamicQueryMethodReturnBuilder();
     }
@@ -84,6 +91,8 @@ public final class DynamicQueryMethodReturn implements MethodDynamicExecutable {
 
         private Function<String, PreparedStatement> prepareConverter;
 
+        private Executor executor;
+
         private DynamicQueryMethodReturnBuilder() {
         }
 
@@ -113,13 +122,19 @@ public final class DynamicQueryMethodReturn implements MethodDynamicExecutable {
             this.prepareConverter = prepareConverter;
             return this;
         }
+
+        public DynamicQueryMethodReturnBuilder withExecutor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
         public DynamicQueryMethodReturn build() {
             Objects.requireNonNull(method, "method is required");
             Objects.requireNonNull(typeClass, "typeClass is required");
             Objects.requireNonNull(queryConverter, "queryConverter is required");
             Objects.requireNonNull(prepareConverter, "prepareConverter is required");
 
-            return new DynamicQueryMethodReturn(method, args, typeClass, queryConverter, prepareConverter);
+            return new DynamicQueryMethodReturn(method, args, typeClass, queryConverter, prepareConverter, executor);
         }
     }
 
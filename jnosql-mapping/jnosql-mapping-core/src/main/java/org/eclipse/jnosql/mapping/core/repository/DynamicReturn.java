@@ -17,11 +17,13 @@ package org.eclipse.jnosql.mapping.core.repository;
 import jakarta.data.exceptions.NonUniqueResultException;
 import jakarta.data.page.Page;
 import jakarta.data.page.Pageable;
+import org.eclipse.jnosql.mapping.core.MappingExecutor;
 
 import java.lang.reflect.Method;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -124,12 +126,14 @@ public final class DynamicReturn<T> implements MethodDynamicExecutable {
 
     private final Function<Pageable, Page<T>> page;
 
+    private final Executor executor;
+
     private DynamicReturn(Class<T> classSource, Method methodSource,
                           Supplier<Optional<T>> singleResult,
                           Supplier<Stream<T>> result, Pageable pagination,
                           Function<Pageable, Optional<T>> singleResultPagination,
                           Function<Pageable, Stream<T>> streamPagination,
-                          Function<Pageable, Page<T>> page) {
+                          Function<Pageable, Page<T>> page, Executor executor) {
         this.classSource = classSource;
         this.methodSource = methodSource;
         this.singleResult = singleResult;
@@ -138,6 +142,7 @@ public final class DynamicReturn<T> implements MethodDynamicExecutable {
         this.singleResultPagination = singleResultPagination;
         this.streamPagination = streamPagination;
         this.page = page;
+        this.executor = executor;
     }
 
     /**
@@ -204,6 +209,15 @@ public final class DynamicReturn<T> implements MethodDynamicExecutable {
         return page.apply(pagination);
     }
 
+    /**
+     * Returns the executor of the asynchronous returns, such as {@link java.util.concurrent.CompletionStage}
+     *
+     * @return the executor informed at the builder, otherwise the {@link MappingExecutor#get()}
+     */
+    public Executor executor() {
+        return executor == null ? MappingExecutor.get() : executor;
+    }
+
     /**
      * @return check if there is pagination
      */
@@ -242,6 +256,8 @@ public final class DynamicReturn<T> implements MethodDynamicExecutable {
 
         private Function<Pageable, Page<T>> page;
 
+        private Executor executor;
+
         private DefaultDynamicReturnBuilder() {
         }
 
@@ -317,6 +333,15 @@ public final class DynamicReturn<T> implements MethodDynamicExecutable {
             return this;
         }
 
+        /**
+         * @param executor the executor of the asynchronous returns, e.g. the bulkhead of the repository's database
+         * @return the builder instance
+         */
+        public DefaultDynamicReturnBuilder withExecutor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
         /**
          * Creates a {@link DynamicReturn} from the parameters, all fields are required
          *
@@ -336,7 +361,7 @@ public final class DynamicReturn<T> implements MethodDynamicExecutable {
             }
 
             return new DynamicReturn(classSource, methodSource, singleResult, result,
-                    pagination, singleResultPagination, streamPagination, page);
+                    pagination, singleResultPagination, streamPagination, page, executor);
         }
     }
 
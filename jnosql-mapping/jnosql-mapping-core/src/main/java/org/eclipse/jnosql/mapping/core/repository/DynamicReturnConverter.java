@@ -94,6 +94,7 @@ enum DynamicReturnConverter {
                 .withMethodSource(method)
                 .withResult(streamSupplier)
                 .withSingleResult(singleSupplier)
+                .withExecutor(dynamicQueryMethod.getExecutor())
                 .build();
 
         return convert(dynamicReturn);
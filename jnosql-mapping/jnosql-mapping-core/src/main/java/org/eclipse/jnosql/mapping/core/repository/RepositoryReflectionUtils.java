@@ -16,9 +16,12 @@ package org.eclipse.jnosql.mapping.core.repository;
 
 
 
+import jakarta.data.exceptions.MappingException;
 import jakarta.data.repository.By;
 import jakarta.data.repository.Param;
 import jakarta.data.repository.Query;
+import org.eclipse.jnosql.communication.QueryHints;
+import org.eclipse.jnosql.mapping.QueryHint;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
@@ -86,6 +89,26 @@ public enum RepositoryReflectionUtils {
         return method.getAnnotation(Query.class).value();
     }
 
+    /**
+     * Returns the hints from the {@link QueryHint} annotations
+     *
+     * @param method the method
+     * @return the hints, otherwise {@link QueryHints#empty()}
+     * @throws MappingException when the value of a well-known hint is invalid
+     */
+    public QueryHints getHints(Method method) {
+        QueryHints hints = QueryHints.empty();
+        for (QueryHint hint : method.getAnnotationsByType(QueryHint.class)) {
+            try {
+                hints = hints.with(hint.name(), hint.value());
+            } catch (IllegalArgumentException exception) {
+                throw new MappingException("The query hint " + hint.name() + " at the method " + method.getName()
+                        + " is invalid: " + exception.getMessage(), exception);
+            }
+        }
+        return hints;
+    }
+
 
 
 
@@ -0,0 +1,43 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core.repository.returns;
+
+import org.eclipse.jnosql.mapping.core.repository.DynamicReturn;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Returns a {@link CompletionStage} completed with the single result, or null when there is none.
+ * The query runs at the {@link DynamicReturn#executor()}, the bulkhead of the repository's database, so it does not share
+ * a transaction bound to the calling thread.
+ */
+public class CompletionStageRepositoryReturn extends AbstractRepositoryReturn {
+
+    public CompletionStageRepositoryReturn() {
+        super(CompletionStage.class);
+    }
+
+    @Override
+    public <T> Object convert(DynamicReturn<T> dynamicReturn) {
+        return CompletableFuture.supplyAsync(() -> dynamicReturn.singleResult().orElse(null), dynamicReturn.executor());
+    }
+
+    @Override
+    public <T> Object convertPageable(DynamicReturn<T> dynamicReturn) {
+        return CompletableFuture.supplyAsync(() -> dynamicReturn.singleResultPagination().orElse(null),
+                dynamicReturn.executor());
+    }
+}
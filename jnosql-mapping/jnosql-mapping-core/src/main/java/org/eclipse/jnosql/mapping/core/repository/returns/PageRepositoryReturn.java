@@ -14,6 +14,8 @@
  */
 package org.eclipse.jnosql.mapping.core.repository.returns;
 
+import jakarta.data.page.KeysetAwarePage;
+import jakarta.data.page.KeysetAwareSlice;
 import jakarta.data.page.Page;
 
 import jakarta.data.page.Slice;
@@ -38,6 +40,7 @@ public class PageRepositoryReturn extends AbstractRepositoryReturn {
 
     @Override
     public boolean isCompatible(Class<?> entity, Class<?> returnType) {
-        return Page.class.equals(returnType) || Slice.class.equals(returnType);
+        return Page.class.equals(returnType) || Slice.class.equals(returnType)
+                || KeysetAwarePage.class.equals(returnType) || KeysetAwareSlice.class.equals(returnType);
     }
 }
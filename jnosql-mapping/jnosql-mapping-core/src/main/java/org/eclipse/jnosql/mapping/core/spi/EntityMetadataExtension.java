@@ -33,6 +33,7 @@ import java.util.logging.Logger;
  * This class is a CDI extension to load all class that has {@link Entity} annotation.
  * This extension will load all Classes and put in a map.
  * Where the key is {@link Class#getName()} and the value is {@link EntityMetadata}
+ * The metadata of each class is built in parallel on the common fork-join pool.
  */
 @ApplicationScoped
 public class EntityMetadataExtension implements Extension, GroupEntityMetadata {
@@ -60,20 +61,20 @@ public class EntityMetadataExtension implements Extension, GroupEntityMetadata {
     }
 
     private void processEntities(ClassScanner scanner) {
-        for (Class<?> entity : scanner.entities()) {
+        scanner.entities().parallelStream().forEach(entity -> {
             EntityMetadata entityMetadata = convertToEntityMetadata(entity);
             if (entityMetadata.hasEntityName()) {
                 mappings.put(entityMetadata.name(), entityMetadata);
             }
             classes.put(entity, entityMetadata);
-        }
+        });
     }
 
     private void processEmbeddables(ClassScanner scanner) {
-        for (Class<?> embeddable : scanner.embeddables()) {
+        scanner.embeddables().parallelStream().forEach(embeddable -> {
             EntityMetadata entityMetadata = convertToEntityMetadata(embeddable);
             classes.put(embeddable, entityMetadata);
-        }
+        });
     }
 
     private EntityMetadata convertToEntityMetadata(Class<?> entityClass) {
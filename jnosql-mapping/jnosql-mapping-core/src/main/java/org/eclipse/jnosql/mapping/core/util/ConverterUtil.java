@@ -77,19 +77,24 @@ public final class ConverterUtil {
     }
 
     private static Supplier<Object> getSupplier(Object value, Class<?> type) {
-        return () -> {
-            if (Iterable.class.isAssignableFrom(type)) {
-                return value;
-            }
-            try {
-                return Value.of(value).get(type);
-            } catch (UnsupportedOperationException ex) {
-                LOGGER.fine(String.format("There is an error when try to convert the type %s to the type %s",
-                        value, type));
-                return value;
-            }
+        return () -> convertTo(value, type);
+    }
 
-        };
+    static Object convertTo(Object value, Class<?> type) {
+        if (Iterable.class.isAssignableFrom(type)) {
+            return value;
+        }
+        try {
+            return Value.of(value).get(type);
+        } catch (UnsupportedOperationException ex) {
+            LOGGER.fine(String.format("There is an error when try to convert the type %s to the type %s",
+                    value, type));
+            return value;
+        }
+    }
+
+    static Type databaseType(AttributeConverter<?, ?> converter) {
+        return getGenericInterface(converter).getActualTypeArguments()[1];
     }
 
     private static Function<AttributeConverter, Object> useConverter(Object value) {
@@ -102,7 +107,7 @@ public final class ConverterUtil {
     }
 
     private static Predicate<AttributeConverter> isNative(Object value) {
-        return a -> getGenericInterface(a).getActualTypeArguments()[1].equals(value.getClass());
+        return a -> databaseType(a).equals(value.getClass());
     }
 
     private static ParameterizedType getGenericInterface(AttributeConverter a) {
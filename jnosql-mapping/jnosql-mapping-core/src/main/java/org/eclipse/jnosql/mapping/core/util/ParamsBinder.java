@@ -15,19 +15,25 @@
 package org.eclipse.jnosql.mapping.core.util;
 
 import org.eclipse.jnosql.communication.Params;
+import org.eclipse.jnosql.mapping.AttributeConverter;
 import org.eclipse.jnosql.mapping.core.Converters;
 import org.eclipse.jnosql.mapping.DynamicQueryException;
 import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
 import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
 
 import java.lang.reflect.Method;
+import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A Binder class, that will apply values in the {@link Params} instance to a dynamic query.
+ * The params of a method query are the same on every call, so the first call of each method resolves every
+ * param name to its position, {@link FieldMetadata} and {@link AttributeConverter} once, and the next calls
+ * only write the converted arguments by position.
  */
 public class ParamsBinder {
 
@@ -35,6 +41,8 @@ public class ParamsBinder {
 
     private final Converters converters;
 
+    private final Map<Method, Slot[]> slots = new ConcurrentHashMap<>();
+
     /**
      * Creates a ParamsBinder instance
      *
@@ -61,35 +69,70 @@ public class ParamsBinder {
         Objects.requireNonNull(args, "args is required");
         Objects.requireNonNull(method, "method is required");
 
-        List<String> names = params.getParametersNames();
-        if (names.size() > args.length) {
+        if (params.size() > args.length) {
             throw new DynamicQueryException("The number of parameters in a query is bigger than the number of " +
                     "parameters in the method: " + method);
         }
-        for (int index = 0; index < names.size(); index++) {
+        Slot[] methodSlots = slots.get(method);
+        if (methodSlots == null || methodSlots.length != params.size()) {
+            methodSlots = compile(params);
+            slots.put(method, methodSlots);
+        }
+        for (int index = 0; index < methodSlots.length; index++) {
+            params.bind(index, methodSlots[index].convert(args[index]));
+        }
+    }
+
+    private Slot[] compile(Params params) {
+        List<String> names = params.getParametersNames();
+        Slot[] compiled = new Slot[names.size()];
+        for (int index = 0; index < compiled.length; index++) {
             String name = names.get(index);
             int lastIndex = name.lastIndexOf('_') == -1 ? name.length() : name.lastIndexOf('_');
             String fieldName = name.substring(0, lastIndex);
-            Optional<FieldMetadata> field = this.mapping.fields().stream()
-                    .filter(f -> f.name().equals(fieldName)).findFirst();
+            FieldMetadata field = this.mapping.fields().stream()
+                    .filter(f -> f.name().equals(fieldName)).findFirst().orElse(null);
+            compiled[index] = slot(field);
+        }
+        return compiled;
+    }
 
-            Object value = getValue(args, index, field.orElse(null));
-            params.bind(name, value);
+    private Slot slot(FieldMetadata field) {
+        if (field == null) {
+            return Slot.NONE;
         }
+        if (field.converter().isPresent()) {
+            AttributeConverter<Object, Object> converter = converters.get(field);
+            return new Slot(field, converter, ConverterUtil.databaseType(converter));
+        }
+        return new Slot(field, null, null);
     }
 
-    private Object getValue(Object[] args, int index, FieldMetadata field) {
-        Object value = args[index];
-        if (field != null) {
-            if (value instanceof Iterable) {
+    private record Slot(FieldMetadata field, AttributeConverter<Object, Object> converter, Type databaseType) {
+
+        private static final Slot NONE = new Slot(null, null, null);
+
+        Object convert(Object value) {
+            if (field == null) {
+                return value;
+            }
+            if (value instanceof Iterable<?> iterable) {
                 List<Object> values = new ArrayList<>();
-                for (Object item : Iterable.class.cast(value)) {
-                    values.add(ConverterUtil.getValue(item, converters, field));
+                for (Object item : iterable) {
+                    values.add(convertItem(item));
                 }
                 return values;
             }
-            return ConverterUtil.getValue(value, converters, field);
-        } else {
+            return convertItem(value);
+        }
+
+        private Object convertItem(Object value) {
+            if (converter != null) {
+                return databaseType.equals(value.getClass()) ? value : converter.convertToDatabaseColumn(value);
+            }
+            if (!field.type().equals(value.getClass())) {
+                return ConverterUtil.convertTo(value, field.type());
+            }
             return value;
         }
     }
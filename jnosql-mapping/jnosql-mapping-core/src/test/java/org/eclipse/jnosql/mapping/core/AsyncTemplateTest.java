@@ -0,0 +1,115 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core;
+
+import jakarta.nosql.Template;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AsyncTemplateTest {
+
+    private Template template;
+
+    private ExecutorService executor;
+
+    private AsyncTemplate async;
+
+    @BeforeEach
+    void setUp() {
+        this.template = Mockito.mock(Template.class);
+        this.executor = Executors.newSingleThreadExecutor(task -> new Thread(task, "template-async"));
+        this.async = AsyncTemplate.of(template, executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldReturnErrorWhenParameterIsNull() {
+        assertThatNullPointerException().isThrownBy(() -> AsyncTemplate.of(null, executor));
+        assertThatNullPointerException().isThrownBy(() -> AsyncTemplate.of(template, null));
+        assertThatNullPointerException().isThrownBy(() -> async.insert((Object) null));
+        assertThatNullPointerException().isThrownBy(() -> async.find(String.class, null));
+    }
+
+    @Test
+    void shouldInsertAtExecutor() throws Exception {
+        AtomicReference<String> thread = new AtomicReference<>();
+        when(template.insert("Ada")).thenAnswer(invocation -> {
+            thread.set(Thread.currentThread().getName());
+            return "Ada";
+        });
+
+        String result = async.insert("Ada").toCompletableFuture().get(5, TimeUnit.SECONDS);
+
+        assertThat(result).isEqualTo("Ada");
+        assertThat(thread).hasValue("template-async");
+    }
+
+    @Test
+    void shouldInsertWithTTL() throws Exception {
+        when(template.insert(List.of("Ada"), Duration.ofSeconds(1))).thenReturn(List.of("Ada"));
+
+        Iterable<String> result = async.insert(List.of("Ada"), Duration.ofSeconds(1))
+                .toCompletableFuture().get(5, TimeUnit.SECONDS);
+
+        assertThat(result).containsExactly("Ada");
+    }
+
+    @Test
+    void shouldFindAndDelete() throws Exception {
+        when(template.find(String.class, 1L)).thenReturn(Optional.of("Ada"));
+
+        Optional<String> result = async.find(String.class, 1L).toCompletableFuture().get(5, TimeUnit.SECONDS);
+        async.delete(String.class, 1L).toCompletableFuture().get(5, TimeUnit.SECONDS);
+
+        assertThat(result).contains("Ada");
+        verify(template).delete(String.class, 1L);
+    }
+
+    @Test
+    void shouldCompleteExceptionally() {
+        when(template.update("Ada")).thenThrow(new IllegalStateException("offline"));
+
+        CompletableFuture<String> future = async.update("Ada").toCompletableFuture();
+
+        assertThat(future).failsWithin(5, TimeUnit.SECONDS)
+                .withThrowableOfType(Exception.class)
+                .withCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldReturnTheBlockingTemplate() {
+        assertThat(async.blocking()).isSameAs(template);
+    }
+}
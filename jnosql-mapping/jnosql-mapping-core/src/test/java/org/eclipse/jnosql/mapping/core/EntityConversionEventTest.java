@@ -0,0 +1,75 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EntityConversionEventTest {
+
+    private static final String EVENT = "org.eclipse.jnosql.EntityConversion";
+
+    @Test
+    void shouldRecordConversion() throws IOException {
+        List<RecordedEvent> events = record(() -> {
+            EntityConversionEvent.start().end("Person", EntityConversionEvent.TO_DATABASE);
+            EntityConversionEvent.start().end("Person", EntityConversionEvent.TO_ENTITY);
+        });
+        assertThat(events).hasSize(2);
+        assertThat(events).allMatch(e -> "Person".equals(e.getString("entity")));
+        assertThat(events).extracting(e -> e.getString("direction"))
+                .containsExactly(EntityConversionEvent.TO_DATABASE, EntityConversionEvent.TO_ENTITY);
+    }
+
+    @Test
+    void shouldNotRecordWhenThresholdIsNotReached() throws IOException {
+        Path file = Files.createTempFile("jnosql", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(EVENT).withThreshold(Duration.ofHours(1));
+            recording.start();
+            EntityConversionEvent.start().end("Person", EntityConversionEvent.TO_DATABASE);
+            recording.stop();
+            recording.dump(file);
+            assertThat(RecordingFile.readAllEvents(file)).noneMatch(e -> EVENT.equals(e.getEventType().getName()));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private static List<RecordedEvent> record(Runnable runnable) throws IOException {
+        Path file = Files.createTempFile("jnosql", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(EVENT);
+            recording.start();
+            runnable.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file).stream()
+                    .filter(e -> EVENT.equals(e.getEventType().getName())).toList();
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core;
+
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.inject.spi.BeanManager;
+import jakarta.enterprise.inject.spi.ObserverMethod;
+import org.eclipse.jnosql.mapping.EntitiesPostPersist;
+import org.eclipse.jnosql.mapping.EntityPostPersist;
+import org.eclipse.jnosql.mapping.EntityPrePersist;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class EntityObserversTest {
+
+    @Test
+    void shouldReturnErrorWhenBeanManagerIsNull() {
+        assertThatNullPointerException().isThrownBy(() -> EntityObservers.of(null));
+    }
+
+    @Test
+    void shouldObserveEverythingSynchronouslyWhenUnresolved() {
+        EntityObservers observers = EntityObservers.unresolved();
+        assertSoftly(softly -> {
+            softly.assertThat(observers.isObserved(EntityPrePersist.class)).isTrue();
+            softly.assertThat(observers.isObserved(EntityPostPersist.class)).isTrue();
+            softly.assertThat(observers.isObserved(EntitiesPostPersist.class)).isTrue();
+            softly.assertThat(observers.isObservedAsync(EntityPostPersist.class)).isFalse();
+        });
+    }
+
+    @Test
+    void shouldNotObserveWhenThereIsNoObserver() {
+        BeanManager beanManager = Mockito.mock(BeanManager.class);
+        doReturn(Set.of()).when(beanManager).resolveObserverMethods(any());
+
+        EntityObservers observers = EntityObservers.of(beanManager);
+
+        assertSoftly(softly -> {
+            softly.assertThat(observers.isObserved(EntityPrePersist.class)).isFalse();
+            softly.assertThat(observers.isObserved(EntityPostPersist.class)).isFalse();
+            softly.assertThat(observers.isObserved(EntitiesPostPersist.class)).isFalse();
+            softly.assertThat(observers.isObservedAsync(EntityPostPersist.class)).isFalse();
+            softly.assertThat(observers.isObservedAsync(EntitiesPostPersist.class)).isFalse();
+        });
+    }
+
+    @Test
+    void shouldSplitSynchronousAndAsynchronousObservers() {
+        BeanManager beanManager = Mockito.mock(BeanManager.class);
+        ObserverMethod<Object> synchronous = Mockito.mock(ObserverMethod.class);
+        ObserverMethod<Object> asynchronous = Mockito.mock(ObserverMethod.class);
+        when(asynchronous.isAsync()).thenReturn(true);
+        doReturn(Set.of()).when(beanManager).resolveObserverMethods(any());
+        doReturn(Set.of(synchronous, asynchronous)).when(beanManager).resolveObserverMethods(isA(EntityPostPersist.class));
+        doReturn(Set.of(asynchronous)).when(beanManager).resolveObserverMethods(isA(EntitiesPostPersist.class));
+
+        EntityObservers observers = EntityObservers.of(beanManager);
+
+        assertSoftly(softly -> {
+            softly.assertThat(observers.isObserved(EntityPrePersist.class)).isFalse();
+            softly.assertThat(observers.isObserved(EntityPostPersist.class)).isTrue();
+            softly.assertThat(observers.isObservedAsync(EntityPostPersist.class)).isTrue();
+            softly.assertThat(observers.isObserved(EntitiesPostPersist.class)).isFalse();
+            softly.assertThat(observers.isObservedAsync(EntitiesPostPersist.class)).isTrue();
+        });
+        assertThat(observers.toString()).contains("EntityPostPersist");
+    }
+
+    @Test
+    void shouldFireToSynchronousObserversWhenUnresolved() {
+        Event<EntityPostPersist> event = Mockito.mock(Event.class);
+        EntityPostPersist value = EntityPostPersist.of("Luke");
+
+        EntityObservers.unresolved().fire(event, EntityPostPersist.class, () -> value);
+
+        verify(event).fire(value);
+        verify(event, never()).fireAsync(any());
+    }
+
+    @Test
+    void shouldFireToSynchronousAndAsynchronousObservers() {
+        BeanManager beanManager = Mockito.mock(BeanManager.class);
+        ObserverMethod<Object> synchronous = Mockito.mock(ObserverMethod.class);
+        ObserverMethod<Object> asynchronous = Mockito.mock(ObserverMethod.class);
+        when(asynchronous.isAsync()).thenReturn(true);
+        doReturn(Set.of()).when(beanManager).resolveObserverMethods(any());
+        doReturn(Set.of(synchronous, asynchronous)).when(beanManager).resolveObserverMethods(isA(EntitiesPostPersist.class));
+        Event<EntitiesPostPersist> event = Mockito.mock(Event.class);
+        EntitiesPostPersist value = EntitiesPostPersist.of(List.of("Luke"));
+
+        EntityObservers.of(beanManager).fire(event, EntitiesPostPersist.class, () -> value);
+
+        verify(event).fire(value);
+        verify(event).fireAsync(value);
+    }
+
+    @Test
+    void shouldNotCreateTheEventWhenThereIsNoObserver() {
+        BeanManager beanManager = Mockito.mock(BeanManager.class);
+        doReturn(Set.of()).when(beanManager).resolveObserverMethods(any());
+        Event<EntityPostPersist> event = Mockito.mock(Event.class);
+
+        EntityObservers.of(beanManager).fire(event, EntityPostPersist.class, () -> {
+            throw new AssertionError("the event should not be created");
+        });
+
+        verifyNoInteractions(event);
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core;
+
+import jakarta.data.exceptions.MappingException;
+import jakarta.inject.Inject;
+import org.eclipse.jnosql.mapping.core.entities.Person;
+import org.eclipse.jnosql.mapping.core.spi.EntityMetadataExtension;
+import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
+import org.eclipse.jnosql.mapping.reflection.Reflections;
+import org.jboss.weld.junit5.auto.AddExtensions;
+import org.jboss.weld.junit5.auto.AddPackages;
+import org.jboss.weld.junit5.auto.EnableAutoWeld;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@EnableAutoWeld
+@AddPackages(value = Converters.class)
+@AddPackages(value = Reflections.class)
+@AddExtensions(EntityMetadataExtension.class)
+class EntityUpsertTest {
+
+    @Inject
+    private Converters converters;
+
+    @Inject
+    private EntitiesMetadata entities;
+
+    @Test
+    void shouldUseTheNativeUpsertWhenSupported() {
+        FakeUpsert upsert = new FakeUpsert(true, List.of());
+        Person ada = Person.builder().withId(1L).withName("Ada").build();
+        Person otavio = Person.builder().withId(2L).withName("Otavio").build();
+
+        List<Person> saved = upsert.save(List.of(ada, otavio));
+
+        assertThat(saved).containsExactly(ada, otavio);
+        assertThat(upsert.calls).containsExactly("upsert 2", "saved 1", "saved 2");
+    }
+
+    @Test
+    void shouldReturnErrorWhenTheNativeUpsertDoesNotReturnOneEntityPerEntity() {
+        FakeUpsert upsert = new FakeUpsert(true, List.of()) {
+            @Override
+            protected Iterable<Object> upsert(List<Object> entities) {
+                return List.of();
+            }
+        };
+        Person ada = Person.builder().withId(1L).withName("Ada").build();
+
+        assertThatThrownBy(() -> upsert.save(List.of(ada))).isInstanceOf(MappingException.class);
+    }
+
+    @Test
+    void shouldInsertOrUpdateByTheIdsFoundWhenUpsertIsNotSupported() {
+        FakeUpsert upsert = new FakeUpsert(false, List.of("2"));
+        Person ada = Person.builder().withId(1L).withName("Ada").build();
+        Person otavio = Person.builder().withId(2L).withName("Otavio").build();
+
+        List<Person> saved = upsert.save(List.of(ada, otavio));
+
+        assertThat(saved).containsExactly(ada, otavio);
+        assertThat(upsert.calls).containsExactly("find [1, 2]", "insert 1", "update 2");
+    }
+
+    private class FakeUpsert extends EntityUpsert<Object> {
+
+        private final boolean supported;
+
+        private final List<Object> found;
+
+        private final List<String> calls = new ArrayList<>();
+
+        FakeUpsert(boolean supported, List<Object> found) {
+            this.supported = supported;
+            this.found = found;
+        }
+
+        @Override
+        protected boolean isUpsertSupported() {
+            return supported;
+        }
+
+        @Override
+        protected Iterable<Object> upsert(List<Object> entities) {
+            calls.add("upsert " + entities.size());
+            return entities;
+        }
+
+        @Override
+        protected <T> T insert(T entity) {
+            calls.add("insert " + ((Person) entity).getId());
+            return entity;
+        }
+
+        @Override
+        protected <T> T update(T entity) {
+            calls.add("update " + ((Person) entity).getId());
+            return entity;
+        }
+
+        @Override
+        protected <T> Object toDatabase(T entity) {
+            return entity;
+        }
+
+        @Override
+        protected <T> T saved(T entity, Object saved) {
+            calls.add("saved " + ((Person) entity).getId());
+            return entity;
+        }
+
+        @Override
+        protected Stream<Object> find(EntityMetadata entity, FieldMetadata id, List<Object> ids) {
+            calls.add("find " + ids);
+            return found.stream();
+        }
+
+        @Override
+        protected EntitiesMetadata entities() {
+            return entities;
+        }
+
+        @Override
+        protected Converters converters() {
+            return converters;
+        }
+    }
+}
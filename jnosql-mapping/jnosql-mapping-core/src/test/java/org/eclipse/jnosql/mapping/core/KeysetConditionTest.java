@@ -0,0 +1,84 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core;
+
+import jakarta.data.Sort;
+import jakarta.data.page.Pageable;
+import jakarta.inject.Inject;
+import org.eclipse.jnosql.mapping.core.entities.Person;
+import org.eclipse.jnosql.mapping.core.spi.EntityMetadataExtension;
+import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.reflection.Reflections;
+import org.jboss.weld.junit5.auto.AddExtensions;
+import org.jboss.weld.junit5.auto.AddPackages;
+import org.jboss.weld.junit5.auto.EnableAutoWeld;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+@EnableAutoWeld
+@AddPackages(value = Converters.class)
+@AddPackages(value = Reflections.class)
+@AddExtensions(EntityMetadataExtension.class)
+class KeysetConditionTest {
+
+    private static final KeysetCondition<String> CONDITION = KeysetCondition.of((n, v) -> n + " = " + v,
+            (n, v) -> n + " > " + v, (n, v) -> n + " < " + v,
+            c -> "(" + String.join(" and ", c) + ")", c -> "(" + String.join(" or ", c) + ")");
+
+    @Inject
+    private Converters converters;
+
+    @Inject
+    private EntitiesMetadata entities;
+
+    private Keyset keyset;
+
+    @BeforeEach
+    void setUp() {
+        this.keyset = Keyset.of(entities.get(Person.class), List.of(Sort.asc("name")), converters);
+    }
+
+    @Test
+    void shouldReturnErrorWhenParameterIsNull() {
+        assertThatNullPointerException().isThrownBy(() -> KeysetCondition.of(null, null, null, null, null));
+        assertThatNullPointerException().isThrownBy(() -> CONDITION.condition(null, Pageable.ofSize(10), null));
+    }
+
+    @Test
+    void shouldCreateConditionFromTheCursor() {
+        Pageable pageable = Pageable.ofSize(10).afterKeyset("Ada", 1L);
+
+        assertThat(CONDITION.condition(keyset, pageable, null)).isEqualTo("(name > Ada or (name = Ada and _id > 1))");
+    }
+
+    @Test
+    void shouldJoinTheQueryCondition() {
+        Pageable pageable = Pageable.ofSize(10).beforeKeyset("Ada", 1L);
+
+        assertThat(CONDITION.condition(keyset, pageable, "age > 18"))
+                .isEqualTo("(age > 18 and (name < Ada or (name = Ada and _id < 1)))");
+    }
+
+    @Test
+    void shouldKeepTheQueryConditionWithoutCursor() {
+        assertThat(CONDITION.condition(keyset, Pageable.ofSize(10), "age > 18")).isEqualTo("age > 18");
+        assertThat(CONDITION.condition(keyset, Pageable.ofSize(10), null)).isNull();
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core;
+
+import jakarta.data.Sort;
+import jakarta.data.page.KeysetAwarePage;
+import jakarta.data.page.Pageable;
+import jakarta.inject.Inject;
+import org.eclipse.jnosql.communication.Condition;
+import org.eclipse.jnosql.mapping.core.entities.Person;
+import org.eclipse.jnosql.mapping.core.spi.EntityMetadataExtension;
+import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+import org.eclipse.jnosql.mapping.reflection.Reflections;
+import org.jboss.weld.junit5.auto.AddExtensions;
+import org.jboss.weld.junit5.auto.AddPackages;
+import org.jboss.weld.junit5.auto.EnableAutoWeld;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+@EnableAutoWeld
+@AddPackages(value = Converters.class)
+@AddPackages(value = Reflections.class)
+@AddExtensions(EntityMetadataExtension.class)
+class KeysetTest {
+
+    @Inject
+    private Converters converters;
+
+    @Inject
+    private EntitiesMetadata entities;
+
+    private EntityMetadata metadata;
+
+    @BeforeEach
+    void setUp() {
+        this.metadata = entities.get(Person.class);
+    }
+
+    @Test
+    void shouldReturnErrorWhenParameterIsNull() {
+        assertThatNullPointerException().isThrownBy(() -> Keyset.of(null, List.of(), converters));
+        assertThatNullPointerException().isThrownBy(() -> Keyset.of(metadata, null, converters));
+        assertThatNullPointerException().isThrownBy(() -> Keyset.of(metadata, List.of(), null));
+    }
+
+    @Test
+    void shouldReturnErrorWhenSortIsNotAttribute() {
+        assertThatIllegalArgumentException().isThrownBy(() -> Keyset.of(metadata, List.of(Sort.asc("unknown")), converters));
+    }
+
+    @Test
+    void shouldAppendIdAsTiebreaker() {
+        Keyset keyset = Keyset.of(metadata, List.of(Sort.desc("name")), converters);
+        assertThat(keyset.sorts()).containsExactly(Sort.desc("name"), Sort.asc("_id"));
+    }
+
+    @Test
+    void shouldNotAppendIdWhenItIsSorted() {
+        Keyset keyset = Keyset.of(metadata, List.of(Sort.desc("id")), converters);
+        assertThat(keyset.sorts()).containsExactly(Sort.desc("id"));
+    }
+
+    @Test
+    void shouldIgnoreDuplicatedSort() {
+        Keyset keyset = Keyset.of(metadata, List.of(Sort.asc("name"), Sort.desc("name")), converters);
+        assertThat(keyset.sorts()).containsExactly(Sort.asc("name"), Sort.asc("_id"));
+    }
+
+    @Test
+    void shouldCheckId() {
+        Keyset keyset = Keyset.of(metadata, List.of(), converters);
+        assertSoftly(softly -> {
+            softly.assertThat(keyset.isId("id")).isTrue();
+            softly.assertThat(keyset.isId("_id")).isTrue();
+            softly.assertThat(keyset.isId("name")).isFalse();
+        });
+    }
+
+    @Test
+    void shouldInvertSortsToPreviousPage() {
+        Keyset keyset = Keyset.of(metadata, List.of(Sort.desc("name")), converters);
+        Pageable pageable = Pageable.ofSize(10).beforeKeyset("Ada", 1L);
+        assertThat(keyset.sorts(pageable)).containsExactly(Sort.asc("name"), Sort.desc("_id"));
+        assertThat(keyset.sorts(Pageable.ofSize(10))).containsExactly(Sort.desc("name"), Sort.asc("_id"));
+    }
+
+    @Test
+    void shouldNotCreateConditionWithoutCursor() {
+        Keyset keyset = Keyset.of(metadata, List.of(Sort.asc("name")), converters);
+        assertThat(keyset.condition(Pageable.ofPage(3))).isEmpty();
+    }
+
+    @Test
+    void shouldCreateConditionToNextPage() {
+        Keyset keyset = Keyset.of(metadata, List.of(Sort.asc("name"), Sort.desc("age")), converters);
+        Pageable pageable = Pageable.ofSize(10).afterKeyset("Ada", 30, 1L);
+
+        List<List<Keyset.Comparison>> condition = keyset.condition(pageable).orElseThrow();
+
+        assertThat(condition).containsExactly(
+                List.of(new Keyset.Comparison("name", Condition.GREATER_THAN, "Ada")),
+                List.of(new Keyset.Comparison("name", Condition.EQUALS, "Ada"),
+                        new Keyset.Comparison("age", Condition.LESSER_THAN, 30)),
+                List.of(new Keyset.Comparison("name", Condition.EQUALS, "Ada"),
+                        new Keyset.Comparison("age", Condition.EQUALS, 30),
+                        new Keyset.Comparison("_id", Condition.GREATER_THAN, 1L)));
+    }
+
+    @Test
+    void shouldCreateConditionToPreviousPage() {
+        Keyset keyset = Keyset.of(metadata, List.of(Sort.asc("name")), converters);
+        Pageable pageable = Pageable.ofSize(10).beforeKeyset("Ada", 1L);
+
+        List<List<Keyset.Comparison>> condition = keyset.condition(pageable).orElseThrow();
+
+        assertThat(condition).containsExactly(
+                List.of(new Keyset.Comparison("name", Condition.LESSER_THAN, "Ada")),
+                List.of(new Keyset.Comparison("name", Condition.EQUALS, "Ada"),
+                        new Keyset.Comparison("_id", Condition.LESSER_THAN, 1L)));
+    }
+
+    @Test
+    void shouldConvertCursorValue() {
+        Keyset keyset = Keyset.of(metadata, List.of(), converters);
+        Pageable pageable = Pageable.ofSize(10).afterKeyset("10");
+
+        List<List<Keyset.Comparison>> condition = keyset.condition(pageable).orElseThrow();
+
+        assertThat(condition).containsExactly(List.of(new Keyset.Comparison("_id", Condition.GREATER_THAN, 10L)));
+    }
+
+    @Test
+    void shouldReturnErrorWhenCursorSizeIsInvalid() {
+        Keyset keyset = Keyset.of(metadata, List.of(Sort.asc("name")), converters);
+        Pageable pageable = Pageable.ofSize(10).afterKeyset("Ada");
+        assertThatIllegalArgumentException().isThrownBy(() -> keyset.condition(pageable));
+    }
+
+    @Test
+    void shouldReturnErrorWhenCursorHasNull() {
+        Keyset keyset = Keyset.of(metadata, List.of(Sort.asc("name")), converters);
+        Pageable pageable = Pageable.ofSize(10).afterKeysetCursor(keyset.cursor(Person.builder().withId(1L).build()));
+        assertThatIllegalArgumentException().isThrownBy(() -> keyset.condition(pageable));
+    }
+
+    @Test
+    void shouldCreateCursorFromEntity() {
+        Keyset keyset = Keyset.of(metadata, List.of(Sort.asc("name")), converters);
+        Pageable.Cursor cursor = keyset.cursor(Person.builder().withId(1L).withName("Ada").build());
+        assertSoftly(softly -> {
+            softly.assertThat(cursor.size()).isEqualTo(2);
+            softly.assertThat(cursor.getKeysetElement(0)).isEqualTo("Ada");
+            softly.assertThat(cursor.getKeysetElement(1)).isEqualTo(1L);
+        });
+    }
+
+    @Test
+    void shouldCreatePage() {
+        Keyset keyset = Keyset.of(metadata, List.of(Sort.asc("name")), converters);
+        Person ada = Person.builder().withId(1L).withName("Ada").build();
+        Person otavio = Person.builder().withId(2L).withName("Otavio").build();
+
+        KeysetAwarePage<Person> page = keyset.page(List.of(ada, otavio), Pageable.ofSize(2));
+
+        assertSoftly(softly -> {
+            softly.assertThat(page.content()).containsExactly(ada, otavio);
+            softly.assertThat(page.getKeysetCursor(1)).isEqualTo(keyset.cursor(otavio));
+            softly.assertThat(page.nextPageable().cursor()).contains(keyset.cursor(otavio));
+        });
+    }
+
+    @Test
+    void shouldRestoreOrderOnPreviousPage() {
+        Keyset keyset = Keyset.of(metadata, List.of(Sort.asc("name")), converters);
+        Person ada = Person.builder().withId(1L).withName("Ada").build();
+        Person otavio = Person.builder().withId(2L).withName("Otavio").build();
+
+        KeysetAwarePage<Person> page = keyset.page(List.of(otavio, ada), Pageable.ofSize(2).beforeKeyset("Poliana", 3L));
+
+        assertThat(page.content()).containsExactly(ada, otavio);
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LimitedExecutorTest {
+
+    @Test
+    void shouldQueueTasksOverTheLimit() {
+        List<Runnable> submitted = new ArrayList<>();
+        LimitedExecutor executor = new LimitedExecutor(submitted::add, 2);
+        AtomicInteger runs = new AtomicInteger();
+        for (int index = 0; index < 5; index++) {
+            executor.execute(runs::incrementAndGet);
+        }
+        assertThat(submitted).hasSize(2);
+        assertThat(executor.active()).isEqualTo(2);
+
+        submitted.remove(0).run();
+        assertThat(submitted).hasSize(2);
+        assertThat(runs.get()).isEqualTo(1);
+
+        while (!submitted.isEmpty()) {
+            submitted.remove(0).run();
+        }
+        assertThat(runs.get()).isEqualTo(5);
+        assertThat(executor.active()).isZero();
+    }
+
+    @Test
+    void shouldRunInlineWhenTaskSubmitsToItself() {
+        List<Runnable> submitted = new ArrayList<>();
+        LimitedExecutor executor = new LimitedExecutor(submitted::add, 1);
+        AtomicInteger runs = new AtomicInteger();
+        executor.execute(() -> executor.execute(runs::incrementAndGet));
+        submitted.remove(0).run();
+        assertThat(runs.get()).isEqualTo(1);
+        assertThat(submitted).isEmpty();
+        assertThat(executor.active()).isZero();
+    }
+
+    @Test
+    void shouldReleasePermitWhenRejected() {
+        LimitedExecutor executor = new LimitedExecutor(command -> {
+            throw new RejectedExecutionException("rejected");
+        }, 1);
+        assertThatThrownBy(() -> executor.execute(() -> { }))
+                .isInstanceOf(RejectedExecutionException.class);
+        assertThat(executor.active()).isZero();
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class MappingExecutorTest {
+
+    private static final Object DATABASE = new Object();
+
+    @Test
+    void shouldReturnErrorWhenParameterIsInvalid() {
+        assertThatNullPointerException().isThrownBy(() -> MappingExecutor.of(null, 1, 1));
+        assertThatIllegalArgumentException().isThrownBy(() -> MappingExecutor.of(Runnable::run, 0, 1));
+        assertThatIllegalArgumentException().isThrownBy(() -> MappingExecutor.of(Runnable::run, 1, -1));
+        MappingExecutor executor = MappingExecutor.of(Runnable::run, 1, 1);
+        assertThatNullPointerException().isThrownBy(() -> executor.execute(null));
+        assertThatNullPointerException().isThrownBy(() -> executor.database(null));
+        assertThatNullPointerException().isThrownBy(() -> executor.map(DATABASE, null, i -> i));
+        assertThatNullPointerException().isThrownBy(() -> executor.map(DATABASE, List.of(), null));
+        assertThatNullPointerException().isThrownBy(() -> executor.map(null, List.of(), i -> i));
+        assertThatNullPointerException().isThrownBy(() -> executor.implicit(null));
+    }
+
+    @Test
+    void shouldReturnDefaultInstance() {
+        MappingExecutor executor = MappingExecutor.get();
+        assertSoftly(soft -> {
+            soft.assertThat(executor).isSameAs(MappingExecutor.get());
+            soft.assertThat(executor.concurrency()).isEqualTo(MappingExecutor.DEFAULT_CONCURRENCY);
+            soft.assertThat(executor.bulkhead()).isEqualTo(MappingExecutor.DEFAULT_BULKHEAD);
+            soft.assertThat(executor.parallel()).isFalse();
+        });
+    }
+
+    @Test
+    void shouldCreateExecutorFromType() {
+        assertThat(MappingExecutor.executor("platform")).isNotNull();
+        assertThat(MappingExecutor.executor(" Virtual ")).isNotNull();
+        assertThatIllegalArgumentException().isThrownBy(() -> MappingExecutor.executor("invalid"));
+    }
+
+    @Test
+    void shouldMapInOrder() {
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            MappingExecutor executor = MappingExecutor.of(pool, 4, 4);
+            List<Integer> items = IntStream.range(0, 100).boxed().toList();
+            assertThat(executor.map(DATABASE, items, i -> i * 2))
+                    .containsExactlyElementsOf(items.stream().map(i -> i * 2).toList());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldMapAtCallerWhenThereIsOneItem() {
+        MappingExecutor executor = MappingExecutor.of(command -> {
+            throw new IllegalStateException("should not be called");
+        }, 1, 1);
+        Thread caller = Thread.currentThread();
+        assertThat(executor.map(DATABASE, List.of(1), i -> Thread.currentThread())).containsExactly(caller);
+        assertThat(executor.map(DATABASE, List.<Integer>of(), i -> i)).isEmpty();
+    }
+
+    @Test
+    void shouldMapAtCallerWhenItIsNotParallel() {
+        MappingExecutor executor = MappingExecutor.of(command -> {
+            throw new IllegalStateException("should not be called");
+        }, 4, 4, false);
+        Thread caller = Thread.currentThread();
+        assertThat(executor.map(DATABASE, List.of(1, 2, 3), i -> Thread.currentThread()))
+                .containsExactly(caller, caller, caller);
+        List<Thread> threads = new ArrayList<>();
+        executor.implicit(DATABASE).execute(() -> threads.add(Thread.currentThread()));
+        assertThat(threads).containsExactly(caller);
+    }
+
+    @Test
+    void shouldMapAtTheBulkheadOfTheDatabase() {
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            MappingExecutor executor = MappingExecutor.of(pool, 8, 2);
+            AtomicInteger running = new AtomicInteger();
+            AtomicInteger max = new AtomicInteger();
+            executor.map(DATABASE, IntStream.range(0, 20).boxed().toList(), i -> {
+                max.accumulateAndGet(running.incrementAndGet(), Math::max);
+                sleep();
+                running.decrementAndGet();
+                return i;
+            });
+            assertThat(max.get()).isBetween(1, 2);
+            assertThat(executor.implicit(DATABASE)).isSameAs(executor.database(DATABASE));
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldLimitConcurrency() {
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            MappingExecutor executor = MappingExecutor.of(pool, 2, 8);
+            AtomicInteger running = new AtomicInteger();
+            AtomicInteger max = new AtomicInteger();
+            executor.map(DATABASE, IntStream.range(0, 20).boxed().toList(), i -> {
+                max.accumulateAndGet(running.incrementAndGet(), Math::max);
+                sleep();
+                running.decrementAndGet();
+                return i;
+            });
+            assertThat(max.get()).isBetween(1, 2);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldRethrowFailure() {
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            MappingExecutor executor = MappingExecutor.of(pool, 2, 2);
+            assertThatThrownBy(() -> executor.map(DATABASE, List.of(1, 2, 3), i -> {
+                if (i == 2) {
+                    throw new IllegalStateException("failure");
+                }
+                return i;
+            })).isInstanceOf(IllegalStateException.class).hasMessage("failure");
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldShareBulkheadByDatabase() throws InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            MappingExecutor executor = MappingExecutor.of(pool, 4, 1);
+            Object database = new Object();
+            assertThat(executor.database(database)).isSameAs(executor.database(database))
+                    .isNotSameAs(executor.database(new Object()));
+
+            CountDownLatch release = new CountDownLatch(1);
+            CountDownLatch done = new CountDownLatch(2);
+            AtomicInteger running = new AtomicInteger();
+            AtomicInteger max = new AtomicInteger();
+            Runnable task = () -> {
+                max.accumulateAndGet(running.incrementAndGet(), Math::max);
+                await(release);
+                running.decrementAndGet();
+                done.countDown();
+            };
+            executor.database(database).execute(task);
+            executor.database(database).execute(task);
+            release.countDown();
+            assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(max.get()).isEqualTo(1);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static void sleep() {
+        try {
+            TimeUnit.MILLISECONDS.sleep(5);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core;
+
+import org.eclipse.jnosql.communication.Instrumentation;
+import org.eclipse.jnosql.communication.SlowQueryLog;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.jnosql.mapping.core.config.MappingConfigurations.INSTRUMENTATION;
+import static org.eclipse.jnosql.mapping.core.config.MappingConfigurations.SLOW_QUERY_THRESHOLD;
+
+class MappingInstrumentationTest {
+
+    @AfterEach
+    void tearDown() {
+        System.clearProperty(INSTRUMENTATION.get());
+        System.clearProperty(SLOW_QUERY_THRESHOLD.get());
+    }
+
+    @Test
+    void shouldReturnJfrByDefault() {
+        assertThat(MappingInstrumentation.get()).isSameAs(Instrumentation.jfr());
+    }
+
+    @Test
+    void shouldReturnJfrWhenDisabled() {
+        System.setProperty(INSTRUMENTATION.get(), "false");
+        assertThat(MappingInstrumentation.get()).isSameAs(Instrumentation.jfr());
+    }
+
+    @Test
+    void shouldLoadInstrumentationWhenEnabled() {
+        System.setProperty(INSTRUMENTATION.get(), "true");
+        assertThat(MappingInstrumentation.get()).isSameAs(Instrumentation.jfr());
+    }
+
+    @Test
+    void shouldNotReturnSlowQueryLogByDefault() {
+        assertThat(MappingInstrumentation.slowQueryLog()).isEmpty();
+    }
+
+    @Test
+    void shouldReturnTheSharedSlowQueryLog() {
+        System.setProperty(SLOW_QUERY_THRESHOLD.get(), "PT1S");
+        SlowQueryLog log = MappingInstrumentation.slowQueryLog().orElseThrow();
+        assertThat(MappingInstrumentation.slowQueryLog()).containsSame(log);
+        assertThat(MappingInstrumentation.get()).isEqualTo(Instrumentation.of(List.of(Instrumentation.jfr(), log)));
+
+        System.setProperty(INSTRUMENTATION.get(), "true");
+        assertThat(MappingInstrumentation.get()).isEqualTo(Instrumentation.of(List.of(Instrumentation.jfr(), log)));
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core;
+
+import jakarta.data.page.KeysetAwarePage;
+import jakarta.data.page.Pageable;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class NoSQLKeysetPageTest {
+
+    private final Function<Integer, Pageable.Cursor> cursor = value -> Pageable.ofSize(1).afterKeyset(value)
+            .cursor().orElseThrow();
+
+    @Test
+    void shouldReturnErrorWhenNull() {
+        assertThatNullPointerException().isThrownBy(() -> NoSQLKeysetPage.of(null, Pageable.ofSize(2), cursor));
+        assertThatNullPointerException().isThrownBy(() -> NoSQLKeysetPage.of(List.of(), null, cursor));
+        assertThatNullPointerException().isThrownBy(() -> NoSQLKeysetPage.of(List.of(), Pageable.ofSize(2), null));
+    }
+
+    @Test
+    void shouldReturnUnsupportedOperation() {
+        KeysetAwarePage<Integer> page = NoSQLKeysetPage.of(List.of(1, 2), Pageable.ofSize(2), cursor);
+        assertThatThrownBy(page::totalElements).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(page::totalPages).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void shouldReturnContent() {
+        KeysetAwarePage<Integer> page = NoSQLKeysetPage.of(List.of(1, 2), Pageable.ofSize(2), cursor);
+        assertSoftly(softly -> {
+            softly.assertThat(page.content()).containsExactly(1, 2);
+            softly.assertThat(page.hasContent()).isTrue();
+            softly.assertThat(page.numberOfElements()).isEqualTo(2);
+            softly.assertThat(page).containsExactly(1, 2);
+            softly.assertThat(page.getKeysetCursor(0)).isEqualTo(cursor.apply(1));
+        });
+    }
+
+    @Test
+    void shouldReturnNextPageableAfterLastEntity() {
+        KeysetAwarePage<Integer> page = NoSQLKeysetPage.of(List.of(1, 2), Pageable.ofSize(2), cursor);
+        Pageable next = page.nextPageable();
+        assertSoftly(softly -> {
+            softly.assertThat(next.mode()).isEqualTo(Pageable.Mode.CURSOR_NEXT);
+            softly.assertThat(next.page()).isEqualTo(2L);
+            softly.assertThat(next.size()).isEqualTo(2);
+            softly.assertThat(next.cursor()).contains(cursor.apply(2));
+        });
+    }
+
+    @Test
+    void shouldNotReturnNextPageableWhenItIsLastPage() {
+        assertThat(NoSQLKeysetPage.of(List.of(1), Pageable.ofSize(2), cursor).nextPageable()).isNull();
+        assertThat(NoSQLKeysetPage.of(List.<Integer>of(), Pageable.ofSize(2), cursor).nextPageable()).isNull();
+    }
+
+    @Test
+    void shouldNotReturnPreviousPageableOnFirstPage() {
+        assertThat(NoSQLKeysetPage.of(List.of(1, 2), Pageable.ofSize(2), cursor).previousPageable()).isNull();
+    }
+
+    @Test
+    void shouldReturnPreviousPageableBeforeFirstEntity() {
+        Pageable pageable = Pageable.ofSize(2).afterKeyset(0).page(2);
+        Pageable previous = NoSQLKeysetPage.of(List.of(1, 2), pageable, cursor).previousPageable();
+        assertSoftly(softly -> {
+            softly.assertThat(previous.mode()).isEqualTo(Pageable.Mode.CURSOR_PREVIOUS);
+            softly.assertThat(previous.page()).isEqualTo(1L);
+            softly.assertThat(previous.cursor()).contains(cursor.apply(1));
+        });
+    }
+
+    @Test
+    void shouldNotReturnPreviousPageableWhenPreviousPageIsIncomplete() {
+        Pageable pageable = Pageable.ofSize(2).beforeKeyset(3).page(2);
+        KeysetAwarePage<Integer> page = NoSQLKeysetPage.of(List.of(1), pageable, cursor);
+        assertThat(page.previousPageable()).isNull();
+        assertThat(page.nextPageable()).isNotNull();
+    }
+
+    @Test
+    void shouldBeEquals() {
+        assertThat(NoSQLKeysetPage.of(List.of(1), Pageable.ofSize(2), cursor))
+                .isEqualTo(NoSQLKeysetPage.of(List.of(1), Pageable.ofSize(2), cursor))
+                .hasSameHashCodeAs(NoSQLKeysetPage.of(List.of(1), Pageable.ofSize(2), cursor));
+    }
+}
@@ -49,6 +49,22 @@ class NoSQLPageTest {
         assertThrows(UnsupportedOperationException.class, page::totalElements);
     }
 
+    @Test
+    void shouldReturnTotals() {
+        Page<Person> page = NoSQLPage.of(Collections.singletonList(Person.builder().withName("Otavio").build()),
+                Pageable.ofPage(2).size(10), 21);
+
+        assertEquals(21L, page.totalElements());
+        assertEquals(3L, page.totalPages());
+        assertThat(((NoSQLPage<Person>) page).hasTotals()).isTrue();
+    }
+
+    @Test
+    void shouldReturnErrorWhenTotalIsNegative() {
+        assertThrows(IllegalArgumentException.class, () ->
+                NoSQLPage.of(Collections.emptyList(), Pageable.ofPage(2), -1));
+    }
+
     @Test
     void shouldReturnHasContent() {
 
@@ -0,0 +1,180 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core;
+
+import jakarta.data.page.Page;
+import jakarta.data.page.Pageable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.eclipse.jnosql.mapping.core.config.MappingConfigurations.PAGE_TOTAL;
+import static org.eclipse.jnosql.mapping.core.config.MappingConfigurations.PAGE_TOTAL_EXPIRE;
+
+class PageTotalsTest {
+
+    private final AtomicInteger counts = new AtomicInteger();
+
+    private final LongSupplier count = () -> {
+        counts.incrementAndGet();
+        return 10L;
+    };
+
+    @AfterEach
+    void tearDown() {
+        System.clearProperty(PAGE_TOTAL.get());
+        System.clearProperty(PAGE_TOTAL_EXPIRE.get());
+    }
+
+    @Test
+    void shouldReturnErrorWhenParameterIsNull() {
+        PageTotals totals = PageTotals.of(PageTotalPolicy.ALWAYS);
+        assertThatNullPointerException().isThrownBy(() -> PageTotals.of(null));
+        assertThatNullPointerException().isThrownBy(() -> PageTotals.of(PageTotalPolicy.ALWAYS, null));
+        assertThatNullPointerException().isThrownBy(() -> totals.page(null, Pageable.ofPage(1), List::of, count));
+        assertThatNullPointerException().isThrownBy(() -> totals.page("query", null, List::of, count));
+        assertThatNullPointerException().isThrownBy(() -> totals.page("query", Pageable.ofPage(1), null, count));
+        assertThatNullPointerException().isThrownBy(() -> totals.page("query", Pageable.ofPage(1), List::of, null));
+    }
+
+    @Test
+    void shouldNotCountWhenPolicyIsNever() {
+        Page<String> page = PageTotals.of(PageTotalPolicy.NEVER).page("query", Pageable.ofSize(2), () -> List.of("a", "b"), count);
+
+        assertThat(page.content()).containsExactly("a", "b");
+        assertThatThrownBy(page::totalElements).isInstanceOf(UnsupportedOperationException.class);
+        assertThat(counts).hasValue(0);
+    }
+
+    @Test
+    void shouldCountEveryPageWhenPolicyIsAlways() {
+        PageTotals totals = PageTotals.of(PageTotalPolicy.ALWAYS);
+
+        Page<String> first = totals.page("query", Pageable.ofSize(3), () -> List.of("a", "b", "c"), count);
+        Page<String> second = totals.page("query", Pageable.ofSize(3).page(2), () -> List.of("d", "e", "f"), count);
+
+        assertSoftly(softly -> {
+            softly.assertThat(first.totalElements()).isEqualTo(10L);
+            softly.assertThat(first.totalPages()).isEqualTo(4L);
+            softly.assertThat(second.totalElements()).isEqualTo(10L);
+            softly.assertThat(counts).hasValue(2);
+        });
+    }
+
+    @Test
+    void shouldReuseFirstPageTotal() {
+        PageTotals totals = PageTotals.of(PageTotalPolicy.FIRST_PAGE);
+
+        totals.page("query", Pageable.ofSize(3), () -> List.of("a", "b", "c"), count);
+        Page<String> second = totals.page("query", Pageable.ofSize(3).page(2), () -> List.of("d", "e", "f"), count);
+
+        assertSoftly(softly -> {
+            softly.assertThat(second.totalElements()).isEqualTo(10L);
+            softly.assertThat(counts).hasValue(1);
+        });
+    }
+
+    @Test
+    void shouldCountWhenTheFirstPageRequestedIsNotTheFirstPage() {
+        PageTotals totals = PageTotals.of(PageTotalPolicy.FIRST_PAGE, Runnable::run);
+
+        Page<String> second = totals.page("query", Pageable.ofSize(3).page(2), () -> List.of("d", "e", "f"), count);
+        Page<String> third = totals.page("query", Pageable.ofSize(3).page(3), () -> List.of("g", "h", "i"), count);
+
+        assertSoftly(softly -> {
+            softly.assertThat(second.totalElements()).isEqualTo(10L);
+            softly.assertThat(second.totalPages()).isEqualTo(4L);
+            softly.assertThat(third.totalElements()).isEqualTo(10L);
+            softly.assertThat(counts).hasValue(1);
+        });
+    }
+
+    @Test
+    void shouldCountAgainWhenTheFirstPageTotalExpired() throws InterruptedException {
+        PageTotals totals = PageTotals.of(PageTotalPolicy.FIRST_PAGE, Runnable::run, Duration.ofMillis(10));
+
+        totals.page("query", Pageable.ofSize(3), () -> List.of("a", "b", "c"), count);
+        TimeUnit.MILLISECONDS.sleep(20);
+        Page<String> second = totals.page("query", Pageable.ofSize(3).page(2), () -> List.of("d", "e", "f"), count);
+
+        assertSoftly(softly -> {
+            softly.assertThat(second.totalElements()).isEqualTo(10L);
+            softly.assertThat(counts).hasValue(2);
+        });
+    }
+
+    @Test
+    void shouldReadExpirationFromProperty() {
+        System.setProperty(PAGE_TOTAL_EXPIRE.get(), "PT5M");
+        assertThat(PageTotals.of(PageTotalPolicy.FIRST_PAGE, Runnable::run)).hasToString("PageTotals{policy=FIRST_PAGE, expiration=PT5M}");
+    }
+
+    @Test
+    void shouldReturnErrorWhenExpirationIsNotPositive() {
+        assertThatNullPointerException().isThrownBy(() -> PageTotals.of(PageTotalPolicy.FIRST_PAGE, Runnable::run, null));
+        assertThatThrownBy(() -> PageTotals.of(PageTotalPolicy.FIRST_PAGE, Runnable::run, Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PageTotals.of(PageTotalPolicy.FIRST_PAGE, Runnable::run, Duration.ofSeconds(-1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldCountInParallelWithPage() {
+        CountDownLatch counting = new CountDownLatch(1);
+        PageTotals totals = PageTotals.of(PageTotalPolicy.ALWAYS);
+
+        Page<String> page = totals.page("query", Pageable.ofSize(2), () -> {
+            try {
+                assertThat(counting.await(5, TimeUnit.SECONDS)).isTrue();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+            return List.of("a");
+        }, () -> {
+            counting.countDown();
+            return 1L;
+        });
+
+        assertThat(page.totalElements()).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldPropagateCountError() {
+        PageTotals totals = PageTotals.of(PageTotalPolicy.ALWAYS, Runnable::run);
+        assertThatIllegalStateException().isThrownBy(() -> totals.page("query", Pageable.ofSize(2), List::of, () -> {
+            throw new IllegalStateException("error");
+        }));
+    }
+
+    @Test
+    void shouldReadPolicyFromProperty() {
+        assertThat(PageTotalPolicy.get()).isEqualTo(PageTotalPolicy.NEVER);
+        System.setProperty(PAGE_TOTAL.get(), "first-page");
+        assertThat(PageTotalPolicy.get()).isEqualTo(PageTotalPolicy.FIRST_PAGE);
+        System.setProperty(PAGE_TOTAL.get(), "ALWAYS");
+        assertThat(PageTotalPolicy.get()).isEqualTo(PageTotalPolicy.ALWAYS);
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core;
+
+import jakarta.data.exceptions.MappingException;
+import jakarta.inject.Inject;
+import org.eclipse.jnosql.mapping.Projection;
+import org.eclipse.jnosql.mapping.Select;
+import org.eclipse.jnosql.mapping.core.entities.Money;
+import org.eclipse.jnosql.mapping.core.entities.Person;
+import org.eclipse.jnosql.mapping.core.entities.Worker;
+import org.eclipse.jnosql.mapping.core.spi.EntityMetadataExtension;
+import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+import org.eclipse.jnosql.mapping.reflection.Reflections;
+import org.jboss.weld.junit5.auto.AddExtensions;
+import org.jboss.weld.junit5.auto.AddPackages;
+import org.jboss.weld.junit5.auto.EnableAutoWeld;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+@EnableAutoWeld
+@AddPackages(value = Converters.class)
+@AddPackages(value = Reflections.class)
+@AddExtensions(EntityMetadataExtension.class)
+class ProjectionMetadataTest {
+
+    @Inject
+    private EntitiesMetadata entities;
+
+    private EntityMetadata person;
+
+    private EntityMetadata worker;
+
+    @BeforeEach
+    void setUp() {
+        this.person = entities.get(Person.class);
+        this.worker = entities.get(Worker.class);
+    }
+
+    @Test
+    void shouldReturnErrorWhenParameterIsNull() {
+        assertThatNullPointerException().isThrownBy(() -> ProjectionMetadata.of(null, person));
+        assertThatNullPointerException().isThrownBy(() -> ProjectionMetadata.of(PersonSummary.class, null));
+        assertThatNullPointerException().isThrownBy(() -> ProjectionMetadata.from(null));
+    }
+
+    @Test
+    void shouldCreateFromRecord() {
+        ProjectionMetadata metadata = ProjectionMetadata.of(PersonSummary.class, person);
+        assertSoftly(softly -> {
+            softly.assertThat(metadata.type()).isEqualTo(PersonSummary.class);
+            softly.assertThat(metadata.entity()).isEqualTo(person);
+            softly.assertThat(metadata.attributes()).extracting(ProjectionMetadata.Attribute::path)
+                    .containsExactly("name", "age");
+            softly.assertThat(metadata.columns()).containsExactly("name", "age");
+        });
+    }
+
+    @Test
+    void shouldCacheMetadata() {
+        assertThat(ProjectionMetadata.of(PersonSummary.class, person))
+                .isSameAs(ProjectionMetadata.of(PersonSummary.class, person));
+    }
+
+    @Test
+    void shouldCreateRecordInstance() {
+        ProjectionMetadata metadata = ProjectionMetadata.of(PersonSummary.class, person);
+        PersonSummary summary = metadata.newInstance(new Object[]{"Ada", 10L});
+        assertThat(summary).isEqualTo(new PersonSummary("Ada", 10));
+    }
+
+    @Test
+    void shouldUseDefaultValueToNullPrimitive() {
+        ProjectionMetadata metadata = ProjectionMetadata.of(PersonSummary.class, person);
+        PersonSummary summary = metadata.newInstance(new Object[]{"Ada", null});
+        assertThat(summary).isEqualTo(new PersonSummary("Ada", 0));
+    }
+
+    @Test
+    void shouldReturnErrorWhenValuesAreInvalid() {
+        ProjectionMetadata metadata = ProjectionMetadata.of(PersonSummary.class, person);
+        assertThatIllegalArgumentException().isThrownBy(() -> metadata.newInstance(new Object[]{"Ada"}));
+    }
+
+    @Test
+    void shouldCreateFromNestedPath() {
+        ProjectionMetadata metadata = ProjectionMetadata.of(WorkerCity.class, worker);
+        assertSoftly(softly -> {
+            softly.assertThat(metadata.attributes()).extracting(ProjectionMetadata.Attribute::path)
+                    .containsExactly("name", "job.city", "salary");
+            softly.assertThat(metadata.columns()).containsExactly("name", "city", "money");
+        });
+    }
+
+    @Test
+    void shouldCreateFromInterface() {
+        ProjectionMetadata metadata = ProjectionMetadata.of(PersonName.class, person);
+        assertThat(metadata.columns()).containsExactly("name");
+
+        PersonName name = metadata.newInstance(new Object[]{"Ada"});
+        assertSoftly(softly -> {
+            softly.assertThat(name.getName()).isEqualTo("Ada");
+            softly.assertThat(name.upper()).isEqualTo("ADA");
+            softly.assertThat(name).isEqualTo(metadata.newInstance(new Object[]{"Ada"}));
+            softly.assertThat(name).hasSameHashCodeAs(metadata.newInstance(new Object[]{"Ada"}));
+            softly.assertThat(name.toString()).isEqualTo("PersonName{getName=Ada}");
+        });
+    }
+
+    @Test
+    void shouldReturnErrorWhenFieldDoesNotExist() {
+        assertThatThrownBy(() -> ProjectionMetadata.of(InvalidSummary.class, person))
+                .isInstanceOf(MappingException.class);
+    }
+
+    @Test
+    void shouldReturnErrorWhenTypeIsNotRecordOrInterface() {
+        assertThatThrownBy(() -> ProjectionMetadata.of(String.class, person))
+                .isInstanceOf(MappingException.class);
+    }
+
+    @Test
+    void shouldReturnFrom() {
+        assertSoftly(softly -> {
+            softly.assertThat(ProjectionMetadata.from(PersonName.class)).contains(Person.class);
+            softly.assertThat(ProjectionMetadata.from(PersonSummary.class)).isEmpty();
+            softly.assertThat(ProjectionMetadata.from(Person.class)).isEmpty();
+        });
+    }
+
+    @Test
+    void shouldCheckProjection() {
+        assertSoftly(softly -> {
+            softly.assertThat(ProjectionMetadata.isProjection(PersonSummary.class, person)).isTrue();
+            softly.assertThat(ProjectionMetadata.isProjection(PersonName.class, person)).isTrue();
+            softly.assertThat(ProjectionMetadata.isProjection(Person.class, person)).isFalse();
+            softly.assertThat(ProjectionMetadata.isProjection(Object.class, person)).isFalse();
+            softly.assertThat(ProjectionMetadata.isProjection(String.class, person)).isFalse();
+        });
+    }
+
+    @Test
+    void shouldReturnProjectionFromMethod() {
+        assertSoftly(softly -> {
+            softly.assertThat(ProjectionMetadata.projection(method("findByName"), person)).contains(PersonSummary.class);
+            softly.assertThat(ProjectionMetadata.projection(method("findByAge"), person)).contains(PersonSummary.class);
+            softly.assertThat(ProjectionMetadata.projection(method("findById"), person)).contains(PersonName.class);
+            softly.assertThat(ProjectionMetadata.projection(method("findFirstByName"), person)).contains(PersonSummary.class);
+            softly.assertThat(ProjectionMetadata.projection(method("findByPhones"), person)).isEmpty();
+            softly.assertThat(ProjectionMetadata.projection(method("countByName"), person)).isEmpty();
+        });
+    }
+
+    private static Method method(String name) {
+        return Stream.of(PersonQueries.class.getMethods()).filter(m -> m.getName().equals(name))
+                .findFirst().orElseThrow();
+    }
+
+    record PersonSummary(String name, int age) {
+    }
+
+    record WorkerCity(String name, @Select("job.city") String city, Money salary) {
+    }
+
+    record InvalidSummary(String nickname) {
+    }
+
+    @Projection(from = Person.class)
+    interface PersonName {
+
+        String getName();
+
+        default String upper() {
+            return getName().toUpperCase();
+        }
+    }
+
+    interface PersonQueries {
+
+        List<PersonSummary> findByName();
+
+        Stream<PersonSummary> findByAge();
+
+        Optional<PersonName> findById();
+
+        PersonSummary findFirstByName();
+
+        List<Person> findByPhones();
+
+        BigDecimal countByName();
+    }
+}
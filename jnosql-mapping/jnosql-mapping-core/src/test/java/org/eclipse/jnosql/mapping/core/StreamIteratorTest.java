@@ -0,0 +1,71 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StreamIteratorTest {
+
+    @Test
+    void shouldReturnErrorWhenSupplierIsNull() {
+        assertThatThrownBy(() -> StreamIterator.of(null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void shouldOpenStreamLazily() {
+        AtomicInteger opened = new AtomicInteger();
+        StreamIterator<Integer> iterator = StreamIterator.of(() -> {
+            opened.incrementAndGet();
+            return Stream.of(1);
+        });
+        assertThat(opened).hasValue(0);
+        assertThat(iterator.next()).isEqualTo(1);
+        assertThat(opened).hasValue(1);
+    }
+
+    @Test
+    void shouldCloseAtTheEnd() {
+        AtomicBoolean closed = new AtomicBoolean();
+        StreamIterator<Integer> iterator = StreamIterator.of(() -> Stream.of(1, 2).onClose(() -> closed.set(true)));
+
+        assertThat(iterator.next()).isEqualTo(1);
+        assertThat(iterator.next()).isEqualTo(2);
+        assertThat(closed).isFalse();
+        assertThat(iterator.hasNext()).isFalse();
+        assertThat(closed).isTrue();
+        assertThatThrownBy(iterator::next).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void shouldCloseBeforeTheEnd() {
+        AtomicInteger closed = new AtomicInteger();
+        StreamIterator<Integer> iterator = StreamIterator.of(() -> Stream.of(1, 2).onClose(closed::incrementAndGet));
+
+        assertThat(iterator.next()).isEqualTo(1);
+        iterator.close();
+        iterator.close();
+
+        assertThat(closed).hasValue(1);
+        assertThat(iterator.hasNext()).isFalse();
+    }
+}
@@ -0,0 +1,248 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core.cache;
+
+import org.eclipse.jnosql.mapping.Cacheable;
+import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.awaitility.Awaitility.await;
+
+class DefaultEntityCacheTest {
+
+    private EntityCache cache;
+
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        this.cache = EntityCache.create();
+        this.loads = new AtomicInteger();
+    }
+
+    @Test
+    void shouldReturnErrorWhenParameterIsNull() {
+        EntityMetadata metadata = metadata(Cached.class, "Cached");
+        assertThatNullPointerException().isThrownBy(() -> cache.get(null, 1, load("value")));
+        assertThatNullPointerException().isThrownBy(() -> cache.get(metadata, null, load("value")));
+        assertThatNullPointerException().isThrownBy(() -> cache.get(metadata, 1, null));
+        assertThatNullPointerException().isThrownBy(() -> cache.evict(null, 1));
+        assertThatNullPointerException().isThrownBy(() -> cache.evictAll(null));
+    }
+
+    @Test
+    void shouldCheckCacheable() {
+        assertSoftly(softly -> {
+            softly.assertThat(cache.isCacheable(metadata(Cached.class, "Cached"))).isTrue();
+            softly.assertThat(cache.isCacheable(metadata(CachedChild.class, "Cached"))).isTrue();
+            softly.assertThat(cache.isCacheable(metadata(NotCached.class, "NotCached"))).isFalse();
+            softly.assertThat(cache.isImmutable(metadata(Cached.class, "Cached"))).isFalse();
+            softly.assertThat(cache.isImmutable(metadata(Immutable.class, "Immutable"))).isTrue();
+        });
+    }
+
+    @Test
+    void shouldCacheEntity() {
+        EntityMetadata metadata = metadata(Cached.class, "Cached");
+
+        assertThat(cache.get(metadata, 1, load("value"))).contains("value");
+        assertThat(cache.get(metadata, 1, load("other"))).contains("value");
+
+        assertThat(loads).hasValue(1);
+        EntityCacheStatistics statistics = cache.statistics().get("Cached");
+        assertSoftly(softly -> {
+            softly.assertThat(statistics.hits()).isEqualTo(1L);
+            softly.assertThat(statistics.misses()).isEqualTo(1L);
+            softly.assertThat(statistics.size()).isEqualTo(1L);
+            softly.assertThat(statistics.hitRatio()).isEqualTo(0.5);
+        });
+    }
+
+    @Test
+    void shouldNotCacheWhenEntityIsNotCacheable() {
+        EntityMetadata metadata = metadata(NotCached.class, "NotCached");
+
+        cache.get(metadata, 1, load("value"));
+        cache.get(metadata, 1, load("value"));
+
+        assertThat(loads).hasValue(2);
+        assertThat(cache.statistics()).isEmpty();
+    }
+
+    @Test
+    void shouldNotCacheAbsentEntity() {
+        EntityMetadata metadata = metadata(Cached.class, "Cached");
+
+        assertThat(cache.get(metadata, 1, () -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        })).isEmpty();
+        cache.get(metadata, 1, load("value"));
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void shouldShareRegionByName() {
+        cache.get(metadata(Cached.class, "Cached"), 1, load("value"));
+
+        assertThat(cache.get(metadata(CachedChild.class, "Cached"), 1, load("other"))).contains("value");
+        assertThat(cache.statistics()).containsOnlyKeys("Cached");
+    }
+
+    @Test
+    void shouldEvict() {
+        EntityMetadata metadata = metadata(Cached.class, "Cached");
+        cache.get(metadata, 1, load("value"));
+        cache.get(metadata, 2, load("value"));
+
+        cache.evict("Cached", 1);
+
+        assertThat(cache.get(metadata, 1, load("other"))).contains("other");
+        assertThat(cache.get(metadata, 2, load("other"))).contains("value");
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    void shouldEvictAllFromRegion() {
+        EntityMetadata metadata = metadata(Cached.class, "Cached");
+        EntityMetadata immutable = metadata(Immutable.class, "Immutable");
+        cache.get(metadata, 1, load("value"));
+        cache.get(immutable, 1, load("value"));
+
+        cache.evictAll("Cached");
+
+        assertThat(cache.statistics().get("Cached").size()).isZero();
+        assertThat(cache.statistics().get("Immutable").size()).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldEvictAll() {
+        EntityMetadata metadata = metadata(Cached.class, "Cached");
+        EntityMetadata immutable = metadata(Immutable.class, "Immutable");
+        cache.get(metadata, 1, load("value"));
+        cache.get(immutable, 1, load("value"));
+
+        cache.evictAll();
+
+        assertThat(cache.statistics().values()).allMatch(s -> s.size() == 0L);
+    }
+
+    @Test
+    void shouldNotStoreLoadThatRacedWithEviction() {
+        EntityMetadata metadata = metadata(Cached.class, "Cached");
+
+        cache.get(metadata, 1, () -> {
+            cache.evict("Cached", 1);
+            return Optional.of("stale");
+        });
+
+        assertThat(cache.get(metadata, 1, load("value"))).contains("value");
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsed() {
+        EntityMetadata metadata = metadata(Small.class, "Small");
+
+        for (int index = 0; index < 10; index++) {
+            cache.get(metadata, index, load("value"));
+        }
+
+        EntityCacheStatistics statistics = cache.statistics().get("Small");
+        assertThat(statistics.size()).isLessThanOrEqualTo(2L);
+        assertThat(statistics.evictions()).isEqualTo(10L - statistics.size());
+    }
+
+    @Test
+    void shouldExpireAfterWrite() {
+        EntityMetadata metadata = metadata(Expirable.class, "Expirable");
+        cache.get(metadata, 1, load("value"));
+
+        await().atMost(Duration.ofSeconds(2)).untilAsserted(() -> {
+            cache.get(metadata, 1, load("value"));
+            assertThat(loads.get()).isGreaterThan(1);
+        });
+    }
+
+    @Test
+    void shouldReturnErrorWhenCacheableIsInvalid() {
+        assertThatIllegalArgumentException().isThrownBy(() -> cache.get(metadata(Invalid.class, "Invalid"), 1, load("value")));
+    }
+
+    @Test
+    void shouldNotCacheWithNone() {
+        EntityCache none = EntityCache.none();
+        EntityMetadata metadata = metadata(Cached.class, "Cached");
+
+        none.get(metadata, 1, load("value"));
+        none.get(metadata, 1, load("value"));
+
+        assertThat(loads).hasValue(2);
+        assertThat(none.isCacheable(metadata)).isFalse();
+        assertThat(none.statistics()).isEmpty();
+    }
+
+    private Supplier<Optional<String>> load(String value) {
+        return () -> {
+            loads.incrementAndGet();
+            return Optional.of(value);
+        };
+    }
+
+    private static EntityMetadata metadata(Class<?> type, String name) {
+        EntityMetadata metadata = Mockito.mock(EntityMetadata.class);
+        Mockito.<Class<?>>when(metadata.type()).thenReturn(type);
+        Mockito.when(metadata.name()).thenReturn(name);
+        return metadata;
+    }
+
+    @Cacheable
+    static class Cached {
+    }
+
+    static class CachedChild extends Cached {
+    }
+
+    static class NotCached {
+    }
+
+    @Cacheable(immutable = true)
+    record Immutable(String id) {
+    }
+
+    @Cacheable(maximumSize = 2)
+    static class Small {
+    }
+
+    @Cacheable(expireAfterWrite = 50, unit = TimeUnit.MILLISECONDS)
+    static class Expirable {
+    }
+
+    @Cacheable(maximumSize = 0)
+    static class Invalid {
+    }
+}
@@ -0,0 +1,327 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core.cache;
+
+import org.eclipse.jnosql.mapping.QueryCacheable;
+import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.awaitility.Awaitility.await;
+
+class DefaultQueryCacheTest {
+
+    private QueryCache cache;
+
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        this.cache = QueryCache.create();
+        this.loads = new AtomicInteger();
+    }
+
+    @Test
+    void shouldReturnErrorWhenParameterIsNull() {
+        EntityMetadata metadata = metadata(Cached.class, "Cached");
+        assertThatNullPointerException().isThrownBy(() -> cache.get(null, "query", load("value")));
+        assertThatNullPointerException().isThrownBy(() -> cache.get(metadata, null, load("value")));
+        assertThatNullPointerException().isThrownBy(() -> cache.get(metadata, "query", null));
+        assertThatNullPointerException().isThrownBy(() -> cache.evictAll(null));
+        assertThatNullPointerException().isThrownBy(() -> cache.isCacheable(null));
+        assertThatNullPointerException().isThrownBy(() -> cache.isCacheable(null, 10L));
+    }
+
+    @Test
+    void shouldCheckCacheable() {
+        assertSoftly(softly -> {
+            softly.assertThat(cache.isCacheable(metadata(Cached.class, "Cached"))).isTrue();
+            softly.assertThat(cache.isCacheable(metadata(CachedChild.class, "Cached"))).isTrue();
+            softly.assertThat(cache.isCacheable(metadata(NotCached.class, "NotCached"))).isFalse();
+        });
+    }
+
+    @Test
+    void shouldCheckCacheableByLimit() {
+        assertSoftly(softly -> {
+            softly.assertThat(cache.isCacheable(metadata(Light.class, "Light"), 3L)).isTrue();
+            softly.assertThat(cache.isCacheable(metadata(Light.class, "Light"), 4L)).isFalse();
+            softly.assertThat(cache.isCacheable(metadata(Light.class, "Light"), 0L)).isFalse();
+            softly.assertThat(cache.isCacheable(metadata(CachedChild.class, "Cached"), 10L)).isTrue();
+            softly.assertThat(cache.isCacheable(metadata(NotCached.class, "NotCached"), 10L)).isFalse();
+            softly.assertThat(QueryCache.none().isCacheable(metadata(Cached.class, "Cached"), 10L)).isFalse();
+        });
+    }
+
+    @Test
+    void shouldShareRegionWithSameSettings() {
+        cache.get(metadata(Cached.class, "Cached"), "query", load("value"));
+        cache.get(metadata(CachedChild.class, "Cached"), "query", load("value"));
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void shouldReturnErrorWhenRegionHasOtherSettings() {
+        cache.get(metadata(Cached.class, "Cached"), "query", load("value"));
+
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> cache.get(metadata(Light.class, "Cached"), "query", load("value")))
+                .withMessageContaining(Light.class.getName())
+                .withMessageContaining(Cached.class.getName());
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void shouldCacheQuery() {
+        EntityMetadata metadata = metadata(Cached.class, "Cached");
+
+        assertThat(cache.get(metadata, "query", load("first", "second"))).containsExactly("first", "second");
+        assertThat(cache.get(metadata, "query", load("other"))).containsExactly("first", "second");
+
+        assertThat(loads).hasValue(1);
+        QueryCacheStatistics statistics = cache.statistics().get("Cached");
+        assertSoftly(softly -> {
+            softly.assertThat(statistics.hits()).isEqualTo(1L);
+            softly.assertThat(statistics.misses()).isEqualTo(1L);
+            softly.assertThat(statistics.size()).isEqualTo(1L);
+            softly.assertThat(statistics.rows()).isEqualTo(2L);
+            softly.assertThat(statistics.requests()).isEqualTo(2L);
+            softly.assertThat(statistics.hitRatio()).isEqualTo(0.5);
+        });
+    }
+
+    @Test
+    void shouldCacheEmptyResult() {
+        EntityMetadata metadata = metadata(Cached.class, "Cached");
+
+        assertThat(cache.get(metadata, "query", load())).isEmpty();
+        assertThat(cache.get(metadata, "query", load("value"))).isEmpty();
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void shouldNotShareDifferentQueries() {
+        EntityMetadata metadata = metadata(Cached.class, "Cached");
+
+        cache.get(metadata, "first", load("value"));
+        cache.get(metadata, "second", load("value"));
+
+        assertThat(loads).hasValue(2);
+        assertThat(cache.statistics().get("Cached").size()).isEqualTo(2L);
+    }
+
+    @Test
+    void shouldNotCacheWhenEntityIsNotCacheable() {
+        EntityMetadata metadata = metadata(NotCached.class, "NotCached");
+
+        cache.get(metadata, "query", load("value"));
+        cache.get(metadata, "query", load("value"));
+
+        assertThat(loads).hasValue(2);
+        assertThat(cache.statistics()).isEmpty();
+    }
+
+    @Test
+    void shouldReturnImmutableResult() {
+        List<String> rows = cache.get(metadata(Cached.class, "Cached"), "query", load("value"));
+
+        assertThat(rows).isUnmodifiable();
+    }
+
+    @Test
+    void shouldEvictAllFromRegion() {
+        EntityMetadata metadata = metadata(Cached.class, "Cached");
+        EntityMetadata other = metadata(Other.class, "Other");
+        cache.get(metadata, "query", load("value"));
+        cache.get(other, "query", load("value"));
+
+        cache.evictAll("Cached");
+        cache.get(metadata, "query", load("value"));
+        cache.get(other, "query", load("value"));
+
+        assertThat(loads).hasValue(3);
+        assertThat(cache.statistics().get("Cached").rows()).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldEvictAll() {
+        cache.get(metadata(Cached.class, "Cached"), "query", load("value"));
+        cache.get(metadata(Other.class, "Other"), "query", load("value"));
+
+        cache.evictAll();
+
+        assertThat(cache.statistics().values()).allMatch(s -> s.size() == 0L && s.rows() == 0L);
+    }
+
+    @Test
+    void shouldNotStoreLoadThatRacedWithEviction() {
+        EntityMetadata metadata = metadata(Cached.class, "Cached");
+
+        cache.get(metadata, "query", () -> {
+            cache.evictAll("Cached");
+            return List.of("stale");
+        });
+
+        assertThat(cache.get(metadata, "query", load("value"))).containsExactly("value");
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedBySize() {
+        EntityMetadata metadata = metadata(Small.class, "Small");
+
+        for (int index = 0; index < 10; index++) {
+            cache.get(metadata, index, load("value"));
+        }
+
+        QueryCacheStatistics statistics = cache.statistics().get("Small");
+        assertThat(statistics.size()).isEqualTo(2L);
+        assertThat(statistics.evictions()).isEqualTo(8L);
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedByRows() {
+        EntityMetadata metadata = metadata(Light.class, "Light");
+
+        cache.get(metadata, "first", load("a", "b"));
+        cache.get(metadata, "second", load("c"));
+        cache.get(metadata, "first", load("a", "b"));
+        cache.get(metadata, "third", load("e"));
+
+        QueryCacheStatistics statistics = cache.statistics().get("Light");
+        assertSoftly(softly -> {
+            softly.assertThat(statistics.rows()).isEqualTo(3L);
+            softly.assertThat(statistics.size()).isEqualTo(2L);
+            softly.assertThat(statistics.evictions()).isEqualTo(1L);
+        });
+        cache.get(metadata, "first", load("a", "b"));
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    void shouldNotCacheResultHeavierThanTheRegion() {
+        EntityMetadata metadata = metadata(Light.class, "Light");
+
+        cache.get(metadata, "query", load("a", "b", "c", "d"));
+        cache.get(metadata, "query", load("a", "b", "c", "d"));
+
+        assertThat(loads).hasValue(2);
+        assertThat(cache.statistics().get("Light").size()).isZero();
+    }
+
+    @Test
+    void shouldExpireAfterWrite() {
+        EntityMetadata metadata = metadata(Expirable.class, "Expirable");
+        cache.get(metadata, "query", load("value"));
+
+        await().atMost(Duration.ofSeconds(2)).untilAsserted(() -> {
+            cache.get(metadata, "query", load("value"));
+            assertThat(loads.get()).isGreaterThan(1);
+        });
+    }
+
+    @Test
+    void shouldReturnErrorWhenQueryCacheableIsInvalid() {
+        assertThatIllegalArgumentException().isThrownBy(() -> cache.get(metadata(InvalidSize.class, "InvalidSize"),
+                "query", load("value")));
+        assertThatIllegalArgumentException().isThrownBy(() -> cache.get(metadata(InvalidRows.class, "InvalidRows"),
+                "query", load("value")));
+        assertThatIllegalArgumentException().isThrownBy(() -> cache.get(metadata(InvalidExpiration.class,
+                "InvalidExpiration"), "query", load("value")));
+    }
+
+    @Test
+    void shouldNotCacheWithNone() {
+        QueryCache none = QueryCache.none();
+        EntityMetadata metadata = metadata(Cached.class, "Cached");
+
+        none.get(metadata, "query", load("value"));
+        none.get(metadata, "query", load("value"));
+
+        assertThat(loads).hasValue(2);
+        assertThat(none.isCacheable(metadata)).isFalse();
+        assertThat(none.statistics()).isEmpty();
+    }
+
+    @Test
+    void shouldReturnHitRatioWithoutRequests() {
+        assertThat(new QueryCacheStatistics(0, 0, 0, 0, 0).hitRatio()).isEqualTo(1.0);
+    }
+
+    private Supplier<List<String>> load(String... values) {
+        return () -> {
+            loads.incrementAndGet();
+            return values.length == 0 ? Collections.emptyList() : List.of(values);
+        };
+    }
+
+    private static EntityMetadata metadata(Class<?> type, String name) {
+        EntityMetadata metadata = Mockito.mock(EntityMetadata.class);
+        Mockito.<Class<?>>when(metadata.type()).thenReturn(type);
+        Mockito.when(metadata.name()).thenReturn(name);
+        return metadata;
+    }
+
+    @QueryCacheable
+    static class Cached {
+    }
+
+    static class CachedChild extends Cached {
+    }
+
+    @QueryCacheable
+    static class Other {
+    }
+
+    static class NotCached {
+    }
+
+    @QueryCacheable(maximumSize = 2)
+    static class Small {
+    }
+
+    @QueryCacheable(maximumRows = 3)
+    static class Light {
+    }
+
+    @QueryCacheable(expireAfterWrite = 50, unit = TimeUnit.MILLISECONDS)
+    static class Expirable {
+    }
+
+    @QueryCacheable(maximumSize = 0)
+    static class InvalidSize {
+    }
+
+    @QueryCacheable(maximumRows = 0)
+    static class InvalidRows {
+    }
+
+    @QueryCacheable(expireAfterWrite = -1)
+    static class InvalidExpiration {
+    }
+}
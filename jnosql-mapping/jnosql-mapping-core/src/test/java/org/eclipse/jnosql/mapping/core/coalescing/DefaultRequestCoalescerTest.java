@@ -0,0 +1,260 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core.coalescing;
+
+import jakarta.data.exceptions.DataException;
+import org.eclipse.jnosql.mapping.Coalesce;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class DefaultRequestCoalescerTest {
+
+    private static final int THREADS = 8;
+
+    private final RequestCoalescer coalescer = RequestCoalescer.create();
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldReturnErrorWhenParameterIsNull() {
+        assertThatNullPointerException().isThrownBy(() -> coalescer.execute(null, "id", () -> "value"));
+        assertThatNullPointerException().isThrownBy(() -> coalescer.execute(Product.class, null, () -> "value"));
+        assertThatNullPointerException().isThrownBy(() -> coalescer.execute(Product.class, "id", null));
+        assertThatNullPointerException().isThrownBy(() -> coalescer.isCoalesced(null));
+        assertThatNullPointerException().isThrownBy(() -> coalescer.isImmutable(null));
+    }
+
+    @Test
+    void shouldCheckAnnotation() {
+        assertSoftly(softly -> {
+            softly.assertThat(coalescer.isCoalesced(Product.class)).isTrue();
+            softly.assertThat(coalescer.isCoalesced(Novel.class)).isTrue();
+            softly.assertThat(coalescer.isCoalesced(Animal.class)).isFalse();
+            softly.assertThat(coalescer.isImmutable(Product.class)).isFalse();
+            softly.assertThat(coalescer.isImmutable(Rate.class)).isTrue();
+        });
+    }
+
+    @Test
+    void shouldAlwaysLoadWhenItIsNotCoalesced() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        List<Future<Integer>> results = submit(() -> coalescer.execute(Animal.class, "id", () -> {
+            loads.incrementAndGet();
+            await(release);
+            return 1;
+        }));
+        release.countDown();
+        for (Future<Integer> result : results) {
+            assertThat(result.get(10, TimeUnit.SECONDS)).isEqualTo(1);
+        }
+        assertThat(loads).hasValue(THREADS);
+        assertThat(coalescer.statistics()).isEmpty();
+    }
+
+    @Test
+    void shouldShareTheReadInFlight() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        List<Future<Integer>> results = submit(() -> coalescer.execute(Product.class, "id", () -> {
+            await(release);
+            return loads.incrementAndGet();
+        }));
+        awaitRequests(Product.class, THREADS);
+        release.countDown();
+
+        for (Future<Integer> result : results) {
+            assertThat(result.get(10, TimeUnit.SECONDS)).isEqualTo(1);
+        }
+        assertThat(loads).hasValue(1);
+        CoalescingStatistics statistics = coalescer.statistics().get(Product.class);
+        assertSoftly(softly -> {
+            softly.assertThat(statistics.requests()).isEqualTo(THREADS);
+            softly.assertThat(statistics.coalesced()).isEqualTo(THREADS - 1);
+            softly.assertThat(statistics.timeouts()).isZero();
+            softly.assertThat(statistics.coalescingRate()).isEqualTo((THREADS - 1) / (double) THREADS);
+        });
+    }
+
+    @Test
+    void shouldNotShareDifferentKeys() {
+        assertThat(coalescer.<String>execute(Product.class, "first", () -> "first")).isEqualTo("first");
+        assertThat(coalescer.<String>execute(Product.class, "second", () -> "second")).isEqualTo("second");
+        assertThat(coalescer.<String>execute(Product.class, "first", () -> "again")).isEqualTo("again");
+        assertThat(coalescer.statistics().get(Product.class).coalesced()).isZero();
+    }
+
+    @Test
+    void shouldLoadWhenTheWaitTimesOut() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        Future<Integer> leader = executor.submit(() -> coalescer.execute(Book.class, "id", () -> {
+            await(release);
+            return loads.incrementAndGet();
+        }));
+        awaitRequests(Book.class, 1);
+
+        Integer follower = coalescer.execute(Book.class, "id", loads::incrementAndGet);
+        release.countDown();
+
+        assertThat(follower).isEqualTo(1);
+        assertThat(leader.get(10, TimeUnit.SECONDS)).isEqualTo(2);
+        CoalescingStatistics statistics = coalescer.statistics().get(Book.class);
+        assertThat(statistics.timeouts()).isEqualTo(1L);
+        assertThat(statistics.coalesced()).isZero();
+    }
+
+    @Test
+    void shouldShareTheError() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        IllegalStateException failure = new IllegalStateException("failure");
+        List<Future<Integer>> results = submit(() -> coalescer.execute(Product.class, "id", () -> {
+            await(release);
+            throw failure;
+        }));
+        awaitRequests(Product.class, THREADS);
+        release.countDown();
+
+        Set<Throwable> errors = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Future<Integer> result : results) {
+            ExecutionException exception = catchThrowableOfType(() -> result.get(10, TimeUnit.SECONDS),
+                    ExecutionException.class);
+            errors.add(exception.getCause());
+        }
+        assertThat(errors).hasSize(THREADS).filteredOn(error -> error != failure)
+                .hasSize(THREADS - 1)
+                .allSatisfy(error -> assertThat(error).isInstanceOf(DataException.class).hasCause(failure));
+        assertThat(coalescer.<String>execute(Product.class, "id", () -> "recovered")).isEqualTo("recovered");
+    }
+
+    @Test
+    void shouldThrowWhenInterrupted() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        executor.submit(() -> coalescer.execute(Product.class, "id", () -> {
+            await(release);
+            return 1;
+        }));
+        awaitRequests(Product.class, 1);
+
+        Thread.currentThread().interrupt();
+        try {
+            assertThatThrownBy(() -> coalescer.execute(Product.class, "id", () -> 2))
+                    .isInstanceOf(DataException.class);
+            assertThat(Thread.interrupted()).isTrue();
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void shouldReturnErrorWhenTimeoutIsNegative() {
+        assertThatIllegalArgumentException().isThrownBy(() -> coalescer.execute(Invalid.class, "id", () -> 1));
+    }
+
+    @Test
+    void shouldNotCoalesceWithNone() {
+        RequestCoalescer none = RequestCoalescer.none();
+        assertSoftly(softly -> {
+            softly.assertThat(none.<String>execute(Product.class, "id", () -> "value")).isEqualTo("value");
+            softly.assertThat(none.isCoalesced(Product.class)).isFalse();
+            softly.assertThat(none.isImmutable(Rate.class)).isFalse();
+            softly.assertThat(none.statistics()).isEmpty();
+        });
+    }
+
+    @Test
+    void shouldReturnZeroRateWithoutRequests() {
+        assertThat(new CoalescingStatistics(0, 0, 0).coalescingRate()).isZero();
+    }
+
+    private <T> List<Future<T>> submit(Supplier<T> task) {
+        List<Future<T>> results = new ArrayList<>();
+        for (int index = 0; index < THREADS; index++) {
+            results.add(executor.submit(task::get));
+        }
+        return results;
+    }
+
+    private void awaitRequests(Class<?> type, long requests) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (System.nanoTime() < deadline) {
+            CoalescingStatistics statistics = coalescer.statistics().get(type);
+            if (statistics != null && statistics.requests() >= requests) {
+                return;
+            }
+            TimeUnit.MILLISECONDS.sleep(1);
+        }
+        throw new AssertionError("The requests did not arrive in time");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(10, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("The latch was not released");
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    @Coalesce
+    private static class Product {
+    }
+
+    @Coalesce(timeout = 50)
+    private static class Book {
+    }
+
+    private static class Novel extends Product {
+    }
+
+    @Coalesce(immutable = true)
+    private record Rate(String code) {
+    }
+
+    private static class Animal {
+    }
+
+    @Coalesce(timeout = -1)
+    private static class Invalid {
+    }
+}
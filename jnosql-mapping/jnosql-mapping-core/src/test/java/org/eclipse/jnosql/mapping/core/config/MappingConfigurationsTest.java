@@ -34,6 +34,28 @@ class MappingConfigurationsTest {
         assertEquals(expectedValue, MappingConfigurations.KEY_VALUE_DATABASE.get());
     }
 
+    @Test
+    void shouldReturnValueForPageTotal() {
+        assertEquals("jnosql.page.total", MappingConfigurations.PAGE_TOTAL.get());
+        assertEquals("jnosql.page.total.expire", MappingConfigurations.PAGE_TOTAL_EXPIRE.get());
+    }
+
+    @Test
+    void shouldReturnValueForExecutor() {
+        assertEquals("jnosql.executor", MappingConfigurations.EXECUTOR.get());
+        assertEquals("jnosql.executor.parallel", MappingConfigurations.EXECUTOR_PARALLEL.get());
+    }
+
+    @Test
+    void shouldReturnValueForKeyValueCache() {
+        assertEquals("jnosql.keyvalue.cache.enabled", MappingConfigurations.KEY_VALUE_CACHE_ENABLED.get());
+        assertEquals("jnosql.keyvalue.cache.maximum.size", MappingConfigurations.KEY_VALUE_CACHE_MAXIMUM_SIZE.get());
+        assertEquals("jnosql.keyvalue.cache.expire.after.write",
+                MappingConfigurations.KEY_VALUE_CACHE_EXPIRE_AFTER_WRITE.get());
+        assertEquals("jnosql.keyvalue.cache.negative", MappingConfigurations.KEY_VALUE_CACHE_NEGATIVE.get());
+        assertEquals("jnosql.keyvalue.cache.coalescing", MappingConfigurations.KEY_VALUE_CACHE_COALESCING.get());
+    }
+
     @Test
     void shouldReturnValueForDocumentProvider() {
         String expectedValue = "jnosql.document.provider";
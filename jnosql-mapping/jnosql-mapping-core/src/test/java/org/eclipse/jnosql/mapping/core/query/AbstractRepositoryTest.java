@@ -33,6 +33,7 @@ import org.mockito.Mockito;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 @EnableAutoWeld
 @AddPackages(value = Convert.class)
@@ -110,6 +111,18 @@ class AbstractRepositoryTest {
         Mockito.verify(template).find(Person.class, 10L);
     }
 
+    @Test
+    void shouldFindByIDInAtCallingThread() {
+        Thread caller = Thread.currentThread();
+        List<Thread> threads = new CopyOnWriteArrayList<>();
+        Mockito.when(template.find(Mockito.eq(Person.class), Mockito.any())).thenAnswer(invocation -> {
+            threads.add(Thread.currentThread());
+            return Optional.empty();
+        });
+        this.repository.findByIdIn(List.of(10L, 20L, 30L)).toList();
+        Assertions.assertEquals(List.of(caller, caller, caller), threads);
+    }
+
     @Test
     void shouldExistsById() {
         this.repository.existsById(10L);
@@ -0,0 +1,109 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core.query;
+
+import jakarta.data.exceptions.MappingException;
+import jakarta.data.repository.CrudRepository;
+import org.eclipse.jnosql.mapping.core.entities.Person;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+class GeneratedRepositoryTest {
+
+    @Test
+    void shouldReturnName() {
+        assertThat(GeneratedRepository.name(PeopleRepository.class))
+                .isEqualTo("org.eclipse.jnosql.mapping.core.query.GeneratedRepositoryTest_PeopleRepository_JNoSQL");
+        assertThat(GeneratedRepository.name(List.class)).isEqualTo("java.util.List_JNoSQL");
+    }
+
+    @Test
+    void shouldReturnErrorWhenParameterIsNull() {
+        AbstractRepositoryProxy<?, ?> proxy = Mockito.mock(AbstractRepositoryProxy.class);
+        assertThatNullPointerException().isThrownBy(() -> GeneratedRepository.create(null, proxy));
+        assertThatNullPointerException().isThrownBy(() -> GeneratedRepository.create(PeopleRepository.class, null));
+        assertThatNullPointerException().isThrownBy(() -> GeneratedRepository.name(null));
+    }
+
+    @Test
+    void shouldCreateProxyWhenThereIsNoGeneratedClass() {
+        AbstractRepositoryProxy<?, ?> proxy = Mockito.mock(AbstractRepositoryProxy.class);
+        PeopleRepository repository = GeneratedRepository.create(PeopleRepository.class, proxy);
+        assertThat(Proxy.isProxyClass(repository.getClass())).isTrue();
+    }
+
+    @Test
+    void shouldFindMethod() throws NoSuchMethodException {
+        Method method = GeneratedRepository.method(PeopleRepository.class, "findByName", String.class);
+        assertThat(method).isEqualTo(PeopleRepository.class.getMethod("findByName", String.class));
+    }
+
+    @Test
+    void shouldReturnErrorWhenMethodDoesNotExist() {
+        assertThatThrownBy(() -> GeneratedRepository.method(PeopleRepository.class, "findByAge", String.class))
+                .isInstanceOf(MappingException.class);
+    }
+
+    @Test
+    void shouldInvokeProxy() throws Throwable {
+        AbstractRepositoryProxy<?, ?> proxy = Mockito.mock(AbstractRepositoryProxy.class);
+        Method method = PeopleRepository.class.getMethod("findByName", String.class);
+        Object[] params = {"Ada"};
+        when(proxy.invoke(this, method, RepositoryType.FIND_BY, params)).thenReturn(List.of());
+
+        Object result = GeneratedRepository.invoke(proxy, this, method, RepositoryType.FIND_BY, params);
+
+        assertThat(result).isEqualTo(List.of());
+    }
+
+    @Test
+    void shouldRethrowRuntimeException() throws Throwable {
+        AbstractRepositoryProxy<?, ?> proxy = Mockito.mock(AbstractRepositoryProxy.class);
+        Method method = PeopleRepository.class.getMethod("findByName", String.class);
+        when(proxy.invoke(any(), any(Method.class), any(RepositoryType.class), any())).thenThrow(new IllegalStateException());
+
+        assertThatIllegalStateException().isThrownBy(() ->
+                GeneratedRepository.invoke(proxy, this, method, RepositoryType.FIND_BY, new Object[]{"Ada"}));
+    }
+
+    @Test
+    void shouldWrapCheckedException() throws Throwable {
+        AbstractRepositoryProxy<?, ?> proxy = Mockito.mock(AbstractRepositoryProxy.class);
+        Method method = PeopleRepository.class.getMethod("findByName", String.class);
+        when(proxy.invoke(any(), any(Method.class), any(RepositoryType.class), any())).thenThrow(new IOException());
+
+        assertThatThrownBy(() -> GeneratedRepository.invoke(proxy, this, method, RepositoryType.FIND_BY, new Object[]{"Ada"}))
+                .isInstanceOf(UndeclaredThrowableException.class)
+                .hasCauseInstanceOf(IOException.class);
+    }
+
+    public interface PeopleRepository extends CrudRepository<Person, Long> {
+
+        List<Person> findByName(String name);
+    }
+}
@@ -14,15 +14,19 @@
  */
 package org.eclipse.jnosql.mapping.core.repository;
 
+import jakarta.data.exceptions.MappingException;
 import jakarta.data.repository.By;
 import jakarta.data.repository.PageableRepository;
 import jakarta.data.repository.Param;
 import jakarta.data.repository.Query;
 import org.assertj.core.api.Assertions;
+import org.eclipse.jnosql.communication.QueryHints;
+import org.eclipse.jnosql.mapping.QueryHint;
 import org.eclipse.jnosql.mapping.core.entities.Person;
 import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 
@@ -57,9 +61,43 @@ class RepositoryReflectionUtilsTest {
                 .containsEntry("name", "Ada");
     }
 
+    @Test
+    void shouldHints() throws NoSuchMethodException {
+        Method method = HintRepository.class.getDeclaredMethod("findByName", String.class);
+        QueryHints hints = RepositoryReflectionUtils.INSTANCE.getHints(method);
+        assertEquals(500, hints.fetchSize());
+        assertEquals(Duration.ofSeconds(2), hints.timeout().orElseThrow());
+        assertEquals("nearest", hints.readPreference().orElseThrow());
+    }
+
+    @Test
+    void shouldReturnEmptyHints() throws NoSuchMethodException {
+        Method method = HintRepository.class.getDeclaredMethod("findByAge", int.class);
+        assertTrue(RepositoryReflectionUtils.INSTANCE.getHints(method).isEmpty());
+    }
+
+    @Test
+    void shouldReturnErrorWhenHintIsInvalid() throws NoSuchMethodException {
+        Method method = HintRepository.class.getDeclaredMethod("findByActive", boolean.class);
+        assertThrows(MappingException.class, () -> RepositoryReflectionUtils.INSTANCE.getHints(method));
+    }
+
     interface PersonRepository extends PageableRepository<Person, String> {
 
         @Query("select * from Person where name = @name")
         List<Person> query(@Param("name") @By("name")  String name);
     }
-}
\ No newline at end of file
+
+    interface HintRepository {
+
+        @QueryHint(name = QueryHints.FETCH_SIZE, value = "500")
+        @QueryHint(name = QueryHints.TIMEOUT, value = "PT2S")
+        @QueryHint(name = QueryHints.READ_PREFERENCE, value = "nearest")
+        List<Person> findByName(String name);
+
+        List<Person> findByAge(int age);
+
+        @QueryHint(name = QueryHints.FETCH_SIZE, value = "many")
+        List<Person> findByActive(boolean active);
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core.repository.returns;
+
+import jakarta.data.page.Page;
+import jakarta.data.page.Pageable;
+import org.eclipse.jnosql.mapping.core.repository.DynamicReturn;
+import org.eclipse.jnosql.mapping.core.repository.RepositoryReturn;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@ExtendWith(MockitoExtension.class)
+class CompletionStageRepositoryReturnTest {
+
+    private final RepositoryReturn repositoryReturn = new CompletionStageRepositoryReturn();
+
+    @Mock
+    private Page<Person> page;
+
+    @Test
+    void shouldReturnIsCompatible() {
+        Assertions.assertTrue(repositoryReturn.isCompatible(Person.class, CompletionStage.class));
+        assertFalse(repositoryReturn.isCompatible(Object.class, Person.class));
+        assertFalse(repositoryReturn.isCompatible(Person.class, Object.class));
+    }
+
+    @Test
+    void shouldReturnCompletionStage() throws Exception {
+        Person ada = new Person("Ada");
+        DynamicReturn<Person> dynamic = DynamicReturn.builder()
+                .withSingleResult(() -> Optional.of(ada))
+                .withClassSource(Person.class)
+                .withResult(Collections::emptyList)
+                .withMethodSource(Person.class.getDeclaredMethods()[0])
+                .build();
+        CompletionStage<Person> stage = (CompletionStage<Person>) repositoryReturn.convert(dynamic);
+        assertEquals(ada, get(stage));
+    }
+
+    @Test
+    void shouldRunAtTheExecutorOfTheDatabase() throws Exception {
+        Person ada = new Person("Ada");
+        List<Runnable> tasks = new ArrayList<>();
+        Executor database = command -> {
+            tasks.add(command);
+            command.run();
+        };
+        DynamicReturn<Person> dynamic = DynamicReturn.builder()
+                .withSingleResult(() -> Optional.of(ada))
+                .withClassSource(Person.class)
+                .withResult(Collections::emptyList)
+                .withMethodSource(Person.class.getDeclaredMethods()[0])
+                .withExecutor(database)
+                .build();
+        CompletionStage<Person> stage = (CompletionStage<Person>) repositoryReturn.convert(dynamic);
+        assertEquals(ada, get(stage));
+        assertEquals(1, tasks.size());
+    }
+
+    @Test
+    void shouldReturnNullWhenThereIsNoResult() throws Exception {
+        DynamicReturn<Person> dynamic = DynamicReturn.builder()
+                .withSingleResult(Optional::empty)
+                .withClassSource(Person.class)
+                .withResult(Collections::emptyList)
+                .withMethodSource(Person.class.getDeclaredMethods()[0])
+                .build();
+        CompletionStage<Person> stage = (CompletionStage<Person>) repositoryReturn.convert(dynamic);
+        assertNull(get(stage));
+    }
+
+    @Test
+    void shouldReturnCompletionStagePage() throws Exception {
+        Person ada = new Person("Ada");
+        DynamicReturn<Person> dynamic = DynamicReturn.builder()
+                .withClassSource(Person.class)
+                .withSingleResult(Optional::empty)
+                .withResult(Collections::emptyList)
+                .withSingleResultPagination(p -> Optional.of(ada))
+                .withStreamPagination(p -> Stream.of(ada))
+                .withMethodSource(Person.class.getDeclaredMethods()[0])
+                .withPagination(Pageable.ofPage(2).size(2))
+                .withPage(p -> page)
+                .build();
+        CompletionStage<Person> stage = (CompletionStage<Person>) repositoryReturn.convertPageable(dynamic);
+        assertEquals(ada, get(stage));
+    }
+
+    private static <T> T get(CompletionStage<T> stage) throws ExecutionException, InterruptedException, TimeoutException {
+        return stage.toCompletableFuture().get(5, TimeUnit.SECONDS);
+    }
+
+    private static class Person {
+
+        private String name;
+
+        public Person(String name) {
+            this.name = name;
+        }
+
+        public Person() {
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Person person = (Person) o;
+            return Objects.equals(name, person.name);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(name);
+        }
+
+        @Override
+        public String toString() {
+            return "Person{" +
+                    "name='" + name + '\'' +
+                    '}';
+        }
+    }
+
+}
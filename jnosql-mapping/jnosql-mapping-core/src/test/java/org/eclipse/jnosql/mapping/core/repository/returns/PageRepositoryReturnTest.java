@@ -14,6 +14,8 @@
  */
 package org.eclipse.jnosql.mapping.core.repository.returns;
 
+import jakarta.data.page.KeysetAwarePage;
+import jakarta.data.page.KeysetAwareSlice;
 import jakarta.data.page.Page;
 import jakarta.data.page.Pageable;
 import jakarta.data.page.Slice;
@@ -48,6 +50,8 @@ class PageRepositoryReturnTest {
     void shouldReturnIsCompatible() {
         Assertions.assertTrue(repositoryReturn.isCompatible(Person.class, Page.class));
         Assertions.assertTrue(repositoryReturn.isCompatible(Person.class, Slice.class));
+        Assertions.assertTrue(repositoryReturn.isCompatible(Person.class, KeysetAwarePage.class));
+        Assertions.assertTrue(repositoryReturn.isCompatible(Person.class, KeysetAwareSlice.class));
         assertFalse(repositoryReturn.isCompatible(Object.class, Person.class));
         assertFalse(repositoryReturn.isCompatible(Person.class, Object.class));
     }
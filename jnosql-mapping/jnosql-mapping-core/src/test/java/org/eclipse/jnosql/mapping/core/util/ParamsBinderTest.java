@@ -34,6 +34,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -157,6 +158,52 @@ class ParamsBinderTest {
         Assertions.assertEquals(Arrays.asList(1, 2), param);
     }
 
+    @Test
+    void shouldBindParametersByPosition() {
+        Method method = PersonRepository.class.getDeclaredMethods()[0];
+        Object[] args = new Object[11];
+        Params params = Params.newParams();
+        List<Value> values = new ArrayList<>();
+        for (int index = 0; index < args.length; index++) {
+            values.add(params.add("name_" + (index + 1)));
+            args[index] = "name-" + index;
+        }
+        binder.bind(params, args, method);
+
+        for (int index = 0; index < args.length; index++) {
+            Assertions.assertEquals(args[index], values.get(index).get());
+        }
+    }
+
+    @Test
+    void shouldReuseCompiledParametersOnNextCall() {
+        Method method = PersonRepository.class.getDeclaredMethods()[2];
+        for (long age = 1; age <= 3; age++) {
+            Params params = Params.newParams();
+            Value name = params.add("name_1");
+            Value value = params.add("age_2");
+            binder.bind(params, new Object[]{"otavio", age}, method);
+
+            Assertions.assertEquals("otavio", name.get());
+            Assertions.assertEquals((int) age, value.get());
+        }
+    }
+
+    @Test
+    void shouldCompileAgainWhenParamsChange() {
+        Method method = PersonRepository.class.getDeclaredMethods()[1];
+        Params params = Params.newParams();
+        Value name = params.add("name");
+        binder.bind(params, new Object[]{"otavio"}, method);
+        Assertions.assertEquals("otavio", name.get());
+
+        Params other = Params.newParams();
+        Value name2 = other.add("name");
+        Value age = other.add("age");
+        binder.bind(other, new Object[]{"otavio", 2L}, method);
+        Assertions.assertEquals("otavio", name2.get());
+        Assertions.assertEquals(2, age.get());
+    }
 
     interface PersonRepository extends CrudRepository<Person, Long> {
 
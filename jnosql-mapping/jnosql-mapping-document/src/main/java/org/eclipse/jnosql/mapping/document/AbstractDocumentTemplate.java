@@ -18,14 +18,25 @@ package org.eclipse.jnosql.mapping.document;
 import jakarta.data.exceptions.NonUniqueResultException;
 import jakarta.nosql.PreparedStatement;
 import jakarta.nosql.QueryMapper;
+import org.eclipse.jnosql.communication.QueryHints;
+import org.eclipse.jnosql.communication.StreamPublisher;
+import org.eclipse.jnosql.communication.document.Document;
+import org.eclipse.jnosql.communication.document.DocumentAggregateQuery;
 import org.eclipse.jnosql.communication.document.DocumentDeleteQuery;
 import org.eclipse.jnosql.communication.document.DocumentEntity;
 import org.eclipse.jnosql.communication.document.DocumentManager;
 import org.eclipse.jnosql.communication.document.DocumentObserverParser;
 import org.eclipse.jnosql.communication.document.DocumentQuery;
 import org.eclipse.jnosql.communication.document.DocumentQueryParser;
+import org.eclipse.jnosql.communication.document.DocumentQueryFingerprint;
 import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.core.EntityUpsert;
+import org.eclipse.jnosql.mapping.core.ProjectionMetadata;
 import org.eclipse.jnosql.mapping.IdNotFoundException;
+import org.eclipse.jnosql.mapping.core.cache.EntityCache;
+import org.eclipse.jnosql.mapping.core.cache.QueryCache;
+import org.eclipse.jnosql.mapping.core.coalescing.RequestCoalescer;
+import org.eclipse.jnosql.mapping.metadata.ClassInformationNotFoundException;
 import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
 import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
 import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
@@ -33,9 +44,12 @@ import org.eclipse.jnosql.mapping.core.util.ConverterUtil;
 import org.eclipse.jnosql.mapping.metadata.InheritanceMetadata;
 
 import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 import java.util.Iterator;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.Flow;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
@@ -63,18 +77,52 @@ public abstract class AbstractDocumentTemplate implements JNoSQLDocumentTemplate
 
     protected abstract Converters getConverters();
 
+    /**
+     * The cache used at {@link #find(Class, Object)} of the entities annotated with
+     * {@link org.eclipse.jnosql.mapping.Cacheable}, by default there is no cache.
+     *
+     * @return the {@link EntityCache} instance
+     */
+    protected EntityCache getEntityCache() {
+        return EntityCache.none();
+    }
+
+    /**
+     * The coalescer of the identical concurrent reads at {@link #find(Class, Object)} and {@link #select(DocumentQuery)}
+     * of the entities annotated with {@link org.eclipse.jnosql.mapping.Coalesce}, by default there is no coalescing.
+     *
+     * @return the {@link RequestCoalescer} instance
+     */
+    protected RequestCoalescer getCoalescer() {
+        return RequestCoalescer.none();
+    }
+
+    /**
+     * The cache used at {@link #select(DocumentQuery)} of the entities annotated with
+     * {@link org.eclipse.jnosql.mapping.QueryCacheable}, by default there is no cache.
+     *
+     * @return the {@link QueryCache} instance
+     */
+    protected QueryCache getQueryCache() {
+        return QueryCache.none();
+    }
+
     private final UnaryOperator<DocumentEntity> insert = e -> getManager().insert(e);
 
     private final UnaryOperator<DocumentEntity> update = e -> getManager().update(e);
 
-    private DocumentObserverParser columnQueryParser;
+    private final EntityUpsert<DocumentEntity> upsert = new DocumentUpsert();
+
+    private volatile DocumentObserverParser columnQueryParser;
 
 
     private DocumentObserverParser getObserver() {
-        if (Objects.isNull(columnQueryParser)) {
-            columnQueryParser = new DocumentMapperObserver(getEntities());
+        DocumentObserverParser value = this.columnQueryParser;
+        if (Objects.isNull(value)) {
+            value = new DocumentMapperObserver(getEntities());
+            this.columnQueryParser = value;
         }
-        return columnQueryParser;
+        return value;
     }
 
     @Override
@@ -93,17 +141,21 @@ public abstract class AbstractDocumentTemplate implements JNoSQLDocumentTemplate
     @Override
     public <T> Iterable<T> insert(Iterable<T> entities) {
         requireNonNull(entities, "entity is required");
-        return StreamSupport.stream(entities.spliterator(), false)
+        List<T> values = StreamSupport.stream(entities.spliterator(), false)
                 .map(this::insert).collect(Collectors.toList());
+        getEventManager().firePostEntities(values);
+        return values;
     }
 
     @Override
     public <T> Iterable<T> insert(Iterable<T> entities, Duration ttl) {
         requireNonNull(entities, "entities is required");
         requireNonNull(ttl, "ttl is required");
-        return StreamSupport.stream(entities.spliterator(), false)
+        List<T> values = StreamSupport.stream(entities.spliterator(), false)
                 .map(e -> insert(e, ttl))
                 .collect(Collectors.toList());
+        getEventManager().firePostEntities(values);
+        return values;
     }
 
     @Override
@@ -115,14 +167,18 @@ public abstract class AbstractDocumentTemplate implements JNoSQLDocumentTemplate
     @Override
     public <T> Iterable<T> update(Iterable<T> entities) {
         requireNonNull(entities, "entity is required");
-        return StreamSupport.stream(entities.spliterator(), false)
+        List<T> values = StreamSupport.stream(entities.spliterator(), false)
                 .map(this::update).collect(Collectors.toList());
+        getEventManager().firePostEntities(values);
+        return values;
     }
 
     @Override
     public void delete(DocumentDeleteQuery query) {
         requireNonNull(query, "query is required");
         getManager().delete(query);
+        getEntityCache().evictAll(query.name());
+        getQueryCache().evictAll(query.name());
     }
 
     @Override
@@ -144,18 +200,30 @@ public abstract class AbstractDocumentTemplate implements JNoSQLDocumentTemplate
     @Override
     public <T> Optional<T> singleResult(DocumentQuery query) {
         Objects.requireNonNull(query, "query is required");
-        final Stream<T> entities = select(query);
-        final Iterator<T> iterator = entities.iterator();
-        if (!iterator.hasNext()) {
-            return Optional.empty();
-        }
-        final T entity = iterator.next();
-        if (!iterator.hasNext()) {
-            return Optional.of(entity);
+        return singleResult(select(query), query);
+    }
+
+    @Override
+    public <P> Stream<P> select(DocumentQuery query, Class<P> projection) {
+        requireNonNull(query, "query is required");
+        requireNonNull(projection, "projection is required");
+        EntityMetadata entityMetadata = ProjectionMetadata.from(projection).map(getEntities()::get)
+                .orElseGet(() -> getEntities().findByName(query.name()));
+        ProjectionMetadata metadata = ProjectionMetadata.of(projection, entityMetadata);
+        DocumentQuery projectionQuery = query;
+        if (query.documents().isEmpty()) {
+            projectionQuery = new MappingDocumentQuery(query.sorts(), query.limit(), query.skip(),
+                    query.condition().orElse(null), query.name(), metadata.columns(), query.hints());
         }
-        throw new NonUniqueResultException("No unique result found to the query: " + query);
+        return getManager().select(projectionQuery).map(e -> getConverter().toProjection(metadata, e));
+    }
+
+    @Override
+    public <P> Optional<P> singleResult(DocumentQuery query, Class<P> projection) {
+        return singleResult(select(query, projection), query);
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public <T, K> Optional<T> find(Class<T> type, K id) {
         requireNonNull(type, "type is required");
@@ -168,7 +236,17 @@ public abstract class AbstractDocumentTemplate implements JNoSQLDocumentTemplate
         DocumentQuery query = DocumentQuery.select().from(entityMetadata.name())
                 .where(idField.name()).eq(value).build();
 
-        return singleResult(query);
+        EntityCache cache = getEntityCache();
+        RequestCoalescer coalescer = getCoalescer();
+        boolean cacheable = cache.isCacheable(entityMetadata);
+        if (!cacheable && !coalescer.isCoalesced(type)) {
+            return singleResult(query);
+        }
+        boolean immutable = cacheable ? cache.isImmutable(entityMetadata) : coalescer.isImmutable(type);
+        Optional<Object> cached = cache.get(entityMetadata, value,
+                () -> coalescer.execute(type, value, () -> load(query, immutable)));
+        return cached.map(c -> immutable ? (T) c : getConverter().<T>toEntity((DocumentEntity) c))
+                .map(toUnary(getEventManager()::firePostEntity));
     }
 
     @Override
@@ -184,13 +262,17 @@ public abstract class AbstractDocumentTemplate implements JNoSQLDocumentTemplate
         DocumentDeleteQuery query = DocumentDeleteQuery.delete().from(entityMetadata.name())
                 .where(idField.name()).eq(value).build();
 
-        delete(query);
+        getManager().delete(query);
+        getEntityCache().evict(entityMetadata.name(), value);
+        getQueryCache().evictAll(entityMetadata.name());
     }
 
     @Override
     public <T> Stream<T> query(String query) {
         requireNonNull(query, "query is required");
-        return PARSER.query(query, getManager(), getObserver()).map(c -> getConverter().toEntity(c));
+        Stream<DocumentEntity> entities = PARSER.query(query, getManager(), getObserver());
+        evictWhenWrite(query).run();
+        return entities.map(c -> getConverter().toEntity(c));
     }
 
     @Override
@@ -208,9 +290,28 @@ public abstract class AbstractDocumentTemplate implements JNoSQLDocumentTemplate
         throw new NonUniqueResultException("No unique result found to the query: " + query);
     }
 
+    @Override
+    public <T> Flow.Publisher<T> publisher(DocumentQuery query) {
+        requireNonNull(query, "query is required");
+        return StreamPublisher.of(() -> select(query));
+    }
+
+    @Override
+    public Stream<Map<String, Object>> aggregate(String query) {
+        requireNonNull(query, "query is required");
+        return PARSER.aggregate(query, getManager(), getObserver()).map(DocumentEntity::toMap);
+    }
+
+    @Override
+    public Stream<Map<String, Object>> aggregate(DocumentAggregateQuery query) {
+        requireNonNull(query, "query is required");
+        return getManager().aggregate(query).map(DocumentEntity::toMap);
+    }
+
     @Override
     public PreparedStatement prepare(String query) {
-        return new DocumentPreparedStatement(PARSER.prepare(query, getManager(), getObserver()), getConverter());
+        return new DocumentPreparedStatement(PARSER.prepare(query, getManager(), getObserver()), getConverter(),
+                evictWhenWrite(query));
     }
 
 
@@ -224,18 +325,79 @@ public abstract class AbstractDocumentTemplate implements JNoSQLDocumentTemplate
         return getManager().count(findAllQuery(type));
     }
 
+    private static <T> Optional<T> singleResult(Stream<T> entities, DocumentQuery query) {
+        final Iterator<T> iterator = entities.iterator();
+        if (!iterator.hasNext()) {
+            return Optional.empty();
+        }
+        final T entity = iterator.next();
+        if (!iterator.hasNext()) {
+            return Optional.of(entity);
+        }
+        throw new NonUniqueResultException("No unique result found to the query: " + query);
+    }
+
     private <T> Stream<T> executeQuery(DocumentQuery query) {
         requireNonNull(query, "query is required");
+        Optional<EntityMetadata> metadata = entityMetadata(query.name());
+        if (metadata.isPresent() && getQueryCache().isCacheable(metadata.get(), query.limit())) {
+            return executeCachedQuery(query, metadata.get());
+        }
+        Optional<Class<?>> coalesced = metadata.map(EntityMetadata::type).filter(getCoalescer()::isCoalesced);
+        if (coalesced.isPresent() && query.limit() > 0) {
+            return executeCoalescedQuery(query, coalesced.get());
+        }
         Stream<DocumentEntity> entities = getManager().select(query);
         Function<DocumentEntity, T> function = e -> getConverter().toEntity(e);
         return entities.map(function).peek(getEventManager()::firePostEntity);
     }
 
+    @SuppressWarnings("unchecked")
+    private <T> Stream<T> executeCoalescedQuery(DocumentQuery query, Class<?> type) {
+        boolean immutable = getCoalescer().isImmutable(type);
+        List<Object> entities = getCoalescer().execute(type, DocumentQueryFingerprint.key(query), () -> getManager().select(query)
+                .<Object>map(e -> immutable ? getConverter().toEntity(e) : e)
+                .toList());
+        Function<Object, T> function = e -> immutable ? (T) e : getConverter().toEntity((DocumentEntity) e);
+        return entities.stream().map(function).peek(getEventManager()::firePostEntity);
+    }
+
+    private <T> Stream<T> executeCachedQuery(DocumentQuery query, EntityMetadata metadata) {
+        Object key = DocumentQueryFingerprint.key(query);
+        List<DocumentEntity> entities = getQueryCache().get(metadata, key,
+                () -> getCoalescer().execute(metadata.type(), key, () -> getManager().select(query)
+                        .map(DocumentEntity::copy)
+                        .toList()));
+        Function<DocumentEntity, T> function = e -> getConverter().toEntity(e);
+        return entities.stream().map(function).peek(getEventManager()::firePostEntity);
+    }
+
+    private Optional<EntityMetadata> entityMetadata(String name) {
+        if (getCoalescer() == RequestCoalescer.none() && getQueryCache() == QueryCache.none()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(getEntities().findByName(name));
+        } catch (ClassInformationNotFoundException exception) {
+            return Optional.empty();
+        }
+    }
+
     @Override
     public <T> QueryMapper.MapperFrom select(Class<T> type) {
+        return select(type, QueryHints.empty());
+    }
+
+    @Override
+    public <T> QueryMapper.MapperFrom select(Class<T> type, QueryHints hints) {
         Objects.requireNonNull(type, "type is required");
+        Objects.requireNonNull(hints, "hints is required");
+        Optional<Class<?>> projection = ProjectionMetadata.from(type);
+        if (projection.isPresent()) {
+            return new DocumentMapperSelect(getEntities().get(projection.get()), getConverters(), this, type, hints);
+        }
         EntityMetadata metadata = getEntities().get(type);
-        return new DocumentMapperSelect(metadata, getConverters(), this);
+        return new DocumentMapperSelect(metadata, getConverters(), this, null, hints);
     }
 
     @Override
@@ -261,10 +423,47 @@ public abstract class AbstractDocumentTemplate implements JNoSQLDocumentTemplate
                 getManager().delete(DocumentDeleteQuery.delete().from(metadata.name())
                         .where(inheritanceMetadata.discriminatorColumn())
                         .eq(inheritanceMetadata.discriminatorValue()).build());
+                getEntityCache().evictAll(metadata.name());
+                getQueryCache().evictAll(metadata.name());
                 return;
             }
         }
         getManager().delete(DocumentDeleteQuery.delete().from(metadata.name()).build());
+        getEntityCache().evictAll(metadata.name());
+        getQueryCache().evictAll(metadata.name());
+    }
+
+    @Override
+    public <T> T upsert(T entity) {
+        requireNonNull(entity, "entity is required");
+        return upsert.save(List.of(entity)).get(0);
+    }
+
+    @Override
+    public <T> Iterable<T> upsert(Iterable<T> entities) {
+        requireNonNull(entities, "entities is required");
+        List<T> values = StreamSupport.stream(entities.spliterator(), false).collect(Collectors.toList());
+        if (values.isEmpty()) {
+            return values;
+        }
+        List<T> result = upsert.save(values);
+        getEventManager().firePostEntities(result);
+        return result;
+    }
+
+    @Override
+    public EntityCache cache() {
+        return getEntityCache();
+    }
+
+    @Override
+    public RequestCoalescer coalescer() {
+        return getCoalescer();
+    }
+
+    @Override
+    public QueryCache queryCache() {
+        return getQueryCache();
     }
 
     protected <T> T persist(T entity, UnaryOperator<DocumentEntity> persistAction) {
@@ -273,11 +472,45 @@ public abstract class AbstractDocumentTemplate implements JNoSQLDocumentTemplate
                 .map(getConverter()::toDocument)
                 .map(persistAction)
                 .map(t -> getConverter().toEntity(entity, t))
+                .map(toUnary(this::evict))
                 .map(toUnary(getEventManager()::firePostEntity))
                 .findFirst()
                 .orElseThrow();
     }
 
+    private <T> void evict(T entity) {
+        EntityMetadata metadata = getEntities().get(entity.getClass());
+        getQueryCache().evictAll(metadata.name());
+        metadata.id().ifPresent(id -> {
+            Object value = id.read(entity);
+            if (value != null) {
+                getEntityCache().evict(metadata.name(), ConverterUtil.getValue(value, getConverters(), id));
+            }
+        });
+    }
+
+    private Optional<Object> load(DocumentQuery query, boolean immutable) {
+        Iterator<DocumentEntity> entities = getManager().select(query).iterator();
+        if (!entities.hasNext()) {
+            return Optional.empty();
+        }
+        DocumentEntity entity = entities.next();
+        if (entities.hasNext()) {
+            throw new NonUniqueResultException("No unique result found to the query: " + query);
+        }
+        return Optional.of(immutable ? getConverter().toEntity(entity) : entity.copy());
+    }
+
+    private Runnable evictWhenWrite(String query) {
+        if (query.stripLeading().regionMatches(true, 0, "select", 0, 6)) {
+            return () -> { };
+        }
+        return () -> {
+            getEntityCache().evictAll();
+            getQueryCache().evictAll();
+        };
+    }
+
     private <T> UnaryOperator<T> toUnary(Consumer<T> consumer) {
         return t -> {
             consumer.accept(t);
@@ -297,4 +530,57 @@ public abstract class AbstractDocumentTemplate implements JNoSQLDocumentTemplate
         }
         return DocumentQuery.select().from(metadata.name()).build();
     }
+
+    private final class DocumentUpsert extends EntityUpsert<DocumentEntity> {
+
+        @Override
+        protected boolean isUpsertSupported() {
+            return getManager().isUpsertSupported();
+        }
+
+        @Override
+        protected Iterable<DocumentEntity> upsert(List<DocumentEntity> entities) {
+            return getManager().upsert(entities);
+        }
+
+        @Override
+        protected <T> T insert(T entity) {
+            return persist(entity, insert);
+        }
+
+        @Override
+        protected <T> T update(T entity) {
+            return persist(entity, update);
+        }
+
+        @Override
+        protected <T> DocumentEntity toDatabase(T entity) {
+            getEventManager().firePreEntity(entity);
+            return getConverter().toDocument(entity);
+        }
+
+        @Override
+        protected <T> T saved(T entity, DocumentEntity saved) {
+            T value = getConverter().toEntity(entity, saved);
+            evict(value);
+            getEventManager().firePostEntity(value);
+            return value;
+        }
+
+        @Override
+        protected Stream<Object> find(EntityMetadata entity, FieldMetadata id, List<Object> ids) {
+            DocumentQuery query = DocumentQuery.select(id.name()).from(entity.name()).where(id.name()).in(ids).build();
+            return getManager().select(query).map(e -> e.find(id.name())).flatMap(Optional::stream).map(Document::get);
+        }
+
+        @Override
+        protected EntitiesMetadata entities() {
+            return getEntities();
+        }
+
+        @Override
+        protected Converters converters() {
+            return getConverters();
+        }
+    }
 }
@@ -20,6 +20,9 @@ import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
 import org.eclipse.jnosql.communication.document.DocumentManager;
 import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.core.cache.EntityCache;
+import org.eclipse.jnosql.mapping.core.cache.QueryCache;
+import org.eclipse.jnosql.mapping.core.coalescing.RequestCoalescer;
 import org.eclipse.jnosql.mapping.Database;
 import org.eclipse.jnosql.mapping.DatabaseType;
 import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
@@ -42,6 +45,12 @@ class DefaultDocumentTemplate extends AbstractDocumentTemplate {
 
     private Converters converters;
 
+    private final EntityCache cache = EntityCache.create();
+
+    private final RequestCoalescer coalescer = RequestCoalescer.create();
+
+    private final QueryCache queryCache = QueryCache.create();
+
     @Inject
     DefaultDocumentTemplate(DocumentEntityConverter converter, Instance<DocumentManager> manager,
                             DocumentEventPersistManager eventManager, EntitiesMetadata entities,
@@ -81,5 +90,20 @@ class DefaultDocumentTemplate extends AbstractDocumentTemplate {
         return converters;
     }
 
+    @Override
+    protected EntityCache getEntityCache() {
+        return cache;
+    }
+
+    @Override
+    protected RequestCoalescer getCoalescer() {
+        return coalescer;
+    }
+
+    @Override
+    protected QueryCache getQueryCache() {
+        return queryCache;
+    }
+
 
 }
@@ -15,18 +15,26 @@
 package org.eclipse.jnosql.mapping.document;
 
 import jakarta.data.exceptions.MappingException;
+import org.eclipse.jnosql.communication.TypeReference;
+import org.eclipse.jnosql.communication.Value;
 import org.eclipse.jnosql.communication.document.Document;
 import org.eclipse.jnosql.communication.document.DocumentEntity;
+import org.eclipse.jnosql.mapping.AttributeConverter;
 import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.core.EntityConversionEvent;
+import org.eclipse.jnosql.mapping.core.ProjectionMetadata;
 import org.eclipse.jnosql.mapping.metadata.ConstructorBuilder;
 import org.eclipse.jnosql.mapping.metadata.ConstructorMetadata;
 import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
 import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
 import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
+import org.eclipse.jnosql.mapping.metadata.GenericFieldMetadata;
 import org.eclipse.jnosql.mapping.metadata.InheritanceMetadata;
 import org.eclipse.jnosql.mapping.metadata.MappingType;
 import org.eclipse.jnosql.mapping.metadata.ParameterMetaData;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -56,6 +64,7 @@ public abstract class DocumentEntityConverter {
      */
     public DocumentEntity toDocument(Object entity) {
         requireNonNull(entity, "entity is required");
+        EntityConversionEvent event = EntityConversionEvent.start();
         EntityMetadata mapping = getEntities().get(entity.getClass());
         DocumentEntity communication = DocumentEntity.of(mapping.name());
         mapping.fields().stream()
@@ -65,6 +74,7 @@ public abstract class DocumentEntityConverter {
                 .forEach(communication::add);
 
         mapping.inheritance().ifPresent(i -> communication.add(i.discriminatorColumn(), i.discriminatorValue()));
+        event.end(communication.name(), EntityConversionEvent.TO_DATABASE);
         return communication;
 
     }
@@ -81,7 +91,10 @@ public abstract class DocumentEntityConverter {
     public <T> T toEntity(Class<T> type, DocumentEntity entity) {
         requireNonNull(entity, "entity is required");
         requireNonNull(type, "type is required");
-        return toEntity(type, entity.documents());
+        EntityConversionEvent event = EntityConversionEvent.start();
+        T result = toEntity(type, entity.documents());
+        event.end(entity.name(), EntityConversionEvent.TO_ENTITY);
+        return result;
 
     }
 
@@ -99,11 +112,16 @@ public abstract class DocumentEntityConverter {
         requireNonNull(entity, "entity is required");
         requireNonNull(type, "type is required");
 
+        EntityConversionEvent event = EntityConversionEvent.start();
+        T result;
         if (type.getClass().isRecord()) {
-            return (T) toEntity(type.getClass(), entity.documents());
+            result = (T) toEntity(type.getClass(), entity.documents());
+        } else {
+            EntityMetadata mapping = getEntities().get(type.getClass());
+            result = convertEntity(entity.documents(), mapping, type);
         }
-        EntityMetadata mapping = getEntities().get(type.getClass());
-        return convertEntity(entity.documents(), mapping, type);
+        event.end(entity.name(), EntityConversionEvent.TO_ENTITY);
+        return result;
     }
 
     /**
@@ -117,17 +135,40 @@ public abstract class DocumentEntityConverter {
      */
     public <T> T toEntity(DocumentEntity entity) {
         requireNonNull(entity, "entity is required");
+        EntityConversionEvent event = EntityConversionEvent.start();
         EntityMetadata mapping = getEntities().findByName(entity.name());
+        T result;
         if (mapping.isInheritance()) {
-            return mapInheritanceEntity(entity, mapping.type());
-        }
-        ConstructorMetadata constructor = mapping.constructor();
-        if (constructor.isDefault()) {
+            result = mapInheritanceEntity(entity, mapping.type());
+        } else if (mapping.constructor().isDefault()) {
             T instance = mapping.newInstance();
-            return convertEntity(entity.documents(), mapping, instance);
+            result = convertEntity(entity.documents(), mapping, instance);
         } else {
-            return convertEntityByConstructor(entity.documents(), mapping);
+            result = convertEntityByConstructor(entity.documents(), mapping);
         }
+        event.end(entity.name(), EntityConversionEvent.TO_ENTITY);
+        return result;
+    }
+
+    /**
+     * Converts a {@link DocumentEntity} to a projection, it reads only the documents of the projection attributes
+     * and creates the projection without creating the entity.
+     *
+     * @param projection the projection metadata
+     * @param entity     the {@link DocumentEntity} to be converted
+     * @param <T>        the projection type
+     * @return the projection instance from {@link DocumentEntity}
+     * @throws NullPointerException when either projection or entity are null
+     */
+    public <T> T toProjection(ProjectionMetadata projection, DocumentEntity entity) {
+        requireNonNull(projection, "projection is required");
+        requireNonNull(entity, "entity is required");
+        List<ProjectionMetadata.Attribute> attributes = projection.attributes();
+        Object[] values = new Object[attributes.size()];
+        for (int index = 0; index < values.length; index++) {
+            values[index] = projectionValue(projection.entity(), attributes.get(index).path(), entity.documents());
+        }
+        return projection.newInstance(values);
     }
 
     protected <T> T toEntity(Class<T> type, List<Document> documents) {
@@ -160,6 +201,60 @@ public abstract class DocumentEntityConverter {
         };
     }
 
+    @SuppressWarnings("unchecked")
+    private Object projectionValue(EntityMetadata mapping, String path, List<Document> documents) {
+        int dot = path.indexOf('.');
+        String javaField = dot < 0 ? path : path.substring(0, dot);
+        FieldMetadata field = mapping.fieldMapping(javaField).orElseThrow(() -> new MappingException("There is no field "
+                + javaField + " at the entity " + mapping.type().getName()));
+        Optional<Document> document = documents.stream().filter(d -> d.name().equals(field.name())).findFirst();
+        if (dot > 0) {
+            EntityMetadata subMapping = getEntities().get(field.type());
+            String subPath = path.substring(dot + 1);
+            if (EMBEDDED.equals(field.mappingType())) {
+                return projectionValue(subMapping, subPath, documents);
+            }
+            return document.map(d -> projectionValue(subMapping, subPath, subDocuments(d))).orElse(null);
+        }
+        if (EMBEDDED.equals(field.mappingType())) {
+            return toEntity(field.type(), documents);
+        } else if (ENTITY.equals(field.mappingType())) {
+            return document.map(d -> toEntity(field.type(), subDocuments(d))).orElse(null);
+        } else if (MappingType.COLLECTION.equals(field.mappingType()) && ((GenericFieldMetadata) field).isEmbeddable()) {
+            return document.map(d -> {
+                GenericFieldMetadata genericField = (GenericFieldMetadata) field;
+                Collection<Object> collection = (Collection<Object>) genericField.collectionInstance();
+                for (List<Document> subDocuments : (List<List<Document>>) d.get()) {
+                    collection.add(toEntity(genericField.elementType(), subDocuments));
+                }
+                return collection;
+            }).orElse(null);
+        }
+        return document.map(d -> {
+            Value value = d.value();
+            if (field.converter().isPresent()) {
+                AttributeConverter<Object, Object> attributeConverter = getConverters().get(field);
+                Object attribute = value.isInstanceOf(List.class) ? d : value.get();
+                return field.value(Value.of(attributeConverter.convertToEntityAttribute(attribute)));
+            }
+            return field.value(value);
+        }).orElse(null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Document> subDocuments(Document document) {
+        Object value = document.get();
+        if (value instanceof Map<?, ?> map) {
+            List<Document> documents = new ArrayList<>();
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                documents.add(Document.of(entry.getKey().toString(), entry.getValue()));
+            }
+            return documents;
+        }
+        return document.get(new TypeReference<List<Document>>() {
+        });
+    }
+
     private <T> T convertEntityByConstructor(List<Document> documents, EntityMetadata mapping) {
         ConstructorBuilder builder = ConstructorBuilder.of(mapping.constructor());
         for (ParameterMetaData parameter : builder.parameters()) {
@@ -24,6 +24,7 @@ import jakarta.nosql.QueryMapper.MapperNotCondition;
 import jakarta.nosql.QueryMapper.MapperOrder;
 import jakarta.nosql.QueryMapper.MapperSkip;
 import jakarta.nosql.QueryMapper.MapperWhere;
+import org.eclipse.jnosql.communication.QueryHints;
 import org.eclipse.jnosql.communication.document.DocumentQuery;
 import org.eclipse.jnosql.mapping.core.Converters;
 import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
@@ -41,9 +42,20 @@ final class DocumentMapperSelect extends AbstractMapperQuery implements MapperFr
 
     private final List<Sort> sorts = new ArrayList<>();
 
+    private final Class<?> projection;
+
+    private final QueryHints hints;
+
 
     DocumentMapperSelect(EntityMetadata mapping, Converters converters, JNoSQLDocumentTemplate template) {
+        this(mapping, converters, template, null, QueryHints.empty());
+    }
+
+    DocumentMapperSelect(EntityMetadata mapping, Converters converters, JNoSQLDocumentTemplate template,
+                         Class<?> projection, QueryHints hints) {
         super(mapping, converters, template);
+        this.projection = projection;
+        this.hints = hints;
     }
 
 
@@ -158,25 +170,31 @@ final class DocumentMapperSelect extends AbstractMapperQuery implements MapperFr
     }
 
     private DocumentQuery build() {
-        return new MappingDocumentQuery(sorts, limit, start, condition, documentCollection);
+        return new MappingDocumentQuery(sorts, limit, start, condition, documentCollection, hints);
     }
 
     @Override
     public <T> List<T> result() {
-        DocumentQuery query = build();
-        return this.template.<T>select(query)
-                .toList();
+        return this.<T>stream().toList();
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public <T> Stream<T> stream() {
         DocumentQuery query = build();
+        if (projection != null) {
+            return (Stream<T>) this.template.select(query, projection);
+        }
         return this.template.select(query);
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public <T> Optional<T> singleResult() {
         DocumentQuery query = build();
+        if (projection != null) {
+            return (Optional<T>) this.template.singleResult(query, projection);
+        }
         return this.template.singleResult(query);
     }
 }
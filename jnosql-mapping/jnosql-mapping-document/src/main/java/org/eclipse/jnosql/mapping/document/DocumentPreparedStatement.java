@@ -27,10 +27,13 @@ final class DocumentPreparedStatement implements PreparedStatement {
 
     private final DocumentEntityConverter converter;
 
+    private final Runnable afterExecution;
+
     DocumentPreparedStatement(org.eclipse.jnosql.communication.document.DocumentPreparedStatement preparedStatement,
-                              DocumentEntityConverter converter) {
+                              DocumentEntityConverter converter, Runnable afterExecution) {
         this.preparedStatement = preparedStatement;
         this.converter = converter;
+        this.afterExecution = afterExecution;
     }
 
     @Override
@@ -41,12 +44,15 @@ final class DocumentPreparedStatement implements PreparedStatement {
 
     @Override
     public <T> Stream<T> result() {
-        return preparedStatement.result().map(c -> converter.toEntity(c));
+        Stream<DocumentEntity> entities = preparedStatement.result();
+        afterExecution.run();
+        return entities.map(c -> converter.toEntity(c));
     }
 
     @Override
     public <T> Optional<T> singleResult() {
         Optional<DocumentEntity> singleResult = preparedStatement.singleResult();
+        afterExecution.run();
         return singleResult.map(converter::toEntity);
     }
 }
\ No newline at end of file
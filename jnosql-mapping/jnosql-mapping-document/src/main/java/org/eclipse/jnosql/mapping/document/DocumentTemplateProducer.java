@@ -16,6 +16,9 @@ package org.eclipse.jnosql.mapping.document;
 
 import org.eclipse.jnosql.communication.document.DocumentManager;
 import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.core.cache.EntityCache;
+import org.eclipse.jnosql.mapping.core.cache.QueryCache;
+import org.eclipse.jnosql.mapping.core.coalescing.RequestCoalescer;
 import jakarta.nosql.document.DocumentTemplate;
 import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
 
@@ -67,6 +70,12 @@ public class DocumentTemplateProducer {
 
         private Converters converters;
 
+        private final EntityCache cache = EntityCache.create();
+
+        private final RequestCoalescer coalescer = RequestCoalescer.create();
+
+        private final QueryCache queryCache = QueryCache.create();
+
         private EntitiesMetadata entities;
 
         ProducerDocumentTemplate(DocumentEntityConverter converter, DocumentManager manager,
@@ -106,5 +115,20 @@ public class DocumentTemplateProducer {
         protected Converters getConverters() {
             return converters;
         }
+
+        @Override
+        protected EntityCache getEntityCache() {
+            return cache;
+        }
+
+        @Override
+        protected RequestCoalescer getCoalescer() {
+            return coalescer;
+        }
+
+        @Override
+        protected QueryCache getQueryCache() {
+            return queryCache;
+        }
     }
 }
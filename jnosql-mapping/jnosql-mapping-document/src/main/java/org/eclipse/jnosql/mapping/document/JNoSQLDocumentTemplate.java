@@ -18,10 +18,18 @@ package org.eclipse.jnosql.mapping.document;
 
 
 import jakarta.nosql.document.DocumentTemplate;
+import jakarta.nosql.QueryMapper;
+import org.eclipse.jnosql.communication.QueryHints;
+import org.eclipse.jnosql.communication.document.DocumentAggregateQuery;
 import org.eclipse.jnosql.communication.document.DocumentDeleteQuery;
 import org.eclipse.jnosql.communication.document.DocumentQuery;
+import org.eclipse.jnosql.mapping.core.cache.EntityCache;
+import org.eclipse.jnosql.mapping.core.cache.QueryCache;
+import org.eclipse.jnosql.mapping.core.coalescing.RequestCoalescer;
 
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Flow;
 import java.util.stream.Stream;
 
 /**
@@ -75,6 +83,33 @@ public interface JNoSQLDocumentTemplate extends DocumentTemplate {
      */
     <T> Optional<T> singleResult(DocumentQuery query);
 
+    /**
+     * Finds the projections from query, a record or an interface of {@link org.eclipse.jnosql.mapping.Projection}.
+     * When the query has no documents, it fetches only the documents of the projection attributes, and each result
+     * is created straight into the projection instead of the entity.
+     * The entity is {@link org.eclipse.jnosql.mapping.Projection#from()} or, when it is not defined,
+     * the entity of the query name.
+     *
+     * @param query      query to figure out the projections
+     * @param projection the projection type
+     * @param <P>        the projection type
+     * @return projections found by query
+     * @throws NullPointerException when either query or projection is null
+     */
+    <P> Stream<P> select(DocumentQuery query, Class<P> projection);
+
+    /**
+     * Returns a single projection from query
+     *
+     * @param query      query to figure out the projection
+     * @param projection the projection type
+     * @param <P>        the projection type
+     * @return a projection on {@link Optional} or {@link Optional#empty()} when the result is not found.
+     * @throws NullPointerException when either query or projection is null
+     * @see JNoSQLDocumentTemplate#select(DocumentQuery, Class)
+     */
+    <P> Optional<P> singleResult(DocumentQuery query, Class<P> projection);
+
     /**
      * Returns all elements from column family
      *
@@ -94,4 +129,105 @@ public interface JNoSQLDocumentTemplate extends DocumentTemplate {
      */
     <T> void deleteAll(Class<T> type);
 
+    /**
+     * Saves an entity, inserting it when it does not exist or updating it otherwise.
+     *
+     * @param entity the entity to be saved
+     * @param <T>    the entity type
+     * @return the entity saved
+     * @throws NullPointerException when entity is null
+     * @see JNoSQLDocumentTemplate#upsert(Iterable)
+     */
+    <T> T upsert(T entity);
+
+    /**
+     * Saves entities, inserting the ones that do not exist and updating the others.
+     * When {@link org.eclipse.jnosql.communication.document.DocumentManager#isUpsertSupported()}, it writes all of them
+     * in a single {@link org.eclipse.jnosql.communication.document.DocumentManager#upsert(Iterable)}; otherwise, it finds
+     * the ids that already exist with a single query by entity type, projecting only the id, and then inserts or
+     * updates each entity; this fallback is not atomic, so an entity that another client inserts or deletes in between
+     * makes its insert fail or its update miss.
+     *
+     * @param entities the entities to be saved
+     * @param <T>      the entity type
+     * @return the entities saved at the same order
+     * @throws NullPointerException when entities is null
+     */
+    <T> Iterable<T> upsert(Iterable<T> entities);
+
+    /**
+     * Finds entities from query as a {@link Flow.Publisher} that reads them only as fast as the subscriber requests,
+     * so large results are never held in memory; the query runs at each subscription and the result is closed once the
+     * subscriber receives the last entity, fails or cancels. Use {@link DocumentQuery#fetchSize()} to tell the driver how
+     * many entities to read at each round trip.
+     *
+     * @param query the query
+     * @param <T>   the instance type
+     * @return a publisher of the entities found by query
+     * @throws NullPointerException when query is null
+     */
+    <T> Flow.Publisher<T> publisher(DocumentQuery query);
+
+    /**
+     * Executes a <b>select</b> query with aggregate functions and returns a row per group, e.g.:
+     * {@code select city, count(*), avg(age) from Person where active = true group by city}.
+     * Each row has the group by fields and the aggregations, named like {@code count(*)}, at the database names;
+     * the database runs it when it supports aggregation, otherwise it is aggregated while streaming the entities.
+     *
+     * @param query the query as {@link String}
+     * @return a row per group
+     * @throws NullPointerException when query is null
+     * @throws org.eclipse.jnosql.communication.QueryException when there is error in the syntax
+     * @see org.eclipse.jnosql.communication.document.DocumentManager#aggregate(DocumentAggregateQuery)
+     */
+    Stream<Map<String, Object>> aggregate(String query);
+
+    /**
+     * Runs the aggregate functions of the query and returns a row per group.
+     *
+     * @param query the query
+     * @return a row per group
+     * @throws NullPointerException when query is null
+     * @see org.eclipse.jnosql.communication.document.DocumentManager#aggregate(DocumentAggregateQuery)
+     */
+    Stream<Map<String, Object>> aggregate(DocumentAggregateQuery query);
+
+    /**
+     * Starts a fluent select, like {@link #select(Class)}, where every query sends the hints to the driver, e.g.:
+     * {@code template.select(Person.class, QueryHints.empty().with(QueryHints.FETCH_SIZE, 500)).where("age").gt(10).stream()}.
+     *
+     * @param type  the entity class
+     * @param hints the hints
+     * @param <T>   the entity type
+     * @return a {@link QueryMapper.MapperFrom} instance
+     * @throws NullPointerException when there are null parameters
+     * @see DocumentQuery#hints()
+     */
+    <T> QueryMapper.MapperFrom select(Class<T> type, QueryHints hints);
+
+    /**
+     * Returns the cache used at the find by id of the entities annotated with {@link org.eclipse.jnosql.mapping.Cacheable},
+     * it allows to read the statistics and to evict entries changed outside this template.
+     *
+     * @return the {@link EntityCache} instance
+     */
+    EntityCache cache();
+
+    /**
+     * Returns the coalescer of the identical concurrent reads of the entities annotated with
+     * {@link org.eclipse.jnosql.mapping.Coalesce}, it allows to read the statistics.
+     *
+     * @return the {@link RequestCoalescer} instance
+     */
+    RequestCoalescer coalescer();
+
+    /**
+     * Returns the cache of the query results of the entities annotated with
+     * {@link org.eclipse.jnosql.mapping.QueryCacheable},
+     * it allows to read the statistics and to evict the results changed outside this template.
+     *
+     * @return the {@link QueryCache} instance
+     */
+    QueryCache queryCache();
+
 }
@@ -15,6 +15,7 @@
 package org.eclipse.jnosql.mapping.document;
 
 import jakarta.data.Sort;
+import org.eclipse.jnosql.communication.QueryHints;
 import org.eclipse.jnosql.communication.document.DocumentCondition;
 import org.eclipse.jnosql.communication.document.DocumentQuery;
 
@@ -26,7 +27,22 @@ import java.util.Optional;
  * The mapping implementation of {@link DocumentQuery}
  */
 public record MappingDocumentQuery(List<Sort> sorts, long limit, long skip, DocumentCondition documentCondition,
-                                   String documentCollection) implements DocumentQuery {
+                                   String documentCollection, List<String> documents, QueryHints hints) implements DocumentQuery {
+
+    public MappingDocumentQuery(List<Sort> sorts, long limit, long skip, DocumentCondition documentCondition,
+                                String documentCollection) {
+        this(sorts, limit, skip, documentCondition, documentCollection, Collections.emptyList());
+    }
+
+    public MappingDocumentQuery(List<Sort> sorts, long limit, long skip, DocumentCondition documentCondition,
+                                String documentCollection, List<String> documents) {
+        this(sorts, limit, skip, documentCondition, documentCollection, documents, QueryHints.empty());
+    }
+
+    public MappingDocumentQuery(List<Sort> sorts, long limit, long skip, DocumentCondition documentCondition,
+                                String documentCollection, QueryHints hints) {
+        this(sorts, limit, skip, documentCondition, documentCollection, Collections.emptyList(), hints);
+    }
 
 
     @Override
@@ -46,7 +62,7 @@ public record MappingDocumentQuery(List<Sort> sorts, long limit, long skip, Docu
 
     @Override
     public List<String> documents() {
-        return Collections.emptyList();
+        return Collections.unmodifiableList(documents);
     }
 
 }
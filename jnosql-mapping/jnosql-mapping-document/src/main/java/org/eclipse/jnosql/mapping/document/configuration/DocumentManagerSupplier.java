@@ -19,6 +19,8 @@ import org.eclipse.jnosql.communication.Settings;
 import org.eclipse.jnosql.communication.document.DocumentConfiguration;
 import org.eclipse.jnosql.communication.document.DocumentManager;
 import org.eclipse.jnosql.communication.document.DocumentManagerFactory;
+import org.eclipse.jnosql.communication.document.InstrumentedDocumentManager;
+import org.eclipse.jnosql.mapping.core.MappingInstrumentation;
 import org.eclipse.jnosql.mapping.core.config.MicroProfileSettings;
 import org.eclipse.jnosql.mapping.reflection.Reflections;
 
@@ -61,7 +63,7 @@ class DocumentManagerSupplier implements Supplier<DocumentManager> {
 
         LOGGER.log(Level.FINEST, "Starting  a DocumentManager instance using Eclipse MicroProfile Config," +
                 " database name: " + db);
-        return manager;
+        return InstrumentedDocumentManager.of(manager, MappingInstrumentation.get(), "");
     }
 
     public void close(@Disposes DocumentManager manager) {
@@ -19,13 +19,15 @@ import jakarta.data.page.Pageable;
 import jakarta.data.repository.PageableRepository;
 import org.eclipse.jnosql.communication.document.DocumentQuery;
 import org.eclipse.jnosql.mapping.core.NoSQLPage;
+import org.eclipse.jnosql.mapping.core.PageTotalPolicy;
+import org.eclipse.jnosql.mapping.core.PageTotals;
 import org.eclipse.jnosql.mapping.core.query.AbstractRepository;
 import org.eclipse.jnosql.mapping.document.JNoSQLDocumentTemplate;
 import org.eclipse.jnosql.mapping.document.MappingDocumentQuery;
 import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
 
-import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
 
 
@@ -34,8 +36,47 @@ import java.util.stream.Stream;
  */
 public abstract class AbstractDocumentRepository<T, K> extends AbstractRepository<T, K> {
 
+    private final AtomicReference<PageTotals> pageTotals = new AtomicReference<>();
+
     protected abstract JNoSQLDocumentTemplate template();
 
+    /**
+     * Returns the database of this repository, by default the template
+     *
+     * @return the database of this repository
+     */
+    @Override
+    protected Object database() {
+        return template();
+    }
+
+    /**
+     * Returns how {@link AbstractDocumentRepository#findAll(Pageable)} computes the totals,
+     * by default from the {@link PageTotalPolicy#get()} property
+     *
+     * @return the {@link PageTotals} of this repository
+     */
+    protected PageTotals pageTotals() {
+        PageTotals value = this.pageTotals.get();
+        if (value == null) {
+            this.pageTotals.compareAndSet(null, PageTotals.of(PageTotalPolicy.get(), executor().implicit(database())));
+            value = this.pageTotals.get();
+        }
+        return value;
+    }
+
+    @Override
+    public <S extends T> S save(S entity) {
+        Objects.requireNonNull(entity, "Entity is required");
+        return template().upsert(entity);
+    }
+
+    @Override
+    public <S extends T> Iterable<S> saveAll(Iterable<S> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        return template().upsert(entities);
+    }
+
     @Override
     public long count() {
         return template().count(type());
@@ -49,8 +90,8 @@ public abstract class AbstractDocumentRepository<T, K> extends AbstractRepositor
                 pageable.size(), NoSQLPage.skip(pageable)
                 , null, metadata.name());
 
-        List<T> entities = template().<T>select(query).toList();
-        return NoSQLPage.of(entities, pageable);
+        return pageTotals().page(metadata.name(), pageable, () -> template().<T>select(query).toList(),
+                () -> template().count(type()));
     }
 
     @Override
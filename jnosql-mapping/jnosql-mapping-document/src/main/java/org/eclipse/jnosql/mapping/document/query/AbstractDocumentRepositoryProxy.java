@@ -15,6 +15,7 @@
 package org.eclipse.jnosql.mapping.document.query;
 
 import org.eclipse.jnosql.communication.document.DocumentDeleteQuery;
+import org.eclipse.jnosql.mapping.core.MappingExecutor;
 import org.eclipse.jnosql.mapping.core.repository.DynamicQueryMethodReturn;
 import org.eclipse.jnosql.mapping.core.repository.RepositoryReflectionUtils;
 
@@ -40,7 +41,8 @@ public abstract class AbstractDocumentRepositoryProxy<T, K> extends BaseDocument
                 .withMethod(method)
                 .withTypeClass(type)
                 .withPrepareConverter(q -> template().prepare(q))
-                .withQueryConverter(q -> template().query(q)).build();
+                .withQueryConverter(q -> template().query(q))
+                .withExecutor(MappingExecutor.get().database(database())).build();
         return methodReturn.execute();
     }
 
@@ -55,7 +57,7 @@ public abstract class AbstractDocumentRepositoryProxy<T, K> extends BaseDocument
     protected Object executeFindAll(Object instance, Method method, Object[] params) {
         Class<?> typeClass = entityMetadata().type();
         var query = select().from(entityMetadata().name()).build();
-        return executeFindByQuery(method, params, typeClass, updateQueryDynamically(params, query));
+        return executeFindByQuery(method, params, typeClass, updateQueryDynamically(params, includeHints(method, query)));
     }
 
     @Override
@@ -79,7 +81,7 @@ public abstract class AbstractDocumentRepositoryProxy<T, K> extends BaseDocument
         Class<?> typeClass = entityMetadata().type();
         Map<String, Object> parameters = RepositoryReflectionUtils.INSTANCE.getBy(method, params);
         var query = DocumentParameterBasedQuery.INSTANCE.toQuery(parameters, entityMetadata());
-        return executeFindByQuery(method, params, typeClass, updateQueryDynamically(params, query));
+        return executeFindByQuery(method, params, typeClass, updateQueryDynamically(params, includeHints(method, query)));
     }
 
 
@@ -15,10 +15,13 @@
 package org.eclipse.jnosql.mapping.document.query;
 
 import jakarta.data.Limit;
+import jakarta.data.page.KeysetAwareSlice;
 import jakarta.data.page.Page;
 import jakarta.data.page.Pageable;
 import jakarta.data.Sort;
+import jakarta.data.exceptions.MappingException;
 import org.eclipse.jnosql.communication.Params;
+import org.eclipse.jnosql.communication.QueryHints;
 import org.eclipse.jnosql.communication.document.DeleteQueryParser;
 import org.eclipse.jnosql.communication.document.Document;
 import org.eclipse.jnosql.communication.document.DocumentCondition;
@@ -33,12 +36,20 @@ import org.eclipse.jnosql.communication.query.SelectQuery;
 import org.eclipse.jnosql.communication.query.method.DeleteMethodProvider;
 import org.eclipse.jnosql.communication.query.method.SelectMethodProvider;
 import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.core.Keyset;
+import org.eclipse.jnosql.mapping.core.KeysetCondition;
 import org.eclipse.jnosql.mapping.core.NoSQLPage;
+import org.eclipse.jnosql.mapping.core.PageTotalPolicy;
+import org.eclipse.jnosql.mapping.core.MappingExecutor;
+import org.eclipse.jnosql.mapping.core.PageTotals;
+import org.eclipse.jnosql.mapping.core.ProjectionMetadata;
 import org.eclipse.jnosql.mapping.core.query.AbstractRepositoryProxy;
 import org.eclipse.jnosql.mapping.document.JNoSQLDocumentTemplate;
 import org.eclipse.jnosql.mapping.document.MappingDocumentQuery;
 import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+import org.eclipse.jnosql.mapping.QueryHint;
 import org.eclipse.jnosql.mapping.core.repository.DynamicReturn;
+import org.eclipse.jnosql.mapping.core.repository.RepositoryReflectionUtils;
 import org.eclipse.jnosql.mapping.core.repository.SpecialParameters;
 import org.eclipse.jnosql.mapping.core.util.ParamsBinder;
 import org.eclipse.jnosql.mapping.metadata.InheritanceMetadata;
@@ -46,13 +57,20 @@ import org.eclipse.jnosql.mapping.metadata.InheritanceMetadata;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 public abstract class BaseDocumentRepository<T, K> extends AbstractRepositoryProxy<T, K> {
 
+    private static final KeysetCondition<DocumentCondition> KEYSET_CONDITION = KeysetCondition.of(DocumentCondition::eq,
+            DocumentCondition::gt, DocumentCondition::lt, c -> DocumentCondition.and(c.toArray(DocumentCondition[]::new)),
+            c -> DocumentCondition.or(c.toArray(DocumentCondition[]::new)));
+
     private static final SelectQueryParser SELECT_PARSER = new SelectQueryParser();
 
     private static final DeleteQueryParser DELETE_PARSER = new DeleteQueryParser();
@@ -65,9 +83,23 @@ public abstract class BaseDocumentRepository<T, K> extends AbstractRepositoryPro
 
     protected abstract JNoSQLDocumentTemplate template();
 
-    private DocumentObserverParser parser;
+    /**
+     * Returns the database of this repository, that keys its bulkhead at {@link MappingExecutor#database(Object)}.
+     * By default it is the template.
+     *
+     * @return the database of this repository
+     */
+    protected Object database() {
+        return template();
+    }
+
+    private final AtomicReference<DocumentObserverParser> parser = new AtomicReference<>();
+
+    private final AtomicReference<ParamsBinder> paramsBinder = new AtomicReference<>();
+
+    private final AtomicReference<PageTotals> pageTotals = new AtomicReference<>();
 
-    private ParamsBinder paramsBinder;
+    private final Map<Method, QueryHints> hints = new ConcurrentHashMap<>();
 
 
     protected DocumentQuery query(Method method, Object[] args) {
@@ -77,7 +109,7 @@ public abstract class BaseDocumentRepository<T, K> extends AbstractRepositoryPro
         DocumentQuery query = queryParams.query();
         Params params = queryParams.params();
         paramsBinder().bind(params, args(args), method);
-        return updateQueryDynamically(args(args), query);
+        return updateQueryDynamically(args(args), includeHints(method, query));
     }
 
 
@@ -91,6 +123,22 @@ public abstract class BaseDocumentRepository<T, K> extends AbstractRepositoryPro
         return query;
     }
 
+    /**
+     * Adds the hints of the {@link QueryHint} annotations at the method to the query, the annotations are read once per method
+     *
+     * @param method the repository method
+     * @param query  the query
+     * @return the query with the hints of the method
+     */
+    protected DocumentQuery includeHints(Method method, DocumentQuery query) {
+        QueryHints hints = this.hints.computeIfAbsent(method, RepositoryReflectionUtils.INSTANCE::getHints);
+        if (hints.isEmpty()) {
+            return query;
+        }
+        return new MappingDocumentQuery(query.sorts(), query.limit(), query.skip(), query.condition().orElse(null),
+                query.name(), query.documents(), query.hints().with(hints));
+    }
+
     private static Object[] args(Object[] args) {
         return args == null ? EMPTY_PARAM : args;
     }
@@ -114,7 +162,7 @@ public abstract class BaseDocumentRepository<T, K> extends AbstractRepositoryPro
             return new MappingDocumentQuery(sorts, max,
                     skip,
                     documentQuery.condition().orElse(null),
-                    documentQuery.name());
+                    documentQuery.name(), documentQuery.hints());
         }
 
         if (limit.isPresent()) {
@@ -123,7 +171,7 @@ public abstract class BaseDocumentRepository<T, K> extends AbstractRepositoryPro
             return new MappingDocumentQuery(documentQuery.sorts(), max,
                     skip,
                     documentQuery.condition().orElse(null),
-                    documentQuery.name());
+                    documentQuery.name(), documentQuery.hints());
         }
 
         return special.pageable().<DocumentQuery>map(p -> {
@@ -134,12 +182,24 @@ public abstract class BaseDocumentRepository<T, K> extends AbstractRepositoryPro
                 sorts = new ArrayList<>(documentQuery.sorts());
                 sorts.addAll(special.sorts());
             }
+            if (p.mode() != Pageable.Mode.OFFSET) {
+                return keysetQuery(p, Keyset.of(entityMetadata(), sorts, converters()), documentQuery);
+            }
             return new MappingDocumentQuery(sorts, size, skip,
-                    documentQuery.condition().orElse(null), documentQuery.name());
+                    documentQuery.condition().orElse(null), documentQuery.name(), documentQuery.hints());
         }).orElse(documentQuery);
 
     }
 
+    private DocumentQuery keysetQuery(Pageable pageable, Keyset keyset, DocumentQuery query) {
+        DocumentCondition condition = KEYSET_CONDITION.condition(keyset, pageable, query.condition().orElse(null));
+        return new MappingDocumentQuery(keyset.sorts(pageable), pageable.size(), 0, condition, query.name(), query.hints());
+    }
+
+    private static boolean isKeyset(Method method) {
+        return method != null && KeysetAwareSlice.class.isAssignableFrom(method.getReturnType());
+    }
+
     private DocumentQuery includeInheritance(DocumentQuery query){
         EntityMetadata metadata = this.entityMetadata();
        if(metadata.inheritance().isPresent()){
@@ -152,24 +212,28 @@ public abstract class BaseDocumentRepository<T, K> extends AbstractRepositoryPro
                    condition = condition.and(documentCondition);
                }
                return new MappingDocumentQuery(query.sorts(), query.limit(), query.skip(),
-                       condition, query.name());
+                       condition, query.name(), query.hints());
            }
        }
        return query;
     }
 
     protected DocumentObserverParser parser() {
-        if (parser == null) {
-            this.parser = new RepositoryDocumentObserverParser(entityMetadata());
+        DocumentObserverParser value = this.parser.get();
+        if (value == null) {
+            this.parser.compareAndSet(null, new RepositoryDocumentObserverParser(entityMetadata()));
+            value = this.parser.get();
         }
-        return parser;
+        return value;
     }
 
     protected ParamsBinder paramsBinder() {
-        if (Objects.isNull(paramsBinder)) {
-            this.paramsBinder = new ParamsBinder(entityMetadata(), converters());
+        ParamsBinder value = this.paramsBinder.get();
+        if (value == null) {
+            this.paramsBinder.compareAndSet(null, new ParamsBinder(entityMetadata(), converters()));
+            value = this.paramsBinder.get();
         }
-        return paramsBinder;
+        return value;
     }
 
     protected Long executeCountByQuery(DocumentQuery query) {
@@ -181,6 +245,10 @@ public abstract class BaseDocumentRepository<T, K> extends AbstractRepositoryPro
     }
 
     protected Object executeFindByQuery(Method method, Object[] args, Class<?> typeClass, DocumentQuery query) {
+        Optional<Class<?>> projection = ProjectionMetadata.projection(method, entityMetadata());
+        if (projection.isPresent()) {
+            return executeProjectionQuery(method, args, projection.get(), query);
+        }
         DynamicReturn<?> dynamicReturn = DynamicReturn.builder()
                 .withClassSource(typeClass)
                 .withMethodSource(method)
@@ -189,15 +257,91 @@ public abstract class BaseDocumentRepository<T, K> extends AbstractRepositoryPro
                 .withPagination(DynamicReturn.findPageable(args))
                 .withStreamPagination(streamPagination(query))
                 .withSingleResultPagination(singleResult(query))
-                .withPage(page(query))
+                .withPage(isKeyset(method) ? keysetPage(query) : page(query))
+                .withExecutor(MappingExecutor.get().database(database()))
+                .build();
+        return dynamicReturn.execute();
+    }
+
+    /**
+     * Executes the query of a method that returns a {@link org.eclipse.jnosql.mapping.Projection}, it fetches only
+     * the documents of the projection instead of the entity.
+     *
+     * @param method     the repository method
+     * @param args       the method arguments
+     * @param projection the projection type
+     * @param query      the query
+     * @param <P>        the projection type
+     * @return the method result
+     * @throws MappingException when the method uses keyset pagination, which reads the cursor from the entity
+     */
+    protected <P> Object executeProjectionQuery(Method method, Object[] args, Class<P> projection, DocumentQuery query) {
+        if (isKeyset(method)) {
+            throw new MappingException("The keyset pagination does not support the projection " + projection.getName()
+                    + " at the method " + method.getName());
+        }
+        Function<Pageable, Page<P>> page = p -> offsetPage(query, p, () -> template().select(query, projection).toList());
+        Function<Pageable, Stream<P>> streamPagination = p -> template().select(query, projection);
+        Function<Pageable, Optional<P>> singleResultPagination = p -> template().singleResult(query, projection);
+        DynamicReturn<?> dynamicReturn = DynamicReturn.builder()
+                .withClassSource(projection)
+                .withMethodSource(method)
+                .withResult(() -> template().select(query, projection))
+                .withSingleResult(() -> template().singleResult(query, projection))
+                .withPagination(DynamicReturn.findPageable(args))
+                .withStreamPagination(streamPagination)
+                .withSingleResultPagination(singleResultPagination)
+                .withPage(page)
+                .withExecutor(MappingExecutor.get().database(database()))
                 .build();
         return dynamicReturn.execute();
     }
 
     protected Function<Pageable, Page<T>> page(DocumentQuery query) {
         return p -> {
-            Stream<T> entities = template().select(query);
-            return NoSQLPage.of(entities.toList(), p);
+            if (p.mode() != Pageable.Mode.OFFSET) {
+                return keysetPage(query).apply(p);
+            }
+            return offsetPage(query, p, () -> template().<T>select(query).toList());
+        };
+    }
+
+    private <R> Page<R> offsetPage(DocumentQuery query, Pageable pageable, Supplier<List<R>> select) {
+        DocumentQuery countQuery = new MappingDocumentQuery(List.of(), 0, 0, query.condition().orElse(null), query.name(), query.hints());
+        return pageTotals().page(countQuery, pageable, select, () -> template().count(countQuery));
+    }
+
+    /**
+     * Returns how the pages compute their totals, by default from the {@link PageTotalPolicy#get()} property
+     *
+     * @return the {@link PageTotals} of this repository
+     */
+    protected PageTotals pageTotals() {
+        PageTotals value = this.pageTotals.get();
+        if (value == null) {
+            this.pageTotals.compareAndSet(null, PageTotals.of(PageTotalPolicy.get(), MappingExecutor.get().implicit(database())));
+            value = this.pageTotals.get();
+        }
+        return value;
+    }
+
+    /**
+     * Reads the page with the cursor of each entity, so the next page starts right after the last entity instead of
+     * skipping the previous ones. On the first page, {@link Pageable.Mode#OFFSET}, the id is added to the sorts as tiebreaker.
+     *
+     * @param query the query already updated by {@link BaseDocumentRepository#updateQueryDynamically(Object[], DocumentQuery)}
+     * @return the page function
+     */
+    protected Function<Pageable, Page<T>> keysetPage(DocumentQuery query) {
+        return p -> {
+            Keyset keyset = Keyset.of(entityMetadata(), query.sorts(), converters());
+            DocumentQuery keysetQuery = query;
+            if (p.mode() == Pageable.Mode.OFFSET) {
+                keysetQuery = new MappingDocumentQuery(keyset.sorts(), query.limit(), query.skip(),
+                        query.condition().orElse(null), query.name(), query.hints());
+            }
+            List<T> entities = template().<T>select(keysetQuery).toList();
+            return keyset.page(entities, p);
         };
     }
 
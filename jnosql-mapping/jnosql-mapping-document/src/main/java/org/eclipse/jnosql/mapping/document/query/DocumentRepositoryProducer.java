@@ -22,8 +22,8 @@ import org.eclipse.jnosql.mapping.core.Converters;
 import org.eclipse.jnosql.mapping.document.DocumentTemplateProducer;
 import org.eclipse.jnosql.mapping.document.JNoSQLDocumentTemplate;
 import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.core.query.GeneratedRepository;
 
-import java.lang.reflect.Proxy;
 import java.util.Objects;
 
 
@@ -58,7 +58,7 @@ public class DocumentRepositoryProducer {
         Objects.requireNonNull(repositoryClass, "repository class is required");
         Objects.requireNonNull(manager, "manager class is required");
         JNoSQLDocumentTemplate template = producer.get(manager);
-        return get(repositoryClass, template);
+        return get(repositoryClass, template, manager);
     }
 
     /**
@@ -74,11 +74,13 @@ public class DocumentRepositoryProducer {
     public <T, K, R extends PageableRepository<T, K>> R get(Class<R> repositoryClass, JNoSQLDocumentTemplate template) {
         Objects.requireNonNull(repositoryClass, "repository class is required");
         Objects.requireNonNull(template, "template class is required");
+        return get(repositoryClass, template, template);
+    }
 
+    private <T, K, R extends PageableRepository<T, K>> R get(Class<R> repositoryClass, JNoSQLDocumentTemplate template,
+                                                               Object database) {
         DocumentRepositoryProxy<T, K>  handler = new DocumentRepositoryProxy<>(template,
-                entities, repositoryClass, converters);
-        return (R) Proxy.newProxyInstance(repositoryClass.getClassLoader(),
-                new Class[]{repositoryClass},
-                handler);
+                entities, repositoryClass, converters, database);
+        return GeneratedRepository.create(repositoryClass, handler);
     }
 }
@@ -44,16 +44,24 @@ public class DocumentRepositoryProxy<T, K> extends AbstractDocumentRepositoryPro
 
     private final Class<?> repositoryType;
 
+    private final Object database;
+
 
     DocumentRepositoryProxy(JNoSQLDocumentTemplate template, EntitiesMetadata entities,
                             Class<?> repositoryType, Converters converters) {
+        this(template, entities, repositoryType, converters, template);
+    }
+
+    DocumentRepositoryProxy(JNoSQLDocumentTemplate template, EntitiesMetadata entities,
+                            Class<?> repositoryType, Converters converters, Object database) {
         this.template = template;
         Class<T> typeClass = (Class<T>) ((ParameterizedType) repositoryType.getGenericInterfaces()[0])
                 .getActualTypeArguments()[0];
         this.entityMetadata = entities.get(typeClass);
-        this.repository = new DocumentRepository<>(template, entityMetadata);
+        this.repository = new DocumentRepository<>(template, entityMetadata, database);
         this.converters = converters;
         this.repositoryType = repositoryType;
+        this.database = database;
     }
 
 
@@ -77,6 +85,11 @@ public class DocumentRepositoryProxy<T, K> extends AbstractDocumentRepositoryPro
         return entityMetadata;
     }
 
+    @Override
+    protected Object database() {
+        return database;
+    }
+
     @Override
     protected Converters converters() {
         return converters;
@@ -94,9 +107,12 @@ public class DocumentRepositoryProxy<T, K> extends AbstractDocumentRepositoryPro
 
         private final EntityMetadata entityMetadata;
 
-        DocumentRepository(JNoSQLDocumentTemplate template, EntityMetadata entityMetadata) {
+        private final Object database;
+
+        DocumentRepository(JNoSQLDocumentTemplate template, EntityMetadata entityMetadata, Object database) {
             this.template = template;
             this.entityMetadata = entityMetadata;
+            this.database = database;
         }
 
         @Override
@@ -109,6 +125,11 @@ public class DocumentRepositoryProxy<T, K> extends AbstractDocumentRepositoryPro
             return entityMetadata;
         }
 
+        @Override
+        protected Object database() {
+            return database;
+        }
+
         /**
          * Creates a new instance of DocumentRepository with the provided JNoSQLDocumentTemplate and EntityMetadata.
          *
@@ -122,7 +143,7 @@ public class DocumentRepositoryProxy<T, K> extends AbstractDocumentRepositoryPro
         public static <T, K> DocumentRepository<T, K> of(JNoSQLDocumentTemplate template, EntityMetadata metadata) {
             Objects.requireNonNull(template,"template is required");
             Objects.requireNonNull(metadata,"metadata is required");
-            return new DocumentRepository<>(template, metadata);
+            return new DocumentRepository<>(template, metadata, template);
         }
 
     }
@@ -57,7 +57,7 @@ public class DynamicQuery implements Supplier<DocumentQuery> {
             return new MappingDocumentQuery(sorts, max,
                     skip,
                     query.condition().orElse(null),
-                    query.name());
+                    query.name(), query.hints());
         }
 
         if (limit.isPresent()) {
@@ -71,7 +71,7 @@ public class DynamicQuery implements Supplier<DocumentQuery> {
             return new MappingDocumentQuery(sorts, max,
                     skip,
                     query.condition().orElse(null),
-                    query.name());
+                    query.name(), query.hints());
         }
 
         return special.pageable().<DocumentQuery>map(p -> {
@@ -83,7 +83,7 @@ public class DynamicQuery implements Supplier<DocumentQuery> {
                 sorts.addAll(special.sorts());
             }
             return new MappingDocumentQuery(sorts, size, skip,
-                    query.condition().orElse(null), query.name());
+                    query.condition().orElse(null), query.name(), query.hints());
         }).orElse(query);
     }
 
@@ -23,9 +23,9 @@ import org.eclipse.jnosql.mapping.document.JNoSQLDocumentTemplate;
 import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
 import org.eclipse.jnosql.mapping.core.spi.AbstractBean;
 import org.eclipse.jnosql.mapping.core.util.AnnotationLiteralUtil;
+import org.eclipse.jnosql.mapping.core.query.GeneratedRepository;
 
 import java.lang.annotation.Annotation;
-import java.lang.reflect.Proxy;
 import java.lang.reflect.Type;
 import java.util.Collections;
 import java.util.HashSet;
@@ -44,6 +44,8 @@ public class RepositoryDocumentBean<T extends DataRepository<T, ?>> extends Abst
 
     private final Set<Annotation> qualifiers;
 
+    private final DatabaseQualifier qualifier;
+
     /**
      * Constructor
      *
@@ -54,13 +56,14 @@ public class RepositoryDocumentBean<T extends DataRepository<T, ?>> extends Abst
         this.type = (Class<T>) type;
         this.types = Collections.singleton(type);
         this.provider = provider;
+        this.qualifier = provider.isEmpty() ? DatabaseQualifier.ofDocument() : DatabaseQualifier.ofDocument(provider);
         if (provider.isEmpty()) {
             this.qualifiers = new HashSet<>();
-            qualifiers.add(DatabaseQualifier.ofDocument());
+            qualifiers.add(qualifier);
             qualifiers.add(AnnotationLiteralUtil.DEFAULT_ANNOTATION);
             qualifiers.add(AnnotationLiteralUtil.ANY_ANNOTATION);
         } else {
-            this.qualifiers = Collections.singleton(DatabaseQualifier.ofDocument(provider));
+            this.qualifiers = Collections.singleton(qualifier);
         }
     }
 
@@ -73,15 +76,13 @@ public class RepositoryDocumentBean<T extends DataRepository<T, ?>> extends Abst
     public T create(CreationalContext<T> context) {
         EntitiesMetadata entities = getInstance(EntitiesMetadata.class);
         JNoSQLDocumentTemplate template = provider.isEmpty() ? getInstance(JNoSQLDocumentTemplate.class) :
-                getInstance(JNoSQLDocumentTemplate.class, DatabaseQualifier.ofDocument(provider));
+                getInstance(JNoSQLDocumentTemplate.class, qualifier);
 
         Converters converters = getInstance(Converters.class);
 
         DocumentRepositoryProxy handler = new DocumentRepositoryProxy(template,
-                entities, type, converters);
-        return (T) Proxy.newProxyInstance(type.getClassLoader(),
-                new Class[]{type},
-                handler);
+                entities, type, converters, qualifier);
+        return GeneratedRepository.create(type, handler);
     }
 
 
@@ -18,10 +18,12 @@ package org.eclipse.jnosql.mapping.document.spi;
 import jakarta.enterprise.context.spi.CreationalContext;
 import jakarta.nosql.document.DocumentTemplate;
 import org.eclipse.jnosql.communication.document.DocumentManager;
+import org.eclipse.jnosql.communication.document.InstrumentedDocumentManager;
 import org.eclipse.jnosql.mapping.DatabaseQualifier;
 import org.eclipse.jnosql.mapping.DatabaseType;
 import org.eclipse.jnosql.mapping.document.DocumentTemplateProducer;
 import org.eclipse.jnosql.mapping.document.JNoSQLDocumentTemplate;
+import org.eclipse.jnosql.mapping.core.MappingInstrumentation;
 import org.eclipse.jnosql.mapping.core.spi.AbstractBean;
 
 import java.lang.annotation.Annotation;
@@ -62,7 +64,8 @@ class TemplateBean extends AbstractBean<JNoSQLDocumentTemplate> {
     }
 
     private DocumentManager getManager() {
-        return getInstance(DocumentManager.class, DatabaseQualifier.ofDocument(provider));
+        DocumentManager manager = getInstance(DocumentManager.class, DatabaseQualifier.ofDocument(provider));
+        return InstrumentedDocumentManager.of(manager, MappingInstrumentation.get(), provider);
     }
 
     @Override
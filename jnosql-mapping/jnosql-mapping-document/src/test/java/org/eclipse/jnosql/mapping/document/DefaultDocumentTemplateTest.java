@@ -14,21 +14,27 @@
  */
 package org.eclipse.jnosql.mapping.document;
 
+import jakarta.data.exceptions.MappingException;
 import jakarta.data.exceptions.NonUniqueResultException;
 import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
 import jakarta.nosql.PreparedStatement;
 import org.assertj.core.api.SoftAssertions;
+import org.eclipse.jnosql.communication.Condition;
 import org.eclipse.jnosql.communication.document.Document;
+import org.eclipse.jnosql.communication.document.DocumentAggregateQuery;
 import org.eclipse.jnosql.communication.document.DocumentCondition;
 import org.eclipse.jnosql.communication.document.DocumentDeleteQuery;
 import org.eclipse.jnosql.communication.document.DocumentEntity;
 import org.eclipse.jnosql.communication.document.DocumentManager;
 import org.eclipse.jnosql.communication.document.DocumentQuery;
+import org.eclipse.jnosql.communication.query.Aggregation;
 import org.eclipse.jnosql.mapping.core.Converters;
 import org.eclipse.jnosql.mapping.IdNotFoundException;
+import org.eclipse.jnosql.mapping.Projection;
 import org.eclipse.jnosql.mapping.document.entities.Job;
 import org.eclipse.jnosql.mapping.document.entities.Person;
+import org.eclipse.jnosql.mapping.document.entities.PersonSummary;
 import org.eclipse.jnosql.mapping.document.spi.DocumentExtension;
 import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
 import org.eclipse.jnosql.mapping.reflection.Reflections;
@@ -43,14 +49,24 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.eclipse.jnosql.communication.document.DocumentDeleteQuery.delete;
 import static org.eclipse.jnosql.communication.document.DocumentQuery.select;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -230,6 +246,7 @@ class DefaultDocumentTemplateTest {
 
         template.insert(Arrays.asList(person, person));
         verify(managerMock, times(2)).insert(any(DocumentEntity.class));
+        verify(documentEventPersistManager).firePostEntities(anyList());
     }
 
     @Test
@@ -243,6 +260,7 @@ class DefaultDocumentTemplateTest {
 
         template.update(Arrays.asList(person, person));
         verify(managerMock, times(2)).update(any(DocumentEntity.class));
+        verify(documentEventPersistManager).firePostEntities(anyList());
     }
 
 
@@ -319,6 +337,70 @@ class DefaultDocumentTemplateTest {
         });
     }
 
+    @Test
+    void shouldSelectProjection() {
+        DocumentEntity documentEntity = DocumentEntity.of("Person");
+        documentEntity.addAll(List.of(Document.of("name", "Ada"), Document.of("age", 10)));
+        ArgumentCaptor<DocumentQuery> queryCaptor = ArgumentCaptor.forClass(DocumentQuery.class);
+        when(managerMock.select(queryCaptor.capture())).thenReturn(Stream.of(documentEntity));
+
+        DocumentQuery query = select().from("Person").where("age").gt(5).build();
+        List<PersonSummary> result = template.select(query, PersonSummary.class).toList();
+
+        assertThat(result).containsExactly(new PersonSummary("Ada", 10));
+        DocumentQuery projectionQuery = queryCaptor.getValue();
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(projectionQuery.documents()).containsExactly("name", "age");
+            soft.assertThat(projectionQuery.name()).isEqualTo("Person");
+            soft.assertThat(projectionQuery.condition()).isEqualTo(query.condition());
+        });
+        verify(documentEventPersistManager, never()).firePostEntity(any());
+    }
+
+    @Test
+    void shouldKeepDocumentsOfProjectionQuery() {
+        ArgumentCaptor<DocumentQuery> queryCaptor = ArgumentCaptor.forClass(DocumentQuery.class);
+        when(managerMock.select(queryCaptor.capture())).thenReturn(Stream.empty());
+
+        DocumentQuery query = select("name", "age", "phones").from("Person").build();
+        template.select(query, PersonSummary.class).toList();
+
+        assertThat(queryCaptor.getValue()).isSameAs(query);
+    }
+
+    @Test
+    void shouldReturnSingleResultProjection() {
+        DocumentEntity documentEntity = DocumentEntity.of("Person");
+        documentEntity.addAll(List.of(Document.of("name", "Ada"), Document.of("age", 10)));
+        when(managerMock.select(any(DocumentQuery.class))).thenReturn(Stream.of(documentEntity, documentEntity))
+                .thenReturn(Stream.of(documentEntity));
+
+        DocumentQuery query = select().from("Person").build();
+
+        assertThrows(NonUniqueResultException.class, () -> template.singleResult(query, PersonSummary.class));
+        assertThat(template.singleResult(query, PersonSummary.class)).contains(new PersonSummary("Ada", 10));
+    }
+
+    @Test
+    void shouldSelectProjectionFromMapper() {
+        DocumentEntity documentEntity = DocumentEntity.of("Person");
+        documentEntity.addAll(List.of(Document.of("name", "Ada")));
+        ArgumentCaptor<DocumentQuery> queryCaptor = ArgumentCaptor.forClass(DocumentQuery.class);
+        when(managerMock.select(queryCaptor.capture())).thenReturn(Stream.of(documentEntity));
+
+        List<PersonName> result = template.select(PersonName.class).where("name").eq("Ada").result();
+
+        assertThat(result).extracting(PersonName::getName).containsExactly("Ada");
+        assertThat(queryCaptor.getValue().documents()).containsExactly("name");
+    }
+
+    @Test
+    void shouldReturnErrorWhenProjectionIsNull() {
+        DocumentQuery query = select().from("Person").build();
+        assertThrows(NullPointerException.class, () -> template.select(query, null));
+        assertThrows(NullPointerException.class, () -> template.select(null, PersonSummary.class));
+    }
+
     @Test
     void shouldReturnErrorWhenFindIdHasIdNull() {
         Assertions.assertThrows(NullPointerException.class, () -> template.find(Person.class, null));
@@ -397,6 +479,35 @@ class DefaultDocumentTemplateTest {
         assertEquals("Person", query.name());
     }
 
+    @Test
+    void shouldExecuteQueryFromManyThreads() throws Exception {
+        int threads = 8;
+        int queries = 50;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int index = 0; index < threads; index++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int query = 0; query < queries; query++) {
+                        template.query("select * from Movie");
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        ArgumentCaptor<DocumentQuery> queryCaptor = ArgumentCaptor.forClass(DocumentQuery.class);
+        verify(managerMock, times(threads * queries)).select(queryCaptor.capture());
+        assertThat(queryCaptor.getAllValues()).extracting(DocumentQuery::name).containsOnly("movie");
+    }
+
     @Test
     void shouldConvertConvertFromAnnotationEntity(){
         template.query("select * from Vendor" );
@@ -446,5 +557,155 @@ class DefaultDocumentTemplateTest {
         verify(managerMock).delete(delete().from("Person").build());
     }
 
+    @Test
+    void shouldUpsertUsingManagerWhenItIsSupported() {
+        when(managerMock.isUpsertSupported()).thenReturn(true);
+        when(managerMock.upsert(any(Iterable.class))).thenAnswer(i -> i.getArgument(0));
+
+        Person ada = Person.builder().withId(10L).withName("Ada").withPhones(List.of("123")).build();
+        Person otavio = Person.builder().withId(11L).withName("Otavio").withPhones(List.of("123")).build();
+        Iterable<Person> people = template.upsert(List.of(ada, otavio));
+
+        assertThat(people).extracting(Person::getName).containsExactly("Ada", "Otavio");
+        verify(managerMock).upsert(any(Iterable.class));
+        verify(managerMock, never()).select(any(DocumentQuery.class));
+        verify(managerMock, never()).insert(any(DocumentEntity.class));
+        verify(managerMock, never()).update(any(DocumentEntity.class));
+        verify(documentEventPersistManager, times(2)).firePreEntity(any(Person.class));
+        verify(documentEventPersistManager, times(2)).firePostEntity(any(Person.class));
+    }
+
+    @Test
+    void shouldUpsertCheckingExistenceWithSingleQuery() {
+        when(managerMock.select(any(DocumentQuery.class)))
+                .thenReturn(Stream.of(DocumentEntity.of("Person", List.of(Document.of("_id", 10L)))));
+        when(managerMock.insert(any(DocumentEntity.class))).thenAnswer(i -> i.getArgument(0));
+        when(managerMock.update(any(DocumentEntity.class))).thenAnswer(i -> i.getArgument(0));
+
+        Person ada = Person.builder().withId(10L).withName("Ada").withPhones(List.of("123")).build();
+        Person otavio = Person.builder().withId(11L).withName("Otavio").withPhones(List.of("123")).build();
+        Iterable<Person> people = template.upsert(List.of(ada, otavio));
+
+        assertThat(people).extracting(Person::getName).containsExactly("Ada", "Otavio");
+        ArgumentCaptor<DocumentQuery> query = ArgumentCaptor.forClass(DocumentQuery.class);
+        verify(managerMock).select(query.capture());
+        verify(managerMock, never()).upsert(any(Iterable.class));
+        ArgumentCaptor<DocumentEntity> updated = ArgumentCaptor.forClass(DocumentEntity.class);
+        ArgumentCaptor<DocumentEntity> inserted = ArgumentCaptor.forClass(DocumentEntity.class);
+        verify(managerMock).update(updated.capture());
+        verify(managerMock).insert(inserted.capture());
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(query.getValue().documents()).containsExactly("_id");
+            soft.assertThat(query.getValue().condition()).get()
+                    .extracting(DocumentCondition::condition).isEqualTo(Condition.IN);
+            soft.assertThat(updated.getValue().find("name", String.class)).contains("Ada");
+            soft.assertThat(inserted.getValue().find("name", String.class)).contains("Otavio");
+        });
+    }
+
+    @Test
+    void shouldUpsertSingleEntity() {
+        when(managerMock.select(any(DocumentQuery.class))).thenReturn(Stream.empty());
+        when(managerMock.insert(any(DocumentEntity.class))).thenAnswer(i -> i.getArgument(0));
+
+        Person ada = Person.builder().withId(10L).withName("Ada").withPhones(List.of("123")).build();
+
+        assertThat(template.upsert(ada)).isNotNull().extracting(Person::getName).isEqualTo("Ada");
+        verify(managerMock).insert(any(DocumentEntity.class));
+        verify(managerMock, never()).update(any(DocumentEntity.class));
+    }
+
+    @Test
+    void shouldReturnErrorWhenManagerUpsertReturnsFewerEntities() {
+        when(managerMock.isUpsertSupported()).thenReturn(true);
+        when(managerMock.upsert(any(Iterable.class)))
+                .thenAnswer(i -> List.of(((Iterable<DocumentEntity>) i.getArgument(0)).iterator().next()));
 
+        Person ada = Person.builder().withId(10L).withName("Ada").withPhones(List.of("123")).build();
+        Person otavio = Person.builder().withId(11L).withName("Otavio").withPhones(List.of("123")).build();
+
+        assertThrows(MappingException.class, () -> template.upsert(List.of(ada, otavio)));
+        verify(documentEventPersistManager, never()).firePostEntity(any(Person.class));
+    }
+
+    @Test
+    void shouldReturnErrorWhenUpsertIsNull() {
+        assertThrows(NullPointerException.class, () -> template.upsert((Iterable<Person>) null));
+        assertThrows(NullPointerException.class, () -> template.upsert((Person) null));
+    }
+
+    @Test
+    void shouldPublish() {
+        DocumentQuery query = select().from("Person").fetchSize(100).build();
+        AtomicBoolean closed = new AtomicBoolean();
+        when(managerMock.select(query)).thenReturn(Stream.of(DocumentEntity.of("Person", List.of(documents)))
+                .onClose(() -> closed.set(true)));
+
+        Flow.Publisher<Person> publisher = template.publisher(query);
+        verify(managerMock, never()).select(query);
+
+        List<Person> people = new ArrayList<>();
+        publisher.subscribe(new Flow.Subscriber<>() {
+            private Flow.Subscription subscription;
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(Person item) {
+                people.add(item);
+                subscription.request(1);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                Assertions.fail(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+
+        assertThat(people).hasSize(1).first().extracting(Person::getName).isEqualTo("Name");
+        assertThat(closed).isTrue();
+        verify(managerMock).select(query);
+    }
+
+    @Test
+    void shouldAggregate() {
+        DocumentEntity row = DocumentEntity.of("Person", List.of(Document.of("age", 10), Document.of("count(*)", 2L)));
+        when(managerMock.aggregate(any(DocumentAggregateQuery.class))).thenReturn(Stream.of(row));
+
+        List<Map<String, Object>> result = template.aggregate("select age, count(*) from Person where name = \"Ada\" group by age")
+                .toList();
+
+        assertThat(result).containsExactly(Map.of("age", 10, "count(*)", 2L));
+        ArgumentCaptor<DocumentAggregateQuery> queryCaptor = ArgumentCaptor.forClass(DocumentAggregateQuery.class);
+        verify(managerMock).aggregate(queryCaptor.capture());
+        DocumentAggregateQuery query = queryCaptor.getValue();
+        assertThat(query.name()).isEqualTo("Person");
+        assertThat(query.aggregations()).containsExactly(Aggregation.count());
+        assertThat(query.groupBy()).containsExactly("age");
+        assertThat(query.condition()).contains(DocumentCondition.eq("name", "Ada"));
+    }
+
+    @Test
+    void shouldAggregateQuery() {
+        DocumentAggregateQuery query = DocumentAggregateQuery.of("Person", List.of(Aggregation.count()), List.of(), null);
+        when(managerMock.aggregate(query)).thenReturn(Stream.of(DocumentEntity.of("Person", List.of(Document.of("count(*)", 2L)))));
+
+        assertThat(template.aggregate(query)).containsExactly(Map.of("count(*)", 2L));
+        assertThrows(NullPointerException.class, () -> template.aggregate((DocumentAggregateQuery) null));
+        assertThrows(NullPointerException.class, () -> template.aggregate((String) null));
+    }
+
+    @Projection(from = Person.class)
+    interface PersonName {
+
+        String getName();
+    }
 }
@@ -20,7 +20,9 @@ import org.eclipse.jnosql.communication.TypeReference;
 import org.eclipse.jnosql.communication.Value;
 import org.eclipse.jnosql.communication.document.Document;
 import org.eclipse.jnosql.communication.document.DocumentEntity;
+import org.eclipse.jnosql.mapping.Select;
 import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.core.ProjectionMetadata;
 import org.eclipse.jnosql.mapping.document.entities.Actor;
 import org.eclipse.jnosql.mapping.document.entities.Address;
 import org.eclipse.jnosql.mapping.document.entities.AppointmentBook;
@@ -34,12 +36,14 @@ import org.eclipse.jnosql.mapping.document.entities.MainStepType;
 import org.eclipse.jnosql.mapping.document.entities.Money;
 import org.eclipse.jnosql.mapping.document.entities.Movie;
 import org.eclipse.jnosql.mapping.document.entities.Person;
+import org.eclipse.jnosql.mapping.document.entities.PersonSummary;
 import org.eclipse.jnosql.mapping.document.entities.Transition;
 import org.eclipse.jnosql.mapping.document.entities.Vendor;
 import org.eclipse.jnosql.mapping.document.entities.Worker;
 import org.eclipse.jnosql.mapping.document.entities.WorkflowStep;
 import org.eclipse.jnosql.mapping.document.entities.ZipCode;
 import org.eclipse.jnosql.mapping.document.spi.DocumentExtension;
+import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
 import org.eclipse.jnosql.mapping.reflection.Reflections;
 import org.eclipse.jnosql.mapping.core.spi.EntityMetadataExtension;
 import org.jboss.weld.junit5.auto.AddExtensions;
@@ -76,6 +80,9 @@ class DocumentEntityConverterTest {
     @Inject
     private DefaultDocumentEntityConverter converter;
 
+    @Inject
+    private EntitiesMetadata entities;
+
     private Document[] documents;
 
     private final Actor actor = Actor.actorBuilder().withAge()
@@ -601,9 +608,62 @@ class DocumentEntityConverterTest {
 
     }
 
+    @Test
+    void shouldConvertToProjection() {
+        DocumentEntity entity = DocumentEntity.of("Person");
+        entity.add("name", "Ada");
+        entity.add("age", "10");
+        ProjectionMetadata projection = ProjectionMetadata.of(PersonSummary.class, entities.get(Person.class));
+
+        PersonSummary summary = converter.toProjection(projection, entity);
+
+        assertThat(summary).isEqualTo(new PersonSummary("Ada", 10));
+    }
+
+    @Test
+    void shouldConvertToProjectionWithEmbeddedAndConverter() {
+        DocumentEntity entity = DocumentEntity.of("Worker");
+        entity.add("name", "Bob");
+        entity.add("city", "Sao Paulo");
+        entity.add("money", "BRL 10");
+        ProjectionMetadata projection = ProjectionMetadata.of(WorkerSalary.class, entities.get(Worker.class));
+
+        WorkerSalary salary = converter.toProjection(projection, entity);
+
+        assertThat(salary).isEqualTo(new WorkerSalary("Bob", "Sao Paulo", new Money("BRL", BigDecimal.TEN)));
+    }
+
+    @Test
+    void shouldConvertToProjectionFromSubEntity() {
+        DocumentEntity entity = DocumentEntity.of("Address");
+        entity.add(Document.of("city", "Salvador"));
+        entity.add(Document.of("zipCode", Arrays.asList(Document.of("zip", "12321"))));
+        ProjectionMetadata projection = ProjectionMetadata.of(AddressZip.class, entities.get(Address.class));
+
+        AddressZip zip = converter.toProjection(projection, entity);
+
+        assertThat(zip).isEqualTo(new AddressZip("Salvador", "12321"));
+    }
+
+    @Test
+    void shouldConvertToProjectionWhenDocumentIsMissing() {
+        DocumentEntity entity = DocumentEntity.of("Address");
+        ProjectionMetadata projection = ProjectionMetadata.of(AddressZip.class, entities.get(Address.class));
+
+        AddressZip zip = converter.toProjection(projection, entity);
+
+        assertThat(zip).isEqualTo(new AddressZip(null, null));
+    }
+
     private Object getValue(Optional<Document> document) {
         return document.map(Document::value).map(Value::get).orElse(null);
     }
 
+    record WorkerSalary(String name, @Select("job.city") String city, Money salary) {
+    }
+
+    record AddressZip(String city, @Select("zipCode.zip") String zip) {
+    }
+
 
 }
@@ -0,0 +1,249 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.document;
+
+import jakarta.data.exceptions.NonUniqueResultException;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import org.eclipse.jnosql.communication.document.Document;
+import org.eclipse.jnosql.communication.document.DocumentDeleteQuery;
+import org.eclipse.jnosql.communication.document.DocumentEntity;
+import org.eclipse.jnosql.communication.document.DocumentManager;
+import org.eclipse.jnosql.communication.document.DocumentQuery;
+import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.core.cache.EntityCacheStatistics;
+import org.eclipse.jnosql.mapping.core.spi.EntityMetadataExtension;
+import org.eclipse.jnosql.mapping.document.entities.Country;
+import org.eclipse.jnosql.mapping.document.entities.Currency;
+import org.eclipse.jnosql.mapping.document.entities.Person;
+import org.eclipse.jnosql.mapping.document.spi.DocumentExtension;
+import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.reflection.Reflections;
+import org.jboss.weld.junit5.auto.AddExtensions;
+import org.jboss.weld.junit5.auto.AddPackages;
+import org.jboss.weld.junit5.auto.EnableAutoWeld;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@EnableAutoWeld
+@AddPackages(value = {Converters.class, DocumentEntityConverter.class})
+@AddPackages(MockProducer.class)
+@AddPackages(Reflections.class)
+@AddExtensions({EntityMetadataExtension.class, DocumentExtension.class})
+class DocumentTemplateCacheTest {
+
+    @Inject
+    private DocumentEntityConverter converter;
+
+    @Inject
+    private EntitiesMetadata entities;
+
+    @Inject
+    private Converters converters;
+
+    private DocumentManager manager;
+
+    private DocumentEventPersistManager eventManager;
+
+    private DefaultDocumentTemplate template;
+
+    @BeforeEach
+    void setUp() {
+        manager = Mockito.mock(DocumentManager.class);
+        eventManager = Mockito.mock(DocumentEventPersistManager.class);
+        Instance<DocumentManager> instance = Mockito.mock(Instance.class);
+        when(instance.get()).thenReturn(manager);
+        this.template = new DefaultDocumentTemplate(converter, instance, eventManager, entities, converters);
+    }
+
+    @Test
+    void shouldFindFromCache() {
+        when(manager.select(any(DocumentQuery.class))).thenAnswer(i -> Stream.of(brazil()));
+
+        Optional<Country> first = template.find(Country.class, "BR");
+        Optional<Country> second = template.find(Country.class, "BR");
+
+        assertSoftly(softly -> {
+            softly.assertThat(first).get().extracting(Country::getName).isEqualTo("Brazil");
+            softly.assertThat(second).get().extracting(Country::getName).isEqualTo("Brazil");
+            softly.assertThat(first.orElseThrow()).isNotSameAs(second.orElseThrow());
+        });
+        verify(manager, times(1)).select(any(DocumentQuery.class));
+        verify(eventManager, times(2)).firePostEntity(any(Country.class));
+        EntityCacheStatistics statistics = template.cache().statistics().get("Country");
+        assertThat(statistics.hits()).isEqualTo(1L);
+        assertThat(statistics.misses()).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldNotShareMutableEntity() {
+        when(manager.select(any(DocumentQuery.class))).thenAnswer(i -> Stream.of(brazil()));
+
+        template.find(Country.class, "BR").orElseThrow().setName("changed");
+
+        assertThat(template.find(Country.class, "BR")).get().extracting(Country::getName).isEqualTo("Brazil");
+    }
+
+    @Test
+    void shouldShareImmutableEntity() {
+        DocumentEntity entity = DocumentEntity.of("Currency", List.of(Document.of("_id", "BRL"),
+                Document.of("symbol", "R$")));
+        when(manager.select(any(DocumentQuery.class))).thenAnswer(i -> Stream.of(entity));
+
+        Currency first = template.find(Currency.class, "BRL").orElseThrow();
+        Currency second = template.find(Currency.class, "BRL").orElseThrow();
+
+        assertThat(first).isSameAs(second).isEqualTo(new Currency("BRL", "R$"));
+        verify(manager, times(1)).select(any(DocumentQuery.class));
+    }
+
+    @Test
+    void shouldNotCacheEntityWithoutCacheable() {
+        DocumentEntity entity = DocumentEntity.of("Person", List.of(Document.of("_id", 10L),
+                Document.of("name", "Ada")));
+        when(manager.select(any(DocumentQuery.class))).thenAnswer(i -> Stream.of(entity));
+
+        template.find(Person.class, 10L);
+        template.find(Person.class, 10L);
+
+        verify(manager, times(2)).select(any(DocumentQuery.class));
+        assertThat(template.cache().statistics()).isEmpty();
+    }
+
+    @Test
+    void shouldNotCacheWhenNotFound() {
+        when(manager.select(any(DocumentQuery.class))).thenAnswer(i -> Stream.empty());
+
+        assertThat(template.find(Country.class, "BR")).isEmpty();
+        assertThat(template.find(Country.class, "BR")).isEmpty();
+
+        verify(manager, times(2)).select(any(DocumentQuery.class));
+    }
+
+    @Test
+    void shouldReturnErrorWhenThereIsNoUniqueResult() {
+        when(manager.select(any(DocumentQuery.class))).thenAnswer(i -> Stream.of(brazil(), brazil()));
+
+        assertThatThrownBy(() -> template.find(Country.class, "BR")).isInstanceOf(NonUniqueResultException.class);
+    }
+
+    @Test
+    void shouldEvictOnUpdate() {
+        when(manager.select(any(DocumentQuery.class))).thenAnswer(i -> Stream.of(brazil()));
+        when(manager.update(any(DocumentEntity.class))).thenAnswer(i -> i.getArgument(0));
+        template.find(Country.class, "BR");
+
+        template.update(new Country("BR", "Brasil"));
+        template.find(Country.class, "BR");
+
+        verify(manager, times(2)).select(any(DocumentQuery.class));
+    }
+
+    @Test
+    void shouldEvictOnInsert() {
+        when(manager.select(any(DocumentQuery.class))).thenAnswer(i -> Stream.of(brazil()));
+        when(manager.insert(any(DocumentEntity.class))).thenAnswer(i -> i.getArgument(0));
+        template.find(Country.class, "BR");
+
+        template.insert(new Country("BR", "Brasil"));
+        template.find(Country.class, "BR");
+
+        verify(manager, times(2)).select(any(DocumentQuery.class));
+    }
+
+    @Test
+    void shouldEvictOnDeleteById() {
+        when(manager.select(any(DocumentQuery.class))).thenAnswer(i -> Stream.of(brazil()));
+        template.find(Country.class, "BR");
+
+        template.delete(Country.class, "BR");
+        template.find(Country.class, "BR");
+
+        verify(manager).delete(any(DocumentDeleteQuery.class));
+        verify(manager, times(2)).select(any(DocumentQuery.class));
+    }
+
+    @Test
+    void shouldEvictAllOnDeleteQuery() {
+        when(manager.select(any(DocumentQuery.class))).thenAnswer(i -> Stream.of(brazil()));
+        template.find(Country.class, "BR");
+
+        template.delete(DocumentDeleteQuery.delete().from("Country").build());
+        template.find(Country.class, "BR");
+
+        verify(manager, times(2)).select(any(DocumentQuery.class));
+    }
+
+    @Test
+    void shouldEvictAllOnDeleteAll() {
+        when(manager.select(any(DocumentQuery.class))).thenAnswer(i -> Stream.of(brazil()));
+        template.find(Country.class, "BR");
+
+        template.deleteAll(Country.class);
+        template.find(Country.class, "BR");
+
+        verify(manager, times(2)).select(any(DocumentQuery.class));
+    }
+
+    @Test
+    void shouldEvictAllOnWriteQuery() {
+        when(manager.select(any(DocumentQuery.class))).thenAnswer(i -> Stream.of(brazil()));
+        template.find(Country.class, "BR");
+
+        template.query("delete from Country where _id = \"BR\"");
+        template.find(Country.class, "BR");
+
+        verify(manager, times(2)).select(any(DocumentQuery.class));
+    }
+
+    @Test
+    void shouldKeepCacheOnSelectQuery() {
+        when(manager.select(any(DocumentQuery.class))).thenAnswer(i -> Stream.of(brazil()));
+        template.find(Country.class, "BR");
+
+        template.query("select * from Country").count();
+        template.find(Country.class, "BR");
+
+        verify(manager, times(2)).select(any(DocumentQuery.class));
+    }
+
+    @Test
+    void shouldEvictAllOnPreparedWrite() {
+        when(manager.select(any(DocumentQuery.class))).thenAnswer(i -> Stream.of(brazil()));
+        template.find(Country.class, "BR");
+
+        template.prepare("delete from Country where _id = @id").bind("id", "BR").result();
+        template.find(Country.class, "BR");
+
+        verify(manager, times(2)).select(any(DocumentQuery.class));
+    }
+
+    private static DocumentEntity brazil() {
+        return DocumentEntity.of("Country", List.of(Document.of("_id", "BR"), Document.of("name", "Brazil")));
+    }
+}
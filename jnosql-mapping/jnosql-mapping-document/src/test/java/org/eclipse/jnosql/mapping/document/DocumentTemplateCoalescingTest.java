@@ -0,0 +1,235 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.document;
+
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import org.eclipse.jnosql.communication.document.Document;
+import org.eclipse.jnosql.communication.document.DocumentEntity;
+import org.eclipse.jnosql.communication.document.DocumentManager;
+import org.eclipse.jnosql.communication.document.DocumentQuery;
+import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.core.coalescing.CoalescingStatistics;
+import org.eclipse.jnosql.mapping.core.spi.EntityMetadataExtension;
+import org.eclipse.jnosql.mapping.document.entities.Person;
+import org.eclipse.jnosql.mapping.document.entities.Product;
+import org.eclipse.jnosql.mapping.document.entities.Rate;
+import org.eclipse.jnosql.mapping.document.spi.DocumentExtension;
+import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.reflection.Reflections;
+import org.jboss.weld.junit5.auto.AddExtensions;
+import org.jboss.weld.junit5.auto.AddPackages;
+import org.jboss.weld.junit5.auto.EnableAutoWeld;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.eclipse.jnosql.communication.document.DocumentQuery.select;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@EnableAutoWeld
+@AddPackages(value = {Converters.class, DocumentEntityConverter.class})
+@AddPackages(MockProducer.class)
+@AddPackages(Reflections.class)
+@AddExtensions({EntityMetadataExtension.class, DocumentExtension.class})
+class DocumentTemplateCoalescingTest {
+
+    private static final int THREADS = 4;
+
+    @Inject
+    private DocumentEntityConverter converter;
+
+    @Inject
+    private EntitiesMetadata entities;
+
+    @Inject
+    private Converters converters;
+
+    private DocumentManager manager;
+
+    private DocumentEventPersistManager eventManager;
+
+    private DefaultDocumentTemplate template;
+
+    private ExecutorService executor;
+
+    private CountDownLatch release;
+
+    @BeforeEach
+    void setUp() {
+        manager = Mockito.mock(DocumentManager.class);
+        eventManager = Mockito.mock(DocumentEventPersistManager.class);
+        Instance<DocumentManager> instance = Mockito.mock(Instance.class);
+        when(instance.get()).thenReturn(manager);
+        this.template = new DefaultDocumentTemplate(converter, instance, eventManager, entities, converters);
+        this.executor = Executors.newFixedThreadPool(THREADS);
+        this.release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldCoalesceConcurrentFind() throws Exception {
+        when(manager.select(any(DocumentQuery.class))).thenAnswer(i -> {
+            release.await(10, TimeUnit.SECONDS);
+            return List.of(product()).stream();
+        });
+
+        List<Product> products = concurrently(Product.class,
+                () -> template.find(Product.class, "P1").orElseThrow());
+
+        assertSoftly(softly -> {
+            softly.assertThat(products).extracting(Product::getName).containsOnly("Notebook");
+            softly.assertThat(products).doesNotHaveDuplicates();
+        });
+        verify(manager, times(1)).select(any(DocumentQuery.class));
+        verify(eventManager, times(THREADS)).firePostEntity(any(Product.class));
+        CoalescingStatistics statistics = template.coalescer().statistics().get(Product.class);
+        assertThat(statistics.coalesced()).isEqualTo(THREADS - 1L);
+    }
+
+    @Test
+    void shouldShareImmutableEntity() throws Exception {
+        DocumentEntity entity = DocumentEntity.of("Rate", List.of(Document.of("_id", "BRL"),
+                Document.of("value", 5.1D)));
+        when(manager.select(any(DocumentQuery.class))).thenAnswer(i -> {
+            release.await(10, TimeUnit.SECONDS);
+            return List.of(entity).stream();
+        });
+
+        List<Rate> rates = concurrently(Rate.class, () -> template.find(Rate.class, "BRL").orElseThrow());
+
+        assertThat(rates).allMatch(r -> r == rates.get(0));
+        assertThat(rates.get(0)).isEqualTo(new Rate("BRL", 5.1D));
+        verify(manager, times(1)).select(any(DocumentQuery.class));
+    }
+
+    @Test
+    void shouldCoalesceConcurrentSelect() throws Exception {
+        when(manager.select(any(DocumentQuery.class))).thenAnswer(i -> {
+            release.await(10, TimeUnit.SECONDS);
+            return List.of(product()).stream();
+        });
+        DocumentQuery query = select().from("Product").where("name").eq("Notebook").limit(10).build();
+
+        List<List<Product>> results = concurrently(Product.class, () -> template.<Product>select(query).toList());
+
+        assertThat(results).allSatisfy(r -> assertThat(r).hasSize(1));
+        assertThat(results).extracting(r -> r.get(0)).doesNotHaveDuplicates();
+        verify(manager, times(1)).select(any(DocumentQuery.class));
+    }
+
+    @Test
+    void shouldCoalesceSelectsThatDifferInConditionOrderAndFetchSize() throws Exception {
+        when(manager.select(any(DocumentQuery.class))).thenAnswer(i -> {
+            release.await(10, TimeUnit.SECONDS);
+            return List.of(product()).stream();
+        });
+        List<DocumentQuery> queries = List.of(
+                select().from("Product").where("name").eq("Notebook").and("_id").eq("P1").limit(10).build(),
+                select().from("Product").where("_id").eq("P1").and("name").eq("Notebook").limit(10).fetchSize(50).build());
+        AtomicInteger counter = new AtomicInteger();
+
+        List<List<Product>> results = concurrently(Product.class,
+                () -> template.<Product>select(queries.get(counter.getAndIncrement() % 2)).toList());
+
+        assertThat(results).allSatisfy(r -> assertThat(r).hasSize(1));
+        verify(manager, times(1)).select(any(DocumentQuery.class));
+    }
+
+    @Test
+    void shouldNotCoalesceSelectWithoutLimit() {
+        when(manager.select(any(DocumentQuery.class))).thenAnswer(i -> List.of(product()).stream());
+
+        template.select(select().from("Product").where("name").eq("Notebook").build()).toList();
+
+        verify(manager, times(1)).select(any(DocumentQuery.class));
+        assertThat(template.coalescer().statistics()).doesNotContainKey(Product.class);
+    }
+
+    @Test
+    void shouldNotCoalesceSequentialReads() {
+        when(manager.select(any(DocumentQuery.class))).thenAnswer(i -> List.of(product()).stream());
+
+        template.find(Product.class, "P1");
+        template.find(Product.class, "P1");
+
+        verify(manager, times(2)).select(any(DocumentQuery.class));
+        assertThat(template.coalescer().statistics().get(Product.class).coalesced()).isZero();
+    }
+
+    @Test
+    void shouldNotCoalesceEntityWithoutAnnotation() {
+        DocumentEntity entity = DocumentEntity.of("Person", List.of(Document.of("_id", 10L),
+                Document.of("name", "Ada")));
+        when(manager.select(any(DocumentQuery.class))).thenAnswer(i -> List.of(entity).stream());
+
+        template.find(Person.class, 10L);
+        template.select(select().from("Person").build()).toList();
+
+        verify(manager, times(2)).select(any(DocumentQuery.class));
+        assertThat(template.coalescer().statistics()).isEmpty();
+    }
+
+    private <T> List<T> concurrently(Class<?> type, Callable<T> task) throws Exception {
+        List<Future<T>> futures = new ArrayList<>();
+        for (int index = 0; index < THREADS; index++) {
+            futures.add(executor.submit(task));
+        }
+        awaitRequests(type);
+        release.countDown();
+        List<T> results = new ArrayList<>();
+        for (Future<T> future : futures) {
+            results.add(future.get(10, TimeUnit.SECONDS));
+        }
+        return results;
+    }
+
+    private void awaitRequests(Class<?> type) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (System.nanoTime() < deadline) {
+            CoalescingStatistics statistics = template.coalescer().statistics().get(type);
+            if (statistics != null && statistics.requests() >= THREADS) {
+                return;
+            }
+            TimeUnit.MILLISECONDS.sleep(1);
+        }
+        throw new AssertionError("The reads did not arrive in time");
+    }
+
+    private static DocumentEntity product() {
+        return DocumentEntity.of("Product", List.of(Document.of("_id", "P1"), Document.of("name", "Notebook")));
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.document;
+
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import org.eclipse.jnosql.communication.document.Document;
+import org.eclipse.jnosql.communication.document.DocumentDeleteQuery;
+import org.eclipse.jnosql.communication.document.DocumentEntity;
+import org.eclipse.jnosql.communication.document.DocumentManager;
+import org.eclipse.jnosql.communication.document.DocumentQuery;
+import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.core.cache.QueryCacheStatistics;
+import org.eclipse.jnosql.mapping.core.spi.EntityMetadataExtension;
+import org.eclipse.jnosql.mapping.document.entities.Category;
+import org.eclipse.jnosql.mapping.document.entities.Person;
+import org.eclipse.jnosql.mapping.document.spi.DocumentExtension;
+import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.reflection.Reflections;
+import org.jboss.weld.junit5.auto.AddExtensions;
+import org.jboss.weld.junit5.auto.AddPackages;
+import org.jboss.weld.junit5.auto.EnableAutoWeld;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.eclipse.jnosql.communication.document.DocumentQuery.select;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@EnableAutoWeld
+@AddPackages(value = {Converters.class, DocumentEntityConverter.class})
+@AddPackages(MockProducer.class)
+@AddPackages(Reflections.class)
+@AddExtensions({EntityMetadataExtension.class, DocumentExtension.class})
+class DocumentTemplateQueryCacheTest {
+
+    private static final DocumentQuery QUERY = select().from("Category").where("name").eq("Books").limit(10).build();
+
+    @Inject
+    private DocumentEntityConverter converter;
+
+    @Inject
+    private EntitiesMetadata entities;
+
+    @Inject
+    private Converters converters;
+
+    private DocumentManager manager;
+
+    private DocumentEventPersistManager eventManager;
+
+    private DefaultDocumentTemplate template;
+
+    @BeforeEach
+    void setUp() {
+        manager = Mockito.mock(DocumentManager.class);
+        eventManager = Mockito.mock(DocumentEventPersistManager.class);
+        Instance<DocumentManager> instance = Mockito.mock(Instance.class);
+        when(instance.get()).thenReturn(manager);
+        this.template = new DefaultDocumentTemplate(converter, instance, eventManager, entities, converters);
+        when(manager.select(any(DocumentQuery.class))).thenAnswer(i -> Stream.of(books()));
+    }
+
+    @Test
+    void shouldSelectFromCache() {
+        List<Category> first = template.<Category>select(QUERY).toList();
+        List<Category> second = template.<Category>select(QUERY).toList();
+
+        assertSoftly(softly -> {
+            softly.assertThat(first).extracting(Category::getName).containsExactly("Books");
+            softly.assertThat(second).extracting(Category::getName).containsExactly("Books");
+            softly.assertThat(first.get(0)).isNotSameAs(second.get(0));
+        });
+        verify(manager, times(1)).select(any(DocumentQuery.class));
+        verify(eventManager, times(2)).firePostEntity(any(Category.class));
+        QueryCacheStatistics statistics = template.queryCache().statistics().get("Category");
+        assertThat(statistics.hits()).isEqualTo(1L);
+        assertThat(statistics.misses()).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldNotShareMutableEntity() {
+        template.<Category>select(QUERY).findFirst().orElseThrow().setName("changed");
+
+        assertThat(template.<Category>select(QUERY).findFirst()).get()
+                .extracting(Category::getName).isEqualTo("Books");
+    }
+
+    @Test
+    void shouldUseCacheAtSingleResult() {
+        template.singleResult(QUERY);
+        template.singleResult(QUERY);
+
+        verify(manager, times(1)).select(any(DocumentQuery.class));
+    }
+
+    @Test
+    void shouldNotShareDifferentQueries() {
+        template.select(QUERY).toList();
+        template.select(select().from("Category").where("name").eq("Music").build()).toList();
+
+        verify(manager, times(2)).select(any(DocumentQuery.class));
+    }
+
+    @Test
+    void shouldShareQueriesThatDifferInConditionOrderAndFetchSize() {
+        template.select(select().from("Category").where("name").eq("Books").and("_id").eq("C1").limit(10).build()).toList();
+        template.select(select().from("Category").where("_id").eq("C1").and("name").eq("Books").limit(10).fetchSize(10).build())
+                .toList();
+
+        verify(manager, times(1)).select(any(DocumentQuery.class));
+        assertThat(template.queryCache().statistics().get("Category").rows()).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldStreamSelectWithoutLimit() {
+        DocumentQuery query = select().from("Category").where("name").eq("Books").build();
+
+        template.select(query).toList();
+        template.select(query).toList();
+
+        verify(manager, times(2)).select(any(DocumentQuery.class));
+        assertThat(template.queryCache().statistics()).isEmpty();
+    }
+
+    @Test
+    void shouldStreamSelectAboveMaximumRows() {
+        DocumentQuery query = select().from("Category").where("name").eq("Books").limit(10_001).build();
+
+        template.select(query).toList();
+        template.select(query).toList();
+
+        verify(manager, times(2)).select(any(DocumentQuery.class));
+        assertThat(template.queryCache().statistics()).isEmpty();
+    }
+
+    @Test
+    void shouldNotCacheEntityWithoutQueryCacheable() {
+        DocumentEntity entity = DocumentEntity.of("Person", List.of(Document.of("_id", 10L),
+                Document.of("name", "Ada")));
+        when(manager.select(any(DocumentQuery.class))).thenAnswer(i -> Stream.of(entity));
+        DocumentQuery query = select().from("Person").build();
+
+        template.select(query).toList();
+        template.select(query).toList();
+
+        verify(manager, times(2)).select(any(DocumentQuery.class));
+        assertThat(template.queryCache().statistics()).isEmpty();
+    }
+
+    @Test
+    void shouldEvictOnInsert() {
+        when(manager.insert(any(DocumentEntity.class))).thenAnswer(i -> i.getArgument(0));
+        template.select(QUERY).toList();
+
+        template.insert(new Category("music", "Music"));
+        template.select(QUERY).toList();
+
+        verify(manager, times(2)).select(any(DocumentQuery.class));
+    }
+
+    @Test
+    void shouldEvictOnUpdate() {
+        when(manager.update(any(DocumentEntity.class))).thenAnswer(i -> i.getArgument(0));
+        template.select(QUERY).toList();
+
+        template.update(new Category("books", "Novels"));
+        template.select(QUERY).toList();
+
+        verify(manager, times(2)).select(any(DocumentQuery.class));
+    }
+
+    @Test
+    void shouldEvictOnDeleteById() {
+        template.select(QUERY).toList();
+
+        template.delete(Category.class, "books");
+        template.select(QUERY).toList();
+
+        verify(manager, times(2)).select(any(DocumentQuery.class));
+    }
+
+    @Test
+    void shouldEvictOnDeleteQuery() {
+        template.select(QUERY).toList();
+
+        template.delete(DocumentDeleteQuery.delete().from("Category").build());
+        template.select(QUERY).toList();
+
+        verify(manager, times(2)).select(any(DocumentQuery.class));
+    }
+
+    @Test
+    void shouldEvictOnDeleteAll() {
+        template.select(QUERY).toList();
+
+        template.deleteAll(Category.class);
+        template.select(QUERY).toList();
+
+        verify(manager, times(2)).select(any(DocumentQuery.class));
+    }
+
+    @Test
+    void shouldEvictOnTextWrite() {
+        template.select(QUERY).toList();
+
+        template.query("delete from Category");
+        template.select(QUERY).toList();
+
+        verify(manager, times(2)).select(any(DocumentQuery.class));
+    }
+
+    @Test
+    void shouldNotEvictOtherCollection() {
+        template.select(QUERY).toList();
+
+        template.delete(Person.class, 10L);
+        template.select(QUERY).toList();
+
+        verify(manager, times(1)).select(any(DocumentQuery.class));
+    }
+
+    private static DocumentEntity books() {
+        return DocumentEntity.of("Category", List.of(Document.of("_id", "books"), Document.of("name", "Books")));
+    }
+}
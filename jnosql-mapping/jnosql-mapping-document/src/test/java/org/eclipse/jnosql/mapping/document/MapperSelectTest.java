@@ -16,6 +16,7 @@ package org.eclipse.jnosql.mapping.document;
 
 import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
+import org.eclipse.jnosql.communication.QueryHints;
 import org.eclipse.jnosql.communication.document.DocumentEntity;
 import org.eclipse.jnosql.communication.document.DocumentManager;
 import org.eclipse.jnosql.communication.document.DocumentQuery;
@@ -90,6 +91,17 @@ class MapperSelectTest {
         assertEquals(queryExpected, query);
     }
 
+    @Test
+    void shouldSelectWithHints() {
+        QueryHints hints = QueryHints.empty().with(QueryHints.FETCH_SIZE, 500);
+        template.select(Person.class, hints).where("name").eq("Ada").result();
+        DocumentQuery queryExpected = select().from("Person").where("name").eq("Ada").fetchSize(500).build();
+        Mockito.verify(managerMock).select(captor.capture());
+        DocumentQuery query = captor.getValue();
+        assertEquals(queryExpected, query);
+        assertEquals(hints, query.hints());
+    }
+
     @Test
     void shouldSelectOrderAsc() {
         template.select(Worker.class).orderBy("salary").asc().result();
@@ -17,6 +17,7 @@ package org.eclipse.jnosql.mapping.document.configuration;
 import jakarta.data.exceptions.MappingException;
 import jakarta.inject.Inject;
 import org.eclipse.jnosql.communication.document.DocumentManager;
+import org.eclipse.jnosql.communication.document.InstrumentedDocumentManager;
 import org.eclipse.jnosql.mapping.core.Converters;
 import org.eclipse.jnosql.mapping.document.DocumentEntityConverter;
 import org.eclipse.jnosql.mapping.document.MockProducer;
@@ -57,7 +58,8 @@ class DocumentManagerSupplierTest {
         System.setProperty(DOCUMENT_DATABASE.get(), "database");
         DocumentManager manager = supplier.get();
         Assertions.assertNotNull(manager);
-        assertThat(manager).isInstanceOf(DocumentConfigurationMock.DocumentManagerMock.class);
+        assertThat(manager).isInstanceOf(InstrumentedDocumentManager.class);
+        assertThat(((InstrumentedDocumentManager) manager).manager()).isInstanceOf(DocumentConfigurationMock.DocumentManagerMock.class);
     }
 
 
@@ -67,7 +69,8 @@ class DocumentManagerSupplierTest {
         System.setProperty(DOCUMENT_DATABASE.get(), "database");
         DocumentManager manager = supplier.get();
         Assertions.assertNotNull(manager);
-        assertThat(manager).isInstanceOf(DocumentConfigurationMock2.DocumentManagerMock.class);
+        assertThat(manager).isInstanceOf(InstrumentedDocumentManager.class);
+        assertThat(((InstrumentedDocumentManager) manager).manager()).isInstanceOf(DocumentConfigurationMock2.DocumentManagerMock.class);
     }
 
     @Test
@@ -75,7 +78,8 @@ class DocumentManagerSupplierTest {
         System.setProperty(DOCUMENT_DATABASE.get(), "database");
         DocumentManager manager = supplier.get();
         Assertions.assertNotNull(manager);
-        assertThat(manager).isInstanceOf(DocumentConfigurationMock2.DocumentManagerMock.class);
+        assertThat(manager).isInstanceOf(InstrumentedDocumentManager.class);
+        assertThat(((InstrumentedDocumentManager) manager).manager()).isInstanceOf(DocumentConfigurationMock2.DocumentManagerMock.class);
     }
 
     @Test
@@ -126,56 +126,31 @@ class DocumentCrudRepositoryProxyTest {
 
 
     @Test
-    void shouldSaveUsingInsertWhenDataDoesNotExist() {
-        when(template.find(Person.class, 10L))
-                .thenReturn(Optional.empty());
-
-
+    void shouldSaveUsingUpsert() {
         ArgumentCaptor<Person> captor = ArgumentCaptor.forClass(Person.class);
         Person person = Person.builder().withName("Ada")
                 .withId(10L)
                 .withPhones(singletonList("123123"))
                 .build();
-        assertNotNull(personRepository.save(person));
-        verify(template).insert(captor.capture());
-        Person value = captor.getValue();
-        assertEquals(person, value);
-    }
-
-    @Test
-    void shouldSaveUsingUpdateWhenDataExists() {
-        when(template.find(Person.class, 10L))
-                .thenReturn(Optional.of(Person.builder().build()));
+        when(template.upsert(person)).thenReturn(person);
 
-        ArgumentCaptor<Person> captor = ArgumentCaptor.forClass(Person.class);
-        Person person = Person.builder().withName("Ada")
-                .withId(10L)
-                .withPhones(singletonList("123123"))
-                .build();
         assertNotNull(personRepository.save(person));
-        verify(template).update(captor.capture());
+        verify(template).upsert(captor.capture());
+        verify(template, Mockito.never()).find(Person.class, 10L);
         Person value = captor.getValue();
         assertEquals(person, value);
     }
 
     @Test
     void shouldSaveIterable() {
-
-        when(personRepository.findById(10L)).thenReturn(Optional.empty());
-
-        when(template.singleResult(Mockito.any(DocumentQuery.class))).thenReturn(Optional.empty());
-
-        ArgumentCaptor<Person> captor = ArgumentCaptor.forClass(Person.class);
-
         Person person = Person.builder().withName("Ada")
                 .withId(10L)
                 .withPhones(singletonList("123123"))
                 .build();
-        personRepository.saveAll(singletonList(person));
-        verify(template).insert(captor.capture());
-        verify(template).insert(captor.capture());
-        Person personCapture = captor.getValue();
-        assertEquals(person, personCapture);
+        when(template.upsert(singletonList(person))).thenReturn(singletonList(person));
+
+        assertThat(personRepository.saveAll(singletonList(person))).containsExactly(person);
+        verify(template).upsert(singletonList(person));
     }
 
     @Test
@@ -868,7 +843,7 @@ class DocumentCrudRepositoryProxyTest {
                 .withPhones(singletonList("123123"))
                 .build();
         personRepository.savePerson(person);
-        Mockito.verify(template).insert(person);
+        Mockito.verify(template).upsert(person);
     }
 
 
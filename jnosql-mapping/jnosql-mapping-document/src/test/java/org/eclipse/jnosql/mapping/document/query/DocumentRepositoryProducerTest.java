@@ -17,6 +17,7 @@ package org.eclipse.jnosql.mapping.document.query;
 import jakarta.inject.Inject;
 import org.eclipse.jnosql.communication.document.DocumentManager;
 import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.core.query.GeneratedRepository;
 import org.eclipse.jnosql.mapping.document.DocumentEntityConverter;
 import org.eclipse.jnosql.mapping.document.JNoSQLDocumentTemplate;
 import org.eclipse.jnosql.mapping.document.MockProducer;
@@ -30,6 +31,10 @@ import org.jboss.weld.junit5.auto.EnableAutoWeld;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import java.lang.reflect.Proxy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 @EnableAutoWeld
@@ -57,4 +62,12 @@ class DocumentRepositoryProducerTest {
         PersonRepository personRepository = producer.get(PersonRepository.class, template);
         assertNotNull(personRepository);
     }
+
+    @Test
+    void shouldUseGeneratedRepository() {
+        JNoSQLDocumentTemplate template = Mockito.mock(JNoSQLDocumentTemplate.class);
+        PersonRepository personRepository = producer.get(PersonRepository.class, template);
+        assertFalse(Proxy.isProxyClass(personRepository.getClass()));
+        assertEquals(GeneratedRepository.name(PersonRepository.class), personRepository.getClass().getName());
+    }
 }
@@ -15,6 +15,7 @@
 package org.eclipse.jnosql.mapping.document.query;
 
 import jakarta.data.Limit;
+import jakarta.data.page.KeysetAwarePage;
 import jakarta.data.page.Page;
 import jakarta.data.page.Pageable;
 import jakarta.data.repository.PageableRepository;
@@ -41,6 +42,8 @@ import org.eclipse.jnosql.mapping.core.spi.EntityMetadataExtension;
 import org.jboss.weld.junit5.auto.AddExtensions;
 import org.jboss.weld.junit5.auto.AddPackages;
 import org.jboss.weld.junit5.auto.EnableAutoWeld;
+import org.eclipse.jnosql.mapping.core.config.MappingConfigurations;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -55,6 +58,8 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -516,6 +521,107 @@ class DocumentRepositoryProxyPageableTest {
         assertNull(personRepository.findByName("name", pagination));
     }
 
+    @AfterEach
+    void tearDown() {
+        System.clearProperty(MappingConfigurations.PAGE_TOTAL.get());
+    }
+
+    @Test
+    void shouldReturnPageWithTotals() {
+        System.setProperty(MappingConfigurations.PAGE_TOTAL.get(), "always");
+        Person ada = Person.builder().withAge(20).withName("Ada").build();
+        when(template.select(any(DocumentQuery.class))).thenReturn(Stream.of(ada));
+        when(template.count(any(DocumentQuery.class))).thenReturn(7L);
+
+        Pageable pagination = getPageable();
+        Page<Person> page = personRepository.findByNameOrderByAge("name", pagination);
+
+        ArgumentCaptor<DocumentQuery> captor = ArgumentCaptor.forClass(DocumentQuery.class);
+        verify(template).count(captor.capture());
+        DocumentQuery countQuery = captor.getValue();
+        assertEquals(7L, page.totalElements());
+        assertEquals(2L, page.totalPages());
+        assertEquals(0, countQuery.skip());
+        assertEquals(0, countQuery.limit());
+        assertThat(countQuery.sorts()).isEmpty();
+        assertEquals(DocumentCondition.eq("name", "name"), countQuery.condition().orElseThrow());
+    }
+
+    @Test
+    void shouldReturnPageWithoutTotalsByDefault() {
+        when(template.select(any(DocumentQuery.class))).thenReturn(Stream.of(Person.builder().build()));
+
+        Page<Person> page = personRepository.findByNameOrderByAge("name", getPageable());
+
+        assertThrows(UnsupportedOperationException.class, page::totalElements);
+        verify(template, Mockito.never()).count(any(DocumentQuery.class));
+    }
+
+    @Test
+    void shouldFindKeysetPageOnFirstPage() {
+        Person ada = Person.builder().withId(1L).withAge(20).withName("Ada").build();
+        Person otavio = Person.builder().withId(2L).withAge(20).withName("Otavio").build();
+        when(template.select(any(DocumentQuery.class))).thenReturn(Stream.of(ada, otavio));
+
+        KeysetAwarePage<Person> page = personRepository.findByAgeOrderByName(20, Pageable.ofSize(2));
+
+        ArgumentCaptor<DocumentQuery> captor = ArgumentCaptor.forClass(DocumentQuery.class);
+        verify(template).select(captor.capture());
+        DocumentQuery query = captor.getValue();
+        assertEquals(0, query.skip());
+        assertEquals(2, query.limit());
+        assertThat(query.sorts()).containsExactly(Sort.asc("name"), Sort.asc("_id"));
+        assertThat(page.content()).containsExactly(ada, otavio);
+        Pageable next = page.nextPageable();
+        assertEquals(Pageable.Mode.CURSOR_NEXT, next.mode());
+        assertEquals("Otavio", next.cursor().orElseThrow().getKeysetElement(0));
+        assertEquals(2L, next.cursor().orElseThrow().getKeysetElement(1));
+    }
+
+    @Test
+    void shouldFindKeysetPageAfterCursor() {
+        Person poliana = Person.builder().withId(3L).withAge(20).withName("Poliana").build();
+        when(template.select(any(DocumentQuery.class))).thenReturn(Stream.of(poliana));
+
+        Pageable pageable = Pageable.ofSize(2).afterKeyset("Otavio", 2L).page(2);
+        KeysetAwarePage<Person> page = personRepository.findByAgeOrderByName(20, pageable);
+
+        ArgumentCaptor<DocumentQuery> captor = ArgumentCaptor.forClass(DocumentQuery.class);
+        verify(template).select(captor.capture());
+        DocumentQuery query = captor.getValue();
+        assertEquals(0, query.skip());
+        assertEquals(2, query.limit());
+        assertThat(query.sorts()).containsExactly(Sort.asc("name"), Sort.asc("_id"));
+
+        DocumentCondition condition = query.condition().orElseThrow();
+        assertEquals(AND, condition.condition());
+        List<DocumentCondition> conditions = condition.document().get(new TypeReference<>() {
+        });
+        assertEquals(DocumentCondition.eq("age", 20), conditions.get(0));
+        assertEquals(DocumentCondition.or(DocumentCondition.gt("name", "Otavio"),
+                DocumentCondition.and(DocumentCondition.eq("name", "Otavio"), DocumentCondition.gt("_id", 2L))),
+                conditions.get(1));
+        assertThat(page.content()).containsExactly(poliana);
+        assertNull(page.nextPageable());
+    }
+
+    @Test
+    void shouldFindKeysetPageBeforeCursor() {
+        Person ada = Person.builder().withId(1L).withAge(20).withName("Ada").build();
+        Person otavio = Person.builder().withId(2L).withAge(20).withName("Otavio").build();
+        when(template.select(any(DocumentQuery.class))).thenReturn(Stream.of(otavio, ada));
+
+        Pageable pageable = Pageable.ofSize(2).beforeKeyset("Poliana", 3L).page(2);
+        KeysetAwarePage<Person> page = personRepository.findByAgeOrderByName(20, pageable);
+
+        ArgumentCaptor<DocumentQuery> captor = ArgumentCaptor.forClass(DocumentQuery.class);
+        verify(template).select(captor.capture());
+        DocumentQuery query = captor.getValue();
+        assertEquals(0, query.skip());
+        assertThat(query.sorts()).containsExactly(Sort.desc("name"), Sort.desc("_id"));
+        assertThat(page.content()).containsExactly(ada, otavio);
+    }
+
     @Test
     void shouldFindByNameSort() {
         when(template.singleResult(any(DocumentQuery.class))).thenReturn(Optional
@@ -592,6 +698,25 @@ class DocumentRepositoryProxyPageableTest {
         assertEquals(Document.of("name", "name"), condition.document());
     }
 
+    @Test
+    void shouldShareTheSameStateAcrossThreads() {
+        DocumentRepositoryProxy<?, ?> handler = new DocumentRepositoryProxy<>(template, entities, PersonRepository.class, converters);
+        CountDownLatch start = new CountDownLatch(1);
+        List<CompletableFuture<List<Object>>> calls = Stream.generate(() -> CompletableFuture.supplyAsync(() -> {
+            try {
+                start.await();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+            return List.<Object>of(handler.parser(), handler.paramsBinder(), handler.pageTotals());
+        })).limit(8).toList();
+        start.countDown();
+
+        Set<List<Object>> states = calls.stream().map(CompletableFuture::join).collect(Collectors.toSet());
+
+        assertThat(states).hasSize(1);
+    }
+
     @Test
     void shouldFindByNameLimit3() {
         when(template.singleResult(any(DocumentQuery.class))).thenReturn(Optional
@@ -628,6 +753,8 @@ class DocumentRepositoryProxyPageableTest {
 
         Page<Person> findByNameOrderByAge(String name, Pageable Pageable);
 
+        KeysetAwarePage<Person> findByAgeOrderByName(Integer age, Pageable pageable);
+
         Slice<Person> findByAge(String age, Pageable Pageable);
 
         List<Person> findByNameAndAge(String name, Integer age, Pageable Pageable);
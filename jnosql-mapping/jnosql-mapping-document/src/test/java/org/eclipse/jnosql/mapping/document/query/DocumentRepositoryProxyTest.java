@@ -14,6 +14,9 @@
  */
 package org.eclipse.jnosql.mapping.document.query;
 
+import jakarta.data.exceptions.MappingException;
+import jakarta.data.page.KeysetAwareSlice;
+import jakarta.data.page.Pageable;
 import jakarta.data.repository.By;
 import jakarta.data.repository.PageableRepository;
 import jakarta.data.repository.Param;
@@ -23,17 +26,21 @@ import jakarta.inject.Inject;
 import jakarta.nosql.PreparedStatement;
 import org.assertj.core.api.SoftAssertions;
 import org.eclipse.jnosql.communication.Condition;
+import org.eclipse.jnosql.communication.QueryHints;
 import org.eclipse.jnosql.communication.TypeReference;
 import org.eclipse.jnosql.communication.Value;
 import org.eclipse.jnosql.communication.document.Document;
 import org.eclipse.jnosql.communication.document.DocumentCondition;
 import org.eclipse.jnosql.communication.document.DocumentDeleteQuery;
 import org.eclipse.jnosql.communication.document.DocumentQuery;
+import org.eclipse.jnosql.mapping.DatabaseQualifier;
+import org.eclipse.jnosql.mapping.QueryHint;
 import org.eclipse.jnosql.mapping.core.Converters;
 import org.eclipse.jnosql.mapping.document.DocumentEntityConverter;
 import org.eclipse.jnosql.mapping.document.JNoSQLDocumentTemplate;
 import org.eclipse.jnosql.mapping.document.MockProducer;
 import org.eclipse.jnosql.mapping.document.entities.Person;
+import org.eclipse.jnosql.mapping.document.entities.PersonSummary;
 import org.eclipse.jnosql.mapping.document.entities.PersonStatisticRepository;
 import org.eclipse.jnosql.mapping.document.entities.Vendor;
 import org.eclipse.jnosql.mapping.document.spi.DocumentExtension;
@@ -58,6 +65,8 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -111,60 +120,49 @@ class DocumentRepositoryProxyTest {
 
 
     @Test
-    void shouldSaveUsingInsertWhenDataDoesNotExist() {
-        when(template.find(Person.class, 10L))
-                .thenReturn(Optional.empty());
-
-
+    void shouldSaveUsingUpsert() {
         ArgumentCaptor<Person> captor = ArgumentCaptor.forClass(Person.class);
         Person person = Person.builder().withName("Ada")
                 .withId(10L)
                 .withPhones(singletonList("123123"))
                 .build();
+        when(template.upsert(person)).thenReturn(person);
+
         assertNotNull(personRepository.save(person));
-        verify(template).insert(captor.capture());
+        verify(template).upsert(captor.capture());
+        verify(template, Mockito.never()).find(Person.class, 10L);
         Person value = captor.getValue();
         assertEquals(person, value);
     }
 
     @Test
-    void shouldSaveUsingUpdateWhenDataExists() {
-        when(template.find(Person.class, 10L))
-                .thenReturn(Optional.of(Person.builder().build()));
-
-        ArgumentCaptor<Person> captor = ArgumentCaptor.forClass(Person.class);
+    void shouldSaveIterable() {
         Person person = Person.builder().withName("Ada")
                 .withId(10L)
                 .withPhones(singletonList("123123"))
                 .build();
-        assertNotNull(personRepository.save(person));
-        verify(template).update(captor.capture());
-        Person value = captor.getValue();
-        assertEquals(person, value);
+        when(template.upsert(singletonList(person))).thenReturn(singletonList(person));
+
+        assertThat(personRepository.saveAll(singletonList(person))).containsExactly(person);
+        verify(template).upsert(singletonList(person));
     }
 
 
     @Test
-    void shouldSaveIterable() {
-
-        when(personRepository.findById(10L)).thenReturn(Optional.empty());
+    void shouldFindCompletionStage() throws Exception {
+        Person ada = Person.builder().withName("Ada").build();
+        when(template.singleResult(any(DocumentQuery.class))).thenReturn(Optional.of(ada));
 
-        when(template.singleResult(Mockito.any(DocumentQuery.class))).thenReturn(Optional.empty());
+        CompletionStage<Person> stage = personRepository.findByNameAndAgeLessThan("Ada", 33);
 
-        ArgumentCaptor<Person> captor = ArgumentCaptor.forClass(Person.class);
-
-        Person person = Person.builder().withName("Ada")
-                .withId(10L)
-                .withPhones(singletonList("123123"))
-                .build();
-        personRepository.saveAll(singletonList(person));
-        verify(template).insert(captor.capture());
-        verify(template).insert(captor.capture());
-        Person personCapture = captor.getValue();
-        assertEquals(person, personCapture);
+        assertEquals(ada, stage.toCompletableFuture().get(5, TimeUnit.SECONDS));
+        ArgumentCaptor<DocumentQuery> captor = ArgumentCaptor.forClass(DocumentQuery.class);
+        verify(template).singleResult(captor.capture());
+        DocumentCondition condition = captor.getValue().condition().orElseThrow();
+        assertEquals("Person", captor.getValue().name());
+        assertEquals(AND, condition.condition());
     }
 
-
     @Test
     void shouldFindByNameInstance() {
 
@@ -190,6 +188,41 @@ class DocumentRepositoryProxyTest {
 
     }
 
+    @Test
+    void shouldFindProjection() {
+        when(template.select(any(DocumentQuery.class), eq(PersonSummary.class)))
+                .thenReturn(Stream.of(new PersonSummary("Ada", 10)));
+
+        List<PersonSummary> summaries = personRepository.findByNameOrderByAge("Ada");
+
+        assertThat(summaries).containsExactly(new PersonSummary("Ada", 10));
+        ArgumentCaptor<DocumentQuery> captor = ArgumentCaptor.forClass(DocumentQuery.class);
+        verify(template).select(captor.capture(), eq(PersonSummary.class));
+        verify(template, never()).select(any(DocumentQuery.class));
+        DocumentQuery query = captor.getValue();
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(query.name()).isEqualTo("Person");
+            soft.assertThat(query.condition()).get().extracting(c -> c.document().name()).isEqualTo("name");
+            soft.assertThat(query.condition()).get().extracting(c -> c.document().get()).isEqualTo("Ada");
+            soft.assertThat(query.sorts()).containsExactly(Sort.asc("age"));
+        });
+    }
+
+    @Test
+    void shouldFindSingleProjection() {
+        when(template.singleResult(any(DocumentQuery.class), eq(PersonSummary.class)))
+                .thenReturn(Optional.of(new PersonSummary("Ada", 10)));
+
+        assertThat(personRepository.findByPhones("123")).contains(new PersonSummary("Ada", 10));
+        verify(template).singleResult(any(DocumentQuery.class), eq(PersonSummary.class));
+    }
+
+    @Test
+    void shouldReturnErrorWhenProjectionUsesKeyset() {
+        assertThrows(MappingException.class, () -> personRepository.findByAgeGreaterThanEqual(10,
+                Pageable.ofSize(10).afterKeyset(10)));
+    }
+
     @Test
     void shouldFindByNameANDAge() {
         Person ada = Person.builder()
@@ -280,6 +313,17 @@ class DocumentRepositoryProxyTest {
         verify(template, times(4)).find(Mockito.eq(Person.class), any(Long.class));
     }
 
+    @Test
+    void shouldKeyTheBulkheadByTheDatabase() {
+        DatabaseQualifier qualifier = DatabaseQualifier.ofDocument("provider");
+        DocumentRepositoryProxy<Person, Long> handler = new DocumentRepositoryProxy<>(template,
+                entities, PersonRepository.class, converters, qualifier);
+        assertThat(handler.database()).isSameAs(qualifier);
+        assertThat(((DocumentRepositoryProxy.DocumentRepository<Person, Long>) handler.repository()).database()).isSameAs(qualifier);
+        assertThat(new DocumentRepositoryProxy<Person, Long>(template, entities, PersonRepository.class, converters).database())
+                .isSameAs(template);
+    }
+
     @Test
     void shouldDeleteById() {
         personRepository.deleteById(10L);
@@ -414,6 +458,20 @@ class DocumentRepositoryProxyTest {
 
     }
 
+    @Test
+    void shouldFindWithQueryHints() {
+        when(template.select(any(DocumentQuery.class))).thenReturn(Stream.of(Person.builder().build()));
+
+        personRepository.findByAgeOrderByName(33).toList();
+        ArgumentCaptor<DocumentQuery> captor = ArgumentCaptor.forClass(DocumentQuery.class);
+        verify(template).select(captor.capture());
+        DocumentQuery query = captor.getValue();
+        assertEquals("Person", query.name());
+        assertEquals(500, query.fetchSize());
+        assertEquals(Duration.ofSeconds(2), query.hints().timeout().orElseThrow());
+        assertEquals("quorum", query.hints().consistencyLevel().orElseThrow());
+    }
+
     @Test
     void shouldFindByAgeLessThanEqual() {
         Person ada = Person.builder()
@@ -741,6 +799,8 @@ class DocumentRepositoryProxyTest {
 
         Person findByName(String name);
 
+        CompletionStage<Person> findByNameAndAgeLessThan(String name, Integer age);
+
         List<Person> findByAge(String age);
 
         void deleteByName(String name);
@@ -761,6 +821,11 @@ class DocumentRepositoryProxyTest {
 
         Set<Person> findByAgeLessThan(Integer age);
 
+        @QueryHint(name = QueryHints.FETCH_SIZE, value = "500")
+        @QueryHint(name = QueryHints.TIMEOUT, value = "PT2S")
+        @QueryHint(name = QueryHints.CONSISTENCY_LEVEL, value = "quorum")
+        Stream<Person> findByAgeOrderByName(Integer age);
+
         Set<Person> findByAgeBetween(Integer ageA, Integer ageB);
 
         Set<Person> findByNameLike(String name);
@@ -776,6 +841,12 @@ class DocumentRepositoryProxyTest {
         List<Person> findByActiveTrue();
 
         List<Person> find(@By("name") String name);
+
+        List<PersonSummary> findByNameOrderByAge(String name);
+
+        Optional<PersonSummary> findByPhones(String phone);
+
+        KeysetAwareSlice<PersonSummary> findByAgeGreaterThanEqual(Integer age, Pageable pageable);
     }
 
     public interface VendorRepository extends PageableRepository<Vendor, String> {
@@ -18,6 +18,8 @@ import jakarta.data.exceptions.EmptyResultException;
 import jakarta.data.exceptions.NonUniqueResultException;
 import jakarta.nosql.PreparedStatement;
 import jakarta.nosql.QueryMapper;
+import org.eclipse.jnosql.communication.Instrumentation;
+import org.eclipse.jnosql.communication.Measurement;
 import org.eclipse.jnosql.mapping.core.Converters;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
@@ -72,25 +74,37 @@ public abstract class AbstractGraphTemplate implements GraphTemplate {
 
     protected abstract GraphEventPersistManager getEventManager();
 
-    private GremlinExecutor gremlinExecutor;
+    /**
+     * Returns the instrumentation that the operations of this template report to, by default none
+     *
+     * @return the {@link Instrumentation} instance
+     */
+    protected Instrumentation getInstrumentation() {
+        return Instrumentation.noop();
+    }
+
+    private volatile GremlinExecutor gremlinExecutor;
 
     private GremlinExecutor getExecutor() {
-        if (Objects.isNull(gremlinExecutor)) {
-            this.gremlinExecutor = new GremlinExecutor(getConverter());
+        GremlinExecutor value = this.gremlinExecutor;
+        if (Objects.isNull(value)) {
+            value = new GremlinExecutor(getConverter());
+            this.gremlinExecutor = value;
         }
-        return gremlinExecutor;
+        return value;
     }
 
     @Override
     public <T> T insert(T entity) {
         requireNonNull(entity, "entity is required");
-        checkId(entity);
-        UnaryOperator<Vertex> save = v -> {
-            GraphTransactionUtil.transaction(getGraph());
-            return v;
-        };
-
-        return persist(entity, save);
+        return measure("insert", label(entity), () -> {
+            checkId(entity);
+            UnaryOperator<Vertex> save = v -> {
+                GraphTransactionUtil.transaction(getGraph());
+                return v;
+            };
+            return persist(entity, save);
+        });
     }
 
     @Override
@@ -106,19 +120,20 @@ public abstract class AbstractGraphTemplate implements GraphTemplate {
     @Override
     public <T> T update(T entity) {
         requireNonNull(entity, "entity is required");
-        checkId(entity);
-        if (isIdNull(entity)) {
-            throw new IllegalStateException("to update a graph id cannot be null");
-        }
-        vertex(entity).orElseThrow(() -> new EmptyResultException("Entity does not find in the update"));
-
-        UnaryOperator<Vertex> update = e -> {
-            final Vertex vertex = getConverter().toVertex(entity);
-            GraphTransactionUtil.transaction(getGraph());
-            return vertex;
-        };
+        return measure("update", label(entity), () -> {
+            checkId(entity);
+            if (isIdNull(entity)) {
+                throw new IllegalStateException("to update a graph id cannot be null");
+            }
+            vertex(entity).orElseThrow(() -> new EmptyResultException("Entity does not find in the update"));
 
-        return persist(entity, update);
+            UnaryOperator<Vertex> update = e -> {
+                final Vertex vertex = getConverter().toVertex(entity);
+                GraphTransactionUtil.transaction(getGraph());
+                return vertex;
+            };
+            return persist(entity, update);
+        });
     }
 
     @Override
@@ -131,8 +146,10 @@ public abstract class AbstractGraphTemplate implements GraphTemplate {
 
         Object value = ConverterUtil.getValue(id, entityMetadata, idField.fieldName(), getConverters());
 
-        final Optional<Vertex> vertex = traversal().V(value).hasLabel(entityMetadata.name()).tryNext();
-        return vertex.map(getConverter()::toEntity);
+        return measure("find", entityMetadata.name(), () -> {
+            final Optional<Vertex> vertex = traversal().V(value).hasLabel(entityMetadata.name()).tryNext();
+            return vertex.map(getConverter()::<T>toEntity);
+        });
     }
 
     @Override
@@ -153,11 +170,14 @@ public abstract class AbstractGraphTemplate implements GraphTemplate {
         requireNonNull(type, "type is required");
         requireNonNull(id, "id is required");
         EntityMetadata mapping = getEntities().get(type);
-        traversal()
-                .V(id)
-                .hasLabel(mapping.name())
-                .toStream()
-                .forEach(Vertex::remove);
+        measure("delete", mapping.name(), () -> {
+            traversal()
+                    .V(id)
+                    .hasLabel(mapping.name())
+                    .toStream()
+                    .forEach(Vertex::remove);
+            return null;
+        });
     }
 
     @Override
@@ -176,15 +196,19 @@ public abstract class AbstractGraphTemplate implements GraphTemplate {
     @Override
     public <T> Iterable<T> insert(Iterable<T> entities) {
         requireNonNull(entities, "entities is required");
-        return StreamSupport.stream(entities.spliterator(), false)
+        List<T> values = StreamSupport.stream(entities.spliterator(), false)
                 .map(this::insert).toList();
+        getEventManager().firePostEntities(values);
+        return values;
     }
 
     @Override
     public <T> Iterable<T> update(Iterable<T> entities) {
         requireNonNull(entities, "entities is required");
-        return StreamSupport.stream(entities.spliterator(), false)
+        List<T> values = StreamSupport.stream(entities.spliterator(), false)
                 .map(this::update).toList();
+        getEventManager().firePostEntities(values);
+        return values;
     }
 
     @Override
@@ -302,7 +326,7 @@ public abstract class AbstractGraphTemplate implements GraphTemplate {
     @Override
     public <T> Stream<T> query(String gremlin) {
         requireNonNull(gremlin, "query is required");
-        return getExecutor().executeGremlin(traversal(), gremlin);
+        return track("query", "", () -> getExecutor().executeGremlin(traversal(), gremlin));
     }
 
     @Override
@@ -328,7 +352,7 @@ public abstract class AbstractGraphTemplate implements GraphTemplate {
     @Override
     public long count(String label) {
         Objects.requireNonNull(label, "label is required");
-        return traversal().V().hasLabel(label).count().tryNext().orElse(0L);
+        return measure("count", label, () -> traversal().V().hasLabel(label).count().tryNext().orElse(0L));
     }
 
 
@@ -370,13 +394,11 @@ public abstract class AbstractGraphTemplate implements GraphTemplate {
         if(metadata.inheritance().isPresent()){
             InheritanceMetadata inheritanceMetadata = metadata.inheritance().orElseThrow();
             if(!inheritanceMetadata.parent().equals(metadata.type())){
-                return traversal().V().hasLabel(metadata.name())
-                        .has(inheritanceMetadata.discriminatorColumn(), inheritanceMetadata.discriminatorValue())
-                        .toStream().map(getConverter()::toEntity);
+                return track("findAll", metadata.name(), () -> getConverter().toEntities(traversal().V().hasLabel(metadata.name())
+                        .has(inheritanceMetadata.discriminatorColumn(), inheritanceMetadata.discriminatorValue()), metadata));
             }
         }
-        return traversal().V().hasLabel(metadata.name())
-                .toStream().map(getConverter()::toEntity);
+        return track("findAll", metadata.name(), () -> getConverter().toEntities(traversal().V().hasLabel(metadata.name()), metadata));
     }
 
     @Override
@@ -396,6 +418,37 @@ public abstract class AbstractGraphTemplate implements GraphTemplate {
         traversal().V().hasLabel(metadata.name()).toStream().forEach(Vertex::remove);
     }
 
+    private <R> R measure(String operation, String label, Supplier<R> supplier) {
+        try (Measurement measurement = getInstrumentation().start("", operation, label)) {
+            try {
+                return supplier.get();
+            } catch (RuntimeException | Error exception) {
+                measurement.error(exception);
+                throw exception;
+            }
+        }
+    }
+
+    private <T> Stream<T> track(String operation, String label, Supplier<Stream<T>> supplier) {
+        Measurement measurement = getInstrumentation().start("", operation, label);
+        try {
+            return measurement.track(supplier.get());
+        } catch (RuntimeException | Error exception) {
+            measurement.error(exception);
+            measurement.close();
+            throw exception;
+        }
+    }
+
+    private <T> String label(T entity) {
+        if (getInstrumentation() == Instrumentation.noop()) {
+            return "";
+        }
+        return getEntities().findByClassName(entity.getClass().getName())
+                .map(EntityMetadata::name)
+                .orElse("");
+    }
+
     protected GraphTraversalSource traversal() {
         return getGraph().traversal();
     }
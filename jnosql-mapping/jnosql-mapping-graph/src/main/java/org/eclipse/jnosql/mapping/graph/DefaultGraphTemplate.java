@@ -19,7 +19,9 @@ import jakarta.enterprise.inject.Default;
 import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
 import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.eclipse.jnosql.communication.Instrumentation;
 import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.core.MappingInstrumentation;
 import org.eclipse.jnosql.mapping.Database;
 import org.eclipse.jnosql.mapping.DatabaseType;
 import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
@@ -43,6 +45,8 @@ class DefaultGraphTemplate extends AbstractGraphTemplate {
 
     private Converters converters;
 
+    private Instrumentation instrumentation = Instrumentation.noop();
+
     @Inject
     DefaultGraphTemplate(Instance<Graph> graph, EntitiesMetadata entities, GraphConverter converter,
                          GraphEventPersistManager persistManager,
@@ -52,6 +56,7 @@ class DefaultGraphTemplate extends AbstractGraphTemplate {
         this.converter = converter;
         this.persistManager = persistManager;
         this.converters = converters;
+        this.instrumentation = MappingInstrumentation.get();
     }
 
     DefaultGraphTemplate(){
@@ -82,5 +87,10 @@ class DefaultGraphTemplate extends AbstractGraphTemplate {
         return converters;
     }
 
+    @Override
+    protected Instrumentation getInstrumentation() {
+        return instrumentation;
+    }
+
 
 }
@@ -14,7 +14,9 @@
  */
 package org.eclipse.jnosql.mapping.graph;
 
+import org.eclipse.jnosql.communication.Instrumentation;
 import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.core.MappingInstrumentation;
 import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
 import org.apache.tinkerpop.gremlin.structure.Graph;
@@ -42,6 +44,8 @@ class DefaultGraphTraversalSourceTemplate extends AbstractGraphTemplate {
 
     private Converters converters;
 
+    private Instrumentation instrumentation = Instrumentation.noop();
+
     @Inject
     DefaultGraphTraversalSourceTemplate(Instance<GraphTraversalSourceSupplier> supplierInstance,
                                         EntitiesMetadata entities,
@@ -53,6 +57,7 @@ class DefaultGraphTraversalSourceTemplate extends AbstractGraphTemplate {
         this.converter = converter;
         this.persistManager = persistManager;
         this.converters = converters;
+        this.instrumentation = MappingInstrumentation.get();
     }
 
     DefaultGraphTraversalSourceTemplate(){
@@ -93,6 +98,11 @@ class DefaultGraphTraversalSourceTemplate extends AbstractGraphTemplate {
         return converters;
     }
 
+    @Override
+    protected Instrumentation getInstrumentation() {
+        return instrumentation;
+    }
+
     @Override
     protected Iterator<Vertex> vertices(Object id) {
         return traversal().V(id).toList().iterator();
@@ -188,15 +188,12 @@ class DefaultVertexTraversal extends AbstractVertexTraversal implements VertexTr
 
     @Override
     public <T> Optional<T> next() {
-        Optional<Vertex> vertex = flow.apply(supplier.get()).tryNext();
-        return vertex.map(converter::toEntity);
+        return converter.<T>toEntities(flow.apply(supplier.get()).limit(1)).findFirst();
     }
 
     @Override
     public <T> Stream<T> result() {
-        return flow.apply(supplier.get())
-                .toStream()
-                .map(converter::toEntity);
+        return converter.toEntities(flow.apply(supplier.get()));
     }
 
     @Override
@@ -216,9 +213,7 @@ class DefaultVertexTraversal extends AbstractVertexTraversal implements VertexTr
 
     @Override
     public <T> Stream<T> next(int limit) {
-        return flow.apply(supplier.get())
-                .next(limit).stream()
-                .map(converter::toEntity);
+        return converter.toEntities(flow.apply(supplier.get()).limit(limit));
     }
 
     @Override
@@ -28,10 +28,8 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Supplier;
 
-import static java.util.stream.Collectors.toList;
-
 /**
- * Given a {@link Vertex} it will create an entity from the database information using the constructor.
+ * Given the properties and the id of a {@link Vertex} it will create an entity from the database information using the constructor.
  * It might be a record or a class that provides constructor annotations
  *
  * @param <T> the entity type
@@ -39,22 +37,22 @@ import static java.util.stream.Collectors.toList;
 final class EntityConverterByContructor<T> implements Supplier<T> {
 
     private final EntityMetadata mapping;
-    private final Vertex vertex;
+    private final List<Property<?>> properties;
+    private final Object id;
 
     private final Converters converters;
 
-    private EntityConverterByContructor(EntityMetadata mapping, Vertex vertex, Converters converters) {
+    private EntityConverterByContructor(EntityMetadata mapping, List<Property<?>> properties, Object id,
+                                        Converters converters) {
         this.mapping = mapping;
-        this.vertex = vertex;
+        this.properties = properties;
+        this.id = id;
         this.converters = converters;
     }
 
     @Override
     public T get() {
         ConstructorBuilder builder = ConstructorBuilder.of(mapping.constructor());
-        List<Property<?>> properties = vertex.keys().stream()
-                .map(k -> DefaultProperty.of(k, vertex.value(k)))
-                .collect(toList());
         for (ParameterMetaData parameter : builder.parameters()) {
 
             if (parameter.isId()) {
@@ -67,7 +65,7 @@ final class EntityConverterByContructor<T> implements Supplier<T> {
     }
 
     private void feedId(ConstructorBuilder builder, ParameterMetaData parameter) {
-        Object vertexId = vertex.id();
+        Object vertexId = this.id;
         if (Objects.nonNull(vertexId)) {
             parameter.converter().ifPresentOrElse(c -> {
                 AttributeConverter<Object, Object> attributeConverter = this.converters.get(parameter);
@@ -93,7 +91,8 @@ final class EntityConverterByContructor<T> implements Supplier<T> {
         }), builder::addEmptyParameter);
     }
 
-    static <T> EntityConverterByContructor<T> of(EntityMetadata mapping, Vertex vertex, Converters converters) {
-        return new EntityConverterByContructor<>(mapping, vertex, converters);
+    static <T> EntityConverterByContructor<T> of(EntityMetadata mapping, List<Property<?>> properties, Object id,
+                                                 Converters converters) {
+        return new EntityConverterByContructor<>(mapping, properties, id, converters);
     }
 }
\ No newline at end of file
@@ -15,7 +15,6 @@
 package org.eclipse.jnosql.mapping.graph;
 
 import org.apache.tinkerpop.gremlin.structure.Property;
-import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.eclipse.jnosql.communication.Value;
 import org.eclipse.jnosql.mapping.AttributeConverter;
 import org.eclipse.jnosql.mapping.core.Converters;
@@ -39,7 +38,7 @@ final class EntityConverterByField<T> implements Supplier<T> {
     private final List<Property<?>> elements;
     private final EntityMetadata mapping;
     private final T instance;
-    private final Vertex vertex;
+    private final Object id;
 
     private final Converters converters;
 
@@ -47,12 +46,12 @@ final class EntityConverterByField<T> implements Supplier<T> {
 
 
     private EntityConverterByField(List<Property<?>> elements, EntityMetadata mapping,
-                                   T instance, Vertex vertex, Converters converters,
+                                   T instance, Object id, Converters converters,
                                    EntitiesMetadata entities) {
         this.elements = elements;
         this.mapping = mapping;
         this.instance = instance;
-        this.vertex = vertex;
+        this.id = id;
         this.converters = converters;
         this.entities = entities;
     }
@@ -68,15 +67,14 @@ final class EntityConverterByField<T> implements Supplier<T> {
 
         fieldsGroupByName.keySet().stream()
                 .filter(existField.or(k -> EMBEDDED.equals(fieldsGroupByName.get(k).mappingType())))
-                .forEach(feedObject(instance, elements, fieldsGroupByName, vertex));
+                .forEach(feedObject(instance, elements, fieldsGroupByName));
 
-        feedId(vertex, instance);
+        feedId(instance);
         return instance;
     }
 
     private Consumer<String> feedObject(T instance, List<Property<?>> elements,
-                                            Map<String, FieldMetadata> fieldsGroupByName,
-                                            Vertex vertex) {
+                                            Map<String, FieldMetadata> fieldsGroupByName) {
         return k -> {
             Optional<Property<?>> element = elements
                     .stream()
@@ -85,7 +83,7 @@ final class EntityConverterByField<T> implements Supplier<T> {
 
             FieldMetadata field = fieldsGroupByName.get(k);
             if (EMBEDDED.equals(field.mappingType())) {
-                embeddedField(instance, elements, field, vertex);
+                embeddedField(instance, elements, field);
             } else {
                 element.ifPresent(e -> singleField(instance, e, field));
             }
@@ -93,9 +91,9 @@ final class EntityConverterByField<T> implements Supplier<T> {
     }
 
     private void embeddedField(T instance, List<Property<?>> elements,
-                               FieldMetadata field, Vertex vertex) {
+                               FieldMetadata field) {
         Class<T> type = (Class<T>) field.type();
-        field.write(instance, convert(type, elements, vertex));
+        field.write(instance, convert(type, elements));
     }
 
     private <X, Y> void singleField(T instance, Property<?> element, FieldMetadata field) {
@@ -110,29 +108,29 @@ final class EntityConverterByField<T> implements Supplier<T> {
         }
     }
 
-    private T convert(Class<T> type, List<Property<?>> properties, Vertex vertex) {
+    private T convert(Class<T> type, List<Property<?>> properties) {
         EntityMetadata mapping = entities().get(type);
         ConstructorMetadata constructor = mapping.constructor();
         if (constructor.isDefault()) {
             T instance = mapping.newInstance();
-            T entity = convertEntity(properties, mapping, instance, vertex);
-            feedId(vertex, entity);
+            T entity = convertEntity(properties, mapping, instance);
+            feedId(entity);
             return entity;
         } else {
-            EntityConverterByContructor<T> supplier = EntityConverterByContructor.of(mapping, vertex,
+            EntityConverterByContructor<T> supplier = EntityConverterByContructor.of(mapping, properties, id,
                     converters());
             return supplier.get();
         }
     }
 
-    private void feedId(Vertex vertex, T entity) {
+    private void feedId(T entity) {
         EntityMetadata mapping = entities.get(entity.getClass());
-        Optional<FieldMetadata> id = mapping.id();
+        Optional<FieldMetadata> idField = mapping.id();
 
 
-        Object vertexId = vertex.id();
-        if (Objects.nonNull(vertexId) && id.isPresent()) {
-            FieldMetadata fieldMetadata = id.get();
+        Object vertexId = this.id;
+        if (Objects.nonNull(vertexId) && idField.isPresent()) {
+            FieldMetadata fieldMetadata = idField.get();
             fieldMetadata.converter().ifPresentOrElse(c -> {
                 AttributeConverter<Object, Object> attributeConverter = converters.get(fieldMetadata);
                 Object attributeConverted = attributeConverter.convertToEntityAttribute(vertexId);
@@ -141,7 +139,7 @@ final class EntityConverterByField<T> implements Supplier<T> {
         }
     }
 
-    private T convertEntity(List<Property<?>> elements, EntityMetadata mapping, T instance, Vertex vertex) {
+    private T convertEntity(List<Property<?>> elements, EntityMetadata mapping, T instance) {
 
         Map<String, FieldMetadata> fieldsGroupByName = mapping.fieldsGroupByName();
         List<String> names = elements.stream()
@@ -152,7 +150,7 @@ final class EntityConverterByField<T> implements Supplier<T> {
 
         fieldsGroupByName.keySet().stream()
                 .filter(existField.or(k -> EMBEDDED.equals(fieldsGroupByName.get(k).mappingType())))
-                .forEach(feedObject(instance, elements, fieldsGroupByName, vertex));
+                .forEach(feedObject(instance, elements, fieldsGroupByName));
 
         return instance;
     }
@@ -166,9 +164,9 @@ final class EntityConverterByField<T> implements Supplier<T> {
     }
 
     static <T> EntityConverterByField<T> of(List<Property<?>> elements, EntityMetadata mapping,
-                                            T instance, Vertex vertex, Converters converters,
+                                            T instance, Object id, Converters converters,
                                             EntitiesMetadata entities){
-        return new EntityConverterByField<>(elements, mapping, instance, vertex, converters, entities);
+        return new EntityConverterByField<>(elements, mapping, instance, id, converters, entities);
     }
 
 }
@@ -16,31 +16,40 @@ package org.eclipse.jnosql.mapping.graph;
 
 import jakarta.data.exceptions.EmptyResultException;
 import jakarta.data.exceptions.MappingException;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.Property;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.core.EntityConversionEvent;
 import org.eclipse.jnosql.mapping.metadata.ConstructorMetadata;
 import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
 import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
 import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
 import org.eclipse.jnosql.mapping.metadata.InheritanceMetadata;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
+import static org.eclipse.jnosql.mapping.metadata.MappingType.EMBEDDED;
 
 
 public abstract class GraphConverter {
 
+    private final Map<Class<?>, String[]> propertyKeys = new ConcurrentHashMap<>();
 
     protected abstract EntitiesMetadata getEntities();
 
@@ -61,6 +70,7 @@ public abstract class GraphConverter {
     public <T> Vertex toVertex(T entity) {
         requireNonNull(entity, "entity is required");
 
+        EntityConversionEvent event = EntityConversionEvent.start();
         EntityMetadata mapping = getEntities().get(entity.getClass());
         String label = mapping.name();
 
@@ -87,6 +97,7 @@ public abstract class GraphConverter {
         mapping.inheritance().ifPresent(i ->
                 vertex.property(i.discriminatorColumn(), i.discriminatorValue()));
 
+        event.end(label, EntityConversionEvent.TO_DATABASE);
         return vertex;
     }
 
@@ -121,6 +132,7 @@ public abstract class GraphConverter {
      */
     public <T> T toEntity(Vertex vertex) {
         requireNonNull(vertex, "vertex is required");
+        EntityConversionEvent event = EntityConversionEvent.start();
         EntityMetadata mapping = getEntities().findByName(vertex.label());
 
         List<Property<?>> properties = vertex.keys()
@@ -129,14 +141,94 @@ public abstract class GraphConverter {
 
         T entity;
         if (mapping.isInheritance()) {
-            entity = mapInheritanceEntity(vertex, properties, mapping.type());
+            entity = mapInheritanceEntity(vertex.label(), properties, vertex.id(), mapping.type());
         } else {
-            entity = convert((Class<T>) mapping.type(), properties, vertex);
+            entity = convert((Class<T>) mapping.type(), properties, vertex.id());
         }
+        event.end(vertex.label(), EntityConversionEvent.TO_ENTITY);
         getEventManager().firePostEntity(entity);
         return entity;
     }
 
+    /**
+     * Converts the map of an {@code elementMap()} step to an entity. The map has the vertex id at
+     * {@link org.apache.tinkerpop.gremlin.structure.T#id}, the label at {@link org.apache.tinkerpop.gremlin.structure.T#label}
+     * and the property values; only the properties mapped at the entity of the label are read.
+     *
+     * @param elementMap the element map of a vertex
+     * @param <T>        the entity type
+     * @return a entity instance
+     * @throws NullPointerException     when elementMap is null
+     * @throws IllegalArgumentException when elementMap has no label
+     */
+    public <T> T fromElementMap(Map<?, ?> elementMap) {
+        requireNonNull(elementMap, "elementMap is required");
+        Object label = elementMap.get(org.apache.tinkerpop.gremlin.structure.T.label);
+        if (label == null) {
+            throw new IllegalArgumentException("The element map requires the vertex label, use the elementMap step");
+        }
+        EntityMetadata mapping = getEntities().findByName(label.toString());
+        Set<String> keys = Set.of(propertyKeys(mapping));
+        List<Property<?>> properties = new ArrayList<>(keys.size());
+        for (Map.Entry<?, ?> entry : elementMap.entrySet()) {
+            if (entry.getKey() instanceof String key && keys.contains(key)) {
+                properties.add(DefaultProperty.of(key, entry.getValue()));
+            }
+        }
+        Object id = elementMap.get(org.apache.tinkerpop.gremlin.structure.T.id);
+        T entity;
+        if (mapping.isInheritance()) {
+            entity = mapInheritanceEntity(label.toString(), properties, id, mapping.type());
+        } else {
+            entity = convert((Class<T>) mapping.type(), properties, id);
+        }
+        getEventManager().firePostEntity(entity);
+        return entity;
+    }
+
+    /**
+     * Converts the vertices of a traversal to entities, the stream is lazy.
+     * When the {@link #materialization()} is {@link VertexMaterialization#ELEMENT_MAP}, it appends an
+     * {@code elementMap()} step, so each vertex arrives with its properties instead of one lookup per property.
+     *
+     * @param traversal the vertex traversal
+     * @param <T>       the entity type
+     * @return the entities
+     * @throws NullPointerException when traversal is null
+     */
+    public <T> Stream<T> toEntities(GraphTraversal<?, Vertex> traversal) {
+        requireNonNull(traversal, "traversal is required");
+        return toEntities(traversal, new String[0]);
+    }
+
+    /**
+     * Converts the vertices of a traversal to entities, the stream is lazy.
+     * When the {@link #materialization()} is {@link VertexMaterialization#ELEMENT_MAP}, it appends an
+     * {@code elementMap()} step restricted to the properties mapped at the entity, its embedded fields and,
+     * on inheritance, the fields of every entity of the hierarchy.
+     *
+     * @param traversal the vertex traversal
+     * @param mapping   the entity of the vertices
+     * @param <T>       the entity type
+     * @return the entities
+     * @throws NullPointerException when there is null parameter
+     */
+    public <T> Stream<T> toEntities(GraphTraversal<?, Vertex> traversal, EntityMetadata mapping) {
+        requireNonNull(traversal, "traversal is required");
+        requireNonNull(mapping, "mapping is required");
+        return toEntities(traversal, propertyKeys(mapping));
+    }
+
+    /**
+     * Returns how the vertices of a traversal become entities, by default from the
+     * {@link VertexMaterialization#get()} property
+     *
+     * @return the materialization
+     */
+    protected VertexMaterialization materialization() {
+        return VertexMaterialization.get();
+    }
+
     /**
      * Converts vertex to an entity
      *
@@ -152,7 +244,7 @@ public abstract class GraphConverter {
 
         List<Property<?>> properties = vertex.keys().stream()
                 .map(k -> DefaultProperty.of(k, vertex.value(k))).collect(toList());
-        T entity = convert(type, properties, vertex);
+        T entity = convert(type, properties, vertex.id());
         getEventManager().firePostEntity(entity);
         return entity;
     }
@@ -181,7 +273,7 @@ public abstract class GraphConverter {
 
         EntityMetadata mapping = getEntities().get(type.getClass());
         EntityConverterByField<T> converter = EntityConverterByField.of(properties, mapping,
-                type, vertex, getConverters(), getEntities());
+                type, vertex.id(), getConverters(), getEntities());
         return converter.get();
 
     }
@@ -217,34 +309,65 @@ public abstract class GraphConverter {
         throw new EmptyResultException("Edge does not found in the database with id: " + id);
     }
 
-    private <T> T convert(Class<T> type, List<Property<?>> properties, Vertex vertex) {
+    private <T> Stream<T> toEntities(GraphTraversal<?, Vertex> traversal, String[] keys) {
+        if (VertexMaterialization.ELEMENT_MAP.equals(materialization())) {
+            return traversal.elementMap(keys).toStream().map(this::fromElementMap);
+        }
+        return traversal.toStream().map(this::toEntity);
+    }
+
+    private <T> T convert(Class<T> type, List<Property<?>> properties, Object id) {
         EntityMetadata mapping = getEntities().get(type);
         ConstructorMetadata constructor = mapping.constructor();
         if (constructor.isDefault()) {
             EntityConverterByField<T> converter = EntityConverterByField.of(properties, mapping,
-                    mapping.newInstance(), vertex, getConverters(), getEntities());
+                    mapping.newInstance(), id, getConverters(), getEntities());
             return converter.get();
         } else {
-            EntityConverterByContructor<T> supplier = EntityConverterByContructor.of(mapping, vertex, getConverters());
+            EntityConverterByContructor<T> supplier = EntityConverterByContructor.of(mapping, properties, id,
+                    getConverters());
             return supplier.get();
         }
     }
 
+    private String[] propertyKeys(EntityMetadata mapping) {
+        return propertyKeys.computeIfAbsent(mapping.type(), t -> {
+            Set<String> keys = new LinkedHashSet<>();
+            Optional<InheritanceMetadata> inheritance = mapping.inheritance();
+            if (inheritance.isPresent()) {
+                keys.add(inheritance.get().discriminatorColumn());
+                getEntities().findByParentGroupByDiscriminatorValue(inheritance.get().parent()).values()
+                        .forEach(i -> addPropertyKeys(getEntities().get(i.entity()), keys));
+            }
+            addPropertyKeys(mapping, keys);
+            return keys.toArray(String[]::new);
+        });
+    }
+
+    private void addPropertyKeys(EntityMetadata mapping, Set<String> keys) {
+        for (FieldMetadata field : mapping.fields()) {
+            if (EMBEDDED.equals(field.mappingType())) {
+                addPropertyKeys(getEntities().get(field.type()), keys);
+            } else if (!field.isId()) {
+                keys.add(field.name());
+            }
+        }
+    }
+
 
     protected FieldGraph to(FieldMetadata field, Object entityInstance) {
         Object value = field.read(entityInstance);
         return FieldGraph.of(value, field);
     }
 
-    private <T> T mapInheritanceEntity(Vertex vertex,
-                                       List<Property<?>> properties, Class<?> type) {
+    private <T> T mapInheritanceEntity(String label, List<Property<?>> properties, Object id, Class<?> type) {
 
         Map<String, InheritanceMetadata> group = getEntities()
                 .findByParentGroupByDiscriminatorValue(type);
 
         if (group.isEmpty()) {
             throw new MappingException("There is no discriminator inheritance to the vertex "
-                    + vertex.label());
+                    + label);
         }
         String column = group.values()
                 .stream()
@@ -265,6 +388,6 @@ public abstract class GraphConverter {
                         " column value " + discriminator));
 
         EntityMetadata mapping = getEntities().get(inheritance.entity());
-        return convert((Class<T>) mapping.type(), properties, vertex);
+        return convert((Class<T>) mapping.type(), properties, id);
     }
 }
\ No newline at end of file
@@ -14,12 +14,18 @@
  */
 package org.eclipse.jnosql.mapping.graph;
 
+import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.event.Event;
+import jakarta.enterprise.inject.spi.BeanManager;
 import jakarta.inject.Inject;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.eclipse.jnosql.mapping.EntitiesPostPersist;
 import org.eclipse.jnosql.mapping.EntityPostPersist;
 import org.eclipse.jnosql.mapping.EntityPrePersist;
+import org.eclipse.jnosql.mapping.core.EntityObservers;
+
+import java.util.List;
 
 /**
  * This interface represent the manager of events. When an entity be either saved or updated an event will be fired. This order gonna be:
@@ -42,6 +48,19 @@ class GraphEventPersistManager {
     @Inject
     private Event<EntityPostPersist> entityPostPersistEvent;
 
+    @Inject
+    private Event<EntitiesPostPersist> entitiesPostPersistEvent;
+
+    @Inject
+    private BeanManager beanManager;
+
+    private EntityObservers observers = EntityObservers.unresolved();
+
+    @PostConstruct
+    void init() {
+        this.observers = EntityObservers.of(beanManager);
+    }
+
     /**
      * Fire an event once the method is called
      *
@@ -49,7 +68,9 @@ class GraphEventPersistManager {
      * @param <T>    the entity type
      */
     public <T> void firePreEntity(T entity) {
-        entityPrePersistEvent.fire(EntityPrePersist.of(entity));
+        if (observers.isObserved(EntityPrePersist.class)) {
+            entityPrePersistEvent.fire(EntityPrePersist.of(entity));
+        }
     }
 
     /**
@@ -60,6 +81,16 @@ class GraphEventPersistManager {
      * @param <T>    the entity kind
      */
     public <T> void firePostEntity(T entity) {
-        entityPostPersistEvent.fire(EntityPostPersist.of(entity));
+        observers.fire(entityPostPersistEvent, EntityPostPersist.class, () -> EntityPostPersist.of(entity));
+    }
+
+    /**
+     * Fire a single event after every {@link Vertex} written by a save or update call is converted to an entity.
+     *
+     * @param entities the entities
+     * @param <T>      the entity type
+     */
+    public <T> void firePostEntities(List<T> entities) {
+        observers.fire(entitiesPostPersistEvent, EntitiesPostPersist.class, () -> EntitiesPostPersist.of(entities));
     }
 }
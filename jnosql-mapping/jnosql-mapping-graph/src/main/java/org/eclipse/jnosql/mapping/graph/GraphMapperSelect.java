@@ -166,7 +166,7 @@ final class GraphMapperSelect extends AbstractMapperQuery
         if (condition != null) {
             traversal.filter(condition);
         }
-        return traversal.toStream().map(converter::toEntity);
+        return converter.toEntities(traversal, mapping);
     }
 
     @Override
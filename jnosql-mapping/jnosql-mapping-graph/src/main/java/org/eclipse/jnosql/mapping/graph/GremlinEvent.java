@@ -0,0 +1,80 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.graph;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import org.eclipse.jnosql.communication.Measurement;
+
+/**
+ * The JDK Flight Recorder event of a Gremlin query at the {@link GremlinExecutor}, that is also the {@link Measurement}
+ * of its result. The traversal is lazy, so the event ends when the caller exhausts or closes the stream, see
+ * {@link Measurement#track(java.util.stream.Stream)}, and reports the rows that it read.
+ */
+@Name("org.eclipse.jnosql.Gremlin")
+@Label("Gremlin Query")
+@Category({"JNoSQL", "Graph"})
+@Description("Evaluates a Gremlin query and reads its result")
+final class GremlinEvent extends Event implements Measurement {
+
+    @Label("Query")
+    private String query;
+
+    @Label("Rows")
+    @Description("The number of rows that the caller read")
+    private long rows;
+
+    @Label("Error")
+    private String error;
+
+    private GremlinEvent(String query) {
+        this.query = query;
+    }
+
+    static GremlinEvent start(String query) {
+        GremlinEvent event = new GremlinEvent(query);
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public void rows(long rows) {
+        this.rows = rows;
+    }
+
+    @Override
+    public void read(long rows) {
+        end();
+        if (shouldCommit()) {
+            this.rows = rows;
+            commit();
+        }
+    }
+
+    @Override
+    public void error(Throwable error) {
+        this.error = error.getClass().getName();
+    }
+
+    /**
+     * Does nothing, the event ends at {@link GremlinEvent#read(long)} when the caller finishes the stream.
+     */
+    @Override
+    public void close() {
+    }
+}
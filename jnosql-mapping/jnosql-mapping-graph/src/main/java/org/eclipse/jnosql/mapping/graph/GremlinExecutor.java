@@ -48,17 +48,18 @@ final class GremlinExecutor {
 
 
             String query = GremlinParamParser.INSTANCE.apply(gremlin, params);
+            GremlinEvent event = GremlinEvent.start(query);
             Object eval = ENGINE.eval(query, bindings);
             if (eval instanceof GraphTraversal graphTraversal) {
-                return convertToStream(graphTraversal.toStream());
+                return convertToStream(event.track(graphTraversal.toStream()));
             }
             if (eval instanceof Iterable iterable) {
-                return convertToStream(StreamSupport.stream(iterable.spliterator(), false));
+                return convertToStream(event.track(StreamSupport.stream(iterable.spliterator(), false)));
             }
             if (eval instanceof Stream stream) {
-                return convertToStream(stream);
+                return convertToStream(event.track(stream));
             }
-            return Stream.of((T) eval);
+            return event.track(Stream.of((T) eval));
         } catch (ScriptException e) {
             throw new GremlinQueryException("There is an error when executed the gremlin query: " + gremlin, e);
         }
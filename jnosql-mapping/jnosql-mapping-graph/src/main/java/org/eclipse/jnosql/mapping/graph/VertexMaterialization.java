@@ -0,0 +1,56 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.graph;
+
+import org.eclipse.jnosql.mapping.core.config.MappingConfigurations;
+import org.eclipse.jnosql.mapping.core.config.MicroProfileSettings;
+
+import java.util.Locale;
+
+/**
+ * Defines how the vertices of a traversal become entities at {@link GraphConverter#toEntities(
+ * org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal)}.
+ *
+ * @see MappingConfigurations#GRAPH_MATERIALIZATION
+ */
+public enum VertexMaterialization {
+
+    /**
+     * The traversal returns the vertices and each property is read from the vertex; it is the default.
+     */
+    VERTEX,
+    /**
+     * The traversal appends an {@code elementMap()} step and the entities are created from the returned maps,
+     * so a remote graph sends the properties of each vertex at once.
+     */
+    ELEMENT_MAP;
+
+    /**
+     * Returns the materialization from the {@link MappingConfigurations#GRAPH_MATERIALIZATION} property,
+     * where the values are vertex or element-map.
+     *
+     * @return the materialization defined or {@link VertexMaterialization#VERTEX}
+     * @throws IllegalArgumentException when the property has an invalid value
+     */
+    public static VertexMaterialization get() {
+        return MicroProfileSettings.INSTANCE.get(MappingConfigurations.GRAPH_MATERIALIZATION, String.class)
+                .map(VertexMaterialization::parse)
+                .orElse(VERTEX);
+    }
+
+    static VertexMaterialization parse(String value) {
+        return valueOf(value.trim().replace('-', '_').toUpperCase(Locale.US));
+    }
+}
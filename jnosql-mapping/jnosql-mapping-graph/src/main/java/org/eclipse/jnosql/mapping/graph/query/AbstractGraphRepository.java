@@ -16,6 +16,7 @@ package org.eclipse.jnosql.mapping.graph.query;
 
 import jakarta.data.page.Page;
 import jakarta.data.page.Pageable;
+import org.eclipse.jnosql.mapping.core.MappingExecutor;
 import org.eclipse.jnosql.mapping.core.NoSQLPage;
 import org.eclipse.jnosql.mapping.core.query.AbstractRepository;
 import org.eclipse.jnosql.mapping.graph.GraphTemplate;
@@ -27,8 +28,17 @@ import java.util.stream.Stream;
 
 abstract class AbstractGraphRepository<T, K> extends AbstractRepository<T, K> {
 
+    /**
+     * The graph transactions are bound to the calling thread, so the lookups run at the caller.
+     */
+    private static final MappingExecutor CALLER = MappingExecutor.of(Runnable::run, 1, 1, false);
+
     protected abstract GraphTemplate template();
 
+    @Override
+    protected MappingExecutor executor() {
+        return CALLER;
+    }
 
     @Override
     public long count() {
@@ -14,13 +14,17 @@
  */
 package org.eclipse.jnosql.mapping.graph.query;
 
+import jakarta.data.Sort;
 import jakarta.data.page.Page;
 import jakarta.data.page.Pageable;
 import jakarta.data.repository.PageableRepository;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.eclipse.jnosql.communication.query.method.SelectMethodProvider;
 import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.core.Keyset;
+import org.eclipse.jnosql.mapping.core.MappingExecutor;
 import org.eclipse.jnosql.mapping.core.NoSQLPage;
 import org.eclipse.jnosql.mapping.core.query.AbstractRepositoryProxy;
 import org.eclipse.jnosql.mapping.core.repository.DynamicQueryMethodReturn;
@@ -30,6 +34,7 @@ import org.eclipse.jnosql.mapping.graph.GraphConverter;
 import org.eclipse.jnosql.mapping.graph.GraphTemplate;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -62,7 +67,8 @@ abstract class AbstractGraphRepositoryProxy<T, K> extends AbstractRepositoryProx
                 .withMethod(method)
                 .withTypeClass(type)
                 .withPrepareConverter(q -> template().prepare(q))
-                .withQueryConverter(q -> template().query(q)).build();
+                .withQueryConverter(q -> template().query(q))
+                .withExecutor(MappingExecutor.get().database(template())).build();
         return methodReturn.execute();
     }
 
@@ -106,11 +112,10 @@ abstract class AbstractGraphRepositoryProxy<T, K> extends AbstractRepositoryProx
                     graph().traversal().V(),
                     converters(), null, methodName, params);
 
-            return SelectQueryConverter.INSTANCE.apply(queryMethod, params)
-                    .map(converter()::toEntity);
+            return converter().toEntities(SelectQueryConverter.INSTANCE.traversal(queryMethod, params), entityMetadata());
         };
 
-        return converter(method, type, querySupplier, params);
+        return converter(method, type, querySupplier, params, () -> sorts(List.of(), params));
     }
 
 
@@ -120,12 +125,11 @@ abstract class AbstractGraphRepositoryProxy<T, K> extends AbstractRepositoryProx
 
             GraphTraversal<Vertex, Vertex> traversal = graph().traversal().V().hasLabel(entityMetadata().name());
 
-            SelectQueryConverter.updateDynamicParameter(args, traversal, entityMetadata());
-            return traversal.toStream()
-                    .map(converter()::toEntity);
+            SelectQueryConverter.updateDynamicParameter(args, traversal, entityMetadata(), converters(), method);
+            return converter().toEntities(traversal, entityMetadata());
         };
 
-        return converter(method, typeClass, querySupplier, args);
+        return converter(method, typeClass, querySupplier, args, () -> sorts(List.of(), args));
     }
 
     private Object existsBy(Method method, Object[] args) {
@@ -152,22 +156,31 @@ abstract class AbstractGraphRepositoryProxy<T, K> extends AbstractRepositoryProx
                     graph().traversal().V(),
                     converters(), method, args);
 
-            return SelectQueryConverter.INSTANCE.apply(queryMethod, args)
-                    .map(converter()::toEntity);
+            return converter().toEntities(SelectQueryConverter.INSTANCE.traversal(queryMethod, args), entityMetadata());
         };
 
-        return converter(method, typeClass, querySupplier, args);
+        return converter(method, typeClass, querySupplier, args,
+                () -> sorts(SelectMethodProvider.INSTANCE.apply(method, entityMetadata().name()).orderBy(), args));
+    }
+
+    private List<Sort> sorts(List<Sort> sorts, Object[] args) {
+        List<Sort> keys = new ArrayList<>(sorts);
+        keys.addAll(DynamicReturn.findSpecialParameters(args).sorts());
+        return keys;
     }
 
     private Object converter(Method method, Class<?> typeClass,
                              Supplier<Stream<?>> querySupplier,
-                             Object[] args) {
+                             Object[] args, Supplier<List<Sort>> sorts) {
 
         Supplier<Optional<?>> singleSupplier =
                 DynamicReturn.toSingleResult(method).apply(querySupplier);
 
         Function<Pageable, Page<?>> pageFunction = p -> {
             List<?> entities = querySupplier.get().toList();
+            if (SelectQueryConverter.isKeyset(method, p)) {
+                return Keyset.of(entityMetadata(), sorts.get(), converters()).page(entities, p);
+            }
             return NoSQLPage.of(entities, p);
         };
 
@@ -180,6 +193,7 @@ abstract class AbstractGraphRepositoryProxy<T, K> extends AbstractRepositoryProx
                 .withStreamPagination(p -> querySupplier.get())
                 .withSingleResultPagination(p -> singleSupplier.get())
                 .withPage(pageFunction)
+                .withExecutor(MappingExecutor.get().database(template()))
                 .build();
 
         return dynamicReturn.execute();
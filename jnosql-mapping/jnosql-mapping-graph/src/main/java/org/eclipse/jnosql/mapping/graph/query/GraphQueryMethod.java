@@ -78,6 +78,10 @@ final class GraphQueryMethod {
         return mapping;
     }
 
+    public Converters converters() {
+        return converters;
+    }
+
     public String methodName() {
         return methodName;
     }
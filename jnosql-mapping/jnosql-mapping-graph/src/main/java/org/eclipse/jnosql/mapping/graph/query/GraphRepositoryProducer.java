@@ -20,11 +20,11 @@ import org.eclipse.jnosql.mapping.graph.GraphConverter;
 import org.eclipse.jnosql.mapping.graph.GraphTemplate;
 import org.eclipse.jnosql.mapping.graph.GraphTemplateProducer;
 import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.core.query.GeneratedRepository;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
-import java.lang.reflect.Proxy;
 import java.util.Objects;
 
 @ApplicationScoped
@@ -48,9 +48,7 @@ class GraphRepositoryProducer {
         GraphTemplate template = producer.get(manager);
         GraphRepositoryProxy<R, K> handler = new GraphRepositoryProxy(template,
                 entities, repositoryClass, manager, converter, converters);
-        return (R) Proxy.newProxyInstance(repositoryClass.getClassLoader(),
-                new Class[]{repositoryClass},
-                handler);
+        return GeneratedRepository.create(repositoryClass, handler);
     }
 
 }
@@ -25,9 +25,9 @@ import org.eclipse.jnosql.mapping.graph.GraphTemplate;
 import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
 import org.eclipse.jnosql.mapping.core.spi.AbstractBean;
 import org.eclipse.jnosql.mapping.core.util.AnnotationLiteralUtil;
+import org.eclipse.jnosql.mapping.core.query.GeneratedRepository;
 
 import java.lang.annotation.Annotation;
-import java.lang.reflect.Proxy;
 import java.lang.reflect.Type;
 import java.util.Collections;
 import java.util.HashSet;
@@ -85,9 +85,7 @@ public class RepositoryGraphBean<T extends DataRepository<?,?>> extends Abstract
 
         GraphRepositoryProxy handler = new GraphRepositoryProxy(repository,
                 entities, type, graph, converter, converters);
-        return (T) Proxy.newProxyInstance(type.getClassLoader(),
-                new Class[]{type},
-                handler);
+        return GeneratedRepository.create(type, handler);
     }
 
     @Override
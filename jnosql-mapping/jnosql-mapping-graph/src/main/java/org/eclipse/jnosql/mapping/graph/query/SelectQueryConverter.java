@@ -15,17 +15,30 @@
 package org.eclipse.jnosql.mapping.graph.query;
 
 import jakarta.data.Sort;
+import jakarta.data.page.KeysetAwareSlice;
+import jakarta.data.page.Pageable;
+import org.apache.tinkerpop.gremlin.process.traversal.Order;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.structure.T;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.eclipse.jnosql.communication.Condition;
 import org.eclipse.jnosql.communication.query.SelectQuery;
 import org.eclipse.jnosql.communication.query.method.SelectMethodProvider;
 import org.eclipse.jnosql.communication.query.method.SelectMethodQueryProvider;
+import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.core.Keyset;
 import org.eclipse.jnosql.mapping.core.NoSQLPage;
 import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
 import org.eclipse.jnosql.mapping.core.repository.DynamicReturn;
 import org.eclipse.jnosql.mapping.core.repository.RepositoryObserverParser;
 import org.eclipse.jnosql.mapping.core.repository.SpecialParameters;
 
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
@@ -42,15 +55,27 @@ final class SelectQueryConverter extends AbstractQueryConvert implements BiFunct
 
     @Override
     public Stream<Vertex> apply(GraphQueryMethod graphQuery, Object[] params) {
+        return traversal(graphQuery, params).toStream();
+    }
+
+    GraphTraversal<Vertex, Vertex> traversal(GraphQueryMethod graphQuery, Object[] params) {
 
         SelectQuery query = selectQuery(graphQuery);
         EntityMetadata mapping = graphQuery.mapping();
         RepositoryObserverParser parser = RepositoryObserverParser.of(mapping);
         GraphTraversal<Vertex, Vertex> traversal = getGraphTraversal(graphQuery, query::where, mapping);
         traversal.hasLabel(mapping.name());
+        SpecialParameters special = DynamicReturn.findSpecialParameters(params);
+        Optional<Pageable> keysetPageable = keysetPageable(graphQuery.method(), special);
+        if (keysetPageable.isPresent()) {
+            List<Sort> sorts = new ArrayList<>(query.orderBy());
+            sorts.addAll(special.sorts());
+            updateKeyset(traversal, keysetPageable.orElseThrow(), Keyset.of(mapping, sorts, graphQuery.converters()), parser);
+            return traversal;
+        }
         query.orderBy().forEach(getSort(traversal, parser));
         updateDynamicParameter(params, traversal, query, parser);
-        return traversal.toStream();
+        return traversal;
     }
 
     private SelectQuery selectQuery(GraphQueryMethod graphQuery) {
@@ -73,8 +98,73 @@ final class SelectQueryConverter extends AbstractQueryConvert implements BiFunct
     }
 
 
-    static void updateDynamicParameter(Object[] args, GraphTraversal<Vertex, Vertex> traversal, EntityMetadata mapping) {
-        updateDynamicParameter(args, traversal, null, RepositoryObserverParser.of(mapping));
+    static void updateDynamicParameter(Object[] args, GraphTraversal<Vertex, Vertex> traversal, EntityMetadata mapping,
+                                       Converters converters, Method method) {
+        RepositoryObserverParser parser = RepositoryObserverParser.of(mapping);
+        SpecialParameters special = DynamicReturn.findSpecialParameters(args);
+        Optional<Pageable> keysetPageable = keysetPageable(method, special);
+        if (keysetPageable.isPresent()) {
+            updateKeyset(traversal, keysetPageable.orElseThrow(), Keyset.of(mapping, special.sorts(), converters), parser);
+            return;
+        }
+        updateDynamicParameter(args, traversal, null, parser);
+    }
+
+    /**
+     * Checks if the method reads a page by keyset, either because the pageable has a cursor or because the method returns
+     * the cursor of each entity, {@link KeysetAwareSlice}.
+     */
+    static boolean isKeyset(Method method, Pageable pageable) {
+        return pageable.mode() != Pageable.Mode.OFFSET
+                || method != null && KeysetAwareSlice.class.isAssignableFrom(method.getReturnType());
+    }
+
+    private static Optional<Pageable> keysetPageable(Method method, SpecialParameters special) {
+        return special.pageable().filter(p -> isKeyset(method, p));
+    }
+
+    private static void updateKeyset(GraphTraversal<Vertex, Vertex> traversal, Pageable pageable, Keyset keyset,
+                                     RepositoryObserverParser parser) {
+        keyset.condition(pageable).ifPresent(c -> traversal.filter(condition(c, keyset)));
+        GraphTraversal<Vertex, Vertex> order = traversal.order();
+        for (Sort sort : keyset.sorts(pageable)) {
+            Order direction = sort.isAscending() ? asc : desc;
+            if (keyset.isId(sort.property())) {
+                order.by(T.id, direction);
+            } else {
+                order.by(parser.field(sort.property()), direction);
+            }
+        }
+        if (pageable.mode() == Pageable.Mode.OFFSET) {
+            traversal.skip(NoSQLPage.skip(pageable));
+        }
+        traversal.limit(pageable.size());
+    }
+
+    private static GraphTraversal<?, ?> condition(List<List<Keyset.Comparison>> disjunction, Keyset keyset) {
+        GraphTraversal<?, ?>[] conditions = new GraphTraversal[disjunction.size()];
+        for (int index = 0; index < conditions.length; index++) {
+            GraphTraversal<Object, Object> conjunction = __.start();
+            for (Keyset.Comparison comparison : disjunction.get(index)) {
+                P<Object> predicate = predicate(comparison);
+                if (keyset.isId(comparison.name())) {
+                    conjunction.has(T.id, predicate);
+                } else {
+                    conjunction.has(comparison.name(), predicate);
+                }
+            }
+            conditions[index] = conjunction;
+        }
+        return __.or(conditions);
+    }
+
+    private static P<Object> predicate(Keyset.Comparison comparison) {
+        if (Condition.EQUALS.equals(comparison.condition())) {
+            return P.eq(comparison.value());
+        } else if (Condition.GREATER_THAN.equals(comparison.condition())) {
+            return P.gt(comparison.value());
+        }
+        return P.lt(comparison.value());
     }
 
 
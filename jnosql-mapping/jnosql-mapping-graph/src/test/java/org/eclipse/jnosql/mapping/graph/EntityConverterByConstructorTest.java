@@ -16,6 +16,7 @@ package org.eclipse.jnosql.mapping.graph;
 
 import jakarta.inject.Inject;
 import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.Property;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.assertj.core.api.SoftAssertions;
 import org.eclipse.jnosql.mapping.core.Converters;
@@ -32,6 +33,7 @@ import org.jboss.weld.junit5.auto.EnableAutoWeld;
 import org.junit.jupiter.api.Test;
 
 import java.time.Year;
+import java.util.List;
 
 @EnableAutoWeld
 @AddPackages(value = {Converters.class, Transactional.class})
@@ -56,7 +58,8 @@ class EntityConverterByConstructorTest {
         vertex.property("manufacturer", "Fiat");
         vertex.property("year", Year.now().getValue());
         EntityMetadata metadata = entities.get(Car.class);
-        EntityConverterByContructor<Car> converter = EntityConverterByContructor.of(metadata, vertex, converters);
+        EntityConverterByContructor<Car> converter = EntityConverterByContructor.of(metadata, properties(vertex), vertex.id(),
+                converters);
         Car car = converter.get();
 
         SoftAssertions.assertSoftly(soft -> {
@@ -72,7 +75,8 @@ class EntityConverterByConstructorTest {
         Vertex vertex = graph.addVertex("Hero");
         vertex.property("name", "Super man");
         EntityMetadata metadata = entities.get(Hero.class);
-        EntityConverterByContructor<Hero> converter = EntityConverterByContructor.of(metadata, vertex, converters);
+        EntityConverterByContructor<Hero> converter = EntityConverterByContructor.of(metadata, properties(vertex), vertex.id(),
+                converters);
         Hero hero = converter.get();
 
         SoftAssertions.assertSoftly(soft -> {
@@ -80,4 +84,8 @@ class EntityConverterByConstructorTest {
             soft.assertThat(hero.name()).isEqualTo("Super man");
         });
     }
-}
\ No newline at end of file
+
+    private static List<Property<?>> properties(Vertex vertex) {
+        return vertex.keys().stream().<Property<?>>map(k -> DefaultProperty.of(k, vertex.value(k))).toList();
+    }
+}
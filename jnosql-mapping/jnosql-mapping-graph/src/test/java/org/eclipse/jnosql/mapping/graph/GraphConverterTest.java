@@ -20,6 +20,7 @@ import org.apache.tinkerpop.gremlin.structure.Property;
 import org.apache.tinkerpop.gremlin.structure.T;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.VertexProperty;
+import org.eclipse.jnosql.mapping.core.config.MappingConfigurations;
 import org.eclipse.jnosql.mapping.graph.entities.BookRelease;
 import org.eclipse.jnosql.mapping.graph.entities.Computer;
 import org.eclipse.jnosql.mapping.graph.entities.Job;
@@ -34,8 +35,11 @@ import org.junit.jupiter.api.Test;
 import java.math.BigDecimal;
 import java.time.Year;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 import static java.util.Comparator.comparing;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 
 abstract class GraphConverterTest {
@@ -115,6 +119,85 @@ abstract class GraphConverterTest {
     }
 
 
+    @Test
+    public void shouldReturnErrorWhenFromElementMapHasNullParameter() {
+        assertThrows(NullPointerException.class, () -> getConverter().fromElementMap(null));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenElementMapHasNoLabel() {
+        assertThrows(IllegalArgumentException.class, () -> getConverter().fromElementMap(Map.of("name", "Ada")));
+    }
+
+    @Test
+    public void shouldReturnFromElementMap() {
+        Vertex vertex = getGraph().addVertex(T.label, "Person", "age", 22, "name", "Ada", "nickname", "ada");
+        Map<Object, Object> elementMap = getGraph().traversal().V(vertex.id()).elementMap().next();
+
+        Person person = getConverter().fromElementMap(elementMap);
+
+        assertEquals(vertex.id(), person.getId());
+        assertEquals("Ada", person.getName());
+        assertEquals(22, person.getAge());
+    }
+
+    @Test
+    public void shouldReturnFromElementMapWithEmbeddedAndConverter() {
+        Vertex vertex = getGraph().addVertex(T.label, "Worker", "name", "Bob", "city", "Salvador",
+                "description", "Java Developer", "money", "BRL 10");
+        Map<Object, Object> elementMap = getGraph().traversal().V(vertex.id()).elementMap().next();
+
+        Worker worker = getConverter().fromElementMap(elementMap);
+
+        assertEquals("Bob", worker.getName());
+        assertEquals("Salvador", worker.getJob().getCity());
+        assertEquals("Java Developer", worker.getJob().getDescription());
+        assertEquals(new Money("BRL", BigDecimal.TEN), worker.getSalary());
+    }
+
+    @Test
+    public void shouldReturnFromElementMapByConstructor() {
+        Vertex vertex = getGraph().addVertex(T.label, "Computer",
+                "name", "Dell", "age", 2020, "model", "Dell 2020", "price", "USD 20");
+        Map<Object, Object> elementMap = getGraph().traversal().V(vertex.id()).elementMap().next();
+
+        Computer computer = getConverter().fromElementMap(elementMap);
+
+        assertEquals(vertex.id(), computer.getId());
+        assertEquals("Dell", computer.getName());
+        assertEquals(2020, computer.getAge());
+        assertEquals(Money.parse("USD 20"), computer.getPrice());
+    }
+
+    @Test
+    public void shouldConvertTraversalToEntities() {
+        getGraph().addVertex(T.label, "Person", "age", 22, "name", "Ada");
+        getGraph().addVertex(T.label, "Person", "age", 23, "name", "Poliana");
+
+        List<Person> people = getConverter().<Person>toEntities(getGraph().traversal().V().hasLabel("Person")
+                .order().by("name")).toList();
+
+        assertThat(people).extracting(Person::getName).containsExactly("Ada", "Poliana");
+    }
+
+    @Test
+    public void shouldConvertTraversalToEntitiesUsingElementMap() {
+        System.setProperty(MappingConfigurations.GRAPH_MATERIALIZATION.get(), "element-map");
+        try {
+            Vertex vertex = getGraph().addVertex(T.label, "Person", "age", 22, "name", "Ada");
+            getGraph().addVertex(T.label, "Person", "age", 23, "name", "Poliana");
+
+            Stream<Person> stream = getConverter().toEntities(getGraph().traversal().V().hasLabel("Person")
+                    .order().by("name"));
+            List<Person> people = stream.toList();
+
+            assertThat(people).extracting(Person::getName).containsExactly("Ada", "Poliana");
+            assertThat(people).extracting(p -> (Object) p.getId()).contains(vertex.id());
+        } finally {
+            System.clearProperty(MappingConfigurations.GRAPH_MATERIALIZATION.get());
+        }
+    }
+
     @Test
     public void shouldReturnErrorWhenToVertexHasNullParameter() {
         assertThrows(NullPointerException.class, () -> getConverter().toVertex(null));
@@ -15,7 +15,10 @@
 package org.eclipse.jnosql.mapping.graph;
 
 import jakarta.enterprise.event.Event;
+import jakarta.enterprise.inject.spi.BeanManager;
+import jakarta.enterprise.inject.spi.ObserverMethod;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.eclipse.jnosql.mapping.EntitiesPostPersist;
 import org.eclipse.jnosql.mapping.EntityPostPersist;
 import org.eclipse.jnosql.mapping.EntityPrePersist;
 import org.junit.jupiter.api.Test;
@@ -23,10 +26,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+import java.util.Set;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class GraphEventPersistManagerTest {
@@ -40,6 +52,12 @@ class GraphEventPersistManagerTest {
     @Mock
     private Event<EntityPostPersist> entityPostPersistEvent;
 
+    @Mock
+    private Event<EntitiesPostPersist> entitiesPostPersistEvent;
+
+    @Mock
+    private BeanManager beanManager;
+
     @Mock
     private Vertex vertex;
 
@@ -65,6 +83,43 @@ class GraphEventPersistManagerTest {
         assertEquals(jedi, value.get());
     }
 
+    @Test
+    void shouldFirePostEntities() {
+        Jedi jedi = new Jedi();
+        jedi.name = "Luke";
+        subject.firePostEntities(List.of(jedi));
+        ArgumentCaptor<EntitiesPostPersist> captor = ArgumentCaptor.forClass(EntitiesPostPersist.class);
+        verify(entitiesPostPersistEvent).fire(captor.capture());
+        EntitiesPostPersist value = captor.getValue();
+        assertEquals(List.of(jedi), value.get());
+    }
+
+    @Test
+    void shouldNotFireWhenThereIsNoObserver() {
+        doReturn(Set.of()).when(beanManager).resolveObserverMethods(any());
+        subject.init();
+        Jedi jedi = new Jedi();
+        subject.firePreEntity(jedi);
+        subject.firePostEntity(jedi);
+        subject.firePostEntities(List.of(jedi));
+        verifyNoInteractions(entityPrePersistEvent, entityPostPersistEvent, entitiesPostPersistEvent);
+    }
+
+    @Test
+    void shouldFirePostEntityAsync() {
+        ObserverMethod<?> observer = Mockito.mock(ObserverMethod.class);
+        when(observer.isAsync()).thenReturn(true);
+        doReturn(Set.of(observer)).when(beanManager).resolveObserverMethods(any());
+        subject.init();
+        Jedi jedi = new Jedi();
+        subject.firePostEntity(jedi);
+        subject.firePostEntities(List.of(jedi));
+        verify(entityPostPersistEvent).fireAsync(EntityPostPersist.of(jedi));
+        verify(entityPostPersistEvent, never()).fire(any());
+        verify(entitiesPostPersistEvent).fireAsync(EntitiesPostPersist.of(List.of(jedi)));
+        verify(entitiesPostPersistEvent, never()).fire(any());
+    }
+
     static class Jedi {
         private String name;
     }
@@ -29,6 +29,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDate;
+import java.util.Map;
 
 import static io.smallrye.common.constraint.Assert.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -149,6 +150,24 @@ public abstract class GraphInheritanceConverterTest {
         assertEquals(date, notification.getCreatedOn());
     }
 
+    @Test
+    public void shouldConvertElementMapToEmail(){
+        LocalDate date = LocalDate.now();
+
+        Vertex vertex = getGraph().addVertex(T.label, "Notification",
+                "name", "SMS Notification",
+                "email", "otavio@otavio.test",
+                "dtype", "Email",
+                "createdOn",date);
+        Map<Object, Object> elementMap = getGraph().traversal().V(vertex.id()).elementMap().next();
+
+        EmailNotification notification = this.getConverter().fromElementMap(elementMap);
+        Assertions.assertEquals(vertex.id(), notification.getId());
+        Assertions.assertEquals("SMS Notification", notification.getName());
+        Assertions.assertEquals("otavio@otavio.test", notification.getEmail());
+        assertEquals(date, notification.getCreatedOn());
+    }
+
     @Test
     public void shouldConvertSocialMediaToCommunicationEntity(){
         SocialMediaNotification notification = new SocialMediaNotification();
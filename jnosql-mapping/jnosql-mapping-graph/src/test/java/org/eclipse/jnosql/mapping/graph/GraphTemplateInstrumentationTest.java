@@ -0,0 +1,144 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.graph;
+
+import jakarta.inject.Inject;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.eclipse.jnosql.communication.Instrumentation;
+import org.eclipse.jnosql.communication.Measurement;
+import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.graph.entities.Person;
+import org.eclipse.jnosql.mapping.graph.spi.GraphExtension;
+import org.eclipse.jnosql.mapping.core.spi.EntityMetadataExtension;
+import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.reflection.Reflections;
+import org.jboss.weld.junit5.auto.AddExtensions;
+import org.jboss.weld.junit5.auto.AddPackages;
+import org.jboss.weld.junit5.auto.EnableAutoWeld;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@EnableAutoWeld
+@AddPackages(value = {Converters.class, Transactional.class})
+@AddPackages(BookRepository.class)
+@AddPackages(Reflections.class)
+@AddExtensions({EntityMetadataExtension.class, GraphExtension.class})
+class GraphTemplateInstrumentationTest {
+
+    @Inject
+    private Graph graph;
+
+    @Inject
+    private EntitiesMetadata entities;
+
+    @Inject
+    private GraphConverter converter;
+
+    @Inject
+    private GraphEventPersistManager persistManager;
+
+    @Inject
+    private Converters converters;
+
+    private final List<String> events = new ArrayList<>();
+
+    private GraphTemplate template;
+
+    @BeforeEach
+    void setUp() {
+        Instrumentation instrumentation = (provider, operation, entity) -> {
+            events.add(operation + " " + entity);
+            return new Measurement() {
+                @Override
+                public void rows(long rows) {
+                    events.add("rows " + rows);
+                }
+
+                @Override
+                public void read(long rows) {
+                    events.add("read " + rows);
+                }
+
+                @Override
+                public void error(Throwable error) {
+                    events.add("error " + error.getClass().getSimpleName());
+                }
+
+                @Override
+                public void close() {
+                    events.add("close");
+                }
+            };
+        };
+        this.template = new DefaultGraphTemplate(new GraphTemplateProducer.SingleInstance<>(graph), entities,
+                converter, persistManager, converters) {
+            @Override
+            protected Instrumentation getInstrumentation() {
+                return instrumentation;
+            }
+        };
+    }
+
+    @AfterEach
+    void after() {
+        graph.traversal().V().toList().forEach(Vertex::remove);
+    }
+
+    @Test
+    void shouldMeasureInsertAndFind() {
+        Person person = template.insert(Person.builder().withAge().withName("Ada").build());
+        assertThat(template.find(Person.class, person.getId())).isPresent();
+
+        assertThat(events).containsExactly("insert Person", "close", "find Person", "close");
+    }
+
+    @Test
+    void shouldMeasureQueryUntilTheFirstRow() {
+        template.insert(Person.builder().withAge().withName("Ada").build());
+        template.insert(Person.builder().withAge().withName("Grace").build());
+        events.clear();
+
+        List<Person> people = template.<Person>query("g.V().hasLabel('Person')").toList();
+
+        assertThat(people).hasSize(2);
+        assertThat(events).containsExactly("query ", "close", "read 2");
+    }
+
+    @Test
+    void shouldMeasureCountAndFindAll() {
+        template.insert(Person.builder().withAge().withName("Ada").build());
+        events.clear();
+
+        assertThat(template.count(Person.class)).isEqualTo(1L);
+        assertThat(template.findAll(Person.class).toList()).hasSize(1);
+
+        assertThat(events).containsExactly("count Person", "close", "findAll Person", "close", "read 1");
+    }
+
+    @Test
+    void shouldMeasureError() {
+        assertThatThrownBy(() -> template.query("g.V().invalid()")).isInstanceOf(RuntimeException.class);
+
+        assertThat(events).startsWith("query ").contains("close");
+    }
+}
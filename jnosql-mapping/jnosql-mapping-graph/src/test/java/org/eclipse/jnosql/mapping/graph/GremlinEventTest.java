@@ -0,0 +1,115 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.graph;
+
+import jakarta.inject.Inject;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.core.spi.EntityMetadataExtension;
+import org.eclipse.jnosql.mapping.graph.spi.GraphExtension;
+import org.eclipse.jnosql.mapping.reflection.Reflections;
+import org.jboss.weld.junit5.auto.AddExtensions;
+import org.jboss.weld.junit5.auto.AddPackages;
+import org.jboss.weld.junit5.auto.EnableAutoWeld;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@EnableAutoWeld
+@AddPackages(value = {Converters.class, Transactional.class})
+@AddPackages(BookRepository.class)
+@AddPackages(Reflections.class)
+@AddExtensions({EntityMetadataExtension.class, GraphExtension.class})
+class GremlinEventTest {
+
+    private static final String EVENT = "org.eclipse.jnosql.Gremlin";
+
+    @Inject
+    private GraphConverter converter;
+
+    @Inject
+    private Graph graph;
+
+    private GremlinExecutor executor;
+
+    @BeforeEach
+    void before() {
+        executor = new GremlinExecutor(converter);
+        graph.traversal().V().toList().forEach(Vertex::remove);
+        graph.traversal().E().toList().forEach(Edge::remove);
+        graph.addVertex(T.label, "Person", "name", "Bruce Banner", "age", 30);
+        graph.addVertex(T.label, "Person", "name", "Natasha Romanoff", "age", 30);
+    }
+
+    @Test
+    void shouldRecordTraversal() throws IOException {
+        List<RecordedEvent> events = record(() -> executor.executeGremlin(graph.traversal(), "g.V()").toList());
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getString("query")).isEqualTo("g.V()");
+        assertThat(events.get(0).getLong("rows")).isEqualTo(2L);
+    }
+
+    @Test
+    void shouldRecordRowsReadWhenClosed() throws IOException {
+        List<RecordedEvent> events = record(() -> {
+            try (Stream<Object> stream = executor.executeGremlin(graph.traversal(), "g.V()")) {
+                stream.findFirst();
+            }
+        });
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getLong("rows")).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldNotRecordUntilTheStreamEnds() throws IOException {
+        List<RecordedEvent> events = record(() -> executor.executeGremlin(graph.traversal(), "g.V()"));
+        assertThat(events).isEmpty();
+    }
+
+    @Test
+    void shouldRecordRows() throws IOException {
+        List<RecordedEvent> events = record(() -> executor.executeGremlin(graph.traversal(), "g.V().toList()").toList());
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getLong("rows")).isEqualTo(2L);
+    }
+
+    private static List<RecordedEvent> record(Runnable runnable) throws IOException {
+        Path file = Files.createTempFile("jnosql", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(EVENT);
+            recording.start();
+            runnable.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file).stream()
+                    .filter(e -> EVENT.equals(e.getEventType().getName())).toList();
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
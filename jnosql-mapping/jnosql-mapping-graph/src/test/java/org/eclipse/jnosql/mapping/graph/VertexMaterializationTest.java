@@ -0,0 +1,53 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.graph;
+
+import org.eclipse.jnosql.mapping.core.config.MappingConfigurations;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class VertexMaterializationTest {
+
+    @AfterEach
+    void tearDown() {
+        System.clearProperty(MappingConfigurations.GRAPH_MATERIALIZATION.get());
+    }
+
+    @Test
+    void shouldReturnVertexAsDefault() {
+        assertThat(VertexMaterialization.get()).isEqualTo(VertexMaterialization.VERTEX);
+    }
+
+    @Test
+    void shouldReturnFromProperty() {
+        System.setProperty(MappingConfigurations.GRAPH_MATERIALIZATION.get(), "element-map");
+        assertThat(VertexMaterialization.get()).isEqualTo(VertexMaterialization.ELEMENT_MAP);
+    }
+
+    @Test
+    void shouldParseIgnoringCase() {
+        assertThat(VertexMaterialization.parse(" Element_Map ")).isEqualTo(VertexMaterialization.ELEMENT_MAP);
+        assertThat(VertexMaterialization.parse("vertex")).isEqualTo(VertexMaterialization.VERTEX);
+    }
+
+    @Test
+    void shouldReturnErrorWhenValueIsInvalid() {
+        System.setProperty(MappingConfigurations.GRAPH_MATERIALIZATION.get(), "map");
+        assertThatIllegalArgumentException().isThrownBy(VertexMaterialization::get);
+    }
+}
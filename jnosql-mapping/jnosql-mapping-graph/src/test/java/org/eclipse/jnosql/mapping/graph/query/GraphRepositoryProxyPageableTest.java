@@ -15,6 +15,7 @@
 package org.eclipse.jnosql.mapping.graph.query;
 
 import jakarta.data.Limit;
+import jakarta.data.page.KeysetAwarePage;
 import jakarta.data.page.Page;
 import jakarta.data.page.Pageable;
 import jakarta.data.repository.PageableRepository;
@@ -122,6 +123,39 @@ class GraphRepositoryProxyPageableTest {
 
     }
 
+    @Test
+    void shouldFindByKeyset() {
+        for (String name : List.of("Poliana", "Ada", "Otavio", "Bruno", "Maria")) {
+            graph.addVertex(T.label, "Person", "name", name, "age", 20);
+        }
+
+        KeysetAwarePage<Person> first = personRepository.findByAgeGreaterThanEqualOrderByName(20, Pageable.ofSize(2));
+        assertThat(first.content()).extracting(Person::getName).containsExactly("Ada", "Bruno");
+
+        KeysetAwarePage<Person> second = personRepository.findByAgeGreaterThanEqualOrderByName(20, first.nextPageable());
+        assertThat(second.content()).extracting(Person::getName).containsExactly("Maria", "Otavio");
+
+        KeysetAwarePage<Person> third = personRepository.findByAgeGreaterThanEqualOrderByName(20, second.nextPageable());
+        assertThat(third.content()).extracting(Person::getName).containsExactly("Poliana");
+        assertNull(third.nextPageable());
+
+        KeysetAwarePage<Person> previous = personRepository.findByAgeGreaterThanEqualOrderByName(20, second.previousPageable());
+        assertThat(previous.content()).extracting(Person::getName).containsExactly("Ada", "Bruno");
+    }
+
+    @Test
+    void shouldUseIdAsTiebreakerOnKeyset() {
+        for (int index = 0; index < 5; index++) {
+            graph.addVertex(T.label, "Person", "name", "name", "age", 20);
+        }
+
+        KeysetAwarePage<Person> first = personRepository.findByAgeGreaterThanEqualOrderByName(20, Pageable.ofSize(3));
+        KeysetAwarePage<Person> second = personRepository.findByAgeGreaterThanEqualOrderByName(20, first.nextPageable());
+
+        assertThat(first.content()).hasSize(3);
+        assertThat(second.content()).hasSize(2).doesNotContainAnyElementsOf(first.content());
+    }
+
     @Test
     void shouldFindByAgeAndName() {
 
@@ -255,6 +289,8 @@ class GraphRepositoryProxyPageableTest {
 
         Set<Person> findByAgeAndName(Integer age, String name, Pageable pagination);
 
+        KeysetAwarePage<Person> findByAgeGreaterThanEqualOrderByName(Integer age, Pageable pageable);
+
     }
 
 }
@@ -22,9 +22,12 @@ import jakarta.nosql.keyvalue.KeyValueTemplate;
 import org.eclipse.jnosql.communication.Value;
 import org.eclipse.jnosql.communication.keyvalue.BucketManager;
 import org.eclipse.jnosql.communication.keyvalue.KeyValueEntity;
+import org.eclipse.jnosql.mapping.core.MappingExecutor;
+import org.eclipse.jnosql.mapping.core.coalescing.RequestCoalescer;
 
 import java.time.Duration;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Consumer;
@@ -47,6 +50,26 @@ public abstract class AbstractKeyValueTemplate implements KeyValueTemplate {
 
     protected abstract KeyValueEventPersistManager getEventManager();
 
+    /**
+     * The coalescer of the identical concurrent reads at {@link #get(Object, Class)} of the entities annotated with
+     * {@link org.eclipse.jnosql.mapping.Coalesce}, by default there is no coalescing.
+     *
+     * @return the {@link RequestCoalescer} instance
+     */
+    protected RequestCoalescer getCoalescer() {
+        return RequestCoalescer.none();
+    }
+
+    /**
+     * Returns the coalescer of the identical concurrent reads of the entities annotated with
+     * {@link org.eclipse.jnosql.mapping.Coalesce}, it allows to read the statistics.
+     *
+     * @return the {@link RequestCoalescer} instance
+     */
+    public RequestCoalescer coalescer() {
+        return getCoalescer();
+    }
+
     @Override
     public <T> T put(T entity) {
         requireNonNull(entity, "entity is required");
@@ -60,6 +83,25 @@ public abstract class AbstractKeyValueTemplate implements KeyValueTemplate {
         return persist(entity, (keyValueEntity) -> getManager().put(keyValueEntity, ttl));
     }
 
+    @Override
+    public <T> Iterable<T> put(Iterable<T> entities) {
+        requireNonNull(entities, "entities is required");
+        List<T> values = StreamSupport.stream(entities.spliterator(), false)
+                .map(this::put).collect(Collectors.toList());
+        getEventManager().firePostEntities(values);
+        return values;
+    }
+
+    @Override
+    public <T> Iterable<T> put(Iterable<T> entities, Duration ttl) {
+        requireNonNull(entities, "entities is required");
+        requireNonNull(ttl, "ttl is required");
+        List<T> values = StreamSupport.stream(entities.spliterator(), false)
+                .map(e -> put(e, ttl)).collect(Collectors.toList());
+        getEventManager().firePostEntities(values);
+        return values;
+    }
+
     @Override
     public <T> Iterable<T> insert(Iterable<T> entities) {
         return put(entities);
@@ -95,9 +137,16 @@ public abstract class AbstractKeyValueTemplate implements KeyValueTemplate {
         requireNonNull(key, "key is required");
         requireNonNull(type, "entity class is required");
 
-        Optional<Value> value = getManager().get(key);
-        return value.map(v -> getConverter().toEntity(type, KeyValueEntity.of(key, v)))
-                .filter(Objects::nonNull).map(e -> {
+        RequestCoalescer coalescer = getCoalescer();
+        Optional<T> entity;
+        if (coalescer.isImmutable(type)) {
+            entity = coalescer.execute(type, key, () -> getManager().get(key)
+                    .map(v -> getConverter().toEntity(type, KeyValueEntity.of(key, v))));
+        } else {
+            Optional<Value> value = coalescer.execute(type, key, () -> getManager().get(key));
+            entity = value.map(v -> getConverter().toEntity(type, KeyValueEntity.of(key, v)));
+        }
+        return entity.filter(Objects::nonNull).map(e -> {
                     getEventManager().firePostEntity(e);
                     return e;
                 });
@@ -107,11 +156,11 @@ public abstract class AbstractKeyValueTemplate implements KeyValueTemplate {
     public <K, T> Iterable<T> get(Iterable<K> keys, Class<T> type) {
         requireNonNull(keys, "keys is required");
         requireNonNull(type, "type class is required");
-        return StreamSupport.stream(keys.spliterator(), false)
-                .map(k -> getManager().get(k)
-                        .map(v -> KeyValueEntity.of(k, v)))
-                .filter(Optional::isPresent)
-                .map(e -> getConverter().toEntity(type, e.get()))
+        List<K> keyList = StreamSupport.stream(keys.spliterator(), false).collect(Collectors.toList());
+        return MappingExecutor.get().map(getManager(), keyList, k -> getManager().get(k).map(v -> KeyValueEntity.of(k, v)))
+                .stream()
+                .flatMap(Optional::stream)
+                .map(e -> getConverter().toEntity(type, e))
                 .collect(Collectors.toList());
     }
 
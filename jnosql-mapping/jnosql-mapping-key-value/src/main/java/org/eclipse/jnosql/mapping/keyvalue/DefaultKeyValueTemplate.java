@@ -19,6 +19,7 @@ import jakarta.enterprise.inject.Default;
 import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
 import org.eclipse.jnosql.communication.keyvalue.BucketManager;
+import org.eclipse.jnosql.mapping.core.coalescing.RequestCoalescer;
 import org.eclipse.jnosql.mapping.Database;
 import org.eclipse.jnosql.mapping.DatabaseType;
 
@@ -33,6 +34,8 @@ class DefaultKeyValueTemplate extends AbstractKeyValueTemplate {
 
     private KeyValueEventPersistManager eventManager;
 
+    private final RequestCoalescer coalescer = RequestCoalescer.create();
+
     @Inject
     DefaultKeyValueTemplate(KeyValueEntityConverter converter,
                             Instance<BucketManager> manager,
@@ -59,4 +62,9 @@ class DefaultKeyValueTemplate extends AbstractKeyValueTemplate {
     protected KeyValueEventPersistManager getEventManager() {
         return eventManager;
     }
+
+    @Override
+    protected RequestCoalescer getCoalescer() {
+        return coalescer;
+    }
 }
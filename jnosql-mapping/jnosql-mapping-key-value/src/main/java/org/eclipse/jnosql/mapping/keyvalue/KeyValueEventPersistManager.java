@@ -17,11 +17,17 @@ package org.eclipse.jnosql.mapping.keyvalue;
 
 import org.eclipse.jnosql.communication.keyvalue.KeyValueEntity;
 
+import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.event.Event;
+import jakarta.enterprise.inject.spi.BeanManager;
 import jakarta.inject.Inject;
+import org.eclipse.jnosql.mapping.EntitiesPostPersist;
 import org.eclipse.jnosql.mapping.EntityPostPersist;
 import org.eclipse.jnosql.mapping.EntityPrePersist;
+import org.eclipse.jnosql.mapping.core.EntityObservers;
+
+import java.util.List;
 
 @ApplicationScoped
 public class KeyValueEventPersistManager {
@@ -32,6 +38,19 @@ public class KeyValueEventPersistManager {
     @Inject
     private Event<EntityPostPersist> entityPostPersistEvent;
 
+    @Inject
+    private Event<EntitiesPostPersist> entitiesPostPersistEvent;
+
+    @Inject
+    private BeanManager beanManager;
+
+    private EntityObservers observers = EntityObservers.unresolved();
+
+    @PostConstruct
+    void init() {
+        this.observers = EntityObservers.of(beanManager);
+    }
+
     /**
      * Fire an event once the method is called
      *
@@ -39,7 +58,9 @@ public class KeyValueEventPersistManager {
      * @param <T>    the entity type
      */
     public <T> void firePreEntity(T entity) {
-        entityPrePersistEvent.fire(EntityPrePersist.of(entity));
+        if (observers.isObserved(EntityPrePersist.class)) {
+            entityPrePersistEvent.fire(EntityPrePersist.of(entity));
+        }
     }
 
     /**
@@ -50,6 +71,16 @@ public class KeyValueEventPersistManager {
      * @param <T>    the entity kind
      */
     public <T> void firePostEntity(T entity) {
-        entityPostPersistEvent.fire(EntityPostPersist.of(entity));
+        observers.fire(entityPostPersistEvent, EntityPostPersist.class, () -> EntityPostPersist.of(entity));
+    }
+
+    /**
+     * Fire a single event after every {@link KeyValueEntity} written by a save or update call is converted to an entity.
+     *
+     * @param entities the entities
+     * @param <T>      the entity type
+     */
+    public <T> void firePostEntities(List<T> entities) {
+        observers.fire(entitiesPostPersistEvent, EntitiesPostPersist.class, () -> EntitiesPostPersist.of(entities));
     }
 }
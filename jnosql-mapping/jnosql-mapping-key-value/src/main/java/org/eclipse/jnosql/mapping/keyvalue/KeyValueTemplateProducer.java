@@ -19,6 +19,7 @@ import jakarta.enterprise.inject.Vetoed;
 import jakarta.inject.Inject;
 import jakarta.nosql.keyvalue.KeyValueTemplate;
 import org.eclipse.jnosql.communication.keyvalue.BucketManager;
+import org.eclipse.jnosql.mapping.core.coalescing.RequestCoalescer;
 
 import java.util.Objects;
 import java.util.function.Function;
@@ -50,6 +51,8 @@ public class KeyValueTemplateProducer implements Function<BucketManager, KeyValu
 
         private KeyValueEventPersistManager eventManager;
 
+        private final RequestCoalescer coalescer = RequestCoalescer.create();
+
         ProducerKeyValueTemplate(KeyValueEntityConverter converter,
                                  BucketManager manager, KeyValueEventPersistManager eventManager) {
             this.converter = converter;
@@ -74,5 +77,10 @@ public class KeyValueTemplateProducer implements Function<BucketManager, KeyValu
         protected KeyValueEventPersistManager getEventManager() {
             return eventManager;
         }
+
+        @Override
+        protected RequestCoalescer getCoalescer() {
+            return coalescer;
+        }
     }
 }
@@ -18,7 +18,11 @@ import jakarta.data.exceptions.MappingException;
 import org.eclipse.jnosql.communication.Settings;
 import org.eclipse.jnosql.communication.keyvalue.BucketManager;
 import org.eclipse.jnosql.communication.keyvalue.BucketManagerFactory;
+import org.eclipse.jnosql.communication.keyvalue.InstrumentedBucketManager;
 import org.eclipse.jnosql.communication.keyvalue.KeyValueConfiguration;
+import org.eclipse.jnosql.communication.keyvalue.NearCacheBucketManager;
+import org.eclipse.jnosql.communication.keyvalue.WriteBehindBucketManager;
+import org.eclipse.jnosql.mapping.core.MappingInstrumentation;
 import org.eclipse.jnosql.mapping.core.config.MicroProfileSettings;
 import org.eclipse.jnosql.mapping.reflection.Reflections;
 
@@ -26,13 +30,26 @@ import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.inject.Disposes;
 import jakarta.enterprise.inject.Produces;
 import jakarta.enterprise.inject.spi.CDI;
+import java.time.Duration;
+import java.util.Locale;
 import java.util.Optional;
 import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import static org.eclipse.jnosql.mapping.core.config.MappingConfigurations.KEY_VALUE_CACHE_COALESCING;
+import static org.eclipse.jnosql.mapping.core.config.MappingConfigurations.KEY_VALUE_CACHE_ENABLED;
+import static org.eclipse.jnosql.mapping.core.config.MappingConfigurations.KEY_VALUE_CACHE_EXPIRE_AFTER_WRITE;
+import static org.eclipse.jnosql.mapping.core.config.MappingConfigurations.KEY_VALUE_CACHE_MAXIMUM_SIZE;
+import static org.eclipse.jnosql.mapping.core.config.MappingConfigurations.KEY_VALUE_CACHE_NEGATIVE;
 import static org.eclipse.jnosql.mapping.core.config.MappingConfigurations.KEY_VALUE_DATABASE;
 import static org.eclipse.jnosql.mapping.core.config.MappingConfigurations.KEY_VALUE_PROVIDER;
+import static org.eclipse.jnosql.mapping.core.config.MappingConfigurations.KEY_VALUE_WRITE_BEHIND_BACKPRESSURE;
+import static org.eclipse.jnosql.mapping.core.config.MappingConfigurations.KEY_VALUE_WRITE_BEHIND_BATCH_SIZE;
+import static org.eclipse.jnosql.mapping.core.config.MappingConfigurations.KEY_VALUE_WRITE_BEHIND_BLOCK_TIMEOUT;
+import static org.eclipse.jnosql.mapping.core.config.MappingConfigurations.KEY_VALUE_WRITE_BEHIND_ENABLED;
+import static org.eclipse.jnosql.mapping.core.config.MappingConfigurations.KEY_VALUE_WRITE_BEHIND_MAXIMUM_PENDING;
+import static org.eclipse.jnosql.mapping.core.config.MappingConfigurations.KEY_VALUE_WRITE_BEHIND_WINDOW;
 
 @ApplicationScoped
 class BucketManagerSupplier implements Supplier<BucketManager> {
@@ -63,7 +80,44 @@ class BucketManagerSupplier implements Supplier<BucketManager> {
         LOGGER.log(Level.FINEST, "Starting  a BucketManager instance using Eclipse MicroProfile Config," +
                 " database name: " + db);
 
-        return manager;
+        return nearCache(settings, writeBehind(settings, InstrumentedBucketManager.of(manager, MappingInstrumentation.get(), "")));
+    }
+
+    private BucketManager writeBehind(Settings settings, BucketManager manager) {
+        boolean enabled = settings.get(KEY_VALUE_WRITE_BEHIND_ENABLED, Boolean.class).orElse(false);
+        if (!enabled) {
+            return manager;
+        }
+        WriteBehindBucketManager.Builder builder = WriteBehindBucketManager.builder(manager);
+        settings.get(KEY_VALUE_WRITE_BEHIND_WINDOW, String.class)
+                .map(Duration::parse)
+                .ifPresent(builder::withWindow);
+        settings.get(KEY_VALUE_WRITE_BEHIND_BATCH_SIZE, Integer.class).ifPresent(builder::withBatchSize);
+        settings.get(KEY_VALUE_WRITE_BEHIND_MAXIMUM_PENDING, Integer.class).ifPresent(builder::withMaximumPending);
+        settings.get(KEY_VALUE_WRITE_BEHIND_BACKPRESSURE, String.class)
+                .map(b -> WriteBehindBucketManager.Backpressure.valueOf(b.trim().toUpperCase(Locale.US)))
+                .ifPresent(builder::withBackpressure);
+        settings.get(KEY_VALUE_WRITE_BEHIND_BLOCK_TIMEOUT, String.class)
+                .map(Duration::parse)
+                .ifPresent(builder::withBlockTimeout);
+        LOGGER.log(Level.FINEST, "Enabling the write-behind buffer at the BucketManager, database name: " + manager.name());
+        return builder.build();
+    }
+
+    private BucketManager nearCache(Settings settings, BucketManager manager) {
+        boolean enabled = settings.get(KEY_VALUE_CACHE_ENABLED, Boolean.class).orElse(false);
+        if (!enabled) {
+            return manager;
+        }
+        NearCacheBucketManager.Builder builder = NearCacheBucketManager.builder(manager)
+                .withNegativeCaching(settings.get(KEY_VALUE_CACHE_NEGATIVE, Boolean.class).orElse(false))
+                .withCoalescing(settings.get(KEY_VALUE_CACHE_COALESCING, Boolean.class).orElse(true));
+        settings.get(KEY_VALUE_CACHE_MAXIMUM_SIZE, Long.class).ifPresent(builder::withMaximumSize);
+        settings.get(KEY_VALUE_CACHE_EXPIRE_AFTER_WRITE, String.class)
+                .map(Duration::parse)
+                .ifPresent(builder::withExpireAfterWrite);
+        LOGGER.log(Level.FINEST, "Enabling the near cache at the BucketManager, database name: " + manager.name());
+        return builder.build();
     }
 
     public void close(@Disposes BucketManager manager) {
@@ -15,6 +15,7 @@
 package org.eclipse.jnosql.mapping.keyvalue.query;
 
 import jakarta.nosql.keyvalue.KeyValueTemplate;
+import org.eclipse.jnosql.mapping.core.MappingExecutor;
 import org.eclipse.jnosql.mapping.core.query.AbstractRepositoryProxy;
 import org.eclipse.jnosql.mapping.core.repository.DynamicQueryMethodReturn;
 
@@ -38,7 +39,8 @@ public abstract class AbstractKeyValueRepositoryProxy<T, K> extends AbstractRepo
                 .withMethod(method)
                 .withTypeClass(typeClass)
                 .withPrepareConverter(q -> template().prepare(q, typeClass))
-                .withQueryConverter(q -> template().query(q, typeClass)).build();
+                .withQueryConverter(q -> template().query(q, typeClass))
+                .withExecutor(MappingExecutor.get().database(template())).build();
         return methodReturn.execute();
     }
 
@@ -22,9 +22,9 @@ import org.eclipse.jnosql.mapping.DatabaseType;
 import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
 import org.eclipse.jnosql.mapping.core.spi.AbstractBean;
 import org.eclipse.jnosql.mapping.core.util.AnnotationLiteralUtil;
+import org.eclipse.jnosql.mapping.core.query.GeneratedRepository;
 
 import java.lang.annotation.Annotation;
-import java.lang.reflect.Proxy;
 import java.lang.reflect.Type;
 import java.util.Collections;
 import java.util.HashSet;
@@ -76,9 +76,7 @@ public class RepositoryKeyValueBean<T extends CrudRepository> extends AbstractBe
                 getInstance(KeyValueTemplate.class, DatabaseQualifier.ofKeyValue(provider));
         EntitiesMetadata entities = getInstance(EntitiesMetadata.class);
         KeyValueRepositoryProxy handler = new KeyValueRepositoryProxy(type, entities, template);
-        return (T) Proxy.newProxyInstance(type.getClassLoader(),
-                new Class[]{type},
-                handler);
+        return (T) GeneratedRepository.create(type, handler);
     }
 
 
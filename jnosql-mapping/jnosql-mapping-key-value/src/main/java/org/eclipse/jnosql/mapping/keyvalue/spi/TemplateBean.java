@@ -18,9 +18,11 @@ package org.eclipse.jnosql.mapping.keyvalue.spi;
 import jakarta.enterprise.context.spi.CreationalContext;
 import jakarta.nosql.keyvalue.KeyValueTemplate;
 import org.eclipse.jnosql.communication.keyvalue.BucketManager;
+import org.eclipse.jnosql.communication.keyvalue.InstrumentedBucketManager;
 import org.eclipse.jnosql.mapping.DatabaseQualifier;
 import org.eclipse.jnosql.mapping.DatabaseType;
 import org.eclipse.jnosql.mapping.keyvalue.KeyValueTemplateProducer;
+import org.eclipse.jnosql.mapping.core.MappingInstrumentation;
 import org.eclipse.jnosql.mapping.core.spi.AbstractBean;
 
 import java.lang.annotation.Annotation;
@@ -59,7 +61,8 @@ class TemplateBean extends AbstractBean<KeyValueTemplate> {
     }
 
     private BucketManager getManager() {
-        return getInstance(BucketManager.class, DatabaseQualifier.ofKeyValue(provider));
+        BucketManager manager = getInstance(BucketManager.class, DatabaseQualifier.ofKeyValue(provider));
+        return InstrumentedBucketManager.of(manager, MappingInstrumentation.get(), provider);
     }
 
     @Override
@@ -15,6 +15,9 @@
 package org.eclipse.jnosql.mapping.keyvalue;
 
 import jakarta.enterprise.event.Event;
+import jakarta.enterprise.inject.spi.BeanManager;
+import jakarta.enterprise.inject.spi.ObserverMethod;
+import org.eclipse.jnosql.mapping.EntitiesPostPersist;
 import org.eclipse.jnosql.mapping.EntityPostPersist;
 import org.eclipse.jnosql.mapping.EntityPrePersist;
 import org.junit.jupiter.api.Test;
@@ -22,10 +25,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+import java.util.Set;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
 
 
 @ExtendWith(MockitoExtension.class)
@@ -41,6 +53,12 @@ class KeyValueEventPersistManagerTest {
     @Mock
     private Event<EntityPostPersist> entityPostPersistEvent;
 
+    @Mock
+    private Event<EntitiesPostPersist> entitiesPostPersistEvent;
+
+    @Mock
+    private BeanManager beanManager;
+
 
     @Test
     void shouldFirePreEntity() {
@@ -64,6 +82,42 @@ class KeyValueEventPersistManagerTest {
         assertEquals(actor, value.get());
     }
 
+    @Test
+    void shouldFirePostEntities() {
+        Actor actor = new Actor();
+        actor.name = "Luke";
+        subject.firePostEntities(List.of(actor));
+        ArgumentCaptor<EntitiesPostPersist> captor = ArgumentCaptor.forClass(EntitiesPostPersist.class);
+        verify(entitiesPostPersistEvent).fire(captor.capture());
+        EntitiesPostPersist value = captor.getValue();
+        assertEquals(List.of(actor), value.get());
+    }
+
+    @Test
+    void shouldNotFireWhenThereIsNoObserver() {
+        doReturn(Set.of()).when(beanManager).resolveObserverMethods(any());
+        subject.init();
+        Actor actor = new Actor();
+        subject.firePreEntity(actor);
+        subject.firePostEntity(actor);
+        subject.firePostEntities(List.of(actor));
+        verifyNoInteractions(entityPrePersistEvent, entityPostPersistEvent, entitiesPostPersistEvent);
+    }
+
+    @Test
+    void shouldFirePostEntityAsync() {
+        ObserverMethod<?> observer = Mockito.mock(ObserverMethod.class);
+        when(observer.isAsync()).thenReturn(true);
+        doReturn(Set.of(observer)).when(beanManager).resolveObserverMethods(any());
+        subject.init();
+        Actor actor = new Actor();
+        subject.firePostEntity(actor);
+        subject.firePostEntities(List.of(actor));
+        verify(entityPostPersistEvent).fireAsync(EntityPostPersist.of(actor));
+        verify(entityPostPersistEvent, never()).fire(any());
+        verify(entitiesPostPersistEvent).fireAsync(EntitiesPostPersist.of(List.of(actor)));
+        verify(entitiesPostPersistEvent, never()).fire(any());
+    }
 
     static class Actor {
         private String name;
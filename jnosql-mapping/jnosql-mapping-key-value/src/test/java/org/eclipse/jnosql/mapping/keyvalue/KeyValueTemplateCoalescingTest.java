@@ -0,0 +1,172 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.keyvalue;
+
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import org.eclipse.jnosql.communication.Value;
+import org.eclipse.jnosql.communication.keyvalue.BucketManager;
+import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.core.coalescing.CoalescingStatistics;
+import org.eclipse.jnosql.mapping.core.spi.EntityMetadataExtension;
+import org.eclipse.jnosql.mapping.keyvalue.entities.Session;
+import org.eclipse.jnosql.mapping.keyvalue.entities.Token;
+import org.eclipse.jnosql.mapping.keyvalue.entities.User;
+import org.eclipse.jnosql.mapping.keyvalue.spi.KeyValueExtension;
+import org.eclipse.jnosql.mapping.reflection.Reflections;
+import org.jboss.weld.junit5.auto.AddExtensions;
+import org.jboss.weld.junit5.auto.AddPackages;
+import org.jboss.weld.junit5.auto.EnableAutoWeld;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@EnableAutoWeld
+@AddPackages(value = {Converters.class, KeyValueEntityConverter.class})
+@AddPackages(MockProducer.class)
+@AddPackages(Reflections.class)
+@AddExtensions({EntityMetadataExtension.class, KeyValueExtension.class})
+class KeyValueTemplateCoalescingTest {
+
+    private static final int THREADS = 4;
+
+    private static final String KEY = "session";
+
+    @Inject
+    private KeyValueEntityConverter converter;
+
+    @Inject
+    private KeyValueEventPersistManager eventManager;
+
+    private BucketManager manager;
+
+    private DefaultKeyValueTemplate template;
+
+    private ExecutorService executor;
+
+    private CountDownLatch release;
+
+    @BeforeEach
+    void setUp() {
+        manager = Mockito.mock(BucketManager.class);
+        Instance<BucketManager> instance = Mockito.mock(Instance.class);
+        when(instance.get()).thenReturn(manager);
+        this.template = new DefaultKeyValueTemplate(converter, instance, eventManager);
+        this.executor = Executors.newFixedThreadPool(THREADS);
+        this.release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldCoalesceConcurrentGet() throws Exception {
+        Value value = Mockito.mock(Value.class);
+        when(value.get(Session.class)).thenAnswer(i -> new Session(KEY, "otavio"));
+        when(manager.get(KEY)).thenAnswer(i -> {
+            release.await(10, TimeUnit.SECONDS);
+            return Optional.of(value);
+        });
+
+        List<Session> sessions = concurrently(Session.class);
+
+        assertSoftly(softly -> {
+            softly.assertThat(sessions).extracting(Session::getUser).containsOnly("otavio");
+            softly.assertThat(sessions).doesNotHaveDuplicates();
+        });
+        verify(manager, times(1)).get(KEY);
+        CoalescingStatistics statistics = template.coalescer().statistics().get(Session.class);
+        assertThat(statistics.coalesced()).isEqualTo(THREADS - 1L);
+    }
+
+    @Test
+    void shouldShareImmutableEntity() throws Exception {
+        Value value = Mockito.mock(Value.class);
+        when(value.get(Token.class)).thenAnswer(i -> new Token(KEY, "otavio"));
+        when(manager.get(KEY)).thenAnswer(i -> {
+            release.await(10, TimeUnit.SECONDS);
+            return Optional.of(value);
+        });
+
+        List<Token> tokens = concurrently(Token.class);
+
+        assertThat(tokens).allMatch(t -> t == tokens.get(0));
+        verify(manager, times(1)).get(KEY);
+    }
+
+    @Test
+    void shouldNotCoalesceEntityWithoutAnnotation() {
+        when(manager.get(KEY)).thenReturn(Optional.of(Value.of(new User(KEY, "otavio", 27))));
+
+        template.get(KEY, User.class);
+        template.get(KEY, User.class);
+
+        verify(manager, times(2)).get(KEY);
+        assertThat(template.coalescer().statistics()).isEmpty();
+    }
+
+    @Test
+    void shouldReturnEmptyWhenNotFound() {
+        when(manager.get(KEY)).thenReturn(Optional.empty());
+
+        assertThat(template.get(KEY, Session.class)).isEmpty();
+        assertThat(template.get(KEY, Token.class)).isEmpty();
+    }
+
+    private <T> List<T> concurrently(Class<T> type) throws Exception {
+        List<Future<T>> futures = new ArrayList<>();
+        for (int index = 0; index < THREADS; index++) {
+            futures.add(executor.submit(() -> template.get(KEY, type).orElseThrow()));
+        }
+        awaitRequests(type);
+        release.countDown();
+        List<T> results = new ArrayList<>();
+        for (Future<T> future : futures) {
+            results.add(future.get(10, TimeUnit.SECONDS));
+        }
+        return results;
+    }
+
+    private void awaitRequests(Class<?> type) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (System.nanoTime() < deadline) {
+            CoalescingStatistics statistics = template.coalescer().statistics().get(type);
+            if (statistics != null && statistics.requests() >= THREADS) {
+                return;
+            }
+            TimeUnit.MILLISECONDS.sleep(1);
+        }
+        throw new AssertionError("The reads did not arrive in time");
+    }
+}
@@ -17,6 +17,9 @@ package org.eclipse.jnosql.mapping.keyvalue.configuration;
 import jakarta.data.exceptions.MappingException;
 import jakarta.inject.Inject;
 import org.eclipse.jnosql.communication.keyvalue.BucketManager;
+import org.eclipse.jnosql.communication.keyvalue.InstrumentedBucketManager;
+import org.eclipse.jnosql.communication.keyvalue.NearCacheBucketManager;
+import org.eclipse.jnosql.communication.keyvalue.WriteBehindBucketManager;
 import org.eclipse.jnosql.mapping.core.Converters;
 import org.eclipse.jnosql.mapping.keyvalue.KeyValueEntityConverter;
 import org.eclipse.jnosql.mapping.keyvalue.MockProducer;
@@ -32,8 +35,17 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.jnosql.mapping.core.config.MappingConfigurations.KEY_VALUE_CACHE_ENABLED;
+import static org.eclipse.jnosql.mapping.core.config.MappingConfigurations.KEY_VALUE_CACHE_EXPIRE_AFTER_WRITE;
+import static org.eclipse.jnosql.mapping.core.config.MappingConfigurations.KEY_VALUE_CACHE_MAXIMUM_SIZE;
 import static org.eclipse.jnosql.mapping.core.config.MappingConfigurations.KEY_VALUE_DATABASE;
 import static org.eclipse.jnosql.mapping.core.config.MappingConfigurations.KEY_VALUE_PROVIDER;
+import static org.eclipse.jnosql.mapping.core.config.MappingConfigurations.KEY_VALUE_WRITE_BEHIND_BACKPRESSURE;
+import static org.eclipse.jnosql.mapping.core.config.MappingConfigurations.KEY_VALUE_WRITE_BEHIND_BATCH_SIZE;
+import static org.eclipse.jnosql.mapping.core.config.MappingConfigurations.KEY_VALUE_WRITE_BEHIND_BLOCK_TIMEOUT;
+import static org.eclipse.jnosql.mapping.core.config.MappingConfigurations.KEY_VALUE_WRITE_BEHIND_ENABLED;
+import static org.eclipse.jnosql.mapping.core.config.MappingConfigurations.KEY_VALUE_WRITE_BEHIND_MAXIMUM_PENDING;
+import static org.eclipse.jnosql.mapping.core.config.MappingConfigurations.KEY_VALUE_WRITE_BEHIND_WINDOW;
 
 @EnableAutoWeld
 @AddPackages(value = {Converters.class, KeyValueEntityConverter.class})
@@ -49,6 +61,15 @@ class BucketManagerSupplierTest {
     void beforeEach(){
         System.clearProperty(KEY_VALUE_PROVIDER.get());
         System.clearProperty(KEY_VALUE_DATABASE.get());
+        System.clearProperty(KEY_VALUE_CACHE_ENABLED.get());
+        System.clearProperty(KEY_VALUE_CACHE_MAXIMUM_SIZE.get());
+        System.clearProperty(KEY_VALUE_CACHE_EXPIRE_AFTER_WRITE.get());
+        System.clearProperty(KEY_VALUE_WRITE_BEHIND_ENABLED.get());
+        System.clearProperty(KEY_VALUE_WRITE_BEHIND_WINDOW.get());
+        System.clearProperty(KEY_VALUE_WRITE_BEHIND_BATCH_SIZE.get());
+        System.clearProperty(KEY_VALUE_WRITE_BEHIND_MAXIMUM_PENDING.get());
+        System.clearProperty(KEY_VALUE_WRITE_BEHIND_BACKPRESSURE.get());
+        System.clearProperty(KEY_VALUE_WRITE_BEHIND_BLOCK_TIMEOUT.get());
     }
 
     @Test
@@ -57,7 +78,8 @@ class BucketManagerSupplierTest {
         System.setProperty(KEY_VALUE_DATABASE.get(), "database");
         BucketManager manager = supplier.get();
         Assertions.assertNotNull(manager);
-        assertThat(manager).isInstanceOf(KeyValueConfigurationMock.BucketManagerMock.class);
+        assertThat(manager).isInstanceOf(InstrumentedBucketManager.class);
+        assertThat(((InstrumentedBucketManager) manager).manager()).isInstanceOf(KeyValueConfigurationMock.BucketManagerMock.class);
     }
 
 
@@ -67,7 +89,8 @@ class BucketManagerSupplierTest {
         System.setProperty(KEY_VALUE_DATABASE.get(), "database");
         BucketManager manager = supplier.get();
         Assertions.assertNotNull(manager);
-        assertThat(manager).isInstanceOf(KeyValueConfigurationMock2.BucketManagerMock.class);
+        assertThat(manager).isInstanceOf(InstrumentedBucketManager.class);
+        assertThat(((InstrumentedBucketManager) manager).manager()).isInstanceOf(KeyValueConfigurationMock2.BucketManagerMock.class);
     }
 
     @Test
@@ -75,7 +98,64 @@ class BucketManagerSupplierTest {
         System.setProperty(KEY_VALUE_DATABASE.get(), "database");
         BucketManager manager = supplier.get();
         Assertions.assertNotNull(manager);
-        assertThat(manager).isInstanceOf(KeyValueConfigurationMock2.BucketManagerMock.class);
+        assertThat(manager).isInstanceOf(InstrumentedBucketManager.class);
+        assertThat(((InstrumentedBucketManager) manager).manager()).isInstanceOf(KeyValueConfigurationMock2.BucketManagerMock.class);
+    }
+
+    @Test
+    void shouldDecorateWithNearCache() {
+        System.setProperty(KEY_VALUE_PROVIDER.get(), KeyValueConfigurationMock.class.getName());
+        System.setProperty(KEY_VALUE_DATABASE.get(), "database");
+        System.setProperty(KEY_VALUE_CACHE_ENABLED.get(), "true");
+        System.setProperty(KEY_VALUE_CACHE_MAXIMUM_SIZE.get(), "100");
+        System.setProperty(KEY_VALUE_CACHE_EXPIRE_AFTER_WRITE.get(), "PT1M");
+        BucketManager manager = supplier.get();
+        assertThat(manager).isInstanceOf(NearCacheBucketManager.class);
+        assertThat(((NearCacheBucketManager) manager).manager()).isInstanceOf(InstrumentedBucketManager.class);
+        assertThat(((InstrumentedBucketManager) ((NearCacheBucketManager) manager).manager()).manager())
+                .isInstanceOf(KeyValueConfigurationMock.BucketManagerMock.class);
+        assertThat(manager.name()).isEqualTo("database");
+    }
+
+    @Test
+    void shouldNotDecorateWhenNearCacheIsDisabled() {
+        System.setProperty(KEY_VALUE_PROVIDER.get(), KeyValueConfigurationMock.class.getName());
+        System.setProperty(KEY_VALUE_DATABASE.get(), "database");
+        System.setProperty(KEY_VALUE_CACHE_ENABLED.get(), "false");
+        BucketManager manager = supplier.get();
+        assertThat(manager).isInstanceOf(InstrumentedBucketManager.class);
+        assertThat(((InstrumentedBucketManager) manager).manager()).isInstanceOf(KeyValueConfigurationMock.BucketManagerMock.class);
+    }
+
+    @Test
+    void shouldDecorateWithWriteBehind() {
+        System.setProperty(KEY_VALUE_PROVIDER.get(), KeyValueConfigurationMock.class.getName());
+        System.setProperty(KEY_VALUE_DATABASE.get(), "database");
+        System.setProperty(KEY_VALUE_WRITE_BEHIND_ENABLED.get(), "true");
+        System.setProperty(KEY_VALUE_WRITE_BEHIND_WINDOW.get(), "PT0.1S");
+        System.setProperty(KEY_VALUE_WRITE_BEHIND_BATCH_SIZE.get(), "100");
+        System.setProperty(KEY_VALUE_WRITE_BEHIND_MAXIMUM_PENDING.get(), "1000");
+        System.setProperty(KEY_VALUE_WRITE_BEHIND_BACKPRESSURE.get(), "drop_oldest");
+        System.setProperty(KEY_VALUE_WRITE_BEHIND_BLOCK_TIMEOUT.get(), "PT5S");
+        BucketManager manager = supplier.get();
+        assertThat(manager).isInstanceOf(WriteBehindBucketManager.class);
+        assertThat(((WriteBehindBucketManager) manager).manager()).isInstanceOf(InstrumentedBucketManager.class);
+        assertThat(((InstrumentedBucketManager) ((WriteBehindBucketManager) manager).manager()).manager())
+                .isInstanceOf(KeyValueConfigurationMock.BucketManagerMock.class);
+        assertThat(manager.toString()).contains("DROP_OLDEST").contains("blockTimeout=PT5S");
+        manager.close();
+    }
+
+    @Test
+    void shouldDecorateWithNearCacheInFrontOfWriteBehind() {
+        System.setProperty(KEY_VALUE_PROVIDER.get(), KeyValueConfigurationMock.class.getName());
+        System.setProperty(KEY_VALUE_DATABASE.get(), "database");
+        System.setProperty(KEY_VALUE_CACHE_ENABLED.get(), "true");
+        System.setProperty(KEY_VALUE_WRITE_BEHIND_ENABLED.get(), "true");
+        BucketManager manager = supplier.get();
+        assertThat(manager).isInstanceOf(NearCacheBucketManager.class);
+        assertThat(((NearCacheBucketManager) manager).manager()).isInstanceOf(WriteBehindBucketManager.class);
+        manager.close();
     }
 
     @Test
@@ -0,0 +1,45 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.keyvalue.entities;
+
+import jakarta.nosql.Entity;
+import jakarta.nosql.Id;
+import org.eclipse.jnosql.mapping.Coalesce;
+
+@Entity
+@Coalesce
+public class Session {
+
+    @Id
+    private String id;
+
+    private String user;
+
+    public Session(String id, String user) {
+        this.id = id;
+        this.user = user;
+    }
+
+    Session() {
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getUser() {
+        return user;
+    }
+}
@@ -0,0 +1,248 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.processor;
+
+import org.eclipse.jnosql.communication.query.method.DeleteByMethodQueryProvider;
+import org.eclipse.jnosql.communication.query.method.SelectMethodQueryProvider;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * The annotation processor that generates, at compile time, the implementation of the interfaces annotated with
+ * {@code jakarta.data.repository.Repository}, so the repository does not need a {@link java.lang.reflect.Proxy}.
+ * The generated class calls the built-in methods of {@code BasicRepository}, {@code CrudRepository} and
+ * {@code PageableRepository} at the repository directly, and it resolves the {@link java.lang.reflect.Method} and
+ * the repository type of the remaining methods only once. The method names of the derived queries,
+ * e.g. {@code findByName}, are validated at compile time, so an invalid query is a compilation error instead of
+ * an error at the first call.
+ * <p>The other methods still run the same code as the proxy: their arguments go as an {@code Object[]} to
+ * {@code AbstractRepositoryProxy}, which uses the {@link java.lang.reflect.Method} as the source of the return type,
+ * annotations and hints, and the query is bound to the template at runtime, since the template is only known then.
+ * The parsed derived query is shared by all the calls of a method, both here and at the proxy. So the derived queries
+ * are validated, but not bound, at compile time; generating their {@code DocumentQuery} or {@code ColumnQuery} binding
+ * needs the processor to know the database of the repository, and it is left to a separate change.</p>
+ * <p>Applications enable it by adding {@code jnosql-mapping-processor} to the annotation processor path of the module
+ * with the repositories; without it the repositories keep using a proxy.</p>
+ */
+@SupportedAnnotationTypes(RepositoryProcessor.REPOSITORY)
+public class RepositoryProcessor extends AbstractProcessor {
+
+    static final String REPOSITORY = "jakarta.data.repository.Repository";
+
+    static final String SUFFIX = "_JNoSQL";
+
+    private static final String DATA_REPOSITORY = "jakarta.data.repository.DataRepository";
+
+    private static final Set<String> BUILT_IN_REPOSITORIES = Set.of(DATA_REPOSITORY,
+            "jakarta.data.repository.BasicRepository",
+            "jakarta.data.repository.CrudRepository",
+            "jakarta.data.repository.PageableRepository");
+
+    private static final Set<String> QUERY_ANNOTATIONS = Set.of("jakarta.data.repository.Query",
+            "jakarta.data.repository.OrderBy",
+            "jakarta.data.repository.OrderBy.List",
+            "jakarta.data.repository.Save",
+            "jakarta.data.repository.Insert",
+            "jakarta.data.repository.Update",
+            "jakarta.data.repository.Delete");
+
+    private static final List<String> SELECT_KEYWORDS = List.of("findBy", "countBy", "existsBy");
+
+    private static final String DELETE_KEYWORD = "deleteBy";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+        for (TypeElement annotation : annotations) {
+            for (TypeElement type : ElementFilter.typesIn(round.getElementsAnnotatedWith(annotation))) {
+                if (ElementKind.INTERFACE.equals(type.getKind())) {
+                    repository(type).ifPresent(this::write);
+                }
+            }
+        }
+        return false;
+    }
+
+    private Optional<RepositorySource> repository(TypeElement type) {
+        Messager messager = processingEnv.getMessager();
+        if (!isAccessible(type) || !type.getTypeParameters().isEmpty()) {
+            messager.printMessage(Diagnostic.Kind.NOTE, "The repository " + type.getQualifiedName()
+                    + " is not accessible or is generic, it will use a proxy", type);
+            return Optional.empty();
+        }
+        Optional<DeclaredType> dataRepository = dataRepository(type.asType());
+        if (dataRepository.isEmpty() || dataRepository.get().getTypeArguments().stream()
+                .anyMatch(t -> !TypeKind.DECLARED.equals(t.getKind()))) {
+            return Optional.empty();
+        }
+        List<? extends TypeMirror> arguments = dataRepository.get().getTypeArguments();
+        RepositorySource source = new RepositorySource(type, packageName(type), className(type),
+                arguments.get(0).toString(), arguments.get(1).toString(), processingEnv);
+
+        boolean valid = true;
+        for (ExecutableElement method : methods(type)) {
+            ExecutableType member = (ExecutableType) processingEnv.getTypeUtils().asMemberOf((DeclaredType) type.asType(), method);
+            if (isBuiltIn(method)) {
+                source.builtIn(method, member);
+            } else if (!member.getThrownTypes().isEmpty()) {
+                messager.printMessage(Diagnostic.Kind.NOTE, "The repository " + type.getQualifiedName()
+                        + " has a method that throws checked exceptions, it will use a proxy", method);
+                return Optional.empty();
+            } else {
+                valid = isValid(type, method) && valid;
+                source.query(method, member);
+            }
+        }
+        return valid ? Optional.of(source) : Optional.empty();
+    }
+
+    private void write(RepositorySource source) {
+        Filer filer = processingEnv.getFiler();
+        try {
+            JavaFileObject file = filer.createSourceFile(source.qualifiedName(), source.type());
+            try (Writer writer = file.openWriter()) {
+                writer.write(source.toString());
+            }
+        } catch (IOException exception) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "There is an issue to generate the repository "
+                    + source.qualifiedName() + ": " + exception.getMessage(), source.type());
+        }
+    }
+
+    private boolean isValid(TypeElement type, ExecutableElement method) {
+        if (!type.equals(method.getEnclosingElement()) || hasQueryAnnotation(method)) {
+            return true;
+        }
+        String name = method.getSimpleName().toString();
+        try {
+            if (SELECT_KEYWORDS.stream().anyMatch(name::startsWith)) {
+                new SelectMethodQueryProvider().apply(name, type.getSimpleName().toString());
+            } else if (name.startsWith(DELETE_KEYWORD)) {
+                new DeleteByMethodQueryProvider().apply(name, type.getSimpleName().toString());
+            }
+            return true;
+        } catch (RuntimeException exception) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "The method " + name + " at the repository "
+                    + type.getQualifiedName() + " is not a valid query: " + exception.getMessage(), method);
+            return false;
+        }
+    }
+
+    private boolean hasQueryAnnotation(ExecutableElement method) {
+        return method.getAnnotationMirrors().stream()
+                .map(a -> ((TypeElement) a.getAnnotationType().asElement()).getQualifiedName().toString())
+                .anyMatch(QUERY_ANNOTATIONS::contains);
+    }
+
+    private List<ExecutableElement> methods(TypeElement type) {
+        Elements elements = processingEnv.getElementUtils();
+        Types types = processingEnv.getTypeUtils();
+        Map<String, ExecutableElement> methods = new LinkedHashMap<>();
+        for (ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(type))) {
+            if (method.getModifiers().contains(Modifier.ABSTRACT)
+                    && ElementKind.INTERFACE.equals(method.getEnclosingElement().getKind())) {
+                String signature = method.getSimpleName() + method.getParameters().stream()
+                        .map(p -> types.erasure(p.asType()).toString())
+                        .collect(Collectors.joining(",", "(", ")"));
+                methods.putIfAbsent(signature, method);
+            }
+        }
+        return new ArrayList<>(methods.values());
+    }
+
+    private Optional<DeclaredType> dataRepository(TypeMirror type) {
+        Types types = processingEnv.getTypeUtils();
+        Queue<TypeMirror> queue = new ArrayDeque<>(types.directSupertypes(type));
+        Set<String> visited = new HashSet<>();
+        while (!queue.isEmpty()) {
+            TypeMirror current = queue.poll();
+            if (current instanceof DeclaredType declaredType && visited.add(current.toString())) {
+                if (DATA_REPOSITORY.equals(qualifiedName(declaredType))) {
+                    return Optional.of(declaredType);
+                }
+                queue.addAll(types.directSupertypes(current));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static boolean isBuiltIn(ExecutableElement method) {
+        return BUILT_IN_REPOSITORIES.contains(((TypeElement) method.getEnclosingElement()).getQualifiedName().toString());
+    }
+
+    private static boolean isAccessible(TypeElement type) {
+        Element element = type;
+        while (element instanceof TypeElement typeElement) {
+            if (typeElement.getModifiers().contains(Modifier.PRIVATE)
+                    || NestingKind.LOCAL.equals(typeElement.getNestingKind())
+                    || NestingKind.ANONYMOUS.equals(typeElement.getNestingKind())) {
+                return false;
+            }
+            element = typeElement.getEnclosingElement();
+        }
+        return true;
+    }
+
+    private String packageName(TypeElement type) {
+        return processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+    }
+
+    private String className(TypeElement type) {
+        String packageName = packageName(type);
+        String qualifiedName = type.getQualifiedName().toString();
+        String simpleName = packageName.isEmpty() ? qualifiedName : qualifiedName.substring(packageName.length() + 1);
+        return simpleName.replace('.', '_') + SUFFIX;
+    }
+
+    private static String qualifiedName(DeclaredType type) {
+        return ((TypeElement) type.asElement()).getQualifiedName().toString();
+    }
+}
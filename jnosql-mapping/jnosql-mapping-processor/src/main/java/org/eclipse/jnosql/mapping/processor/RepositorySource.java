@@ -0,0 +1,165 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.processor;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.TypeVariable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * The Java source of a repository implementation generated by {@link RepositoryProcessor}.
+ */
+final class RepositorySource {
+
+    private static final String CORE = "org.eclipse.jnosql.mapping.core.query.";
+
+    private static final String GENERATED = "javax.annotation.processing.Generated";
+
+    private final TypeElement type;
+
+    private final String packageName;
+
+    private final String className;
+
+    private final String entity;
+
+    private final String key;
+
+    private final ProcessingEnvironment environment;
+
+    private final List<String> fields = new ArrayList<>();
+
+    private final List<String> types = new ArrayList<>();
+
+    private final List<String> methods = new ArrayList<>();
+
+    RepositorySource(TypeElement type, String packageName, String className, String entity, String key,
+                     ProcessingEnvironment environment) {
+        this.type = type;
+        this.packageName = packageName;
+        this.className = className;
+        this.entity = entity;
+        this.key = key;
+        this.environment = environment;
+    }
+
+    TypeElement type() {
+        return type;
+    }
+
+    String qualifiedName() {
+        return packageName.isEmpty() ? className : packageName + '.' + className;
+    }
+
+    void builtIn(ExecutableElement method, ExecutableType member) {
+        String arguments = method.getParameters().stream().map(p -> p.getSimpleName().toString())
+                .collect(Collectors.joining(", "));
+        String call = "this.repository." + method.getSimpleName() + '(' + arguments + ");";
+        methods.add(signature(method, member) + " {\n"
+                + "        " + (isVoid(member) ? call : "return " + call) + "\n"
+                + "    }\n");
+    }
+
+    void query(ExecutableElement method, ExecutableType member) {
+        int index = fields.size();
+        String repository = type.getQualifiedName() + ".class";
+        String parameterTypes = member.getParameterTypes().stream()
+                .map(p -> ", " + environment.getTypeUtils().erasure(p) + ".class")
+                .collect(Collectors.joining());
+        fields.add("    private static final java.lang.reflect.Method METHOD_" + index + " = " + CORE
+                + "GeneratedRepository.method(" + repository + ", \"" + method.getSimpleName() + '"' + parameterTypes + ");\n");
+        types.add("        this.type" + index + " = " + CORE + "RepositoryType.of(METHOD_" + index + ", " + repository + ");\n");
+
+        String arguments = method.getParameters().isEmpty() ? "null" : method.getParameters().stream()
+                .map(p -> p.getSimpleName().toString())
+                .collect(Collectors.joining(", ", "new Object[]{", "}"));
+        String call = CORE + "GeneratedRepository.invoke(this.proxy, this, METHOD_" + index + ", this.type" + index
+                + ", " + arguments + ");";
+        methods.add(signature(method, member) + " {\n"
+                + "        " + (isVoid(member) ? call : "return (" + member.getReturnType() + ") " + call) + "\n"
+                + "    }\n");
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("/**\n * The implementation of {@link ").append(type.getQualifiedName())
+                .append("} generated by the Eclipse JNoSQL annotation processor.\n */\n");
+        if (environment.getElementUtils().getTypeElement(GENERATED) != null) {
+            source.append('@').append(GENERATED).append("(\"").append(RepositoryProcessor.class.getName()).append("\")\n");
+        }
+        source.append("@SuppressWarnings(\"unchecked\")\n")
+                .append("public final class ").append(className).append(" implements ").append(type.getQualifiedName())
+                .append(" {\n\n");
+        fields.forEach(f -> source.append(f).append('\n'));
+        String generics = '<' + entity + ", " + key + '>';
+        source.append("    private final ").append(CORE).append("AbstractRepository").append(generics).append(" repository;\n\n")
+                .append("    private final ").append(CORE).append("AbstractRepositoryProxy").append(generics).append(" proxy;\n\n");
+        for (int index = 0; index < types.size(); index++) {
+            source.append("    private final ").append(CORE).append("RepositoryType type").append(index).append(";\n\n");
+        }
+        source.append("    public ").append(className).append('(').append(CORE).append("AbstractRepository").append(generics)
+                .append(" repository, ").append(CORE).append("AbstractRepositoryProxy").append(generics).append(" proxy) {\n")
+                .append("        this.repository = repository;\n")
+                .append("        this.proxy = proxy;\n");
+        types.forEach(source::append);
+        source.append("    }\n");
+        methods.forEach(m -> source.append('\n').append(m));
+        return source.append("}\n").toString();
+    }
+
+    private String signature(ExecutableElement method, ExecutableType member) {
+        StringBuilder signature = new StringBuilder("    @Override\n    public ");
+        if (!member.getTypeVariables().isEmpty()) {
+            signature.append(member.getTypeVariables().stream().map(this::typeVariable)
+                    .collect(Collectors.joining(", ", "<", "> ")));
+        }
+        signature.append(member.getReturnType()).append(' ').append(method.getSimpleName()).append('(');
+        List<? extends VariableElement> parameters = method.getParameters();
+        List<? extends TypeMirror> parameterTypes = member.getParameterTypes();
+        for (int index = 0; index < parameters.size(); index++) {
+            TypeMirror parameterType = parameterTypes.get(index);
+            boolean varArgs = method.isVarArgs() && index == parameters.size() - 1;
+            signature.append(index == 0 ? "" : ", ")
+                    .append(varArgs ? ((ArrayType) parameterType).getComponentType() + "..." : parameterType)
+                    .append(' ').append(parameters.get(index).getSimpleName());
+        }
+        return signature.append(')').toString();
+    }
+
+    private String typeVariable(TypeVariable variable) {
+        TypeMirror bound = variable.getUpperBound();
+        if (bound == null || "java.lang.Object".equals(bound.toString())) {
+            return variable.toString();
+        }
+        return variable + " extends " + bound.toString().replace("&", " & ");
+    }
+
+    private static boolean isVoid(ExecutableType member) {
+        return TypeKind.VOID.equals(member.getReturnType().getKind());
+    }
+}
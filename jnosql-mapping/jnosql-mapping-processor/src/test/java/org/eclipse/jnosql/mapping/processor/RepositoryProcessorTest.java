@@ -0,0 +1,325 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.processor;
+
+import jakarta.data.repository.CrudRepository;
+import org.eclipse.jnosql.mapping.core.query.AbstractRepository;
+import org.eclipse.jnosql.mapping.core.query.AbstractRepositoryProxy;
+import org.eclipse.jnosql.mapping.core.query.GeneratedRepository;
+import org.eclipse.jnosql.mapping.core.query.RepositoryType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RepositoryProcessorTest {
+
+    private static final String PERSON = """
+            package sample;
+
+            public class Person {
+                private Long id;
+                private String name;
+            }
+            """;
+
+    private static final String PERSON_REPOSITORY = """
+            package sample;
+
+            import jakarta.data.repository.CrudRepository;
+            import jakarta.data.repository.PageableRepository;
+            import jakarta.data.repository.Query;
+            import jakarta.data.repository.Repository;
+
+            import java.util.List;
+            import java.util.Optional;
+            import java.util.stream.Stream;
+
+            @Repository
+            public interface PersonRepository extends PageableRepository<Person, Long>, CrudRepository<Person, Long> {
+
+                List<Person> findByName(String name);
+
+                long countByName(String name);
+
+                boolean existsByName(String name);
+
+                void deleteByName(String name);
+
+                Stream<Person> findByNameIn(String... names);
+
+                Optional<Person> findByNameOrderByIdDesc(String name);
+
+                @Query("select * from Person where name = @name")
+                List<Person> query(String name);
+
+                default Optional<Person> first() {
+                    return findAll().findFirst();
+                }
+            }
+            """;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldGenerateRepository() throws Exception {
+        Compilation compilation = compile(Map.of("sample.Person", PERSON, "sample.PersonRepository", PERSON_REPOSITORY));
+
+        assertSoftly(softly -> {
+            softly.assertThat(compilation.success()).as(compilation.diagnostics()).isTrue();
+            softly.assertThat(directory.resolve("sample/PersonRepository_JNoSQL.java")).exists();
+        });
+        Class<?> repository = compilation.load("sample.PersonRepository");
+        Class<?> implementation = compilation.load("sample.PersonRepository_JNoSQL");
+        assertThat(implementation).isFinal().isPublic();
+        assertThat(repository.isAssignableFrom(implementation)).isTrue();
+        assertThat(GeneratedRepository.name(repository)).isEqualTo(implementation.getName());
+    }
+
+    @Test
+    void shouldCallRepositoryAtBuiltInMethods() throws Throwable {
+        Compilation compilation = compile(Map.of("sample.Person", PERSON, "sample.PersonRepository", PERSON_REPOSITORY));
+        AbstractRepository<Object, Object> repository = Mockito.mock(AbstractRepository.class);
+        AbstractRepositoryProxy<Object, Object> proxy = Mockito.mock(AbstractRepositoryProxy.class);
+        Object instance = compilation.create("sample.PersonRepository_JNoSQL", repository, proxy);
+        when(repository.count()).thenReturn(10L);
+
+        CrudRepository<Object, Object> crud = (CrudRepository<Object, Object>) instance;
+        crud.deleteById(1L);
+
+        assertThat(crud.count()).isEqualTo(10L);
+        verify(repository).deleteById(1L);
+        verify(proxy, Mockito.never()).invoke(any(), any(Method.class), any(RepositoryType.class), any());
+    }
+
+    @Test
+    void shouldCallProxyAtQueryMethods() throws Throwable {
+        Compilation compilation = compile(Map.of("sample.Person", PERSON, "sample.PersonRepository", PERSON_REPOSITORY));
+        AbstractRepository<Object, Object> repository = Mockito.mock(AbstractRepository.class);
+        AbstractRepositoryProxy<Object, Object> proxy = Mockito.mock(AbstractRepositoryProxy.class);
+        Object instance = compilation.create("sample.PersonRepository_JNoSQL", repository, proxy);
+        Class<?> type = compilation.load("sample.PersonRepository");
+        Method findByName = type.getMethod("findByName", String.class);
+        Method countByName = type.getMethod("countByName", String.class);
+        when(proxy.invoke(eq(instance), eq(findByName), eq(RepositoryType.FIND_BY), any())).thenReturn(List.of());
+        when(proxy.invoke(eq(instance), eq(countByName), eq(RepositoryType.COUNT_BY), any())).thenReturn(2L);
+
+        Object people = findByName.invoke(instance, "Ada");
+        Object count = countByName.invoke(instance, "Ada");
+
+        assertSoftly(softly -> {
+            softly.assertThat(people).isEqualTo(List.of());
+            softly.assertThat(count).isEqualTo(2L);
+        });
+        verify(proxy).invoke(instance, findByName, RepositoryType.FIND_BY, new Object[]{"Ada"});
+    }
+
+    @Test
+    void shouldKeepArrayAtVarArgs() throws Throwable {
+        Compilation compilation = compile(Map.of("sample.Person", PERSON, "sample.PersonRepository", PERSON_REPOSITORY));
+        AbstractRepositoryProxy<Object, Object> proxy = Mockito.mock(AbstractRepositoryProxy.class);
+        Object instance = compilation.create("sample.PersonRepository_JNoSQL", Mockito.mock(AbstractRepository.class), proxy);
+        Method method = compilation.load("sample.PersonRepository").getMethod("findByNameIn", String[].class);
+
+        String[] names = {"Ada", "Grace"};
+        method.invoke(instance, (Object) names);
+
+        verify(proxy).invoke(instance, method, RepositoryType.FIND_BY, new Object[]{names});
+    }
+
+    @Test
+    void shouldCreateGeneratedRepository() throws Exception {
+        Compilation compilation = compile(Map.of("sample.Person", PERSON, "sample.PersonRepository", PERSON_REPOSITORY));
+        Class<?> type = compilation.load("sample.PersonRepository");
+
+        Object instance = GeneratedRepository.create(type, Mockito.mock(AbstractRepositoryProxy.class));
+
+        assertSoftly(softly -> {
+            softly.assertThat(Proxy.isProxyClass(instance.getClass())).isFalse();
+            softly.assertThat(instance.getClass().getName()).isEqualTo("sample.PersonRepository_JNoSQL");
+        });
+    }
+
+    @Test
+    void shouldReturnErrorWhenQueryIsInvalid() throws Exception {
+        String repository = """
+                package sample;
+
+                import jakarta.data.repository.CrudRepository;
+                import jakarta.data.repository.Repository;
+
+                import java.util.List;
+
+                @Repository
+                public interface InvalidRepository extends CrudRepository<Person, Long> {
+
+                    List<Person> findByNameOrderBy(String name);
+                }
+                """;
+        Compilation compilation = compile(Map.of("sample.Person", PERSON, "sample.InvalidRepository", repository));
+
+        assertSoftly(softly -> {
+            softly.assertThat(compilation.success()).isFalse();
+            softly.assertThat(compilation.diagnostics()).contains("findByNameOrderBy");
+            softly.assertThat(directory.resolve("sample/InvalidRepository_JNoSQL.java")).doesNotExist();
+        });
+    }
+
+    @Test
+    void shouldGenerateNestedRepository() throws Exception {
+        String repository = """
+                package sample;
+
+                import jakarta.data.repository.BasicRepository;
+                import jakarta.data.repository.Repository;
+
+                import java.util.List;
+
+                public class Repositories {
+
+                    @Repository
+                    public interface People extends BasicRepository<Person, Long> {
+
+                        <S extends Person> List<S> findByName(String name);
+                    }
+                }
+                """;
+        Compilation compilation = compile(Map.of("sample.Person", PERSON, "sample.Repositories", repository));
+
+        assertThat(compilation.success()).as(compilation.diagnostics()).isTrue();
+        Class<?> type = compilation.load("sample.Repositories$People");
+        assertThat(compilation.load(GeneratedRepository.name(type))).isNotNull();
+    }
+
+    @Test
+    void shouldIgnorePrivateRepository() throws Exception {
+        String repository = """
+                package sample;
+
+                import jakarta.data.repository.BasicRepository;
+                import jakarta.data.repository.Repository;
+
+                public class Repositories {
+
+                    @Repository
+                    private interface People extends BasicRepository<Person, Long> {
+                    }
+                }
+                """;
+        Compilation compilation = compile(Map.of("sample.Person", PERSON, "sample.Repositories", repository));
+
+        assertSoftly(softly -> {
+            softly.assertThat(compilation.success()).as(compilation.diagnostics()).isTrue();
+            softly.assertThat(directory.resolve("sample/Repositories_People_JNoSQL.java")).doesNotExist();
+        });
+    }
+
+    @Test
+    void shouldIgnoreRepositoryWithCheckedException() throws Exception {
+        String repository = """
+                package sample;
+
+                import jakarta.data.repository.BasicRepository;
+                import jakarta.data.repository.Repository;
+
+                import java.util.List;
+
+                @Repository
+                public interface People extends BasicRepository<Person, Long> {
+
+                    List<Person> findByName(String name) throws java.io.IOException;
+                }
+                """;
+        Compilation compilation = compile(Map.of("sample.Person", PERSON, "sample.People", repository));
+
+        assertSoftly(softly -> {
+            softly.assertThat(compilation.success()).as(compilation.diagnostics()).isTrue();
+            softly.assertThat(directory.resolve("sample/People_JNoSQL.java")).doesNotExist();
+        });
+    }
+
+    private Compilation compile(Map<String, String> sources) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        List<JavaFileObject> files = sources.entrySet().stream()
+                .map(e -> (JavaFileObject) new Source(e.getKey(), e.getValue()))
+                .toList();
+        try (StandardJavaFileManager manager = compiler.getStandardFileManager(diagnostics, null, null)) {
+            List<String> options = List.of("-classpath", System.getProperty("java.class.path"),
+                    "-d", directory.toString(), "-s", directory.toString());
+            JavaCompiler.CompilationTask task = compiler.getTask(null, manager, diagnostics, options, null, files);
+            task.setProcessors(List.of(new RepositoryProcessor()));
+            boolean success = task.call();
+            String messages = diagnostics.getDiagnostics().stream()
+                    .filter(d -> Diagnostic.Kind.ERROR.equals(d.getKind()))
+                    .map(d -> d.getMessage(null))
+                    .collect(Collectors.joining(System.lineSeparator()));
+            ClassLoader loader = new URLClassLoader(new URL[]{directory.toUri().toURL()}, RepositoryProcessorTest.class.getClassLoader());
+            return new Compilation(success, messages, loader);
+        }
+    }
+
+    private record Compilation(boolean success, String diagnostics, ClassLoader loader) {
+
+        Class<?> load(String name) throws Exception {
+            return loader.loadClass(name);
+        }
+
+        Object create(String name, AbstractRepository<?, ?> repository, AbstractRepositoryProxy<?, ?> proxy) throws Exception {
+            return load(name).getConstructor(AbstractRepository.class, AbstractRepositoryProxy.class)
+                    .newInstance(repository, proxy);
+        }
+    }
+
+    private static final class Source extends SimpleJavaFileObject {
+
+        private final String code;
+
+        Source(String name, String code) {
+            super(URI.create("string:///" + name.replace('.', '/') + Kind.SOURCE.extension), Kind.SOURCE);
+            this.code = code;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return code;
+        }
+    }
+}
@@ -26,10 +26,12 @@ import jakarta.nosql.Entity;
 import org.eclipse.jnosql.mapping.Embeddable;
 import org.eclipse.jnosql.mapping.metadata.ClassScanner;
 
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -57,6 +59,14 @@ enum ClassGraphClassScanner implements ClassScanner {
         repositories = new HashSet<>();
 
         Logger logger = Logger.getLogger(ClassGraphClassScanner.class.getName());
+        String snapshotFile = System.getProperty(ClassScanSnapshot.PROPERTY);
+        Path snapshot = snapshotFile == null || snapshotFile.isBlank() ? null : Path.of(snapshotFile);
+        Optional<String> hash = snapshot == null ? Optional.empty() : ClassScanSnapshot.classpathHash(classLoader());
+        if (hash.isPresent() && loadSnapshot(snapshot, hash.get())) {
+            logger.fine(String.format("Loaded the classes from the snapshot %s with entities %d, embeddables %d and " +
+                    "repositories: %d", snapshot, entities.size(), embeddables.size(), repositories.size()));
+            return;
+        }
         logger.fine("Starting scan class to find entities, embeddable and repositories.");
         try (ScanResult result = new ClassGraph().enableAllInfo().scan()) {
             checkInvalidRepositories(loadInvalidRepositories(result));
@@ -66,9 +76,32 @@ enum ClassGraphClassScanner implements ClassScanner {
         }
         logger.fine(String.format("Finished the class scan with entities %d, embeddables %d and repositories: %d"
                 , entities.size(), embeddables.size(), repositories.size()));
+        hash.ifPresent(h -> ClassScanSnapshot.of(entities, embeddables, repositories).write(snapshot, h));
+    }
 
+    private boolean loadSnapshot(Path file, String hash) {
+        Optional<ClassScanSnapshot> snapshot = ClassScanSnapshot.read(file, hash);
+        if (snapshot.isEmpty()) {
+            return false;
+        }
+        ClassLoader loader = classLoader();
+        try {
+            this.entities.addAll(snapshot.get().entities(loader));
+            this.embeddables.addAll(snapshot.get().embeddables(loader));
+            this.repositories.addAll(snapshot.get().repositories(loader));
+            return true;
+        } catch (ClassNotFoundException | LinkageError exception) {
+            this.entities.clear();
+            this.embeddables.clear();
+            this.repositories.clear();
+            return false;
+        }
     }
 
+    private static ClassLoader classLoader() {
+        return Optional.ofNullable(Thread.currentThread().getContextClassLoader())
+                .orElse(ClassGraphClassScanner.class.getClassLoader());
+    }
 
     @Override
     public Set<Class<?>> entities() {
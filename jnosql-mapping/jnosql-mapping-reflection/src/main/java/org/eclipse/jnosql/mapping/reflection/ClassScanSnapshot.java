@@ -0,0 +1,242 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+/**
+ * A snapshot, on disk, of the class names found by {@link ClassGraphClassScanner} keyed by a hash of the classpath.
+ * When the system property {@link #PROPERTY} defines a file, the scanner loads the classes by name from that file,
+ * while the classpath hash matches, instead of scanning the whole classpath, otherwise it scans and writes the file.
+ * The hash covers each jar of {@code java.class.path} with its size and modification time; the snapshot only applies
+ * when the classes come from the system class loader and such jars, see {@link #classpathHash(ClassLoader)}.
+ */
+final class ClassScanSnapshot {
+
+    /**
+     * The system property with the path of the snapshot file, the snapshot is disabled when it is not defined.
+     */
+    static final String PROPERTY = "jnosql.metadata.snapshot";
+
+    private static final Logger LOGGER = Logger.getLogger(ClassScanSnapshot.class.getName());
+
+    private static final String HASH = "hash";
+    private static final String ENTITIES = "entities";
+    private static final String EMBEDDABLES = "embeddables";
+    private static final String REPOSITORIES = "repositories";
+    private static final String SEPARATOR = ",";
+
+    private final Set<String> entities;
+
+    private final Set<String> embeddables;
+
+    private final Set<String> repositories;
+
+    private ClassScanSnapshot(Set<String> entities, Set<String> embeddables, Set<String> repositories) {
+        this.entities = entities;
+        this.embeddables = embeddables;
+        this.repositories = repositories;
+    }
+
+    Set<Class<?>> entities(ClassLoader loader) throws ClassNotFoundException {
+        return load(entities, loader);
+    }
+
+    Set<Class<?>> embeddables(ClassLoader loader) throws ClassNotFoundException {
+        return load(embeddables, loader);
+    }
+
+    Set<Class<?>> repositories(ClassLoader loader) throws ClassNotFoundException {
+        return load(repositories, loader);
+    }
+
+    /**
+     * Writes the snapshot, a failure is logged and ignored since the next start scans the classpath again.
+     *
+     * @param file the snapshot file
+     * @param hash the classpath hash
+     */
+    void write(Path file, String hash) {
+        Properties properties = new Properties();
+        properties.setProperty(HASH, hash);
+        properties.setProperty(ENTITIES, String.join(SEPARATOR, entities));
+        properties.setProperty(EMBEDDABLES, String.join(SEPARATOR, embeddables));
+        properties.setProperty(REPOSITORIES, String.join(SEPARATOR, repositories));
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                properties.store(writer, "Eclipse JNoSQL class scan snapshot");
+            }
+        } catch (IOException exception) {
+            LOGGER.log(Level.WARNING, "It was not possible to write the class scan snapshot at " + file, exception);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ClassScanSnapshot that)) {
+            return false;
+        }
+        return entities.equals(that.entities) && embeddables.equals(that.embeddables)
+                && repositories.equals(that.repositories);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(entities, embeddables, repositories);
+    }
+
+    @Override
+    public String toString() {
+        return "ClassScanSnapshot{" +
+                "entities=" + entities +
+                ", embeddables=" + embeddables +
+                ", repositories=" + repositories +
+                '}';
+    }
+
+    static ClassScanSnapshot of(Set<Class<?>> entities, Set<Class<?>> embeddables, Set<Class<?>> repositories) {
+        return new ClassScanSnapshot(names(entities), names(embeddables), names(repositories));
+    }
+
+    /**
+     * Reads the snapshot when the file exists and it was written for the same classpath hash.
+     *
+     * @param file the snapshot file
+     * @param hash the current classpath hash
+     * @return the snapshot or {@link Optional#empty()} when there is no valid snapshot
+     */
+    static Optional<ClassScanSnapshot> read(Path file, String hash) {
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        } catch (IOException exception) {
+            LOGGER.log(Level.FINE, "It was not possible to read the class scan snapshot at " + file, exception);
+            return Optional.empty();
+        }
+        if (!hash.equals(properties.getProperty(HASH))) {
+            LOGGER.fine("The class scan snapshot at " + file + " is from another classpath, ignoring it");
+            return Optional.empty();
+        }
+        return Optional.of(new ClassScanSnapshot(split(properties.getProperty(ENTITIES)),
+                split(properties.getProperty(EMBEDDABLES)), split(properties.getProperty(REPOSITORIES))));
+    }
+
+    /**
+     * Creates a hash of the classpath that the class loader reads, when the loader is the system class loader and
+     * every entry of {@code java.class.path} is a jar file; any other loader, e.g. an application server, a nested
+     * fat jar or a custom loader, or a classes directory, whose content would need a walk that costs as much as the
+     * scan, disables the snapshot.
+     *
+     * @param loader the class loader of the scan
+     * @return the hash or {@link Optional#empty()} when the snapshot does not apply to this classpath
+     */
+    static Optional<String> classpathHash(ClassLoader loader) {
+        if (loader != ClassLoader.getSystemClassLoader()) {
+            LOGGER.fine("The classes do not come from the system class loader, the class scan snapshot is disabled");
+            return Optional.empty();
+        }
+        return classpathHash(System.getProperty("java.class.path", ""));
+    }
+
+    /**
+     * Creates a hash from each jar of the classpath with its size and modification time.
+     *
+     * @param classpath the classpath, entries separated by {@link File#pathSeparator}
+     * @return the hash as hexadecimal or {@link Optional#empty()} when an entry is not a jar file
+     */
+    static Optional<String> classpathHash(String classpath) {
+        MessageDigest digest = digest();
+        for (String entry : classpath.split(File.pathSeparator)) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            Path path = Path.of(entry);
+            if (!Files.isRegularFile(path)) {
+                LOGGER.fine("The classpath entry " + entry + " is not a jar file, the class scan snapshot is disabled");
+                return Optional.empty();
+            }
+            update(digest, path.toAbsolutePath().toString());
+            update(digest, stat(path));
+        }
+        return Optional.of(HexFormat.of().formatHex(digest.digest()));
+    }
+
+    private static String stat(Path file) {
+        File value = file.toFile();
+        return value.length() + ":" + value.lastModified();
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    private static MessageDigest digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("SHA-256 is not available", exception);
+        }
+    }
+
+    private static Set<Class<?>> load(Set<String> names, ClassLoader loader) throws ClassNotFoundException {
+        Set<Class<?>> classes = new LinkedHashSet<>();
+        for (String name : names) {
+            classes.add(Class.forName(name, false, loader));
+        }
+        return classes;
+    }
+
+    private static Set<String> names(Set<Class<?>> classes) {
+        return classes.stream().map(Class::getName).sorted()
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    private static Set<String> split(String value) {
+        if (value == null || value.isBlank()) {
+            return Set.of();
+        }
+        return Arrays.stream(value.split(SEPARATOR))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+}
@@ -28,6 +28,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -43,6 +44,7 @@ public final class ReflectionClassConverter implements ClassConverter {
 
     private final Reflections reflections;
     private final ConstructorMetadataBuilder constructorMetadataBuilder;
+    private final Map<Class<?>, List<FieldMetadata>> fieldsByType = new ConcurrentHashMap<>();
 
     public ReflectionClassConverter() {
         this.reflections = new Reflections();
@@ -57,8 +59,7 @@ public final class ReflectionClassConverter implements ClassConverter {
         long start = System.currentTimeMillis();
         String entityName = reflections.getEntityName(entity);
 
-        List<FieldMetadata> fields = reflections.getFields(entity)
-                .stream().map(this::to).collect(toList());
+        List<FieldMetadata> fields = fields(entity);
 
         List<String> fieldsName = fields.stream().map(FieldMetadata::name).collect(toList());
 
@@ -145,9 +146,7 @@ public final class ReflectionClassConverter implements ClassConverter {
                               FieldMetadata field, String javaField, String nativeField,
                               Class<?> type) {
 
-        Map<String, NativeMapping> entityMap = getNativeFieldGroupByJavaField(
-                reflections.getFields(type)
-                        .stream().map(this::to).collect(toList()),
+        Map<String, NativeMapping> entityMap = getNativeFieldGroupByJavaField(fields(type),
                 appendPreparePrefix(javaField, field.fieldName()), nativeField);
 
         String nativeElement = entityMap.values().stream().map(NativeMapping::nativeField)
@@ -157,6 +156,11 @@ public final class ReflectionClassConverter implements ClassConverter {
         nativeFieldGroupByJavaField.putAll(entityMap);
     }
 
+    private List<FieldMetadata> fields(Class<?> type) {
+        return fieldsByType.computeIfAbsent(type, t -> reflections.getFields(t)
+                .stream().map(this::to).toList());
+    }
+
     private String appendPreparePrefix(String prefix, String field) {
         return appendPrefix(prefix, field).concat(".");
     }
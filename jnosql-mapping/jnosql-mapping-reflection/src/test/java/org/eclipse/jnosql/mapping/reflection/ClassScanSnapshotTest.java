@@ -0,0 +1,118 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import org.eclipse.jnosql.mapping.reflection.entities.Address;
+import org.eclipse.jnosql.mapping.reflection.entities.Movie;
+import org.eclipse.jnosql.mapping.reflection.entities.MovieRepository;
+import org.eclipse.jnosql.mapping.reflection.entities.Person;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ClassScanSnapshotTest {
+
+    private final ClassLoader loader = ClassScanSnapshotTest.class.getClassLoader();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldWriteAndRead() throws ClassNotFoundException {
+        Path file = directory.resolve("snapshot/jnosql.properties");
+        ClassScanSnapshot snapshot = ClassScanSnapshot.of(Set.of(Person.class, Movie.class), Set.of(Address.class),
+                Set.of(MovieRepository.class));
+
+        snapshot.write(file, "hash");
+        Optional<ClassScanSnapshot> read = ClassScanSnapshot.read(file, "hash");
+
+        assertThat(read).contains(snapshot);
+        ClassScanSnapshot value = read.orElseThrow();
+        assertThat(value.entities(loader)).containsExactlyInAnyOrder(Person.class, Movie.class);
+        assertThat(value.embeddables(loader)).containsExactly(Address.class);
+        assertThat(value.repositories(loader)).containsExactly(MovieRepository.class);
+    }
+
+    @Test
+    void shouldReadEmptySets() {
+        Path file = directory.resolve("jnosql.properties");
+        ClassScanSnapshot snapshot = ClassScanSnapshot.of(Set.of(), Set.of(), Set.of());
+        snapshot.write(file, "hash");
+        assertThat(ClassScanSnapshot.read(file, "hash")).contains(snapshot);
+    }
+
+    @Test
+    void shouldIgnoreSnapshotFromAnotherClasspath() {
+        Path file = directory.resolve("jnosql.properties");
+        ClassScanSnapshot.of(Set.of(Person.class), Set.of(), Set.of()).write(file, "hash");
+        assertThat(ClassScanSnapshot.read(file, "other")).isEmpty();
+    }
+
+    @Test
+    void shouldReturnEmptyWhenFileDoesNotExist() {
+        assertThat(ClassScanSnapshot.read(directory.resolve("missing.properties"), "hash")).isEmpty();
+    }
+
+    @Test
+    void shouldReturnErrorWhenClassDoesNotExist() throws IOException {
+        Path file = directory.resolve("jnosql.properties");
+        Files.writeString(file, "hash=hash\nentities=org.eclipse.jnosql.Missing\n");
+        ClassScanSnapshot snapshot = ClassScanSnapshot.read(file, "hash").orElseThrow();
+        assertThatThrownBy(() -> snapshot.entities(loader)).isInstanceOf(ClassNotFoundException.class);
+    }
+
+    @Test
+    void shouldChangeHashWhenJarChanges() throws IOException {
+        Path jar = directory.resolve("library.jar");
+        Path other = directory.resolve("other.jar");
+        Files.writeString(jar, "jar");
+        Files.writeString(other, "other");
+        String classpath = jar + File.pathSeparator + other;
+
+        String hash = ClassScanSnapshot.classpathHash(classpath).orElseThrow();
+        assertThat(ClassScanSnapshot.classpathHash(classpath)).contains(hash);
+        assertThat(ClassScanSnapshot.classpathHash(other + File.pathSeparator + jar)).isPresent().isNotEqualTo(Optional.of(hash));
+
+        Files.writeString(jar, "jar-changed");
+        assertThat(ClassScanSnapshot.classpathHash(classpath)).isPresent().isNotEqualTo(Optional.of(hash));
+    }
+
+    @Test
+    void shouldDisableSnapshotWhenClasspathHasDirectory() throws IOException {
+        Path classes = Files.createDirectories(directory.resolve("classes"));
+        Path jar = directory.resolve("library.jar");
+        Files.writeString(jar, "jar");
+        assertThat(ClassScanSnapshot.classpathHash(classes + File.pathSeparator + jar)).isEmpty();
+        assertThat(ClassScanSnapshot.classpathHash(directory.resolve("missing.jar").toString())).isEmpty();
+    }
+
+    @Test
+    void shouldDisableSnapshotWhenLoaderIsNotTheSystemLoader() throws IOException {
+        try (URLClassLoader custom = new URLClassLoader(new URL[0], ClassLoader.getSystemClassLoader())) {
+            assertThat(ClassScanSnapshot.classpathHash(custom)).isEmpty();
+        }
+    }
+}
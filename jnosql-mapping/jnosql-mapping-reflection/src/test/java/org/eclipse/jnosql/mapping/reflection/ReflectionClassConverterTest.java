@@ -40,6 +40,7 @@ import org.junit.jupiter.api.Test;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.jnosql.mapping.DiscriminatorColumn.DEFAULT_DISCRIMINATOR_COLUMN;
@@ -204,4 +205,26 @@ class ReflectionClassConverterTest {
         assertEquals(5, constructor.parameters().size());
     }
 
-}
\ No newline at end of file
+    @Test
+    void shouldConvertConcurrently() {
+        List<Class<?>> types = List.of(Person.class, Actor.class, Director.class, Machine.class, User.class,
+                Worker.class, Computer.class, Notification.class, EmailNotification.class, SmallProject.class);
+        ClassConverter sequential = new ReflectionClassConverter();
+
+        List<EntityMetadata> parallel = IntStream.range(0, 20).boxed()
+                .flatMap(index -> types.stream())
+                .parallel()
+                .map(converter)
+                .toList();
+
+        for (EntityMetadata metadata : parallel) {
+            EntityMetadata expected = sequential.apply(metadata.type());
+            assertEquals(expected.name(), metadata.name());
+            assertEquals(expected.fieldsName(), metadata.fieldsName());
+            assertEquals(expected.fieldsGroupByName().keySet(), metadata.fieldsGroupByName().keySet());
+            assertEquals(expected.fields().stream().map(FieldMetadata::fieldName).map(expected::columnField).toList(),
+                    metadata.fields().stream().map(FieldMetadata::fieldName).map(metadata::columnField).toList());
+        }
+    }
+
+}